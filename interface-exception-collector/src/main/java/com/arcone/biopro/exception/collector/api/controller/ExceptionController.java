@@ -7,6 +7,8 @@ import com.arcone.biopro.exception.collector.api.dto.ExceptionDetailResponse;
 import com.arcone.biopro.exception.collector.api.dto.ExceptionListResponse;
 import com.arcone.biopro.exception.collector.api.dto.ExceptionSummaryResponse;
 import com.arcone.biopro.exception.collector.api.mapper.ExceptionMapper;
+import com.arcone.biopro.exception.collector.application.service.ExceptionExportService;
+import com.arcone.biopro.exception.collector.application.service.ExceptionExportService.ExportFormat;
 import com.arcone.biopro.exception.collector.application.service.ExceptionQueryService;
 import com.arcone.biopro.exception.collector.application.service.PayloadRetrievalService;
 import com.arcone.biopro.exception.collector.domain.event.inbound.OrderRejectedEvent;
@@ -26,7 +28,10 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.validation.annotation.Validated;
@@ -37,8 +42,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -61,6 +69,7 @@ import org.springframework.kafka.support.SendResult;
 public class ExceptionController {
 
         private final ExceptionQueryService exceptionQueryService;
+        private final ExceptionExportService exceptionExportService;
         private final PayloadRetrievalService payloadRetrievalService;
         private final ExceptionMapper exceptionMapper;
         private final KafkaTemplate<String, Object> kafkaTemplate;
@@ -211,6 +220,58 @@ public class ExceptionController {
                 return ResponseEntity.ok(response);
         }
 
+        /**
+         * Streams all exceptions matching the filters as NDJSON or CSV.
+         * Rows are read through a database cursor and written straight to the
+         * response, so exports of any size run in constant memory.
+         */
+        @GetMapping("/export")
+        @Operation(summary = "Export exceptions", description = "Streams all exceptions matching the filters as NDJSON (one JSON object per line) or CSV")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+                        @ApiResponse(responseCode = "400", description = "Invalid request parameters", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+        })
+        public ResponseEntity<StreamingResponseBody> exportExceptions(
+                        @Parameter(description = "Export format (ndjson or csv)") @RequestParam(name = "format", defaultValue = "ndjson") String format,
+
+                        @Parameter(description = "Filter by interface type") @RequestParam(name = "interfaceType", required = false) InterfaceType interfaceType,
+
+                        @Parameter(description = "Filter by exception status") @RequestParam(name = "status", required = false) ExceptionStatus status,
+
+                        @Parameter(description = "Filter by exception severity") @RequestParam(name = "severity", required = false) ExceptionSeverity severity,
+
+                        @Parameter(description = "Filter by customer ID") @RequestParam(name = "customerId", required = false) String customerId,
+
+                        @Parameter(description = "Filter by start date (ISO 8601 format)") @RequestParam(name = "fromDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime fromDate,
+
+                        @Parameter(description = "Filter by end date (ISO 8601 format)") @RequestParam(name = "toDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime toDate,
+
+                        @Parameter(description = "Sort criteria (format: field,direction)") @RequestParam(name = "sort", defaultValue = "timestamp,desc") String sort) {
+
+                // Validated before the body streams, while an invalid request can still get a 400
+                ExportFormat exportFormat = ExportFormat.from(format);
+                Sort sortObj = createSort(sort);
+                exceptionExportService.validateSort(sortObj);
+
+                log.info(
+                                "Exporting exceptions as {} with filters - interfaceType: {}, status: {}, severity: {}, customerId: {}, fromDate: {}, toDate: {}",
+                                exportFormat, interfaceType, status, severity, customerId, fromDate, toDate);
+
+                String filename = "exceptions-"
+                                + OffsetDateTime.now(ZoneOffset.UTC).format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+                                + "." + exportFormat.getFileExtension();
+
+                StreamingResponseBody body = outputStream -> exceptionExportService.exportExceptions(
+                                exportFormat, interfaceType, status, severity, customerId, fromDate, toDate, sortObj,
+                                outputStream);
+
+                return ResponseEntity.ok()
+                                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                                .header(HttpHeaders.CONTENT_DISPOSITION,
+                                                ContentDisposition.attachment().filename(filename).build().toString())
+                                .body(body);
+        }
+
         /**
          * Retrieves detailed exception information by transaction ID.
          * Implements requirement US-008 for detailed exception retrieval.
@@ -278,7 +339,7 @@ public class ExceptionController {
          * Implements requirement US-009 for text-based exception search.
          */
         @GetMapping("/search")
-        @Operation(summary = "Search exceptions by text", description = "Performs full-text search across exception fields (reason, external ID, operation)")
+        @Operation(summary = "Search exceptions by text", description = "Performs full-text search across exception fields (reason, external ID, operation, customer ID)")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Successfully performed search", content = @Content(schema = @Schema(implementation = ExceptionListResponse.class))),
                         @ApiResponse(responseCode = "400", description = "Invalid search parameters", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
@@ -286,14 +347,16 @@ public class ExceptionController {
         public ResponseEntity<List<ExceptionListResponse>> searchExceptions(
                         @Parameter(description = "Search query string", required = true) @RequestParam @NotBlank String query,
 
-                        @Parameter(description = "Fields to search in (exceptionReason, externalId, operation)") @RequestParam(defaultValue = "exceptionReason") List<String> fields,
+                        @Parameter(description = "Fields to search in (exceptionReason, externalId, operation, customerId)") @RequestParam(defaultValue = "exceptionReason") List<String> fields,
+
+                        @Parameter(description = "Only search exceptions from this time on (ISO 8601 format); recent windows are served from memory") @RequestParam(name = "fromDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime fromDate,
 
-                        @Parameter(description = "Sort criteria (format: field,direction)") @RequestParam(defaultValue = "timestamp,desc") String sort) {
+                        @Parameter(description = "Sort criteria (format: field,direction); relevance ranks the best matches first") @RequestParam(defaultValue = "relevance,desc") String sort) {
 
-                log.info("Searching exceptions with query: '{}', fields: {}", query, fields);
+                log.info("Searching exceptions with query: '{}', fields: {}, fromDate: {}", query, fields, fromDate);
 
                 // Validate search fields
-                List<String> validFields = Arrays.asList("exceptionReason", "externalId", "operation");
+                List<String> validFields = Arrays.asList("exceptionReason", "externalId", "operation", "customerId");
                 List<String> fieldsToSearch = fields.stream()
                                 .filter(validFields::contains)
                                 .toList();
@@ -308,7 +371,7 @@ public class ExceptionController {
 
                 // Perform search
                 List<InterfaceException> searchResults = exceptionQueryService.searchExceptions(
-                                query, fieldsToSearch, sortObj);
+                                query, fieldsToSearch, sortObj, fromDate);
 
                 // Map to response DTOs
                 List<ExceptionListResponse> response = exceptionMapper.toListResponse(searchResults);
@@ -20,4 +20,6 @@ public class PayloadResponse {
     private String sourceService;
     private boolean retrieved;
     private String errorMessage;
+    /** The retrieval failed on the way, e.g. a transport error or timeout, and may pass on another attempt. */
+    private boolean transientFailure;
 }
\ No newline at end of file
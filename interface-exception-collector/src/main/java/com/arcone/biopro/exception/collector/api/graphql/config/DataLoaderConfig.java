@@ -6,8 +6,8 @@ import com.arcone.biopro.exception.collector.api.graphql.dataloader.PayloadDataL
 import com.arcone.biopro.exception.collector.api.graphql.dataloader.RetryHistoryDataLoader;
 import com.arcone.biopro.exception.collector.api.graphql.dataloader.StatusChangeDataLoader;
 import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
-import com.arcone.biopro.exception.collector.domain.entity.RetryAttempt;
-import com.arcone.biopro.exception.collector.domain.entity.StatusChange;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.RetryAttemptView;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.StatusChangeView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.dataloader.DataLoader;
@@ -115,27 +115,27 @@ public class DataLoaderConfig {
                 log.debug("Registered payload DataLoader with batch size: {}, delay: {}ms",
                                 payloadBatchSize, batchDelayMs * 2);
 
-                // Retry History DataLoader - optimized for audit trail queries
+                // Retry History DataLoader - keyed by exception ID, single projection query per batch
                 DataLoaderOptions retryHistoryOptions = DataLoaderOptions.newOptions()
                                 .setCachingEnabled(true)
                                 .setBatchingEnabled(true)
                                 .setMaxBatchSize(retryHistoryBatchSize)
                                 .setCacheKeyFunction(String::valueOf);
 
-                DataLoader<String, List<RetryAttempt>> retryHistoryLoader = DataLoader.newMappedDataLoader(
+                DataLoader<Long, List<RetryAttemptView>> retryHistoryLoader = DataLoader.newMappedDataLoader(
                                 retryHistoryDataLoader, retryHistoryOptions);
 
                 registry.register(RETRY_HISTORY_LOADER, retryHistoryLoader);
                 log.debug("Registered retry history DataLoader with batch size: {}", retryHistoryBatchSize);
 
-                // Status Change DataLoader - optimized for status history queries
+                // Status Change DataLoader - keyed by exception ID, single projection query per batch
                 DataLoaderOptions statusChangeOptions = DataLoaderOptions.newOptions()
                                 .setCachingEnabled(true)
                                 .setBatchingEnabled(true)
                                 .setMaxBatchSize(statusChangeBatchSize)
                                 .setCacheKeyFunction(String::valueOf);
 
-                DataLoader<String, List<StatusChange>> statusChangeLoader = DataLoader.newMappedDataLoader(
+                DataLoader<Long, List<StatusChangeView>> statusChangeLoader = DataLoader.newMappedDataLoader(
                                 statusChangeDataLoader, statusChangeOptions);
 
                 registry.register(STATUS_CHANGE_LOADER, statusChangeLoader);
@@ -0,0 +1,63 @@
+package com.arcone.biopro.exception.collector.api.graphql.config;
+
+import com.arcone.biopro.exception.collector.api.graphql.monitoring.GraphQLMetrics;
+import com.arcone.biopro.exception.collector.api.graphql.security.QueryAllowlistConfig;
+import com.arcone.biopro.exception.collector.infrastructure.config.PersistedQueryProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * GraphQL document cache and Automatic Persisted Query configuration.
+ * Registers the document provider with graphql-java and loads the
+ * pre-registered operations.
+ */
+@Configuration
+@EnableConfigurationProperties(PersistedQueryProperties.class)
+@ConditionalOnProperty(name = "graphql.persisted-queries.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class PersistedQueryConfig {
+
+    /**
+     * Creates the document provider and registers every operation found under
+     * the configured operations location.
+     *
+     * @return PersistedQueryDocumentProvider shared by all GraphQL executions
+     */
+    @Bean
+    public PersistedQueryDocumentProvider persistedQueryDocumentProvider(PersistedQueryProperties properties,
+            QueryAllowlistConfig allowlistConfig, ObjectProvider<GraphQLMetrics> metrics) throws IOException {
+        PersistedQueryDocumentProvider provider = new PersistedQueryDocumentProvider(
+                properties, allowlistConfig, metrics.getIfAvailable());
+
+        Resource[] operations = new PathMatchingResourcePatternResolver()
+                .getResources(properties.getOperationsLocation());
+        for (Resource operation : operations) {
+            String hash = provider.registerOperation(operation.getContentAsString(StandardCharsets.UTF_8));
+            log.debug("Registered persisted operation {} with hash {}", operation.getFilename(), hash);
+        }
+
+        log.info("GraphQL document cache configured: maxDocuments={}, maxPersistedQueries={}, registeredOperations={}",
+                properties.getDocumentCacheMaxSize(), properties.getPersistedQueryMaxSize(), operations.length);
+        return provider;
+    }
+
+    /**
+     * Uses the document provider for every execution of the GraphQL source.
+     *
+     * @return GraphQlSourceBuilderCustomizer installing the provider
+     */
+    @Bean
+    public GraphQlSourceBuilderCustomizer persistedQueryCustomizer(PersistedQueryDocumentProvider provider) {
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(provider));
+    }
+}
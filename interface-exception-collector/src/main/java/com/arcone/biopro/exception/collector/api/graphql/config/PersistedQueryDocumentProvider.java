@@ -0,0 +1,224 @@
+package com.arcone.biopro.exception.collector.api.graphql.config;
+
+import com.arcone.biopro.exception.collector.api.graphql.monitoring.GraphQLMetrics;
+import com.arcone.biopro.exception.collector.api.graphql.security.QueryAllowlistConfig;
+import com.arcone.biopro.exception.collector.api.graphql.security.QueryNotAllowedException;
+import com.arcone.biopro.exception.collector.infrastructure.config.PersistedQueryProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.PersistedQueryIdInvalid;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches parsed and validated GraphQL documents and serves Automatic Persisted
+ * Queries (APQ).
+ *
+ * Documents are cached by query text, so repeated operations skip parsing and
+ * validation. Clients following the Apollo APQ protocol send the SHA-256 hash of
+ * the query in {@code extensions.persistedQuery.sha256Hash}; once a query has
+ * been sent together with its hash, later requests only need to send the hash.
+ * Operations registered at startup are never evicted.
+ *
+ * When the query allowlist is enabled, only registered operations and queries
+ * whose hash is in the allowlist are accepted, and other queries are rejected
+ * before they are parsed.
+ */
+@Slf4j
+public class PersistedQueryDocumentProvider implements PreparsedDocumentProvider {
+
+    static final String DOCUMENT_CACHE = "documents";
+    static final String PERSISTED_QUERY_CACHE = "persisted-queries";
+
+    private static final String PERSISTED_QUERY_EXTENSION = "persistedQuery";
+    private static final String HASH_KEY = "sha256Hash";
+
+    private final QueryAllowlistConfig allowlistConfig;
+    private final GraphQLMetrics metrics;
+    private final Cache<String, CachedDocument> documents;
+    private final Cache<String, String> persistedQueries;
+    private final Map<String, String> registeredOperations = new ConcurrentHashMap<>();
+    private final ApolloPersistedQuerySupport persistedQuerySupport =
+            new ApolloPersistedQuerySupport(this::getPersistedQueryDocument);
+
+    /**
+     * @param metrics metrics to report cache and lookup statistics to, or
+     *                {@code null} when GraphQL metrics are disabled
+     */
+    public PersistedQueryDocumentProvider(PersistedQueryProperties properties,
+            QueryAllowlistConfig allowlistConfig, GraphQLMetrics metrics) {
+        this.allowlistConfig = allowlistConfig;
+        this.metrics = metrics;
+        this.documents = Caffeine.newBuilder()
+                .maximumSize(properties.getDocumentCacheMaxSize())
+                .recordStats()
+                .build();
+        this.persistedQueries = Caffeine.newBuilder()
+                .maximumSize(properties.getPersistedQueryMaxSize())
+                .recordStats()
+                .build();
+
+        if (metrics != null) {
+            metrics.monitorDocumentCache(DOCUMENT_CACHE, documents);
+            metrics.monitorDocumentCache(PERSISTED_QUERY_CACHE, persistedQueries);
+        }
+    }
+
+    /**
+     * Registers an operation so clients can execute it by hash alone, and adds
+     * it to the query allowlist.
+     *
+     * @return the SHA-256 hash clients send for the operation
+     */
+    public String registerOperation(String query) {
+        String hash = QueryAllowlistConfig.sha256Hex(query);
+        registeredOperations.put(hash, query);
+        allowlistConfig.addAllowedQuery(QueryAllowlistConfig.queryHash(query));
+        return hash;
+    }
+
+    @Override
+    public PreparsedDocumentEntry getDocument(ExecutionInput executionInput,
+            Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        if (persistedQueryHash(executionInput.getExtensions()) != null) {
+            return persistedQuerySupport.getDocument(executionInput, parseAndValidateFunction);
+        }
+        return getCachedDocument(executionInput.getQuery(), query -> parseAndValidateFunction.apply(executionInput));
+    }
+
+    /**
+     * Resolves the query text of a request executed outside of graphql-java,
+     * following the same persisted query and allowlist rules.
+     *
+     * @param query      the query sent by the client, may be empty for hash-only requests
+     * @param extensions the request extensions, may be {@code null}
+     * @return the query text to execute
+     * @throws PersistedQueryNotFound   if only a hash was sent and it is not known
+     * @throws PersistedQueryIdInvalid  if the hash does not match the query
+     * @throws QueryNotAllowedException if the allowlist is enabled and the query is not on it
+     */
+    public String resolveQuery(String query, Map<String, Object> extensions) {
+        String hash = persistedQueryHash(extensions);
+        String resolved = hash != null ? lookupPersistedQuery(hash, query) : query;
+
+        if (!isAllowed(resolved)) {
+            record("rejected");
+            throw new QueryNotAllowedException("QUERY_NOT_ALLOWED",
+                    "Query not approved for production use. Hash: " + allowlistHash(resolved));
+        }
+        if (hash != null) {
+            persistedQueries.put(hash, resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * Returns the number of parsed documents currently cached.
+     */
+    public long getDocumentCacheSize() {
+        return documents.estimatedSize();
+    }
+
+    private PreparsedDocumentEntry getPersistedQueryDocument(Object persistedQueryId, ExecutionInput executionInput,
+            Function<String, PreparsedDocumentEntry> onCacheMiss) {
+        String hash = persistedQueryId.toString();
+        String query = lookupPersistedQuery(hash, executionInput.getQuery());
+
+        PreparsedDocumentEntry entry = getCachedDocument(query, onCacheMiss);
+        if (!entry.hasErrors()) {
+            persistedQueries.put(hash, query);
+        }
+        return entry;
+    }
+
+    /**
+     * Returns the query for a persisted query hash: the stored query for
+     * hash-only requests, otherwise the sent query once its hash is verified.
+     */
+    private String lookupPersistedQuery(String hash, String query) {
+        if (!StringUtils.hasText(query) || PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query)) {
+            String stored = registeredOperations.get(hash);
+            if (stored == null) {
+                stored = persistedQueries.getIfPresent(hash);
+            }
+            if (stored == null) {
+                record("not_found");
+                throw new PersistedQueryNotFound(hash);
+            }
+            record("hit");
+            return stored;
+        }
+
+        if (!QueryAllowlistConfig.sha256Hex(query).equalsIgnoreCase(hash)) {
+            record("invalid");
+            throw new PersistedQueryIdInvalid(hash);
+        }
+        record("registered");
+        return query;
+    }
+
+    private PreparsedDocumentEntry getCachedDocument(String query,
+            Function<String, PreparsedDocumentEntry> parseAndValidate) {
+        CachedDocument cached = documents.getIfPresent(query);
+        String allowlistHash = cached != null ? cached.allowlistHash() : QueryAllowlistConfig.queryHash(query);
+
+        if (allowlistConfig.isEnabled() && !allowlistConfig.isQueryAllowed(allowlistHash)) {
+            log.warn("Query not in allowlist. Hash: {}", allowlistHash);
+            record("rejected");
+            return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError()
+                    .message("Query not approved for production use. Hash: " + allowlistHash)
+                    .errorType(ErrorType.FORBIDDEN)
+                    .extensions(Map.of("code", "QUERY_NOT_ALLOWED", "queryHash", allowlistHash))
+                    .build());
+        }
+
+        if (cached == null) {
+            cached = new CachedDocument(parseAndValidate.apply(query), allowlistHash);
+            documents.put(query, cached);
+        }
+        return cached.entry();
+    }
+
+    private boolean isAllowed(String query) {
+        return !allowlistConfig.isEnabled() || allowlistConfig.isQueryAllowed(allowlistHash(query));
+    }
+
+    private String allowlistHash(String query) {
+        // Read through the map view so the check does not count as a cache lookup
+        CachedDocument cached = query != null ? documents.asMap().get(query) : null;
+        return cached != null ? cached.allowlistHash() : QueryAllowlistConfig.queryHash(query);
+    }
+
+    private void record(String outcome) {
+        if (metrics != null) {
+            metrics.recordPersistedQuery(outcome);
+        }
+    }
+
+    private static String persistedQueryHash(Map<String, Object> extensions) {
+        if (extensions == null || !(extensions.get(PERSISTED_QUERY_EXTENSION) instanceof Map<?, ?> persistedQuery)) {
+            return null;
+        }
+        Object hash = persistedQuery.get(HASH_KEY);
+        return hash != null ? hash.toString() : null;
+    }
+
+    /**
+     * A parsed and validated document along with its allowlist hash, so the
+     * allowlist can be checked without normalizing the query again.
+     */
+    private record CachedDocument(PreparsedDocumentEntry entry, String allowlistHash) {
+    }
+}
@@ -6,40 +6,50 @@ import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
 import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.dataloader.MappedBatchLoader;
+import org.dataloader.BatchLoaderEnvironment;
+import org.dataloader.MappedBatchLoaderWithContext;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * DataLoader for batching original payload retrieval operations.
  * Implements the DataLoader pattern to efficiently retrieve payloads
  * from external services while preventing N+1 query problems.
+ *
+ * Resolvers pass the parent exception as the key context, so the exception is
+ * only loaded from the database for keys loaded without one.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class PayloadDataLoader implements MappedBatchLoader<String, PayloadResponse> {
+public class PayloadDataLoader implements MappedBatchLoaderWithContext<String, PayloadResponse> {
 
     private final PayloadRetrievalService payloadRetrievalService;
     private final InterfaceExceptionRepository exceptionRepository;
 
     /**
      * Batch loads original payloads by transaction IDs.
-     * This method retrieves the exception details first, then batches
-     * the payload retrieval operations to external services.
+     * This method takes the exceptions from the key contexts (loading any that
+     * are missing), then retrieves their payloads with one batch request per
+     * source service, completing when the responses arrive.
      *
      * @param transactionIds Set of transaction IDs to load payloads for
+     * @param environment    batch environment carrying the parent exceptions as key contexts
      * @return CompletionStage containing a map of transaction ID to PayloadResponse
      */
     @Override
-    public CompletionStage<Map<String, PayloadResponse>> load(Set<String> transactionIds) {
+    public CompletionStage<Map<String, PayloadResponse>> load(Set<String> transactionIds,
+            BatchLoaderEnvironment environment) {
         if (transactionIds == null || transactionIds.isEmpty()) {
             log.debug("No transaction IDs provided for payload batch loading");
             return CompletableFuture.completedFuture(Map.of());
@@ -47,110 +57,87 @@ public class PayloadDataLoader implements MappedBatchLoader<String, PayloadRespo
 
         log.debug("Batch loading payloads for {} transaction IDs", transactionIds.size());
 
-        return CompletableFuture.supplyAsync(() -> {
-            long startTime = System.currentTimeMillis();
-            Map<String, PayloadResponse> results = new HashMap<>();
-
-            try {
-                // Validate batch size to prevent excessive external service calls
-                if (transactionIds.size() > 50) {
-                    log.warn(
-                            "Large payload batch size detected: {} transaction IDs. This may impact external service performance.",
-                            transactionIds.size());
-                }
-
-                // First, get the exceptions to understand interface types
-                List<InterfaceException> exceptions = exceptionRepository.findByTransactionIdIn(transactionIds);
-
-                long queryTime = System.currentTimeMillis() - startTime;
-                log.debug("Found {} exceptions for payload loading in {}ms", exceptions.size(), queryTime);
-
-                // Create futures for all payload retrieval operations with timeout handling
-                Map<String, CompletableFuture<PayloadResponse>> payloadFutures = exceptions.stream()
-                        .collect(Collectors.toMap(
-                                InterfaceException::getTransactionId,
-                                exception -> payloadRetrievalService.getOriginalPayload(exception)
-                                        .orTimeout(30, java.util.concurrent.TimeUnit.SECONDS) // 30 second timeout
-                                        .exceptionally(throwable -> {
-                                            log.error("Payload retrieval failed for transaction ID: {} - {}",
-                                                    exception.getTransactionId(), throwable.getMessage());
-                                            return PayloadResponse.builder()
-                                                    .transactionId(exception.getTransactionId())
-                                                    .retrieved(false)
-                                                    .errorMessage("Payload retrieval timeout or error: "
-                                                            + throwable.getMessage())
-                                                    .build();
-                                        })));
-
-                // Wait for all futures to complete and collect results
-                for (Map.Entry<String, CompletableFuture<PayloadResponse>> entry : payloadFutures.entrySet()) {
-                    try {
-                        PayloadResponse response = entry.getValue().get();
-                        results.put(entry.getKey(), response);
+        // Validate batch size to prevent excessive external service calls
+        if (transactionIds.size() > 50) {
+            log.warn(
+                    "Large payload batch size detected: {} transaction IDs. This may impact external service performance.",
+                    transactionIds.size());
+        }
 
-                        if (response.isRetrieved()) {
-                            log.debug("Successfully loaded payload for transaction ID: {}", entry.getKey());
-                        } else {
-                            log.debug("Payload not available for transaction ID: {} - {}",
-                                    entry.getKey(), response.getErrorMessage());
-                        }
-                    } catch (Exception e) {
-                        log.error("Failed to load payload for transaction ID: {}", entry.getKey(), e);
-                        // Create error response for failed payload retrieval
-                        PayloadResponse errorResponse = PayloadResponse.builder()
-                                .transactionId(entry.getKey())
-                                .retrieved(false)
-                                .errorMessage("Failed to retrieve payload: " + e.getMessage())
-                                .build();
-                        results.put(entry.getKey(), errorResponse);
+        long startTime = System.currentTimeMillis();
+        return CompletableFuture.supplyAsync(() -> {
+                    // Use the exceptions the resolvers already have; load only the missing ones
+                    List<InterfaceException> exceptions = exceptionsFor(transactionIds, environment);
+                    log.debug("Found {} exceptions for payload loading in {}ms", exceptions.size(),
+                            System.currentTimeMillis() - startTime);
+                    return exceptions;
+                })
+                // One batch request per source service; nothing waits while the payloads arrive
+                .thenCompose(exceptions -> payloadRetrievalService.getOriginalPayloads(exceptions)
+                        .orTimeout(30, TimeUnit.SECONDS) // 30 second timeout
+                        .exceptionally(throwable -> {
+                            log.error("Payload retrieval failed for {} transaction IDs - {}",
+                                    exceptions.size(), throwable.getMessage());
+                            return errorResponses(exceptions.stream().map(InterfaceException::getTransactionId)
+                                    .collect(Collectors.toSet()),
+                                    "Payload retrieval timeout or error: " + throwable.getMessage());
+                        }))
+                .handle((responses, throwable) -> {
+                    if (throwable != null) {
+                        log.error("Error in batch payload loading for transaction IDs after {}ms: {}",
+                                System.currentTimeMillis() - startTime, transactionIds, throwable);
+                        return errorResponses(transactionIds, "Batch payload loading failed: "
+                                + throwable.getMessage());
                     }
-                }
-
-                // Handle transaction IDs that don't have corresponding exceptions
-                Set<String> foundTransactionIds = exceptions.stream()
-                        .map(InterfaceException::getTransactionId)
-                        .collect(Collectors.toSet());
-
-                for (String transactionId : transactionIds) {
-                    if (!foundTransactionIds.contains(transactionId)) {
-                        log.debug("No exception found for transaction ID: {}", transactionId);
-                        PayloadResponse notFoundResponse = PayloadResponse.builder()
-                                .transactionId(transactionId)
-                                .retrieved(false)
-                                .errorMessage("Exception not found for transaction ID: " + transactionId)
-                                .build();
-                        results.put(transactionId, notFoundResponse);
+                    Map<String, PayloadResponse> results = new HashMap<>(responses);
+
+                    // Handle transaction IDs that don't have corresponding exceptions
+                    for (String transactionId : transactionIds) {
+                        if (!results.containsKey(transactionId)) {
+                            log.debug("No exception found for transaction ID: {}", transactionId);
+                            results.put(transactionId, PayloadResponse.builder()
+                                    .transactionId(transactionId)
+                                    .retrieved(false)
+                                    .errorMessage("Exception not found for transaction ID: " + transactionId)
+                                    .build());
+                        }
                     }
-                }
-
-                long totalTime = System.currentTimeMillis() - startTime;
-                long successCount = results.values().stream()
-                        .mapToLong(response -> response.isRetrieved() ? 1 : 0)
-                        .sum();
-
-                log.debug("Completed batch payload loading for {} transaction IDs in {}ms. Success: {}, Failed: {}",
-                        transactionIds.size(), totalTime, successCount, results.size() - successCount);
 
-                return results;
-
-            } catch (Exception e) {
-                long totalTime = System.currentTimeMillis() - startTime;
-                log.error("Error in batch payload loading for transaction IDs after {}ms: {}",
-                        totalTime, transactionIds, e);
+                    long successCount = results.values().stream()
+                            .mapToLong(response -> response.isRetrieved() ? 1 : 0)
+                            .sum();
+                    log.debug("Completed batch payload loading for {} transaction IDs in {}ms. Success: {}, Failed: {}",
+                            transactionIds.size(), System.currentTimeMillis() - startTime, successCount,
+                            results.size() - successCount);
+                    return results;
+                });
+    }
 
-                // Return error responses for all requested transaction IDs
-                for (String transactionId : transactionIds) {
-                    if (!results.containsKey(transactionId)) {
-                        results.put(transactionId, PayloadResponse.builder()
-                                .transactionId(transactionId)
-                                .retrieved(false)
-                                .errorMessage("Batch payload loading failed: " + e.getMessage())
-                                .build());
-                    }
-                }
+    private static Map<String, PayloadResponse> errorResponses(Set<String> transactionIds, String errorMessage) {
+        Map<String, PayloadResponse> results = new HashMap<>();
+        for (String transactionId : transactionIds) {
+            results.put(transactionId, PayloadResponse.builder()
+                    .transactionId(transactionId)
+                    .retrieved(false)
+                    .errorMessage(errorMessage)
+                    .build());
+        }
+        return results;
+    }
 
-                return results;
+    private List<InterfaceException> exceptionsFor(Set<String> transactionIds, BatchLoaderEnvironment environment) {
+        List<InterfaceException> exceptions = new ArrayList<>(transactionIds.size());
+        Set<String> missing = new HashSet<>(transactionIds);
+        Map<Object, Object> keyContexts = environment != null ? environment.getKeyContexts() : Map.of();
+        for (String transactionId : transactionIds) {
+            if (keyContexts.get(transactionId) instanceof InterfaceException exception) {
+                exceptions.add(exception);
+                missing.remove(transactionId);
             }
-        });
+        }
+        if (!missing.isEmpty()) {
+            exceptions.addAll(exceptionRepository.findByTransactionIdIn(missing));
+        }
+        return exceptions;
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,12 @@
 package com.arcone.biopro.exception.collector.api.graphql.dataloader;
 
-import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
-import com.arcone.biopro.exception.collector.domain.entity.RetryAttempt;
-import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
 import com.arcone.biopro.exception.collector.infrastructure.repository.RetryAttemptRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.RetryAttemptView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.dataloader.MappedBatchLoader;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -18,111 +15,75 @@ import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
 /**
- * DataLoader for batching retry history queries by transaction ID.
+ * DataLoader for batching retry history queries by exception ID.
  * Implements the DataLoader pattern to efficiently load retry attempts
  * for multiple exceptions in a single batch operation.
+ *
+ * Keyed by the exception ID the parent resolver already has, so a batch is a
+ * single query on retry_attempts that reads only the columns of the GraphQL
+ * RetryAttempt type, already ordered by attempt number.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class RetryHistoryDataLoader implements MappedBatchLoader<String, List<RetryAttempt>> {
+public class RetryHistoryDataLoader implements MappedBatchLoader<Long, List<RetryAttemptView>> {
 
     private final RetryAttemptRepository retryAttemptRepository;
-    private final InterfaceExceptionRepository exceptionRepository;
 
     /**
-     * Batch loads retry history by transaction IDs.
-     * This method first resolves the transaction IDs to exception entities,
-     * then batches the retry attempt queries to minimize database calls.
+     * Batch loads retry history by exception IDs.
      *
-     * @param transactionIds Set of transaction IDs to load retry history for
-     * @return CompletionStage containing a map of transaction ID to List of
-     *         RetryAttempt
+     * @param exceptionIds Set of exception IDs to load retry history for
+     * @return CompletionStage containing a map of exception ID to List of
+     *         RetryAttemptView ordered by attempt number
      */
     @Override
-    public CompletionStage<Map<String, List<RetryAttempt>>> load(Set<String> transactionIds) {
-        if (transactionIds == null || transactionIds.isEmpty()) {
-            log.debug("No transaction IDs provided for retry history batch loading");
+    public CompletionStage<Map<Long, List<RetryAttemptView>>> load(Set<Long> exceptionIds) {
+        if (exceptionIds == null || exceptionIds.isEmpty()) {
+            log.debug("No exception IDs provided for retry history batch loading");
             return CompletableFuture.completedFuture(Map.of());
         }
 
-        log.debug("Batch loading retry history for {} transaction IDs", transactionIds.size());
+        log.debug("Batch loading retry history for {} exception IDs", exceptionIds.size());
 
         return CompletableFuture.supplyAsync(() -> {
             long startTime = System.currentTimeMillis();
 
             try {
                 // Validate batch size
-                if (transactionIds.size() > 500) {
+                if (exceptionIds.size() > 500) {
                     log.warn(
-                            "Large retry history batch size detected: {} transaction IDs. Consider reducing batch size.",
-                            transactionIds.size());
+                            "Large retry history batch size detected: {} exception IDs. Consider reducing batch size.",
+                            exceptionIds.size());
                 }
 
-                // First, get the exceptions to get their entity IDs
-                List<InterfaceException> exceptions = exceptionRepository.findByTransactionIdIn(transactionIds);
+                // Get all retry attempts for these exceptions in a single query, ordered in SQL
+                List<RetryAttemptView> allRetryAttempts = retryAttemptRepository.findViewsByExceptionIdIn(exceptionIds);
 
-                long queryTime = System.currentTimeMillis() - startTime;
-                log.debug("Found {} exceptions for retry history loading in {}ms", exceptions.size(), queryTime);
+                // Group by exception ID; groupingBy keeps the query order within each group
+                Map<Long, List<RetryAttemptView>> retryHistoryMap = allRetryAttempts.stream()
+                        .collect(Collectors.groupingBy(RetryAttemptView::getExceptionId));
 
-                // Initialize empty lists for all requested transaction IDs
-                Map<String, List<RetryAttempt>> retryHistoryMap = transactionIds.stream()
-                        .collect(Collectors.toMap(
-                                transactionId -> transactionId,
-                                transactionId -> List.<RetryAttempt>of()));
-
-                if (exceptions.isEmpty()) {
-                    log.debug("No exceptions found for retry history loading, returning empty results");
-                    return retryHistoryMap;
-                }
-
-                // Get all retry attempts for these exceptions in a single query
-                List<RetryAttempt> allRetryAttempts = retryAttemptRepository.findByInterfaceExceptionIn(exceptions);
-
-                long retryQueryTime = System.currentTimeMillis() - startTime - queryTime;
-                log.debug("Found {} retry attempts for {} exceptions in {}ms",
-                        allRetryAttempts.size(), exceptions.size(), retryQueryTime);
-
-                // Group retry attempts by their exception's transaction ID
-                Map<String, List<RetryAttempt>> groupedRetries = allRetryAttempts.stream()
-                        .collect(Collectors.groupingBy(
-                                retry -> retry.getInterfaceException().getTransactionId(),
-                                Collectors.toList()));
-
-                // Sort retry attempts by attempt number for each transaction and update the map
-                for (Map.Entry<String, List<RetryAttempt>> entry : groupedRetries.entrySet()) {
-                    List<RetryAttempt> sortedRetries = entry.getValue().stream()
-                            .sorted((r1, r2) -> r1.getAttemptNumber().compareTo(r2.getAttemptNumber()))
-                            .collect(Collectors.toList());
-
-                    retryHistoryMap.put(entry.getKey(), sortedRetries);
-
-                    log.debug("Loaded {} retry attempts for transaction ID: {}",
-                            sortedRetries.size(), entry.getKey());
-                }
-
-                // Log summary
-                long totalRetries = retryHistoryMap.values().stream()
-                        .mapToLong(List::size)
-                        .sum();
+                // Ensure all requested exception IDs have an entry (even if empty)
+                exceptionIds.forEach(exceptionId -> retryHistoryMap.computeIfAbsent(exceptionId, k -> List.of()));
 
                 long totalTime = System.currentTimeMillis() - startTime;
-                log.debug("Completed batch retry history loading in {}ms: {} transaction IDs, {} total retry attempts",
-                        totalTime, transactionIds.size(), totalRetries);
+                log.debug("Completed batch retry history loading in {}ms: {} exception IDs, {} total retry attempts",
+                        totalTime, exceptionIds.size(), allRetryAttempts.size());
 
                 return retryHistoryMap;
 
             } catch (Exception e) {
                 long totalTime = System.currentTimeMillis() - startTime;
-                log.error("Error in batch retry history loading for transaction IDs after {}ms: {}",
-                        totalTime, transactionIds, e);
+                log.error("Error in batch retry history loading for exception IDs {} after {}ms",
+                        exceptionIds, totalTime, e);
 
-                // Return empty lists for all transaction IDs on error
-                return transactionIds.stream()
+                // Return empty lists for all exception IDs on error
+                return exceptionIds.stream()
                         .collect(Collectors.toMap(
-                                transactionId -> transactionId,
-                                transactionId -> List.<RetryAttempt>of()));
+                                exceptionId -> exceptionId,
+                                exceptionId -> List.<RetryAttemptView>of()));
             }
         });
     }
-}
\ No newline at end of file
+}
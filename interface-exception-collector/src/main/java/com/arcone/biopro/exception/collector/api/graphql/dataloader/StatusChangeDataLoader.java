@@ -1,7 +1,7 @@
 package com.arcone.biopro.exception.collector.api.graphql.dataloader;
 
-import com.arcone.biopro.exception.collector.domain.entity.StatusChange;
 import com.arcone.biopro.exception.collector.infrastructure.repository.StatusChangeRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.StatusChangeView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.dataloader.MappedBatchLoader;
@@ -18,74 +18,64 @@ import java.util.stream.Collectors;
  * DataLoader for batching status change history queries.
  * Prevents N+1 query problems when loading status changes for multiple
  * exceptions.
+ *
+ * Keyed by exception ID and backed by a single projection query on
+ * exception_status_changes, most recent change first.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class StatusChangeDataLoader implements MappedBatchLoader<String, List<StatusChange>> {
+public class StatusChangeDataLoader implements MappedBatchLoader<Long, List<StatusChangeView>> {
 
     private final StatusChangeRepository statusChangeRepository;
 
     @Override
-    public CompletionStage<Map<String, List<StatusChange>>> load(Set<String> transactionIds) {
-        if (transactionIds == null || transactionIds.isEmpty()) {
-            log.debug("No transaction IDs provided for status change batch loading");
+    public CompletionStage<Map<Long, List<StatusChangeView>>> load(Set<Long> exceptionIds) {
+        if (exceptionIds == null || exceptionIds.isEmpty()) {
+            log.debug("No exception IDs provided for status change batch loading");
             return CompletableFuture.completedFuture(Map.of());
         }
 
-        log.debug("Batch loading status changes for {} transaction IDs", transactionIds.size());
+        log.debug("Batch loading status changes for {} exception IDs", exceptionIds.size());
 
         return CompletableFuture.supplyAsync(() -> {
             long startTime = System.currentTimeMillis();
 
             try {
                 // Validate batch size
-                if (transactionIds.size() > 500) {
+                if (exceptionIds.size() > 500) {
                     log.warn(
-                            "Large status change batch size detected: {} transaction IDs. Consider reducing batch size.",
-                            transactionIds.size());
+                            "Large status change batch size detected: {} exception IDs. Consider reducing batch size.",
+                            exceptionIds.size());
                 }
 
-                // Load all status changes for the given transaction IDs
-                List<StatusChange> statusChanges = statusChangeRepository
-                        .findByInterfaceExceptionTransactionIdInOrderByChangedAtDesc(transactionIds);
+                // Load all status changes for the given exception IDs, ordered in SQL
+                List<StatusChangeView> statusChanges = statusChangeRepository.findViewsByExceptionIdIn(exceptionIds);
 
-                long queryTime = System.currentTimeMillis() - startTime;
-                log.debug("Loaded {} status changes from database in {}ms", statusChanges.size(), queryTime);
+                // Group by exception ID; groupingBy keeps the query order within each group
+                Map<Long, List<StatusChangeView>> result = statusChanges.stream()
+                        .collect(Collectors.groupingBy(StatusChangeView::getExceptionId));
 
-                // Group by transaction ID
-                Map<String, List<StatusChange>> result = statusChanges.stream()
-                        .collect(Collectors.groupingBy(
-                                statusChange -> statusChange.getInterfaceException().getTransactionId(),
-                                Collectors.toList()));
-
-                // Ensure all requested transaction IDs have an entry (even if empty)
-                transactionIds.forEach(transactionId -> result.computeIfAbsent(transactionId, k -> List.of()));
-
-                // Log detailed statistics
-                long totalChanges = result.values().stream().mapToLong(List::size).sum();
-                long exceptionsWithChanges = result.values().stream()
-                        .mapToLong(changes -> changes.isEmpty() ? 0 : 1)
-                        .sum();
+                // Ensure all requested exception IDs have an entry (even if empty)
+                exceptionIds.forEach(exceptionId -> result.computeIfAbsent(exceptionId, k -> List.of()));
 
                 long totalTime = System.currentTimeMillis() - startTime;
-                log.debug(
-                        "Completed batch status change loading in {}ms: {} transaction IDs, {} exceptions with changes, {} total changes",
-                        totalTime, transactionIds.size(), exceptionsWithChanges, totalChanges);
+                log.debug("Completed batch status change loading in {}ms: {} exception IDs, {} total changes",
+                        totalTime, exceptionIds.size(), statusChanges.size());
 
                 return result;
 
             } catch (Exception e) {
                 long totalTime = System.currentTimeMillis() - startTime;
-                log.error("Error loading status changes for transaction IDs after {}ms: {}",
-                        totalTime, transactionIds, e);
+                log.error("Error in batch status change loading for exception IDs {} after {}ms",
+                        exceptionIds, totalTime, e);
 
-                // Return empty lists for all transaction IDs on error
-                return transactionIds.stream()
+                // Return empty lists for all exception IDs on error
+                return exceptionIds.stream()
                         .collect(Collectors.toMap(
-                                transactionId -> transactionId,
-                                transactionId -> List.<StatusChange>of()));
+                                exceptionId -> exceptionId,
+                                exceptionId -> List.<StatusChangeView>of()));
             }
         });
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,16 @@
 package com.arcone.biopro.exception.collector.api.graphql.dto;
 
 import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.util.List;
+import java.util.function.LongSupplier;
 
 /**
  * GraphQL connection type for paginated exception results.
@@ -22,6 +26,15 @@ public class ExceptionConnection {
     private PageInfo pageInfo;
     private Long totalCount;
 
+    /**
+     * Deferred count query used when {@code totalCount} is not precomputed.
+     * Only invoked if the client selects the totalCount field.
+     */
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private LongSupplier totalCountSupplier;
+
     /**
      * Edge type containing the exception node and cursor.
      */
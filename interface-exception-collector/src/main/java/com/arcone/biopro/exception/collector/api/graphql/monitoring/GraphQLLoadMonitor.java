@@ -0,0 +1,125 @@
+package com.arcone.biopro.exception.collector.api.graphql.monitoring;
+
+import com.arcone.biopro.exception.collector.infrastructure.config.QueryCostProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Samples how saturated the GraphQL executor and the database connection pool
+ * are, and derives the query cost budget from it.
+ *
+ * Load pressure is the larger of the executor queue fill ratio and the share
+ * of pool connections in use, and is 1 while threads wait for a connection.
+ * Below the configured threshold the full budget applies; above it the budget
+ * shrinks linearly down to the minimum ratio at full pressure.
+ */
+@Slf4j
+@Component
+public class GraphQLLoadMonitor {
+
+    private final QueryCostProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final HikariDataSource dataSource;
+
+    private volatile double pressure;
+    private volatile long nextSampleAt = System.nanoTime();
+
+    public GraphQLLoadMonitor(QueryCostProperties properties,
+            @Qualifier("graphqlProductionExecutor") ObjectProvider<Executor> graphqlExecutor,
+            ObjectProvider<DataSource> dataSource, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.executor = graphqlExecutor.getIfAvailable() instanceof ThreadPoolTaskExecutor taskExecutor
+                ? taskExecutor.getThreadPoolExecutor()
+                : null;
+        this.dataSource = unwrapHikari(dataSource.getIfAvailable());
+
+        Gauge.builder("graphql_load_pressure", this, GraphQLLoadMonitor::currentPressure)
+                .description("GraphQL load pressure from executor queue depth and connection pool saturation")
+                .register(meterRegistry);
+
+        Gauge.builder("graphql_query_cost_budget", this, GraphQLLoadMonitor::currentBudget)
+                .description("Maximum cost of a GraphQL operation at the current load pressure")
+                .register(meterRegistry);
+
+        log.info("GraphQL load monitor initialized: executor={}, connectionPool={}",
+                executor != null ? "graphqlProductionExecutor" : "none",
+                this.dataSource != null ? this.dataSource.getPoolName() : "none");
+    }
+
+    /**
+     * @return the maximum cost of an operation at the current load pressure
+     */
+    public int currentBudget() {
+        return budgetFor(properties.getMaxCost(), currentPressure(),
+                properties.getPressureThreshold(), properties.getMinBudgetRatio());
+    }
+
+    /**
+     * @return the current load pressure between 0 (idle) and 1 (saturated)
+     */
+    public double currentPressure() {
+        long now = System.nanoTime();
+        if (now - nextSampleAt >= 0) {
+            pressure = Math.max(executorPressure(), connectionPoolPressure());
+            nextSampleAt = now + properties.getSampleInterval().toNanos();
+        }
+        return pressure;
+    }
+
+    /**
+     * Scales the maximum cost by the load pressure: the full budget up to the
+     * threshold, then linearly down to {@code minRatio} at full pressure.
+     */
+    static int budgetFor(int maxCost, double pressure, double threshold, double minRatio) {
+        if (pressure <= threshold) {
+            return maxCost;
+        }
+        double overload = Math.min(1.0, (pressure - threshold) / (1.0 - threshold));
+        return (int) Math.round(maxCost * (1.0 - overload * (1.0 - minRatio)));
+    }
+
+    private double executorPressure() {
+        if (executor == null) {
+            return 0;
+        }
+        BlockingQueue<Runnable> queue = executor.getQueue();
+        int depth = queue.size();
+        int capacity = depth + queue.remainingCapacity();
+        return capacity > 0 ? (double) depth / capacity : 0;
+    }
+
+    private double connectionPoolPressure() {
+        HikariPoolMXBean pool = dataSource != null ? dataSource.getHikariPoolMXBean() : null;
+        if (pool == null) {
+            return 0;
+        }
+        if (pool.getThreadsAwaitingConnection() > 0) {
+            return 1.0;
+        }
+        return (double) pool.getActiveConnections() / dataSource.getMaximumPoolSize();
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            if (dataSource != null && dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class);
+            }
+        } catch (SQLException e) {
+            log.warn("Unable to access connection pool for load monitoring", e);
+        }
+        return null;
+    }
+}
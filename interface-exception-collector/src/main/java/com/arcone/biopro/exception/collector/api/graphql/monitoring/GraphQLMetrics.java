@@ -1,5 +1,6 @@
 package com.arcone.biopro.exception.collector.api.graphql.monitoring;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import graphql.ExecutionResult;
 import graphql.execution.instrumentation.InstrumentationContext;
 import graphql.execution.instrumentation.InstrumentationState;
@@ -8,6 +9,7 @@ import graphql.execution.instrumentation.parameters.InstrumentationExecutionPara
 import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
 import graphql.schema.DataFetcher;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
@@ -344,6 +346,48 @@ public class GraphQLMetrics extends SimpleInstrumentation {
         cacheAccessCounter.increment();
     }
 
+    /**
+     * Register hit, miss, eviction and size metrics for a document cache.
+     * The cache must be built with {@code recordStats()}.
+     */
+    public void monitorDocumentCache(String cacheName, Cache<?, ?> cache) {
+        FunctionCounter.builder("graphql_document_cache_requests_total", cache, c -> c.stats().hitCount())
+                .description("GraphQL document cache lookups")
+                .tags("cache", cacheName, "result", "hit")
+                .register(meterRegistry);
+
+        FunctionCounter.builder("graphql_document_cache_requests_total", cache, c -> c.stats().missCount())
+                .description("GraphQL document cache lookups")
+                .tags("cache", cacheName, "result", "miss")
+                .register(meterRegistry);
+
+        FunctionCounter.builder("graphql_document_cache_evictions_total", cache, c -> c.stats().evictionCount())
+                .description("GraphQL document cache entries evicted to stay within the size bound")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+
+        Gauge.builder("graphql_document_cache_hit_ratio", cache, c -> c.stats().hitRate())
+                .description("GraphQL document cache hit ratio since startup")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+
+        Gauge.builder("graphql_document_cache_size", cache, Cache::estimatedSize)
+                .description("Number of entries in the GraphQL document cache")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record the outcome of a persisted query lookup
+     */
+    public void recordPersistedQuery(String outcome) {
+        Counter.builder("graphql_persisted_query_total")
+                .description("GraphQL persisted query lookups by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
     /**
      * Record DataLoader batch metrics
      */
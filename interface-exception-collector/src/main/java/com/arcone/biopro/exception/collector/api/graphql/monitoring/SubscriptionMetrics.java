@@ -1,6 +1,7 @@
 package com.arcone.biopro.exception.collector.api.graphql.monitoring;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
@@ -263,6 +264,41 @@ public class SubscriptionMetrics {
                 }
         }
 
+        /**
+         * Record the number of events buffered for one subscriber after an event was queued for it
+         */
+        public void recordSubscriberLag(String operationName, int bufferedEvents) {
+                DistributionSummary.builder("graphql_subscription_subscriber_lag_events")
+                                .description("Events buffered for a subscriber and not yet delivered")
+                                .tags("operation", operationName)
+                                .register(meterRegistry)
+                                .record(bufferedEvents);
+        }
+
+        /**
+         * Record an event dropped or superseded because a subscriber's buffer was full
+         */
+        public void recordEventDropped(String operationName, String overflowPolicy) {
+                Counter.builder("graphql_subscription_events_dropped_total")
+                                .description("Events dropped or conflated for slow subscribers")
+                                .tags("operation", operationName, "policy", overflowPolicy)
+                                .register(meterRegistry)
+                                .increment();
+        }
+
+        /**
+         * Record a subscriber disconnected because its buffer overflowed
+         */
+        public void recordOverflowDisconnect(String operationName) {
+                Counter.builder("graphql_subscription_overflow_disconnects_total")
+                                .description("Subscriptions terminated because the subscriber fell too far behind")
+                                .tags("operation", operationName)
+                                .register(meterRegistry)
+                                .increment();
+
+                log.debug("Subscription disconnected on buffer overflow: operation={}", operationName);
+        }
+
         /**
          * Get metrics summary for health checks
          */
@@ -4,8 +4,8 @@ import com.arcone.biopro.exception.collector.api.dto.PayloadResponse;
 import com.arcone.biopro.exception.collector.api.graphql.service.GraphQLSecurityService;
 import com.arcone.biopro.exception.collector.api.graphql.util.DataLoaderUtil;
 import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
-import com.arcone.biopro.exception.collector.domain.entity.RetryAttempt;
-import com.arcone.biopro.exception.collector.domain.entity.StatusChange;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.RetryAttemptView;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.StatusChangeView;
 import graphql.GraphQLException;
 import graphql.schema.DataFetchingEnvironment;
 import lombok.RequiredArgsConstructor;
@@ -77,7 +77,7 @@ public class ExceptionFieldResolver {
                                 authentication != null ? authentication.getName() : "anonymous");
 
                 // Use DataLoader to batch and cache payload retrieval
-                return DataLoaderUtil.loadPayload(environment, exception.getTransactionId())
+                return DataLoaderUtil.loadPayload(environment, exception)
                                 .whenComplete((result, throwable) -> {
                                         if (throwable != null) {
                                                 log.error("Error loading payload for transaction {}: {}",
@@ -110,7 +110,7 @@ public class ExceptionFieldResolver {
          * @return CompletableFuture containing the list of retry attempts
          */
         @SchemaMapping(typeName = "Exception", field = "retryHistory")
-        public CompletableFuture<List<RetryAttempt>> retryHistory(
+        public CompletableFuture<List<RetryAttemptView>> retryHistory(
                         InterfaceException exception,
                         DataFetchingEnvironment environment) {
 
@@ -142,7 +142,7 @@ public class ExceptionFieldResolver {
                                 authentication != null ? authentication.getName() : "anonymous");
 
                 // Use DataLoader to batch and cache retry history retrieval
-                return DataLoaderUtil.loadRetryHistory(environment, exception.getTransactionId())
+                return DataLoaderUtil.loadRetryHistory(environment, exception.getId())
                                 .whenComplete((result, throwable) -> {
                                         if (throwable != null) {
                                                 log.error("Error loading retry history for transaction {}: {}",
@@ -176,7 +176,7 @@ public class ExceptionFieldResolver {
                 log.debug("Resolving actual retry count for exception: {}", exception.getTransactionId());
 
                 // Use DataLoader to get retry history and compute count
-                return DataLoaderUtil.loadRetryHistory(environment, exception.getTransactionId())
+                return DataLoaderUtil.loadRetryHistory(environment, exception.getId())
                                 .thenApply(retryAttempts -> {
                                         int count = retryAttempts != null ? retryAttempts.size() : 0;
                                         log.debug("Actual retry count for transaction {}: {}",
@@ -205,7 +205,7 @@ public class ExceptionFieldResolver {
 
                 log.debug("Checking for successful retries for exception: {}", exception.getTransactionId());
 
-                return DataLoaderUtil.loadRetryHistory(environment, exception.getTransactionId())
+                return DataLoaderUtil.loadRetryHistory(environment, exception.getId())
                                 .thenApply(retryAttempts -> {
                                         if (retryAttempts == null || retryAttempts.isEmpty()) {
                                                 return false;
@@ -239,7 +239,7 @@ public class ExceptionFieldResolver {
          * @return CompletableFuture containing the list of status changes
          */
         @SchemaMapping(typeName = "Exception", field = "statusHistory")
-        public CompletableFuture<List<StatusChange>> statusHistory(
+        public CompletableFuture<List<StatusChangeView>> statusHistory(
                         InterfaceException exception,
                         DataFetchingEnvironment environment) {
 
@@ -271,7 +271,7 @@ public class ExceptionFieldResolver {
                                 authentication != null ? authentication.getName() : "anonymous");
 
                 // Use DataLoader to batch and cache status history retrieval
-                return DataLoaderUtil.loadStatusHistory(environment, exception.getTransactionId())
+                return DataLoaderUtil.loadStatusHistory(environment, exception.getId())
                                 .whenComplete((result, throwable) -> {
                                         if (throwable != null) {
                                                 log.error("Error loading status history for transaction {}: {}",
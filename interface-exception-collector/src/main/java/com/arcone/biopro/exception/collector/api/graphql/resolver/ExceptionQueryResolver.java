@@ -6,16 +6,19 @@ import com.arcone.biopro.exception.collector.api.graphql.dto.PaginationInput;
 import com.arcone.biopro.exception.collector.api.graphql.dto.SearchInput;
 import com.arcone.biopro.exception.collector.api.graphql.dto.SortingInput;
 import com.arcone.biopro.exception.collector.api.graphql.dto.SystemHealth;
+import com.arcone.biopro.exception.collector.api.graphql.util.CursorUtil;
 import com.arcone.biopro.exception.collector.application.service.ExceptionQueryService;
 import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionSeverity;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
 import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import com.arcone.biopro.exception.collector.infrastructure.repository.KeysetPageRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 
@@ -24,11 +27,14 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import org.springframework.context.ApplicationContext;
 import java.time.OffsetDateTime;
-import java.util.Base64;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -107,74 +113,19 @@ public class ExceptionQueryResolver {
                                 ? filters.getCustomerIds().get(0)
                                 : null;
 
-                OffsetDateTime fromDate = null;
-                OffsetDateTime toDate = null;
-                if (filters != null && filters.getDateRange() != null) {
-                    fromDate = filters.getDateRange().getFrom();
-                    toDate = filters.getDateRange().getTo();
-                }
-
-                // Convert sorting to Spring Data Sort
-                Sort sort = Sort.unsorted();
-                if (sorting != null && sorting.getField() != null) {
-                    Sort.Direction direction = sorting
-                            .getDirection() == SortingInput.SortDirection.ASC
-                                    ? Sort.Direction.ASC
-                                    : Sort.Direction.DESC;
-                    sort = Sort.by(direction, sorting.getField());
-                }
-
-                // Query exceptions using eager loading service to prevent lazy loading issues
-                List<InterfaceException> exceptions = exceptionQueryService.findExceptionsWithFiltersEager(
-                        interfaceType, status, severity, customerId, fromDate, toDate, sort);
-
-                // Apply pagination
-                int pageSize = pagination != null ? pagination.getEffectivePageSize() : 20;
-                int startIndex = 0;
-
-                if (pagination != null && pagination.getAfter() != null) {
-                    // Decode cursor to get start index
-                    try {
-                        String decodedCursor = new String(Base64.getDecoder().decode(pagination.getAfter()));
-                        startIndex = Integer.parseInt(decodedCursor) + 1;
-                    } catch (Exception e) {
-                        log.warn("Invalid cursor format: {}", pagination.getAfter());
-                        startIndex = 0;
-                    }
-                }
-
-                // Apply pagination limits
-                int endIndex = Math.min(startIndex + pageSize, exceptions.size());
-                List<InterfaceException> paginatedExceptions = exceptions.subList(startIndex, endIndex);
-
-                // Create final copy for lambda
-                final int finalStartIndex = startIndex;
-
-                // Convert to GraphQL response format
-                List<ExceptionConnection.ExceptionEdge> edges = paginatedExceptions.stream()
-                        .map(exception -> {
-                            int index = paginatedExceptions.indexOf(exception);
-                            return ExceptionConnection.ExceptionEdge.builder()
-                                    .node(exception)
-                                    .cursor(Base64.getEncoder()
-                                            .encodeToString(String.valueOf(finalStartIndex + index).getBytes()))
-                                    .build();
-                        })
-                        .collect(Collectors.toList());
-
-                // Build page info
-                ExceptionConnection.PageInfo pageInfo = ExceptionConnection.PageInfo.builder()
-                        .hasNextPage(endIndex < exceptions.size())
-                        .hasPreviousPage(startIndex > 0)
-                        .startCursor(edges.isEmpty() ? null : edges.get(0).getCursor())
-                        .endCursor(edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor())
-                        .build();
+                OffsetDateTime fromDate = filters != null && filters.getDateRange() != null
+                        ? filters.getDateRange().getFrom()
+                        : null;
+                OffsetDateTime toDate = filters != null && filters.getDateRange() != null
+                        ? filters.getDateRange().getTo()
+                        : null;
 
-                return ExceptionConnection.builder()
-                        .edges(edges)
-                        .pageInfo(pageInfo)
-                        .totalCount((long) exceptions.size())
-                        .build();
+                // Keyset pagination: only the requested page is read from the database
+                return buildKeysetConnection(pagination, sorting,
+                        pageRequest -> exceptionQueryService.findExceptionsPageEager(
+                                interfaceType, status, severity, customerId, fromDate, toDate, pageRequest),
+                        () -> exceptionQueryService.countExceptionsWithFilters(
+                                interfaceType, status, severity, customerId, fromDate, toDate));
 
             } catch (Exception e) {
                 log.error("Error executing exceptions query", e);
@@ -263,75 +214,16 @@ public class ExceptionQueryResolver {
 
         return CompletableFuture.supplyAsync(() -> {
             try {
-                // Convert sorting to Spring Data Sort
-                Sort sort = Sort.unsorted();
-                if (sorting != null && sorting.getField() != null) {
-                    Sort.Direction direction = sorting
-                            .getDirection() == SortingInput.SortDirection.ASC
-                                    ? Sort.Direction.ASC
-                                    : Sort.Direction.DESC;
-                    sort = Sort.by(direction, sorting.getField());
-                } else {
-                    // Default sort by timestamp descending for search results
-                    sort = Sort.by(Sort.Direction.DESC, "timestamp");
-                }
-
                 // Convert SearchField enums to strings for the service layer
                 List<String> searchFields = search.getEffectiveFields().stream()
                         .map(field -> convertSearchFieldToString(field))
                         .collect(Collectors.toList());
+                String query = search.getQuery().trim();
 
-                // Query exceptions using search service
-                List<InterfaceException> exceptions = exceptionQueryService.searchExceptions(
-                        search.getQuery().trim(), searchFields, sort);
-
-                // Apply pagination
-                int pageSize = pagination != null ? pagination.getEffectivePageSize() : 20;
-                int startIndex = 0;
-
-                if (pagination != null && pagination.getAfter() != null) {
-                    // Decode cursor to get start index
-                    try {
-                        String decodedCursor = new String(Base64.getDecoder().decode(pagination.getAfter()));
-                        startIndex = Integer.parseInt(decodedCursor) + 1;
-                    } catch (Exception e) {
-                        log.warn("Invalid cursor format: {}", pagination.getAfter());
-                        startIndex = 0;
-                    }
-                }
-
-                // Apply pagination limits
-                int endIndex = Math.min(startIndex + pageSize, exceptions.size());
-                List<InterfaceException> paginatedExceptions = exceptions.subList(startIndex, endIndex);
-
-                // Create final copy for lambda
-                final int finalStartIndex = startIndex;
-
-                // Convert to GraphQL response format
-                List<ExceptionConnection.ExceptionEdge> edges = paginatedExceptions.stream()
-                        .map(exception -> {
-                            int index = paginatedExceptions.indexOf(exception);
-                            return ExceptionConnection.ExceptionEdge.builder()
-                                    .node(exception)
-                                    .cursor(Base64.getEncoder()
-                                            .encodeToString(String.valueOf(finalStartIndex + index).getBytes()))
-                                    .build();
-                        })
-                        .collect(Collectors.toList());
-
-                // Build page info
-                ExceptionConnection.PageInfo pageInfo = ExceptionConnection.PageInfo.builder()
-                        .hasNextPage(endIndex < exceptions.size())
-                        .hasPreviousPage(startIndex > 0)
-                        .startCursor(edges.isEmpty() ? null : edges.get(0).getCursor())
-                        .endCursor(edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor())
-                        .build();
-
-                return ExceptionConnection.builder()
-                        .edges(edges)
-                        .pageInfo(pageInfo)
-                        .totalCount((long) exceptions.size())
-                        .build();
+                // Keyset pagination, sorted by timestamp descending unless requested otherwise
+                return buildKeysetConnection(pagination, sorting,
+                        pageRequest -> exceptionQueryService.searchExceptionsPage(query, searchFields, pageRequest),
+                        () -> exceptionQueryService.countSearchResults(query, searchFields));
 
             } catch (Exception e) {
                 log.error("Error executing searchExceptions query", e);
@@ -340,6 +232,93 @@ public class ExceptionQueryResolver {
         });
     }
 
+    /**
+     * Resolves ExceptionConnection.totalCount. Connections built with keyset
+     * pagination defer the count query to this resolver so it only runs when the
+     * client actually selects totalCount.
+     *
+     * @param connection the connection being resolved
+     * @return the total number of matching exceptions
+     */
+    @SchemaMapping(typeName = "ExceptionConnection", field = "totalCount")
+    public Long totalCount(ExceptionConnection connection) {
+        if (connection.getTotalCount() == null && connection.getTotalCountSupplier() != null) {
+            connection.setTotalCount(connection.getTotalCountSupplier().getAsLong());
+        }
+        return connection.getTotalCount();
+    }
+
+    /**
+     * Builds a connection page using keyset (seek) pagination.
+     * Cursors encode the sort key value and transaction ID of the edge, and the
+     * next page is fetched with a {@code (sortKey, transactionId)} seek predicate
+     * and a {@code LIMIT} of one more than the page size to detect further pages.
+     * Backward pagination (last/before) reads in the reversed order and flips the
+     * page back before returning it.
+     *
+     * @param pagination  cursor-based pagination parameters, may be null
+     * @param sorting     sorting configuration, may be null
+     * @param pageFetcher fetches the rows for a keyset page request
+     * @param totalCount  deferred count of all matching rows
+     * @return the connection for the requested page
+     */
+    private ExceptionConnection buildKeysetConnection(
+            PaginationInput pagination,
+            SortingInput sorting,
+            Function<KeysetPageRequest, List<InterfaceException>> pageFetcher,
+            LongSupplier totalCount) {
+
+        String sortProperty = CursorUtil.resolveSortProperty(sorting != null ? sorting.getField() : null);
+        Sort.Direction direction = sorting != null
+                && sorting.getEffectiveDirection() == SortingInput.SortDirection.ASC
+                        ? Sort.Direction.ASC
+                        : Sort.Direction.DESC;
+
+        int pageSize = pagination != null ? pagination.getEffectivePageSize() : 20;
+        boolean backward = pagination != null && pagination.isBackwardPagination();
+        String cursor = pagination == null ? null : backward ? pagination.getBefore() : pagination.getAfter();
+
+        KeysetPageRequest.KeysetPageRequestBuilder pageRequest = KeysetPageRequest.builder()
+                .sortProperty(sortProperty)
+                .direction(backward ? (direction.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC)
+                        : direction)
+                .reversed(backward)
+                .limit(pageSize + 1);
+        if (cursor != null) {
+            CursorUtil.KeysetCursorData position = CursorUtil.parseKeysetCursor(cursor, sortProperty);
+            pageRequest.afterValue(position.getSortValue())
+                    .afterTransactionId(position.getTransactionId());
+        }
+
+        List<InterfaceException> rows = pageFetcher.apply(pageRequest.build());
+        boolean hasMore = rows.size() > pageSize;
+        List<InterfaceException> page = new ArrayList<>(hasMore ? rows.subList(0, pageSize) : rows);
+        if (backward) {
+            Collections.reverse(page);
+        }
+
+        List<ExceptionConnection.ExceptionEdge> edges = new ArrayList<>(page.size());
+        for (InterfaceException exception : page) {
+            edges.add(ExceptionConnection.ExceptionEdge.builder()
+                    .node(exception)
+                    .cursor(CursorUtil.createKeysetCursor(exception, sortProperty))
+                    .build());
+        }
+
+        ExceptionConnection.PageInfo pageInfo = ExceptionConnection.PageInfo.builder()
+                .hasNextPage(backward ? cursor != null : hasMore)
+                .hasPreviousPage(backward ? hasMore : cursor != null)
+                .startCursor(edges.isEmpty() ? null : edges.get(0).getCursor())
+                .endCursor(edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor())
+                .build();
+
+        return ExceptionConnection.builder()
+                .edges(edges)
+                .pageInfo(pageInfo)
+                .totalCountSupplier(totalCount)
+                .build();
+    }
+
     /**
      * Converts SearchField enum to string representation for service layer.
      */
@@ -1,10 +1,11 @@
 package com.arcone.biopro.exception.collector.api.graphql.resolver;
 
-import com.arcone.biopro.exception.collector.api.graphql.dto.ExceptionFilters;
+import com.arcone.biopro.exception.collector.api.graphql.dto.ExceptionSummary;
 import com.arcone.biopro.exception.collector.api.graphql.dto.SubscriptionFilters;
+import com.arcone.biopro.exception.collector.api.graphql.dto.TimeRange;
 import com.arcone.biopro.exception.collector.api.graphql.service.DashboardSubscriptionService;
 import com.arcone.biopro.exception.collector.api.graphql.service.GraphQLSecurityService;
-import com.arcone.biopro.exception.collector.api.graphql.service.SubscriptionFilterService;
+import com.arcone.biopro.exception.collector.api.graphql.service.SubscriptionFanoutService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.graphql.data.method.annotation.Argument;
@@ -13,38 +14,25 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Sinks;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 /**
  * GraphQL subscription resolver for real-time exception updates.
  * Provides WebSocket-based subscriptions for exception events with filtering
- * and security.
+ * and security. Events are routed through {@link SubscriptionFanoutService},
+ * which only delivers them to matching subscribers and buffers them per
+ * subscriber, so a slow client cannot hold back the others.
  */
 @Controller
 @RequiredArgsConstructor
 @Slf4j
 public class ExceptionSubscriptionResolver {
 
-    private final SubscriptionFilterService subscriptionFilterService;
     private final GraphQLSecurityService securityService;
     private final DashboardSubscriptionService dashboardSubscriptionService;
-
-    // Sinks for broadcasting events to subscribers
-    private final Sinks.Many<ExceptionUpdateEvent> exceptionUpdateSink = Sinks.many().multicast()
-            .onBackpressureBuffer();
-
-    private final Sinks.Many<RetryStatusEvent> retryStatusSink = Sinks.many().multicast().onBackpressureBuffer();
-
-    private final Sinks.Many<MutationCompletionEvent> mutationCompletionSink = Sinks.many().multicast()
-            .onBackpressureBuffer();
-
-    // Track active subscriptions for metrics
-    private final ConcurrentMap<String, SubscriptionMetrics> activeSubscriptions = new ConcurrentHashMap<>();
+    private final SubscriptionFanoutService subscriptionFanoutService;
 
     /**
      * GraphQL subscription for real-time exception updates.
@@ -61,40 +49,20 @@ public class ExceptionSubscriptionResolver {
             Authentication authentication) {
 
         String username = authentication.getName();
-        String subscriptionId = generateSubscriptionId(username);
 
         log.info("Starting exception subscription for user: {} with filters: {}", username, filters);
 
-        // Track subscription metrics
-        activeSubscriptions.put(subscriptionId, new SubscriptionMetrics(username, OffsetDateTime.now()));
-
-        return exceptionUpdateSink.asFlux()
-                .filter(event -> {
-                    // Apply security filtering
-                    if (!securityService.canViewException(authentication, event.getException())) {
-                        log.debug("Filtering out exception update for user {} due to security restrictions", username);
-                        return false;
-                    }
-
-                    // Apply subscription filters
-                    if (filters != null && !subscriptionFilterService.matchesExceptionFilters(event,
-                            filters.toExceptionFilters())) {
-                        log.debug("Filtering out exception update for user {} due to subscription filters", username);
-                        return false;
-                    }
-
-                    return true;
-                })
+        // Subscription filters and the security check run only for events routed to this subscriber
+        return subscriptionFanoutService.subscribeExceptionUpdates(filters,
+                        event -> securityService.canViewException(authentication, event.getException()))
                 .doOnSubscribe(subscription -> {
                     log.info("User {} subscribed to exception updates", username);
                 })
                 .doOnCancel(() -> {
                     log.info("User {} cancelled exception subscription", username);
-                    activeSubscriptions.remove(subscriptionId);
                 })
                 .doOnError(error -> {
                     log.error("Error in exception subscription for user {}: {}", username, error.getMessage(), error);
-                    activeSubscriptions.remove(subscriptionId);
                 })
                 .timeout(Duration.ofMinutes(30)) // Prevent zombie subscriptions
                 .onErrorResume(throwable -> {
@@ -121,16 +89,8 @@ public class ExceptionSubscriptionResolver {
         String username = authentication.getName();
         log.info("Starting retry status subscription for user: {} with transaction ID: {}", username, transactionId);
 
-        return retryStatusSink.asFlux()
-                .filter(event -> {
-                    // Filter by transaction ID if specified
-                    if (transactionId != null && !transactionId.equals(event.getTransactionId())) {
-                        return false;
-                    }
-
-                    // Apply security filtering
-                    return securityService.canViewRetryStatus(authentication, event);
-                })
+        return subscriptionFanoutService.subscribeRetryStatusUpdates(transactionId,
+                        event -> securityService.canViewRetryStatus(authentication, event))
                 .doOnSubscribe(subscription -> {
                     log.info("User {} subscribed to retry status updates", username);
                 })
@@ -174,6 +134,62 @@ public class ExceptionSubscriptionResolver {
                 });
     }
 
+    /**
+     * GraphQL subscription for dashboard metrics as deltas.
+     * The first update carries every field, later ones only the fields that changed.
+     *
+     * @param authentication User authentication context
+     * @return Flux of dashboard summary deltas
+     */
+    @SubscriptionMapping("dashboardSummaryDelta")
+    @PreAuthorize("hasRole('VIEWER')")
+    public Flux<DashboardSubscriptionService.DashboardSummaryDelta> dashboardSummaryDelta(
+            Authentication authentication) {
+
+        String username = authentication.getName();
+        log.info("Starting dashboard summary delta subscription for user: {}", username);
+
+        return dashboardSubscriptionService.getDashboardDeltaStream()
+                .doOnCancel(() -> {
+                    log.info("User {} cancelled dashboard summary delta subscription", username);
+                })
+                .timeout(Duration.ofMinutes(60))
+                .onErrorResume(throwable -> {
+                    log.warn("Dashboard summary delta subscription timeout or error for user {}: {}", username,
+                            throwable.getMessage());
+                    return Flux.empty();
+                });
+    }
+
+    /**
+     * GraphQL subscription for exception summary statistics over a time range.
+     * Subscribers of the same time range share one recomputed summary.
+     *
+     * @param timeRange      Time range of the summary
+     * @param authentication User authentication context
+     * @return Flux of exception summaries
+     */
+    @SubscriptionMapping("summaryUpdated")
+    @PreAuthorize("hasRole('VIEWER')")
+    public Flux<ExceptionSummary> summaryUpdated(
+            @Argument("timeRange") TimeRange timeRange,
+            Authentication authentication) {
+
+        String username = authentication.getName();
+        log.info("Starting summary subscription for user: {} with time range: {}", username, timeRange);
+
+        return dashboardSubscriptionService.getSummaryStream(timeRange)
+                .doOnCancel(() -> {
+                    log.info("User {} cancelled summary subscription", username);
+                })
+                .timeout(Duration.ofMinutes(60))
+                .onErrorResume(throwable -> {
+                    log.warn("Summary subscription timeout or error for user {}: {}", username,
+                            throwable.getMessage());
+                    return Flux.empty();
+                });
+    }
+
     /**
      * GraphQL subscription for mutation completion events.
      * Provides real-time updates when mutation operations complete.
@@ -194,18 +210,12 @@ public class ExceptionSubscriptionResolver {
         log.info("Starting mutation completion subscription for user: {} with type: {} and transaction: {}", 
                 username, mutationType, transactionId);
 
-        return mutationCompletionSink.asFlux()
-                .filter(event -> {
+        return subscriptionFanoutService.subscribeMutationCompletions(transactionId, event -> {
                     // Filter by mutation type if specified
                     if (mutationType != null && !mutationType.equalsIgnoreCase(event.getMutationType().name())) {
                         return false;
                     }
 
-                    // Filter by transaction ID if specified
-                    if (transactionId != null && !transactionId.equals(event.getTransactionId())) {
-                        return false;
-                    }
-
                     // Apply security filtering
                     return securityService.canViewMutationEvents(authentication, event);
                 })
@@ -224,30 +234,19 @@ public class ExceptionSubscriptionResolver {
     }
 
     /**
-     * Publishes an exception update event to all subscribers.
+     * Publishes an exception update event to the matching subscribers.
      * Called by Kafka consumers when exception events are received.
      * 
      * @param event The exception update event to publish
      */
     public void publishExceptionUpdate(ExceptionUpdateEvent event) {
-        log.info("📡 Received exception update event for publishing: {} - transaction: {}", 
+        log.debug("📡 Received exception update event for publishing: {} - transaction: {}",
                 event.getEventType(), event.getException().getTransactionId());
-        log.info("🔍 DEBUG: Active subscriptions count: {}", getActiveSubscriptionCount());
-        log.info("🔍 DEBUG: Sink has subscribers: {}", exceptionUpdateSink.currentSubscriberCount());
 
         try {
-            Sinks.EmitResult result = exceptionUpdateSink.tryEmitNext(event);
-
-            if (result.isFailure()) {
-                log.warn("❌ Failed to emit exception update event: {} - Reason: {}", result, result.name());
-                log.warn("🔍 DEBUG: Sink state - subscribers: {}, terminated: {}", 
-                        exceptionUpdateSink.currentSubscriberCount(), 
-                        result == Sinks.EmitResult.FAIL_TERMINATED);
-            } else {
-                log.info("✅ Successfully published exception update event for transaction: {} to {} subscribers",
-                        event.getException().getTransactionId(), getActiveSubscriptionCount());
-                log.info("🔍 DEBUG: Sink subscribers after emit: {}", exceptionUpdateSink.currentSubscriberCount());
-            }
+            int delivered = subscriptionFanoutService.publishExceptionUpdate(event);
+            log.debug("✅ Published exception update event for transaction: {} to {} of {} subscribers",
+                    event.getException().getTransactionId(), delivered, getActiveSubscriptionCount());
         } catch (java.lang.Exception e) {
             log.error("❌ ERROR in publishExceptionUpdate for transaction: {}", 
                     event.getException().getTransactionId(), e);
@@ -265,14 +264,9 @@ public class ExceptionSubscriptionResolver {
                 event.getEventType(), event.getTransactionId());
 
         try {
-            Sinks.EmitResult result = retryStatusSink.tryEmitNext(event);
-
-            if (result.isFailure()) {
-                log.warn("Failed to emit retry status event: {}", result);
-            } else {
-                log.debug("Successfully published retry status event for transaction: {}",
-                        event.getTransactionId());
-            }
+            int delivered = subscriptionFanoutService.publishRetryStatusUpdate(event);
+            log.debug("Published retry status event for transaction: {} to {} subscribers",
+                    event.getTransactionId(), delivered);
         } catch (java.lang.Exception e) {
             log.error("Error publishing retry status event", e);
         }
@@ -289,15 +283,9 @@ public class ExceptionSubscriptionResolver {
                 event.getMutationType(), event.getTransactionId(), event.isSuccess());
 
         try {
-            Sinks.EmitResult result = mutationCompletionSink.tryEmitNext(event);
-
-            if (result.isFailure()) {
-                log.warn("Failed to emit mutation completion event: {} for transaction: {}", 
-                        result, event.getTransactionId());
-            } else {
-                log.info("Successfully published mutation completion event for transaction: {} to {} subscribers",
-                        event.getTransactionId(), mutationCompletionSink.currentSubscriberCount());
-            }
+            int delivered = subscriptionFanoutService.publishMutationCompletion(event);
+            log.info("Published mutation completion event for transaction: {} to {} subscribers",
+                    event.getTransactionId(), delivered);
         } catch (java.lang.Exception e) {
             log.error("Error publishing mutation completion event for transaction: {}", 
                     event.getTransactionId(), e);
@@ -309,35 +297,7 @@ public class ExceptionSubscriptionResolver {
      * Used for monitoring and metrics.
      */
     public int getActiveSubscriptionCount() {
-        return activeSubscriptions.size();
-    }
-
-    /**
-     * Generates a unique subscription ID for tracking.
-     */
-    private String generateSubscriptionId(String username) {
-        return username + "_" + System.currentTimeMillis();
-    }
-
-    /**
-     * Metrics for tracking subscription activity.
-     */
-    private static class SubscriptionMetrics {
-        private final String username;
-        private final OffsetDateTime startTime;
-
-        public SubscriptionMetrics(String username, OffsetDateTime startTime) {
-            this.username = username;
-            this.startTime = startTime;
-        }
-
-        public String getUsername() {
-            return username;
-        }
-
-        public OffsetDateTime getStartTime() {
-            return startTime;
-        }
+        return subscriptionFanoutService.getExceptionSubscriberCount();
     }
 
     /**
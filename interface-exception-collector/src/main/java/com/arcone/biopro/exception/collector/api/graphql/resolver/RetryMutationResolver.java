@@ -24,6 +24,7 @@ import com.arcone.biopro.exception.collector.api.graphql.service.RetryValidation
 import com.arcone.biopro.exception.collector.api.graphql.service.AcknowledgmentValidationService;
 import com.arcone.biopro.exception.collector.api.graphql.service.ResolutionValidationService;
 import com.arcone.biopro.exception.collector.api.graphql.service.CancelRetryValidationService;
+import com.arcone.biopro.exception.collector.api.graphql.service.BulkMutationService;
 import com.arcone.biopro.exception.collector.api.graphql.validation.ValidationResult;
 import com.arcone.biopro.exception.collector.api.graphql.security.SecurityAuditLogger;
 import com.arcone.biopro.exception.collector.api.graphql.security.MutationRateLimiter;
@@ -78,6 +79,7 @@ public class RetryMutationResolver {
         private final RetryAttemptRepository retryAttemptRepository;
         private final com.arcone.biopro.exception.collector.api.graphql.service.MutationEventPublisher mutationEventPublisher;
         private final MutationMetrics mutationMetrics;
+        private final BulkMutationService bulkMutationService;
 
         /**
          * Initiates a retry operation for a single exception.
@@ -167,6 +169,9 @@ public class RetryMutationResolver {
                                 // Convert GraphQL input to service request (same as REST API)
                                 RetryRequest retryRequest = RetryRequest.builder()
                                                 .reason(input.getReason())
+                                                .priority(input.getPriority() != null
+                                                                ? input.getPriority().name()
+                                                                : RetryExceptionInput.RetryPriority.NORMAL.name())
                                                 .initiatedBy(authentication.getName())
                                                 .build();
 
@@ -263,7 +268,8 @@ public class RetryMutationResolver {
 
         /**
          * Initiates retry operations for multiple exceptions in bulk.
-         * Processes each retry individually using the same business logic as REST API.
+         * Validation, state changes and audit rows are handled as set operations by
+         * {@link BulkMutationService}; results are still reported per transaction.
          *
          * @param input          the bulk retry input containing transaction IDs and
          *                       retry details
@@ -294,59 +300,38 @@ public class RetryMutationResolver {
                                 correlationId
                         );
 
-                        List<RetryExceptionResult> results = new ArrayList<>();
-                        int successCount = 0;
-                        int failureCount = 0;
-
-                        for (String transactionId : input.getTransactionIds()) {
-                                try {
-                                        RetryExceptionInput singleInput = RetryExceptionInput.builder()
-                                                        .transactionId(transactionId)
-                                                        .reason(input.getReason())
-                                                        .priority(input.getPriority())
-                                                        .build();
-
-                                        // Process each retry using the same logic as single retry
-                                        RetryExceptionResult result = retryException(singleInput, authentication)
-                                                        .join();
-                                        results.add(result);
-
-                                        if (result.isSuccess()) {
-                                                successCount++;
-                                        } else {
-                                                failureCount++;
-                                        }
-
-                                } catch (Exception e) {
-                                        log.error("Bulk retry failed for transaction: {}, error: {}",
-                                                        transactionId, e.getMessage());
-
-                                        RetryExceptionResult failedResult = RetryExceptionResult.builder()
-                                                        .success(false)
-                                                        .errors(List.of(GraphQLError.builder()
-                                                                        .message("Failed to process retry for transaction: "
-                                                                                        + transactionId)
-                                                                        .code("BULK_RETRY_ITEM_FAILED")
-                                                                        .build()))
-                                                        .build();
-
-                                        results.add(failedResult);
-                                        failureCount++;
-                                }
+                        BulkRetryResult result;
+                        try {
+                                // One rate limit token for the whole bulk operation
+                                rateLimiter.checkRateLimit(authentication.getName(), "BULK_RETRY");
+                                result = bulkMutationService.bulkRetry(input, authentication, correlationId);
+                        } catch (RateLimitExceededException e) {
+                                log.warn("Rate limit exceeded for user {} on bulk retry operation: {}",
+                                                authentication.getName(), e.getMessage());
+                                result = BulkRetryResult.builder()
+                                                .successCount(0)
+                                                .failureCount(input.getTransactionIds().size())
+                                                .results(List.of())
+                                                .errors(List.of(GraphQLErrorHandler.createRateLimitError(e)))
+                                                .build();
+                        } catch (Exception e) {
+                                log.error("Bulk retry failed: {}", e.getMessage(), e);
+                                result = BulkRetryResult.builder()
+                                                .successCount(0)
+                                                .failureCount(input.getTransactionIds().size())
+                                                .results(List.of())
+                                                .errors(List.of(GraphQLErrorHandler.createFromException(e, "bulk retry")))
+                                                .build();
                         }
 
-                        log.info("GraphQL bulk retry completed: {} successful, {} failed", successCount, failureCount);
+                        log.info("GraphQL bulk retry completed: {} successful, {} failed",
+                                        result.getSuccessCount(), result.getFailureCount());
 
                         long executionTime = System.currentTimeMillis() - startTime;
-                        auditLogger.logBulkMutationResult(operationId, successCount, failureCount, 
-                                List.of(), executionTime);
-
-                        return BulkRetryResult.builder()
-                                        .successCount(successCount)
-                                        .failureCount(failureCount)
-                                        .results(results)
-                                        .errors(List.of())
-                                        .build();
+                        auditLogger.logBulkMutationResult(operationId, result.getSuccessCount(),
+                                result.getFailureCount(), new ArrayList<>(result.getErrors()), executionTime);
+
+                        return result;
                 });
         }
 
@@ -621,8 +606,8 @@ public class RetryMutationResolver {
 
         /**
          * Acknowledges multiple exceptions in bulk with individual error handling.
-         * Processes each acknowledgment individually using the same business logic as
-         * REST API.
+         * Validation, state changes and audit rows are handled as set operations by
+         * {@link BulkMutationService}; results are still reported per transaction.
          *
          * @param input          the bulk acknowledgment input containing transaction
          *                       IDs and acknowledgment details
@@ -653,60 +638,24 @@ public class RetryMutationResolver {
                                 correlationId
                         );
 
-                        List<AcknowledgeExceptionResult> results = new ArrayList<>();
-                        int successCount = 0;
-                        int failureCount = 0;
-
-                        for (String transactionId : input.getTransactionIds()) {
-                                try {
-                                        AcknowledgeExceptionInput singleInput = AcknowledgeExceptionInput.builder()
-                                                        .transactionId(transactionId)
-                                                        .reason(input.getReason())
-                                                        .notes(input.getNotes())
-                                                        .build();
-
-                                        // Process each acknowledgment using the same logic as single acknowledgment
-                                        AcknowledgeExceptionResult result = acknowledgeException(singleInput,
-                                                        authentication).join();
-                                        results.add(result);
-
-                                        if (result.isSuccess()) {
-                                                successCount++;
-                                        } else {
-                                                failureCount++;
-                                        }
-
-                                } catch (Exception e) {
-                                        log.error("Bulk acknowledgment failed for transaction: {}, error: {}",
-                                                        transactionId, e.getMessage());
-
-                                        AcknowledgeExceptionResult failedResult = AcknowledgeExceptionResult.builder()
-                                                        .success(false)
-                                                        .errors(List.of(GraphQLError.builder()
-                                                                        .message("Failed to process acknowledgment for transaction: "
-                                                                                        + transactionId)
-                                                                        .code("BULK_ACKNOWLEDGMENT_ITEM_FAILED")
-                                                                        .build()))
-                                                        .build();
-
-                                        results.add(failedResult);
-                                        failureCount++;
-                                }
+                        BulkAcknowledgeResult result;
+                        try {
+                                result = bulkMutationService.bulkAcknowledge(input, authentication, correlationId);
+                        } catch (Exception e) {
+                                log.error("Bulk acknowledgment failed: {}", e.getMessage(), e);
+                                result = BulkAcknowledgeResult.failure(
+                                                GraphQLErrorHandler.createFromException(e, "bulk acknowledge"),
+                                                input.getTransactionIds().size());
                         }
 
-                        log.info("GraphQL bulk acknowledge completed: {} successful, {} failed", successCount,
-                                        failureCount);
+                        log.info("GraphQL bulk acknowledge completed: {} successful, {} failed",
+                                        result.getSuccessCount(), result.getFailureCount());
 
                         long executionTime = System.currentTimeMillis() - startTime;
-                        auditLogger.logBulkMutationResult(operationId, successCount, failureCount, 
-                                List.of(), executionTime);
-
-                        return BulkAcknowledgeResult.builder()
-                                        .successCount(successCount)
-                                        .failureCount(failureCount)
-                                        .results(results)
-                                        .errors(List.of())
-                                        .build();
+                        auditLogger.logBulkMutationResult(operationId, result.getSuccessCount(),
+                                result.getFailureCount(), new ArrayList<>(result.getErrors()), executionTime);
+
+                        return result;
                 });
         }
 
@@ -0,0 +1,494 @@
+package com.arcone.biopro.exception.collector.api.graphql.security;
+
+import com.arcone.biopro.exception.collector.domain.entity.MutationAuditLog;
+import com.arcone.biopro.exception.collector.infrastructure.config.MutationAuditProperties;
+import com.arcone.biopro.exception.collector.infrastructure.repository.BulkMutationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.dao.NonTransientDataAccessResourceException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes mutation audit log records off the mutation path.
+ *
+ * An attempt is held in memory until its result arrives and is then queued as a
+ * single complete row, so a mutation costs one insert instead of an insert, a
+ * lookup and an update. Queued rows are written in JDBC batches by a single
+ * writer thread whenever a batch is full or the flush interval has passed.
+ * Attempts whose result does not arrive within the pending timeout are written
+ * on their own and completed by an update once the result arrives.
+ *
+ * When the queue is full or a batch cannot be written, records are appended to
+ * a spill file as JSON lines and every following record goes there too until the
+ * writer has replayed the file, so records reach the table in the order they
+ * were queued. Spilled records the database keeps rejecting are moved to a
+ * rejected file next to it instead of blocking the replay.
+ */
+@Service
+@Slf4j
+public class MutationAuditWriter {
+
+    private final BulkMutationRepository repository;
+    private final ObjectMapper objectMapper;
+    private final MutationAuditProperties properties;
+    private final Map<String, MutationAuditLog> pending = new ConcurrentHashMap<>();
+    private final BlockingQueue<QueuedRecord> queue;
+    private final ScheduledExecutorService flusher;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Path spillFile;
+    private final Path replayFile;
+    private final Path rejectedFile;
+    private final Object spillLock = new Object();
+    private volatile boolean spilling;
+    private final AtomicLong spillBacklog = new AtomicLong();
+
+    private final Counter writtenCounter;
+    private final Counter spilledCounter;
+    private final Counter rejectedCounter;
+    private final Timer flushTimer;
+
+    public MutationAuditWriter(BulkMutationRepository repository,
+            ObjectMapper objectMapper,
+            MutationAuditProperties properties,
+            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.spillFile = Path.of(properties.getSpillFile());
+        this.replayFile = Path.of(properties.getSpillFile() + ".replay");
+        this.rejectedFile = Path.of(properties.getSpillFile() + ".rejected");
+        this.spillBacklog.set(countLines(spillFile) + countLines(replayFile));
+        this.spilling = Files.exists(spillFile) || Files.exists(replayFile);
+
+        Gauge.builder("mutation.audit.queue.depth", queue, BlockingQueue::size)
+                .description("Audit records waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("mutation.audit.queue.lag", this, MutationAuditWriter::getQueueLagSeconds)
+                .description("Seconds the oldest queued audit record has been waiting")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("mutation.audit.pending", pending, Map::size)
+                .description("Mutation attempts waiting for their result")
+                .register(meterRegistry);
+        Gauge.builder("mutation.audit.spill.backlog", spillBacklog, AtomicLong::get)
+                .description("Audit records in the spill file waiting to be replayed")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("mutation.audit.records.written")
+                .description("Audit records written to the database")
+                .register(meterRegistry);
+        this.spilledCounter = Counter.builder("mutation.audit.records.spilled")
+                .description("Audit records appended to the spill file")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("mutation.audit.records.rejected")
+                .description("Spilled audit records the database rejected, moved to the rejected file")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("mutation.audit.flush")
+                .description("Time taken to write queued audit records")
+                .register(meterRegistry);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mutation-audit-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = properties.getFlushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Holds a mutation attempt until its result is known.
+     *
+     * @param auditLog the attempt; its operation ID links it to the result
+     */
+    public void begin(MutationAuditLog auditLog) {
+        if (auditLog.getOperationId() == null) {
+            enqueue(new QueuedRecord(Kind.INSERT, auditLog));
+            return;
+        }
+        MutationAuditLog existing = pending.putIfAbsent(auditLog.getOperationId(), auditLog);
+        if (existing != null) {
+            // The first attempt keeps the link to the result; this one is written as it is
+            log.warn("Duplicate mutation audit operation ID, writing attempt without result: operationId={}",
+                    auditLog.getOperationId());
+            enqueue(new QueuedRecord(Kind.INSERT, auditLog));
+        }
+    }
+
+    /**
+     * Records the result of a mutation attempt and queues the audit row.
+     *
+     * @param operationId     the operation ID passed to {@link #begin}
+     * @param resultStatus    the result of the operation
+     * @param errorDetails    JSON error details, may be null
+     * @param executionTimeMs execution time in milliseconds
+     */
+    public void complete(String operationId, MutationAuditLog.ResultStatus resultStatus, String errorDetails,
+            int executionTimeMs) {
+        // Queued under the entry's lock, so a COMPLETE can never be queued ahead of the
+        // INSERT of an attempt that expires at the same time
+        pending.compute(operationId, (id, auditLog) -> {
+            if (auditLog != null) {
+                auditLog.setResultStatus(resultStatus);
+                auditLog.setErrorDetails(errorDetails);
+                auditLog.setExecutionTimeMs(executionTimeMs);
+                enqueue(new QueuedRecord(Kind.INSERT, auditLog));
+            } else {
+                // The attempt has already been written on its own, so only its result is left
+                enqueue(new QueuedRecord(Kind.COMPLETE, MutationAuditLog.builder()
+                        .operationId(operationId)
+                        .resultStatus(resultStatus)
+                        .errorDetails(errorDetails)
+                        .executionTimeMs(executionTimeMs)
+                        .build()));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Writes everything queued so far, replays the spill file and writes attempts
+     * that have waited longer than the pending timeout.
+     */
+    public synchronized void flush() {
+        Timer.Sample sample = Timer.start();
+        try {
+            expirePending(Instant.now().minus(properties.getPendingTimeout()));
+            drainQueue();
+            replaySpillFile();
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    /**
+     * Writes all attempts and queued records before shutdown; whatever cannot be
+     * written is left in the spill file for the next start.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        expirePending(Instant.MAX);
+        flush();
+    }
+
+    /**
+     * @return the number of audit records waiting to be written
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return seconds the oldest queued audit record has been waiting
+     */
+    public double getQueueLagSeconds() {
+        QueuedRecord oldest = queue.peek();
+        return oldest != null ? (System.nanoTime() - oldest.enqueuedAt) / 1e9 : 0;
+    }
+
+    private void enqueue(QueuedRecord record) {
+        if (spilling || !queue.offer(record)) {
+            spill(List.of(record));
+            return;
+        }
+        if (queue.size() >= properties.getBatchSize() && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(() -> {
+                flushRequested.set(false);
+                flushQuietly();
+            });
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Error flushing mutation audit records: {}", e.getMessage(), e);
+        }
+    }
+
+    private void expirePending(Instant cutoff) {
+        for (String operationId : pending.keySet()) {
+            pending.computeIfPresent(operationId, (id, auditLog) -> {
+                if (auditLog.getPerformedAt() != null && auditLog.getPerformedAt().isAfter(cutoff)) {
+                    return auditLog;
+                }
+                log.debug("Writing mutation audit attempt without result: operationId={}", id);
+                enqueue(new QueuedRecord(Kind.INSERT, auditLog));
+                return null;
+            });
+        }
+    }
+
+    private void drainQueue() {
+        // Records only enter the queue while nothing is spilled, so they are older than
+        // the spill file and are written first; if that fails they go ahead of it
+        List<QueuedRecord> unwritten = new ArrayList<>();
+        List<QueuedRecord> batch = new ArrayList<>(properties.getBatchSize());
+        while (queue.drainTo(batch, properties.getBatchSize()) > 0) {
+            if (!unwritten.isEmpty() || !write(batch)) {
+                unwritten.addAll(batch);
+            }
+            batch.clear();
+        }
+        if (!unwritten.isEmpty()) {
+            spill(unwritten, true);
+        }
+    }
+
+    private void replaySpillFile() {
+        while (true) {
+            List<String> lines;
+            try {
+                synchronized (spillLock) {
+                    if (!Files.exists(replayFile)) {
+                        if (!Files.exists(spillFile)) {
+                            spilling = false;
+                            return;
+                        }
+                        Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                    }
+                }
+                lines = Files.readAllLines(replayFile, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                log.error("Error reading mutation audit spill file {}: {}", replayFile, e.getMessage(), e);
+                return;
+            }
+
+            int written = 0;
+            while (written < lines.size()) {
+                List<String> chunk = lines.subList(written,
+                        Math.min(lines.size(), written + properties.getBatchSize()));
+                List<QueuedRecord> records = new ArrayList<>(chunk.size());
+                for (String line : chunk) {
+                    try {
+                        records.add(objectMapper.readValue(line, QueuedRecord.class));
+                    } catch (IOException e) {
+                        log.error("Skipping unreadable mutation audit spill record: {}", line, e);
+                    }
+                }
+                if (!write(records) && !writeIsolated(chunk)) {
+                    rewrite(replayFile, lines.subList(written, lines.size()));
+                    return;
+                }
+                written += chunk.size();
+                spillBacklog.addAndGet(-chunk.size());
+            }
+
+            try {
+                Files.deleteIfExists(replayFile);
+                log.info("Replayed {} mutation audit records from spill file", lines.size());
+            } catch (IOException e) {
+                log.error("Error deleting mutation audit replay file {}: {}", replayFile, e.getMessage(), e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes the spilled records of a failed batch one at a time, so a record the
+     * database always rejects does not hold back the spill file forever. A record
+     * is rejected when the database refuses its data, or when other records are
+     * written around it; rejected records are moved to the rejected file.
+     *
+     * @return false when the database still cannot be written to, leaving the
+     *         chunk in the spill file
+     */
+    private boolean writeIsolated(List<String> chunk) {
+        List<String> unavailable = new ArrayList<>();
+        List<String> rejected = new ArrayList<>();
+        boolean anyWritten = false;
+        for (String line : chunk) {
+            QueuedRecord record;
+            try {
+                record = objectMapper.readValue(line, QueuedRecord.class);
+            } catch (IOException e) {
+                continue;
+            }
+            Exception failure = tryWrite(List.of(record));
+            if (failure == null) {
+                anyWritten = true;
+            } else if (isDataRejection(failure)) {
+                rejected.add(line);
+            } else {
+                unavailable.add(line);
+            }
+        }
+        if (!anyWritten && rejected.isEmpty()) {
+            return false;
+        }
+        // Something went through, so the remaining failures are about the records themselves
+        rejected.addAll(unavailable);
+        if (!rejected.isEmpty()) {
+            reject(rejected);
+        }
+        return true;
+    }
+
+    /**
+     * Whether the database refused the data itself rather than being unreachable.
+     */
+    private static boolean isDataRejection(Exception e) {
+        return e instanceof NonTransientDataAccessException
+                && !(e instanceof NonTransientDataAccessResourceException);
+    }
+
+    private void reject(List<String> lines) {
+        log.error("Moving {} mutation audit records the database rejects to {}", lines.size(), rejectedFile);
+        try {
+            Files.write(rejectedFile, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+            rejectedCounter.increment(lines.size());
+        } catch (IOException e) {
+            log.error("Failed to move rejected mutation audit records to {}, records lost: {}",
+                    rejectedFile, lines, e);
+        }
+    }
+
+    private boolean write(List<QueuedRecord> records) {
+        return tryWrite(records) == null;
+    }
+
+    /**
+     * @return the failure, or null when the records were written
+     */
+    private Exception tryWrite(List<QueuedRecord> records) {
+        List<MutationAuditLog> inserts = new ArrayList<>();
+        List<MutationAuditLog> completions = new ArrayList<>();
+        for (QueuedRecord record : records) {
+            (record.kind == Kind.INSERT ? inserts : completions).add(record.auditLog);
+        }
+        try {
+            repository.insertAuditLogs(inserts);
+            int[] updated = repository.completeAuditLogs(completions);
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] == 0) {
+                    log.warn("No mutation audit log found to complete: operationId={}",
+                            completions.get(i).getOperationId());
+                }
+            }
+            writtenCounter.increment(records.size());
+            return null;
+        } catch (Exception e) {
+            log.warn("Failed to write {} mutation audit records, keeping them in the spill file: {}",
+                    records.size(), e.getMessage());
+            return e;
+        }
+    }
+
+    private void spill(List<QueuedRecord> records) {
+        spill(records, false);
+    }
+
+    /**
+     * Appends records to the spill file, or puts them ahead of everything already
+     * spilled when they are older.
+     */
+    private void spill(List<QueuedRecord> records, boolean ahead) {
+        List<String> lines = new ArrayList<>(records.size());
+        for (QueuedRecord record : records) {
+            try {
+                lines.add(objectMapper.writeValueAsString(record));
+            } catch (IOException e) {
+                log.error("Dropping mutation audit record that cannot be serialized: operationId={}",
+                        record.auditLog.getOperationId(), e);
+            }
+        }
+        synchronized (spillLock) {
+            spilling = true;
+            try {
+                Files.createDirectories(spillFile.toAbsolutePath().getParent());
+                Path oldest = Files.exists(replayFile) ? replayFile : spillFile;
+                if (ahead && Files.exists(oldest)) {
+                    List<String> existing = Files.readAllLines(oldest, StandardCharsets.UTF_8);
+                    lines.addAll(existing);
+                    rewrite(oldest, lines);
+                    lines = lines.subList(0, lines.size() - existing.size());
+                } else {
+                    Files.write(spillFile, lines, StandardCharsets.UTF_8,
+                            StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+                }
+                spillBacklog.addAndGet(lines.size());
+                spilledCounter.increment(lines.size());
+            } catch (IOException e) {
+                log.error("Failed to spill {} mutation audit records to {}, records lost: {}",
+                        lines.size(), spillFile, lines, e);
+            }
+        }
+    }
+
+    private static void rewrite(Path file, List<String> lines) {
+        try {
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("Error rewriting mutation audit spill file {}: {}", file, e.getMessage(), e);
+        }
+    }
+
+    private static long countLines(Path file) {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        try (var lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return lines.count();
+        } catch (IOException e) {
+            log.warn("Could not read mutation audit spill file {}: {}", file, e.getMessage());
+            return 0;
+        }
+    }
+
+    enum Kind {
+        /** A complete audit row, or an attempt whose result is not known yet */
+        INSERT,
+        /** The result of an attempt that has already been written */
+        COMPLETE
+    }
+
+    static final class QueuedRecord {
+
+        public Kind kind;
+        public MutationAuditLog auditLog;
+        final transient long enqueuedAt = System.nanoTime();
+
+        QueuedRecord() {
+        }
+
+        QueuedRecord(Kind kind, MutationAuditLog auditLog) {
+            this.kind = kind;
+            this.auditLog = auditLog;
+        }
+    }
+}
@@ -4,6 +4,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -67,6 +70,55 @@ public class QueryAllowlistConfig {
         return allowedQueryHashes.contains(queryHash);
     }
 
+    /**
+     * Calculates the allowlist hash of a query: the SHA-256 hex digest of the
+     * query with comments removed and whitespace normalized.
+     */
+    public static String queryHash(String query) {
+        return sha256Hex(normalizeQuery(query));
+    }
+
+    /**
+     * Calculates the SHA-256 hex digest of the given text.
+     */
+    public static String sha256Hex(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(text.getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder hexString = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                String hex = Integer.toHexString(0xff & b);
+                if (hex.length() == 1) {
+                    hexString.append('0');
+                }
+                hexString.append(hex);
+            }
+
+            return hexString.toString();
+        } catch (NoSuchAlgorithmException e) {
+            log.error("SHA-256 algorithm not available", e);
+            throw new RuntimeException("Unable to calculate query hash", e);
+        }
+    }
+
+    /**
+     * Normalizes a GraphQL query by removing extra whitespace and comments.
+     */
+    static String normalizeQuery(String query) {
+        if (query == null) {
+            return "";
+        }
+
+        // Remove comments
+        String normalized = query.replaceAll("#[^\r\n]*", "");
+
+        // Normalize whitespace
+        normalized = normalized.replaceAll("\\s+", " ").trim();
+
+        return normalized;
+    }
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -5,13 +5,12 @@ import graphql.execution.instrumentation.InstrumentationContext;
 import graphql.execution.instrumentation.InstrumentationState;
 import graphql.execution.instrumentation.SimpleInstrumentation;
 import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -54,8 +53,13 @@ public class QueryAllowlistInterceptor extends SimpleInstrumentation {
             return;
         }
 
-        String query = normalizeQuery(parameters.getQuery());
-        String queryHash = calculateQueryHash(query);
+        // Hash-only persisted queries are checked when their document is resolved
+        if (PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(parameters.getQuery())) {
+            return;
+        }
+
+        String query = QueryAllowlistConfig.normalizeQuery(parameters.getQuery());
+        String queryHash = QueryAllowlistConfig.sha256Hex(query);
 
         Set<String> allowedHashes = allowlistConfig.getAllowedQueryHashes();
 
@@ -69,45 +73,4 @@ public class QueryAllowlistInterceptor extends SimpleInstrumentation {
 
         log.debug("Query validated against allowlist. Hash: {}", queryHash);
     }
-
-    /**
-     * Normalizes a GraphQL query by removing extra whitespace and comments.
-     */
-    private String normalizeQuery(String query) {
-        if (query == null) {
-            return "";
-        }
-
-        // Remove comments
-        String normalized = query.replaceAll("#[^\r\n]*", "");
-
-        // Normalize whitespace
-        normalized = normalized.replaceAll("\\s+", " ").trim();
-
-        return normalized;
-    }
-
-    /**
-     * Calculates SHA-256 hash of the normalized query.
-     */
-    private String calculateQueryHash(String query) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(query.getBytes());
-
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
-
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            log.error("SHA-256 algorithm not available", e);
-            throw new RuntimeException("Unable to calculate query hash", e);
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,162 @@
+package com.arcone.biopro.exception.collector.api.graphql.security;
+
+import com.arcone.biopro.exception.collector.api.graphql.monitoring.GraphQLLoadMonitor;
+import com.arcone.biopro.exception.collector.infrastructure.config.QueryCostProperties;
+import graphql.ExecutionResult;
+import graphql.GraphqlErrorBuilder;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.analysis.QueryComplexityCalculator;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.language.OperationDefinition;
+import graphql.schema.GraphQLTypeUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Static query cost analysis and load shedding for GraphQL operations.
+ *
+ * The cost of an operation is calculated from the document before any field is
+ * fetched. Each field costs its configured weight (scalars cost nothing by
+ * default) plus the cost of its selections, multiplied by the requested page
+ * size for paginated fields, so fields that call external services inside large
+ * pages dominate the cost.
+ *
+ * Operations costing more than the current budget are rejected; the budget
+ * shrinks as the service comes under load (see {@link GraphQLLoadMonitor}).
+ * Expensive operations additionally share an in-flight cost budget and wait
+ * for it to drain, up to the queue timeout, before they are rejected.
+ * Subscriptions are not costed because they hold their resources for the
+ * lifetime of the connection.
+ */
+@Component
+@ConditionalOnProperty(name = "graphql.features.complexity-analysis-enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class QueryCostInstrumentation extends SimplePerformantInstrumentation {
+
+    static final String QUERY_COMPLEXITY_KEY = "queryComplexity";
+
+    private final QueryCostProperties properties;
+    private final GraphQLLoadMonitor loadMonitor;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore inFlightExpensiveCost;
+    private final DistributionSummary costSummary;
+
+    public QueryCostInstrumentation(QueryCostProperties properties, GraphQLLoadMonitor loadMonitor,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.loadMonitor = loadMonitor;
+        this.meterRegistry = meterRegistry;
+        this.inFlightExpensiveCost = new Semaphore(properties.getMaxInFlightExpensiveCost(), true);
+        this.costSummary = DistributionSummary.builder("graphql_query_cost")
+                .description("Static cost of GraphQL operations")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+            InstrumentationExecuteOperationParameters parameters,
+            InstrumentationState state) {
+
+        ExecutionContext executionContext = parameters.getExecutionContext();
+        if (executionContext.getOperationDefinition().getOperation() == OperationDefinition.Operation.SUBSCRIPTION) {
+            return SimpleInstrumentationContext.noOp();
+        }
+
+        int cost = calculateCost(executionContext);
+        costSummary.record(cost);
+        executionContext.getGraphQLContext().put(QUERY_COMPLEXITY_KEY, cost);
+
+        int budget = loadMonitor.currentBudget();
+        if (cost > budget) {
+            log.warn("Rejecting GraphQL operation '{}': cost {} exceeds budget {} (load pressure {})",
+                    executionContext.getExecutionInput().getOperationName(), cost, budget,
+                    loadMonitor.currentPressure());
+            throw reject("budget_exceeded", "QUERY_COST_EXCEEDED",
+                    String.format("Query cost %d exceeds the current limit of %d", cost, budget), cost, budget);
+        }
+
+        if (cost <= properties.getExpensiveCost()) {
+            return SimpleInstrumentationContext.noOp();
+        }
+
+        int permits = Math.min(cost, properties.getMaxInFlightExpensiveCost());
+        if (!acquire(permits)) {
+            log.warn("Rejecting GraphQL operation '{}': cost {} could not start within {}",
+                    executionContext.getExecutionInput().getOperationName(), cost, properties.getQueueTimeout());
+            throw reject("queue_timeout", "SERVICE_OVERLOADED",
+                    "Too many expensive queries are running, retry later", cost, budget);
+        }
+        return SimpleInstrumentationContext.whenCompleted((result, t) -> inFlightExpensiveCost.release(permits));
+    }
+
+    /**
+     * Calculates the static cost of the operation being executed.
+     */
+    int calculateCost(ExecutionContext executionContext) {
+        return QueryComplexityCalculator.newCalculator()
+                .schema(executionContext.getGraphQLSchema())
+                .document(executionContext.getDocument())
+                .operationName(executionContext.getExecutionInput().getOperationName())
+                .variables(executionContext.getCoercedVariables())
+                .fieldComplexityCalculator(this::fieldCost)
+                .build()
+                .calculate();
+    }
+
+    private int fieldCost(FieldComplexityEnvironment environment, int childCost) {
+        Integer weight = properties.weightOf(environment.getField().getName());
+        if (weight == null) {
+            weight = GraphQLTypeUtil.isLeaf(environment.getFieldDefinition().getType())
+                    ? 0
+                    : properties.getDefaultFieldWeight();
+        }
+        long cost = weight + (long) pageSize(environment.getArguments()) * childCost;
+        return (int) Math.min(Integer.MAX_VALUE, cost);
+    }
+
+    private int pageSize(Map<String, Object> arguments) {
+        if (!(arguments.get("pagination") instanceof Map<?, ?> pagination)) {
+            return 1;
+        }
+        Object size = pagination.get("first") != null ? pagination.get("first") : pagination.get("last");
+        return size instanceof Number number ? Math.max(1, number.intValue()) : properties.getDefaultPageSize();
+    }
+
+    private boolean acquire(int permits) {
+        try {
+            return inFlightExpensiveCost.tryAcquire(permits,
+                    properties.getQueueTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private AbortExecutionException reject(String reason, String code, String message, int cost, int budget) {
+        Counter.builder("graphql_query_cost_rejected_total")
+                .description("GraphQL operations rejected by query cost analysis")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+
+        return new AbortExecutionException(List.of(GraphqlErrorBuilder.newError()
+                .message(message)
+                .extensions(Map.of("code", code, "cost", cost, "budget", budget))
+                .build()));
+    }
+}
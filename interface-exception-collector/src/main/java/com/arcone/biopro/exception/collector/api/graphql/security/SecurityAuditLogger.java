@@ -1,7 +1,6 @@
 package com.arcone.biopro.exception.collector.api.graphql.security;
 
 import com.arcone.biopro.exception.collector.domain.entity.MutationAuditLog;
-import com.arcone.biopro.exception.collector.infrastructure.repository.MutationAuditLogRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import graphql.ExecutionResult;
@@ -29,6 +28,8 @@ import java.util.concurrent.CompletableFuture;
  * Security audit logging for all GraphQL operations.
  * Logs authentication, authorization, and operation details for security monitoring.
  * Enhanced to support comprehensive mutation audit logging with database persistence.
+ * Mutation audit records are handed to {@link MutationAuditWriter}, which writes
+ * each attempt together with its result asynchronously.
  * 
  * Requirements: 5.3, 5.5, 6.4
  */
@@ -38,7 +39,7 @@ import java.util.concurrent.CompletableFuture;
 public class SecurityAuditLogger extends SimpleInstrumentation {
 
     private final ObjectMapper objectMapper;
-    private final MutationAuditLogRepository auditLogRepository;
+    private final MutationAuditWriter auditWriter;
 
     // List of mutation operations that require detailed audit logging
     private static final List<String> MUTATION_OPERATIONS = List.of(
@@ -243,7 +244,7 @@ public class SecurityAuditLogger extends SimpleInstrumentation {
                 .userAgent(getCurrentUserAgent())
                 .build();
 
-            auditLogRepository.save(auditLog);
+            auditWriter.begin(auditLog);
             
             log.info("Mutation audit logged: operation={}, transactionId={}, user={}, operationId={}", 
                 operationType, transactionId, performedBy, operationId);
@@ -267,31 +268,15 @@ public class SecurityAuditLogger extends SimpleInstrumentation {
                                  List<Object> errors,
                                  long executionTimeMs) {
         try {
-            // Find the existing audit log entry by operation ID
-            List<MutationAuditLog> existingLogs = auditLogRepository.findByOperationIdOrderByPerformedAtAsc(operationId);
+            String errorJson = errors != null && !errors.isEmpty() ? objectMapper.writeValueAsString(errors) : null;
+
+            auditWriter.complete(operationId,
+                success ? MutationAuditLog.ResultStatus.SUCCESS : MutationAuditLog.ResultStatus.FAILURE,
+                errorJson,
+                (int) executionTimeMs);
             
-            if (!existingLogs.isEmpty()) {
-                MutationAuditLog auditLog = existingLogs.get(0); // Get the first (should be only one)
-                
-                // Update with result information
-                auditLog.setResultStatus(success ? 
-                    MutationAuditLog.ResultStatus.SUCCESS : 
-                    MutationAuditLog.ResultStatus.FAILURE);
-                
-                if (errors != null && !errors.isEmpty()) {
-                    String errorJson = objectMapper.writeValueAsString(errors);
-                    auditLog.setErrorDetails(errorJson);
-                }
-                
-                auditLog.setExecutionTimeMs((int) executionTimeMs);
-                
-                auditLogRepository.save(auditLog);
-                
-                log.info("Mutation result logged: operationId={}, success={}, executionTime={}ms", 
-                    operationId, success, executionTimeMs);
-            } else {
-                log.warn("No existing audit log found for operationId: {}", operationId);
-            }
+            log.info("Mutation result logged: operationId={}, success={}, executionTime={}ms", 
+                operationId, success, executionTimeMs);
             
         } catch (Exception e) {
             log.error("Failed to log mutation result: operationId={}, error={}", 
@@ -314,43 +299,32 @@ public class SecurityAuditLogger extends SimpleInstrumentation {
                                      List<Object> errors,
                                      long executionTimeMs) {
         try {
-            List<MutationAuditLog> existingLogs = auditLogRepository.findByOperationIdOrderByPerformedAtAsc(operationId);
+            // Determine result status based on success/failure counts
+            MutationAuditLog.ResultStatus resultStatus;
+            if (failureCount == 0) {
+                resultStatus = MutationAuditLog.ResultStatus.SUCCESS;
+            } else if (successCount == 0) {
+                resultStatus = MutationAuditLog.ResultStatus.FAILURE;
+            } else {
+                resultStatus = MutationAuditLog.ResultStatus.PARTIAL_SUCCESS;
+            }
             
-            if (!existingLogs.isEmpty()) {
-                MutationAuditLog auditLog = existingLogs.get(0);
-                
-                // Determine result status based on success/failure counts
-                MutationAuditLog.ResultStatus resultStatus;
-                if (failureCount == 0) {
-                    resultStatus = MutationAuditLog.ResultStatus.SUCCESS;
-                } else if (successCount == 0) {
-                    resultStatus = MutationAuditLog.ResultStatus.FAILURE;
-                } else {
-                    resultStatus = MutationAuditLog.ResultStatus.PARTIAL_SUCCESS;
-                }
-                
-                auditLog.setResultStatus(resultStatus);
-                
-                // Create summary of bulk operation results
-                Map<String, Object> resultSummary = new HashMap<>();
-                resultSummary.put("successCount", successCount);
-                resultSummary.put("failureCount", failureCount);
-                resultSummary.put("totalCount", successCount + failureCount);
-                
-                if (errors != null && !errors.isEmpty()) {
-                    resultSummary.put("errors", errors);
-                }
-                
-                String resultJson = objectMapper.writeValueAsString(resultSummary);
-                auditLog.setErrorDetails(resultJson);
-                auditLog.setExecutionTimeMs((int) executionTimeMs);
-                
-                auditLogRepository.save(auditLog);
-                
-                log.info("Bulk mutation result logged: operationId={}, success={}, failure={}, executionTime={}ms", 
-                    operationId, successCount, failureCount, executionTimeMs);
+            // Create summary of bulk operation results
+            Map<String, Object> resultSummary = new HashMap<>();
+            resultSummary.put("successCount", successCount);
+            resultSummary.put("failureCount", failureCount);
+            resultSummary.put("totalCount", successCount + failureCount);
+            
+            if (errors != null && !errors.isEmpty()) {
+                resultSummary.put("errors", errors);
             }
             
+            String resultJson = objectMapper.writeValueAsString(resultSummary);
+            auditWriter.complete(operationId, resultStatus, resultJson, (int) executionTimeMs);
+            
+            log.info("Bulk mutation result logged: operationId={}, success={}, failure={}, executionTime={}ms", 
+                operationId, successCount, failureCount, executionTimeMs);
+            
         } catch (Exception e) {
             log.error("Failed to log bulk mutation result: operationId={}, error={}", 
                 operationId, e.getMessage(), e);
@@ -390,11 +364,15 @@ public class SecurityAuditLogger extends SimpleInstrumentation {
     }
 
     /**
-     * Generates a unique operation ID for tracking mutation operations.
+     * Generates a unique operation ID for tracking mutation operations. The random
+     * suffix keeps IDs unique for operations on the same transaction in the same
+     * millisecond, which the audit writer relies on to match results to attempts.
      */
     public String generateOperationId(String operationType, String transactionId) {
-        return String.format("%s_%s_%d", operationType.toUpperCase(), 
-            transactionId.replaceAll("[^a-zA-Z0-9]", ""), System.currentTimeMillis());
+        String transactionPart = transactionId.replaceAll("[^a-zA-Z0-9]", "");
+        return String.format("%s_%s_%s", operationType.toUpperCase(),
+            transactionPart.substring(0, Math.min(transactionPart.length(), 40)),
+            UUID.randomUUID().toString().replace("-", ""));
     }
 
     /**
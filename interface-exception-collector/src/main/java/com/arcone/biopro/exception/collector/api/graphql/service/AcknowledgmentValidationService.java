@@ -5,9 +5,9 @@ import com.arcone.biopro.exception.collector.api.graphql.dto.GraphQLError;
 import com.arcone.biopro.exception.collector.api.graphql.validation.GraphQLErrorHandler;
 import com.arcone.biopro.exception.collector.api.graphql.validation.MutationErrorCode;
 import com.arcone.biopro.exception.collector.api.graphql.validation.ValidationResult;
-import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
-import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.ExceptionStateSnapshot;
+import com.arcone.biopro.exception.collector.infrastructure.service.ExceptionStateCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -33,7 +33,7 @@ import java.util.stream.Collectors;
 @Slf4j
 public class AcknowledgmentValidationService {
 
-    private final InterfaceExceptionRepository exceptionRepository;
+    private final ExceptionStateCache exceptionStateCache;
 
     // Validation constants
     private static final int MAX_REASON_LENGTH = 500;
@@ -67,7 +67,7 @@ public class AcknowledgmentValidationService {
         }
 
         // Find and validate the exception
-        Optional<InterfaceException> exceptionOpt = exceptionRepository.findByTransactionId(input.getTransactionId());
+        Optional<ExceptionStateSnapshot> exceptionOpt = exceptionStateCache.get(input.getTransactionId());
         if (exceptionOpt.isEmpty()) {
             errors.add(GraphQLErrorHandler.createNotFoundError(
                     MutationErrorCode.EXCEPTION_NOT_FOUND, 
@@ -75,7 +75,7 @@ public class AcknowledgmentValidationService {
             return ValidationResult.failure("acknowledge", input.getTransactionId(), errors);
         }
 
-        InterfaceException exception = exceptionOpt.get();
+        ExceptionStateSnapshot exception = exceptionOpt.get();
 
         // Validate business rules for acknowledgment
         validateAcknowledgmentBusinessRules(exception, errors);
@@ -90,6 +90,26 @@ public class AcknowledgmentValidationService {
         }
     }
 
+    /**
+     * Validates acknowledgment input format and user permissions without looking
+     * up the exception. Used by bulk acknowledgment, which validates the state of
+     * all exceptions with a single query.
+     *
+     * @param input          the acknowledgment input to validate
+     * @param authentication the user authentication context
+     * @return ValidationResult with detailed error information
+     */
+    public ValidationResult validateAcknowledgmentInput(AcknowledgeExceptionInput input, Authentication authentication) {
+        List<GraphQLError> errors = new ArrayList<>();
+
+        validateAcknowledgmentInputFormat(input, errors);
+        validateUserPermissions(authentication, "acknowledge", errors);
+
+        return errors.isEmpty()
+                ? ValidationResult.success("acknowledge", input.getTransactionId())
+                : ValidationResult.failure("acknowledge", input.getTransactionId(), errors);
+    }
+
     /**
      * Legacy validation method for backward compatibility.
      * @deprecated Use validateAcknowledgmentOperation instead
@@ -260,7 +280,7 @@ public class AcknowledgmentValidationService {
     /**
      * Validates business rules for acknowledgment operations.
      */
-    private void validateAcknowledgmentBusinessRules(InterfaceException exception, List<GraphQLError> errors) {
+    private void validateAcknowledgmentBusinessRules(ExceptionStateSnapshot exception, List<GraphQLError> errors) {
         // Check if already resolved
         if (exception.getStatus() == ExceptionStatus.RESOLVED) {
             errors.add(GraphQLErrorHandler.createBusinessRuleError(
@@ -277,8 +297,8 @@ public class AcknowledgmentValidationService {
 
         // Allow re-acknowledgment but log it
         if (exception.getStatus() == ExceptionStatus.ACKNOWLEDGED) {
-            log.info("Re-acknowledging exception {} that is already acknowledged by: {}", 
-                    exception.getTransactionId(), exception.getAcknowledgedBy());
+            log.info("Re-acknowledging exception {} that is already acknowledged", 
+                    exception.getTransactionId());
         }
 
         // Validate exception is not too old (business rule)
@@ -342,13 +362,13 @@ public class AcknowledgmentValidationService {
      */
     @Deprecated
     private void validateExceptionState(String transactionId) {
-        Optional<InterfaceException> exceptionOpt = exceptionRepository.findByTransactionId(transactionId);
+        Optional<ExceptionStateSnapshot> exceptionOpt = exceptionStateCache.get(transactionId);
         
         if (exceptionOpt.isEmpty()) {
             throw new IllegalArgumentException("Exception not found with transaction ID: " + transactionId);
         }
 
-        InterfaceException exception = exceptionOpt.get();
+        ExceptionStateSnapshot exception = exceptionOpt.get();
         List<GraphQLError> errors = new ArrayList<>();
         validateAcknowledgmentBusinessRules(exception, errors);
         
@@ -0,0 +1,428 @@
+package com.arcone.biopro.exception.collector.api.graphql.service;
+
+import com.arcone.biopro.exception.collector.api.dto.RetryRequest;
+import com.arcone.biopro.exception.collector.api.graphql.dto.AcknowledgeExceptionInput;
+import com.arcone.biopro.exception.collector.api.graphql.dto.AcknowledgeExceptionResult;
+import com.arcone.biopro.exception.collector.api.graphql.dto.BulkAcknowledgeInput;
+import com.arcone.biopro.exception.collector.api.graphql.dto.BulkAcknowledgeResult;
+import com.arcone.biopro.exception.collector.api.graphql.dto.BulkRetryInput;
+import com.arcone.biopro.exception.collector.api.graphql.dto.BulkRetryResult;
+import com.arcone.biopro.exception.collector.api.graphql.dto.GraphQLError;
+import com.arcone.biopro.exception.collector.api.graphql.dto.RetryExceptionInput;
+import com.arcone.biopro.exception.collector.api.graphql.dto.RetryExceptionResult;
+import com.arcone.biopro.exception.collector.api.graphql.security.SecurityAuditLogger;
+import com.arcone.biopro.exception.collector.api.graphql.validation.GraphQLErrorHandler;
+import com.arcone.biopro.exception.collector.api.graphql.validation.MutationErrorCode;
+import com.arcone.biopro.exception.collector.api.graphql.validation.ValidationResult;
+import com.arcone.biopro.exception.collector.application.service.CacheEvictionService;
+import com.arcone.biopro.exception.collector.application.service.RetryService;
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.domain.entity.MutationAuditLog;
+import com.arcone.biopro.exception.collector.domain.entity.RetryAttempt;
+import com.arcone.biopro.exception.collector.domain.enums.RetryStatus;
+import com.arcone.biopro.exception.collector.infrastructure.monitoring.MutationMetrics;
+import com.arcone.biopro.exception.collector.infrastructure.repository.BulkMutationRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.RetryAttemptRepository;
+import com.arcone.biopro.exception.collector.infrastructure.service.OptimizedMutationValidationService;
+import com.arcone.biopro.exception.collector.infrastructure.service.OptimizedMutationValidationService.BatchValidationResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Executes bulk retry and bulk acknowledgment as set operations.
+ *
+ * The shared input is validated once and the state of all exceptions is read
+ * with one batch validation query. State transitions are single UPDATE
+ * statements over the remaining transaction IDs, retry attempts are inserted
+ * with one statement, and the per-item audit rows are written as one JDBC batch,
+ * all in one transaction. Caches are invalidated once for the whole set, and a
+ * single bulk completion event and dashboard trigger are published. Callers
+ * still get one result per transaction ID, in input order.
+ */
+@Service
+@Slf4j
+public class BulkMutationService {
+
+    private final OptimizedMutationValidationService batchValidationService;
+    private final RetryValidationService retryValidationService;
+    private final AcknowledgmentValidationService acknowledgmentValidationService;
+    private final BulkMutationRepository bulkMutationRepository;
+    private final InterfaceExceptionRepository exceptionRepository;
+    private final RetryAttemptRepository retryAttemptRepository;
+    private final RetryService retryService;
+    private final CacheEvictionService cacheEvictionService;
+    private final MutationEventPublisher mutationEventPublisher;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final SecurityAuditLogger auditLogger;
+    private final MutationMetrics mutationMetrics;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public BulkMutationService(OptimizedMutationValidationService batchValidationService,
+            RetryValidationService retryValidationService,
+            AcknowledgmentValidationService acknowledgmentValidationService,
+            BulkMutationRepository bulkMutationRepository,
+            InterfaceExceptionRepository exceptionRepository,
+            RetryAttemptRepository retryAttemptRepository,
+            RetryService retryService,
+            CacheEvictionService cacheEvictionService,
+            MutationEventPublisher mutationEventPublisher,
+            ApplicationEventPublisher applicationEventPublisher,
+            SecurityAuditLogger auditLogger,
+            MutationMetrics mutationMetrics,
+            ObjectMapper objectMapper,
+            @Qualifier("mutationBatchTransactionTemplate") TransactionTemplate transactionTemplate) {
+        this.batchValidationService = batchValidationService;
+        this.retryValidationService = retryValidationService;
+        this.acknowledgmentValidationService = acknowledgmentValidationService;
+        this.bulkMutationRepository = bulkMutationRepository;
+        this.exceptionRepository = exceptionRepository;
+        this.retryAttemptRepository = retryAttemptRepository;
+        this.retryService = retryService;
+        this.cacheEvictionService = cacheEvictionService;
+        this.mutationEventPublisher = mutationEventPublisher;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.auditLogger = auditLogger;
+        this.mutationMetrics = mutationMetrics;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Acknowledges a set of exceptions.
+     *
+     * @param input          the bulk acknowledgment input
+     * @param authentication the current user authentication
+     * @param correlationId  correlation ID of the bulk operation, recorded on every audit row
+     * @return per-item results and success/failure counts
+     */
+    public BulkAcknowledgeResult bulkAcknowledge(BulkAcknowledgeInput input, Authentication authentication,
+            String correlationId) {
+        long startTime = System.currentTimeMillis();
+        List<String> transactionIds = input.getTransactionIds();
+        String performedBy = authentication.getName();
+
+        ValidationResult requestValidation = acknowledgmentValidationService
+                .validateBulkAcknowledgmentOperation(transactionIds, authentication);
+        if (requestValidation.isValid()) {
+            requestValidation = acknowledgmentValidationService.validateAcknowledgmentInput(
+                    acknowledgeInput(input, transactionIds.get(0)), authentication);
+        }
+        if (!requestValidation.isValid()) {
+            return BulkAcknowledgeResult.builder()
+                    .successCount(0)
+                    .failureCount(transactionIds != null ? transactionIds.size() : 0)
+                    .errors(requestValidation.getErrors())
+                    .build();
+        }
+
+        Map<String, Timer.Sample> samples = startSamples(transactionIds, mutationMetrics::startAcknowledgeOperation);
+        Map<String, BatchValidationResult> states = validateStates(transactionIds);
+        Map<String, GraphQLError> failures = new HashMap<>();
+        List<String> candidates = new ArrayList<>();
+        for (String transactionId : transactionIds) {
+            BatchValidationResult state = states.get(transactionId);
+            if (state == null) {
+                failures.put(transactionId,
+                        GraphQLErrorHandler.createNotFoundError(MutationErrorCode.EXCEPTION_NOT_FOUND, transactionId));
+            } else if (!Boolean.TRUE.equals(state.getCanAcknowledge())) {
+                failures.put(transactionId, GraphQLErrorHandler.createBusinessRuleError(
+                        MutationErrorCode.INVALID_STATUS_TRANSITION,
+                        "Exception status does not allow acknowledgment: " + state.getStatus()));
+            } else {
+                candidates.add(transactionId);
+            }
+        }
+
+        String notes = buildAcknowledgmentNotes(input);
+        OffsetDateTime acknowledgedAt = OffsetDateTime.now();
+        Set<String> acknowledged = transactionTemplate.execute(status -> {
+            Set<String> updated = candidates.isEmpty() ? Set.of()
+                    : bulkMutationRepository.acknowledge(candidates,
+                            batchValidationService.getAcknowledgeableStatuses(), performedBy, notes, acknowledgedAt);
+            recordConcurrentChanges(candidates, updated, failures);
+            bulkMutationRepository.insertAuditLogs(auditLogs(MutationAuditLog.OperationType.ACKNOWLEDGE,
+                    transactionIds, failures, performedBy, correlationId, startTime,
+                    transactionId -> acknowledgeInput(input, transactionId)));
+            return updated;
+        });
+
+        Map<String, InterfaceException> exceptions = loadExceptions(acknowledged);
+        cacheEvictionService.evictCachesOnBulkUpdate(exceptions.values());
+        exceptions.values().forEach(exception -> applicationEventPublisher.publishEvent(
+                new SubscriptionEventBridge.ExceptionAcknowledgedEvent(exception, performedBy)));
+
+        List<AcknowledgeExceptionResult> results = new ArrayList<>(transactionIds.size());
+        for (String transactionId : transactionIds) {
+            GraphQLError error = failures.get(transactionId);
+            InterfaceException exception = exceptions.get(transactionId);
+            boolean success = error == null && exception != null;
+            mutationMetrics.recordAcknowledgeOperation(samples.get(transactionId), success,
+                    success ? null : "BUSINESS_RULE_ERROR");
+            results.add(success
+                    ? AcknowledgeExceptionResult.builder().success(true).exception(exception).errors(List.of()).build()
+                    : AcknowledgeExceptionResult.builder().success(false).errors(List.of(errorOrMissing(error, transactionId))).build());
+        }
+
+        BulkAcknowledgeResult result = BulkAcknowledgeResult.fromResults(results);
+        mutationEventPublisher.publishBulkMutationCompleted(MutationEventPublisher.MutationType.BULK_ACKNOWLEDGE,
+                transactionIds.size(), result.getSuccessCount(), result.getFailureCount(), performedBy);
+
+        log.info("Bulk acknowledgment of {} exceptions completed in {}ms: {} successful, {} failed",
+                transactionIds.size(), System.currentTimeMillis() - startTime,
+                result.getSuccessCount(), result.getFailureCount());
+        return result;
+    }
+
+    /**
+     * Initiates retries for a set of exceptions. The retries themselves run
+     * asynchronously, as for a single retry.
+     *
+     * @param input          the bulk retry input
+     * @param authentication the current user authentication
+     * @param correlationId  correlation ID of the bulk operation, recorded on every audit row
+     * @return per-item results and success/failure counts
+     */
+    public BulkRetryResult bulkRetry(BulkRetryInput input, Authentication authentication, String correlationId) {
+        long startTime = System.currentTimeMillis();
+        List<String> transactionIds = input.getTransactionIds();
+        String performedBy = authentication.getName();
+
+        ValidationResult requestValidation = retryValidationService.validateBulkRetryRequest(transactionIds,
+                authentication);
+        if (requestValidation.isValid()) {
+            requestValidation = retryValidationService.validateRetryInput(
+                    retryInput(input, transactionIds.get(0)), authentication);
+        }
+        if (!requestValidation.isValid()) {
+            return BulkRetryResult.builder()
+                    .successCount(0)
+                    .failureCount(transactionIds != null ? transactionIds.size() : 0)
+                    .errors(requestValidation.getErrors())
+                    .build();
+        }
+
+        Map<String, Timer.Sample> samples = startSamples(transactionIds, mutationMetrics::startRetryOperation);
+        Map<String, BatchValidationResult> states = validateStates(transactionIds);
+        Map<String, GraphQLError> failures = new HashMap<>();
+        List<String> candidates = new ArrayList<>();
+        for (String transactionId : transactionIds) {
+            GraphQLError error = retryError(transactionId, states.get(transactionId));
+            if (error != null) {
+                failures.put(transactionId, error);
+            } else {
+                candidates.add(transactionId);
+            }
+        }
+
+        OffsetDateTime initiatedAt = OffsetDateTime.now();
+        Set<String> started = transactionTemplate.execute(status -> {
+            Map<String, Long> startedIds = candidates.isEmpty() ? Map.of()
+                    : bulkMutationRepository.startRetries(candidates,
+                            batchValidationService.getRetryableStatuses(), performedBy, initiatedAt);
+            if (!startedIds.isEmpty()) {
+                bulkMutationRepository.insertPendingRetryAttempts(startedIds.values(), performedBy, initiatedAt);
+            }
+            recordConcurrentChanges(candidates, startedIds.keySet(), failures);
+            bulkMutationRepository.insertAuditLogs(auditLogs(MutationAuditLog.OperationType.RETRY,
+                    transactionIds, failures, performedBy, correlationId, startTime,
+                    transactionId -> retryInput(input, transactionId)));
+            return startedIds.keySet();
+        });
+
+        Map<String, InterfaceException> exceptions = loadExceptions(started);
+        Map<Long, RetryAttempt> attempts = exceptions.isEmpty() ? Map.of()
+                : retryAttemptRepository.findByInterfaceExceptionInAndStatus(
+                                new ArrayList<>(exceptions.values()), RetryStatus.PENDING).stream()
+                        .collect(Collectors.toMap(attempt -> attempt.getInterfaceException().getId(),
+                                Function.identity(), (first, second) -> first));
+        cacheEvictionService.evictCachesOnBulkUpdate(exceptions.values());
+
+        RetryRequest retryRequest = RetryRequest.builder()
+                .reason(input.getReason())
+                .priority(input.getPriority() != null
+                        ? input.getPriority().name()
+                        : RetryExceptionInput.RetryPriority.NORMAL.name())
+                .initiatedBy(performedBy)
+                .build();
+        List<RetryExceptionResult> results = new ArrayList<>(transactionIds.size());
+        for (String transactionId : transactionIds) {
+            GraphQLError error = failures.get(transactionId);
+            InterfaceException exception = exceptions.get(transactionId);
+            RetryAttempt retryAttempt = exception != null ? attempts.get(exception.getId()) : null;
+            boolean success = error == null && retryAttempt != null;
+            if (success) {
+                applicationEventPublisher.publishEvent(
+                        new SubscriptionEventBridge.RetryInitiatedEvent(exception, retryAttempt, performedBy));
+                retryService.performRetryAsync(exception, retryAttempt, retryRequest);
+            }
+            mutationMetrics.recordRetryOperation(samples.get(transactionId), success,
+                    success ? null : "BUSINESS_RULE_ERROR");
+            results.add(success
+                    ? RetryExceptionResult.builder().success(true).exception(exception).retryAttempt(retryAttempt)
+                            .errors(List.of()).build()
+                    : RetryExceptionResult.builder().success(false)
+                            .errors(List.of(errorOrMissing(error, transactionId))).build());
+        }
+
+        int successCount = (int) results.stream().filter(RetryExceptionResult::isSuccess).count();
+        int failureCount = results.size() - successCount;
+        mutationEventPublisher.publishBulkMutationCompleted(MutationEventPublisher.MutationType.BULK_RETRY,
+                transactionIds.size(), successCount, failureCount, performedBy);
+
+        log.info("Bulk retry of {} exceptions initiated in {}ms: {} successful, {} failed",
+                transactionIds.size(), System.currentTimeMillis() - startTime, successCount, failureCount);
+        return BulkRetryResult.builder()
+                .successCount(successCount)
+                .failureCount(failureCount)
+                .results(results)
+                .errors(List.of())
+                .build();
+    }
+
+    private Map<String, BatchValidationResult> validateStates(List<String> transactionIds) {
+        return batchValidationService.validateBatchOperations(transactionIds).stream()
+                .collect(Collectors.toMap(BatchValidationResult::getTransactionId, Function.identity(),
+                        (first, second) -> first));
+    }
+
+    /**
+     * Maps the batch validation state of one exception to the error a single
+     * retry would report, or null when it can be retried.
+     */
+    static GraphQLError retryError(String transactionId, BatchValidationResult state) {
+        if (state == null) {
+            return GraphQLErrorHandler.createNotFoundError(MutationErrorCode.EXCEPTION_NOT_FOUND, transactionId);
+        }
+        if (Boolean.TRUE.equals(state.getCanRetry())) {
+            return null;
+        }
+        if (!Boolean.TRUE.equals(state.getRetryable())) {
+            return GraphQLErrorHandler.createBusinessRuleError(MutationErrorCode.NOT_RETRYABLE);
+        }
+        if (Boolean.TRUE.equals(state.getPendingRetry())) {
+            return GraphQLErrorHandler.createBusinessRuleError(MutationErrorCode.PENDING_RETRY_EXISTS);
+        }
+        if (state.getRetryCount() != null && state.getMaxRetries() != null
+                && state.getRetryCount() >= state.getMaxRetries()) {
+            return GraphQLErrorHandler.createBusinessRuleError(MutationErrorCode.RETRY_LIMIT_EXCEEDED,
+                    "Maximum retry attempts exceeded: " + state.getRetryCount() + "/" + state.getMaxRetries());
+        }
+        return GraphQLErrorHandler.createBusinessRuleError(MutationErrorCode.INVALID_STATUS_TRANSITION,
+                "Exception status does not allow retry: " + state.getStatus());
+    }
+
+    /**
+     * Candidates that passed validation but were not updated changed state in the meantime.
+     */
+    private static void recordConcurrentChanges(List<String> candidates, Set<String> updated,
+            Map<String, GraphQLError> failures) {
+        for (String transactionId : candidates) {
+            if (!updated.contains(transactionId)) {
+                failures.put(transactionId, GraphQLErrorHandler.createConcurrentModificationError(
+                        MutationErrorCode.CONCURRENT_MODIFICATION,
+                        "Exception was modified by another operation: " + transactionId));
+            }
+        }
+    }
+
+    private Map<String, InterfaceException> loadExceptions(Set<String> transactionIds) {
+        if (transactionIds == null || transactionIds.isEmpty()) {
+            return Map.of();
+        }
+        return exceptionRepository.findByTransactionIdIn(transactionIds).stream()
+                .collect(Collectors.toMap(InterfaceException::getTransactionId, Function.identity()));
+    }
+
+    private List<MutationAuditLog> auditLogs(MutationAuditLog.OperationType operationType,
+            List<String> transactionIds, Map<String, GraphQLError> failures, String performedBy,
+            String correlationId, long startTime, Function<String, Object> itemInput) {
+        Instant performedAt = Instant.now();
+        int executionTime = (int) (System.currentTimeMillis() - startTime);
+        List<MutationAuditLog> auditLogs = new ArrayList<>(transactionIds.size());
+        for (String transactionId : transactionIds) {
+            GraphQLError error = failures.get(transactionId);
+            auditLogs.add(MutationAuditLog.builder()
+                    .operationType(operationType)
+                    .transactionId(transactionId)
+                    .performedBy(performedBy)
+                    .performedAt(performedAt)
+                    .inputData(toJson(itemInput.apply(transactionId)))
+                    .resultStatus(error == null ? MutationAuditLog.ResultStatus.SUCCESS
+                            : MutationAuditLog.ResultStatus.FAILURE)
+                    .errorDetails(error != null ? toJson(List.of(error)) : null)
+                    .executionTimeMs(executionTime)
+                    .operationId(auditLogger.generateOperationId(operationType.name(), transactionId))
+                    .correlationId(correlationId)
+                    .build());
+        }
+        return auditLogs;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize audit data: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static Map<String, Timer.Sample> startSamples(List<String> transactionIds,
+            java.util.function.Supplier<Timer.Sample> start) {
+        Map<String, Timer.Sample> samples = new LinkedHashMap<>();
+        transactionIds.forEach(transactionId -> samples.put(transactionId, start.get()));
+        return samples;
+    }
+
+    private static GraphQLError errorOrMissing(GraphQLError error, String transactionId) {
+        return error != null ? error
+                : GraphQLErrorHandler.createNotFoundError(MutationErrorCode.EXCEPTION_NOT_FOUND, transactionId);
+    }
+
+    private static AcknowledgeExceptionInput acknowledgeInput(BulkAcknowledgeInput input, String transactionId) {
+        return AcknowledgeExceptionInput.builder()
+                .transactionId(transactionId)
+                .reason(input.getReason())
+                .notes(input.getNotes())
+                .build();
+    }
+
+    private static RetryExceptionInput retryInput(BulkRetryInput input, String transactionId) {
+        return RetryExceptionInput.builder()
+                .transactionId(transactionId)
+                .reason(input.getReason())
+                .priority(input.getPriority())
+                .build();
+    }
+
+    private static String buildAcknowledgmentNotes(BulkAcknowledgeInput input) {
+        StringBuilder notes = new StringBuilder();
+        notes.append("Reason: ").append(input.getReason());
+
+        if (input.getNotes() != null && !input.getNotes().trim().isEmpty()) {
+            notes.append("\nNotes: ").append(input.getNotes());
+        }
+
+        return notes.toString();
+    }
+}
@@ -4,12 +4,10 @@ import com.arcone.biopro.exception.collector.api.graphql.dto.GraphQLError;
 import com.arcone.biopro.exception.collector.api.graphql.validation.GraphQLErrorHandler;
 import com.arcone.biopro.exception.collector.api.graphql.validation.MutationErrorCode;
 import com.arcone.biopro.exception.collector.api.graphql.validation.ValidationResult;
-import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
-import com.arcone.biopro.exception.collector.domain.entity.RetryAttempt;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
 import com.arcone.biopro.exception.collector.domain.enums.RetryStatus;
-import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
-import com.arcone.biopro.exception.collector.infrastructure.repository.RetryAttemptRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.ExceptionStateSnapshot;
+import com.arcone.biopro.exception.collector.infrastructure.service.ExceptionStateCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,8 +28,7 @@ import java.util.Optional;
 @Slf4j
 public class CancelRetryValidationService {
 
-    private final InterfaceExceptionRepository exceptionRepository;
-    private final RetryAttemptRepository retryAttemptRepository;
+    private final ExceptionStateCache exceptionStateCache;
 
     /**
      * Validates a cancel retry operation request.
@@ -79,7 +76,7 @@ public class CancelRetryValidationService {
         }
 
         // Validate exception exists
-        Optional<InterfaceException> exceptionOpt = exceptionRepository.findByTransactionId(transactionId);
+        Optional<ExceptionStateSnapshot> exceptionOpt = exceptionStateCache.get(transactionId);
         if (exceptionOpt.isEmpty()) {
             errors.add(GraphQLErrorHandler.createBusinessRuleError(
                     MutationErrorCode.EXCEPTION_NOT_FOUND,
@@ -91,7 +88,7 @@ public class CancelRetryValidationService {
                     .build();
         }
 
-        InterfaceException exception = exceptionOpt.get();
+        ExceptionStateSnapshot exception = exceptionOpt.get();
 
         // Validate exception state allows cancellation
         if (exception.getStatus() == ExceptionStatus.RESOLVED || 
@@ -102,31 +99,28 @@ public class CancelRetryValidationService {
             ));
         }
 
-        // Find the latest retry attempt
-        Optional<RetryAttempt> latestAttemptOpt = retryAttemptRepository
-                .findTopByInterfaceExceptionOrderByAttemptNumberDesc(exception);
-
-        if (latestAttemptOpt.isEmpty()) {
+        // Check the latest retry attempt
+        if (!exception.hasRetryAttempts()) {
             errors.add(GraphQLErrorHandler.createBusinessRuleError(
                     MutationErrorCode.NO_PENDING_RETRY,
                     "No retry attempts found for this exception"
             ));
         } else {
-            RetryAttempt latestAttempt = latestAttemptOpt.get();
+            RetryStatus latestStatus = exception.getLatestRetryStatus();
             
             // Validate retry is in a cancellable state
-            if (latestAttempt.getStatus() != RetryStatus.PENDING) {
-                if (latestAttempt.getStatus() == RetryStatus.SUCCESS) {
+            if (latestStatus != RetryStatus.PENDING) {
+                if (latestStatus == RetryStatus.SUCCESS) {
                     errors.add(GraphQLErrorHandler.createBusinessRuleError(
                             MutationErrorCode.RETRY_ALREADY_COMPLETED,
                             "Retry has already completed successfully and cannot be cancelled"
                     ));
-                } else if (latestAttempt.getStatus() == RetryStatus.FAILED) {
+                } else if (latestStatus == RetryStatus.FAILED) {
                     errors.add(GraphQLErrorHandler.createBusinessRuleError(
                             MutationErrorCode.RETRY_ALREADY_COMPLETED,
                             "Retry has already failed and cannot be cancelled"
                     ));
-                } else if (latestAttempt.getStatus() == RetryStatus.CANCELLED) {
+                } else if (latestStatus == RetryStatus.CANCELLED) {
                     errors.add(GraphQLErrorHandler.createBusinessRuleError(
                             MutationErrorCode.RETRY_ALREADY_COMPLETED,
                             "Retry has already been cancelled"
@@ -134,17 +128,17 @@ public class CancelRetryValidationService {
                 } else {
                     errors.add(GraphQLErrorHandler.createBusinessRuleError(
                             MutationErrorCode.NO_PENDING_RETRY,
-                            "No pending retry found to cancel (current status: " + latestAttempt.getStatus() + ")"
+                            "No pending retry found to cancel (current status: " + latestStatus + ")"
                     ));
                 }
             }
 
             // Check if retry has been running too long (might be stuck)
-            if (latestAttempt.getStatus() == RetryStatus.PENDING && 
-                latestAttempt.getInitiatedAt() != null &&
-                latestAttempt.getInitiatedAt().isBefore(java.time.OffsetDateTime.now().minusHours(1))) {
+            if (latestStatus == RetryStatus.PENDING && 
+                exception.getLatestRetryInitiatedAt() != null &&
+                exception.getLatestRetryInitiatedAt().isBefore(java.time.OffsetDateTime.now().minusHours(1))) {
                 log.warn("Retry has been pending for over 1 hour for transaction: {}, attempt: {}", 
-                        transactionId, latestAttempt.getAttemptNumber());
+                        transactionId, exception.getLatestAttemptNumber());
                 // This is allowed but we log it as potentially stuck
             }
         }
@@ -195,12 +189,12 @@ public class CancelRetryValidationService {
      */
     public boolean canCancelRetry(String transactionId) {
         try {
-            Optional<InterfaceException> exceptionOpt = exceptionRepository.findByTransactionId(transactionId);
+            Optional<ExceptionStateSnapshot> exceptionOpt = exceptionStateCache.get(transactionId);
             if (exceptionOpt.isEmpty()) {
                 return false;
             }
 
-            InterfaceException exception = exceptionOpt.get();
+            ExceptionStateSnapshot exception = exceptionOpt.get();
 
             // Cannot cancel if exception is resolved or closed
             if (exception.getStatus() == ExceptionStatus.RESOLVED || 
@@ -209,15 +203,7 @@ public class CancelRetryValidationService {
             }
 
             // Check for pending retry
-            Optional<RetryAttempt> latestAttemptOpt = retryAttemptRepository
-                    .findTopByInterfaceExceptionOrderByAttemptNumberDesc(exception);
-
-            if (latestAttemptOpt.isEmpty()) {
-                return false;
-            }
-
-            RetryAttempt latestAttempt = latestAttemptOpt.get();
-            return latestAttempt.getStatus() == RetryStatus.PENDING;
+            return exception.isPendingRetry();
 
         } catch (Exception e) {
             log.error("Error checking if retry can be cancelled for transaction: {}, error: {}", 
@@ -235,12 +221,12 @@ public class CancelRetryValidationService {
      */
     public String getCancellationBlockedReason(String transactionId) {
         try {
-            Optional<InterfaceException> exceptionOpt = exceptionRepository.findByTransactionId(transactionId);
+            Optional<ExceptionStateSnapshot> exceptionOpt = exceptionStateCache.get(transactionId);
             if (exceptionOpt.isEmpty()) {
                 return "Exception not found for transaction ID: " + transactionId;
             }
 
-            InterfaceException exception = exceptionOpt.get();
+            ExceptionStateSnapshot exception = exceptionOpt.get();
 
             if (exception.getStatus() == ExceptionStatus.RESOLVED) {
                 return "Exception is already resolved and cannot have retries cancelled";
@@ -250,16 +236,11 @@ public class CancelRetryValidationService {
                 return "Exception is closed and cannot have retries cancelled";
             }
 
-            Optional<RetryAttempt> latestAttemptOpt = retryAttemptRepository
-                    .findTopByInterfaceExceptionOrderByAttemptNumberDesc(exception);
-
-            if (latestAttemptOpt.isEmpty()) {
+            if (!exception.hasRetryAttempts()) {
                 return "No retry attempts found for this exception";
             }
-
-            RetryAttempt latestAttempt = latestAttemptOpt.get();
             
-            switch (latestAttempt.getStatus()) {
+            switch (exception.getLatestRetryStatus()) {
                 case SUCCESS:
                     return "Latest retry has already completed successfully";
                 case FAILED:
@@ -269,7 +250,7 @@ public class CancelRetryValidationService {
                 case PENDING:
                     return null; // Cancellation is allowed
                 default:
-                    return "Retry is in an unknown state: " + latestAttempt.getStatus();
+                    return "Retry is in an unknown state: " + exception.getLatestRetryStatus();
             }
 
         } catch (Exception e) {
@@ -0,0 +1,154 @@
+package com.arcone.biopro.exception.collector.api.graphql.service;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Publishes a snapshot that is recomputed when its source data changes, at
+ * most once per conflation window.
+ *
+ * Changes only mark the snapshot dirty. The first mark after an idle period
+ * schedules a recomputation at the end of the window, and every further mark
+ * until then is absorbed by it; a mark arriving while the recomputation runs
+ * schedules one more. Without subscribers nothing is recomputed until the next
+ * subscriber arrives. All subscribers share the latest snapshot, and a slow
+ * subscriber skips straight to it rather than receiving every intermediate one.
+ *
+ * @param <T> the snapshot type
+ */
+@Slf4j
+public class ConflatingPublisher<T> {
+
+    private final String name;
+    private final Supplier<CompletableFuture<T>> compute;
+    private final Duration window;
+    private final ScheduledExecutorService scheduler;
+
+    private final Sinks.Many<T> sink = Sinks.many().replay().latest();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicReference<T> latest = new AtomicReference<>();
+    private final AtomicLong triggers = new AtomicLong();
+    private final AtomicLong recomputations = new AtomicLong();
+
+    /**
+     * @param name      name used in logs
+     * @param compute   computes a snapshot
+     * @param window    minimum interval between two recomputations
+     * @param scheduler runs the recomputations
+     */
+    public ConflatingPublisher(String name, Supplier<CompletableFuture<T>> compute, Duration window,
+            ScheduledExecutorService scheduler) {
+        this.name = name;
+        this.compute = compute;
+        this.window = window;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * The shared snapshot stream. A subscriber first receives the current
+     * snapshot; a missing or out-of-date snapshot is recomputed right away.
+     * Each subscriber keeps only the newest snapshot it has not requested yet.
+     */
+    public Flux<T> stream() {
+        return sink.asFlux()
+                .onBackpressureLatest()
+                .doOnSubscribe(subscription -> {
+                    if (latest.get() == null || dirty.get()) {
+                        dirty.set(true);
+                        schedule(Duration.ZERO);
+                    }
+                });
+    }
+
+    /**
+     * Marks the snapshot out of date; it is recomputed at the end of the current window.
+     */
+    public void markDirty() {
+        triggers.incrementAndGet();
+        dirty.set(true);
+        if (sink.currentSubscriberCount() > 0) {
+            schedule(window);
+        }
+    }
+
+    private void schedule(Duration delay) {
+        if (scheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::recompute, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void recompute() {
+        dirty.set(false);
+        recomputations.incrementAndGet();
+        CompletableFuture<T> future;
+        try {
+            future = compute.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((snapshot, error) -> {
+            if (error != null) {
+                log.warn("Recomputing {} snapshot failed: {}", name, error.getMessage());
+                // Subscribers keep the previous snapshot; try again in the next window
+                dirty.set(true);
+            } else if (snapshot != null) {
+                latest.set(snapshot);
+                Sinks.EmitResult result = sink.tryEmitNext(snapshot);
+                if (result.isFailure()) {
+                    log.warn("Failed to emit {} snapshot: {}", name, result);
+                }
+            }
+            scheduled.set(false);
+            // Changes that arrived during the recomputation get one more, a full window later
+            if (dirty.get() && sink.currentSubscriberCount() > 0) {
+                schedule(window);
+            }
+        });
+    }
+
+    /**
+     * @return the latest snapshot, or null before the first computation
+     */
+    public T getLatest() {
+        return latest.get();
+    }
+
+    /**
+     * @return the number of open subscriptions
+     */
+    public int getSubscriberCount() {
+        return sink.currentSubscriberCount();
+    }
+
+    /**
+     * @return how many times the snapshot was marked dirty
+     */
+    public long getTriggerCount() {
+        return triggers.get();
+    }
+
+    /**
+     * @return how many times the snapshot was recomputed
+     */
+    public long getRecomputationCount() {
+        return recomputations.get();
+    }
+
+    /**
+     * Completes the stream for all subscribers.
+     */
+    public void complete() {
+        sink.tryEmitComplete();
+    }
+}
@@ -1,42 +1,92 @@
 package com.arcone.biopro.exception.collector.api.graphql.service;
 
+import com.arcone.biopro.exception.collector.api.graphql.dto.ExceptionSummary;
+import com.arcone.biopro.exception.collector.api.graphql.dto.TimeRange;
 import com.arcone.biopro.exception.collector.application.service.DashboardMetricsService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Sinks;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 /**
  * Service for managing dashboard metrics subscriptions.
  * Publishes real-time dashboard updates to WebSocket subscribers.
+ *
+ * Updates are conflated: events only mark the dashboard (and every summary
+ * with subscribers) dirty, at most one recomputation runs per
+ * {@code app.dashboard.conflation-window-ms}, and all subscribers receive the
+ * same snapshot. Nothing is recomputed while nobody is subscribed.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class DashboardSubscriptionService {
 
     private final DashboardMetricsService dashboardMetricsService;
+    private final SummaryService summaryService;
+    private final Duration conflationWindow;
 
-    // Sink for broadcasting dashboard updates
-    private final Sinks.Many<DashboardSummary> dashboardSink = Sinks.many().multicast()
-            .onBackpressureBuffer();
+    private final ScheduledExecutorService scheduler;
+    private final ConflatingPublisher<DashboardSummary> dashboardPublisher;
+
+    // One publisher per subscribed summary time range, removed with its last subscriber
+    private final Map<TimeRange, SummaryPublisher> summaryPublishers = new ConcurrentHashMap<>();
+
+    public DashboardSubscriptionService(DashboardMetricsService dashboardMetricsService,
+            SummaryService summaryService,
+            MeterRegistry meterRegistry,
+            @Value("${app.dashboard.conflation-window-ms:2000}") long conflationWindowMs) {
+        this.dashboardMetricsService = dashboardMetricsService;
+        this.summaryService = summaryService;
+        this.conflationWindow = Duration.ofMillis(conflationWindowMs);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-conflation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dashboardPublisher = new ConflatingPublisher<>("dashboard",
+                () -> CompletableFuture.completedFuture(calculateSummary()), conflationWindow, scheduler);
+
+        FunctionCounter.builder("dashboard.subscription.triggers", dashboardPublisher,
+                        ConflatingPublisher::getTriggerCount)
+                .description("Dashboard update triggers received")
+                .register(meterRegistry);
+        FunctionCounter.builder("dashboard.subscription.recomputations", dashboardPublisher,
+                        ConflatingPublisher::getRecomputationCount)
+                .description("Dashboard metric recomputations after conflation")
+                .register(meterRegistry);
+        Gauge.builder("dashboard.subscription.summary.streams", summaryPublishers, Map::size)
+                .description("Summary time ranges with active subscribers")
+                .register(meterRegistry);
+    }
 
     /**
      * Get dashboard metrics stream for subscriptions.
      */
     public Flux<DashboardSummary> getDashboardStream() {
         log.info("📊 New dashboard subscription started");
-        
-        return dashboardSink.asFlux()
+
+        return dashboardPublisher.stream()
                 .doOnSubscribe(subscription -> {
                     log.info("📡 Dashboard subscriber connected");
-                    // Send initial metrics immediately
-                    publishDashboardUpdate();
                 })
                 .doOnCancel(() -> {
                     log.info("📡 Dashboard subscriber disconnected");
@@ -47,56 +97,112 @@ public class DashboardSubscriptionService {
                 });
     }
 
+    /**
+     * Get the dashboard stream as deltas: the first message carries every
+     * field, later ones only the fields that changed since the previous
+     * message to the same subscriber.
+     */
+    public Flux<DashboardSummaryDelta> getDashboardDeltaStream() {
+        return Flux.defer(() -> {
+            AtomicReference<DashboardSummary> previous = new AtomicReference<>();
+            return getDashboardStream()
+                    .map(summary -> DashboardSummaryDelta.between(previous.getAndSet(summary), summary))
+                    .filter(delta -> !delta.getChangedFields().isEmpty());
+        });
+    }
+
+    /**
+     * Get the summary stream for a time range. Subscribers of the same time
+     * range share one snapshot.
+     */
+    public Flux<ExceptionSummary> getSummaryStream(TimeRange timeRange) {
+        return Flux.defer(() -> {
+            SummaryPublisher holder = summaryPublishers.compute(timeRange, (key, existing) -> {
+                SummaryPublisher publisher = existing != null ? existing : new SummaryPublisher(
+                        new ConflatingPublisher<>("summary " + key.getPeriod(),
+                                () -> summaryService.generateSummary(key, null), conflationWindow, scheduler));
+                publisher.subscribers.incrementAndGet();
+                return publisher;
+            });
+            return holder.publisher.stream()
+                    .doFinally(signal -> release(timeRange, holder));
+        });
+    }
+
+    private void release(TimeRange timeRange, SummaryPublisher holder) {
+        summaryPublishers.computeIfPresent(timeRange, (key, current) -> {
+            if (current != holder || holder.subscribers.decrementAndGet() > 0) {
+                return current;
+            }
+            holder.publisher.complete();
+            return null;
+        });
+    }
+
     /**
      * Publish dashboard update to all subscribers.
+     * Marks the dashboard dirty; the update is sent at the end of the conflation window.
      */
     public void publishDashboardUpdate() {
-        try {
-            DashboardMetricsService.DashboardMetrics metrics = dashboardMetricsService.calculateMetrics();
-            
-            DashboardSummary summary = DashboardSummary.builder()
-                .activeExceptions(metrics.getActiveExceptions())
-                .todayExceptions(metrics.getTodayExceptions())
-                .failedRetries(metrics.getFailedRetries())
-                .successfulRetries(metrics.getSuccessfulRetries())
-                .totalRetries(metrics.getTotalRetries())
-                .retrySuccessRate(Math.round(metrics.getRetrySuccessRate() * 100.0) / 100.0)
-                .apiSuccessRate(Math.round(metrics.getApiSuccessRate() * 100.0) / 100.0)
-                .totalApiCallsToday(metrics.getTotalApiCallsToday())
-                .lastUpdated(metrics.getLastUpdated())
-                .build();
-
-            Sinks.EmitResult result = dashboardSink.tryEmitNext(summary);
-            
-            if (result.isFailure()) {
-                log.warn("Failed to emit dashboard update: {}", result);
-            } else {
-                log.debug("📊 Dashboard update published: {} active exceptions, {}% API success rate", 
-                    summary.getActiveExceptions(), summary.getApiSuccessRate());
-            }
-            
-        } catch (Exception e) {
-            log.error("Error publishing dashboard update", e);
-        }
+        dashboardPublisher.markDirty();
+        summaryPublishers.values().forEach(holder -> holder.publisher.markDirty());
+    }
+
+    private DashboardSummary calculateSummary() {
+        DashboardMetricsService.DashboardMetrics metrics = dashboardMetricsService.calculateMetrics();
+
+        DashboardSummary summary = DashboardSummary.builder()
+            .activeExceptions(metrics.getActiveExceptions())
+            .todayExceptions(metrics.getTodayExceptions())
+            .failedRetries(metrics.getFailedRetries())
+            .successfulRetries(metrics.getSuccessfulRetries())
+            .totalRetries(metrics.getTotalRetries())
+            .retrySuccessRate(Math.round(metrics.getRetrySuccessRate() * 100.0) / 100.0)
+            .apiSuccessRate(Math.round(metrics.getApiSuccessRate() * 100.0) / 100.0)
+            .totalApiCallsToday(metrics.getTotalApiCallsToday())
+            .lastUpdated(metrics.getLastUpdated())
+            .build();
+
+        log.debug("📊 Dashboard update computed: {} active exceptions, {}% API success rate",
+            summary.getActiveExceptions(), summary.getApiSuccessRate());
+        return summary;
     }
 
     /**
-     * Scheduled task to publish dashboard updates every 30 seconds.
+     * Scheduled task to refresh dashboard updates, picking up time-based changes
+     * such as the start of a new day.
      */
-    @Scheduled(fixedRate = 30000) // 30 seconds
+    @Scheduled(fixedRateString = "${app.dashboard.refresh-interval-ms:30000}")
     public void scheduledDashboardUpdate() {
         log.debug("🕐 Scheduled dashboard update triggered");
         publishDashboardUpdate();
     }
 
     /**
-     * Trigger immediate dashboard update (called by event handlers).
+     * Trigger dashboard update (called by event handlers).
+     * Bursts of triggers within one conflation window cause a single recomputation.
      */
     public void triggerUpdate() {
-        log.debug("🔄 Manual dashboard update triggered");
+        log.debug("🔄 Dashboard update triggered");
         publishDashboardUpdate();
     }
 
+    @PreDestroy
+    public void shutdown() {
+        dashboardPublisher.complete();
+        scheduler.shutdownNow();
+    }
+
+    private static final class SummaryPublisher {
+
+        private final ConflatingPublisher<ExceptionSummary> publisher;
+        private final AtomicInteger subscribers = new AtomicInteger();
+
+        private SummaryPublisher(ConflatingPublisher<ExceptionSummary> publisher) {
+            this.publisher = publisher;
+        }
+    }
+
     /**
      * Dashboard summary data for GraphQL subscriptions.
      */
@@ -113,4 +219,61 @@ public class DashboardSubscriptionService {
         private final long totalApiCallsToday;
         private final OffsetDateTime lastUpdated;
     }
-}
\ No newline at end of file
+
+    /**
+     * Delta-encoded dashboard summary: unchanged fields are null and listed
+     * fields are the ones that changed.
+     */
+    @lombok.Builder
+    @lombok.Data
+    public static class DashboardSummaryDelta {
+        private final Long activeExceptions;
+        private final Long todayExceptions;
+        private final Long failedRetries;
+        private final Long successfulRetries;
+        private final Long totalRetries;
+        private final Double retrySuccessRate;
+        private final Double apiSuccessRate;
+        private final Long totalApiCallsToday;
+        private final OffsetDateTime lastUpdated;
+        private final List<String> changedFields;
+
+        /**
+         * @param previous the snapshot last sent to the subscriber, or null for the first message
+         * @param current  the new snapshot
+         */
+        static DashboardSummaryDelta between(DashboardSummary previous, DashboardSummary current) {
+            List<String> changed = new ArrayList<>();
+            return DashboardSummaryDelta.builder()
+                    .activeExceptions(diff(previous, current, "activeExceptions",
+                            DashboardSummary::getActiveExceptions, changed))
+                    .todayExceptions(diff(previous, current, "todayExceptions",
+                            DashboardSummary::getTodayExceptions, changed))
+                    .failedRetries(diff(previous, current, "failedRetries",
+                            DashboardSummary::getFailedRetries, changed))
+                    .successfulRetries(diff(previous, current, "successfulRetries",
+                            DashboardSummary::getSuccessfulRetries, changed))
+                    .totalRetries(diff(previous, current, "totalRetries",
+                            DashboardSummary::getTotalRetries, changed))
+                    .retrySuccessRate(diff(previous, current, "retrySuccessRate",
+                            DashboardSummary::getRetrySuccessRate, changed))
+                    .apiSuccessRate(diff(previous, current, "apiSuccessRate",
+                            DashboardSummary::getApiSuccessRate, changed))
+                    .totalApiCallsToday(diff(previous, current, "totalApiCallsToday",
+                            DashboardSummary::getTotalApiCallsToday, changed))
+                    .lastUpdated(current.getLastUpdated())
+                    .changedFields(changed)
+                    .build();
+        }
+
+        private static <V> V diff(DashboardSummary previous, DashboardSummary current, String field,
+                Function<DashboardSummary, V> getter, List<String> changed) {
+            V value = getter.apply(current);
+            if (previous != null && Objects.equals(getter.apply(previous), value)) {
+                return null;
+            }
+            changed.add(field);
+            return value;
+        }
+    }
+}
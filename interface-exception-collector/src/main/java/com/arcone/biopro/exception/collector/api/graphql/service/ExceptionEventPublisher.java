@@ -1,6 +1,7 @@
 package com.arcone.biopro.exception.collector.api.graphql.service;
 
 import com.arcone.biopro.exception.collector.api.graphql.resolver.ExceptionSubscriptionResolver;
+import com.arcone.biopro.exception.collector.application.service.HotExceptionSearchService;
 import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
 import com.arcone.biopro.exception.collector.domain.entity.RetryAttempt;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ public class ExceptionEventPublisher {
         private final ExceptionSubscriptionResolver subscriptionResolver;
         private final com.arcone.biopro.exception.collector.api.graphql.config.GraphQLWebSocketTransportConfig.GraphQLWebSocketSessionManager webSocketSessionManager;
         private final DashboardSubscriptionService dashboardSubscriptionService;
+        private final HotExceptionSearchService hotExceptionSearchService;
 
         /**
          * Publishes an exception created event to GraphQL subscribers.
@@ -33,6 +35,9 @@ public class ExceptionEventPublisher {
                 log.info("🔍 DEBUG: Exception details - ID: {}, Status: {}, Severity: {}", 
                         exception.getId(), exception.getStatus(), exception.getSeverity());
 
+                // Make the exception searchable from the in-memory index once committed
+                hotExceptionSearchService.indexAfterCommit(exception);
+
                 try {
                         ExceptionSubscriptionResolver.ExceptionUpdateEvent event = new ExceptionSubscriptionResolver.ExceptionUpdateEvent(
                                         ExceptionSubscriptionResolver.ExceptionEventType.CREATED,
@@ -70,6 +75,9 @@ public class ExceptionEventPublisher {
         public void publishExceptionUpdated(InterfaceException exception, String triggeredBy) {
                 log.info("🔔 Publishing GraphQL exception updated event for transaction: {}", exception.getTransactionId());
 
+                // Keep the in-memory search index in line with changed reasons
+                hotExceptionSearchService.indexAfterCommit(exception);
+
                 ExceptionSubscriptionResolver.ExceptionUpdateEvent event = new ExceptionSubscriptionResolver.ExceptionUpdateEvent(
                                 ExceptionSubscriptionResolver.ExceptionEventType.UPDATED,
                                 mapToGraphQLException(exception),
@@ -365,6 +365,8 @@ public class MutationEventPublisher {
         RETRY,
         ACKNOWLEDGE,
         RESOLVE,
-        CANCEL_RETRY
+        CANCEL_RETRY,
+        BULK_RETRY,
+        BULK_ACKNOWLEDGE
     }
 }
\ No newline at end of file
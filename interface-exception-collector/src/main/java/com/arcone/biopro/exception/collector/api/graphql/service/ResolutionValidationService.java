@@ -5,10 +5,10 @@ import com.arcone.biopro.exception.collector.api.graphql.dto.ResolveExceptionInp
 import com.arcone.biopro.exception.collector.api.graphql.validation.GraphQLErrorHandler;
 import com.arcone.biopro.exception.collector.api.graphql.validation.MutationErrorCode;
 import com.arcone.biopro.exception.collector.api.graphql.validation.ValidationResult;
-import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
 import com.arcone.biopro.exception.collector.domain.enums.ResolutionMethod;
-import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.ExceptionStateSnapshot;
+import com.arcone.biopro.exception.collector.infrastructure.service.ExceptionStateCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,7 +29,7 @@ import java.util.Set;
 @Slf4j
 public class ResolutionValidationService {
 
-    private final InterfaceExceptionRepository exceptionRepository;
+    private final ExceptionStateCache exceptionStateCache;
 
     /**
      * Valid statuses that can be resolved.
@@ -72,7 +72,7 @@ public class ResolutionValidationService {
         }
 
         // Find and validate exception exists
-        Optional<InterfaceException> exceptionOpt = exceptionRepository.findByTransactionId(input.getTransactionId());
+        Optional<ExceptionStateSnapshot> exceptionOpt = exceptionStateCache.get(input.getTransactionId());
         if (exceptionOpt.isEmpty()) {
             errors.add(GraphQLErrorHandler.createNotFoundError(
                 MutationErrorCode.EXCEPTION_NOT_FOUND, 
@@ -81,7 +81,7 @@ public class ResolutionValidationService {
             return ValidationResult.failure("resolve", input.getTransactionId(), errors);
         }
 
-        InterfaceException exception = exceptionOpt.get();
+        ExceptionStateSnapshot exception = exceptionOpt.get();
 
         // Validate exception state and business rules
         validateExceptionState(exception, input, errors);
@@ -138,7 +138,7 @@ public class ResolutionValidationService {
     /**
      * Validates the exception state for resolution eligibility.
      */
-    private void validateExceptionState(InterfaceException exception, ResolveExceptionInput input, List<GraphQLError> errors) {
+    private void validateExceptionState(ExceptionStateSnapshot exception, ResolveExceptionInput input, List<GraphQLError> errors) {
         ExceptionStatus currentStatus = exception.getStatus();
 
         // Check if exception is already resolved
@@ -181,7 +181,7 @@ public class ResolutionValidationService {
     /**
      * Validates the resolution method is appropriate for the exception context.
      */
-    private void validateResolutionMethod(ResolutionMethod resolutionMethod, InterfaceException exception, List<GraphQLError> errors) {
+    private void validateResolutionMethod(ResolutionMethod resolutionMethod, ExceptionStateSnapshot exception, List<GraphQLError> errors) {
         if (resolutionMethod == null) {
             return; // Already validated in basic input validation
         }
@@ -247,7 +247,7 @@ public class ResolutionValidationService {
     /**
      * Validates that the state transition is valid.
      */
-    private void validateStateTransition(InterfaceException exception, List<GraphQLError> errors) {
+    private void validateStateTransition(ExceptionStateSnapshot exception, List<GraphQLError> errors) {
         ExceptionStatus currentStatus = exception.getStatus();
 
         // Check for concurrent modifications by verifying the exception hasn't changed
@@ -267,12 +267,12 @@ public class ResolutionValidationService {
      * @return true if the exception can be resolved
      */
     public boolean canResolve(String transactionId) {
-        Optional<InterfaceException> exceptionOpt = exceptionRepository.findByTransactionId(transactionId);
+        Optional<ExceptionStateSnapshot> exceptionOpt = exceptionStateCache.get(transactionId);
         if (exceptionOpt.isEmpty()) {
             return false;
         }
 
-        InterfaceException exception = exceptionOpt.get();
+        ExceptionStateSnapshot exception = exceptionOpt.get();
         ExceptionStatus status = exception.getStatus();
 
         return RESOLVABLE_STATUSES.contains(status);
@@ -6,16 +6,14 @@ import com.arcone.biopro.exception.collector.api.graphql.dto.ResolveExceptionInp
 import com.arcone.biopro.exception.collector.api.graphql.validation.ValidationResult;
 import com.arcone.biopro.exception.collector.api.graphql.validation.MutationErrorCode;
 import com.arcone.biopro.exception.collector.api.graphql.validation.GraphQLErrorHandler;
-import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
-import com.arcone.biopro.exception.collector.domain.entity.RetryAttempt;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
 import com.arcone.biopro.exception.collector.domain.enums.RetryStatus;
 import com.arcone.biopro.exception.collector.api.graphql.dto.RetryExceptionInput.RetryPriority;
 import com.arcone.biopro.exception.collector.domain.enums.ResolutionMethod;
 import com.arcone.biopro.exception.collector.domain.exception.ExceptionNotFoundException;
 import com.arcone.biopro.exception.collector.domain.exception.RetryNotAllowedException;
-import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
-import com.arcone.biopro.exception.collector.infrastructure.repository.RetryAttemptRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.ExceptionStateSnapshot;
+import com.arcone.biopro.exception.collector.infrastructure.service.ExceptionStateCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -40,8 +38,7 @@ import java.util.stream.Collectors;
 @Slf4j
 public class RetryValidationService {
 
-    private final InterfaceExceptionRepository exceptionRepository;
-    private final RetryAttemptRepository retryAttemptRepository;
+    private final ExceptionStateCache exceptionStateCache;
     private final com.arcone.biopro.exception.collector.infrastructure.service.DatabaseCachingService databaseCachingService;
 
     // Validation constants
@@ -90,6 +87,26 @@ public class RetryValidationService {
         return cachedResult;
     }
 
+    /**
+     * Validates retry input format and user permissions without looking up the
+     * exception. Used by bulk retry, which validates the state of all exceptions
+     * with a single query.
+     *
+     * @param input          the retry input to validate
+     * @param authentication the user authentication
+     * @return ValidationResult with detailed error information
+     */
+    public ValidationResult validateRetryInput(RetryExceptionInput input, Authentication authentication) {
+        List<com.arcone.biopro.exception.collector.api.graphql.dto.GraphQLError> errors = new ArrayList<>();
+
+        validateRetryInputFormat(input, errors);
+        validateUserPermissions(authentication, "retry", errors);
+
+        return errors.isEmpty()
+                ? ValidationResult.success("retry", input.getTransactionId())
+                : ValidationResult.failure("retry", input.getTransactionId(), errors);
+    }
+
     /**
      * Enhanced validation for acknowledge requests.
      *
@@ -115,7 +132,7 @@ public class RetryValidationService {
         }
 
         // Find and validate the exception
-        Optional<InterfaceException> exceptionOpt = exceptionRepository.findByTransactionId(input.getTransactionId());
+        Optional<ExceptionStateSnapshot> exceptionOpt = exceptionStateCache.get(input.getTransactionId());
         if (exceptionOpt.isEmpty()) {
             errors.add(GraphQLErrorHandler.createNotFoundError(
                     MutationErrorCode.EXCEPTION_NOT_FOUND, 
@@ -123,7 +140,7 @@ public class RetryValidationService {
             return ValidationResult.failure("acknowledge", input.getTransactionId(), errors);
         }
 
-        InterfaceException exception = exceptionOpt.get();
+        ExceptionStateSnapshot exception = exceptionOpt.get();
 
         // Validate business rules for acknowledgment
         validateAcknowledgeBusinessRules(exception, errors);
@@ -163,7 +180,7 @@ public class RetryValidationService {
         }
 
         // Find and validate the exception
-        Optional<InterfaceException> exceptionOpt = exceptionRepository.findByTransactionId(input.getTransactionId());
+        Optional<ExceptionStateSnapshot> exceptionOpt = exceptionStateCache.get(input.getTransactionId());
         if (exceptionOpt.isEmpty()) {
             errors.add(GraphQLErrorHandler.createNotFoundError(
                     MutationErrorCode.EXCEPTION_NOT_FOUND, 
@@ -171,7 +188,7 @@ public class RetryValidationService {
             return ValidationResult.failure("resolve", input.getTransactionId(), errors);
         }
 
-        InterfaceException exception = exceptionOpt.get();
+        ExceptionStateSnapshot exception = exceptionOpt.get();
 
         // Validate business rules for resolution
         validateResolveBusinessRules(exception, errors);
@@ -212,7 +229,7 @@ public class RetryValidationService {
         }
 
         // Find and validate the exception
-        Optional<InterfaceException> exceptionOpt = exceptionRepository.findByTransactionId(transactionId);
+        Optional<ExceptionStateSnapshot> exceptionOpt = exceptionStateCache.get(transactionId);
         if (exceptionOpt.isEmpty()) {
             errors.add(GraphQLErrorHandler.createNotFoundError(
                     MutationErrorCode.EXCEPTION_NOT_FOUND, 
@@ -220,7 +237,7 @@ public class RetryValidationService {
             return ValidationResult.failure("cancel_retry", transactionId, errors);
         }
 
-        InterfaceException exception = exceptionOpt.get();
+        ExceptionStateSnapshot exception = exceptionOpt.get();
 
         // Validate business rules for cancellation
         validateCancelRetryBusinessRules(exception, errors);
@@ -277,22 +294,19 @@ public class RetryValidationService {
         validateUserPermissions(authentication, "cancel_retry");
 
         // Find the exception
-        InterfaceException exception = exceptionRepository.findByTransactionId(transactionId)
+        ExceptionStateSnapshot exception = exceptionStateCache.get(transactionId)
                 .orElseThrow(() -> new ExceptionNotFoundException(
                         "Exception not found for transaction: " + transactionId));
 
         // Validate there's a pending retry to cancel
-        Optional<RetryAttempt> latestAttempt = retryAttemptRepository
-                .findTopByInterfaceExceptionOrderByAttemptNumberDesc(exception);
-
-        if (latestAttempt.isEmpty()) {
+        if (!exception.hasRetryAttempts()) {
             throw new RetryNotAllowedException("No retry attempts found for transaction: " + transactionId);
         }
 
-        if (latestAttempt.get().getStatus() != RetryStatus.PENDING) {
+        if (!exception.isPendingRetry()) {
             throw new RetryNotAllowedException(
                     "No pending retry found to cancel for transaction: " + transactionId +
-                            ", current status: " + latestAttempt.get().getStatus());
+                            ", current status: " + exception.getLatestRetryStatus());
         }
 
         log.debug("Cancel retry request validation passed for transaction: {}", transactionId);
@@ -327,8 +341,8 @@ public class RetryValidationService {
     /**
      * Validates that an exception is retryable.
      */
-    private void validateExceptionRetryable(InterfaceException exception) {
-        if (!exception.getRetryable()) {
+    private void validateExceptionRetryable(ExceptionStateSnapshot exception) {
+        if (!exception.isMarkedRetryable()) {
             throw new RetryNotAllowedException(
                     "Exception is not retryable for transaction: " + exception.getTransactionId());
         }
@@ -337,11 +351,8 @@ public class RetryValidationService {
     /**
      * Validates that no pending retry exists for the exception.
      */
-    private void validateNoPendingRetry(InterfaceException exception) {
-        Optional<RetryAttempt> latestAttempt = retryAttemptRepository
-                .findTopByInterfaceExceptionOrderByAttemptNumberDesc(exception);
-
-        if (latestAttempt.isPresent() && latestAttempt.get().getStatus() == RetryStatus.PENDING) {
+    private void validateNoPendingRetry(ExceptionStateSnapshot exception) {
+        if (exception.isPendingRetry()) {
             throw new RetryNotAllowedException(
                     "A retry is already pending for transaction: " + exception.getTransactionId());
         }
@@ -350,7 +361,7 @@ public class RetryValidationService {
     /**
      * Validates that the exception status allows retry.
      */
-    private void validateExceptionStatus(InterfaceException exception) {
+    private void validateExceptionStatus(ExceptionStateSnapshot exception) {
         Set<ExceptionStatus> nonRetryableStatuses = Set.of(
                 ExceptionStatus.RESOLVED,
                 ExceptionStatus.CLOSED);
@@ -365,8 +376,8 @@ public class RetryValidationService {
     /**
      * Validates that the retry count hasn't exceeded the maximum allowed.
      */
-    private void validateRetryCount(InterfaceException exception) {
-        if (exception.getRetryCount() >= exception.getMaxRetries()) {
+    private void validateRetryCount(ExceptionStateSnapshot exception) {
+        if (exception.isRetryLimitReached()) {
             throw new RetryNotAllowedException(
                     "Maximum retry count (" + exception.getMaxRetries() + ") exceeded for transaction: " +
                             exception.getTransactionId());
@@ -598,9 +609,9 @@ public class RetryValidationService {
     /**
      * Validates business rules for retry operations.
      */
-    private void validateRetryBusinessRules(InterfaceException exception, List<com.arcone.biopro.exception.collector.api.graphql.dto.GraphQLError> errors) {
+    private void validateRetryBusinessRules(ExceptionStateSnapshot exception, List<com.arcone.biopro.exception.collector.api.graphql.dto.GraphQLError> errors) {
         // Check if exception is retryable
-        if (!exception.getRetryable()) {
+        if (!exception.isMarkedRetryable()) {
             errors.add(GraphQLErrorHandler.createBusinessRuleError(
                     MutationErrorCode.NOT_RETRYABLE, 
                     "Exception is marked as not retryable"));
@@ -618,17 +629,14 @@ public class RetryValidationService {
         }
 
         // Check retry count limits
-        if (exception.getRetryCount() >= exception.getMaxRetries()) {
+        if (exception.isRetryLimitReached()) {
             errors.add(GraphQLErrorHandler.createBusinessRuleError(
                     MutationErrorCode.RETRY_LIMIT_EXCEEDED, 
                     "Maximum retry count (" + exception.getMaxRetries() + ") exceeded"));
         }
 
         // Check for pending retry
-        Optional<RetryAttempt> latestAttempt = retryAttemptRepository
-                .findTopByInterfaceExceptionOrderByAttemptNumberDesc(exception);
-
-        if (latestAttempt.isPresent() && latestAttempt.get().getStatus() == RetryStatus.PENDING) {
+        if (exception.isPendingRetry()) {
             errors.add(GraphQLErrorHandler.createBusinessRuleError(
                     MutationErrorCode.PENDING_RETRY_EXISTS, 
                     "A retry operation is already pending for this exception"));
@@ -638,7 +646,7 @@ public class RetryValidationService {
     /**
      * Validates business rules for acknowledge operations.
      */
-    private void validateAcknowledgeBusinessRules(InterfaceException exception, List<com.arcone.biopro.exception.collector.api.graphql.dto.GraphQLError> errors) {
+    private void validateAcknowledgeBusinessRules(ExceptionStateSnapshot exception, List<com.arcone.biopro.exception.collector.api.graphql.dto.GraphQLError> errors) {
         // Check if already resolved
         if (exception.getStatus() == ExceptionStatus.RESOLVED) {
             errors.add(GraphQLErrorHandler.createBusinessRuleError(
@@ -664,7 +672,7 @@ public class RetryValidationService {
     /**
      * Validates business rules for resolve operations.
      */
-    private void validateResolveBusinessRules(InterfaceException exception, List<com.arcone.biopro.exception.collector.api.graphql.dto.GraphQLError> errors) {
+    private void validateResolveBusinessRules(ExceptionStateSnapshot exception, List<com.arcone.biopro.exception.collector.api.graphql.dto.GraphQLError> errors) {
         // Check if already resolved
         if (exception.getStatus() == ExceptionStatus.RESOLVED) {
             errors.add(GraphQLErrorHandler.createBusinessRuleError(
@@ -680,10 +688,7 @@ public class RetryValidationService {
         }
 
         // Check for pending retry (optional business rule - may want to resolve even with pending retry)
-        Optional<RetryAttempt> latestAttempt = retryAttemptRepository
-                .findTopByInterfaceExceptionOrderByAttemptNumberDesc(exception);
-
-        if (latestAttempt.isPresent() && latestAttempt.get().getStatus() == RetryStatus.PENDING) {
+        if (exception.isPendingRetry()) {
             // This could be a warning rather than an error, depending on business rules
             log.warn("Resolving exception {} with pending retry attempt", exception.getTransactionId());
         }
@@ -692,30 +697,25 @@ public class RetryValidationService {
     /**
      * Validates business rules for cancel retry operations.
      */
-    private void validateCancelRetryBusinessRules(InterfaceException exception, List<com.arcone.biopro.exception.collector.api.graphql.dto.GraphQLError> errors) {
-        // Find the latest retry attempt
-        Optional<RetryAttempt> latestAttempt = retryAttemptRepository
-                .findTopByInterfaceExceptionOrderByAttemptNumberDesc(exception);
-
-        if (latestAttempt.isEmpty()) {
+    private void validateCancelRetryBusinessRules(ExceptionStateSnapshot exception, List<com.arcone.biopro.exception.collector.api.graphql.dto.GraphQLError> errors) {
+        // Check the latest retry attempt
+        if (!exception.hasRetryAttempts()) {
             errors.add(GraphQLErrorHandler.createBusinessRuleError(
                     MutationErrorCode.NO_PENDING_RETRY, 
                     "No retry attempts found for this exception"));
             return;
         }
 
-        RetryAttempt attempt = latestAttempt.get();
-
         // Check if retry is in a cancellable state
-        if (attempt.getStatus() != RetryStatus.PENDING) {
-            if (attempt.getStatus() == RetryStatus.SUCCESS) {
+        if (!exception.isPendingRetry()) {
+            if (exception.getLatestRetryStatus() == RetryStatus.SUCCESS) {
                 errors.add(GraphQLErrorHandler.createBusinessRuleError(
                         MutationErrorCode.RETRY_ALREADY_COMPLETED, 
                         "Retry has already completed and cannot be cancelled"));
             } else {
                 errors.add(GraphQLErrorHandler.createBusinessRuleError(
                         MutationErrorCode.CANCELLATION_NOT_ALLOWED, 
-                        "Retry is not in a cancellable state: " + attempt.getStatus()));
+                        "Retry is not in a cancellable state: " + exception.getLatestRetryStatus()));
             }
         }
     }
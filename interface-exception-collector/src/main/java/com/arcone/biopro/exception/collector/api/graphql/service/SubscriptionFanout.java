@@ -0,0 +1,315 @@
+package com.arcone.biopro.exception.collector.api.graphql.service;
+
+import com.arcone.biopro.exception.collector.api.graphql.monitoring.SubscriptionMetrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Routes events of one subscription stream to the subscribers that want them.
+ *
+ * Subscribers are indexed by routing keys (for example {@code customerId:C1})
+ * taken from their most selective filter dimension; subscribers without such a
+ * filter are kept in a wildcard set. An event is only offered to the wildcard
+ * subscribers and to those indexed under one of its own keys, and each of these
+ * then applies its full filter.
+ *
+ * Every subscriber has its own bounded buffer drained at the pace of its
+ * downstream demand, so a slow client only affects itself. When its buffer is
+ * full the {@link OverflowPolicy} decides what happens.
+ *
+ * @param <E> the event type
+ */
+@Slf4j
+public class SubscriptionFanout<E> {
+
+    /**
+     * What to do when an event arrives for a subscriber whose buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Drop the oldest buffered event */
+        DROP_OLDEST,
+        /** Replace the latest buffered event with the same conflation key, else drop the oldest */
+        CONFLATE,
+        /** Terminate the subscription with an overflow error */
+        DISCONNECT
+    }
+
+    private final String streamName;
+    private final Function<E, Collection<String>> routingKeys;
+    private final Function<E, Object> conflationKey;
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final SubscriptionMetrics metrics;
+
+    private final Set<Subscriber> wildcardSubscribers = ConcurrentHashMap.newKeySet();
+    private final Map<String, Set<Subscriber>> subscribersByKey = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    /**
+     * @param streamName    name used in logs and metrics
+     * @param routingKeys   the routing keys of an event
+     * @param conflationKey identifies events that supersede each other under {@link OverflowPolicy#CONFLATE}
+     * @param bufferSize    maximum number of buffered events per subscriber
+     * @param overflowPolicy what to do when a subscriber's buffer is full
+     * @param metrics       subscription metrics, or null when metrics are disabled
+     */
+    public SubscriptionFanout(String streamName, Function<E, Collection<String>> routingKeys,
+            Function<E, Object> conflationKey, int bufferSize, OverflowPolicy overflowPolicy,
+            SubscriptionMetrics metrics) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Subscriber buffer size must be positive: " + bufferSize);
+        }
+        this.streamName = streamName;
+        this.routingKeys = routingKeys;
+        this.conflationKey = conflationKey;
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Opens a subscription.
+     *
+     * @param keys    routing keys the subscriber is restricted to; empty for every event
+     * @param matcher full filter applied to events routed to the subscriber
+     * @return the subscriber's events, delivered as the downstream requests them
+     */
+    public Flux<E> subscribe(Collection<String> keys, Predicate<E> matcher) {
+        Set<String> subscriberKeys = new LinkedHashSet<>(keys);
+        return Flux.create(sink -> {
+            Subscriber subscriber = new Subscriber(subscriberKeys, matcher, sink);
+            register(subscriber);
+            sink.onRequest(n -> subscriber.drain());
+            sink.onDispose(() -> unregister(subscriber));
+        });
+    }
+
+    /**
+     * Offers an event to every subscriber it is routed to and that matches it.
+     *
+     * @param event the event
+     * @return the number of subscribers the event was buffered for
+     */
+    public int publish(E event) {
+        Set<Subscriber> candidates = new LinkedHashSet<>(wildcardSubscribers);
+        for (String key : routingKeys.apply(event)) {
+            Set<Subscriber> keyed = subscribersByKey.get(key);
+            if (keyed != null) {
+                candidates.addAll(keyed);
+            }
+        }
+
+        int delivered = 0;
+        for (Subscriber subscriber : candidates) {
+            boolean matches;
+            try {
+                matches = subscriber.matcher.test(event);
+            } catch (RuntimeException e) {
+                log.warn("Filter of a {} subscriber failed, skipping event: {}", streamName, e.getMessage());
+                matches = false;
+            }
+            if (matches) {
+                subscriber.offer(event);
+                delivered++;
+            } else if (metrics != null) {
+                metrics.recordEventFiltered(streamName, "subscription_filter");
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * @return the number of open subscriptions
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * @return the largest number of events buffered for a single subscriber
+     */
+    public int getMaxLag() {
+        int max = 0;
+        for (Subscriber subscriber : allSubscribers()) {
+            max = Math.max(max, subscriber.lag());
+        }
+        return max;
+    }
+
+    private Set<Subscriber> allSubscribers() {
+        Set<Subscriber> all = new LinkedHashSet<>(wildcardSubscribers);
+        subscribersByKey.values().forEach(all::addAll);
+        return all;
+    }
+
+    private void register(Subscriber subscriber) {
+        if (subscriber.keys.isEmpty()) {
+            wildcardSubscribers.add(subscriber);
+        } else {
+            subscriber.keys.forEach(key ->
+                    subscribersByKey.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber));
+        }
+        subscriberCount.incrementAndGet();
+        log.debug("Registered {} subscriber with keys {}; {} active", streamName, subscriber.keys,
+                subscriberCount.get());
+    }
+
+    private void unregister(Subscriber subscriber) {
+        boolean removed = wildcardSubscribers.remove(subscriber);
+        for (String key : subscriber.keys) {
+            Set<Subscriber> keyed = subscribersByKey.get(key);
+            if (keyed != null && keyed.remove(subscriber)) {
+                removed = true;
+                subscribersByKey.computeIfPresent(key, (k, set) -> set.isEmpty() ? null : set);
+            }
+        }
+        if (removed) {
+            subscriberCount.decrementAndGet();
+            log.debug("Removed {} subscriber; {} active", streamName, subscriberCount.get());
+        }
+    }
+
+    /**
+     * A subscriber with its own bounded buffer. Offers may come from any thread;
+     * the drain loop is serialized with a work-in-progress counter.
+     */
+    private final class Subscriber {
+
+        private final Set<String> keys;
+        private final Predicate<E> matcher;
+        private final FluxSink<E> sink;
+
+        // Guarded by this
+        private final ArrayDeque<Slot<E>> buffer = new ArrayDeque<>();
+        private final Map<Object, Slot<E>> slotsByKey = new HashMap<>();
+        private boolean overflowed;
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private Subscriber(Set<String> keys, Predicate<E> matcher, FluxSink<E> sink) {
+            this.keys = keys;
+            this.matcher = matcher;
+            this.sink = sink;
+        }
+
+        private void offer(E event) {
+            int lag;
+            synchronized (this) {
+                if (overflowed) {
+                    return;
+                }
+                Object key = overflowPolicy == OverflowPolicy.CONFLATE ? conflationKey.apply(event) : null;
+                // Only a full buffer conflates; below capacity every event is delivered
+                Slot<E> existing = key != null && buffer.size() >= bufferSize ? slotsByKey.get(key) : null;
+                if (existing != null) {
+                    // A newer event for the same key supersedes the latest buffered one in place
+                    existing.event = event;
+                    recordDropped();
+                } else {
+                    if (buffer.size() >= bufferSize) {
+                        if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                            overflowed = true;
+                        } else {
+                            removeOldest();
+                            recordDropped();
+                        }
+                    }
+                    if (!overflowed) {
+                        Slot<E> slot = new Slot<>(key, event, System.nanoTime());
+                        buffer.addLast(slot);
+                        if (key != null) {
+                            slotsByKey.put(key, slot);
+                        }
+                    }
+                }
+                lag = buffer.size();
+            }
+
+            if (metrics != null) {
+                metrics.recordSubscriberLag(streamName, lag);
+            }
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                Slot<E> slot;
+                while (sink.requestedFromDownstream() > 0 && (slot = poll()) != null) {
+                    sink.next(slot.event);
+                    if (metrics != null) {
+                        metrics.recordSubscriptionLatency(streamName,
+                                Duration.ofNanos(System.nanoTime() - slot.enqueuedAt));
+                    }
+                }
+                if (isOverflowed()) {
+                    log.warn("Disconnecting slow {} subscriber: more than {} undelivered events",
+                            streamName, bufferSize);
+                    if (metrics != null) {
+                        metrics.recordOverflowDisconnect(streamName);
+                    }
+                    sink.error(Exceptions.failWithOverflow(
+                            "Subscriber buffer of " + bufferSize + " events exceeded"));
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private synchronized Slot<E> poll() {
+            return removeOldest();
+        }
+
+        private synchronized boolean isOverflowed() {
+            return overflowed;
+        }
+
+        private synchronized int lag() {
+            return buffer.size();
+        }
+
+        private Slot<E> removeOldest() {
+            Slot<E> slot = buffer.pollFirst();
+            if (slot != null && slot.key != null) {
+                slotsByKey.remove(slot.key, slot);
+            }
+            return slot;
+        }
+
+        private void recordDropped() {
+            if (metrics != null) {
+                metrics.recordEventDropped(streamName, overflowPolicy.name());
+            }
+        }
+    }
+
+    private static final class Slot<E> {
+
+        private final Object key;
+        private E event;
+        private final long enqueuedAt;
+
+        private Slot(Object key, E event, long enqueuedAt) {
+            this.key = key;
+            this.event = event;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.arcone.biopro.exception.collector.api.graphql.service;
+
+import com.arcone.biopro.exception.collector.api.graphql.dto.SubscriptionFilters;
+import com.arcone.biopro.exception.collector.api.graphql.monitoring.SubscriptionMetrics;
+import com.arcone.biopro.exception.collector.api.graphql.resolver.ExceptionSubscriptionResolver.ExceptionUpdateEvent;
+import com.arcone.biopro.exception.collector.api.graphql.resolver.ExceptionSubscriptionResolver.MutationCompletionEvent;
+import com.arcone.biopro.exception.collector.api.graphql.resolver.ExceptionSubscriptionResolver.RetryStatusEvent;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Fan-out of exception, retry status and mutation completion events to GraphQL
+ * subscribers. Each stream is a {@link SubscriptionFanout}: events are routed by
+ * interface type, severity, customer ID and transaction ID to the matching
+ * subscribers only, and every subscriber has its own bounded buffer.
+ */
+@Service
+@Slf4j
+public class SubscriptionFanoutService {
+
+    static final String INTERFACE_TYPE = "interfaceType:";
+    static final String SEVERITY = "severity:";
+    static final String CUSTOMER_ID = "customerId:";
+    static final String TRANSACTION_ID = "transactionId:";
+
+    private static final Set<String> RESOLVED_STATUSES = Set.of(
+            ExceptionStatus.RESOLVED.name(), ExceptionStatus.CLOSED.name());
+
+    private final SubscriptionFanout<ExceptionUpdateEvent> exceptionUpdates;
+    private final SubscriptionFanout<RetryStatusEvent> retryStatusUpdates;
+    private final SubscriptionFanout<MutationCompletionEvent> mutationCompletions;
+
+    public SubscriptionFanoutService(ObjectProvider<SubscriptionMetrics> subscriptionMetrics,
+            MeterRegistry meterRegistry,
+            @Value("${graphql.websocket.subscription.buffer-size:1000}") int bufferSize,
+            @Value("${graphql.websocket.subscription.overflow-policy:CONFLATE}") SubscriptionFanout.OverflowPolicy overflowPolicy) {
+        SubscriptionMetrics metrics = subscriptionMetrics.getIfAvailable();
+
+        // A newer update of the same exception supersedes a buffered one
+        this.exceptionUpdates = new SubscriptionFanout<>("exceptionUpdated",
+                SubscriptionFanoutService::routingKeys,
+                event -> event.getException().getTransactionId(),
+                bufferSize, overflowPolicy, metrics);
+        this.retryStatusUpdates = new SubscriptionFanout<>("retryStatusUpdated",
+                event -> transactionKeys(event.getTransactionId()),
+                event -> event.getTransactionId() + ':' + attemptNumber(event),
+                bufferSize, overflowPolicy, metrics);
+        this.mutationCompletions = new SubscriptionFanout<>("mutationCompleted",
+                event -> transactionKeys(event.getTransactionId()),
+                MutationCompletionEvent::getOperationId,
+                bufferSize, overflowPolicy, metrics);
+
+        registerGauges(meterRegistry, exceptionUpdates, "exceptionUpdated");
+        registerGauges(meterRegistry, retryStatusUpdates, "retryStatusUpdated");
+        registerGauges(meterRegistry, mutationCompletions, "mutationCompleted");
+
+        log.info("Subscription fan-out configured with {} event buffer per subscriber, overflow policy {}",
+                bufferSize, overflowPolicy);
+    }
+
+    /**
+     * Subscribes to exception updates matching the filters and the access check.
+     *
+     * @param filters     optional subscription filters
+     * @param accessCheck security check applied to every routed event
+     * @return the subscriber's events
+     */
+    public Flux<ExceptionUpdateEvent> subscribeExceptionUpdates(SubscriptionFilters filters,
+            Predicate<ExceptionUpdateEvent> accessCheck) {
+        return exceptionUpdates.subscribe(subscriberKeys(filters),
+                event -> accessCheck.test(event) && matches(filters, event.getException()));
+    }
+
+    /**
+     * Subscribes to retry status updates, optionally for a single transaction.
+     */
+    public Flux<RetryStatusEvent> subscribeRetryStatusUpdates(String transactionId,
+            Predicate<RetryStatusEvent> accessCheck) {
+        return retryStatusUpdates.subscribe(transactionKeys(transactionId),
+                event -> (transactionId == null || transactionId.equals(event.getTransactionId()))
+                        && accessCheck.test(event));
+    }
+
+    /**
+     * Subscribes to mutation completion events, optionally for a single transaction.
+     */
+    public Flux<MutationCompletionEvent> subscribeMutationCompletions(String transactionId,
+            Predicate<MutationCompletionEvent> matcher) {
+        return mutationCompletions.subscribe(transactionKeys(transactionId),
+                event -> (transactionId == null || transactionId.equals(event.getTransactionId()))
+                        && matcher.test(event));
+    }
+
+    /**
+     * @return the number of subscribers the event was routed to
+     */
+    public int publishExceptionUpdate(ExceptionUpdateEvent event) {
+        return exceptionUpdates.publish(event);
+    }
+
+    /**
+     * @return the number of subscribers the event was routed to
+     */
+    public int publishRetryStatusUpdate(RetryStatusEvent event) {
+        return retryStatusUpdates.publish(event);
+    }
+
+    /**
+     * @return the number of subscribers the event was routed to
+     */
+    public int publishMutationCompletion(MutationCompletionEvent event) {
+        return mutationCompletions.publish(event);
+    }
+
+    /**
+     * @return the number of open exception update subscriptions
+     */
+    public int getExceptionSubscriberCount() {
+        return exceptionUpdates.getSubscriberCount();
+    }
+
+    /**
+     * Routing keys of an exception update: one per indexed dimension.
+     */
+    static Collection<String> routingKeys(ExceptionUpdateEvent event) {
+        List<String> keys = new ArrayList<>(4);
+        var exception = event.getException();
+        if (exception.getInterfaceType() != null) {
+            keys.add(INTERFACE_TYPE + exception.getInterfaceType());
+        }
+        if (exception.getSeverity() != null) {
+            keys.add(SEVERITY + exception.getSeverity());
+        }
+        if (exception.getCustomerId() != null) {
+            keys.add(CUSTOMER_ID + exception.getCustomerId());
+        }
+        if (exception.getTransactionId() != null) {
+            keys.add(TRANSACTION_ID + exception.getTransactionId());
+        }
+        return keys;
+    }
+
+    /**
+     * A subscriber is indexed on its most selective filter dimension only;
+     * its remaining filters are checked when an event is routed to it.
+     */
+    static Collection<String> subscriberKeys(SubscriptionFilters filters) {
+        if (filters == null) {
+            return List.of();
+        }
+        if (filters.getCustomerIds() != null && !filters.getCustomerIds().isEmpty()) {
+            return prefixed(CUSTOMER_ID, filters.getCustomerIds());
+        }
+        if (filters.getInterfaceTypes() != null && !filters.getInterfaceTypes().isEmpty()) {
+            return prefixed(INTERFACE_TYPE, filters.getInterfaceTypes());
+        }
+        if (filters.getSeverities() != null && !filters.getSeverities().isEmpty()) {
+            return prefixed(SEVERITY, filters.getSeverities());
+        }
+        return List.of();
+    }
+
+    static boolean matches(SubscriptionFilters filters,
+            com.arcone.biopro.exception.collector.api.graphql.resolver.ExceptionSubscriptionResolver.Exception exception) {
+        if (filters == null) {
+            return true;
+        }
+        return matchesAny(filters.getInterfaceTypes(), exception.getInterfaceType())
+                && matchesAny(filters.getSeverities(), exception.getSeverity())
+                && matchesAny(filters.getCustomerIds(), exception.getCustomerId())
+                && matchesAny(filters.getLocationCodes(), exception.getLocationCode())
+                && (!Boolean.FALSE.equals(filters.getIncludeResolved())
+                        || !RESOLVED_STATUSES.contains(exception.getStatus()));
+    }
+
+    private static boolean matchesAny(List<?> allowed, String value) {
+        return allowed == null || allowed.isEmpty()
+                || allowed.stream().anyMatch(candidate -> String.valueOf(candidate).equals(value));
+    }
+
+    private static Collection<String> prefixed(String prefix, List<?> values) {
+        return values.stream().map(value -> prefix + value).collect(Collectors.toList());
+    }
+
+    private static Collection<String> transactionKeys(String transactionId) {
+        return transactionId != null ? List.of(TRANSACTION_ID + transactionId) : List.of();
+    }
+
+    private static int attemptNumber(RetryStatusEvent event) {
+        return event.getRetryAttempt() != null ? event.getRetryAttempt().getAttemptNumber() : 0;
+    }
+
+    private static void registerGauges(MeterRegistry meterRegistry, SubscriptionFanout<?> fanout, String stream) {
+        Gauge.builder("graphql.subscription.fanout.subscribers", fanout, SubscriptionFanout::getSubscriberCount)
+                .description("Open subscriptions per stream")
+                .tag("stream", stream)
+                .register(meterRegistry);
+        Gauge.builder("graphql.subscription.fanout.max.lag", fanout, SubscriptionFanout::getMaxLag)
+                .description("Largest number of undelivered events buffered for one subscriber")
+                .tag("stream", stream)
+                .register(meterRegistry);
+    }
+}
@@ -3,14 +3,18 @@ package com.arcone.biopro.exception.collector.api.graphql.service;
 import com.arcone.biopro.exception.collector.api.graphql.dto.ExceptionFilters;
 import com.arcone.biopro.exception.collector.api.graphql.dto.ExceptionSummary;
 import com.arcone.biopro.exception.collector.api.graphql.dto.TimeRange;
+import com.arcone.biopro.exception.collector.application.service.CacheScope;
+import com.arcone.biopro.exception.collector.application.service.ExceptionRollupService;
+import com.arcone.biopro.exception.collector.application.service.ScopedCacheService;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionSeverity;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
 import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
-import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
-import com.arcone.biopro.exception.collector.infrastructure.repository.RetryAttemptRepository;
-import lombok.RequiredArgsConstructor;
+import com.arcone.biopro.exception.collector.infrastructure.config.CacheConfig;
+import com.arcone.biopro.exception.collector.infrastructure.repository.ExceptionSummaryAggregate;
+import com.arcone.biopro.exception.collector.infrastructure.repository.ExceptionSummaryCriteria;
+import com.arcone.biopro.exception.collector.infrastructure.repository.ExceptionSummaryRepository;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,8 +22,11 @@ import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiFunction;
 
 /**
  * Service for generating exception summary statistics and aggregations.
@@ -32,448 +39,188 @@ import java.util.stream.Collectors;
  * - 4.3: Retry success rates and customer impact statistics
  * - 4.4: Dashboard statistics with 200ms response time
  * - 5.4: Redis caching with appropriate TTL values
+ *
+ * All dimensions are computed by a single GROUPING SETS query, executed on the
+ * bounded {@code summaryExecutor} pool. The query reads the hourly
+ * exception_rollup table when it is fresh and the filters only touch rollup
+ * dimensions, and interface_exceptions otherwise.
+ *
+ * Summaries are cached with the interface types, customers and time window
+ * they cover; a change to a covered exception triggers a debounced recompute
+ * of the cached summary rather than a cache-wide eviction.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class SummaryService {
 
-    private final InterfaceExceptionRepository exceptionRepository;
-    private final RetryAttemptRepository retryAttemptRepository;
+    private final ExceptionSummaryRepository summaryRepository;
+    private final ExceptionRollupService rollupService;
+    private final Executor summaryExecutor;
+    private final ScopedCacheService scopedCacheService;
+
+    public SummaryService(ExceptionSummaryRepository summaryRepository,
+            ExceptionRollupService rollupService,
+            @Qualifier("summaryExecutor") Executor summaryExecutor,
+            ScopedCacheService scopedCacheService) {
+        this.summaryRepository = summaryRepository;
+        this.rollupService = rollupService;
+        this.summaryExecutor = summaryExecutor;
+        this.scopedCacheService = scopedCacheService;
+    }
 
     /**
      * Generates comprehensive exception summary statistics for the specified time
      * range and filters.
-     * Results are cached in Redis with a 5-minute TTL for optimal performance.
+     * Results are cached until a covered exception changes, then recomputed.
      * 
      * @param timeRange the time range for the summary
      * @param filters   optional filters to apply to the data
      * @return CompletableFuture containing the exception summary
      */
-    @Cacheable(value = "exception-summary", key = "#timeRange.hashCode() + '_' + (#filters != null ? #filters.hashCode() : 'null')")
     public CompletableFuture<ExceptionSummary> generateSummary(TimeRange timeRange, ExceptionFilters filters) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                log.debug("Generating exception summary for time range: {}, filters: {}", timeRange, filters);
-
-                OffsetDateTime startDate = timeRange.getEffectiveStartDate();
-                OffsetDateTime endDate = timeRange.getEffectiveEndDate();
-
-                // Generate all summary components in parallel
-                CompletableFuture<Integer> totalCountFuture = getTotalExceptionCount(startDate, endDate, filters);
-                CompletableFuture<List<ExceptionSummary.InterfaceTypeSummary>> interfaceTypeFuture = getInterfaceTypeSummary(
-                        startDate, endDate, filters);
-                CompletableFuture<List<ExceptionSummary.SeveritySummary>> severityFuture = getSeveritySummary(startDate,
-                        endDate, filters);
-                CompletableFuture<List<ExceptionSummary.StatusSummary>> statusFuture = getStatusSummary(startDate,
-                        endDate, filters);
-                CompletableFuture<List<ExceptionSummary.TrendDataPoint>> trendsFuture = getTrendData(startDate, endDate,
-                        filters);
-                CompletableFuture<ExceptionSummary.KeyMetrics> keyMetricsFuture = getKeyMetrics(startDate, endDate,
-                        filters);
-
-                // Wait for all futures to complete and build the summary
-                return ExceptionSummary.builder()
-                        .totalExceptions(totalCountFuture.join())
-                        .byInterfaceType(interfaceTypeFuture.join())
-                        .bySeverity(severityFuture.join())
-                        .byStatus(statusFuture.join())
-                        .trends(trendsFuture.join())
-                        .keyMetrics(keyMetricsFuture.join())
-                        .build();
-
-            } catch (Exception e) {
-                log.error("Error generating exception summary", e);
-                throw new RuntimeException("Failed to generate exception summary: " + e.getMessage(), e);
-            }
-        });
-    }
-
-    /**
-     * Gets the total count of exceptions for the specified time range and filters.
-     */
-    private CompletableFuture<Integer> getTotalExceptionCount(OffsetDateTime startDate, OffsetDateTime endDate,
-            ExceptionFilters filters) {
-        return CompletableFuture.supplyAsync(() -> {
-            long count = exceptionRepository.countByTimestampBetween(startDate, endDate);
-            return Math.toIntExact(count);
-        });
+        String key = timeRange.hashCode() + "_" + (filters != null ? filters.hashCode() : "null");
+        return scopedCacheService.getRefreshable(CacheConfig.EXCEPTION_SUMMARY_CACHE, key,
+                buildScope(buildCriteria(timeRange, filters), timeRange, filters),
+                () -> computeSummary(timeRange, filters));
     }
 
-    /**
-     * Generates summary statistics grouped by interface type.
-     * Uses materialized view for optimal performance when available.
-     */
-    @Cacheable(value = "interface-summary", key = "#startDate.toString() + '_' + #endDate.toString() + '_' + (#filters != null ? #filters.hashCode() : 'null')")
-    private CompletableFuture<List<ExceptionSummary.InterfaceTypeSummary>> getInterfaceTypeSummary(
-            OffsetDateTime startDate, OffsetDateTime endDate, ExceptionFilters filters) {
-
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // Try to use materialized view first
-                List<Object[]> mvData = exceptionRepository.getSummaryStatisticsFromMaterializedView(startDate,
-                        endDate);
-
-                if (!mvData.isEmpty()) {
-                    return processInterfaceTypeSummaryFromMV(mvData);
+    private CompletableFuture<ExceptionSummary> computeSummary(TimeRange timeRange, ExceptionFilters filters) {
+        ExceptionSummaryCriteria criteria = buildCriteria(timeRange, filters);
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    log.debug("Generating exception summary for time range: {}, filters: {}", timeRange, filters);
+                    boolean useRollup = criteria.supportsRollup() && rollupService.isFresh();
+                    return toSummary(useRollup
+                            ? summaryRepository.aggregateFromRollup(criteria)
+                            : summaryRepository.aggregate(criteria));
+                } catch (Exception e) {
+                    log.error("Error generating exception summary", e);
+                    throw new RuntimeException("Failed to generate exception summary: " + e.getMessage(), e);
                 }
-            } catch (Exception e) {
-                log.warn("Error using materialized view for interface type summary, falling back to direct query", e);
-            }
-
-            // Fallback to direct queries
-            return getInterfaceTypeSummaryDirect(startDate, endDate);
-        });
-    }
-
-    /**
-     * Process interface type summary from materialized view data.
-     */
-    private List<ExceptionSummary.InterfaceTypeSummary> processInterfaceTypeSummaryFromMV(List<Object[]> mvData) {
-        // Group by interface type and sum counts
-        var groupedData = mvData.stream()
-                .collect(Collectors.groupingBy(
-                        row -> (String) row[0], // interface_type
-                        Collectors.summingLong(row -> ((Number) row[3]).longValue()) // total_count
-                ));
-
-        long totalCount = groupedData.values().stream().mapToLong(Long::longValue).sum();
-
-        return groupedData.entrySet().stream()
-                .map(entry -> {
-                    String interfaceTypeStr = entry.getKey();
-                    Long count = entry.getValue();
-                    float percentage = totalCount > 0 ? (float) count / totalCount * 100 : 0;
-
-                    return ExceptionSummary.InterfaceTypeSummary.builder()
-                            .interfaceType(InterfaceType.valueOf(interfaceTypeStr))
-                            .count(Math.toIntExact(count))
-                            .percentage(percentage)
-                            .build();
-                })
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Direct query fallback for interface type summary.
-     */
-    private List<ExceptionSummary.InterfaceTypeSummary> getInterfaceTypeSummaryDirect(
-            OffsetDateTime startDate, OffsetDateTime endDate) {
-
-        List<ExceptionSummary.InterfaceTypeSummary> summaries = new ArrayList<>();
-        long totalCount = exceptionRepository.countByTimestampBetween(startDate, endDate);
-
-        for (InterfaceType interfaceType : InterfaceType.values()) {
-            long count = getCountByInterfaceTypeAndDateRange(interfaceType, startDate, endDate);
-            float percentage = totalCount > 0 ? (float) count / totalCount * 100 : 0;
-
-            summaries.add(ExceptionSummary.InterfaceTypeSummary.builder()
-                    .interfaceType(interfaceType)
-                    .count(Math.toIntExact(count))
-                    .percentage(percentage)
-                    .build());
+            }, summaryExecutor);
+        } catch (RejectedExecutionException e) {
+            // TaskRejectedException from the bounded pool; surface overload to the caller
+            return CompletableFuture.failedFuture(e);
         }
-
-        return summaries;
-    }
-
-    /**
-     * Generates summary statistics grouped by severity level.
-     * Uses materialized view for optimal performance when available.
-     */
-    @Cacheable(value = "severity-summary", key = "#startDate.toString() + '_' + #endDate.toString() + '_' + (#filters != null ? #filters.hashCode() : 'null')")
-    private CompletableFuture<List<ExceptionSummary.SeveritySummary>> getSeveritySummary(
-            OffsetDateTime startDate, OffsetDateTime endDate, ExceptionFilters filters) {
-
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // Try to use materialized view first
-                List<Object[]> mvData = exceptionRepository.getSummaryStatisticsFromMaterializedView(startDate,
-                        endDate);
-
-                if (!mvData.isEmpty()) {
-                    return processSeveritySummaryFromMV(mvData);
-                }
-            } catch (Exception e) {
-                log.warn("Error using materialized view for severity summary, falling back to direct query", e);
-            }
-
-            // Fallback to direct queries
-            return getSeveritySummaryDirect(startDate, endDate);
-        });
-    }
-
-    /**
-     * Process severity summary from materialized view data.
-     */
-    private List<ExceptionSummary.SeveritySummary> processSeveritySummaryFromMV(List<Object[]> mvData) {
-        // Group by severity and sum counts
-        var groupedData = mvData.stream()
-                .collect(Collectors.groupingBy(
-                        row -> (String) row[2], // severity
-                        Collectors.summingLong(row -> ((Number) row[3]).longValue()) // total_count
-                ));
-
-        long totalCount = groupedData.values().stream().mapToLong(Long::longValue).sum();
-
-        return groupedData.entrySet().stream()
-                .map(entry -> {
-                    String severityStr = entry.getKey();
-                    Long count = entry.getValue();
-                    float percentage = totalCount > 0 ? (float) count / totalCount * 100 : 0;
-
-                    return ExceptionSummary.SeveritySummary.builder()
-                            .severity(ExceptionSeverity.valueOf(severityStr))
-                            .count(Math.toIntExact(count))
-                            .percentage(percentage)
-                            .build();
-                })
-                .collect(Collectors.toList());
     }
 
     /**
-     * Direct query fallback for severity summary.
+     * The cache scope of a summary. Relative periods end at the time of the
+     * request, so their window is left open-ended to cover exceptions created later.
      */
-    private List<ExceptionSummary.SeveritySummary> getSeveritySummaryDirect(
-            OffsetDateTime startDate, OffsetDateTime endDate) {
-
-        List<ExceptionSummary.SeveritySummary> summaries = new ArrayList<>();
-        long totalCount = exceptionRepository.countByTimestampBetween(startDate, endDate);
-
-        for (ExceptionSeverity severity : ExceptionSeverity.values()) {
-            long count = getCountBySeverityAndDateRange(severity, startDate, endDate);
-            float percentage = totalCount > 0 ? (float) count / totalCount * 100 : 0;
-
-            summaries.add(ExceptionSummary.SeveritySummary.builder()
-                    .severity(severity)
-                    .count(Math.toIntExact(count))
-                    .percentage(percentage)
-                    .build());
-        }
-
-        return summaries;
+    private CacheScope buildScope(ExceptionSummaryCriteria criteria, TimeRange timeRange, ExceptionFilters filters) {
+        boolean fixedEnd = timeRange.getPeriod() == TimeRange.TimePeriod.CUSTOM
+                || (filters != null && filters.getDateRange() != null && filters.getDateRange().getTo() != null);
+        return CacheScope.window(criteria.getFromDate(), fixedEnd ? criteria.getToDate() : null)
+                .withInterfaceTypes(criteria.getInterfaceTypes())
+                .withCustomerIds(criteria.getCustomerIds())
+                .withSearchTerm(criteria.getSearchTerm());
     }
 
     /**
-     * Generates summary statistics grouped by status.
-     * Uses materialized view for optimal performance when available.
+     * Builds the aggregation criteria from the time range and the optional filters.
+     * A filter date range narrows the time range, it never widens it.
      */
-    @Cacheable(value = "status-summary", key = "#startDate.toString() + '_' + #endDate.toString() + '_' + (#filters != null ? #filters.hashCode() : 'null')")
-    private CompletableFuture<List<ExceptionSummary.StatusSummary>> getStatusSummary(
-            OffsetDateTime startDate, OffsetDateTime endDate, ExceptionFilters filters) {
-
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // Try to use materialized view first
-                List<Object[]> mvData = exceptionRepository.getSummaryStatisticsFromMaterializedView(startDate,
-                        endDate);
+    private ExceptionSummaryCriteria buildCriteria(TimeRange timeRange, ExceptionFilters filters) {
+        OffsetDateTime startDate = timeRange.getEffectiveStartDate();
+        OffsetDateTime endDate = timeRange.getEffectiveEndDate();
 
-                if (!mvData.isEmpty()) {
-                    return processStatusSummaryFromMV(mvData);
+        ExceptionSummaryCriteria.ExceptionSummaryCriteriaBuilder criteria = ExceptionSummaryCriteria.builder();
+        if (filters != null) {
+            if (filters.getDateRange() != null) {
+                if (filters.getDateRange().getFrom() != null && filters.getDateRange().getFrom().isAfter(startDate)) {
+                    startDate = filters.getDateRange().getFrom();
+                }
+                if (filters.getDateRange().getTo() != null && filters.getDateRange().getTo().isBefore(endDate)) {
+                    endDate = filters.getDateRange().getTo();
                 }
-            } catch (Exception e) {
-                log.warn("Error using materialized view for status summary, falling back to direct query", e);
             }
-
-            // Fallback to direct queries
-            return getStatusSummaryDirect(startDate, endDate);
-        });
-    }
-
-    /**
-     * Process status summary from materialized view data.
-     */
-    private List<ExceptionSummary.StatusSummary> processStatusSummaryFromMV(List<Object[]> mvData) {
-        // Group by status and sum counts
-        var groupedData = mvData.stream()
-                .collect(Collectors.groupingBy(
-                        row -> (String) row[1], // status
-                        Collectors.summingLong(row -> ((Number) row[3]).longValue()) // total_count
-                ));
-
-        long totalCount = groupedData.values().stream().mapToLong(Long::longValue).sum();
-
-        return groupedData.entrySet().stream()
-                .map(entry -> {
-                    String statusStr = entry.getKey();
-                    Long count = entry.getValue();
-                    float percentage = totalCount > 0 ? (float) count / totalCount * 100 : 0;
-
-                    return ExceptionSummary.StatusSummary.builder()
-                            .status(ExceptionStatus.valueOf(statusStr))
-                            .count(Math.toIntExact(count))
-                            .percentage(percentage)
-                            .build();
-                })
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Direct query fallback for status summary.
-     */
-    private List<ExceptionSummary.StatusSummary> getStatusSummaryDirect(
-            OffsetDateTime startDate, OffsetDateTime endDate) {
-
-        List<ExceptionSummary.StatusSummary> summaries = new ArrayList<>();
-        long totalCount = exceptionRepository.countByTimestampBetween(startDate, endDate);
-
-        for (ExceptionStatus status : ExceptionStatus.values()) {
-            long count = getCountByStatusAndDateRange(status, startDate, endDate);
-            float percentage = totalCount > 0 ? (float) count / totalCount * 100 : 0;
-
-            summaries.add(ExceptionSummary.StatusSummary.builder()
-                    .status(status)
-                    .count(Math.toIntExact(count))
-                    .percentage(percentage)
-                    .build());
+            criteria.interfaceTypes(filters.getInterfaceTypes())
+                    .statuses(filters.getStatuses())
+                    .severities(filters.getSeverities())
+                    .categories(filters.getCategories())
+                    .customerIds(filters.getCustomerIds())
+                    .locationCodes(filters.getLocationCodes())
+                    .searchTerm(filters.getSearchTerm())
+                    .excludeResolved(filters.getExcludeResolved())
+                    .retryable(filters.getRetryable())
+                    .acknowledgedBy(filters.getAcknowledgedBy())
+                    .hasRetries(filters.getHasRetries());
         }
 
-        return summaries;
-    }
-
-    /**
-     * Generates time-series trend data for dashboard charts.
-     * Uses materialized view for optimal performance.
-     */
-    @Cacheable(value = "trend-data", key = "#startDate.toString() + '_' + #endDate.toString() + '_' + (#filters != null ? #filters.hashCode() : 'null')")
-    private CompletableFuture<List<ExceptionSummary.TrendDataPoint>> getTrendData(
-            OffsetDateTime startDate, OffsetDateTime endDate, ExceptionFilters filters) {
-
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // Determine the appropriate time interval based on the date range
-                String interval = determineTimeIntervalString(startDate, endDate);
-
-                // Get trend data from materialized view
-                List<Object[]> trendData = exceptionRepository.getTrendDataFromMaterializedView(
-                        startDate, endDate, interval);
-
-                return trendData.stream()
-                        .map(row -> ExceptionSummary.TrendDataPoint.builder()
-                                .timestamp((OffsetDateTime) row[0])
-                                .count(((Number) row[1]).intValue())
+        return criteria
+                .fromDate(startDate)
+                .toDate(endDate)
+                .trendInterval(determineTimeIntervalString(startDate, endDate))
+                .build();
+    }
+
+    /**
+     * Maps the aggregation result to the GraphQL summary type.
+     */
+    private ExceptionSummary toSummary(ExceptionSummaryAggregate aggregate) {
+        long totalCount = aggregate.getTotalCount();
+
+        return ExceptionSummary.builder()
+                .totalExceptions(Math.toIntExact(totalCount))
+                .byInterfaceType(summarize(InterfaceType.values(), aggregate.getByInterfaceType(),
+                        (interfaceType, count) -> ExceptionSummary.InterfaceTypeSummary.builder()
+                                .interfaceType(interfaceType)
+                                .count(Math.toIntExact(count))
+                                .percentage(percentage(count, totalCount))
+                                .build()))
+                .bySeverity(summarize(ExceptionSeverity.values(), aggregate.getBySeverity(),
+                        (severity, count) -> ExceptionSummary.SeveritySummary.builder()
+                                .severity(severity)
+                                .count(Math.toIntExact(count))
+                                .percentage(percentage(count, totalCount))
+                                .build()))
+                .byStatus(summarize(ExceptionStatus.values(), aggregate.getByStatus(),
+                        (status, count) -> ExceptionSummary.StatusSummary.builder()
+                                .status(status)
+                                .count(Math.toIntExact(count))
+                                .percentage(percentage(count, totalCount))
+                                .build()))
+                .trends(aggregate.getTrend().entrySet().stream()
+                        .map(entry -> ExceptionSummary.TrendDataPoint.builder()
+                                .timestamp(entry.getKey())
+                                .count(Math.toIntExact(entry.getValue()))
                                 .interfaceType(null) // Overall trend, not specific to interface type
                                 .build())
-                        .collect(Collectors.toList());
-
-            } catch (Exception e) {
-                log.warn("Error getting trend data from materialized view, falling back to direct query", e);
-                return getFallbackTrendData(startDate, endDate);
-            }
-        });
-    }
-
-    /**
-     * Fallback method for trend data when materialized view is not available.
-     */
-    private List<ExceptionSummary.TrendDataPoint> getFallbackTrendData(OffsetDateTime startDate,
-            OffsetDateTime endDate) {
-        List<ExceptionSummary.TrendDataPoint> trendPoints = new ArrayList<>();
-
-        // Determine the appropriate time interval based on the date range
-        ChronoUnit interval = determineTimeInterval(startDate, endDate);
-
-        // Generate trend data points
-        OffsetDateTime current = startDate;
-        while (current.isBefore(endDate)) {
-            OffsetDateTime nextInterval = current.plus(1, interval);
-            if (nextInterval.isAfter(endDate)) {
-                nextInterval = endDate;
-            }
-
-            long count = exceptionRepository.countByTimestampBetween(current, nextInterval);
-
-            trendPoints.add(ExceptionSummary.TrendDataPoint.builder()
-                    .timestamp(current)
-                    .count(Math.toIntExact(count))
-                    .interfaceType(null) // Overall trend, not specific to interface type
-                    .build());
-
-            current = nextInterval;
+                        .toList())
+                .keyMetrics(ExceptionSummary.KeyMetrics.builder()
+                        .retrySuccessRate(aggregate.getRetryAttempts() > 0
+                                ? (float) aggregate.getSuccessfulRetries() / aggregate.getRetryAttempts() * 100
+                                : 0.0f)
+                        .averageResolutionTime(aggregate.getAverageResolutionHours() != null
+                                ? aggregate.getAverageResolutionHours().floatValue()
+                                : 0.0f)
+                        .customerImpactCount(Math.toIntExact(aggregate.getCustomerImpactCount()))
+                        .criticalExceptionCount(Math.toIntExact(aggregate.getCriticalCount()))
+                        .build())
+                .build();
+    }
+
+    /**
+     * Builds one summary entry per enum value, reporting zero for values with no exceptions.
+     */
+    private <E extends Enum<E>, T> List<T> summarize(E[] values, Map<E, Long> counts,
+            BiFunction<E, Long, T> mapper) {
+        List<T> summaries = new ArrayList<>(values.length);
+        for (E value : values) {
+            summaries.add(mapper.apply(value, counts.getOrDefault(value, 0L)));
         }
-
-        return trendPoints;
-    }
-
-    /**
-     * Generates key performance metrics and KPIs.
-     */
-    @Cacheable(value = "key-metrics", key = "#startDate.toString() + '_' + #endDate.toString() + '_' + (#filters != null ? #filters.hashCode() : 'null')")
-    private CompletableFuture<ExceptionSummary.KeyMetrics> getKeyMetrics(
-            OffsetDateTime startDate, OffsetDateTime endDate, ExceptionFilters filters) {
-
-        return CompletableFuture.supplyAsync(() -> {
-            // Calculate retry success rate
-            float retrySuccessRate = calculateRetrySuccessRate(startDate, endDate);
-
-            // Calculate average resolution time
-            float averageResolutionTime = calculateAverageResolutionTime(startDate, endDate);
-
-            // Count unique customers impacted
-            int customerImpactCount = countUniqueCustomersImpacted(startDate, endDate);
-
-            // Count critical exceptions
-            int criticalExceptionCount = countCriticalExceptions(startDate, endDate);
-
-            return ExceptionSummary.KeyMetrics.builder()
-                    .retrySuccessRate(retrySuccessRate)
-                    .averageResolutionTime(averageResolutionTime)
-                    .customerImpactCount(customerImpactCount)
-                    .criticalExceptionCount(criticalExceptionCount)
-                    .build();
-        });
-    }
-
-    /**
-     * Helper method to get count by interface type and date range.
-     */
-    private long getCountByInterfaceTypeAndDateRange(InterfaceType interfaceType, OffsetDateTime startDate,
-            OffsetDateTime endDate) {
-        // Use the type-safe query to avoid PostgreSQL parameter type issues
-        return exceptionRepository.findWithFiltersTypeSafe(interfaceType, null, null, null, startDate, endDate, null)
-                .size();
-    }
-
-    /**
-     * Helper method to get count by severity and date range.
-     */
-    private long getCountBySeverityAndDateRange(ExceptionSeverity severity, OffsetDateTime startDate,
-            OffsetDateTime endDate) {
-        // Use the type-safe query to avoid PostgreSQL parameter type issues
-        return exceptionRepository.findWithFiltersTypeSafe(null, null, severity, null, startDate, endDate, null)
-                .size();
-    }
-
-    /**
-     * Helper method to get count by status and date range.
-     */
-    private long getCountByStatusAndDateRange(ExceptionStatus status, OffsetDateTime startDate,
-            OffsetDateTime endDate) {
-        // Use the type-safe query to avoid PostgreSQL parameter type issues
-        return exceptionRepository.findWithFiltersTypeSafe(null, status, null, null, startDate, endDate, null)
-                .size();
+        return summaries;
     }
 
-    /**
-     * Determines the appropriate time interval for trend data based on the date
-     * range.
-     */
-    private ChronoUnit determineTimeInterval(OffsetDateTime startDate, OffsetDateTime endDate) {
-        long hours = ChronoUnit.HOURS.between(startDate, endDate);
-
-        if (hours <= 24) {
-            return ChronoUnit.HOURS;
-        } else if (hours <= 168) { // 7 days
-            return ChronoUnit.HOURS;
-        } else {
-            return ChronoUnit.DAYS;
-        }
+    private float percentage(long count, long totalCount) {
+        return totalCount > 0 ? (float) count / totalCount * 100 : 0;
     }
 
     /**
-     * Determines the appropriate time interval string for materialized view
-     * queries.
+     * Determines the appropriate trend bucket size based on the date range.
      */
     private String determineTimeIntervalString(OffsetDateTime startDate, OffsetDateTime endDate) {
         long hours = ChronoUnit.HOURS.between(startDate, endDate);
@@ -488,74 +235,4 @@ public class SummaryService {
             return "week";
         }
     }
-
-    /**
-     * Calculates the retry success rate as a percentage.
-     */
-    private float calculateRetrySuccessRate(OffsetDateTime startDate, OffsetDateTime endDate) {
-        try {
-            // Get total retry attempts in the time range
-            long totalRetries = retryAttemptRepository.countByInitiatedAtBetween(startDate, endDate);
-
-            if (totalRetries == 0) {
-                return 0.0f;
-            }
-
-            // Get successful retry attempts
-            long successfulRetries = retryAttemptRepository.countByInitiatedAtBetweenAndResultSuccess(startDate,
-                    endDate, true);
-
-            return (float) successfulRetries / totalRetries * 100;
-        } catch (Exception e) {
-            log.warn("Error calculating retry success rate, returning 0", e);
-            return 0.0f;
-        }
-    }
-
-    /**
-     * Calculates the average resolution time in hours.
-     */
-    private float calculateAverageResolutionTime(OffsetDateTime startDate, OffsetDateTime endDate) {
-        try {
-            // Get resolved exceptions within the date range
-            Double averageResolutionTime = exceptionRepository.getAverageResolutionTime(startDate, endDate);
-
-            if (averageResolutionTime == null) {
-                return 0.0f;
-            }
-
-            // Return the average resolution time
-            return averageResolutionTime.floatValue();
-
-        } catch (Exception e) {
-            log.warn("Error calculating average resolution time, returning default", e);
-            return 0.0f;
-        }
-    }
-
-    /**
-     * Counts the number of unique customers impacted by exceptions.
-     */
-    private int countUniqueCustomersImpacted(OffsetDateTime startDate, OffsetDateTime endDate) {
-        try {
-            long count = exceptionRepository.countUniqueCustomersImpacted(startDate, endDate);
-            return Math.toIntExact(count);
-        } catch (Exception e) {
-            log.warn("Error counting unique customers impacted, returning 0", e);
-            return 0;
-        }
-    }
-
-    /**
-     * Counts the number of critical severity exceptions.
-     */
-    private int countCriticalExceptions(OffsetDateTime startDate, OffsetDateTime endDate) {
-        try {
-            long count = getCountBySeverityAndDateRange(ExceptionSeverity.CRITICAL, startDate, endDate);
-            return Math.toIntExact(count);
-        } catch (Exception e) {
-            log.warn("Error counting critical exceptions, returning 0", e);
-            return 0;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -1,12 +1,17 @@
 package com.arcone.biopro.exception.collector.api.graphql.util;
 
 import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionSeverity;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
+import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
 import lombok.extern.slf4j.Slf4j;
 
 import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
+import java.util.Map;
+import java.util.regex.Pattern;
 
 /**
  * Utility class for handling cursor-based pagination in GraphQL queries.
@@ -88,4 +93,158 @@ public class CursorUtil {
             return id;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Maps accepted GraphQL sort field names (case-insensitive) to entity
+     * properties that keyset cursors can be built on.
+     */
+    private static final Map<String, String> KEYSET_SORT_PROPERTIES = Map.of(
+            "timestamp", "timestamp",
+            "processedat", "processedAt",
+            "severity", "severity",
+            "status", "status",
+            "interfacetype", "interfaceType",
+            "customerid", "customerId",
+            "retrycount", "retryCount",
+            "acknowledgedat", "acknowledgedAt",
+            "resolvedat", "resolvedAt");
+
+    private static final String KEYSET_SEPARATOR = "|";
+    private static final String NULL_VALUE = "-";
+
+    /**
+     * Resolves a GraphQL sort field to the entity property used for keyset
+     * pagination, defaulting to timestamp.
+     *
+     * @param field the sort field from the query, may be null
+     * @return the entity property name
+     * @throws IllegalArgumentException if the field cannot be used for sorting
+     */
+    public static String resolveSortProperty(String field) {
+        if (field == null || field.trim().isEmpty()) {
+            return "timestamp";
+        }
+        String property = KEYSET_SORT_PROPERTIES.get(field.trim().toLowerCase());
+        if (property == null) {
+            throw new IllegalArgumentException("Invalid sort field: " + field);
+        }
+        return property;
+    }
+
+    /**
+     * Creates a keyset cursor encoding the sort key value and transaction ID of
+     * an exception. The sort property is part of the cursor so a cursor cannot
+     * be replayed against a different ordering.
+     *
+     * @param exception    the exception to create cursor for
+     * @param sortProperty the entity property the page is sorted by
+     * @return base64 encoded cursor string
+     */
+    public static String createKeysetCursor(InterfaceException exception, String sortProperty) {
+        Object value = extractSortValue(exception, sortProperty);
+        String encodedValue = value == null
+                ? NULL_VALUE
+                : Base64.getUrlEncoder().withoutPadding().encodeToString(
+                        formatSortValue(value).getBytes(StandardCharsets.UTF_8));
+
+        String cursorData = sortProperty + KEYSET_SEPARATOR + encodedValue + KEYSET_SEPARATOR
+                + exception.getTransactionId();
+        return Base64.getEncoder().encodeToString(cursorData.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses a keyset cursor created by {@link #createKeysetCursor}.
+     *
+     * @param cursor       the base64 encoded cursor string
+     * @param sortProperty the entity property the current query is sorted by
+     * @return the decoded cursor position
+     * @throws IllegalArgumentException if the cursor is malformed or was created
+     *                                  for a different sort property
+     */
+    public static KeysetCursorData parseKeysetCursor(String cursor, String sortProperty) {
+        try {
+            String decodedCursor = new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decodedCursor.split(Pattern.quote(KEYSET_SEPARATOR), 3);
+
+            if (parts.length != 3 || parts[2].isEmpty()) {
+                throw new IllegalArgumentException("Invalid pagination cursor");
+            }
+            if (!parts[0].equals(sortProperty)) {
+                throw new IllegalArgumentException(
+                        "Pagination cursor was created for sort field " + parts[0] + ", not " + sortProperty);
+            }
+
+            Object value = NULL_VALUE.equals(parts[1])
+                    ? null
+                    : parseSortValue(sortProperty, new String(Base64.getUrlDecoder().decode(parts[1]),
+                            StandardCharsets.UTF_8));
+
+            return new KeysetCursorData(value, parts[2]);
+
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("Failed to parse keyset cursor: {}", cursor, e);
+            throw new IllegalArgumentException("Invalid pagination cursor", e);
+        }
+    }
+
+    private static Object extractSortValue(InterfaceException exception, String sortProperty) {
+        return switch (sortProperty) {
+            case "timestamp" -> exception.getTimestamp();
+            case "processedAt" -> exception.getProcessedAt();
+            case "severity" -> exception.getSeverity();
+            case "status" -> exception.getStatus();
+            case "interfaceType" -> exception.getInterfaceType();
+            case "customerId" -> exception.getCustomerId();
+            case "retryCount" -> exception.getRetryCount();
+            case "acknowledgedAt" -> exception.getAcknowledgedAt();
+            case "resolvedAt" -> exception.getResolvedAt();
+            default -> throw new IllegalArgumentException("Invalid sort field: " + sortProperty);
+        };
+    }
+
+    private static String formatSortValue(Object value) {
+        if (value instanceof OffsetDateTime dateTime) {
+            return dateTime.format(CURSOR_DATE_FORMAT);
+        }
+        if (value instanceof Enum<?> enumValue) {
+            return enumValue.name();
+        }
+        return value.toString();
+    }
+
+    private static Object parseSortValue(String sortProperty, String value) {
+        return switch (sortProperty) {
+            case "timestamp", "processedAt", "acknowledgedAt", "resolvedAt" ->
+                OffsetDateTime.parse(value, CURSOR_DATE_FORMAT);
+            case "severity" -> ExceptionSeverity.valueOf(value);
+            case "status" -> ExceptionStatus.valueOf(value);
+            case "interfaceType" -> InterfaceType.valueOf(value);
+            case "retryCount" -> Integer.valueOf(value);
+            case "customerId" -> value;
+            default -> throw new IllegalArgumentException("Invalid sort field: " + sortProperty);
+        };
+    }
+
+    /**
+     * Data class for a parsed keyset cursor position.
+     */
+    public static class KeysetCursorData {
+        private final Object sortValue;
+        private final String transactionId;
+
+        public KeysetCursorData(Object sortValue, String transactionId) {
+            this.sortValue = sortValue;
+            this.transactionId = transactionId;
+        }
+
+        public Object getSortValue() {
+            return sortValue;
+        }
+
+        public String getTransactionId() {
+            return transactionId;
+        }
+    }
+}
@@ -3,8 +3,8 @@ package com.arcone.biopro.exception.collector.api.graphql.util;
 import com.arcone.biopro.exception.collector.api.dto.PayloadResponse;
 import com.arcone.biopro.exception.collector.api.graphql.config.DataLoaderConfig;
 import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
-import com.arcone.biopro.exception.collector.domain.entity.RetryAttempt;
-import com.arcone.biopro.exception.collector.domain.entity.StatusChange;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.RetryAttemptView;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.StatusChangeView;
 import lombok.extern.slf4j.Slf4j;
 import org.dataloader.DataLoader;
 import org.springframework.stereotype.Component;
@@ -46,9 +46,9 @@ public class DataLoaderUtil {
      * Gets the retry history DataLoader from the GraphQL context.
      *
      * @param environment the GraphQL data fetching environment
-     * @return DataLoader for loading retry history by transaction ID
+     * @return DataLoader for loading retry history by exception ID
      */
-    public static DataLoader<String, List<RetryAttempt>> getRetryHistoryLoader(DataFetchingEnvironment environment) {
+    public static DataLoader<Long, List<RetryAttemptView>> getRetryHistoryLoader(DataFetchingEnvironment environment) {
         return environment.getDataLoader(DataLoaderConfig.RETRY_HISTORY_LOADER);
     }
 
@@ -56,9 +56,9 @@ public class DataLoaderUtil {
      * Gets the status change history DataLoader from the GraphQL context.
      *
      * @param environment the GraphQL data fetching environment
-     * @return DataLoader for loading status change history by transaction ID
+     * @return DataLoader for loading status change history by exception ID
      */
-    public static DataLoader<String, List<StatusChange>> getStatusChangeLoader(DataFetchingEnvironment environment) {
+    public static DataLoader<Long, List<StatusChangeView>> getStatusChangeLoader(DataFetchingEnvironment environment) {
         return environment.getDataLoader(DataLoaderConfig.STATUS_CHANGE_LOADER);
     }
 
@@ -118,53 +118,79 @@ public class DataLoaderUtil {
     }
 
     /**
-     * Loads retry history by transaction ID using the DataLoader.
+     * Loads the payload of an exception using the DataLoader. The exception is
+     * passed to the DataLoader as key context so it is not loaded again.
      *
-     * @param environment   the GraphQL data fetching environment
-     * @param transactionId the transaction ID to load retry history for
-     * @return CompletableFuture containing the list of retry attempts
+     * @param environment the GraphQL data fetching environment
+     * @param exception   the exception to load the payload for
+     * @return CompletableFuture containing the payload response
      */
-    public static CompletableFuture<List<RetryAttempt>> loadRetryHistory(
-            DataFetchingEnvironment environment, String transactionId) {
+    public static CompletableFuture<PayloadResponse> loadPayload(
+            DataFetchingEnvironment environment, InterfaceException exception) {
 
-        if (transactionId == null || transactionId.trim().isEmpty()) {
-            log.warn("Attempted to load retry history with null or empty transaction ID");
+        if (exception == null || exception.getTransactionId() == null
+                || exception.getTransactionId().trim().isEmpty()) {
+            return loadPayload(environment, exception != null ? exception.getTransactionId() : null);
+        }
+
+        DataLoader<String, PayloadResponse> loader = getPayloadLoader(environment);
+        if (loader == null) {
+            log.error("Payload DataLoader not found in GraphQL context");
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("Payload DataLoader not available"));
+        }
+
+        return loader.load(exception.getTransactionId(), exception);
+    }
+
+    /**
+     * Loads retry history by exception ID using the DataLoader.
+     *
+     * @param environment the GraphQL data fetching environment
+     * @param exceptionId the exception ID to load retry history for
+     * @return CompletableFuture containing the retry attempts ordered by attempt number
+     */
+    public static CompletableFuture<List<RetryAttemptView>> loadRetryHistory(
+            DataFetchingEnvironment environment, Long exceptionId) {
+
+        if (exceptionId == null) {
+            log.warn("Attempted to load retry history with null exception ID");
             return CompletableFuture.completedFuture(List.of());
         }
 
-        DataLoader<String, List<RetryAttempt>> loader = getRetryHistoryLoader(environment);
+        DataLoader<Long, List<RetryAttemptView>> loader = getRetryHistoryLoader(environment);
         if (loader == null) {
             log.error("Retry history DataLoader not found in GraphQL context");
             return CompletableFuture.failedFuture(
                     new IllegalStateException("Retry history DataLoader not available"));
         }
 
-        return loader.load(transactionId);
+        return loader.load(exceptionId);
     }
 
     /**
-     * Loads status change history by transaction ID using the DataLoader.
+     * Loads status change history by exception ID using the DataLoader.
      *
-     * @param environment   the GraphQL data fetching environment
-     * @param transactionId the transaction ID to load status change history for
-     * @return CompletableFuture containing the list of status changes
+     * @param environment the GraphQL data fetching environment
+     * @param exceptionId the exception ID to load status change history for
+     * @return CompletableFuture containing the status changes, most recent first
      */
-    public static CompletableFuture<List<StatusChange>> loadStatusHistory(
-            DataFetchingEnvironment environment, String transactionId) {
+    public static CompletableFuture<List<StatusChangeView>> loadStatusHistory(
+            DataFetchingEnvironment environment, Long exceptionId) {
 
-        if (transactionId == null || transactionId.trim().isEmpty()) {
-            log.warn("Attempted to load status history with null or empty transaction ID");
+        if (exceptionId == null) {
+            log.warn("Attempted to load status history with null exception ID");
             return CompletableFuture.completedFuture(List.of());
         }
 
-        DataLoader<String, List<StatusChange>> loader = getStatusChangeLoader(environment);
+        DataLoader<Long, List<StatusChangeView>> loader = getStatusChangeLoader(environment);
         if (loader == null) {
             log.error("Status change DataLoader not found in GraphQL context");
             return CompletableFuture.failedFuture(
                     new IllegalStateException("Status change DataLoader not available"));
         }
 
-        return loader.load(transactionId);
+        return loader.load(exceptionId);
     }
 
     /**
@@ -194,8 +220,8 @@ public class DataLoaderUtil {
         try {
             DataLoader<String, InterfaceException> exceptionLoader = getExceptionLoader(environment);
             DataLoader<String, PayloadResponse> payloadLoader = getPayloadLoader(environment);
-            DataLoader<String, List<RetryAttempt>> retryLoader = getRetryHistoryLoader(environment);
-            DataLoader<String, List<StatusChange>> statusLoader = getStatusChangeLoader(environment);
+            DataLoader<Long, List<RetryAttemptView>> retryLoader = getRetryHistoryLoader(environment);
+            DataLoader<Long, List<StatusChangeView>> statusLoader = getStatusChangeLoader(environment);
 
             log.debug("DataLoader stats - Exception: {}, Payload: {}, Retry: {}, Status: {}",
                     exceptionLoader != null ? "available" : "missing",
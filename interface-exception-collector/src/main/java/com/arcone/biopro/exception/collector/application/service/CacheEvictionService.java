@@ -2,18 +2,25 @@ package com.arcone.biopro.exception.collector.application.service;
 
 import com.arcone.biopro.exception.collector.infrastructure.config.CacheConfig;
 import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.infrastructure.service.CacheInvalidationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.Objects;
 
 /**
  * Service responsible for managing cache eviction strategies to maintain data
  * consistency.
- * Implements cache invalidation when exception data is modified.
+ * Implements cache invalidation when exception data is modified: per-key
+ * caches are evicted by key, and summary, search and related-exception results
+ * are invalidated through {@link ScopedCacheService} only where their scope
+ * covers the modified exceptions. Updates also invalidate the cached exception
+ * state used for mutation validation once the updating transaction commits.
  */
 @Service
 @RequiredArgsConstructor
@@ -21,6 +28,8 @@ import java.util.Objects;
 public class CacheEvictionService {
 
     private final CacheManager cacheManager;
+    private final ScopedCacheService scopedCacheService;
+    private final CacheInvalidationService cacheInvalidationService;
 
     /**
      * Evicts cache entries when an exception is updated.
@@ -29,14 +38,12 @@ public class CacheEvictionService {
      *
      * @param exception the updated exception
      */
-    @CacheEvict(value = {
-            CacheConfig.EXCEPTION_DETAILS_CACHE,
-            CacheConfig.EXCEPTION_SUMMARY_CACHE,
-            CacheConfig.SEARCH_RESULTS_CACHE,
-            CacheConfig.RELATED_EXCEPTIONS_CACHE
-    }, allEntries = true)
     public void evictCachesOnExceptionUpdate(InterfaceException exception) {
         log.debug("Evicting caches due to exception update: {}", exception.getTransactionId());
+
+        evictKey(CacheConfig.EXCEPTION_DETAILS_CACHE, exception.getTransactionId());
+        cacheInvalidationService.invalidateAfterCommit(exception.getTransactionId());
+        scopedCacheService.invalidate(exception);
     }
 
     /**
@@ -82,17 +89,13 @@ public class CacheEvictionService {
     }
 
     /**
-     * Evicts related exceptions cache for a specific customer.
+     * Evicts related exceptions cache entries for a specific customer.
      *
      * @param customerId the customer ID
      */
     public void evictRelatedExceptionsCache(String customerId) {
         log.debug("Evicting related exceptions cache for customer: {}", customerId);
-
-        // Since the cache key includes pagination parameters, we need to clear all
-        // entries
-        // for this customer by clearing the entire cache
-        Objects.requireNonNull(cacheManager.getCache(CacheConfig.RELATED_EXCEPTIONS_CACHE)).clear();
+        scopedCacheService.invalidateCustomer(CacheConfig.RELATED_EXCEPTIONS_CACHE, customerId);
     }
 
     /**
@@ -110,23 +113,50 @@ public class CacheEvictionService {
 
     /**
      * Evicts caches when a new exception is created.
-     * This ensures summary and search caches reflect the new data.
+     * Only summary, search and related-exception entries whose scope covers the
+     * new exception are invalidated.
      *
      * @param exception the newly created exception
      */
     public void evictCachesOnExceptionCreation(InterfaceException exception) {
         log.debug("Evicting caches due to new exception creation: {}", exception.getTransactionId());
+        scopedCacheService.invalidate(exception);
+    }
 
-        // Evict summary caches to reflect new exception counts
-        evictSummaryCaches();
+    /**
+     * Evicts caches once for a batch of newly created exceptions instead of once
+     * per exception.
+     *
+     * @param exceptions the newly created exceptions
+     */
+    public void evictCachesOnExceptionBatch(Collection<InterfaceException> exceptions) {
+        if (exceptions.isEmpty()) {
+            return;
+        }
+
+        log.debug("Evicting caches due to batch creation of {} exceptions", exceptions.size());
 
-        // Evict search caches to include new exception in search results
-        evictSearchCaches();
+        // Each covered entry is invalidated once, however many of the exceptions it covers
+        scopedCacheService.invalidate(exceptions);
+    }
 
-        // Evict related exceptions cache for the customer
-        if (exception.getCustomerId() != null) {
-            evictRelatedExceptionsCache(exception.getCustomerId());
+    /**
+     * Evicts caches once for a set of exceptions changed by a bulk mutation.
+     *
+     * @param exceptions the updated exceptions
+     */
+    public void evictCachesOnBulkUpdate(Collection<InterfaceException> exceptions) {
+        if (exceptions.isEmpty()) {
+            return;
         }
+
+        log.debug("Evicting caches due to bulk update of {} exceptions", exceptions.size());
+
+        exceptions.forEach(exception -> {
+            evictKey(CacheConfig.EXCEPTION_DETAILS_CACHE, exception.getTransactionId());
+            cacheInvalidationService.invalidateAfterCommit(exception.getTransactionId());
+        });
+        scopedCacheService.invalidate(exceptions);
     }
 
     /**
@@ -139,18 +169,10 @@ public class CacheEvictionService {
         log.debug("Evicting caches due to status change for transaction: {}", exception.getTransactionId());
 
         // Evict the specific exception details
-        evictExceptionDetails(exception.getTransactionId());
-
-        // Evict summary caches as status counts have changed
-        evictSummaryCaches();
+        evictKey(CacheConfig.EXCEPTION_DETAILS_CACHE, exception.getTransactionId());
 
-        // Evict search caches as status-based searches need to reflect changes
-        evictSearchCaches();
-
-        // Evict related exceptions cache for the customer
-        if (exception.getCustomerId() != null) {
-            evictRelatedExceptionsCache(exception.getCustomerId());
-        }
+        // Status counts, status-based searches and the customer's related exceptions
+        scopedCacheService.invalidate(exception);
     }
 
     /**
@@ -163,17 +185,23 @@ public class CacheEvictionService {
         log.debug("Evicting caches due to retry operation for transaction: {}", exception.getTransactionId());
 
         // Evict the specific exception details to reflect retry history
-        evictExceptionDetails(exception.getTransactionId());
+        evictKey(CacheConfig.EXCEPTION_DETAILS_CACHE, exception.getTransactionId());
 
         // Evict payload cache as retry might affect payload retrieval
-        evictPayloadCache(exception.getTransactionId(), exception.getInterfaceType().name());
+        evictKey(CacheConfig.PAYLOAD_CACHE, exception.getTransactionId() + ':' + exception.getInterfaceType().name());
 
-        // Evict summary caches if status changed due to retry
-        evictSummaryCaches();
+        // Summary and related exceptions entries covering the exception, if status changed due to retry
+        scopedCacheService.invalidate(exception);
+    }
 
-        // Evict related exceptions cache for the customer
-        if (exception.getCustomerId() != null) {
-            evictRelatedExceptionsCache(exception.getCustomerId());
+    /**
+     * Evicts a single key directly; the {@code @CacheEvict} methods above are not
+     * applied when called from within this class.
+     */
+    private void evictKey(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.arcone.biopro.exception.collector.application.service;
+
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The slice of exception data a cached result was computed from.
+ * An empty dimension matches every value and a null time bound is open, so a
+ * relative window such as "last 24 hours" is stored with an open upper bound.
+ * A change to an exception only invalidates cached results whose scope covers it.
+ *
+ * @param interfaceTypes interface types the result is restricted to
+ * @param customerIds    customer IDs the result is restricted to
+ * @param from           inclusive lower bound on the exception timestamp
+ * @param to             inclusive upper bound on the exception timestamp
+ * @param searchTerm     text search the result is restricted to
+ */
+public record CacheScope(
+        Set<InterfaceType> interfaceTypes,
+        Set<String> customerIds,
+        OffsetDateTime from,
+        OffsetDateTime to,
+        String searchTerm) {
+
+    /**
+     * Search terms are matched on token prefixes of this length, so that
+     * stemmed full-text matches ("timeouts" against "timeout") are still covered.
+     */
+    private static final int SEARCH_PREFIX_LENGTH = 4;
+
+    public static final CacheScope ALL = new CacheScope(Set.of(), Set.of(), null, null, null);
+
+    public CacheScope {
+        interfaceTypes = interfaceTypes != null ? Set.copyOf(interfaceTypes) : Set.of();
+        customerIds = customerIds != null ? Set.copyOf(customerIds) : Set.of();
+        searchTerm = searchTerm != null && !searchTerm.isBlank() ? searchTerm.toLowerCase(Locale.ROOT) : null;
+    }
+
+    public static CacheScope customer(String customerId) {
+        return new CacheScope(Set.of(), Set.of(customerId), null, null, null);
+    }
+
+    public static CacheScope search(String searchTerm) {
+        return new CacheScope(Set.of(), Set.of(), null, null, searchTerm);
+    }
+
+    public static CacheScope window(OffsetDateTime from, OffsetDateTime to) {
+        return new CacheScope(Set.of(), Set.of(), from, to, null);
+    }
+
+    public CacheScope withInterfaceTypes(Collection<InterfaceType> types) {
+        return new CacheScope(types != null ? Set.copyOf(types) : Set.of(), customerIds, from, to, searchTerm);
+    }
+
+    public CacheScope withCustomerIds(Collection<String> ids) {
+        return new CacheScope(interfaceTypes, ids != null ? Set.copyOf(ids) : Set.of(), from, to, searchTerm);
+    }
+
+    public CacheScope withSearchTerm(String term) {
+        return new CacheScope(interfaceTypes, customerIds, from, to, term);
+    }
+
+    /**
+     * Whether a change to the given exception can affect a result computed for this scope.
+     * Unknown exception values are treated as covered.
+     */
+    public boolean covers(InterfaceException exception) {
+        if (!interfaceTypes.isEmpty() && exception.getInterfaceType() != null
+                && !interfaceTypes.contains(exception.getInterfaceType())) {
+            return false;
+        }
+        if (!customerIds.isEmpty() && exception.getCustomerId() != null
+                && !customerIds.contains(exception.getCustomerId())) {
+            return false;
+        }
+        OffsetDateTime timestamp = exception.getTimestamp();
+        if (timestamp != null) {
+            if (from != null && timestamp.isBefore(from)) {
+                return false;
+            }
+            if (to != null && timestamp.isAfter(to)) {
+                return false;
+            }
+        }
+        return searchTerm == null || matchesSearch(exception);
+    }
+
+    private boolean matchesSearch(InterfaceException exception) {
+        String text = Stream.of(exception.getExceptionReason(), exception.getExternalId(), exception.getOperation(),
+                exception.getCustomerId())
+                .filter(Objects::nonNull)
+                .map(value -> value.toLowerCase(Locale.ROOT))
+                .collect(Collectors.joining(" "));
+        return Arrays.stream(searchTerm.split("\\s+"))
+                .filter(token -> !token.isEmpty())
+                .map(token -> token.length() > SEARCH_PREFIX_LENGTH ? token.substring(0, SEARCH_PREFIX_LENGTH) : token)
+                .anyMatch(text::contains);
+    }
+}
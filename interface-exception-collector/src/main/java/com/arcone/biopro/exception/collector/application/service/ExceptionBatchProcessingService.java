@@ -0,0 +1,242 @@
+package com.arcone.biopro.exception.collector.application.service;
+
+import com.arcone.biopro.exception.collector.api.graphql.service.ExceptionEventPublisher;
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.domain.event.inbound.CollectionRejectedEvent;
+import com.arcone.biopro.exception.collector.domain.event.inbound.DistributionFailedEvent;
+import com.arcone.biopro.exception.collector.domain.event.inbound.OrderCancelledEvent;
+import com.arcone.biopro.exception.collector.domain.event.inbound.OrderRejectedEvent;
+import com.arcone.biopro.exception.collector.domain.event.inbound.ValidationErrorEvent;
+import com.arcone.biopro.exception.collector.infrastructure.repository.ExceptionIngestRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Batch ingestion path for inbound exception events.
+ * Processes a whole Kafka poll in a single transaction: one
+ * {@code findByTransactionIdIn} duplicate lookup, one {@code INSERT ... ON CONFLICT}
+ * for the new exceptions and one {@code saveAll} for the updated ones, a single
+ * cache eviction per batch, and order data retrieval handed to
+ * {@link OrderDataEnrichmentService} once the batch commits.
+ * Applies the same categorization and duplicate-detection rules as
+ * {@link ExceptionProcessingService}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExceptionBatchProcessingService {
+
+    private final ExceptionProcessingService exceptionProcessingService;
+    private final InterfaceExceptionRepository exceptionRepository;
+    private final ExceptionIngestRepository exceptionIngestRepository;
+    private final CacheEvictionService cacheEvictionService;
+    private final MetricsService metricsService;
+    private final ExceptionEventPublisher graphqlEventPublisher;
+    private final OrderDataEnrichmentService orderDataEnrichmentService;
+    private final HotExceptionSearchService hotExceptionSearchService;
+
+    /**
+     * Process a batch of inbound events in order.
+     * Events with a missing payload or transaction ID are skipped, as in the
+     * per-record consumers. Processing stops at the first event that cannot be
+     * converted (a poison record); the events before it are still persisted and
+     * its index is reported in the result so the caller can dead-letter it.
+     *
+     * @param events the deserialized events in partition order; null entries
+     *               represent records that failed deserialization
+     * @return the batch result
+     */
+    @Transactional
+    public ExceptionBatchResult processBatch(List<?> events) {
+        Instant start = Instant.now();
+
+        List<Object> acceptedEvents = new ArrayList<>();
+        List<InterfaceException> builtExceptions = new ArrayList<>();
+        int skipped = 0;
+        int failedIndex = -1;
+        Exception failure = null;
+
+        // Convert every event up front so a poison record is found before anything is written
+        for (int i = 0; i < events.size(); i++) {
+            Object event = events.get(i);
+            if (event == null) {
+                failedIndex = i;
+                failure = new IllegalArgumentException("Event at index " + i + " could not be deserialized");
+                break;
+            }
+
+            if (!isProcessable(event)) {
+                log.error("Invalid {} payload in batch at index {}: missing required fields",
+                        event.getClass().getSimpleName(), i);
+                skipped++;
+                continue;
+            }
+
+            try {
+                builtExceptions.add(exceptionProcessingService.buildException(event));
+                acceptedEvents.add(event);
+            } catch (Exception e) {
+                failedIndex = i;
+                failure = e;
+                break;
+            }
+        }
+
+        if (failure != null) {
+            log.error("Poison record at batch index {} ({} events before it will be persisted): {}",
+                    failedIndex, acceptedEvents.size(), failure.getMessage());
+        }
+
+        if (acceptedEvents.isEmpty()) {
+            return ExceptionBatchResult.builder()
+                    .created(List.of())
+                    .updated(List.of())
+                    .skipped(skipped)
+                    .failedIndex(failedIndex)
+                    .failure(failure)
+                    .build();
+        }
+
+        // Group the events by transaction ID; the first event of each builds a new exception
+        Map<String, InterfaceException> builtByTransactionId = new LinkedHashMap<>();
+        Map<String, List<Object>> eventsByTransactionId = new LinkedHashMap<>();
+        for (int i = 0; i < acceptedEvents.size(); i++) {
+            String transactionId = builtExceptions.get(i).getTransactionId();
+            builtByTransactionId.putIfAbsent(transactionId, builtExceptions.get(i));
+            eventsByTransactionId.computeIfAbsent(transactionId, id -> new ArrayList<>()).add(acceptedEvents.get(i));
+        }
+
+        // Single duplicate-detection lookup for the whole batch (US-005)
+        Map<String, InterfaceException> existingByTransactionId = findByTransactionIds(eventsByTransactionId.keySet());
+
+        List<InterfaceException> newExceptions = new ArrayList<>();
+        Set<InterfaceException> updated = new LinkedHashSet<>();
+        Set<InterfaceException> needsOrderData = new LinkedHashSet<>();
+
+        eventsByTransactionId.forEach((transactionId, transactionEvents) -> {
+            InterfaceException stored = existingByTransactionId.get(transactionId);
+            if (stored != null) {
+                applyEvents(stored, transactionEvents, needsOrderData);
+                updated.add(stored);
+            } else {
+                // Later events of the same transaction are duplicates of the one just built
+                InterfaceException built = builtByTransactionId.get(transactionId);
+                applyEvents(built, transactionEvents.subList(1, transactionEvents.size()), needsOrderData);
+                if (exceptionProcessingService.requiresOrderRetrieval(built, transactionEvents.get(0))) {
+                    needsOrderData.add(built);
+                }
+                newExceptions.add(built);
+            }
+        });
+
+        needsOrderData.forEach(orderDataEnrichmentService::markPending);
+
+        // Insert new exceptions with ON CONFLICT so a concurrent consumer that stored the same
+        // transaction ID since the lookup does not fail the batch on the unique constraint
+        Set<String> inserted = exceptionIngestRepository.insertIfAbsent(newExceptions).keySet();
+        List<InterfaceException> created = new ArrayList<>();
+        Set<String> lostRace = new LinkedHashSet<>();
+        for (InterfaceException exception : newExceptions) {
+            if (inserted.contains(exception.getTransactionId())) {
+                created.add(exception);
+            } else {
+                needsOrderData.remove(exception);
+                lostRace.add(exception.getTransactionId());
+            }
+        }
+        if (!lostRace.isEmpty()) {
+            log.info("{} exceptions of the batch were stored concurrently; applying the events as duplicates",
+                    lostRace.size());
+            findByTransactionIds(lostRace).forEach((transactionId, stored) -> {
+                Set<InterfaceException> storedNeedsOrderData = new LinkedHashSet<>();
+                applyEvents(stored, eventsByTransactionId.get(transactionId), storedNeedsOrderData);
+                storedNeedsOrderData.forEach(orderDataEnrichmentService::markPending);
+                needsOrderData.addAll(storedNeedsOrderData);
+                updated.add(stored);
+            });
+        }
+
+        exceptionRepository.saveAll(updated);
+        needsOrderData.forEach(exception ->
+                orderDataEnrichmentService.scheduleAfterCommit(exception.getTransactionId()));
+        updated.forEach(hotExceptionSearchService::indexAfterCommit);
+
+        Duration processingTime = Duration.between(start, Instant.now());
+        for (InterfaceException exception : created) {
+            try {
+                graphqlEventPublisher.publishExceptionCreated(exception, "system");
+            } catch (Exception e) {
+                log.warn("Failed to publish GraphQL subscription event for exception: {}",
+                        exception.getTransactionId(), e);
+            }
+            metricsService.recordExceptionProcessed(exception.getInterfaceType(), exception.getSeverity());
+            metricsService.recordExceptionProcessingTime(processingTime, exception.getInterfaceType());
+        }
+
+        cacheEvictionService.evictCachesOnExceptionBatch(created);
+        cacheEvictionService.evictCachesOnBulkUpdate(updated);
+
+        log.info("Processed exception batch of {} events in {} ms: {} created, {} updated, {} skipped",
+                events.size(), processingTime.toMillis(), created.size(), updated.size(), skipped);
+
+        return ExceptionBatchResult.builder()
+                .created(created)
+                .updated(new ArrayList<>(updated))
+                .skipped(skipped)
+                .failedIndex(failedIndex)
+                .failure(failure)
+                .build();
+    }
+
+    /**
+     * Applies duplicate events to an exception, collecting it if any of them still needs order data.
+     */
+    private void applyEvents(InterfaceException target, List<Object> events, Set<InterfaceException> needsOrderData) {
+        for (Object event : events) {
+            exceptionProcessingService.applyEventToExistingException(target, event);
+            if (exceptionProcessingService.requiresOrderRetrieval(target, event)) {
+                needsOrderData.add(target);
+            }
+        }
+    }
+
+    private Map<String, InterfaceException> findByTransactionIds(Set<String> transactionIds) {
+        return exceptionRepository.findByTransactionIdIn(transactionIds).stream()
+                .collect(Collectors.toMap(InterfaceException::getTransactionId, Function.identity(), (a, b) -> a));
+    }
+
+    /**
+     * Mirrors the payload validation done by the per-record consumers.
+     */
+    private boolean isProcessable(Object event) {
+        if (event instanceof OrderRejectedEvent e) {
+            return e.getPayload() != null && e.getPayload().getTransactionId() != null;
+        } else if (event instanceof OrderCancelledEvent e) {
+            return e.getPayload() != null && e.getPayload().getTransactionId() != null;
+        } else if (event instanceof CollectionRejectedEvent e) {
+            return e.getPayload() != null && e.getPayload().getTransactionId() != null;
+        } else if (event instanceof DistributionFailedEvent e) {
+            return e.getPayload() != null && e.getPayload().getTransactionId() != null;
+        } else if (event instanceof ValidationErrorEvent e) {
+            return e.getPayload() != null && e.getPayload().getTransactionId() != null
+                    && e.getPayload().getValidationErrors() != null
+                    && !e.getPayload().getValidationErrors().isEmpty();
+        }
+        // Unknown types are left to buildException, which rejects them as poison records
+        return true;
+    }
+}
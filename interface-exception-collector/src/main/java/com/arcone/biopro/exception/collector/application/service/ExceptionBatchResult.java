@@ -0,0 +1,27 @@
+package com.arcone.biopro.exception.collector.application.service;
+
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Result object for batch ingestion of inbound exception events.
+ * When {@code failedIndex} is non-negative, every event before that index has
+ * been persisted and the event at that index could not be processed.
+ */
+@Data
+@Builder
+public class ExceptionBatchResult {
+    private List<InterfaceException> created;
+    private List<InterfaceException> updated;
+    private int skipped;
+    @Builder.Default
+    private int failedIndex = -1;
+    private Exception failure;
+
+    public boolean hasFailure() {
+        return failedIndex >= 0;
+    }
+}
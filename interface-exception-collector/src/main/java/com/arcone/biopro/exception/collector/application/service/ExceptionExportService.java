@@ -0,0 +1,224 @@
+package com.arcone.biopro.exception.collector.application.service;
+
+import com.arcone.biopro.exception.collector.api.dto.ExceptionListResponse;
+import com.arcone.biopro.exception.collector.api.mapper.ExceptionMapper;
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionSeverity;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
+import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Service for exporting exceptions as NDJSON or CSV.
+ *
+ * Exceptions are read through a server-side cursor and written to the output
+ * stream row by row, so memory use does not depend on the number of exported
+ * rows. Rows carry the same fields as the exception list endpoint.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExceptionExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String[] CSV_COLUMNS = {
+            "id", "transactionId", "interfaceType", "exceptionReason", "operation", "externalId",
+            "status", "severity", "category", "retryable", "customerId", "locationCode",
+            "timestamp", "processedAt", "retryCount", "lastRetryAt", "hasOrderData"
+    };
+
+    /**
+     * Properties an export can be sorted by: the exported columns that are
+     * stored on the exception.
+     */
+    private static final Set<String> SORT_PROPERTIES = Set.of(
+            "id", "transactionId", "interfaceType", "exceptionReason", "operation", "externalId",
+            "status", "severity", "category", "retryable", "customerId", "locationCode",
+            "timestamp", "processedAt", "retryCount", "lastRetryAt");
+
+    private final InterfaceExceptionRepository exceptionRepository;
+    private final ExceptionMapper exceptionMapper;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.export.fetch-size:500}")
+    private int fetchSize;
+
+    /**
+     * Supported export formats.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String fileExtension;
+
+        /**
+         * Resolves a format from its case-insensitive name.
+         *
+         * @throws IllegalArgumentException if the format is not supported
+         */
+        public static ExportFormat from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("Unsupported export format: " + value
+                        + " (supported: ndjson, csv)");
+            }
+        }
+    }
+
+    /**
+     * Checks that every sort property can be exported by. Called before the
+     * response is committed, since errors while streaming can no longer change
+     * its status.
+     *
+     * @throws IllegalArgumentException if a sort property is not supported
+     */
+    public void validateSort(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Unsupported export sort property: " + order.getProperty()
+                        + " (supported: " + String.join(", ", new TreeSet<>(SORT_PROPERTIES)) + ")");
+            }
+        }
+    }
+
+    /**
+     * Writes all exceptions matching the filters to the output stream.
+     * The output stream is flushed but not closed.
+     *
+     * @param format        the export format
+     * @param interfaceType optional interface type filter
+     * @param status        optional status filter
+     * @param severity      optional severity filter
+     * @param customerId    optional customer ID filter
+     * @param fromDate      optional start date filter
+     * @param toDate        optional end date filter
+     * @param sort          sorting parameters
+     * @param outputStream  the stream to write to
+     * @return number of exported exceptions
+     * @throws IOException if writing to the output stream fails
+     */
+    @Transactional(readOnly = true, timeoutString = "${app.export.transaction-timeout-seconds:600}")
+    public long exportExceptions(
+            ExportFormat format,
+            InterfaceType interfaceType,
+            ExceptionStatus status,
+            ExceptionSeverity severity,
+            String customerId,
+            OffsetDateTime fromDate,
+            OffsetDateTime toDate,
+            Sort sort,
+            OutputStream outputStream) throws IOException {
+
+        long startTime = System.currentTimeMillis();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+                WRITE_BUFFER_SIZE);
+        ObjectWriter jsonWriter = objectMapper.writerFor(ExceptionListResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(SerializationFeature.INDENT_OUTPUT);
+
+        if (format == ExportFormat.CSV) {
+            writeCsvRow(writer, (Object[]) CSV_COLUMNS);
+        }
+
+        long rows = 0;
+        try (Stream<InterfaceException> exceptions = exceptionRepository.streamWithFilters(
+                interfaceType, status, severity, customerId, fromDate, toDate, sort, fetchSize)) {
+            Iterator<InterfaceException> iterator = exceptions.iterator();
+            while (iterator.hasNext()) {
+                ExceptionListResponse row = exceptionMapper.toListResponse(iterator.next());
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, csvValues(row));
+                } else {
+                    jsonWriter.writeValue(writer, row);
+                    writer.write('\n');
+                }
+                rows++;
+            }
+        }
+        writer.flush();
+
+        log.info("Exported {} exceptions as {} in {}ms", rows, format, System.currentTimeMillis() - startTime);
+        return rows;
+    }
+
+    private static Object[] csvValues(ExceptionListResponse row) {
+        return new Object[] {
+                row.getId(), row.getTransactionId(), row.getInterfaceType(), row.getExceptionReason(),
+                row.getOperation(), row.getExternalId(), row.getStatus(), row.getSeverity(), row.getCategory(),
+                row.getRetryable(), row.getCustomerId(), row.getLocationCode(), row.getTimestamp(),
+                row.getProcessedAt(), row.getRetryCount(), row.getLastRetryAt(), row.getHasOrderData()
+        };
+    }
+
+    private static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] instanceof String text) {
+                writer.write(escapeCsv(neutralizeFormula(text)));
+            } else if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Prefixes text starting like a spreadsheet formula with a single quote, so
+     * that values such as exception reasons are shown as text and never
+     * evaluated when the export is opened in a spreadsheet.
+     */
+    static String neutralizeFormula(String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        return switch (value.charAt(0)) {
+            case '=', '+', '-', '@', '\t', '\r' -> "'" + value;
+            default -> value;
+        };
+    }
+
+    /**
+     * Quotes a value as defined by RFC 4180 when it contains a separator,
+     * quote or line break.
+     */
+    static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
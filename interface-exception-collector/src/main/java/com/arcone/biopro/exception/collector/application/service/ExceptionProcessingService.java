@@ -1,6 +1,5 @@
 package com.arcone.biopro.exception.collector.application.service;
 
-import com.arcone.biopro.exception.collector.api.dto.PayloadResponse;
 import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionCategory;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionSeverity;
@@ -11,8 +10,6 @@ import com.arcone.biopro.exception.collector.domain.event.inbound.DistributionFa
 import com.arcone.biopro.exception.collector.domain.event.inbound.OrderCancelledEvent;
 import com.arcone.biopro.exception.collector.domain.event.inbound.OrderRejectedEvent;
 import com.arcone.biopro.exception.collector.domain.event.inbound.ValidationErrorEvent;
-import com.arcone.biopro.exception.collector.infrastructure.client.SourceServiceClient;
-import com.arcone.biopro.exception.collector.infrastructure.client.SourceServiceClientRegistry;
 import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
 import com.arcone.biopro.exception.collector.infrastructure.config.LoggingConfig;
 import com.arcone.biopro.exception.collector.api.graphql.service.ExceptionEventPublisher;
@@ -26,7 +23,6 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -46,7 +42,8 @@ public class ExceptionProcessingService {
     private final InterfaceExceptionRepository exceptionRepository;
     private final CacheEvictionService cacheEvictionService;
     private final MetricsService metricsService;
-    private final SourceServiceClientRegistry clientRegistry;
+    private final OrderDataEnrichmentService orderDataEnrichmentService;
+    private final HotExceptionSearchService hotExceptionSearchService;
     
     @Qualifier("graphQLExceptionEventPublisher")
     private final ExceptionEventPublisher graphqlEventPublisher;
@@ -81,32 +78,16 @@ public class ExceptionProcessingService {
             }
 
             // Create new exception
-            ExceptionSeverity severity = assignSeverity(InterfaceType.ORDER, event.getPayload().getRejectedReason());
-            InterfaceException exception = InterfaceException.builder()
-                    .transactionId(transactionId)
-                    .interfaceType(InterfaceType.ORDER)
-                    .exceptionReason(event.getPayload().getRejectedReason())
-                    .operation(event.getPayload().getOperation().name())
-                    .externalId(event.getPayload().getExternalId())
-                    .status(ExceptionStatus.NEW)
-                    .category(categorizeOrderException(event.getPayload().getRejectedReason()))
-                    .severity(severity)
-                    .retryable(determineRetryability(event.getPayload().getRejectedReason()))
-                    .customerId(event.getPayload().getCustomerId())
-                    .locationCode(event.getPayload().getLocationCode())
-                    .timestamp(event.getOccurredOn())
-                    .processedAt(OffsetDateTime.now())
-                    .retryCount(0)
-                    .orderRetrievalAttempted(false)
-                    .build();
-
-            // Attempt to retrieve order data from mock server
-            retrieveAndStoreOrderData(exception);
+            InterfaceException exception = buildOrderRejectedException(event);
+            ExceptionSeverity severity = exception.getSeverity();
+
+            // Order data is retrieved asynchronously once this transaction commits
+            orderDataEnrichmentService.markPending(exception);
 
             InterfaceException savedException = exceptionRepository.save(exception);
-            log.info("Created new exception with ID: {} for transaction: {}, order data retrieved: {}",
-                    savedException.getId(), savedException.getTransactionId(), 
-                    savedException.getOrderReceived() != null);
+            orderDataEnrichmentService.scheduleAfterCommit(savedException.getTransactionId());
+            log.info("Created new exception with ID: {} for transaction: {}, order data retrieval scheduled",
+                    savedException.getId(), savedException.getTransactionId());
 
             // Publish GraphQL subscription event
             try {
@@ -160,22 +141,8 @@ public class ExceptionProcessingService {
             }
 
             // Create new exception
-            ExceptionSeverity severity = assignSeverity(InterfaceType.ORDER, event.getPayload().getCancelReason());
-            InterfaceException exception = InterfaceException.builder()
-                    .transactionId(transactionId)
-                    .interfaceType(InterfaceType.ORDER)
-                    .exceptionReason(event.getPayload().getCancelReason())
-                    .operation("CANCEL_ORDER")
-                    .externalId(event.getPayload().getExternalId())
-                    .status(ExceptionStatus.NEW)
-                    .category(categorizeOrderException(event.getPayload().getCancelReason()))
-                    .severity(severity)
-                    .retryable(determineRetryability(event.getPayload().getCancelReason()))
-                    .customerId(event.getPayload().getCustomerId())
-                    .timestamp(event.getOccurredOn())
-                    .processedAt(OffsetDateTime.now())
-                    .retryCount(0)
-                    .build();
+            InterfaceException exception = buildOrderCancelledException(event);
+            ExceptionSeverity severity = exception.getSeverity();
 
             InterfaceException savedException = exceptionRepository.save(exception);
             log.info("Created new exception with ID: {} for transaction: {}",
@@ -231,24 +198,8 @@ public class ExceptionProcessingService {
             }
 
             // Create new exception
-            ExceptionSeverity severity = assignSeverity(InterfaceType.COLLECTION,
-                    event.getPayload().getRejectedReason());
-            InterfaceException exception = InterfaceException.builder()
-                    .transactionId(transactionId)
-                    .interfaceType(InterfaceType.COLLECTION)
-                    .exceptionReason(event.getPayload().getRejectedReason())
-                    .operation(event.getPayload().getOperation())
-                    .externalId(event.getPayload().getCollectionId())
-                    .status(ExceptionStatus.NEW)
-                    .category(categorizeCollectionException(event.getPayload().getRejectedReason()))
-                    .severity(severity)
-                    .retryable(determineRetryability(event.getPayload().getRejectedReason()))
-                    .customerId(event.getPayload().getDonorId()) // Using donorId as customerId for collections
-                    .locationCode(event.getPayload().getLocationCode())
-                    .timestamp(event.getOccurredOn())
-                    .processedAt(OffsetDateTime.now())
-                    .retryCount(0)
-                    .build();
+            InterfaceException exception = buildCollectionRejectedException(event);
+            ExceptionSeverity severity = exception.getSeverity();
 
             InterfaceException savedException = exceptionRepository.save(exception);
             log.info("Created new exception with ID: {} for transaction: {}",
@@ -304,24 +255,8 @@ public class ExceptionProcessingService {
             }
 
             // Create new exception
-            ExceptionSeverity severity = assignSeverity(InterfaceType.DISTRIBUTION,
-                    event.getPayload().getFailureReason());
-            InterfaceException exception = InterfaceException.builder()
-                    .transactionId(transactionId)
-                    .interfaceType(InterfaceType.DISTRIBUTION)
-                    .exceptionReason(event.getPayload().getFailureReason())
-                    .operation(event.getPayload().getOperation())
-                    .externalId(event.getPayload().getDistributionId())
-                    .status(ExceptionStatus.NEW)
-                    .category(categorizeDistributionException(event.getPayload().getFailureReason()))
-                    .severity(severity)
-                    .retryable(determineRetryability(event.getPayload().getFailureReason()))
-                    .customerId(event.getPayload().getCustomerId())
-                    .locationCode(event.getPayload().getDestinationLocation())
-                    .timestamp(event.getOccurredOn())
-                    .processedAt(OffsetDateTime.now())
-                    .retryCount(0)
-                    .build();
+            InterfaceException exception = buildDistributionFailedException(event);
+            ExceptionSeverity severity = exception.getSeverity();
 
             InterfaceException savedException = exceptionRepository.save(exception);
             log.info("Created new exception with ID: {} for transaction: {}",
@@ -376,25 +311,8 @@ public class ExceptionProcessingService {
                 return updateExistingException(existingException.get(), event);
             }
 
-            // Aggregate validation errors into a single exception message
-            String aggregatedErrorMessage = event.getPayload().getValidationErrors().stream()
-                    .map(error -> String.format("Field '%s': %s", error.getField(), error.getMessage()))
-                    .collect(Collectors.joining("; "));
-
             // Create new exception
-            InterfaceException exception = InterfaceException.builder()
-                    .transactionId(transactionId)
-                    .interfaceType(interfaceType)
-                    .exceptionReason(aggregatedErrorMessage)
-                    .operation("VALIDATION")
-                    .status(ExceptionStatus.NEW)
-                    .category(ExceptionCategory.VALIDATION)
-                    .severity(ExceptionSeverity.MEDIUM)
-                    .retryable(true) // Validation errors are typically retryable after data correction
-                    .timestamp(event.getOccurredOn())
-                    .processedAt(OffsetDateTime.now())
-                    .retryCount(0)
-                    .build();
+            InterfaceException exception = buildValidationErrorException(event, interfaceType);
 
             InterfaceException savedException = exceptionRepository.save(exception);
             log.info("Created new validation exception with ID: {} for transaction: {}",
@@ -495,64 +413,171 @@ public class ExceptionProcessingService {
     }
 
     /**
-     * Retrieve and store order data from mock RSocket server.
-     * Implements requirements 3.1, 3.2, 3.3, 1.5 for order data retrieval.
+     * Build a new, unsaved exception from an OrderRejected event.
+     */
+    InterfaceException buildOrderRejectedException(OrderRejectedEvent event) {
+        ExceptionSeverity severity = assignSeverity(InterfaceType.ORDER, event.getPayload().getRejectedReason());
+        return InterfaceException.builder()
+                .transactionId(event.getPayload().getTransactionId())
+                .interfaceType(InterfaceType.ORDER)
+                .exceptionReason(event.getPayload().getRejectedReason())
+                .operation(event.getPayload().getOperation().name())
+                .externalId(event.getPayload().getExternalId())
+                .status(ExceptionStatus.NEW)
+                .category(categorizeOrderException(event.getPayload().getRejectedReason()))
+                .severity(severity)
+                .retryable(determineRetryability(event.getPayload().getRejectedReason()))
+                .customerId(event.getPayload().getCustomerId())
+                .locationCode(event.getPayload().getLocationCode())
+                .timestamp(event.getOccurredOn())
+                .processedAt(OffsetDateTime.now())
+                .retryCount(0)
+                .orderRetrievalAttempted(false)
+                .build();
+    }
+
+    /**
+     * Build a new, unsaved exception from an OrderCancelled event.
+     */
+    InterfaceException buildOrderCancelledException(OrderCancelledEvent event) {
+        ExceptionSeverity severity = assignSeverity(InterfaceType.ORDER, event.getPayload().getCancelReason());
+        return InterfaceException.builder()
+                .transactionId(event.getPayload().getTransactionId())
+                .interfaceType(InterfaceType.ORDER)
+                .exceptionReason(event.getPayload().getCancelReason())
+                .operation("CANCEL_ORDER")
+                .externalId(event.getPayload().getExternalId())
+                .status(ExceptionStatus.NEW)
+                .category(categorizeOrderException(event.getPayload().getCancelReason()))
+                .severity(severity)
+                .retryable(determineRetryability(event.getPayload().getCancelReason()))
+                .customerId(event.getPayload().getCustomerId())
+                .timestamp(event.getOccurredOn())
+                .processedAt(OffsetDateTime.now())
+                .retryCount(0)
+                .build();
+    }
+
+    /**
+     * Build a new, unsaved exception from a CollectionRejected event.
+     */
+    InterfaceException buildCollectionRejectedException(CollectionRejectedEvent event) {
+        ExceptionSeverity severity = assignSeverity(InterfaceType.COLLECTION,
+                event.getPayload().getRejectedReason());
+        return InterfaceException.builder()
+                .transactionId(event.getPayload().getTransactionId())
+                .interfaceType(InterfaceType.COLLECTION)
+                .exceptionReason(event.getPayload().getRejectedReason())
+                .operation(event.getPayload().getOperation())
+                .externalId(event.getPayload().getCollectionId())
+                .status(ExceptionStatus.NEW)
+                .category(categorizeCollectionException(event.getPayload().getRejectedReason()))
+                .severity(severity)
+                .retryable(determineRetryability(event.getPayload().getRejectedReason()))
+                .customerId(event.getPayload().getDonorId()) // Using donorId as customerId for collections
+                .locationCode(event.getPayload().getLocationCode())
+                .timestamp(event.getOccurredOn())
+                .processedAt(OffsetDateTime.now())
+                .retryCount(0)
+                .build();
+    }
+
+    /**
+     * Build a new, unsaved exception from a DistributionFailed event.
+     */
+    InterfaceException buildDistributionFailedException(DistributionFailedEvent event) {
+        ExceptionSeverity severity = assignSeverity(InterfaceType.DISTRIBUTION,
+                event.getPayload().getFailureReason());
+        return InterfaceException.builder()
+                .transactionId(event.getPayload().getTransactionId())
+                .interfaceType(InterfaceType.DISTRIBUTION)
+                .exceptionReason(event.getPayload().getFailureReason())
+                .operation(event.getPayload().getOperation())
+                .externalId(event.getPayload().getDistributionId())
+                .status(ExceptionStatus.NEW)
+                .category(categorizeDistributionException(event.getPayload().getFailureReason()))
+                .severity(severity)
+                .retryable(determineRetryability(event.getPayload().getFailureReason()))
+                .customerId(event.getPayload().getCustomerId())
+                .locationCode(event.getPayload().getDestinationLocation())
+                .timestamp(event.getOccurredOn())
+                .processedAt(OffsetDateTime.now())
+                .retryCount(0)
+                .build();
+    }
+
+    /**
+     * Build a new, unsaved exception from a ValidationError event, aggregating
+     * the individual field errors into a single exception message.
+     */
+    InterfaceException buildValidationErrorException(ValidationErrorEvent event, InterfaceType interfaceType) {
+        return InterfaceException.builder()
+                .transactionId(event.getPayload().getTransactionId())
+                .interfaceType(interfaceType)
+                .exceptionReason(extractExceptionReason(event))
+                .operation("VALIDATION")
+                .status(ExceptionStatus.NEW)
+                .category(ExceptionCategory.VALIDATION)
+                .severity(ExceptionSeverity.MEDIUM)
+                .retryable(true) // Validation errors are typically retryable after data correction
+                .timestamp(event.getOccurredOn())
+                .processedAt(OffsetDateTime.now())
+                .retryCount(0)
+                .build();
+    }
+
+    /**
+     * Build a new, unsaved exception from any supported inbound event type.
+     * Used by the batch ingestion path, which receives mixed event types.
      *
-     * @param exception the interface exception to retrieve order data for
+     * @param event the inbound event
+     * @return the unsaved InterfaceException
+     * @throws IllegalArgumentException if the event type is not supported
      */
-    private void retrieveAndStoreOrderData(InterfaceException exception) {
-        try {
-            exception.setOrderRetrievalAttempted(true);
-            
-            log.info("Attempting to retrieve order data for externalId: {} from mock server", 
-                    exception.getExternalId());
-
-            // Get the appropriate source service client for ORDER interface type
-            if (clientRegistry.hasClient(InterfaceType.ORDER)) {
-                SourceServiceClient client = clientRegistry.getClient(InterfaceType.ORDER);
-                
-                // Retrieve order data with timeout
-                PayloadResponse response = client.getOriginalPayload(exception)
-                    .get(10, TimeUnit.SECONDS);
-                
-                if (response.isRetrieved() && response.getPayload() != null) {
-                    // Successfully retrieved order data
-                    exception.setOrderReceived(response.getPayload());
-                    exception.setOrderRetrievedAt(OffsetDateTime.now());
-                    exception.setRetryable(true);
-                    
-                    log.info("Successfully retrieved order data for externalId: {} from service: {}", 
-                            exception.getExternalId(), response.getSourceService());
-                } else {
-                    // Failed to retrieve order data
-                    String errorMessage = response.getErrorMessage() != null ? 
-                        response.getErrorMessage() : "Order data not found";
-                    exception.setOrderRetrievalError(errorMessage);
-                    exception.setRetryable(false);
-                    
-                    log.warn("Failed to retrieve order data for externalId: {}, error: {}", 
-                            exception.getExternalId(), errorMessage);
-                }
-            } else {
-                log.warn("No source service client available for ORDER interface type");
-                exception.setOrderRetrievalError("No source service client available");
-                exception.setRetryable(false);
-            }
-        } catch (Exception e) {
-            // Handle any errors during order data retrieval
-            String errorMessage = "Error retrieving order data: " + e.getMessage();
-            exception.setOrderRetrievalError(errorMessage);
-            exception.setRetryable(false);
-            
-            log.error("Error retrieving order data for externalId: {}", 
-                    exception.getExternalId(), e);
+    InterfaceException buildException(Object event) {
+        if (event instanceof OrderRejectedEvent orderRejected) {
+            return buildOrderRejectedException(orderRejected);
+        } else if (event instanceof OrderCancelledEvent orderCancelled) {
+            return buildOrderCancelledException(orderCancelled);
+        } else if (event instanceof CollectionRejectedEvent collectionRejected) {
+            return buildCollectionRejectedException(collectionRejected);
+        } else if (event instanceof DistributionFailedEvent distributionFailed) {
+            return buildDistributionFailedException(distributionFailed);
+        } else if (event instanceof ValidationErrorEvent validationError) {
+            return buildValidationErrorException(validationError,
+                    InterfaceType.valueOf(validationError.getPayload().getInterfaceType()));
         }
+        throw new IllegalArgumentException("Unsupported event type: "
+                + (event != null ? event.getClass().getName() : "null"));
     }
 
     /**
      * Update an existing exception with new event data (duplicate detection logic).
      */
     private InterfaceException updateExistingException(InterfaceException existing, Object event) {
+        applyEventToExistingException(existing, event);
+
+        // If this is an OrderRejected event and order data hasn't been retrieved yet, schedule retrieval
+        boolean retrieveOrderData = requiresOrderRetrieval(existing, event);
+        if (retrieveOrderData) {
+            log.info("Scheduling order data retrieval for existing exception: {}", existing.getTransactionId());
+            orderDataEnrichmentService.markPending(existing);
+        }
+
+        InterfaceException saved = exceptionRepository.save(existing);
+        if (retrieveOrderData) {
+            orderDataEnrichmentService.scheduleAfterCommit(saved.getTransactionId());
+        }
+        hotExceptionSearchService.indexAfterCommit(saved);
+        cacheEvictionService.evictCachesOnExceptionUpdate(saved);
+        return saved;
+    }
+
+    /**
+     * Apply the duplicate-detection update rules to an existing exception without
+     * saving it.
+     */
+    void applyEventToExistingException(InterfaceException existing, Object event) {
         // Update processed timestamp to indicate recent activity
         existing.setProcessedAt(OffsetDateTime.now());
 
@@ -562,20 +587,22 @@ public class ExceptionProcessingService {
             existing.setExceptionReason(newReason);
             log.info("Updated exception reason for transaction: {}", existing.getTransactionId());
         }
+    }
 
-        // If this is an OrderRejected event and order data hasn't been retrieved yet, attempt retrieval
-        if (event instanceof OrderRejectedEvent && !existing.getOrderRetrievalAttempted()) {
-            log.info("Attempting order data retrieval for existing exception: {}", existing.getTransactionId());
-            retrieveAndStoreOrderData(existing);
-        }
-
-        return exceptionRepository.save(existing);
+    /**
+     * Whether an existing exception still needs its order data retrieved for the
+     * given event.
+     */
+    boolean requiresOrderRetrieval(InterfaceException existing, Object event) {
+        return event instanceof OrderRejectedEvent
+                && !Boolean.TRUE.equals(existing.getOrderRetrievalAttempted())
+                && !Boolean.TRUE.equals(existing.getOrderRetrievalPending());
     }
 
     /**
      * Extract exception reason from various event types.
      */
-    private String extractExceptionReason(Object event) {
+    String extractExceptionReason(Object event) {
         if (event instanceof OrderRejectedEvent) {
             return ((OrderRejectedEvent) event).getPayload().getRejectedReason();
         } else if (event instanceof OrderCancelledEvent) {
@@ -2,11 +2,14 @@ package com.arcone.biopro.exception.collector.application.service;
 
 import com.arcone.biopro.exception.collector.api.dto.ExceptionSummaryResponse;
 import com.arcone.biopro.exception.collector.infrastructure.config.CacheConfig;
+import com.arcone.biopro.exception.collector.infrastructure.config.ExceptionSearchProperties;
 import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionSeverity;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
 import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
 import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.KeysetPageRequest;
+import com.arcone.biopro.exception.collector.infrastructure.repository.search.ExceptionSearchRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -17,11 +20,15 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -36,6 +43,10 @@ import java.util.stream.Collectors;
 public class ExceptionQueryService {
 
     private final InterfaceExceptionRepository exceptionRepository;
+    private final ScopedCacheService scopedCacheService;
+    private final ExceptionSearchRepository searchRepository;
+    private final ExceptionSearchProperties searchProperties;
+    private final HotExceptionSearchService hotSearchService;
 
     /**
      * Retrieves exceptions with filtering support.
@@ -128,6 +139,56 @@ public class ExceptionQueryService {
         }
     }
 
+    /**
+     * Retrieves one keyset page of exceptions with filters and eager loading for
+     * GraphQL. Only the rows of the requested page are read, so the cost does
+     * not grow with the size of the matching result set.
+     *
+     * @param interfaceType optional interface type filter
+     * @param status        optional status filter
+     * @param severity      optional severity filter
+     * @param customerId    optional customer ID filter
+     * @param fromDate      optional start date filter
+     * @param toDate        optional end date filter
+     * @param pageRequest   sort, cursor position and row limit
+     * @return the page of exceptions with eager-loaded collections
+     */
+    public List<InterfaceException> findExceptionsPageEager(
+            InterfaceType interfaceType,
+            ExceptionStatus status,
+            ExceptionSeverity severity,
+            String customerId,
+            OffsetDateTime fromDate,
+            OffsetDateTime toDate,
+            KeysetPageRequest pageRequest) {
+
+        List<InterfaceException> exceptions = exceptionRepository.findWithFiltersKeyset(
+                interfaceType, status, severity, customerId, fromDate, toDate, pageRequest);
+        initializeCollections(exceptions);
+        return exceptions;
+    }
+
+    /**
+     * Counts exceptions matching the filters.
+     *
+     * @param interfaceType optional interface type filter
+     * @param status        optional status filter
+     * @param severity      optional severity filter
+     * @param customerId    optional customer ID filter
+     * @param fromDate      optional start date filter
+     * @param toDate        optional end date filter
+     * @return number of matching exceptions
+     */
+    public long countExceptionsWithFilters(
+            InterfaceType interfaceType,
+            ExceptionStatus status,
+            ExceptionSeverity severity,
+            String customerId,
+            OffsetDateTime fromDate,
+            OffsetDateTime toDate) {
+        return exceptionRepository.countWithFilters(interfaceType, status, severity, customerId, fromDate, toDate);
+    }
+
     /**
      * Retrieves detailed exception information by transaction ID.
      * Implements requirement US-008 for detailed exception retrieval.
@@ -184,7 +245,8 @@ public class ExceptionQueryService {
     /**
      * Retrieves related exceptions for the same customer.
      * Used to provide context in detailed exception responses.
-     * Results are cached for 15 minutes to improve performance.
+     * Results are cached per customer and invalidated only by changes to that
+     * customer's exceptions.
      *
      * @param customerId           the customer ID
      * @param excludeTransactionId transaction ID to exclude from results
@@ -192,54 +254,190 @@ public class ExceptionQueryService {
      * @param limit                maximum number of results to return
      * @return list of related exceptions
      */
-    @Cacheable(value = CacheConfig.RELATED_EXCEPTIONS_CACHE, key = "#customerId + ':' + #excludeTransactionId + ':' + #limit", condition = "#customerId != null")
     public List<InterfaceException> findRelatedExceptionsByCustomer(
             String customerId, String excludeTransactionId, Sort sort, int limit) {
 
         log.debug("Finding related exceptions for customer: {}, excluding: {}", customerId, excludeTransactionId);
-        return exceptionRepository.findRelatedExceptionsByCustomer(customerId, excludeTransactionId, sort, limit);
+        if (customerId == null) {
+            return exceptionRepository.findRelatedExceptionsByCustomer(null, excludeTransactionId, sort, limit);
+        }
+        return scopedCacheService.get(CacheConfig.RELATED_EXCEPTIONS_CACHE,
+                customerId + ':' + excludeTransactionId + ':' + limit,
+                CacheScope.customer(customerId),
+                () -> exceptionRepository.findRelatedExceptionsByCustomer(customerId, excludeTransactionId, sort,
+                        limit));
     }
 
     /**
      * Performs full-text search across exception fields.
      * Implements requirement US-009 for text-based exception search.
-     * Results are cached for 5 minutes to improve performance.
+     * Results are cached per query and invalidated only by changes to exceptions
+     * that can match it. With ranked search enabled the most relevant matches
+     * come first unless the sort names a property; see
+     * {@link ExceptionSearchRepository}.
      *
      * @param searchQuery  the search query string
      * @param searchFields list of fields to search in (exceptionReason, externalId,
-     *                     operation)
+     *                     operation, customerId)
      * @param sort         sorting parameters
      * @return list of exceptions matching the search query
      */
-    @Cacheable(value = CacheConfig.SEARCH_RESULTS_CACHE, key = "#searchQuery + ':' + #searchFields.toString()", condition = "#searchQuery != null and !#searchQuery.isEmpty()")
     public List<InterfaceException> searchExceptions(String searchQuery, List<String> searchFields, Sort sort) {
-        log.debug("Searching exceptions with query: '{}' in fields: {}", searchQuery, searchFields);
+        return searchExceptions(searchQuery, searchFields, sort, null);
+    }
+
+    /**
+     * Performs full-text search across exceptions with a timestamp from the
+     * given time on. Windows held by the in-memory index are answered there
+     * with the same matches as the database search; older windows and
+     * full-text queries use the database search.
+     *
+     * @param searchQuery  the search query string
+     * @param searchFields list of fields to search in (exceptionReason, externalId,
+     *                     operation, customerId)
+     * @param sort         sorting parameters
+     * @param fromDate     optional earliest exception timestamp
+     * @return list of exceptions matching the search query
+     */
+    public List<InterfaceException> searchExceptions(String searchQuery, List<String> searchFields, Sort sort,
+            OffsetDateTime fromDate) {
+        log.debug("Searching exceptions with query: '{}' in fields: {} from: {}", searchQuery, searchFields,
+                fromDate);
+
+        List<String> fieldsToSearch = resolveSearchFields(searchFields);
+        if (searchQuery == null || searchQuery.isEmpty()) {
+            return exceptionRepository.searchInFields(searchQuery, fieldsToSearch, sort);
+        }
+        if (fromDate != null) {
+            Optional<List<Long>> hotIds = hotSearchService.search(searchQuery, fieldsToSearch, sort, fromDate);
+            if (hotIds.isPresent()) {
+                return findAllInOrder(hotIds.get());
+            }
+        }
+        return scopedCacheService.get(CacheConfig.SEARCH_RESULTS_CACHE,
+                searchQuery + ':' + searchFields + ':' + sort + ':' + fromDate,
+                new CacheScope(Set.of(), Set.of(), fromDate, null, searchQuery),
+                () -> searchProperties.isRankedEnabled()
+                        ? searchRepository.search(searchQuery, fieldsToSearch, sort, fromDate)
+                        : exceptionRepository.searchInFields(searchQuery, fieldsToSearch, withoutRelevance(sort))
+                                .stream()
+                                .filter(exception -> fromDate == null || exception.getTimestamp() == null
+                                        || !exception.getTimestamp().isBefore(fromDate))
+                                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Loads exceptions by primary key, keeping the order of the given IDs.
+     */
+    private List<InterfaceException> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, InterfaceException> byId = exceptionRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(InterfaceException::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Relevance is only known to the ranked search; plain searches fall back to
+     * the default timestamp ordering.
+     */
+    private Sort withoutRelevance(Sort sort) {
+        if (sort != null && sort.getOrderFor("relevance") != null) {
+            return Sort.by(Sort.Direction.DESC, "timestamp");
+        }
+        return sort;
+    }
+
+    /**
+     * Performs a text search returning one keyset page of results with eager
+     * loading for GraphQL.
+     *
+     * @param searchQuery  the search query string
+     * @param searchFields list of fields to search in (exceptionReason, externalId,
+     *                     operation)
+     * @param pageRequest  sort, cursor position and row limit
+     * @return the page of matching exceptions
+     */
+    public List<InterfaceException> searchExceptionsPage(String searchQuery, List<String> searchFields,
+            KeysetPageRequest pageRequest) {
+        log.debug("Searching exceptions page with query: '{}' in fields: {}", searchQuery, searchFields);
+
+        List<InterfaceException> exceptions = exceptionRepository.searchInFieldsKeyset(
+                searchQuery, resolveSearchFields(searchFields), pageRequest);
+        initializeCollections(exceptions);
+        return exceptions;
+    }
 
-        // Validate search fields
-        List<String> validFields = Arrays.asList("exceptionReason", "externalId", "operation");
+    /**
+     * Counts exceptions matching a text search.
+     *
+     * @param searchQuery  the search query string
+     * @param searchFields list of fields to search in
+     * @return number of matching exceptions
+     */
+    public long countSearchResults(String searchQuery, List<String> searchFields) {
+        return exceptionRepository.countSearchInFields(searchQuery, resolveSearchFields(searchFields));
+    }
+
+    private List<String> resolveSearchFields(List<String> searchFields) {
+        List<String> validFields = Arrays.asList("exceptionReason", "externalId", "operation", "customerId");
         List<String> fieldsToSearch = searchFields.stream()
                 .filter(validFields::contains)
                 .collect(Collectors.toList());
 
-        if (fieldsToSearch.isEmpty()) {
-            fieldsToSearch = List.of("exceptionReason"); // Default to searching exception reason
-        }
+        return fieldsToSearch.isEmpty() ? List.of("exceptionReason") : fieldsToSearch;
+    }
 
-        return exceptionRepository.searchInFields(searchQuery, fieldsToSearch, sort);
+    /**
+     * Forces initialization of lazy collections within the current transaction
+     * to prevent LazyInitializationException during GraphQL serialization.
+     */
+    private void initializeCollections(List<InterfaceException> exceptions) {
+        for (InterfaceException exception : exceptions) {
+            try {
+                if (exception.getRetryAttempts() != null) {
+                    exception.getRetryAttempts().size();
+                }
+                if (exception.getOrderItems() != null) {
+                    exception.getOrderItems().size();
+                }
+                if (exception.getStatusChanges() != null) {
+                    exception.getStatusChanges().size();
+                }
+            } catch (Exception e) {
+                log.warn("Failed to initialize collections for exception {}: {}",
+                        exception.getTransactionId(), e.getMessage());
+            }
+        }
     }
 
     /**
      * Generates aggregated exception statistics for the specified time range.
      * Implements requirement US-010 for exception summary statistics.
-     * Results are cached for 2 minutes to balance freshness and performance.
+     * Results are cached per time range and recomputed shortly after exceptions
+     * inside the range change.
      *
      * @param timeRange the time range for statistics (today, week, month, quarter)
      * @param groupBy   optional grouping parameter (interfaceType, severity,
      *                  status)
      * @return aggregated exception statistics
      */
-    @Cacheable(value = CacheConfig.EXCEPTION_SUMMARY_CACHE, key = "#timeRange + ':' + (#groupBy != null ? #groupBy : 'none')", condition = "#timeRange != null")
     public ExceptionSummaryResponse getExceptionSummary(String timeRange, String groupBy) {
+        if (timeRange == null) {
+            return computeExceptionSummary(null, groupBy);
+        }
+        // Every range ends now, so the scope is left open-ended to cover new exceptions
+        return scopedCacheService.getRefreshable(CacheConfig.EXCEPTION_SUMMARY_CACHE,
+                timeRange + ':' + (groupBy != null ? groupBy : "none"),
+                CacheScope.window(calculateDateRange(timeRange)[0], null),
+                () -> computeExceptionSummary(timeRange, groupBy));
+    }
+
+    private ExceptionSummaryResponse computeExceptionSummary(String timeRange, String groupBy) {
         log.debug("Generating exception summary for timeRange: {}, groupBy: {}", timeRange, groupBy);
 
         // Calculate date range based on timeRange parameter
@@ -0,0 +1,178 @@
+package com.arcone.biopro.exception.collector.application.service;
+
+import com.arcone.biopro.exception.collector.infrastructure.repository.ExceptionRollupChange;
+import com.arcone.biopro.exception.collector.infrastructure.repository.ExceptionRollupRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.ExceptionRollupState;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Service that keeps the hourly exception_rollup table up to date.
+ * Each refresh recomputes only the buckets that writers recorded as changed since the
+ * previous refresh, plus buckets touched by deletes. A refresh only sees changes of
+ * committed transactions, so a long transaction delays its own changes but never
+ * those of others. Without a stored state, every bucket is rebuilt.
+ * Refreshes are serialized across instances with a database advisory lock.
+ */
+@Service
+@Slf4j
+public class ExceptionRollupService {
+
+    private final ExceptionRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Timer refreshTimer;
+    private final Counter bucketsRecomputedCounter;
+    private final Counter refreshFailureCounter;
+    private final Timer changeLagTimer;
+
+    private final AtomicReference<ExceptionRollupState> lastKnownState = new AtomicReference<>();
+
+    @Value("${app.summary.rollup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.summary.rollup.max-staleness-seconds:120}")
+    private long maxStalenessSeconds;
+
+    public ExceptionRollupService(ExceptionRollupRepository rollupRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.refreshTimer = Timer.builder("exception.rollup.refresh.duration")
+                .description("Duration of incremental exception rollup refreshes")
+                .register(meterRegistry);
+        this.bucketsRecomputedCounter = Counter.builder("exception.rollup.buckets.recomputed")
+                .description("Number of hourly rollup buckets recomputed")
+                .register(meterRegistry);
+        this.refreshFailureCounter = Counter.builder("exception.rollup.refresh.failures")
+                .description("Number of failed exception rollup refreshes")
+                .register(meterRegistry);
+        this.changeLagTimer = Timer.builder("exception.rollup.change.lag")
+                .description("Time from the oldest change of a refresh being written to it being folded into the rollup")
+                .register(meterRegistry);
+
+        Gauge.builder("exception.rollup.staleness.seconds", this, ExceptionRollupService::getStalenessSeconds)
+                .description("Seconds since the exception rollup was last refreshed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled incremental refresh of the rollup table.
+     */
+    @Scheduled(fixedDelayString = "${app.summary.rollup.refresh-interval-ms:30000}",
+            initialDelayString = "${app.summary.rollup.initial-delay-ms:5000}")
+    public void scheduledRefresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            refreshFailureCounter.increment();
+            log.warn("Exception rollup refresh failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Recomputes the current and changed hour buckets in a single transaction.
+     * When another instance holds the refresh lock, only the stored state is read.
+     *
+     * @return the number of buckets recomputed
+     */
+    public int refresh() {
+        Integer recomputed = refreshTimer.record(() -> transactionTemplate.execute(status -> {
+            if (!rollupRepository.tryAcquireRefreshLock()) {
+                rollupRepository.findState().ifPresent(lastKnownState::set);
+                log.debug("Exception rollup refresh skipped, another instance holds the lock");
+                return 0;
+            }
+
+            OffsetDateTime now = rollupRepository.currentTimestamp();
+            boolean rebuild = rollupRepository.findState().isEmpty();
+            List<ExceptionRollupChange> changes = rollupRepository.claimChangedBuckets();
+
+            TreeSet<OffsetDateTime> buckets = new TreeSet<>();
+            if (rebuild) {
+                buckets.addAll(rollupRepository.findAllBuckets());
+            }
+            changes.forEach(change -> buckets.add(change.getBucketStart()));
+            buckets.addAll(rollupRepository.claimDeletedBuckets());
+            List<OffsetDateTime> bucketList = new ArrayList<>(buckets);
+
+            rollupRepository.recomputeBuckets(bucketList);
+            rollupRepository.saveState(now, now);
+            lastKnownState.set(ExceptionRollupState.builder().watermark(now).lastRefreshedAt(now).build());
+            recordChangeLag(changes, now);
+
+            log.debug("Exception rollup refreshed {} buckets{}", bucketList.size(), rebuild ? " (full rebuild)" : "");
+            return bucketList.size();
+        }));
+
+        int count = recomputed != null ? recomputed : 0;
+        bucketsRecomputedCounter.increment(count);
+        return count;
+    }
+
+    /**
+     * Records how long the oldest claimed change waited. Changes become visible
+     * when their transaction commits, so a lag beyond the staleness bound points
+     * at a long-running writer.
+     */
+    private void recordChangeLag(List<ExceptionRollupChange> changes, OffsetDateTime now) {
+        changes.stream()
+                .map(ExceptionRollupChange::getOldestRecordedAt)
+                .filter(Objects::nonNull)
+                .min(OffsetDateTime::compareTo)
+                .ifPresent(oldest -> {
+                    Duration lag = Duration.between(oldest, now);
+                    changeLagTimer.record(lag);
+                    if (lag.toSeconds() > maxStalenessSeconds) {
+                        log.warn("Exception rollup folded in a change written {}s ago, beyond the {}s staleness bound",
+                                lag.toSeconds(), maxStalenessSeconds);
+                    }
+                });
+    }
+
+    /**
+     * Whether summaries may be served from the rollup table: the rollup is enabled
+     * and was refreshed within the configured staleness bound.
+     */
+    public boolean isFresh() {
+        return enabled && lastKnownState.get() != null
+                && getStaleness().compareTo(Duration.ofSeconds(maxStalenessSeconds)) <= 0;
+    }
+
+    /**
+     * Time since the last successful refresh seen by this instance, or the maximum
+     * duration when no refresh has been observed yet.
+     */
+    public Duration getStaleness() {
+        ExceptionRollupState state = lastKnownState.get();
+        if (state == null || state.getLastRefreshedAt() == null) {
+            return Duration.ofSeconds(Long.MAX_VALUE);
+        }
+        return Duration.between(state.getLastRefreshedAt(), OffsetDateTime.now());
+    }
+
+    private double getStalenessSeconds() {
+        return lastKnownState.get() == null ? Double.NaN : getStaleness().toSeconds();
+    }
+}
@@ -0,0 +1,272 @@
+package com.arcone.biopro.exception.collector.application.service;
+
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.infrastructure.config.ExceptionSearchProperties;
+import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.search.HotExceptionIndex;
+import com.arcone.biopro.exception.collector.infrastructure.repository.search.SearchMatch;
+import com.arcone.biopro.exception.collector.infrastructure.repository.search.SearchPlan;
+import com.arcone.biopro.exception.collector.infrastructure.repository.search.SearchQueryPlanner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Answers text searches over recent exceptions from a {@link HotExceptionIndex}.
+ *
+ * The index is fed with every exception created or updated on this instance
+ * once its transaction commits, polls the database for exceptions processed by
+ * other instances, and is loaded from the database for the configured window
+ * at startup. Until the load has finished, only windows starting after startup
+ * are answered from the index; everything else is left to the database search.
+ *
+ * Queries are planned as the database search plans them, so both return the
+ * same exceptions. Queries the database answers with a full-text match are
+ * left to the database.
+ */
+@Service
+@Slf4j
+public class HotExceptionSearchService {
+
+    private final InterfaceExceptionRepository exceptionRepository;
+    private final TransactionTemplate warmUpTransactionTemplate;
+    private final ExceptionSearchProperties searchProperties;
+    private final ExceptionSearchProperties.HotIndex properties;
+    private final HotExceptionIndex index;
+    private final SearchQueryPlanner planner;
+    private final Counter indexHits;
+    private final Counter indexMisses;
+
+    private volatile OffsetDateTime caughtUpTo;
+
+    public HotExceptionSearchService(
+            InterfaceExceptionRepository exceptionRepository,
+            PlatformTransactionManager transactionManager,
+            ExceptionSearchProperties searchProperties,
+            MeterRegistry meterRegistry) {
+        this.exceptionRepository = exceptionRepository;
+        this.searchProperties = searchProperties;
+        this.properties = searchProperties.getHotIndex();
+        this.index = new HotExceptionIndex(properties.getSegmentDuration(), properties.getMaxDocuments());
+        this.planner = new SearchQueryPlanner(searchProperties.getMinSubstringLength(),
+                searchProperties.getMinFullTextWords());
+
+        this.warmUpTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.warmUpTransactionTemplate.setReadOnly(true);
+        this.warmUpTransactionTemplate.setTimeout((int) properties.getWarmUpTimeout().toSeconds());
+
+        this.indexHits = Counter.builder("search.hot_index.requests.total")
+                .description("Searches answered from the in-memory index")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.indexMisses = Counter.builder("search.hot_index.requests.total")
+                .description("Searches answered from the in-memory index")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("search.hot_index.documents", index, HotExceptionIndex::documentCount)
+                .description("Exceptions in the in-memory search index")
+                .register(meterRegistry);
+        Gauge.builder("search.hot_index.trigrams", index, HotExceptionIndex::trigramCount)
+                .description("Distinct trigrams across all segments of the in-memory search index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts indexing new exceptions and loads the window from the database in
+     * the background.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        caughtUpTo = now;
+        index.markCompleteFrom(now.toInstant().toEpochMilli());
+        if (properties.isWarmUpEnabled()) {
+            Thread warmUp = new Thread(() -> warmUp(now.minus(properties.getWindow())), "hot-search-index-warm-up");
+            warmUp.setDaemon(true);
+            warmUp.start();
+        }
+    }
+
+    /**
+     * Loads all exceptions from the given time on into the index.
+     */
+    void warmUp(OffsetDateTime from) {
+        long startTime = System.currentTimeMillis();
+        try {
+            Long loaded = warmUpTransactionTemplate.execute(status -> {
+                try (Stream<InterfaceException> exceptions = exceptionRepository.streamWithFilters(
+                        null, null, null, null, from, null, Sort.by(Sort.Direction.ASC, "timestamp"),
+                        properties.getWarmUpFetchSize())) {
+                    return exceptions.filter(index::add).count();
+                }
+            });
+            index.markCompleteFrom(from.toInstant().toEpochMilli());
+            log.info("Loaded {} exceptions since {} into the search index in {}ms", loaded, from,
+                    System.currentTimeMillis() - startTime);
+        } catch (RuntimeException e) {
+            log.warn("Failed to load the search index since {}, searches before startup use the database: {}",
+                    from, e.getMessage());
+        }
+    }
+
+    /**
+     * Indexes a created or updated exception once the surrounding transaction
+     * commits, so rolled-back changes are never found. Without an active
+     * transaction the exception is indexed immediately.
+     *
+     * @param exception the created or updated exception
+     */
+    public void indexAfterCommit(InterfaceException exception) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    index.add(exception);
+                }
+            });
+        } else {
+            index.add(exception);
+        }
+    }
+
+    /**
+     * Indexes exceptions processed since the last poll, including those
+     * ingested by other instances. Processing times are set before commit and
+     * by clocks of other instances, so every poll reaches back by the
+     * configured overlap; exceptions read twice are indexed once.
+     */
+    @Scheduled(fixedDelayString = "${app.search.hot-index.catch-up-interval-ms:5000}",
+            initialDelayString = "${app.search.hot-index.catch-up-interval-ms:5000}")
+    public void catchUp() {
+        if (!properties.isEnabled() || caughtUpTo == null) {
+            return;
+        }
+        try {
+            int pageSize = properties.getWarmUpFetchSize();
+            OffsetDateTime processedAt = caughtUpTo.minus(properties.getCatchUpOverlap());
+            long id = Long.MIN_VALUE;
+            OffsetDateTime newest = caughtUpTo;
+            List<InterfaceException> page;
+            do {
+                page = exceptionRepository.findProcessedAfter(processedAt, id, PageRequest.of(0, pageSize));
+                page.forEach(index::add);
+                if (!page.isEmpty()) {
+                    InterfaceException last = page.get(page.size() - 1);
+                    processedAt = last.getProcessedAt();
+                    id = last.getId();
+                    if (processedAt.isAfter(newest)) {
+                        newest = processedAt;
+                    }
+                }
+            } while (page.size() == pageSize);
+            caughtUpTo = newest;
+        } catch (RuntimeException e) {
+            log.warn("Failed to poll new exceptions for the search index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Drops exceptions that have left the window.
+     */
+    @Scheduled(fixedDelayString = "${app.search.hot-index.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int evicted = index.evictBefore(OffsetDateTime.now().minus(properties.getWindow()).toInstant().toEpochMilli());
+        if (evicted > 0) {
+            log.debug("Evicted {} exceptions from the search index", evicted);
+        }
+    }
+
+    /**
+     * Searches exceptions with a timestamp from the given time on, if the
+     * index holds all of them, can produce the requested order and can match
+     * the query as the database does.
+     *
+     * @param searchQuery  the search query string
+     * @param searchFields fields to search in
+     * @param sort         relevance or timestamp order
+     * @param fromDate     earliest exception timestamp
+     * @return IDs of matching exceptions in order, or empty if the database has to answer
+     */
+    public Optional<List<Long>> search(String searchQuery, List<String> searchFields, Sort sort,
+            OffsetDateTime fromDate) {
+        Comparator<HotExceptionIndex.Hit> order = order(sort);
+        long from = fromDate.toInstant().toEpochMilli();
+        SearchPlan plan = plan(searchQuery, searchFields);
+        if (!properties.isEnabled() || order == null || !index.covers(from)
+                || plan.fieldMatches().containsValue(SearchMatch.FULL_TEXT)) {
+            indexMisses.increment();
+            return Optional.empty();
+        }
+
+        indexHits.increment();
+        return Optional.of(index.search(plan, from, order, searchProperties.getMaxResults())
+                .stream()
+                .map(HotExceptionIndex.Hit::exceptionId)
+                .toList());
+    }
+
+    HotExceptionIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Plans the query as the database search does: the ranked search through
+     * the {@link SearchQueryPlanner}, the plain search as a substring match of
+     * the lower-cased query on every field.
+     */
+    private SearchPlan plan(String searchQuery, List<String> searchFields) {
+        if (searchProperties.isRankedEnabled()) {
+            return planner.plan(searchQuery, searchFields);
+        }
+        String term = searchQuery == null || searchQuery.trim().isEmpty()
+                ? "" : searchQuery.toLowerCase(Locale.ROOT);
+        Map<String, SearchMatch> fieldMatches = new LinkedHashMap<>();
+        searchFields.forEach(field -> fieldMatches.put(field, SearchMatch.SUBSTRING));
+        return new SearchPlan(term, fieldMatches);
+    }
+
+    /**
+     * Maps the sort to an index order; only relevance and timestamp are known
+     * to the index.
+     */
+    private static Comparator<HotExceptionIndex.Hit> order(Sort sort) {
+        if (sort == null || sort.isUnsorted()) {
+            return HotExceptionIndex.BY_RELEVANCE;
+        }
+        Sort.Order first = sort.iterator().next();
+        return switch (first.getProperty()) {
+            case "relevance" -> HotExceptionIndex.BY_RELEVANCE;
+            case "timestamp" -> first.isAscending() ? HotExceptionIndex.OLDEST_FIRST : HotExceptionIndex.NEWEST_FIRST;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,490 @@
+package com.arcone.biopro.exception.collector.application.service;
+
+import com.arcone.biopro.exception.collector.api.dto.PayloadResponse;
+import com.arcone.biopro.exception.collector.api.graphql.service.ExceptionEventPublisher;
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import com.arcone.biopro.exception.collector.infrastructure.client.SourceServiceClient;
+import com.arcone.biopro.exception.collector.infrastructure.client.SourceServiceClientRegistry;
+import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Asynchronous order data enrichment stage for OrderRejected exceptions.
+ * Ingest saves the exception with {@code orderRetrievalPending=true} and hands the
+ * transaction ID to this service after commit; a bounded worker pool then retrieves
+ * the order data from the source service, stores it and publishes an
+ * {@code ExceptionUpdated} subscription event. Transient failures are retried with
+ * exponential backoff. Work rejected by a full pool, or lost on restart, stays pending
+ * in the database and is picked up by a periodic sweep, so a slow source service
+ * never holds a Kafka consumer thread or a database connection.
+ *
+ * Retrievals are batched: queued transactions are taken in batches of up to
+ * {@code app.enrichment.batch-size} and sent as one request to the source service,
+ * with at most {@code app.enrichment.max-concurrent-batches} requests outstanding.
+ * Transactions queued while all requests are outstanding go into the next batch,
+ * so batches grow with load without delaying a single exception. No worker waits
+ * for a response; the outcomes are stored on the worker pool once it arrives.
+ * Implements requirements 3.1, 3.2, 3.3, 1.5 for order data retrieval.
+ */
+@Service
+@Slf4j
+public class OrderDataEnrichmentService {
+
+    private final SourceServiceClientRegistry clientRegistry;
+    private final InterfaceExceptionRepository exceptionRepository;
+    private final ExceptionEventPublisher graphqlEventPublisher;
+    private final CacheEvictionService cacheEvictionService;
+    private final Executor enrichmentExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService retryScheduler;
+
+    // Transaction IDs queued, running or waiting for a retry on this instance
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    // Attempts waiting for the next batch
+    private final Queue<Attempt> queue = new ConcurrentLinkedQueue<>();
+
+    // Batch requests sent to the source service and not yet handled
+    private final AtomicInteger activeBatches = new AtomicInteger();
+
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+    private final Counter rejectedCounter;
+
+    @Value("${app.enrichment.timeout-ms:10000}")
+    private long timeoutMs;
+
+    @Value("${app.enrichment.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.enrichment.initial-backoff-ms:1000}")
+    private long initialBackoffMs;
+
+    @Value("${app.enrichment.sweep-grace-seconds:120}")
+    private long sweepGraceSeconds;
+
+    @Value("${app.enrichment.sweep-batch-size:100}")
+    private int sweepBatchSize;
+
+    @Value("${app.enrichment.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.enrichment.max-concurrent-batches:4}")
+    private int maxConcurrentBatches;
+
+    /**
+     * One retrieval attempt for a transaction.
+     */
+    private record Attempt(String transactionId, int number) {
+    }
+
+    public OrderDataEnrichmentService(SourceServiceClientRegistry clientRegistry,
+            InterfaceExceptionRepository exceptionRepository,
+            @Qualifier("graphQLExceptionEventPublisher") ExceptionEventPublisher graphqlEventPublisher,
+            CacheEvictionService cacheEvictionService,
+            @Qualifier("orderEnrichmentExecutor") Executor enrichmentExecutor,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.clientRegistry = clientRegistry;
+        this.exceptionRepository = exceptionRepository;
+        this.graphqlEventPublisher = graphqlEventPublisher;
+        this.cacheEvictionService = cacheEvictionService;
+        this.enrichmentExecutor = enrichmentExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-enrichment-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.completedCounter = Counter.builder("order.enrichment.completed")
+                .description("Order data enrichments that retrieved the order")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("order.enrichment.failed")
+                .description("Order data enrichments that finished without order data")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("order.enrichment.retried")
+                .description("Order data retrievals scheduled for another attempt")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("order.enrichment.rejected")
+                .description("Order data enrichments rejected because the worker pool was full")
+                .register(meterRegistry);
+        Gauge.builder("order.enrichment.in_flight", inFlight, Set::size)
+                .description("Order data enrichments queued, running or waiting for a retry")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Marks an exception as waiting for order data. The caller saves it and then
+     * calls {@link #scheduleAfterCommit(String)}.
+     *
+     * @param exception the exception to enrich
+     */
+    public void markPending(InterfaceException exception) {
+        exception.setOrderRetrievalPending(true);
+        exception.setOrderRetrievalAttempted(false);
+    }
+
+    /**
+     * Queues enrichment once the surrounding transaction commits, so workers never
+     * look for a row that is not visible yet. Without an active transaction the
+     * enrichment is queued immediately.
+     *
+     * @param transactionId the transaction ID of the saved exception
+     */
+    public void scheduleAfterCommit(String transactionId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(transactionId);
+                }
+            });
+        } else {
+            submit(transactionId);
+        }
+    }
+
+    /**
+     * Re-queues exceptions that have been pending longer than the sweep grace period,
+     * e.g. after a restart or when the worker pool rejected them.
+     */
+    @Scheduled(fixedDelayString = "${app.enrichment.sweep-interval-ms:60000}",
+            initialDelayString = "${app.enrichment.sweep-interval-ms:60000}")
+    public void sweepPending() {
+        try {
+            List<InterfaceException> pending = exceptionRepository
+                    .findByOrderRetrievalPendingTrueAndProcessedAtBeforeOrderByProcessedAtAsc(
+                            OffsetDateTime.now().minusSeconds(sweepGraceSeconds), PageRequest.of(0, sweepBatchSize));
+            if (!pending.isEmpty()) {
+                log.info("Re-queueing {} exceptions pending order data enrichment", pending.size());
+            }
+            submitAll(pending.stream().map(InterfaceException::getTransactionId).toList());
+        } catch (Exception e) {
+            log.warn("Order enrichment sweep failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Queues the first enrichment attempt unless one is already in flight here.
+     *
+     * @return false if the worker pool rejected the work
+     */
+    boolean submit(String transactionId) {
+        return submitAll(List.of(transactionId));
+    }
+
+    /**
+     * Queues the first enrichment attempt of every transaction not already in
+     * flight here, so they can share batches.
+     *
+     * @return false if the worker pool rejected the work
+     */
+    boolean submitAll(List<String> transactionIds) {
+        for (String transactionId : transactionIds) {
+            if (inFlight.add(transactionId)) {
+                queue.add(new Attempt(transactionId, 1));
+            }
+        }
+        return dispatch();
+    }
+
+    /**
+     * Starts a batch on the worker pool if attempts are queued and fewer than the
+     * maximum number of batch requests are outstanding.
+     */
+    private boolean dispatch() {
+        if (queue.isEmpty() || !tryStartBatch()) {
+            return true;
+        }
+        try {
+            enrichmentExecutor.execute(this::runBatch);
+            return true;
+        } catch (RejectedExecutionException e) {
+            activeBatches.decrementAndGet();
+            Attempt attempt;
+            while ((attempt = queue.poll()) != null) {
+                inFlight.remove(attempt.transactionId());
+                rejectedCounter.increment();
+                log.debug("Order enrichment queue full, leaving transaction {} pending for the sweeper",
+                        attempt.transactionId());
+            }
+            return false;
+        }
+    }
+
+    private boolean tryStartBatch() {
+        int active;
+        do {
+            active = activeBatches.get();
+            if (active >= maxConcurrentBatches) {
+                return false;
+            }
+        } while (!activeBatches.compareAndSet(active, active + 1));
+        return true;
+    }
+
+    /**
+     * Takes the next batch off the queue and requests the order data of all its
+     * exceptions still pending. The batch counts as active until the response
+     * has been handled.
+     */
+    void runBatch() {
+        List<Attempt> batch = new ArrayList<>();
+        Attempt next;
+        while (batch.size() < batchSize && (next = queue.poll()) != null) {
+            batch.add(next);
+        }
+        // Let another worker take what is left while this batch is outstanding
+        if (!queue.isEmpty()) {
+            dispatch();
+        }
+
+        boolean requested = false;
+        try {
+            if (batch.isEmpty()) {
+                return;
+            }
+            Map<String, InterfaceException> exceptions = exceptionRepository
+                    .findByTransactionIdIn(batch.stream().map(Attempt::transactionId).collect(Collectors.toSet()))
+                    .stream()
+                    .filter(exception -> Boolean.TRUE.equals(exception.getOrderRetrievalPending()))
+                    .collect(Collectors.toMap(InterfaceException::getTransactionId, exception -> exception,
+                            (first, second) -> first, LinkedHashMap::new));
+            List<Attempt> pending = new ArrayList<>(batch.size());
+            for (Attempt attempt : batch) {
+                if (exceptions.containsKey(attempt.transactionId())) {
+                    pending.add(attempt);
+                } else {
+                    inFlight.remove(attempt.transactionId());
+                }
+            }
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            CompletableFuture<Map<String, PayloadResponse>> responses = requestOrderData(
+                    new ArrayList<>(exceptions.values()));
+            if (responses == null) {
+                pending.forEach(attempt -> finish(attempt, false, null, null));
+                return;
+            }
+
+            requested = true;
+            responses.orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                    .whenComplete((result, error) -> {
+                        try {
+                            enrichmentExecutor.execute(() -> {
+                                try {
+                                    complete(pending, result, error);
+                                } finally {
+                                    releaseBatch();
+                                }
+                            });
+                        } catch (RejectedExecutionException e) {
+                            log.debug("Order enrichment pool full, leaving {} transactions pending for the sweeper",
+                                    pending.size());
+                            pending.forEach(attempt -> inFlight.remove(attempt.transactionId()));
+                            releaseBatch();
+                        }
+                    });
+        } catch (Exception e) {
+            log.error("Order data enrichment failed for {} transactions", batch.size(), e);
+            batch.forEach(attempt -> inFlight.remove(attempt.transactionId()));
+        } finally {
+            if (!requested) {
+                releaseBatch();
+            }
+        }
+    }
+
+    private void releaseBatch() {
+        activeBatches.decrementAndGet();
+        dispatch();
+    }
+
+    /**
+     * Handles the response to a batch: stores each outcome or schedules a retry
+     * for the transactions that failed.
+     */
+    private void complete(List<Attempt> batch, Map<String, PayloadResponse> responses, Throwable error) {
+        for (Attempt attempt : batch) {
+            try {
+                PayloadResponse response = responses != null ? responses.get(attempt.transactionId()) : null;
+                Throwable attemptError = error;
+                if (attemptError == null && response == null) {
+                    attemptError = new IllegalStateException("No response for transaction " + attempt.transactionId());
+                }
+                if (attemptError == null && response.isTransientFailure()) {
+                    attemptError = new IllegalStateException(response.getErrorMessage());
+                }
+                if (attemptError instanceof CompletionException && attemptError.getCause() != null) {
+                    attemptError = attemptError.getCause();
+                }
+
+                if (attemptError != null && attempt.number() < maxAttempts) {
+                    retry(attempt, attemptError);
+                } else {
+                    finish(attempt, true, response, attemptError);
+                }
+            } catch (Exception e) {
+                log.error("Order data enrichment failed for transaction {}", attempt.transactionId(), e);
+                inFlight.remove(attempt.transactionId());
+            }
+        }
+    }
+
+    private void retry(Attempt attempt, Throwable error) {
+        long backoff = initialBackoffMs << (attempt.number() - 1);
+        log.warn("Order data retrieval attempt {} failed for transaction {}, retrying in {} ms: {}",
+                attempt.number(), attempt.transactionId(), backoff, error.getMessage());
+        retriedCounter.increment();
+        retryScheduler.schedule(() -> {
+            queue.add(new Attempt(attempt.transactionId(), attempt.number() + 1));
+            if (!dispatch()) {
+                log.debug("Retry for transaction {} left pending for the sweeper", attempt.transactionId());
+            }
+        }, backoff, TimeUnit.MILLISECONDS);
+    }
+
+    private void finish(Attempt attempt, boolean clientAvailable, PayloadResponse response, Throwable error) {
+        try {
+            storeOutcome(attempt.transactionId(), clientAvailable, response, error);
+        } finally {
+            inFlight.remove(attempt.transactionId());
+        }
+    }
+
+    /**
+     * Start order data retrieval for a batch of exceptions without waiting for the
+     * result. Returns null when no ORDER client is registered.
+     */
+    private CompletableFuture<Map<String, PayloadResponse>> requestOrderData(List<InterfaceException> exceptions) {
+        log.info("Attempting to retrieve order data for {} exceptions from the order service", exceptions.size());
+
+        // Get the appropriate source service client for ORDER interface type
+        if (!clientRegistry.hasClient(InterfaceType.ORDER)) {
+            return null;
+        }
+
+        try {
+            SourceServiceClient client = clientRegistry.getClient(InterfaceType.ORDER);
+            return client.getOriginalPayloads(exceptions);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Stores the final retrieval outcome on a freshly loaded exception and publishes
+     * the update once the transaction has committed.
+     */
+    private void storeOutcome(String transactionId, boolean clientAvailable, PayloadResponse response,
+            Throwable error) {
+        InterfaceException updated = transactionTemplate.execute(status -> {
+            InterfaceException exception = exceptionRepository.findByTransactionId(transactionId).orElse(null);
+            if (exception == null || !Boolean.TRUE.equals(exception.getOrderRetrievalPending())) {
+                return null;
+            }
+            applyOrderData(exception, clientAvailable, response, error);
+            return exceptionRepository.save(exception);
+        });
+
+        if (updated == null) {
+            return;
+        }
+
+        if (updated.getOrderReceived() != null) {
+            completedCounter.increment();
+        } else {
+            failedCounter.increment();
+        }
+
+        cacheEvictionService.evictCachesOnExceptionUpdate(updated);
+        try {
+            graphqlEventPublisher.publishExceptionUpdated(updated, "system");
+        } catch (Exception e) {
+            log.warn("Failed to publish GraphQL subscription event for enriched exception: {}", transactionId, e);
+        }
+    }
+
+    /**
+     * Store the outcome of an order data retrieval on the exception.
+     */
+    private void applyOrderData(InterfaceException exception, boolean clientAvailable, PayloadResponse response,
+            Throwable error) {
+        exception.setOrderRetrievalPending(false);
+        exception.setOrderRetrievalAttempted(true);
+
+        if (!clientAvailable) {
+            log.warn("No source service client available for ORDER interface type");
+            exception.setOrderRetrievalError("No source service client available");
+            exception.setRetryable(false);
+        } else if (error != null) {
+            // Handle any errors during order data retrieval
+            exception.setOrderRetrievalError("Error retrieving order data: "
+                    + (error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName()));
+            exception.setRetryable(false);
+
+            log.error("Error retrieving order data for externalId: {}", exception.getExternalId(), error);
+        } else if (response.isRetrieved() && response.getPayload() != null) {
+            // Successfully retrieved order data
+            exception.setOrderReceived(response.getPayload());
+            exception.setOrderRetrievedAt(OffsetDateTime.now());
+            exception.setOrderRetrievalError(null);
+            exception.setRetryable(true);
+
+            log.info("Successfully retrieved order data for externalId: {} from service: {}",
+                    exception.getExternalId(), response.getSourceService());
+        } else {
+            // Failed to retrieve order data
+            String errorMessage = response.getErrorMessage() != null ?
+                response.getErrorMessage() : "Order data not found";
+            exception.setOrderRetrievalError(errorMessage);
+            exception.setRetryable(false);
+
+            log.warn("Failed to retrieve order data for externalId: {}, error: {}",
+                    exception.getExternalId(), errorMessage);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Pending retries stay flagged in the database and are picked up by the next sweep
+        retryScheduler.shutdownNow();
+    }
+}
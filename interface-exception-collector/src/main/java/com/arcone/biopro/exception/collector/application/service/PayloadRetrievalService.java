@@ -15,8 +15,12 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 /**
  * Service for retrieving original payloads from source interface services.
@@ -81,6 +85,63 @@ public class PayloadRetrievalService {
                         .build());
     }
 
+    /**
+     * Retrieves the original payloads for several exceptions, with one batch request
+     * per source service client instead of one request per exception. A failed batch
+     * yields an error response for each of its exceptions.
+     *
+     * @param exceptions the interface exceptions to retrieve payloads for
+     * @return CompletableFuture containing a payload response for every exception by transaction ID
+     */
+    public CompletableFuture<Map<String, PayloadResponse>> getOriginalPayloads(List<InterfaceException> exceptions) {
+        Map<InterfaceType, List<InterfaceException>> byInterfaceType = exceptions.stream()
+                .collect(Collectors.groupingBy(InterfaceException::getInterfaceType));
+        log.info("Retrieving original payloads for {} exceptions across {} interface types",
+                exceptions.size(), byInterfaceType.size());
+
+        List<CompletableFuture<Map<String, PayloadResponse>>> batches = new ArrayList<>();
+        byInterfaceType.forEach((interfaceType, group) -> {
+            SourceServiceClient client;
+            try {
+                client = clientRegistry.getClient(interfaceType);
+            } catch (IllegalArgumentException e) {
+                log.error("No client available for interface type: {}", interfaceType);
+                batches.add(CompletableFuture.completedFuture(errorResponses(group, "unknown",
+                        "No client available for interface type: " + interfaceType)));
+                return;
+            }
+            batches.add(client.getOriginalPayloads(group)
+                    .exceptionally(error -> {
+                        log.error("Batch payload retrieval failed for {} {} exceptions: {}",
+                                group.size(), interfaceType, error.getMessage());
+                        return errorResponses(group, client.getServiceName(),
+                                "Payload retrieval failed: " + error.getMessage());
+                    }));
+        });
+
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<String, PayloadResponse> responses = new LinkedHashMap<>();
+                    batches.forEach(batch -> responses.putAll(batch.join()));
+                    return responses;
+                });
+    }
+
+    private Map<String, PayloadResponse> errorResponses(List<InterfaceException> exceptions, String sourceService,
+            String errorMessage) {
+        Map<String, PayloadResponse> responses = new LinkedHashMap<>();
+        for (InterfaceException exception : exceptions) {
+            responses.put(exception.getTransactionId(), PayloadResponse.builder()
+                    .transactionId(exception.getTransactionId())
+                    .interfaceType(exception.getInterfaceType().name())
+                    .sourceService(sourceService)
+                    .retrieved(false)
+                    .errorMessage(errorMessage)
+                    .build());
+        }
+        return responses;
+    }
+
     /**
      * Submits a retry request to the appropriate source service.
      *
@@ -0,0 +1,85 @@
+package com.arcone.biopro.exception.collector.application.service;
+
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.infrastructure.config.RetryDispatchProperties;
+import com.arcone.biopro.exception.collector.infrastructure.repository.BulkMutationRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fails retry attempts that were lost from the {@link RetryDispatcher} queue.
+ *
+ * The dispatcher queues retries in memory, so attempts still queued when an
+ * instance stops stay PENDING in the database and block new retries of their
+ * exception. Shortly after startup and then periodically, pending attempts older
+ * than {@code app.retry.dispatch.pending-timeout} are failed in one statement,
+ * which is safe to run from every instance at once.
+ */
+@Service
+@Slf4j
+public class PendingRetrySweeper {
+
+    static final String LOST_RETRY_MESSAGE = "Retry was not executed before its queue was lost";
+
+    private final BulkMutationRepository bulkMutationRepository;
+    private final InterfaceExceptionRepository exceptionRepository;
+    private final CacheEvictionService cacheEvictionService;
+    private final RetryDispatchProperties properties;
+    private final Counter expired;
+
+    public PendingRetrySweeper(BulkMutationRepository bulkMutationRepository,
+            InterfaceExceptionRepository exceptionRepository,
+            CacheEvictionService cacheEvictionService,
+            RetryDispatchProperties properties,
+            MeterRegistry meterRegistry) {
+        this.bulkMutationRepository = bulkMutationRepository;
+        this.exceptionRepository = exceptionRepository;
+        this.cacheEvictionService = cacheEvictionService;
+        this.properties = properties;
+        this.expired = Counter.builder("retry.dispatch.pending.expired")
+                .description("Pending retry attempts failed because their queue was lost")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled sweep; the first run happens shortly after startup.
+     */
+    @Scheduled(fixedDelayString = "${app.retry.dispatch.pending-sweep-interval-ms:60000}",
+            initialDelayString = "${app.retry.dispatch.pending-sweep-initial-delay-ms:10000}")
+    public void scheduledSweep() {
+        try {
+            sweep();
+        } catch (Exception e) {
+            log.warn("Sweep for lost pending retries failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Fails the pending retry attempts initiated before the pending timeout.
+     *
+     * @return the transaction IDs of the exceptions whose attempt was failed
+     */
+    public Set<String> sweep() {
+        OffsetDateTime now = OffsetDateTime.now();
+        Set<String> transactionIds = bulkMutationRepository.failPendingRetryAttempts(
+                now.minus(properties.getPendingTimeout()), LOST_RETRY_MESSAGE, now);
+        if (transactionIds.isEmpty()) {
+            return transactionIds;
+        }
+
+        expired.increment(transactionIds.size());
+        List<InterfaceException> exceptions = exceptionRepository.findByTransactionIdIn(transactionIds);
+        cacheEvictionService.evictCachesOnBulkUpdate(exceptions);
+        log.warn("Failed {} retry attempts left pending for more than {}; their exceptions can be retried again",
+                transactionIds.size(), properties.getPendingTimeout());
+        return transactionIds;
+    }
+}
@@ -0,0 +1,263 @@
+package com.arcone.biopro.exception.collector.application.service;
+
+import com.arcone.biopro.exception.collector.api.graphql.dto.RetryExceptionInput.RetryPriority;
+import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import com.arcone.biopro.exception.collector.infrastructure.config.RetryDispatchProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dispatches retries to the source services in parallel while protecting each
+ * of them.
+ *
+ * Every interface type has its own lane with a priority queue, a concurrency
+ * budget and a token bucket. A queued retry starts when its lane has both a free
+ * slot and a token, higher priorities first and in submission order within a
+ * priority. A lane waiting for tokens is woken up when the next token is due.
+ * Lanes are independent, so a large bulk retry against one source service does
+ * not hold up retries against the others.
+ *
+ * Queues only live in memory; attempts lost with them are failed by
+ * {@link PendingRetrySweeper}.
+ */
+@Service
+@Slf4j
+public class RetryDispatcher {
+
+    private final Executor workers;
+    private final ScheduledExecutorService scheduler;
+    private final Map<InterfaceType, Lane> lanes = new EnumMap<>(InterfaceType.class);
+    private final AtomicLong sequence = new AtomicLong();
+
+    public RetryDispatcher(RetryDispatchProperties properties,
+            @Qualifier("retryDispatchExecutor") Executor workers,
+            MeterRegistry meterRegistry) {
+        this.workers = workers;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "retry-dispatch-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (InterfaceType interfaceType : InterfaceType.values()) {
+            Lane lane = new Lane(interfaceType, properties.budgetFor(interfaceType.name()), meterRegistry);
+            lanes.put(interfaceType, lane);
+
+            Gauge.builder("retry.dispatch.queue.depth", lane, Lane::getQueueDepth)
+                    .description("Retries waiting for a concurrency slot or rate limit token")
+                    .tag("interface_type", interfaceType.name())
+                    .register(meterRegistry);
+            Gauge.builder("retry.dispatch.in_flight", lane, Lane::getInFlight)
+                    .description("Retries currently executing against the source service")
+                    .tag("interface_type", interfaceType.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Queues a retry for the source service of the interface type.
+     *
+     * @param interfaceType the interface type whose source service the retry calls
+     * @param priority      the retry priority; null is treated as NORMAL
+     * @param task          the retry to execute
+     * @return a future completed when the retry has run, or completed exceptionally
+     *         with a {@link RejectedExecutionException} when the lane queue is full
+     */
+    public CompletableFuture<Void> dispatch(InterfaceType interfaceType, RetryPriority priority, Runnable task) {
+        Lane lane = lanes.get(interfaceType);
+        DispatchTask dispatchTask = new DispatchTask(priority != null ? priority : RetryPriority.NORMAL,
+                sequence.getAndIncrement(), task);
+        if (!lane.offer(dispatchTask)) {
+            log.warn("Retry dispatch queue for {} is full ({} queued), rejecting retry",
+                    interfaceType, lane.getQueueDepth());
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("Retry queue for " + interfaceType + " is full"));
+        }
+        lane.drain();
+        return dispatchTask.completion;
+    }
+
+    /**
+     * @return the number of queued retries for the interface type
+     */
+    public int getQueueDepth(InterfaceType interfaceType) {
+        return lanes.get(interfaceType).getQueueDepth();
+    }
+
+    /**
+     * @return the number of retries in flight for the interface type
+     */
+    public int getInFlight(InterfaceType interfaceType) {
+        return lanes.get(interfaceType).getInFlight();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private static final Comparator<DispatchTask> DISPATCH_ORDER = Comparator
+            .comparing((DispatchTask task) -> task.priority.ordinal()).reversed()
+            .thenComparingLong(task -> task.sequence);
+
+    private static final class DispatchTask {
+
+        private final RetryPriority priority;
+        private final long sequence;
+        private final Runnable task;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        private DispatchTask(RetryPriority priority, long sequence, Runnable task) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.task = task;
+        }
+    }
+
+    private final class Lane {
+
+        private final InterfaceType interfaceType;
+        private final RetryDispatchProperties.Budget budget;
+        private final TokenBucket tokens;
+        private final PriorityBlockingQueue<DispatchTask> queue = new PriorityBlockingQueue<>(64, DISPATCH_ORDER);
+        private final Counter rejected;
+        private int inFlight;
+        private boolean wakeupScheduled;
+
+        private Lane(InterfaceType interfaceType, RetryDispatchProperties.Budget budget, MeterRegistry meterRegistry) {
+            this.interfaceType = interfaceType;
+            this.budget = budget;
+            this.tokens = new TokenBucket(budget.getPermitsPerSecond(), budget.getBurst());
+            this.rejected = Counter.builder("retry.dispatch.rejected")
+                    .description("Retries rejected because the dispatch queue was full")
+                    .tag("interface_type", interfaceType.name())
+                    .register(meterRegistry);
+        }
+
+        private boolean offer(DispatchTask task) {
+            if (queue.size() >= budget.getQueueCapacity()) {
+                rejected.increment();
+                return false;
+            }
+            return queue.offer(task);
+        }
+
+        private synchronized void drain() {
+            while (inFlight < budget.getMaxConcurrent() && !queue.isEmpty()) {
+                long waitNanos = tokens.tryAcquire(System.nanoTime());
+                if (waitNanos > 0) {
+                    scheduleWakeup(waitNanos);
+                    return;
+                }
+                DispatchTask task = queue.poll();
+                inFlight++;
+                try {
+                    workers.execute(() -> run(task));
+                } catch (RejectedExecutionException e) {
+                    inFlight--;
+                    task.completion.completeExceptionally(e);
+                }
+            }
+        }
+
+        private void run(DispatchTask task) {
+            Throwable failure = null;
+            try {
+                task.task.run();
+            } catch (Throwable t) {
+                log.error("Retry dispatched for {} failed: {}", interfaceType, t.getMessage(), t);
+                failure = t;
+            }
+            // The slot is released before the caller is told, so a caller that sees the
+            // completion also sees the capacity it freed
+            try {
+                synchronized (this) {
+                    inFlight--;
+                }
+                drain();
+            } finally {
+                if (failure == null) {
+                    task.completion.complete(null);
+                } else {
+                    task.completion.completeExceptionally(failure);
+                }
+            }
+        }
+
+        private void scheduleWakeup(long waitNanos) {
+            if (wakeupScheduled) {
+                return;
+            }
+            wakeupScheduled = true;
+            scheduler.schedule(() -> {
+                synchronized (this) {
+                    wakeupScheduled = false;
+                }
+                drain();
+            }, waitNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private int getQueueDepth() {
+            return queue.size();
+        }
+
+        private synchronized int getInFlight() {
+            return inFlight;
+        }
+    }
+
+    /**
+     * Token bucket refilled continuously at a fixed rate up to its burst size.
+     * Not thread-safe; callers synchronize.
+     */
+    static final class TokenBucket {
+
+        private final double tokensPerNano;
+        private final double capacity;
+        private double available;
+        private long lastRefill;
+
+        TokenBucket(double permitsPerSecond, int burst) {
+            this.tokensPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = Math.max(1, burst);
+            this.available = capacity;
+            this.lastRefill = System.nanoTime();
+        }
+
+        /**
+         * Takes a token if one is available.
+         *
+         * @param now the current {@link System#nanoTime()}
+         * @return 0 if a token was taken, otherwise the nanoseconds until the next token is due
+         */
+        long tryAcquire(long now) {
+            if (tokensPerNano <= 0) {
+                return 0;
+            }
+            available = Math.min(capacity, available + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+            if (available >= 1) {
+                available -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - available) / tokensPerNano));
+        }
+    }
+}
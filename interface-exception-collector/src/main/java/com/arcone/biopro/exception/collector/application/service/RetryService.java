@@ -3,6 +3,7 @@ package com.arcone.biopro.exception.collector.application.service;
 import com.arcone.biopro.exception.collector.api.dto.PayloadResponse;
 import com.arcone.biopro.exception.collector.api.dto.RetryRequest;
 import com.arcone.biopro.exception.collector.api.dto.RetryResponse;
+import com.arcone.biopro.exception.collector.api.graphql.dto.RetryExceptionInput.RetryPriority;
 import com.arcone.biopro.exception.collector.api.graphql.service.SubscriptionEventBridge;
 import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
 import com.arcone.biopro.exception.collector.domain.entity.RetryAttempt;
@@ -11,6 +12,7 @@ import com.arcone.biopro.exception.collector.domain.enums.RetryStatus;
 import com.arcone.biopro.exception.collector.infrastructure.kafka.publisher.RetryEventPublisher;
 import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
 import com.arcone.biopro.exception.collector.infrastructure.repository.RetryAttemptRepository;
+import com.arcone.biopro.exception.collector.infrastructure.service.CacheInvalidationService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +26,7 @@ import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Service for orchestrating retry operations on interface exceptions.
@@ -42,6 +44,8 @@ public class RetryService {
     private final RetryEventPublisher retryEventPublisher;
     private final MetricsService metricsService;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final RetryDispatcher retryDispatcher;
+    private final CacheInvalidationService cacheInvalidationService;
 
     /**
      * Initiates a retry operation for the specified exception.
@@ -112,49 +116,73 @@ public class RetryService {
 
     /**
      * Performs the actual retry operation asynchronously.
+     * Also used by bulk retry for the attempts it created in one statement.
+     * The retry is queued on the dispatcher lane of the exception's interface type,
+     * which bounds the concurrency and rate of retries against its source service.
      */
-    private void performRetryAsync(InterfaceException exception, RetryAttempt retryAttempt, RetryRequest retryRequest) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                log.info("Starting async retry execution for transaction: {}, attempt: {}",
-                        exception.getTransactionId(), retryAttempt.getAttemptNumber());
-
-                // Step 1: Retrieve original payload
-                PayloadResponse payloadResponse = payloadRetrievalService.getOriginalPayload(exception).get();
-
-                if (!payloadResponse.isRetrieved()) {
-                    // Payload retrieval failed
-                    handleRetryFailure(exception, retryAttempt,
-                            "Failed to retrieve original payload: " + payloadResponse.getErrorMessage(),
-                            null, payloadResponse.getErrorMessage());
-                    return;
-                }
-
-                // Step 2: Submit retry to source service
-                ResponseEntity<Object> retryResponse = payloadRetrievalService
-                        .submitRetry(exception, payloadResponse.getPayload()).get();
-
-                // Step 3: Process retry result
-                if (retryResponse.getStatusCode().is2xxSuccessful()) {
-                    handleRetrySuccess(exception, retryAttempt,
-                            "Retry completed successfully",
-                            retryResponse.getStatusCode().value());
-                } else {
-                    handleRetryFailure(exception, retryAttempt,
-                            "Retry failed with status: " + retryResponse.getStatusCode(),
-                            retryResponse.getStatusCode().value(),
-                            retryResponse.getBody() != null ? retryResponse.getBody().toString() : "No response body");
-                }
-
-            } catch (Exception e) {
-                log.error("Retry execution failed for transaction: {}, attempt: {}, error: {}",
-                        exception.getTransactionId(), retryAttempt.getAttemptNumber(), e.getMessage(), e);
+    public void performRetryAsync(InterfaceException exception, RetryAttempt retryAttempt, RetryRequest retryRequest) {
+        retryDispatcher.dispatch(exception.getInterfaceType(), priorityOf(retryRequest),
+                () -> executeRetry(exception, retryAttempt))
+                .exceptionally(throwable -> {
+                    if (throwable instanceof RejectedExecutionException) {
+                        handleRetryFailure(exception, retryAttempt,
+                                "Retry could not be queued: " + throwable.getMessage(),
+                                null, throwable.getMessage());
+                    }
+                    return null;
+                });
+    }
+
+    private static RetryPriority priorityOf(RetryRequest retryRequest) {
+        try {
+            return retryRequest.getPriority() != null
+                    ? RetryPriority.valueOf(retryRequest.getPriority())
+                    : RetryPriority.NORMAL;
+        } catch (IllegalArgumentException e) {
+            return RetryPriority.NORMAL;
+        }
+    }
+
+    private void executeRetry(InterfaceException exception, RetryAttempt retryAttempt) {
+        try {
+            log.info("Starting async retry execution for transaction: {}, attempt: {}",
+                    exception.getTransactionId(), retryAttempt.getAttemptNumber());
+
+            // Step 1: Retrieve original payload
+            PayloadResponse payloadResponse = payloadRetrievalService.getOriginalPayload(exception).get();
 
+            if (!payloadResponse.isRetrieved()) {
+                // Payload retrieval failed
                 handleRetryFailure(exception, retryAttempt,
-                        "Retry execution failed: " + e.getMessage(),
-                        null, e.getMessage());
+                        "Failed to retrieve original payload: " + payloadResponse.getErrorMessage(),
+                        null, payloadResponse.getErrorMessage());
+                return;
             }
-        });
+
+            // Step 2: Submit retry to source service
+            ResponseEntity<Object> retryResponse = payloadRetrievalService
+                    .submitRetry(exception, payloadResponse.getPayload()).get();
+
+            // Step 3: Process retry result
+            if (retryResponse.getStatusCode().is2xxSuccessful()) {
+                handleRetrySuccess(exception, retryAttempt,
+                        "Retry completed successfully",
+                        retryResponse.getStatusCode().value());
+            } else {
+                handleRetryFailure(exception, retryAttempt,
+                        "Retry failed with status: " + retryResponse.getStatusCode(),
+                        retryResponse.getStatusCode().value(),
+                        retryResponse.getBody() != null ? retryResponse.getBody().toString() : "No response body");
+            }
+
+        } catch (Exception e) {
+            log.error("Retry execution failed for transaction: {}, attempt: {}, error: {}",
+                    exception.getTransactionId(), retryAttempt.getAttemptNumber(), e.getMessage(), e);
+
+            handleRetryFailure(exception, retryAttempt,
+                    "Retry execution failed: " + e.getMessage(),
+                    null, e.getMessage());
+        }
     }
 
     /**
@@ -365,6 +393,8 @@ public class RetryService {
         // Mark as failed with cancellation message
         retryAttempt.markAsFailed("Retry cancelled by user", null, "User cancelled retry operation");
         retryAttemptRepository.save(retryAttempt);
+        // No event is published here, so the pending retry is evicted directly
+        cacheInvalidationService.invalidateAfterCommit(transactionId);
 
         log.info("Retry cancelled for transaction: {}, attempt: {}", transactionId, attemptNumber);
 
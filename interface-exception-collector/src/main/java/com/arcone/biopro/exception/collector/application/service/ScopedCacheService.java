@@ -0,0 +1,413 @@
+package com.arcone.biopro.exception.collector.application.service;
+
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.infrastructure.config.CacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Read-through caching for results that depend on a slice of the exception data.
+ * Each cached entry is registered with the {@link CacheScope} it was computed
+ * from, indexed by customer. When exceptions are created or changed only the
+ * entries whose scope covers them are invalidated, instead of clearing the
+ * whole cache.
+ *
+ * Refreshable entries (dashboard summaries) are not evicted: invalidations are
+ * coalesced over {@code app.cache.refresh-debounce} and each affected entry is
+ * recomputed once, so a burst of ingestion does not send every dashboard poll
+ * to the database.
+ */
+@Service
+@Slf4j
+public class ScopedCacheService {
+
+    /**
+     * Index key for entries that are not restricted to specific customers
+     */
+    private static final String ANY_CUSTOMER = "*";
+
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final Duration refreshDebounce;
+
+    private final Map<EntryKey, ScopedEntry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<EntryKey>> entriesByCustomer = new ConcurrentHashMap<>();
+
+    private final Set<EntryKey> pendingRefreshes = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService refreshScheduler;
+
+    public ScopedCacheService(CacheManager cacheManager, CacheProperties cacheProperties,
+            MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+        this.refreshDebounce = cacheProperties.getRefreshDebounce();
+        this.refreshScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scoped-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the cached value for the key, computing and caching it on a miss.
+     * The entry is evicted when a covered exception changes.
+     *
+     * @param cacheName the cache name
+     * @param key       the cache key
+     * @param scope     the data the value is computed from
+     * @param loader    computes the value
+     * @return the cached or computed value
+     */
+    public <T> T get(String cacheName, Object key, CacheScope scope, Supplier<T> loader) {
+        return get(cacheName, key, scope, loader, false);
+    }
+
+    /**
+     * Returns the cached value for the key, computing and caching it on a miss.
+     * When a covered exception changes the entry keeps serving its value until
+     * the debounced refresh has recomputed it with the loader.
+     *
+     * @param cacheName the cache name
+     * @param key       the cache key
+     * @param scope     the data the value is computed from
+     * @param loader    computes the value; also used for refreshes
+     * @return the cached or computed value
+     */
+    public <T> T getRefreshable(String cacheName, Object key, CacheScope scope, Supplier<T> loader) {
+        return get(cacheName, key, scope, loader, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(String cacheName, Object key, CacheScope scope, Supplier<T> loader, boolean refreshable) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return loader.get();
+        }
+
+        // Registered as loading before the lookup, so that a concurrent prune keeps the entry until the value is cached
+        EntryKey entryKey = new EntryKey(cacheName, key);
+        ScopedEntry entry = register(entryKey, scope, refreshable ? loader : null);
+        try {
+            Cache.ValueWrapper cached = cache.get(key);
+            if (cached != null) {
+                return (T) cached.get();
+            }
+
+            long version = entry.version.get();
+            T value = loader.get();
+            if (entry.version.get() == version) {
+                cache.put(key, value);
+                evictOnFailure(cache, key, value);
+            } else {
+                // A covered exception changed while the value was computed; do not cache it
+                log.debug("Not caching '{}' in cache '{}': invalidated while loading", key, cacheName);
+            }
+            return value;
+        } finally {
+            entry.loading.decrementAndGet();
+        }
+    }
+
+    /**
+     * Invalidates the cached entries whose scope covers the given exception.
+     *
+     * @param exception the created or changed exception
+     */
+    public void invalidate(InterfaceException exception) {
+        invalidate(List.of(exception));
+    }
+
+    /**
+     * Invalidates the cached entries whose scope covers any of the given exceptions.
+     * Every entry is invalidated at most once, however many exceptions it covers.
+     *
+     * @param exceptions the created or changed exceptions
+     */
+    public void invalidate(Collection<InterfaceException> exceptions) {
+        if (exceptions.isEmpty() || entries.isEmpty()) {
+            return;
+        }
+
+        int evicted = 0;
+        int refreshing = 0;
+        for (EntryKey entryKey : candidates(exceptions)) {
+            ScopedEntry entry = entries.get(entryKey);
+            if (entry == null || exceptions.stream().noneMatch(entry.scope::covers)) {
+                continue;
+            }
+            entry.version.incrementAndGet();
+            if (entry.loader != null && isCached(entryKey)) {
+                scheduleRefresh(entryKey);
+                refreshing++;
+            } else {
+                evict(entryKey);
+                evicted++;
+            }
+        }
+
+        if (evicted > 0 || refreshing > 0) {
+            log.debug("Invalidated cache entries for {} exceptions: {} evicted, {} scheduled for refresh",
+                    exceptions.size(), evicted, refreshing);
+        }
+    }
+
+    /**
+     * Evicts the entries of one cache that are restricted to the given customer.
+     *
+     * @param cacheName  the cache name
+     * @param customerId the customer ID
+     */
+    public void invalidateCustomer(String cacheName, String customerId) {
+        Set<EntryKey> keys = entriesByCustomer.getOrDefault(customerId, Set.of());
+        for (EntryKey entryKey : List.copyOf(keys)) {
+            if (entryKey.cacheName().equals(cacheName)) {
+                ScopedEntry entry = entries.get(entryKey);
+                if (entry != null) {
+                    entry.version.incrementAndGet();
+                }
+                evict(entryKey);
+            }
+        }
+    }
+
+    /**
+     * Removes index entries whose cache entries have expired or been evicted by
+     * size. Entries whose value is still being loaded are kept.
+     */
+    @Scheduled(fixedDelayString = "${app.cache.index-prune-interval:PT1M}")
+    public void pruneIndex() {
+        int pruned = 0;
+        for (EntryKey entryKey : List.copyOf(entries.keySet())) {
+            if (unregisterIf(entryKey, entry -> entry.loading.get() == 0 && !isCached(entryKey)
+                    && !pendingRefreshes.contains(entryKey))) {
+                pruned++;
+            }
+        }
+        if (pruned > 0) {
+            log.debug("Pruned {} scoped cache index entries, {} remaining", pruned, entries.size());
+        }
+    }
+
+    /**
+     * @return the number of cache entries currently tracked with a scope
+     */
+    public int getTrackedEntryCount() {
+        return entries.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshScheduler.shutdownNow();
+    }
+
+    /**
+     * Registers the entry and marks it as loading until the caller decrements
+     * {@link ScopedEntry#loading}. Both happen under the lock of the entry, so a
+     * prune either removes the entry before or sees it loading.
+     */
+    private ScopedEntry register(EntryKey entryKey, CacheScope scope, Supplier<?> loader) {
+        ScopedEntry entry = entries.compute(entryKey, (k, existing) -> {
+            ScopedEntry registered = existing != null ? existing : new ScopedEntry(scope, loader);
+            registered.loading.incrementAndGet();
+            return registered;
+        });
+        customerKeys(entry.scope).forEach(customerId -> entriesByCustomer.compute(customerId, (k, keys) -> {
+            Set<EntryKey> registered = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            registered.add(entryKey);
+            return registered;
+        }));
+        return entry;
+    }
+
+    private void unregister(EntryKey entryKey) {
+        unregisterIf(entryKey, entry -> true);
+    }
+
+    /**
+     * Removes the entry if the condition holds for it. The customer index keeps
+     * the key if the entry has been registered again in the meantime.
+     *
+     * @return whether the entry was removed
+     */
+    private boolean unregisterIf(EntryKey entryKey, Predicate<ScopedEntry> condition) {
+        ScopedEntry[] removed = new ScopedEntry[1];
+        entries.computeIfPresent(entryKey, (k, entry) -> {
+            if (!condition.test(entry)) {
+                return entry;
+            }
+            removed[0] = entry;
+            return null;
+        });
+        if (removed[0] == null) {
+            return false;
+        }
+        customerKeys(removed[0].scope).forEach(customerId -> entriesByCustomer.computeIfPresent(customerId,
+                (k, keys) -> {
+                    if (!entries.containsKey(entryKey)) {
+                        keys.remove(entryKey);
+                    }
+                    return keys.isEmpty() ? null : keys;
+                }));
+        return true;
+    }
+
+    private static Collection<String> customerKeys(CacheScope scope) {
+        return scope.customerIds().isEmpty() ? List.of(ANY_CUSTOMER) : scope.customerIds();
+    }
+
+    /**
+     * Entries that may cover the exceptions: those of their customers and those
+     * not restricted to a customer. An exception without a customer can be
+     * covered by any entry.
+     */
+    private Set<EntryKey> candidates(Collection<InterfaceException> exceptions) {
+        if (exceptions.stream().anyMatch(exception -> exception.getCustomerId() == null)) {
+            return new HashSet<>(entries.keySet());
+        }
+        Set<EntryKey> candidates = new HashSet<>(entriesByCustomer.getOrDefault(ANY_CUSTOMER, Set.of()));
+        exceptions.stream()
+                .map(InterfaceException::getCustomerId)
+                .distinct()
+                .forEach(customerId -> candidates.addAll(entriesByCustomer.getOrDefault(customerId, Set.of())));
+        return candidates;
+    }
+
+    private void evict(EntryKey entryKey) {
+        Cache cache = cacheManager.getCache(entryKey.cacheName());
+        if (cache != null) {
+            cache.evict(entryKey.key());
+        }
+        unregister(entryKey);
+        counter("cache.scoped.evictions", "Number of cache entries evicted by scoped invalidation",
+                entryKey.cacheName()).increment();
+    }
+
+    private void scheduleRefresh(EntryKey entryKey) {
+        pendingRefreshes.add(entryKey);
+        if (refreshScheduled.compareAndSet(false, true)) {
+            refreshScheduler.schedule(this::flushRefreshes, refreshDebounce.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void flushRefreshes() {
+        // Cleared first: invalidations arriving during the flush schedule the next one
+        refreshScheduled.set(false);
+        List<EntryKey> keys = new ArrayList<>(pendingRefreshes);
+        pendingRefreshes.removeAll(keys);
+        keys.forEach(this::refresh);
+    }
+
+    private void refresh(EntryKey entryKey) {
+        ScopedEntry entry = entries.get(entryKey);
+        Cache cache = cacheManager.getCache(entryKey.cacheName());
+        if (entry == null || entry.loader == null || cache == null) {
+            return;
+        }
+
+        try {
+            Object value = entry.loader.get();
+            if (value instanceof CompletableFuture<?> future) {
+                // Keep serving the previous value until the new one is available
+                future.whenComplete((result, error) -> {
+                    if (error == null) {
+                        cache.put(entryKey.key(), CompletableFuture.completedFuture(result));
+                        countRefresh(entryKey);
+                    } else {
+                        log.warn("Refresh of '{}' in cache '{}' failed, evicting: {}",
+                                entryKey.key(), entryKey.cacheName(), error.getMessage());
+                        evict(entryKey);
+                    }
+                });
+            } else {
+                cache.put(entryKey.key(), value);
+                countRefresh(entryKey);
+            }
+        } catch (Exception e) {
+            log.warn("Refresh of '{}' in cache '{}' failed, evicting: {}",
+                    entryKey.key(), entryKey.cacheName(), e.getMessage());
+            evict(entryKey);
+        }
+    }
+
+    /**
+     * A failed asynchronous result must not be served from the cache until it expires.
+     */
+    private void evictOnFailure(Cache cache, Object key, Object value) {
+        if (value instanceof CompletableFuture<?> future) {
+            future.whenComplete((result, error) -> {
+                if (error != null) {
+                    Cache.ValueWrapper cached = cache.get(key);
+                    if (cached != null && cached.get() == future) {
+                        cache.evict(key);
+                    }
+                }
+            });
+        }
+    }
+
+    private boolean isCached(EntryKey entryKey) {
+        Cache cache = cacheManager.getCache(entryKey.cacheName());
+        if (cache == null) {
+            return false;
+        }
+        // Checked on the native map where possible so that index maintenance does not count as cache misses
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            return nativeCache.asMap().containsKey(entryKey.key());
+        }
+        return cache.get(entryKey.key()) != null;
+    }
+
+    private void countRefresh(EntryKey entryKey) {
+        counter("cache.scoped.refreshes", "Number of cache entries recomputed after scoped invalidation",
+                entryKey.cacheName()).increment();
+    }
+
+    private Counter counter(String name, String description, String cacheName) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+    }
+
+    private record EntryKey(String cacheName, Object key) {
+    }
+
+    private static final class ScopedEntry {
+
+        private final CacheScope scope;
+        private final Supplier<?> loader;
+        private final AtomicLong version = new AtomicLong();
+        private final AtomicInteger loading = new AtomicInteger();
+
+        private ScopedEntry(CacheScope scope, Supplier<?> loader) {
+            this.scope = Objects.requireNonNull(scope);
+            this.loader = loader;
+        }
+    }
+}
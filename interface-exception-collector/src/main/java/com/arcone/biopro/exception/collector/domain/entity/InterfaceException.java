@@ -53,7 +53,8 @@ import java.util.List;
 public class InterfaceException {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "interface_exceptions_seq")
+    @SequenceGenerator(name = "interface_exceptions_seq", sequenceName = "interface_exceptions_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Transaction ID is required")
@@ -171,6 +172,10 @@ public class InterfaceException {
     @Column(name = "order_retrieval_attempted", nullable = false)
     private Boolean orderRetrievalAttempted = false;
 
+    @Builder.Default
+    @Column(name = "order_retrieval_pending", nullable = false)
+    private Boolean orderRetrievalPending = false;
+
     @Column(name = "order_retrieval_error")
     private String orderRetrievalError;
 
@@ -40,7 +40,8 @@ import java.time.OffsetDateTime;
 public class RetryAttempt {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "retry_attempts_seq")
+    @SequenceGenerator(name = "retry_attempts_seq", sequenceName = "retry_attempts_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Interface exception is required")
@@ -39,7 +39,8 @@ import java.time.OffsetDateTime;
 public class StatusChange {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "exception_status_changes_seq")
+    @SequenceGenerator(name = "exception_status_changes_seq", sequenceName = "exception_status_changes_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
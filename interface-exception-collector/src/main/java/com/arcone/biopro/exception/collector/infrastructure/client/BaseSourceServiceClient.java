@@ -7,6 +7,7 @@ import io.github.resilience4j.retry.annotation.Retry;
 import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -14,10 +15,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Base implementation for source service clients with common functionality
- * including circuit breaker, retry, and timeout patterns.
+ * including circuit breaker, retry, and timeout patterns. Requests go through the
+ * pooled {@link SourceServiceHttpClient} when it is available.
  */
 @RequiredArgsConstructor
 @Slf4j
@@ -27,6 +30,9 @@ public abstract class BaseSourceServiceClient implements SourceServiceClient {
     protected final String baseUrl;
     protected final String serviceName;
 
+    @Autowired(required = false)
+    protected SourceServiceHttpClient httpClient;
+
     @Override
     @CircuitBreaker(name = "source-service", fallbackMethod = "fallbackGetPayload")
     @TimeLimiter(name = "source-service")
@@ -35,45 +41,36 @@ public abstract class BaseSourceServiceClient implements SourceServiceClient {
         log.info("Retrieving original payload for transaction: {}, service: {}",
                 exception.getTransactionId(), serviceName);
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                String endpoint = buildPayloadEndpoint(exception);
-                String fullUrl = baseUrl + endpoint;
-
-                log.debug("Calling source service: {}", fullUrl);
-
-                HttpHeaders headers = createHeaders(exception);
-                HttpEntity<Void> requestEntity = new HttpEntity<>(headers);
-
-                ResponseEntity<Object> response = restTemplate.exchange(
-                        fullUrl,
-                        HttpMethod.GET,
-                        requestEntity,
-                        Object.class);
-
-                log.info("Successfully retrieved payload for transaction: {}", exception.getTransactionId());
-
-                return PayloadResponse.builder()
-                        .transactionId(exception.getTransactionId())
-                        .interfaceType(exception.getInterfaceType().name())
-                        .payload(response.getBody())
-                        .sourceService(serviceName)
-                        .retrieved(true)
-                        .build();
-
-            } catch (Exception e) {
-                log.error("Failed to retrieve payload for transaction: {}, error: {}",
-                        exception.getTransactionId(), e.getMessage());
-
-                return PayloadResponse.builder()
-                        .transactionId(exception.getTransactionId())
-                        .interfaceType(exception.getInterfaceType().name())
-                        .sourceService(serviceName)
-                        .retrieved(false)
-                        .errorMessage(e.getMessage())
-                        .build();
-            }
-        });
+        String fullUrl = baseUrl + buildPayloadEndpoint(exception);
+        log.debug("Calling source service: {}", fullUrl);
+
+        CompletableFuture<ResponseEntity<Object>> request = exchange(HttpMethod.GET, fullUrl,
+                createHeaders(exception), null);
+        return cancelling(request, request
+                .thenApply(response -> {
+                    log.info("Successfully retrieved payload for transaction: {}", exception.getTransactionId());
+
+                    return PayloadResponse.builder()
+                            .transactionId(exception.getTransactionId())
+                            .interfaceType(exception.getInterfaceType().name())
+                            .payload(response.getBody())
+                            .sourceService(serviceName)
+                            .retrieved(true)
+                            .build();
+                })
+                .exceptionally(error -> {
+                    Throwable cause = unwrap(error);
+                    log.error("Failed to retrieve payload for transaction: {}, error: {}",
+                            exception.getTransactionId(), cause.getMessage());
+
+                    return PayloadResponse.builder()
+                            .transactionId(exception.getTransactionId())
+                            .interfaceType(exception.getInterfaceType().name())
+                            .sourceService(serviceName)
+                            .retrieved(false)
+                            .errorMessage(cause.getMessage())
+                            .build();
+                }));
     }
 
     @Override
@@ -84,33 +81,56 @@ public abstract class BaseSourceServiceClient implements SourceServiceClient {
         log.info("Submitting retry for transaction: {}, service: {}",
                 exception.getTransactionId(), serviceName);
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                String endpoint = buildRetryEndpoint(exception);
-                String fullUrl = baseUrl + endpoint;
-
-                log.debug("Submitting retry to: {}", fullUrl);
-
-                HttpHeaders headers = createRetryHeaders(exception);
-                HttpEntity<Object> requestEntity = new HttpEntity<>(payload, headers);
-
-                ResponseEntity<Object> response = restTemplate.exchange(
-                        fullUrl,
-                        getRetryHttpMethod(exception),
-                        requestEntity,
-                        Object.class);
-
-                log.info("Successfully submitted retry for transaction: {}, status: {}",
-                        exception.getTransactionId(), response.getStatusCode());
+        String fullUrl = baseUrl + buildRetryEndpoint(exception);
+        log.debug("Submitting retry to: {}", fullUrl);
+
+        CompletableFuture<ResponseEntity<Object>> request = exchange(getRetryHttpMethod(exception), fullUrl,
+                createRetryHeaders(exception), payload);
+        return cancelling(request, request
+                .thenApply(response -> {
+                    log.info("Successfully submitted retry for transaction: {}, status: {}",
+                            exception.getTransactionId(), response.getStatusCode());
+                    return response;
+                })
+                .exceptionally(error -> {
+                    Throwable cause = unwrap(error);
+                    log.error("Failed to submit retry for transaction: {}, error: {}",
+                            exception.getTransactionId(), cause.getMessage());
+                    throw new RuntimeException("Retry submission failed: " + cause.getMessage(), cause);
+                }));
+    }
 
-                return response;
+    /**
+     * Sends a request to this source service. Uses the pooled asynchronous client
+     * when it is configured, so no thread waits for the response; otherwise the
+     * request runs on the shared RestTemplate in the common pool.
+     *
+     * @return the response; 4xx and 5xx responses complete the future exceptionally
+     */
+    protected CompletableFuture<ResponseEntity<Object>> exchange(HttpMethod method, String url, HttpHeaders headers,
+            Object body) {
+        if (httpClient != null) {
+            return httpClient.exchange(serviceName, method, url, headers, body);
+        }
+        return CompletableFuture.supplyAsync(() -> restTemplate.exchange(url, method,
+                new HttpEntity<>(body, headers), Object.class));
+    }
 
-            } catch (Exception e) {
-                log.error("Failed to submit retry for transaction: {}, error: {}",
-                        exception.getTransactionId(), e.getMessage());
-                throw new RuntimeException("Retry submission failed: " + e.getMessage(), e);
+    /**
+     * Links a future derived from a request to the request itself, so that cancelling
+     * the derived future, as the time limiter does on timeout, cancels the request.
+     */
+    protected static <T> CompletableFuture<T> cancelling(CompletableFuture<?> request, CompletableFuture<T> derived) {
+        derived.whenComplete((result, error) -> {
+            if (derived.isCancelled()) {
+                request.cancel(true);
             }
         });
+        return derived;
+    }
+
+    protected static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
     }
 
     @Override
@@ -0,0 +1,113 @@
+package com.arcone.biopro.exception.collector.infrastructure.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.nio.entity.AbstractBinAsyncEntityConsumer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Consumes a response body as it arrives. JSON bodies are fed chunk by chunk to a
+ * non-blocking Jackson parser and kept as tokens, so the body is never held as a
+ * whole byte array or string before it becomes the payload; other bodies are
+ * returned as text.
+ */
+class JsonEntityConsumer extends AbstractBinAsyncEntityConsumer<Object> {
+
+    private static final int CAPACITY_INCREMENT = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    private JsonParser parser;
+    private TokenBuffer tokens;
+    private ByteArrayOutputStream text;
+    private Charset charset;
+    private boolean inputEnded;
+
+    JsonEntityConsumer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void streamStart(ContentType contentType) throws IOException {
+        String mimeType = contentType != null ? contentType.getMimeType() : null;
+        if (mimeType == null || mimeType.contains("json")) {
+            parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            tokens = new TokenBuffer(parser);
+        } else {
+            text = new ByteArrayOutputStream();
+            charset = contentType.getCharset(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    protected int capacityIncrement() {
+        return CAPACITY_INCREMENT;
+    }
+
+    @Override
+    protected void data(ByteBuffer src, boolean endOfStream) throws IOException {
+        byte[] chunk = new byte[src.remaining()];
+        src.get(chunk);
+        if (parser == null) {
+            text.write(chunk);
+            return;
+        }
+        ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).feedInput(chunk, 0, chunk.length);
+        drain();
+        if (endOfStream) {
+            endOfInput();
+        }
+    }
+
+    @Override
+    protected Object generateContent() throws IOException {
+        if (parser == null) {
+            return text.size() > 0 ? text.toString(charset) : null;
+        }
+        endOfInput();
+        if (tokens.firstToken() == null) {
+            return null;
+        }
+        try (JsonParser buffered = tokens.asParser(objectMapper)) {
+            return objectMapper.readValue(buffered, Object.class);
+        }
+    }
+
+    @Override
+    public void releaseResources() {
+        if (parser != null) {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // nothing left to release
+            }
+        }
+    }
+
+    private void endOfInput() throws IOException {
+        if (!inputEnded) {
+            inputEnded = true;
+            ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).endOfInput();
+            drain();
+        }
+    }
+
+    /**
+     * Moves all complete tokens of the input fed so far into the token buffer.
+     */
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            tokens.copyCurrentEvent(parser);
+        }
+    }
+}
@@ -19,8 +19,11 @@ import org.springframework.web.client.RestTemplate;
 import jakarta.annotation.PostConstruct;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 /**
  * Mock RSocket client for interacting with the mock RSocket server to retrieve order data
@@ -213,6 +216,56 @@ public class MockRSocketOrderServiceClient extends BaseSourceServiceClient {
         });
     }
 
+    /**
+     * Retrieves order data for many exceptions over one request-channel on the
+     * batch route of the mock server, see {@link OrderPayloadChannel}.
+     */
+    @Override
+    @CircuitBreaker(name = "mock-rsocket-server")
+    public CompletableFuture<Map<String, PayloadResponse>> getOriginalPayloads(List<InterfaceException> exceptions) {
+        RSocketProperties.MockServer config = rSocketProperties.getMockServer();
+        log.info("Retrieving order data from mock RSocket server batch route {} for {} exceptions",
+                config.getBatchRoute(), exceptions.size());
+
+        if (connectionManager.isFallbackMode()) {
+            log.warn("RSocket connection is in fallback mode, skipping batch order data retrieval");
+            return CompletableFuture.completedFuture(exceptions.stream().collect(Collectors.toMap(
+                    InterfaceException::getTransactionId,
+                    exception -> createFallbackResponse(exception, "RSocket connection is in fallback mode"),
+                    (first, second) -> first)));
+        }
+
+        RSocketRequester requester = connectionManager.getRequester();
+        if (requester == null) {
+            connectionManager.forceReconnect();
+            requester = connectionManager.getRequester();
+            if (requester == null) {
+                return CompletableFuture.failedFuture(
+                        new IllegalStateException("RSocket connection not available after reconnection attempt"));
+            }
+        }
+
+        Instant startTime = Instant.now();
+        return OrderPayloadChannel.retrieve(requester, config.getBatchRoute(), config.getTimeout(), exceptions,
+                        "mock-rsocket-server")
+                .doOnSuccess(responses -> {
+                    if (rSocketMetrics != null) {
+                        rSocketMetrics.recordSuccessfulCall(Duration.between(startTime, Instant.now()),
+                                "GET_ORDER_DATA_BATCH");
+                    }
+                })
+                .doOnError(error -> {
+                    if (rSocketMetrics != null) {
+                        rSocketMetrics.recordFailedCall(Duration.between(startTime, Instant.now()),
+                                "GET_ORDER_DATA_BATCH", error.getClass().getSimpleName());
+                    }
+                    if (isConnectionError(error)) {
+                        connectionManager.forceReconnect();
+                    }
+                })
+                .toFuture();
+    }
+
     /**
      * Creates a fallback response when RSocket operations cannot be performed.
      */
@@ -0,0 +1,164 @@
+package com.arcone.biopro.exception.collector.infrastructure.client;
+
+import com.arcone.biopro.exception.collector.api.dto.PayloadResponse;
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Retrieves order payloads for many exceptions over one RSocket request-channel.
+ * The external IDs are streamed to the batch route and the order service streams
+ * one {@link Item} per external ID back on the same multiplexed connection, so a
+ * batch costs one stream instead of one request-response per exception and no
+ * thread waits for the results.
+ *
+ * If the batch route fails, e.g. because the server does not provide it, the
+ * orders not received yet are requested one by one on the {@code orders.<externalId>}
+ * route, still without blocking. A failed single request yields a response flagged
+ * as a transient failure, so that callers can retry it instead of taking it as a
+ * missing order.
+ */
+@Slf4j
+final class OrderPayloadChannel {
+
+    static final String SINGLE_ROUTE_PREFIX = "orders.";
+
+    private static final int FALLBACK_CONCURRENCY = 16;
+
+    /**
+     * One order streamed back by the batch route. Exactly one of payload and
+     * error is set; neither means the order does not exist.
+     */
+    @Data
+    @NoArgsConstructor
+    static class Item {
+        private String externalId;
+        private JsonNode payload;
+        private String error;
+    }
+
+    private OrderPayloadChannel() {
+    }
+
+    /**
+     * Requests the order of a single exception.
+     *
+     * @return the order JSON, or empty if the service has no order for the external ID
+     */
+    static Mono<String> retrieveOne(RSocketRequester requester, Duration timeout, String externalId) {
+        return requester.route(SINGLE_ROUTE_PREFIX + externalId)
+                .retrieveMono(String.class)
+                .timeout(timeout);
+    }
+
+    /**
+     * Requests the orders of all exceptions over the batch route.
+     *
+     * @param requester     the requester of the shared connection
+     * @param batchRoute    the request-channel route
+     * @param timeout       timeout for the whole batch
+     * @param exceptions    exceptions to retrieve orders for
+     * @param sourceService source service name reported in the responses
+     * @return a response for every exception by transaction ID
+     */
+    static Mono<Map<String, PayloadResponse>> retrieve(RSocketRequester requester, String batchRoute,
+            Duration timeout, List<InterfaceException> exceptions, String sourceService) {
+        // Exceptions for the same order share one request
+        Map<String, List<InterfaceException>> byExternalId = exceptions.stream()
+                .filter(exception -> exception.getExternalId() != null)
+                .collect(Collectors.groupingBy(InterfaceException::getExternalId, LinkedHashMap::new,
+                        Collectors.toList()));
+        Map<String, PayloadResponse> responses = new ConcurrentHashMap<>();
+
+        return requester.route(batchRoute)
+                .data(Flux.fromIterable(byExternalId.keySet()), String.class)
+                .retrieveFlux(Item.class)
+                .timeout(timeout)
+                .doOnNext(item -> {
+                    for (InterfaceException exception : byExternalId.getOrDefault(item.getExternalId(), List.of())) {
+                        responses.put(exception.getTransactionId(), toResponse(exception, item, sourceService));
+                    }
+                })
+                .then()
+                .onErrorResume(error -> {
+                    log.warn("Batch order retrieval on route {} failed after {} of {} orders, "
+                            + "requesting the rest one by one: {}",
+                            batchRoute, responses.size(), exceptions.size(), error.getMessage());
+                    return Flux.fromIterable(byExternalId.entrySet())
+                            .filter(entry -> !responses.containsKey(entry.getValue().get(0).getTransactionId()))
+                            .flatMap(entry -> retrieveOne(requester, timeout, entry.getKey())
+                                    .doOnNext(payload -> entry.getValue().forEach(exception -> responses.put(
+                                            exception.getTransactionId(),
+                                            response(exception, sourceService).payload(payload)
+                                                    .retrieved(true).build())))
+                                    .onErrorResume(itemError -> {
+                                        log.warn("Order retrieval on route {}{} failed: {}", SINGLE_ROUTE_PREFIX,
+                                                entry.getKey(), itemError.toString());
+                                        entry.getValue().forEach(exception -> responses.put(
+                                                exception.getTransactionId(),
+                                                response(exception, sourceService).retrieved(false)
+                                                        .transientFailure(true)
+                                                        .errorMessage(errorMessage(itemError)).build()));
+                                        return Mono.empty();
+                                    }), FALLBACK_CONCURRENCY)
+                            .then();
+                })
+                .then(Mono.fromSupplier(() -> {
+                    Map<String, PayloadResponse> results = new LinkedHashMap<>();
+                    for (InterfaceException exception : exceptions) {
+                        results.put(exception.getTransactionId(), responses.getOrDefault(
+                                exception.getTransactionId(),
+                                response(exception, sourceService).retrieved(false)
+                                        .errorMessage("Order data not found").build()));
+                    }
+                    return results;
+                }));
+    }
+
+    private static String errorMessage(Throwable error) {
+        return error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+    }
+
+    private static PayloadResponse toResponse(InterfaceException exception, Item item, String sourceService) {
+        if (item.getError() != null) {
+            return response(exception, sourceService).retrieved(false).errorMessage(item.getError()).build();
+        }
+        Object payload = payload(item);
+        return response(exception, sourceService)
+                .payload(payload)
+                .retrieved(payload != null)
+                .errorMessage(payload == null ? "Order data not found" : null)
+                .build();
+    }
+
+    /**
+     * Returns the order as JSON text, as the single route delivers it.
+     */
+    private static String payload(Item item) {
+        JsonNode payload = item.getPayload();
+        if (payload == null || payload.isNull()) {
+            return null;
+        }
+        return payload.isTextual() ? payload.asText() : payload.toString();
+    }
+
+    private static PayloadResponse.PayloadResponseBuilder response(InterfaceException exception,
+            String sourceService) {
+        return PayloadResponse.builder()
+                .transactionId(exception.getTransactionId())
+                .interfaceType(exception.getInterfaceType() != null ? exception.getInterfaceType().name() : null)
+                .sourceService(sourceService);
+    }
+}
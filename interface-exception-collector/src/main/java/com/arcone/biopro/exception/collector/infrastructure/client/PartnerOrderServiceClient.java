@@ -12,15 +12,17 @@ import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.rsocket.RSocketRequester;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -51,6 +53,9 @@ public class PartnerOrderServiceClient extends BaseSourceServiceClient {
     @Value("${source-services.partner-order.rsocket.timeout:PT10S}")
     private Duration rsocketTimeout;
 
+    @Value("${source-services.partner-order.rsocket.batch-route:orders.batch}")
+    private String rsocketBatchRoute;
+
     @Value("${source-services.partner-order.rest.retry-url:http://localhost:8090/v1/partner-order-provider/orders}")
     private String retryUrl;
 
@@ -93,51 +98,68 @@ public class PartnerOrderServiceClient extends BaseSourceServiceClient {
         log.info("Retrieving order data via RSocket for externalId: {}, transactionId: {}", 
                 exception.getExternalId(), exception.getTransactionId());
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                RSocketRequester requester = getRSocketRequester();
-                if (requester == null) {
-                    throw new RuntimeException("RSocket connection not available");
-                }
-
-                String route = "orders." + exception.getExternalId();
-                log.debug("Making RSocket call with route: {}", route);
-
-                String orderData = requester
-                    .route(route)
-                    .retrieveMono(String.class)
-                    .timeout(rsocketTimeout)
-                    .doOnError(error -> log.error("RSocket call failed for externalId: {}, error: {}", 
-                            exception.getExternalId(), error.getMessage()))
-                    .doOnSuccess(data -> log.debug("Successfully retrieved order data for externalId: {}", 
-                            exception.getExternalId()))
-                    .block();
-
-                boolean dataRetrieved = orderData != null;
-                log.info("RSocket order data retrieval completed for externalId: {}, retrieved: {}", 
-                        exception.getExternalId(), dataRetrieved);
+        RSocketRequester requester = getRSocketRequester();
+        if (requester == null) {
+            return CompletableFuture.completedFuture(
+                    errorResponse(exception, "RSocket connection not available"));
+        }
 
-                return PayloadResponse.builder()
+        log.debug("Making RSocket call with route: {}{}", OrderPayloadChannel.SINGLE_ROUTE_PREFIX,
+                exception.getExternalId());
+        return OrderPayloadChannel.retrieveOne(requester, rsocketTimeout, exception.getExternalId())
+                .map(orderData -> PayloadResponse.builder()
                         .transactionId(exception.getTransactionId())
                         .interfaceType(exception.getInterfaceType().name())
                         .payload(orderData)
                         .sourceService("partner-order-service-rsocket")
-                        .retrieved(dataRetrieved)
-                        .build();
-
-            } catch (Exception e) {
-                log.error("Failed to retrieve order data via RSocket for externalId: {}, error: {}", 
-                        exception.getExternalId(), e.getMessage(), e);
-
-                return PayloadResponse.builder()
+                        .retrieved(true)
+                        .build())
+                .defaultIfEmpty(PayloadResponse.builder()
                         .transactionId(exception.getTransactionId())
                         .interfaceType(exception.getInterfaceType().name())
                         .sourceService("partner-order-service-rsocket")
                         .retrieved(false)
-                        .errorMessage(e.getMessage())
-                        .build();
-            }
-        });
+                        .build())
+                .doOnNext(response -> log.info(
+                        "RSocket order data retrieval completed for externalId: {}, retrieved: {}",
+                        exception.getExternalId(), response.isRetrieved()))
+                .onErrorResume(e -> {
+                    log.error("Failed to retrieve order data via RSocket for externalId: {}, error: {}",
+                            exception.getExternalId(), e.getMessage(), e);
+                    return Mono.just(errorResponse(exception, e.getMessage()));
+                })
+                .toFuture();
+    }
+
+    /**
+     * Retrieves order data for many exceptions over one RSocket request-channel on
+     * the shared connection, see {@link OrderPayloadChannel}. Completes on the
+     * RSocket event loop without holding a thread while the orders stream in.
+     */
+    @Override
+    @CircuitBreaker(name = "partner-order-rsocket")
+    public CompletableFuture<Map<String, PayloadResponse>> getOriginalPayloads(List<InterfaceException> exceptions) {
+        log.info("Retrieving order data via RSocket batch route {} for {} exceptions",
+                rsocketBatchRoute, exceptions.size());
+
+        RSocketRequester requester = getRSocketRequester();
+        if (requester == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("RSocket connection not available"));
+        }
+
+        return OrderPayloadChannel.retrieve(requester, rsocketBatchRoute, rsocketTimeout, exceptions,
+                        "partner-order-service-rsocket")
+                .toFuture();
+    }
+
+    private PayloadResponse errorResponse(InterfaceException exception, String errorMessage) {
+        return PayloadResponse.builder()
+                .transactionId(exception.getTransactionId())
+                .interfaceType(exception.getInterfaceType().name())
+                .sourceService("partner-order-service-rsocket")
+                .retrieved(false)
+                .errorMessage(errorMessage)
+                .build();
     }
 
     /**
@@ -152,37 +174,36 @@ public class PartnerOrderServiceClient extends BaseSourceServiceClient {
         log.info("Submitting retry via REST for externalId: {}, transactionId: {}", 
                 exception.getExternalId(), exception.getTransactionId());
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // Transform the payload to PartnerOrderRequest format
-                Object transformedPayload = transformToPartnerOrderRequest(payload, exception);
-                
-                log.debug("Submitting retry to: {}", retryUrl);
-
-                HttpHeaders headers = createRetryHeaders(exception);
-                // Add retry-specific headers for partner order service
-                headers.set("X-Retry-Attempt", String.valueOf(exception.getRetryCount() + 1));
-                headers.set("X-Original-Transaction-ID", exception.getTransactionId());
-
-                HttpEntity<Object> requestEntity = new HttpEntity<>(transformedPayload, headers);
-
-                ResponseEntity<Object> response = restTemplate.exchange(
-                        retryUrl,
-                        HttpMethod.POST,
-                        requestEntity,
-                        Object.class);
-
-                log.info("Successfully submitted retry via REST for externalId: {}, status: {}", 
-                        exception.getExternalId(), response.getStatusCode());
+        HttpHeaders headers;
+        Object transformedPayload;
+        try {
+            // Transform the payload to PartnerOrderRequest format
+            transformedPayload = transformToPartnerOrderRequest(payload, exception);
 
-                return response;
+            headers = createRetryHeaders(exception);
+            // Add retry-specific headers for partner order service
+            headers.set("X-Retry-Attempt", String.valueOf(exception.getRetryCount() + 1));
+            headers.set("X-Original-Transaction-ID", exception.getTransactionId());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(
+                    new RuntimeException("REST retry submission failed: " + e.getMessage(), e));
+        }
 
-            } catch (Exception e) {
-                log.error("Failed to submit retry via REST for externalId: {}, error: {}", 
-                        exception.getExternalId(), e.getMessage(), e);
-                throw new RuntimeException("REST retry submission failed: " + e.getMessage(), e);
-            }
-        });
+        log.debug("Submitting retry to: {}", retryUrl);
+        CompletableFuture<ResponseEntity<Object>> request = exchange(HttpMethod.POST, retryUrl, headers,
+                transformedPayload);
+        return cancelling(request, request
+                .thenApply(response -> {
+                    log.info("Successfully submitted retry via REST for externalId: {}, status: {}",
+                            exception.getExternalId(), response.getStatusCode());
+                    return response;
+                })
+                .exceptionally(error -> {
+                    Throwable cause = unwrap(error);
+                    log.error("Failed to submit retry via REST for externalId: {}, error: {}",
+                            exception.getExternalId(), cause.getMessage(), cause);
+                    throw new RuntimeException("REST retry submission failed: " + cause.getMessage(), cause);
+                }));
     }
 
     /**
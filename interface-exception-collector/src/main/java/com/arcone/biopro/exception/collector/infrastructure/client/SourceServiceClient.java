@@ -4,6 +4,9 @@ import com.arcone.biopro.exception.collector.api.dto.PayloadResponse;
 import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
 import org.springframework.http.ResponseEntity;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -20,6 +23,27 @@ public interface SourceServiceClient {
      */
     CompletableFuture<PayloadResponse> getOriginalPayload(InterfaceException exception);
 
+    /**
+     * Retrieves the original payloads for several exceptions from the source service.
+     * Clients whose service offers a batch endpoint override this; by default the
+     * payloads are requested one by one.
+     *
+     * @param exceptions the interface exceptions to retrieve payloads for
+     * @return CompletableFuture containing a payload response for every exception by transaction ID
+     */
+    default CompletableFuture<Map<String, PayloadResponse>> getOriginalPayloads(List<InterfaceException> exceptions) {
+        Map<String, CompletableFuture<PayloadResponse>> futures = new LinkedHashMap<>();
+        for (InterfaceException exception : exceptions) {
+            futures.put(exception.getTransactionId(), getOriginalPayload(exception));
+        }
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<String, PayloadResponse> responses = new LinkedHashMap<>();
+                    futures.forEach((transactionId, future) -> responses.put(transactionId, future.join()));
+                    return responses;
+                });
+    }
+
     /**
      * Submits a retry request to the source service.
      *
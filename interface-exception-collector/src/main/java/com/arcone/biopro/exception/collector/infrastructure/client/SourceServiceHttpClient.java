@@ -0,0 +1,378 @@
+package com.arcone.biopro.exception.collector.infrastructure.client;
+
+import com.arcone.biopro.exception.collector.infrastructure.config.SourceServiceHttpProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
+import org.apache.hc.client5.http.nio.AsyncConnectionEndpoint;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.nio.AsyncRequestProducer;
+import org.apache.hc.core5.http.nio.entity.AsyncEntityProducers;
+import org.apache.hc.core5.http.nio.support.AsyncRequestBuilder;
+import org.apache.hc.core5.http.nio.support.BasicResponseConsumer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.ConnectionInitiator;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Non-blocking HTTP client for the source services, built on an Apache HttpClient 5
+ * asynchronous client with its own connection pool and I/O reactor.
+ *
+ * Connections are limited per route and in total, reused for as long as the server's
+ * keep-alive allows, and HTTP/2 is negotiated where the server supports it. Response
+ * bodies are parsed while they stream in (see {@link JsonEntityConsumer}), and the
+ * returned futures complete on a dedicated callback executor, so no thread waits on a
+ * source service and callers' continuations never run on an I/O thread.
+ *
+ * Request latency and the time spent waiting for a pooled connection are recorded
+ * per source service.
+ */
+@Slf4j
+public class SourceServiceHttpClient implements AutoCloseable {
+
+    static final String REQUEST_TIMER = "source_service.http.requests";
+    static final String POOL_LEASE_TIMER = "source_service.http.pool.lease";
+
+    private static final String UNKNOWN_SERVICE = "unknown";
+
+    private final ObjectMapper objectMapper;
+    private final Executor callbackExecutor;
+    private final MeterRegistry meterRegistry;
+    private final PoolingAsyncClientConnectionManager connectionManager;
+    private final CloseableHttpAsyncClient client;
+
+    // Source service by target "host:port", used to tag pool leases
+    private final Map<String, String> serviceByTarget = new ConcurrentHashMap<>();
+
+    public SourceServiceHttpClient(SourceServiceHttpProperties properties, ObjectMapper objectMapper,
+            Executor callbackExecutor, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.callbackExecutor = callbackExecutor;
+        this.meterRegistry = meterRegistry;
+
+        this.connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnectionsTotal())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setTimeToLive(properties.getConnectionTimeToLive().isZero()
+                                ? TimeValue.NEG_ONE_MILLISECOND
+                                : TimeValue.of(properties.getConnectionTimeToLive()))
+                        .build())
+                .setDefaultTlsConfig(TlsConfig.custom()
+                        .setVersionPolicy(HttpVersionPolicy.valueOf(properties.getVersionPolicy()))
+                        .build())
+                .build();
+
+        IOReactorConfig.Builder ioReactorConfig = IOReactorConfig.custom();
+        if (properties.getIoThreads() > 0) {
+            ioReactorConfig.setIoThreadCount(properties.getIoThreads());
+        }
+
+        this.client = HttpAsyncClients.custom()
+                .setConnectionManager(new MeteredConnectionManager(connectionManager))
+                .setIOReactorConfig(ioReactorConfig.build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(properties.getResponseTimeout()))
+                        .setConnectionKeepAlive(TimeValue.of(properties.getKeepAlive()))
+                        .build())
+                .evictIdleConnections(TimeValue.of(properties.getEvictIdleAfter()))
+                .build();
+        this.client.start();
+
+        Gauge.builder("source_service.http.pool.connections", connectionManager,
+                        manager -> manager.getTotalStats().getLeased())
+                .description("Source service connections in the pool")
+                .tag("state", "leased")
+                .register(meterRegistry);
+        Gauge.builder("source_service.http.pool.connections", connectionManager,
+                        manager -> manager.getTotalStats().getAvailable())
+                .description("Source service connections in the pool")
+                .tag("state", "available")
+                .register(meterRegistry);
+        Gauge.builder("source_service.http.pool.connections", connectionManager,
+                        manager -> manager.getTotalStats().getPending())
+                .description("Source service connections in the pool")
+                .tag("state", "pending")
+                .register(meterRegistry);
+
+        log.info("Initialized source service HTTP client with maxTotal={}, maxPerRoute={}, versionPolicy={}",
+                properties.getMaxConnectionsTotal(), properties.getMaxConnectionsPerRoute(),
+                properties.getVersionPolicy());
+    }
+
+    /**
+     * Sends a request to a source service. The body, if any, is sent as JSON.
+     * Like {@code RestTemplate}, responses with a 4xx or 5xx status complete the
+     * future with an {@link HttpClientErrorException} or {@link HttpServerErrorException}.
+     * Cancelling the returned future cancels the request in flight.
+     *
+     * @param serviceName source service name for metrics and logging
+     * @param method      HTTP method
+     * @param url         absolute request URL
+     * @param headers     request headers
+     * @param body        request body, or null
+     * @return the response with its parsed body
+     */
+    public CompletableFuture<ResponseEntity<Object>> exchange(String serviceName, HttpMethod method, String url,
+            HttpHeaders headers, Object body) {
+        CompletableFuture<ResponseEntity<Object>> result = new CompletableFuture<>();
+        long startTime = System.nanoTime();
+        AsyncRequestProducer request;
+        try {
+            request = buildRequest(serviceName, method, url, headers, body);
+        } catch (Exception e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        Future<Message<HttpResponse, Object>> execution = client.execute(request,
+                new BasicResponseConsumer<>(new JsonEntityConsumer(objectMapper)),
+                new FutureCallback<>() {
+                    @Override
+                    public void completed(Message<HttpResponse, Object> message) {
+                        int status = message.getHead().getCode();
+                        record(serviceName, method, String.valueOf(status), startTime);
+                        complete(result, future -> {
+                            ResponseEntity<Object> response = toResponseEntity(message);
+                            if (status >= 400) {
+                                future.completeExceptionally(toStatusException(response, message));
+                            } else {
+                                future.complete(response);
+                            }
+                        });
+                    }
+
+                    @Override
+                    public void failed(Exception e) {
+                        record(serviceName, method, e.getClass().getSimpleName(), startTime);
+                        log.debug("Request to {} failed: {}", serviceName, e.getMessage());
+                        complete(result, future -> future.completeExceptionally(e));
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        record(serviceName, method, "CANCELLED", startTime);
+                        complete(result, future -> future.cancel(false));
+                    }
+                });
+        // A caller giving up, such as a time limiter, aborts the exchange and frees its connection
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                execution.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private AsyncRequestProducer buildRequest(String serviceName, HttpMethod method, String url,
+            HttpHeaders headers, Object body) throws Exception {
+        URI uri = URI.create(url);
+        serviceByTarget.putIfAbsent(targetKey(uri.getHost(), port(uri)), serviceName);
+
+        AsyncRequestBuilder builder = AsyncRequestBuilder.create(method.name()).setUri(uri);
+        if (headers != null) {
+            headers.forEach((name, values) -> {
+                // The entity producer sets the content type of the body it sends
+                if (!HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+                    values.forEach(value -> builder.addHeader(name, value));
+                }
+            });
+        }
+        if (body != null) {
+            builder.setEntity(AsyncEntityProducers.create(objectMapper.writeValueAsBytes(body),
+                    ContentType.APPLICATION_JSON));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Completes the future on the callback executor, or on the I/O thread if the
+     * executor is saturated.
+     */
+    private void complete(CompletableFuture<ResponseEntity<Object>> future,
+            Consumer<CompletableFuture<ResponseEntity<Object>>> completion) {
+        try {
+            callbackExecutor.execute(() -> completion.accept(future));
+        } catch (RejectedExecutionException e) {
+            completion.accept(future);
+        }
+    }
+
+    private static ResponseEntity<Object> toResponseEntity(Message<HttpResponse, Object> message) {
+        HttpHeaders headers = new HttpHeaders();
+        for (Header header : message.getHead().getHeaders()) {
+            headers.add(header.getName(), header.getValue());
+        }
+        return new ResponseEntity<>(message.getBody(), headers, HttpStatusCode.valueOf(message.getHead().getCode()));
+    }
+
+    private RuntimeException toStatusException(ResponseEntity<Object> response,
+            Message<HttpResponse, Object> message) {
+        byte[] body = new byte[0];
+        try {
+            if (message.getBody() != null) {
+                body = objectMapper.writeValueAsBytes(message.getBody());
+            }
+        } catch (Exception ignored) {
+            // the status alone describes the failure
+        }
+        String reason = message.getHead().getReasonPhrase() != null ? message.getHead().getReasonPhrase() : "";
+        return response.getStatusCode().is4xxClientError()
+                ? HttpClientErrorException.create(response.getStatusCode(), reason, response.getHeaders(), body,
+                        StandardCharsets.UTF_8)
+                : HttpServerErrorException.create(response.getStatusCode(), reason, response.getHeaders(), body,
+                        StandardCharsets.UTF_8);
+    }
+
+    private void record(String serviceName, HttpMethod method, String outcome, long startTime) {
+        Timer.builder(REQUEST_TIMER)
+                .description("Source service HTTP request latency, including the wait for a connection")
+                .tag("serviceName", serviceName)
+                .tag("method", method.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    private String serviceFor(HttpRoute route) {
+        HttpHost target = route.getTargetHost();
+        return serviceByTarget.getOrDefault(targetKey(target.getHostName(), target.getPort()), UNKNOWN_SERVICE);
+    }
+
+    private static int port(URI uri) {
+        if (uri.getPort() > 0) {
+            return uri.getPort();
+        }
+        return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
+
+    private static String targetKey(String host, int port) {
+        return host + ":" + port;
+    }
+
+    @Override
+    public void close() {
+        client.close(CloseMode.GRACEFUL);
+    }
+
+    /**
+     * Connection manager that records how long each request waits for a pooled
+     * connection, tagged by the source service of the route.
+     */
+    private class MeteredConnectionManager implements AsyncClientConnectionManager {
+
+        private final PoolingAsyncClientConnectionManager delegate;
+
+        MeteredConnectionManager(PoolingAsyncClientConnectionManager delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Future<AsyncConnectionEndpoint> lease(String id, HttpRoute route, Object state,
+                Timeout requestTimeout, FutureCallback<AsyncConnectionEndpoint> callback) {
+            long startTime = System.nanoTime();
+            String serviceName = serviceFor(route);
+            return delegate.lease(id, route, state, requestTimeout, new FutureCallback<>() {
+                @Override
+                public void completed(AsyncConnectionEndpoint endpoint) {
+                    recordLease(serviceName, "leased", startTime);
+                    callback.completed(endpoint);
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    recordLease(serviceName, "failed", startTime);
+                    callback.failed(e);
+                }
+
+                @Override
+                public void cancelled() {
+                    recordLease(serviceName, "cancelled", startTime);
+                    callback.cancelled();
+                }
+            });
+        }
+
+        private void recordLease(String serviceName, String outcome, long startTime) {
+            Timer.builder(POOL_LEASE_TIMER)
+                    .description("Time source service requests wait for a pooled connection")
+                    .tag("serviceName", serviceName)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void release(AsyncConnectionEndpoint endpoint, Object newState, TimeValue validDuration) {
+            delegate.release(endpoint, newState, validDuration);
+        }
+
+        @Override
+        public Future<AsyncConnectionEndpoint> connect(AsyncConnectionEndpoint endpoint,
+                ConnectionInitiator connectionInitiator, Timeout connectTimeout, Object attachment,
+                HttpContext context, FutureCallback<AsyncConnectionEndpoint> callback) {
+            return delegate.connect(endpoint, connectionInitiator, connectTimeout, attachment, context, callback);
+        }
+
+        @Override
+        public void upgrade(AsyncConnectionEndpoint endpoint, Object attachment, HttpContext context) {
+            delegate.upgrade(endpoint, attachment, context);
+        }
+
+        @Override
+        public void upgrade(AsyncConnectionEndpoint endpoint, Object attachment, HttpContext context,
+                FutureCallback<AsyncConnectionEndpoint> callback) {
+            delegate.upgrade(endpoint, attachment, context, callback);
+        }
+
+        @Override
+        public void close(CloseMode closeMode) {
+            delegate.close(closeMode);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -1,19 +1,34 @@
 package com.arcone.biopro.exception.collector.infrastructure.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * In-memory cache configuration for the Interface Exception Collector Service.
- * Uses ConcurrentMapCacheManager instead of Redis to avoid Lettuce
- * dependencies.
+ * Every named cache is a Caffeine cache: size-bounded with W-TinyLFU admission,
+ * per-cache expire-after-write, optional refresh-after-write, and expiry driven
+ * by a scheduler rather than by reads. Statistics are recorded with striped
+ * counters and exported to Micrometer by the actuator cache metrics binder.
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
 @Slf4j
 public class CacheConfig {
 
@@ -31,27 +46,105 @@ public class CacheConfig {
     public static final String DATALOADER_PAYLOAD_CACHE = "dataloader-payload";
     public static final String DATALOADER_RETRY_HISTORY_CACHE = "dataloader-retry-history";
 
+    static final List<String> APPLICATION_CACHES = List.of(
+            EXCEPTION_DETAILS_CACHE,
+            PAYLOAD_CACHE,
+            EXCEPTION_SUMMARY_CACHE,
+            SEARCH_RESULTS_CACHE,
+            RELATED_EXCEPTIONS_CACHE,
+            DATALOADER_EXCEPTION_CACHE,
+            DATALOADER_PAYLOAD_CACHE,
+            DATALOADER_RETRY_HISTORY_CACHE);
+
     /**
-     * Configures an in-memory cache manager using ConcurrentMapCacheManager.
-     * This provides basic caching without Redis dependencies.
+     * Configures the single cache manager shared by application and validation caches.
+     * Application caches use their entry under {@code app.cache.specs} or the default
+     * spec; validation caches take their TTLs from {@link ValidationCacheConfig} unless
+     * overridden there. Caches requested by name at runtime use the default spec.
      */
     @Bean
-    public CacheManager cacheManager() {
-        log.info("Configuring in-memory cache manager (Redis disabled)");
-
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(
-                EXCEPTION_DETAILS_CACHE,
-                PAYLOAD_CACHE,
-                EXCEPTION_SUMMARY_CACHE,
-                SEARCH_RESULTS_CACHE,
-                RELATED_EXCEPTIONS_CACHE,
-                DATALOADER_EXCEPTION_CACHE,
-                DATALOADER_PAYLOAD_CACHE,
-                DATALOADER_RETRY_HISTORY_CACHE);
-
-        // Allow dynamic cache creation
-        cacheManager.setAllowNullValues(false);
+    @Primary
+    public CacheManager cacheManager(CacheProperties cacheProperties,
+            ValidationCacheConfig validationCacheConfig,
+            ObjectProvider<CacheRefreshLoader> refreshLoaders) {
+        Map<String, CacheProperties.Spec> specs = new LinkedHashMap<>();
+        APPLICATION_CACHES.forEach(name -> specs.put(name, cacheProperties.getDefaultSpec()));
+        specs.putAll(validationCacheConfig.cacheSpecs());
+        specs.putAll(cacheProperties.getSpecs());
+
+        Map<String, CacheRefreshLoader> loaders = refreshLoaders.orderedStream()
+                .collect(Collectors.toMap(CacheRefreshLoader::getCacheName, loader -> loader));
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(newBuilder("default", cacheProperties.getDefaultSpec(), cacheProperties));
+        cacheManager.setAllowNullValues(true);
 
+        specs.forEach((name, spec) -> {
+            cacheManager.registerCustomCache(name, createCache(name, spec, cacheProperties, loaders.get(name)));
+            log.debug("Configured cache '{}' with maximumSize={}, expireAfterWrite={}, refreshAfterWrite={}",
+                    name, spec.getMaximumSize(), spec.getExpireAfterWrite(),
+                    loaders.containsKey(name) ? spec.getRefreshAfterWrite() : null);
+        });
+
+        log.info("Configured Caffeine cache manager with {} caches, statistics {}",
+                specs.size(), cacheProperties.isRecordStats() ? "enabled" : "disabled");
         return cacheManager;
     }
-}
\ No newline at end of file
+
+    /**
+     * Builds a cache for the given spec. With a refresh loader and a
+     * {@code refresh-after-write}, entries older than the refresh interval are
+     * reloaded in the background on their next read while the old value is
+     * still returned; without a loader the refresh setting is ignored.
+     */
+    public static Cache<Object, Object> createCache(String name, CacheProperties.Spec spec,
+            CacheProperties cacheProperties, CacheRefreshLoader refreshLoader) {
+        Caffeine<Object, Object> builder = newBuilder(name, spec, cacheProperties);
+        if (spec.getRefreshAfterWrite() == null) {
+            return builder.build();
+        }
+        if (refreshLoader == null) {
+            log.warn("Ignoring refresh-after-write for cache '{}': no CacheRefreshLoader registered", name);
+            return builder.build();
+        }
+        return builder.refreshAfterWrite(spec.getRefreshAfterWrite()).build(refreshOnly(refreshLoader));
+    }
+
+    /**
+     * Adapts a refresh loader to Caffeine. Misses load nothing, so Spring
+     * still calls the {@code @Cacheable} method for them; only refreshes go to
+     * the refresh loader.
+     */
+    private static CacheLoader<Object, Object> refreshOnly(CacheRefreshLoader refreshLoader) {
+        return new CacheLoader<>() {
+            @Override
+            public Object load(Object key) {
+                return null;
+            }
+
+            @Override
+            public Object reload(Object key, Object oldValue) throws Exception {
+                return refreshLoader.reload(key);
+            }
+        };
+    }
+
+    private static Caffeine<Object, Object> newBuilder(String name, CacheProperties.Spec spec,
+            CacheProperties cacheProperties) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                // Expired entries are removed promptly instead of waiting for the next read or write
+                .scheduler(Scheduler.systemScheduler());
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (cacheProperties.isRecordStats()) {
+            builder.recordStats();
+        }
+        if (cacheProperties.isEvictionLogging()) {
+            builder.evictionListener((key, value, cause) ->
+                    log.debug("Evicted entry {} from cache '{}' ({})", key, name, cause));
+        }
+        return builder;
+    }
+}
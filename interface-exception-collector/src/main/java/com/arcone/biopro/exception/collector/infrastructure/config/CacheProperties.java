@@ -0,0 +1,77 @@
+package com.arcone.biopro.exception.collector.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for the in-memory cache engine.
+ * Binds per-cache size and expiry settings from application.yml; caches without
+ * an explicit spec use the default spec.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProperties {
+
+    /**
+     * Whether hit, miss, load and eviction statistics are recorded and exported
+     */
+    private boolean recordStats = true;
+
+    /**
+     * Whether size and expiry evictions are logged at debug level
+     */
+    private boolean evictionLogging = false;
+
+    /**
+     * Delay over which invalidations of refreshable (summary) entries are coalesced
+     * into a single recomputation per entry
+     */
+    private Duration refreshDebounce = Duration.ofSeconds(1);
+
+    /**
+     * Interval at which scope index entries for expired or evicted cache entries are removed
+     */
+    private Duration indexPruneInterval = Duration.ofMinutes(1);
+
+    /**
+     * Spec for caches without an entry in {@link #specs}, including caches created on demand
+     */
+    private Spec defaultSpec = new Spec();
+
+    /**
+     * Per-cache specs keyed by cache name
+     */
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    @Data
+    public static class Spec {
+
+        /**
+         * Maximum number of entries; admission and eviction are frequency-aware
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * Time after which an entry expires
+         */
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+        /**
+         * Time after which an entry is reloaded in the background on its next read,
+         * while the old value is still returned. Only applies to caches with a
+         * registered {@link CacheRefreshLoader}.
+         */
+        private Duration refreshAfterWrite;
+
+        public static Spec of(long maximumSize, Duration expireAfterWrite) {
+            Spec spec = new Spec();
+            spec.setMaximumSize(maximumSize);
+            spec.setExpireAfterWrite(expireAfterWrite);
+            return spec;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.arcone.biopro.exception.collector.infrastructure.config;
+
+/**
+ * Reloads entries of a named cache in the background. Beans of this type are
+ * picked up by {@link CacheConfig}; once an entry is older than the cache's
+ * {@code refresh-after-write}, the next read still returns it and triggers
+ * {@link #reload(Object)}, whose result replaces it when ready. Misses are
+ * still loaded by the {@code @Cacheable} method that owns the cache.
+ */
+public interface CacheRefreshLoader {
+
+    /**
+     * @return the name of the cache whose entries this loader reloads
+     */
+    String getCacheName();
+
+    /**
+     * Loads the current value for a cached key, as the {@code @Cacheable}
+     * method would store it. If this throws, the old value is kept.
+     *
+     * @param key the cache key
+     * @return the new value, or null to remove the entry
+     */
+    Object reload(Object key) throws Exception;
+}
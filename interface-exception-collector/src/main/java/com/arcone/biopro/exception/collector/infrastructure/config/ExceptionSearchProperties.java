@@ -0,0 +1,84 @@
+package com.arcone.biopro.exception.collector.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the ranked exception search.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.search")
+public class ExceptionSearchProperties {
+
+    /**
+     * Whether text search uses the ranked trigram/full-text search instead of plain LIKE predicates
+     */
+    private boolean rankedEnabled = true;
+
+    /**
+     * Maximum number of results returned by a ranked search
+     */
+    private int maxResults = 500;
+
+    /**
+     * Queries shorter than this only match field prefixes; trigram indexes need three characters
+     */
+    private int minSubstringLength = 3;
+
+    /**
+     * Minimum number of words for a query on exception reasons to use full-text search
+     */
+    private int minFullTextWords = 2;
+
+    /**
+     * In-memory index for searches over recent exceptions
+     */
+    private HotIndex hotIndex = new HotIndex();
+
+    @Data
+    public static class HotIndex {
+
+        /**
+         * Whether searches limited to recent exceptions are answered from the in-memory index
+         */
+        private boolean enabled = true;
+
+        /**
+         * How far back exceptions are kept in the index
+         */
+        private Duration window = Duration.ofHours(72);
+
+        /**
+         * Time span of one index segment; evicted exceptions are dropped a segment at a time
+         */
+        private Duration segmentDuration = Duration.ofHours(1);
+
+        /**
+         * Upper bound on indexed exceptions; the oldest segments are dropped beyond it
+         */
+        private int maxDocuments = 2_000_000;
+
+        /**
+         * Whether the index is loaded from the database for the whole window at startup
+         */
+        private boolean warmUpEnabled = true;
+
+        /**
+         * Rows fetched per round trip while loading the index
+         */
+        private int warmUpFetchSize = 1000;
+
+        /**
+         * Transaction timeout for loading the index
+         */
+        private Duration warmUpTimeout = Duration.ofMinutes(10);
+
+        /**
+         * How far each poll for new exceptions reaches back before the newest processing time
+         * seen, to pick up late commits and other instances' clock skew
+         */
+        private Duration catchUpOverlap = Duration.ofMinutes(1);
+    }
+}
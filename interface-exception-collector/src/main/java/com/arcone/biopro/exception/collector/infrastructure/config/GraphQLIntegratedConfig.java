@@ -1,13 +1,18 @@
 package com.arcone.biopro.exception.collector.infrastructure.config;
 
+import com.arcone.biopro.exception.collector.api.graphql.config.PersistedQueryDocumentProvider;
 import com.arcone.biopro.exception.collector.api.graphql.resolver.ExceptionQueryResolver;
 import com.arcone.biopro.exception.collector.api.graphql.resolver.RetryMutationResolver;
 import com.arcone.biopro.exception.collector.api.graphql.resolver.SummaryQueryResolver;
 import com.arcone.biopro.exception.collector.api.graphql.dto.*;
+import com.arcone.biopro.exception.collector.api.graphql.security.QueryNotAllowedException;
 import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.execution.preparsed.persisted.PersistedQueryError;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -38,6 +43,7 @@ public class GraphQLIntegratedConfig {
   private final ExceptionQueryResolver exceptionQueryResolver;
   private final RetryMutationResolver retryMutationResolver;
   private final SummaryQueryResolver summaryQueryResolver;
+  private final ObjectProvider<PersistedQueryDocumentProvider> persistedQueryProvider;
 
   /**
    * GraphQL endpoint that integrates with actual resolvers to provide
@@ -52,6 +58,24 @@ public class GraphQLIntegratedConfig {
         Map<String, Object> requestMap = objectMapper.readValue(body, Map.class);
         String query = (String) requestMap.get("query");
         Map<String, Object> variables = (Map<String, Object>) requestMap.get("variables");
+        Map<String, Object> extensions = (Map<String, Object>) requestMap.get("extensions");
+
+        // Resolve persisted query hashes and apply the query allowlist
+        PersistedQueryDocumentProvider persistedQueries = persistedQueryProvider.getIfAvailable();
+        if (persistedQueries != null) {
+          try {
+            query = persistedQueries.resolveQuery(query, extensions);
+          } catch (PersistedQueryError e) {
+            String code = e instanceof PersistedQueryNotFound ? "PERSISTED_QUERY_NOT_FOUND" : "PERSISTED_QUERY_ID_INVALID";
+            return ServerResponse.ok()
+                .header("Content-Type", "application/json")
+                .body(createErrorResponse(e.getMessage(), code));
+          } catch (QueryNotAllowedException e) {
+            return ServerResponse.status(403)
+                .header("Content-Type", "application/json")
+                .body(createErrorResponse(e.getMessage(), "QUERY_NOT_ALLOWED"));
+          }
+        }
 
         log.debug("Processing GraphQL query: {}", query);
         log.debug("Variables: {}", variables);
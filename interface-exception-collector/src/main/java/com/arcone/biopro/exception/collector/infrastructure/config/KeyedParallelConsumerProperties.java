@@ -0,0 +1,56 @@
+package com.arcone.biopro.exception.collector.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for keyed parallel consumption. Records of one
+ * partition are processed on several worker lanes, chosen by transaction ID, so
+ * a busy partition is no longer limited to its single listener thread.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.kafka.parallel")
+public class KeyedParallelConsumerProperties {
+
+    /**
+     * Whether the keyed parallel consumer replaces the per-record consumers;
+     * batch mode takes precedence when both are enabled
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of single-threaded worker lanes shared by all inbound topics
+     */
+    private int workerLanes = 16;
+
+    /**
+     * Records fetched per poll, which also bounds the records in flight per
+     * listener thread
+     */
+    private int maxPollRecords = 500;
+
+    /**
+     * Processing attempts per record before it is sent to the dead letter topic
+     */
+    private int maxAttempts = 5;
+
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    private double backoffMultiplier = 2.0;
+
+    private Duration maxBackoff = Duration.ofSeconds(30);
+
+    /**
+     * Maximum time a rebalance waits for the dispatched records of revoked
+     * partitions; records still queued afterwards are consumed again by the new
+     * owner. Must stay well below max.poll.interval.ms
+     */
+    private Duration revocationTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Maximum time to wait for queued records on shutdown
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
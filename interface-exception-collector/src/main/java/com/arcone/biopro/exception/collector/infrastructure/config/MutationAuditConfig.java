@@ -0,0 +1,12 @@
+package com.arcone.biopro.exception.collector.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the asynchronous mutation audit log writer.
+ */
+@Configuration
+@EnableConfigurationProperties(MutationAuditProperties.class)
+public class MutationAuditConfig {
+}
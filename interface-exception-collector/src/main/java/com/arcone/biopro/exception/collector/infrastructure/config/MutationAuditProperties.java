@@ -0,0 +1,39 @@
+package com.arcone.biopro.exception.collector.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the asynchronous mutation audit log writer.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.audit.mutation")
+public class MutationAuditProperties {
+
+    /**
+     * Maximum number of audit records waiting to be written; further records go to the spill file
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Number of audit records written per JDBC batch; a full batch triggers a flush
+     */
+    private int batchSize = 200;
+
+    /**
+     * Maximum time an audit record waits in the queue before it is written
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * Time after which an attempt without a result is written on its own
+     */
+    private Duration pendingTimeout = Duration.ofMinutes(5);
+
+    /**
+     * File audit records are appended to while the database cannot keep up
+     */
+    private String spillFile = System.getProperty("java.io.tmpdir") + "/mutation-audit-spill.ndjson";
+}
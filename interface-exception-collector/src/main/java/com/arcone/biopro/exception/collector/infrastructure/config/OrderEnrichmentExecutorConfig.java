@@ -0,0 +1,56 @@
+package com.arcone.biopro.exception.collector.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration for the worker pool that retrieves order data for new exceptions.
+ * The pool and its queue are bounded; when both are full new work is rejected and
+ * the exception stays pending until the enrichment sweeper picks it up again.
+ */
+@Configuration
+@Slf4j
+public class OrderEnrichmentExecutorConfig {
+
+    @Value("${app.enrichment.executor.core-pool-size:4}")
+    private int corePoolSize;
+
+    @Value("${app.enrichment.executor.max-pool-size:8}")
+    private int maxPoolSize;
+
+    @Value("${app.enrichment.executor.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${app.enrichment.executor.keep-alive-seconds:60}")
+    private int keepAliveSeconds;
+
+    /**
+     * Creates a bounded thread pool executor for order data enrichment
+     */
+    @Bean("orderEnrichmentExecutor")
+    public Executor orderEnrichmentExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setKeepAliveSeconds(keepAliveSeconds);
+        executor.setThreadNamePrefix("order-enrichment-");
+        executor.setRejectedExecutionHandler((r, executor1) -> {
+            throw new TaskRejectedException("Order enrichment queue is full");
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(15);
+        executor.initialize();
+
+        log.info("Initialized order enrichment thread pool with core={}, max={}, queue={}",
+                corePoolSize, maxPoolSize, queueCapacity);
+
+        return executor;
+    }
+}
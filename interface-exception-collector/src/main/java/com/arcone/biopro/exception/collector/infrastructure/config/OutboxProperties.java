@@ -0,0 +1,71 @@
+package com.arcone.biopro.exception.collector.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the transactional outbox. Outbound events are
+ * written to the outbox table with the transaction that produced them and sent
+ * to Kafka by a scheduled relay using its own producer.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+
+    /**
+     * Whether publishers write to the outbox; when disabled they send to Kafka
+     * directly from the calling thread
+     */
+    private boolean enabled = true;
+
+    /**
+     * Delay between relay runs when the outbox has been drained
+     */
+    private long pollIntervalMs = 250;
+
+    private long initialDelayMs = 5000;
+
+    /**
+     * Number of events read, sent and deleted per relay transaction
+     */
+    private int batchSize = 500;
+
+    /**
+     * Maximum number of full batches relayed in one run before yielding
+     */
+    private int maxBatchesPerRun = 20;
+
+    /**
+     * Maximum time to wait for the broker to acknowledge a batch; unacknowledged
+     * events stay in the outbox and are sent again
+     */
+    private Duration sendTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Failed sends after which an event is parked and no longer holds back later
+     * events with its key
+     */
+    private int maxAttempts = 50;
+
+    /**
+     * Minimum interval between backlog size and lag measurements
+     */
+    private Duration backlogRefreshInterval = Duration.ofSeconds(5);
+
+    private Producer producer = new Producer();
+
+    /**
+     * Relay producer settings, tuned for throughput since the relay sends whole batches
+     */
+    @Data
+    public static class Producer {
+
+        private int batchSizeBytes = 262144;
+
+        private int lingerMs = 20;
+
+        private String compressionType = "lz4";
+    }
+}
@@ -0,0 +1,33 @@
+package com.arcone.biopro.exception.collector.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the GraphQL document cache and Automatic
+ * Persisted Queries.
+ */
+@Data
+@ConfigurationProperties(prefix = "graphql.persisted-queries")
+public class PersistedQueryProperties {
+
+    /**
+     * Whether parsed documents are cached and persisted query hashes are accepted
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of parsed and validated documents kept in memory
+     */
+    private long documentCacheMaxSize = 1_000;
+
+    /**
+     * Maximum number of query texts kept for hash-only persisted query requests
+     */
+    private long persistedQueryMaxSize = 5_000;
+
+    /**
+     * Location of pre-registered operations, one operation document per file
+     */
+    private String operationsLocation = "classpath*:graphql/operations/*.graphql";
+}
@@ -0,0 +1,12 @@
+package com.arcone.biopro.exception.collector.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for GraphQL query cost analysis and load shedding.
+ */
+@Configuration
+@EnableConfigurationProperties(QueryCostProperties.class)
+public class QueryCostConfig {
+}
@@ -0,0 +1,80 @@
+package com.arcone.biopro.exception.collector.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for GraphQL query cost analysis and load shedding.
+ * Every operation gets a static cost before it executes; operations above the
+ * current budget are rejected, and expensive operations wait for in-flight
+ * cost to drain. The budget shrinks as the GraphQL executor queue and the
+ * database connection pool saturate.
+ */
+@Data
+@ConfigurationProperties(prefix = "graphql.query-cost")
+public class QueryCostProperties {
+
+    /**
+     * Maximum cost of a single operation while the service is not under pressure
+     */
+    private int maxCost = 1_000;
+
+    /**
+     * Cost of object fields without an entry in {@link #fieldWeights}; scalar fields cost nothing
+     */
+    private int defaultFieldWeight = 1;
+
+    /**
+     * Cost of individual fields by field name, e.g. fields that call external services
+     */
+    private Map<String, Integer> fieldWeights = new LinkedHashMap<>(Map.of(
+            "originalPayload", 50,
+            "retryHistory", 5,
+            "statusHistory", 5));
+
+    /**
+     * Page size assumed for paginated fields that do not request a page size
+     */
+    private int defaultPageSize = 20;
+
+    /**
+     * Operations costing more than this share the in-flight expensive cost budget
+     */
+    private int expensiveCost = 200;
+
+    /**
+     * Total cost of expensive operations allowed to execute at once
+     */
+    private int maxInFlightExpensiveCost = 2_000;
+
+    /**
+     * Maximum time an expensive operation waits for in-flight cost to drain before it is rejected
+     */
+    private Duration queueTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Load pressure (0-1) above which the budget starts shrinking
+     */
+    private double pressureThreshold = 0.5;
+
+    /**
+     * Fraction of the maximum cost still accepted at full pressure
+     */
+    private double minBudgetRatio = 0.2;
+
+    /**
+     * How long a load pressure sample is reused before the executor and pool are sampled again
+     */
+    private Duration sampleInterval = Duration.ofMillis(500);
+
+    /**
+     * @return the weight of the field, or {@code null} when it has no explicit weight
+     */
+    public Integer weightOf(String fieldName) {
+        return fieldWeights.get(fieldName);
+    }
+}
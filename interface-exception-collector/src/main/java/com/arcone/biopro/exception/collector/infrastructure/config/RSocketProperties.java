@@ -23,6 +23,7 @@ public class RSocketProperties {
         private String host = "localhost";
         private int port = 7000;
         private Duration timeout = Duration.ofSeconds(5);
+        private String batchRoute = "orders.batch";
         private Duration connectionTimeout = Duration.ofSeconds(10);
         private Duration keepAliveInterval = Duration.ofSeconds(30);
         private Duration keepAliveMaxLifetime = Duration.ofSeconds(300);
@@ -0,0 +1,39 @@
+package com.arcone.biopro.exception.collector.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration for the worker pool that executes retries.
+ * The number of retries in flight is bounded per interface type by the retry
+ * dispatcher, so the pool only needs enough threads for the sum of the budgets
+ * that are expected to be busy at the same time.
+ */
+@Configuration
+@EnableConfigurationProperties(RetryDispatchProperties.class)
+@Slf4j
+public class RetryDispatchConfig {
+
+    /**
+     * Creates the fixed-size thread pool retries run on
+     */
+    @Bean("retryDispatchExecutor")
+    public Executor retryDispatchExecutor(RetryDispatchProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getWorkerThreads());
+        executor.setMaxPoolSize(properties.getWorkerThreads());
+        executor.setThreadNamePrefix("retry-dispatch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        log.info("Initialized retry dispatch thread pool with {} threads", properties.getWorkerThreads());
+
+        return executor;
+    }
+}
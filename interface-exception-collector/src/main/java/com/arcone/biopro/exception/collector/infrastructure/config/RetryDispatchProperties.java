@@ -0,0 +1,78 @@
+package com.arcone.biopro.exception.collector.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for the retry dispatcher.
+ * Each source service (interface type) gets its own concurrency budget and
+ * request rate; interface types without an explicit budget use the default budget.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.retry.dispatch")
+public class RetryDispatchProperties {
+
+    /**
+     * Number of worker threads shared by all interface types
+     */
+    private int workerThreads = 16;
+
+    /**
+     * Budget for interface types without an entry in {@link #budgets}
+     */
+    private Budget defaultBudget = new Budget();
+
+    /**
+     * Per-interface-type budgets keyed by interface type name
+     */
+    private Map<String, Budget> budgets = new LinkedHashMap<>();
+
+    /**
+     * Age after which a retry attempt still PENDING is considered lost (its queue
+     * only lives in memory) and is failed, so the exception can be retried again.
+     * Must be longer than a retry can wait in a lane queue.
+     */
+    private Duration pendingTimeout = Duration.ofMinutes(30);
+
+    /**
+     * Delay between sweeps for lost pending retry attempts
+     */
+    private long pendingSweepIntervalMs = 60_000;
+
+    private long pendingSweepInitialDelayMs = 10_000;
+
+    /**
+     * @return the budget for the interface type, or the default budget
+     */
+    public Budget budgetFor(String interfaceType) {
+        return budgets.getOrDefault(interfaceType, defaultBudget);
+    }
+
+    @Data
+    public static class Budget {
+
+        /**
+         * Maximum number of retries in flight against the source service
+         */
+        private int maxConcurrent = 4;
+
+        /**
+         * Sustained number of retries started per second; 0 or less disables rate limiting
+         */
+        private double permitsPerSecond = 10;
+
+        /**
+         * Number of retries that may start at once after an idle period
+         */
+        private int burst = 20;
+
+        /**
+         * Maximum number of queued retries; further retries are rejected
+         */
+        private int queueCapacity = 10_000;
+    }
+}
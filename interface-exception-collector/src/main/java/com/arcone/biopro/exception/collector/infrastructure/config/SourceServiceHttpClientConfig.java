@@ -0,0 +1,52 @@
+package com.arcone.biopro.exception.collector.infrastructure.config;
+
+import com.arcone.biopro.exception.collector.infrastructure.client.SourceServiceHttpClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration for the asynchronous source service HTTP client and the pool its
+ * response futures complete on. When the client is disabled, source service
+ * clients fall back to the shared RestTemplate.
+ */
+@Configuration
+@EnableConfigurationProperties(SourceServiceHttpProperties.class)
+@ConditionalOnProperty(name = "app.source-services.http.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SourceServiceHttpClientConfig {
+
+    /**
+     * Creates the fixed-size thread pool response futures complete on
+     */
+    @Bean("sourceServiceHttpCallbackExecutor")
+    public Executor sourceServiceHttpCallbackExecutor(SourceServiceHttpProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getCallbackThreads());
+        executor.setMaxPoolSize(properties.getCallbackThreads());
+        executor.setThreadNamePrefix("source-service-http-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+
+        log.info("Initialized source service HTTP callback pool with {} threads", properties.getCallbackThreads());
+
+        return executor;
+    }
+
+    @Bean(destroyMethod = "close")
+    public SourceServiceHttpClient sourceServiceHttpClient(SourceServiceHttpProperties properties,
+            ObjectMapper objectMapper,
+            @Qualifier("sourceServiceHttpCallbackExecutor") Executor callbackExecutor,
+            MeterRegistry meterRegistry) {
+        return new SourceServiceHttpClient(properties, objectMapper, callbackExecutor, meterRegistry);
+    }
+}
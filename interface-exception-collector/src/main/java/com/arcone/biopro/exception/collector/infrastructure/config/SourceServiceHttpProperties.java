@@ -0,0 +1,77 @@
+package com.arcone.biopro.exception.collector.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the asynchronous HTTP client used to call the
+ * source services. Connections are pooled per route (scheme, host and port), so
+ * one slow source service can only hold its own share of the pool.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.source-services.http")
+public class SourceServiceHttpProperties {
+
+    /**
+     * Whether source service clients use the asynchronous client; when disabled
+     * they call the shared RestTemplate on the common pool
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of connections across all routes
+     */
+    private int maxConnectionsTotal = 200;
+
+    /**
+     * Maximum number of connections to one source service host
+     */
+    private int maxConnectionsPerRoute = 20;
+
+    /**
+     * HTTP protocol version: NEGOTIATE uses HTTP/2 where the server offers it
+     * over TLS, FORCE_HTTP_1 and FORCE_HTTP_2 pin the version
+     */
+    private String versionPolicy = "NEGOTIATE";
+
+    private Duration connectTimeout = Duration.ofSeconds(3);
+
+    /**
+     * Maximum time to wait for a pooled connection
+     */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Maximum time without data from the server once a request has been sent
+     */
+    private Duration responseTimeout = Duration.ofSeconds(5);
+
+    /**
+     * How long an idle connection is kept for reuse when the server does not
+     * send a Keep-Alive timeout
+     */
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+    /**
+     * Connections idle for longer than this are closed by the pool
+     */
+    private Duration evictIdleAfter = Duration.ofMinutes(1);
+
+    /**
+     * Maximum time a connection is reused, 0 for no limit
+     */
+    private Duration connectionTimeToLive = Duration.ofMinutes(5);
+
+    /**
+     * Number of I/O reactor threads; 0 uses the number of processors
+     */
+    private int ioThreads = 0;
+
+    /**
+     * Threads that complete the response futures, so callers' continuations
+     * never run on an I/O reactor thread
+     */
+    private int callbackThreads = 4;
+}
@@ -0,0 +1,55 @@
+package com.arcone.biopro.exception.collector.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration for the thread pool that runs dashboard summary aggregations.
+ * Keeps summary queries off the common fork-join pool and bounds how many can
+ * queue, so an overloaded dashboard fails fast instead of piling up requests.
+ */
+@Configuration
+@Slf4j
+public class SummaryExecutorConfig {
+
+    @Value("${app.summary.executor.core-pool-size:4}")
+    private int corePoolSize;
+
+    @Value("${app.summary.executor.max-pool-size:8}")
+    private int maxPoolSize;
+
+    @Value("${app.summary.executor.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${app.summary.executor.keep-alive-seconds:60}")
+    private int keepAliveSeconds;
+
+    /**
+     * Creates a bounded thread pool executor for summary aggregation queries
+     */
+    @Bean("summaryExecutor")
+    public Executor summaryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setKeepAliveSeconds(keepAliveSeconds);
+        executor.setThreadNamePrefix("summary-");
+        executor.setRejectedExecutionHandler((r, executor1) -> {
+            log.warn("Summary aggregation rejected due to thread pool exhaustion");
+            throw new TaskRejectedException("Summary aggregation rejected - system overloaded");
+        });
+        executor.initialize();
+
+        log.info("Initialized summary thread pool with core={}, max={}, queue={}",
+                corePoolSize, maxPoolSize, queueCapacity);
+
+        return executor;
+    }
+}
@@ -1,5 +1,9 @@
 package com.arcone.biopro.exception.collector.infrastructure.config.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
@@ -15,21 +19,34 @@ import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * Service for JWT token validation and parsing
+ *
+ * Verified tokens are cached by SHA-256 digest together with their authorities
+ * until the token expires (at most the configured maximum TTL), so repeated
+ * requests with the same token skip signature verification, JSON parsing and
+ * authority extraction. Tokens that fail validation are never cached.
  */
 @Service
 @Slf4j
 public class JwtService {
 
     private final SecretKey secretKey;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Cache<Claims, Collection<GrantedAuthority>> authoritiesByClaims;
 
-    public JwtService(@Value("${app.security.jwt.secret}") String secret) {
+    public JwtService(@Value("${app.security.jwt.secret}") String secret,
+            @Value("${app.security.jwt.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${app.security.jwt.cache.max-ttl:PT10M}") Duration cacheMaxTtl) {
         System.out.println("=== JWT SERVICE INITIALIZATION ===");
         System.out.println("JWT Secret being used: '" + secret + "'");
         System.out.println("JWT Secret length: " + secret.length());
@@ -50,12 +67,47 @@ public class JwtService {
         log.info("Using secret key algorithm: {}", this.secretKey.getAlgorithm());
         System.out.println("Using secret key algorithm: " + this.secretKey.getAlgorithm());
         System.out.println("=====================================");
+
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry(cacheMaxTtl))
+                .recordStats()
+                .build();
+        // Weak keys compare by identity, so entries live exactly as long as the cached claims
+        this.authoritiesByClaims = Caffeine.newBuilder()
+                .weakKeys()
+                .build();
+        log.info("JWT claims cache: max size {}, max TTL {}", cacheMaxSize, cacheMaxTtl);
     }
 
     /**
-     * Validates JWT token and extracts claims with comprehensive input validation
+     * Validates JWT token and extracts claims with comprehensive input validation.
+     * Returns the cached claims when the same token has already been verified.
      */
     public Claims validateToken(String token) {
+        String digest = token != null && !token.isBlank() ? digest(token.trim()) : null;
+        if (digest != null) {
+            VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+            if (cached != null) {
+                log.debug("[JWT-AUTH] Using cached verification for user: {}", cached.claims().getSubject());
+                return cached.claims();
+            }
+        }
+
+        Claims claims = verifyToken(token);
+
+        if (digest != null && claims.getExpiration() != null) {
+            Collection<GrantedAuthority> authorities = List.copyOf(resolveAuthorities(claims));
+            verifiedTokens.put(digest, new VerifiedToken(claims, authorities));
+            authoritiesByClaims.put(claims, authorities);
+        }
+        return claims;
+    }
+
+    /**
+     * Verifies the token signature and parses its claims
+     */
+    private Claims verifyToken(String token) {
         // Enhanced input validation
         if (token == null) {
             log.warn("[JWT-AUTH] Token validation failed: Token is null");
@@ -195,9 +247,20 @@ public class JwtService {
     }
 
     /**
-     * Extracts authorities from JWT claims with enhanced validation and null safety
+     * Extracts authorities from JWT claims with enhanced validation and null safety.
+     * Authorities of cached claims are returned without being extracted again.
      */
     public Collection<GrantedAuthority> extractAuthorities(Claims claims) {
+        if (claims != null) {
+            Collection<GrantedAuthority> cached = authoritiesByClaims.getIfPresent(claims);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return resolveAuthorities(claims);
+    }
+
+    private Collection<GrantedAuthority> resolveAuthorities(Claims claims) {
         if (claims == null) {
             log.warn("[JWT-AUTH] Cannot extract authorities: Claims are null");
             return List.of();
@@ -346,6 +409,50 @@ public class JwtService {
         }
     }
 
+    /**
+     * @return hit and miss statistics of the verified token cache
+     */
+    public CacheStats getCacheStats() {
+        return verifiedTokens.stats();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * A verified token's claims together with the authorities extracted from them
+     */
+    private record VerifiedToken(Claims claims, Collection<GrantedAuthority> authorities) {
+    }
+
+    /**
+     * Keeps a verified token until it expires, but no longer than the maximum TTL
+     */
+    private record TokenExpiry(Duration maxTtl) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long untilExpiry = value.claims().getExpiration().getTime() - System.currentTimeMillis();
+            return Math.max(0, Math.min(Duration.ofMillis(untilExpiry).toNanos(), maxTtl.toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
     /**
      * JWT validation error types for structured error handling
      */
@@ -5,10 +5,16 @@ import com.arcone.biopro.exception.collector.domain.event.inbound.DistributionFa
 import com.arcone.biopro.exception.collector.domain.event.inbound.OrderCancelledEvent;
 import com.arcone.biopro.exception.collector.domain.event.inbound.OrderRejectedEvent;
 import com.arcone.biopro.exception.collector.domain.event.inbound.ValidationErrorEvent;
+import com.arcone.biopro.exception.collector.infrastructure.config.KeyedParallelConsumerProperties;
+import com.arcone.biopro.exception.collector.infrastructure.kafka.consumer.KeyedRecordDispatcher;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
@@ -23,6 +29,7 @@ import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.util.backoff.ExponentialBackOff;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -34,13 +41,21 @@ import java.util.Map;
  */
 @Configuration
 @EnableKafka
+@EnableConfigurationProperties(KeyedParallelConsumerProperties.class)
 @Slf4j
 public class KafkaConsumerConfig {
 
         private final ObjectMapper objectMapper;
 
-        public KafkaConsumerConfig(ObjectMapper objectMapper) {
+        private final KeyedParallelConsumerProperties parallelProperties;
+
+        private final ObjectProvider<KeyedRecordDispatcher> keyedRecordDispatcher;
+
+        public KafkaConsumerConfig(ObjectMapper objectMapper, KeyedParallelConsumerProperties parallelProperties,
+                        ObjectProvider<KeyedRecordDispatcher> keyedRecordDispatcher) {
                 this.objectMapper = objectMapper;
+                this.parallelProperties = parallelProperties;
+                this.keyedRecordDispatcher = keyedRecordDispatcher;
         }
 
         @Value("${spring.kafka.bootstrap-servers}")
@@ -58,6 +73,9 @@ public class KafkaConsumerConfig {
         @Value("${spring.kafka.listener.concurrency}")
         private int concurrency;
 
+        @Value("${app.kafka.batch.max-poll-records:500}")
+        private int batchMaxPollRecords;
+
         /**
          * Consumer factory configuration with JSON deserialization for inbound events.
          * Configures trusted packages and type mappings for event deserialization.
@@ -370,4 +388,243 @@ public class KafkaConsumerConfig {
 
                 return factory;
         }
-}
\ No newline at end of file
+
+        /**
+         * Batch listener container factory for OrderRejected events. Used when
+         * {@code app.kafka.batch.enabled=true}.
+         *
+         * @return batch ConcurrentKafkaListenerContainerFactory for OrderRejectedEvent
+         */
+        @Bean
+        public ConcurrentKafkaListenerContainerFactory<String, OrderRejectedEvent> orderRejectedBatchKafkaListenerContainerFactory(
+                        KafkaTemplate<String, Object> kafkaTemplate) {
+                return batchListenerContainerFactory(typedConsumerFactory(OrderRejectedEvent.class, batchMaxPollRecords), kafkaTemplate);
+        }
+
+        /**
+         * Batch listener container factory for OrderCancelled events. Used when
+         * {@code app.kafka.batch.enabled=true}.
+         *
+         * @return batch ConcurrentKafkaListenerContainerFactory for OrderCancelledEvent
+         */
+        @Bean
+        public ConcurrentKafkaListenerContainerFactory<String, OrderCancelledEvent> orderCancelledBatchKafkaListenerContainerFactory(
+                        KafkaTemplate<String, Object> kafkaTemplate) {
+                return batchListenerContainerFactory(typedConsumerFactory(OrderCancelledEvent.class, batchMaxPollRecords), kafkaTemplate);
+        }
+
+        /**
+         * Batch listener container factory for CollectionRejected events. Used when
+         * {@code app.kafka.batch.enabled=true}.
+         *
+         * @return batch ConcurrentKafkaListenerContainerFactory for CollectionRejectedEvent
+         */
+        @Bean
+        public ConcurrentKafkaListenerContainerFactory<String, CollectionRejectedEvent> collectionRejectedBatchKafkaListenerContainerFactory(
+                        KafkaTemplate<String, Object> kafkaTemplate) {
+                return batchListenerContainerFactory(typedConsumerFactory(CollectionRejectedEvent.class, batchMaxPollRecords), kafkaTemplate);
+        }
+
+        /**
+         * Batch listener container factory for DistributionFailed events. Used when
+         * {@code app.kafka.batch.enabled=true}.
+         *
+         * @return batch ConcurrentKafkaListenerContainerFactory for DistributionFailedEvent
+         */
+        @Bean
+        public ConcurrentKafkaListenerContainerFactory<String, DistributionFailedEvent> distributionFailedBatchKafkaListenerContainerFactory(
+                        KafkaTemplate<String, Object> kafkaTemplate) {
+                return batchListenerContainerFactory(typedConsumerFactory(DistributionFailedEvent.class, batchMaxPollRecords), kafkaTemplate);
+        }
+
+        /**
+         * Batch listener container factory for ValidationError events. Used when
+         * {@code app.kafka.batch.enabled=true}.
+         *
+         * @return batch ConcurrentKafkaListenerContainerFactory for ValidationErrorEvent
+         */
+        @Bean
+        public ConcurrentKafkaListenerContainerFactory<String, ValidationErrorEvent> validationErrorBatchKafkaListenerContainerFactory(
+                        KafkaTemplate<String, Object> kafkaTemplate) {
+                return batchListenerContainerFactory(typedConsumerFactory(ValidationErrorEvent.class, batchMaxPollRecords), kafkaTemplate);
+        }
+
+        /**
+         * Keyed parallel listener container factory for OrderRejected events. Used when
+         * {@code app.kafka.parallel.enabled=true}.
+         *
+         * @return parallel ConcurrentKafkaListenerContainerFactory for OrderRejectedEvent
+         */
+        @Bean
+        public ConcurrentKafkaListenerContainerFactory<String, OrderRejectedEvent> orderRejectedParallelKafkaListenerContainerFactory(
+                        KafkaTemplate<String, Object> kafkaTemplate) {
+                return parallelListenerContainerFactory(typedConsumerFactory(OrderRejectedEvent.class,
+                                parallelProperties.getMaxPollRecords()), kafkaTemplate);
+        }
+
+        /**
+         * Keyed parallel listener container factory for OrderCancelled events. Used when
+         * {@code app.kafka.parallel.enabled=true}.
+         *
+         * @return parallel ConcurrentKafkaListenerContainerFactory for OrderCancelledEvent
+         */
+        @Bean
+        public ConcurrentKafkaListenerContainerFactory<String, OrderCancelledEvent> orderCancelledParallelKafkaListenerContainerFactory(
+                        KafkaTemplate<String, Object> kafkaTemplate) {
+                return parallelListenerContainerFactory(typedConsumerFactory(OrderCancelledEvent.class,
+                                parallelProperties.getMaxPollRecords()), kafkaTemplate);
+        }
+
+        /**
+         * Keyed parallel listener container factory for CollectionRejected events. Used
+         * when {@code app.kafka.parallel.enabled=true}.
+         *
+         * @return parallel ConcurrentKafkaListenerContainerFactory for CollectionRejectedEvent
+         */
+        @Bean
+        public ConcurrentKafkaListenerContainerFactory<String, CollectionRejectedEvent> collectionRejectedParallelKafkaListenerContainerFactory(
+                        KafkaTemplate<String, Object> kafkaTemplate) {
+                return parallelListenerContainerFactory(typedConsumerFactory(CollectionRejectedEvent.class,
+                                parallelProperties.getMaxPollRecords()), kafkaTemplate);
+        }
+
+        /**
+         * Keyed parallel listener container factory for DistributionFailed events. Used
+         * when {@code app.kafka.parallel.enabled=true}.
+         *
+         * @return parallel ConcurrentKafkaListenerContainerFactory for DistributionFailedEvent
+         */
+        @Bean
+        public ConcurrentKafkaListenerContainerFactory<String, DistributionFailedEvent> distributionFailedParallelKafkaListenerContainerFactory(
+                        KafkaTemplate<String, Object> kafkaTemplate) {
+                return parallelListenerContainerFactory(typedConsumerFactory(DistributionFailedEvent.class,
+                                parallelProperties.getMaxPollRecords()), kafkaTemplate);
+        }
+
+        /**
+         * Keyed parallel listener container factory for ValidationError events. Used
+         * when {@code app.kafka.parallel.enabled=true}.
+         *
+         * @return parallel ConcurrentKafkaListenerContainerFactory for ValidationErrorEvent
+         */
+        @Bean
+        public ConcurrentKafkaListenerContainerFactory<String, ValidationErrorEvent> validationErrorParallelKafkaListenerContainerFactory(
+                        KafkaTemplate<String, Object> kafkaTemplate) {
+                return parallelListenerContainerFactory(typedConsumerFactory(ValidationErrorEvent.class,
+                                parallelProperties.getMaxPollRecords()), kafkaTemplate);
+        }
+
+        /**
+         * Worker lanes shared by the keyed parallel listeners. Failed records are
+         * retried on their lane and then sent to the same dead letter topics as in
+         * the other consumer modes.
+         *
+         * @return the dispatcher used by the keyed parallel consumer
+         */
+        @Bean(destroyMethod = "close")
+        @ConditionalOnExpression("${app.kafka.parallel.enabled:false} and !${app.kafka.batch.enabled:false}")
+        public KeyedRecordDispatcher keyedRecordDispatcher(KafkaTemplate<String, Object> kafkaTemplate,
+                        MeterRegistry meterRegistry) {
+                return new KeyedRecordDispatcher(parallelProperties, deadLetterRecoverer(kafkaTemplate),
+                                meterRegistry);
+        }
+
+        /**
+         * Consumer factory for batch and keyed parallel listeners. Uses error handling
+         * deserializers so an undeserializable record is handed to the error handler
+         * (or to a batch listener as a null value) instead of failing the whole poll.
+         */
+        private <T> ConsumerFactory<String, T> typedConsumerFactory(Class<T> eventType, int maxPollRecords) {
+                Map<String, Object> configProps = new HashMap<>();
+                configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+                configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+                configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
+                configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+                configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+                configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+                configProps.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
+                configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+                configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+                configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, eventType.getName());
+                configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+                configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+                return new DefaultKafkaConsumerFactory<>(configProps);
+        }
+
+        /**
+         * Batch listener container factory. Offsets are committed once per poll after
+         * the listener returns (AckMode.BATCH). When the listener throws a
+         * BatchListenerFailedException, offsets before the failed record are
+         * committed, the failed record alone is retried and then sent to the DLT,
+         * and the remaining records are redelivered.
+         */
+        private <T> ConcurrentKafkaListenerContainerFactory<String, T> batchListenerContainerFactory(
+                        ConsumerFactory<String, T> consumerFactory, KafkaTemplate<String, Object> kafkaTemplate) {
+                ConcurrentKafkaListenerContainerFactory<String, T> factory = new ConcurrentKafkaListenerContainerFactory<>();
+                factory.setConsumerFactory(consumerFactory);
+                factory.setConcurrency(concurrency);
+                factory.setBatchListener(true);
+                factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+
+                ExponentialBackOff exponentialBackOff = new ExponentialBackOff(1000L, 2.0);
+                exponentialBackOff.setMaxAttempts(5);
+                exponentialBackOff.setMaxInterval(30000L);
+
+                DefaultErrorHandler errorHandler = new DefaultErrorHandler(deadLetterRecoverer(kafkaTemplate),
+                                exponentialBackOff);
+                errorHandler.addNotRetryableExceptions(
+                                org.springframework.kafka.support.serializer.DeserializationException.class,
+                                org.springframework.messaging.converter.MessageConversionException.class,
+                                org.apache.kafka.common.errors.SerializationException.class,
+                                org.apache.kafka.common.errors.RecordDeserializationException.class,
+                                IllegalArgumentException.class,
+                                IllegalStateException.class);
+                factory.setCommonErrorHandler(errorHandler);
+
+                factory.getContainerProperties().setShutdownTimeout(30000);
+
+                return factory;
+        }
+
+        /**
+         * Keyed parallel listener container factory. The listener only dispatches
+         * records and acknowledges them from worker lanes, possibly out of order;
+         * async acks commit each partition up to its lowest unacknowledged offset and
+         * pause the partition until the previous poll is fully acknowledged, which
+         * bounds the records in flight. The error handler only sees records that could
+         * not be deserialized and sends them straight to the DLT without seeking, so
+         * records already dispatched are not consumed twice. The dispatcher is the
+         * rebalance listener, so revoked partitions' records are finished or dropped
+         * before their offsets are committed.
+         */
+        private <T> ConcurrentKafkaListenerContainerFactory<String, T> parallelListenerContainerFactory(
+                        ConsumerFactory<String, T> consumerFactory, KafkaTemplate<String, Object> kafkaTemplate) {
+                ConcurrentKafkaListenerContainerFactory<String, T> factory = new ConcurrentKafkaListenerContainerFactory<>();
+                factory.setConsumerFactory(consumerFactory);
+                factory.setConcurrency(concurrency);
+                factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+                factory.getContainerProperties().setAsyncAcks(true);
+
+                DefaultErrorHandler errorHandler = new DefaultErrorHandler(deadLetterRecoverer(kafkaTemplate),
+                                new FixedBackOff(0L, 0L));
+                errorHandler.setSeekAfterError(false);
+                factory.setCommonErrorHandler(errorHandler);
+
+                keyedRecordDispatcher.ifAvailable(factory.getContainerProperties()::setConsumerRebalanceListener);
+
+                factory.getContainerProperties().setShutdownTimeout(30000);
+
+                return factory;
+        }
+
+        private DeadLetterPublishingRecoverer deadLetterRecoverer(KafkaTemplate<String, Object> kafkaTemplate) {
+                return new DeadLetterPublishingRecoverer(kafkaTemplate,
+                                (consumerRecord, exception) -> {
+                                        String deadLetterTopic = consumerRecord.topic() + ".DLT";
+                                        log.error("Publishing message to dead letter topic: {} due to error: {}",
+                                                        deadLetterTopic, exception.getMessage());
+                                        return new org.apache.kafka.common.TopicPartition(deadLetterTopic, 0);
+                                });
+        }
+}
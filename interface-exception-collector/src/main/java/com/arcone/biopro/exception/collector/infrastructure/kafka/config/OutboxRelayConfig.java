@@ -0,0 +1,93 @@
+package com.arcone.biopro.exception.collector.infrastructure.kafka.config;
+
+import com.arcone.biopro.exception.collector.infrastructure.config.OutboxProperties;
+import com.arcone.biopro.exception.collector.infrastructure.kafka.publisher.OutboxRelay;
+import com.arcone.biopro.exception.collector.infrastructure.repository.OutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration for the outbox relay and its producer. The payloads in the outbox
+ * are already JSON, so the relay producer sends them as strings; it batches and
+ * compresses more aggressively than the default producer because it only ever
+ * sends whole outbox batches off the request path.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+@ConditionalOnProperty(prefix = "app.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OutboxRelayConfig {
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${spring.kafka.producer.acks}")
+    private String acks;
+
+    @Value("${spring.kafka.producer.retries}")
+    private int retries;
+
+    /**
+     * Producer factory for the relay. Idempotence keeps records of one partition in
+     * send order across retries, which the relay relies on for per-key ordering.
+     *
+     * @return configured ProducerFactory for relayed events
+     */
+    @Bean
+    public ProducerFactory<String, String> outboxProducerFactory(OutboxProperties properties) {
+        Map<String, Object> configProps = new HashMap<>();
+
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+
+        configProps.put(ProducerConfig.ACKS_CONFIG, acks);
+        configProps.put(ProducerConfig.RETRIES_CONFIG, retries);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, properties.getProducer().getBatchSizeBytes());
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, properties.getProducer().getLingerMs());
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, properties.getProducer().getCompressionType());
+
+        configProps.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, 30000);
+        configProps.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, 120000);
+        configProps.put(ProducerConfig.RETRY_BACKOFF_MS_CONFIG, 1000);
+
+        log.info("Configured outbox relay producer with batch size: {} bytes, linger: {} ms, compression: {}",
+                properties.getProducer().getBatchSizeBytes(), properties.getProducer().getLingerMs(),
+                properties.getProducer().getCompressionType());
+
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    /**
+     * Relay bean. Eager because nothing injects it and the scheduled relay must run
+     * even with lazy initialization enabled.
+     */
+    @Bean
+    @Lazy(false)
+    public OutboxRelay outboxRelay(OutboxRepository outboxRepository,
+            ProducerFactory<String, String> outboxProducerFactory,
+            PlatformTransactionManager transactionManager,
+            OutboxProperties properties,
+            MeterRegistry meterRegistry) {
+        return new OutboxRelay(outboxRepository, new KafkaTemplate<>(outboxProducerFactory), transactionManager,
+                properties, meterRegistry);
+    }
+}
@@ -6,6 +6,7 @@ import com.arcone.biopro.exception.collector.domain.event.constants.KafkaTopics;
 import com.arcone.biopro.exception.collector.domain.event.inbound.CollectionRejectedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
 import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
@@ -25,6 +26,7 @@ import org.springframework.stereotype.Component;
  * as per US-018.
  */
 @Component
+@ConditionalOnExpression("!${app.kafka.batch.enabled:false} and !${app.kafka.parallel.enabled:false}")
 @RequiredArgsConstructor
 @Slf4j
 public class CollectionExceptionConsumer {
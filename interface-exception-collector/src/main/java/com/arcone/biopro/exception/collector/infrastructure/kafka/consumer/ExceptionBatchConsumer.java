@@ -0,0 +1,119 @@
+package com.arcone.biopro.exception.collector.infrastructure.kafka.consumer;
+
+import com.arcone.biopro.exception.collector.application.service.ExceptionBatchProcessingService;
+import com.arcone.biopro.exception.collector.application.service.ExceptionBatchResult;
+import com.arcone.biopro.exception.collector.domain.event.constants.KafkaTopics;
+import com.arcone.biopro.exception.collector.domain.event.inbound.CollectionRejectedEvent;
+import com.arcone.biopro.exception.collector.domain.event.inbound.DistributionFailedEvent;
+import com.arcone.biopro.exception.collector.domain.event.inbound.OrderCancelledEvent;
+import com.arcone.biopro.exception.collector.domain.event.inbound.OrderRejectedEvent;
+import com.arcone.biopro.exception.collector.domain.event.inbound.ValidationErrorEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Batch-mode Kafka consumer for all inbound exception topics.
+ * Receives a whole poll per call and hands it to
+ * {@link ExceptionBatchProcessingService}, so a burst of events costs one
+ * duplicate lookup and one flush per poll instead of per record. Offsets are
+ * committed once per batch by the container; a poison record is reported by
+ * index so the error handler sends only that record to the dead letter topic.
+ * When the batch write itself fails, the records are retried one at a time to
+ * find the one that caused it.
+ * Replaces the per-record consumers when {@code app.kafka.batch.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.kafka.batch", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ExceptionBatchConsumer {
+
+    private final ExceptionBatchProcessingService batchProcessingService;
+
+    @KafkaListener(topics = KafkaTopics.ORDER_REJECTED, groupId = "interface-exception-collector", containerFactory = "orderRejectedBatchKafkaListenerContainerFactory")
+    public void handleOrderRejectedBatch(List<ConsumerRecord<String, OrderRejectedEvent>> records) {
+        processBatch(KafkaTopics.ORDER_REJECTED, records);
+    }
+
+    @KafkaListener(topics = KafkaTopics.ORDER_CANCELLED, groupId = "interface-exception-collector", containerFactory = "orderCancelledBatchKafkaListenerContainerFactory")
+    public void handleOrderCancelledBatch(List<ConsumerRecord<String, OrderCancelledEvent>> records) {
+        processBatch(KafkaTopics.ORDER_CANCELLED, records);
+    }
+
+    @KafkaListener(topics = KafkaTopics.COLLECTION_REJECTED, groupId = "interface-exception-collector", containerFactory = "collectionRejectedBatchKafkaListenerContainerFactory")
+    public void handleCollectionRejectedBatch(List<ConsumerRecord<String, CollectionRejectedEvent>> records) {
+        processBatch(KafkaTopics.COLLECTION_REJECTED, records);
+    }
+
+    @KafkaListener(topics = KafkaTopics.DISTRIBUTION_FAILED, groupId = "interface-exception-collector", containerFactory = "distributionFailedBatchKafkaListenerContainerFactory")
+    public void handleDistributionFailedBatch(List<ConsumerRecord<String, DistributionFailedEvent>> records) {
+        processBatch(KafkaTopics.DISTRIBUTION_FAILED, records);
+    }
+
+    @KafkaListener(topics = KafkaTopics.VALIDATION_ERROR, groupId = "interface-exception-collector", containerFactory = "validationErrorBatchKafkaListenerContainerFactory")
+    public void handleValidationErrorBatch(List<ConsumerRecord<String, ValidationErrorEvent>> records) {
+        processBatch(KafkaTopics.VALIDATION_ERROR, records);
+    }
+
+    private void processBatch(String topic, List<? extends ConsumerRecord<String, ?>> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        ConsumerRecord<String, ?> first = records.get(0);
+        log.debug("Received batch of {} {} events starting at partition: {}, offset: {}",
+                records.size(), topic, first.partition(), first.offset());
+
+        // Stream.toList() keeps the null values of records that failed deserialization
+        List<Object> events = records.stream().<Object>map(ConsumerRecord::value).toList();
+        ExceptionBatchResult result;
+        try {
+            result = batchProcessingService.processBatch(events);
+        } catch (RuntimeException e) {
+            // The batch transaction rolled back; find the record that caused it one at a time
+            log.warn("Batch write of {} {} events failed, processing them one at a time: {}",
+                    records.size(), topic, e.getMessage());
+            processRecords(topic, records, events);
+            return;
+        }
+
+        if (result.hasFailure()) {
+            throw failed(topic, records, result.getFailedIndex(), result.getFailure());
+        }
+    }
+
+    /**
+     * Processes each record in its own transaction, so the records before a failing one
+     * stay committed and the error handler dead-letters only the failing record.
+     */
+    private void processRecords(String topic, List<? extends ConsumerRecord<String, ?>> records,
+            List<Object> events) {
+        for (int i = 0; i < events.size(); i++) {
+            ExceptionBatchResult result;
+            try {
+                result = batchProcessingService.processBatch(Collections.singletonList(events.get(i)));
+            } catch (RuntimeException e) {
+                throw failed(topic, records, i, e);
+            }
+            if (result.hasFailure()) {
+                throw failed(topic, records, i, result.getFailure());
+            }
+        }
+    }
+
+    private BatchListenerFailedException failed(String topic, List<? extends ConsumerRecord<String, ?>> records,
+            int index, Throwable cause) {
+        ConsumerRecord<String, ?> failed = records.get(index);
+        log.error("Failed to process {} event at partition: {}, offset: {}", topic, failed.partition(),
+                failed.offset(), cause);
+        return new BatchListenerFailedException("Failed to process " + topic + " event", cause, index);
+    }
+}
@@ -0,0 +1,105 @@
+package com.arcone.biopro.exception.collector.infrastructure.kafka.consumer;
+
+import com.arcone.biopro.exception.collector.application.service.ExceptionProcessingService;
+import com.arcone.biopro.exception.collector.domain.event.constants.KafkaTopics;
+import com.arcone.biopro.exception.collector.domain.event.inbound.CollectionRejectedEvent;
+import com.arcone.biopro.exception.collector.domain.event.inbound.DistributionFailedEvent;
+import com.arcone.biopro.exception.collector.domain.event.inbound.OrderCancelledEvent;
+import com.arcone.biopro.exception.collector.domain.event.inbound.OrderRejectedEvent;
+import com.arcone.biopro.exception.collector.domain.event.inbound.ValidationErrorEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keyed parallel Kafka consumer for all inbound exception topics.
+ * Each listener only validates the record and hands it to
+ * {@link KeyedRecordDispatcher}, which processes records of different
+ * transactions in parallel and records of the same transaction in offset order.
+ * Offsets are committed up to the lowest record still being processed, so a
+ * restart never skips an unfinished record.
+ * Replaces the per-record consumers when {@code app.kafka.parallel.enabled=true}
+ * and batch mode is off.
+ */
+@Component
+@ConditionalOnExpression("${app.kafka.parallel.enabled:false} and !${app.kafka.batch.enabled:false}")
+@RequiredArgsConstructor
+@Slf4j
+public class KeyedParallelExceptionConsumer {
+
+    private final ExceptionProcessingService exceptionProcessingService;
+    private final KeyedRecordDispatcher dispatcher;
+
+    @KafkaListener(topics = KafkaTopics.ORDER_REJECTED, groupId = "interface-exception-collector", containerFactory = "orderRejectedParallelKafkaListenerContainerFactory")
+    public void handleOrderRejectedEvent(ConsumerRecord<String, OrderRejectedEvent> record,
+            Acknowledgment acknowledgment) {
+        OrderRejectedEvent event = record.value();
+        String transactionId = event != null && event.getPayload() != null
+                ? event.getPayload().getTransactionId()
+                : null;
+        dispatch(record, transactionId, acknowledgment,
+                () -> exceptionProcessingService.processOrderRejectedEvent(event));
+    }
+
+    @KafkaListener(topics = KafkaTopics.ORDER_CANCELLED, groupId = "interface-exception-collector", containerFactory = "orderCancelledParallelKafkaListenerContainerFactory")
+    public void handleOrderCancelledEvent(ConsumerRecord<String, OrderCancelledEvent> record,
+            Acknowledgment acknowledgment) {
+        OrderCancelledEvent event = record.value();
+        String transactionId = event != null && event.getPayload() != null
+                ? event.getPayload().getTransactionId()
+                : null;
+        dispatch(record, transactionId, acknowledgment,
+                () -> exceptionProcessingService.processOrderCancelledEvent(event));
+    }
+
+    @KafkaListener(topics = KafkaTopics.COLLECTION_REJECTED, groupId = "interface-exception-collector", containerFactory = "collectionRejectedParallelKafkaListenerContainerFactory")
+    public void handleCollectionRejectedEvent(ConsumerRecord<String, CollectionRejectedEvent> record,
+            Acknowledgment acknowledgment) {
+        CollectionRejectedEvent event = record.value();
+        String transactionId = event != null && event.getPayload() != null
+                ? event.getPayload().getTransactionId()
+                : null;
+        dispatch(record, transactionId, acknowledgment,
+                () -> exceptionProcessingService.processCollectionRejectedEvent(event));
+    }
+
+    @KafkaListener(topics = KafkaTopics.DISTRIBUTION_FAILED, groupId = "interface-exception-collector", containerFactory = "distributionFailedParallelKafkaListenerContainerFactory")
+    public void handleDistributionFailedEvent(ConsumerRecord<String, DistributionFailedEvent> record,
+            Acknowledgment acknowledgment) {
+        DistributionFailedEvent event = record.value();
+        String transactionId = event != null && event.getPayload() != null
+                ? event.getPayload().getTransactionId()
+                : null;
+        dispatch(record, transactionId, acknowledgment,
+                () -> exceptionProcessingService.processDistributionFailedEvent(event));
+    }
+
+    @KafkaListener(topics = KafkaTopics.VALIDATION_ERROR, groupId = "interface-exception-collector", containerFactory = "validationErrorParallelKafkaListenerContainerFactory")
+    public void handleValidationErrorEvent(ConsumerRecord<String, ValidationErrorEvent> record,
+            Acknowledgment acknowledgment) {
+        ValidationErrorEvent event = record.value();
+        // Validation errors without any errors are skipped like missing transaction IDs
+        String transactionId = event != null && event.getPayload() != null
+                && event.getPayload().getValidationErrors() != null
+                && !event.getPayload().getValidationErrors().isEmpty()
+                        ? event.getPayload().getTransactionId()
+                        : null;
+        dispatch(record, transactionId, acknowledgment,
+                () -> exceptionProcessingService.processValidationErrorEvent(event));
+    }
+
+    private void dispatch(ConsumerRecord<String, ?> record, String transactionId, Acknowledgment acknowledgment,
+            Runnable handler) {
+        if (transactionId == null) {
+            log.error("Invalid {} event at partition: {}, offset: {}: missing required fields", record.topic(),
+                    record.partition(), record.offset());
+            acknowledgment.acknowledge();
+            return;
+        }
+        dispatcher.dispatch(record, transactionId, acknowledgment, handler);
+    }
+}
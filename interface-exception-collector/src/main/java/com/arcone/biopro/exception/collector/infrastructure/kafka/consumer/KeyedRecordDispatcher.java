@@ -0,0 +1,373 @@
+package com.arcone.biopro.exception.collector.infrastructure.kafka.consumer;
+
+import com.arcone.biopro.exception.collector.infrastructure.config.KeyedParallelConsumerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Processes consumed records on a fixed set of single-threaded lanes. The lane is
+ * chosen by hashing the record's transaction ID, so records of one transaction run
+ * one at a time in the order they were dispatched while records of other
+ * transactions, even from the same partition, run in parallel.
+ * <p>
+ * Each record is acknowledged once it has been processed or sent to the dead letter
+ * topic. The listener containers use asynchronous acks, which commit a partition's
+ * offset only up to the lowest record not yet acknowledged and pause the partition
+ * until the records of the previous poll are all acknowledged. A failed record is
+ * retried with exponential backoff without holding its lane: its key is parked, the
+ * retry is scheduled onto the lane after the backoff, and later records of the key
+ * wait behind it while records of other keys on the lane go on.
+ * <p>
+ * When partitions are revoked, the rebalance waits up to
+ * {@code app.kafka.parallel.revocation-timeout} for their dispatched records, so
+ * the acknowledged offsets are committed before the partitions move. Records of
+ * the revoked partitions that are still queued after that are dropped without
+ * acknowledgment and consumed again by the new owner.
+ */
+@Slf4j
+public class KeyedRecordDispatcher implements ConsumerAwareRebalanceListener {
+
+    static final String RECORD_TIMER = "kafka.parallel.record.duration";
+
+    private final KeyedParallelConsumerProperties properties;
+    private final ConsumerRecordRecoverer recoverer;
+    private final List<ThreadPoolExecutor> lanes;
+    private final ScheduledThreadPoolExecutor retryScheduler;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<TopicPartition, PartitionWork> partitions = new ConcurrentHashMap<>();
+    // Records waiting behind a record that is parked for a retry; an entry is only touched on its key's lane
+    private final Map<String, Deque<RecordTask>> parkedKeys = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Counter retriedCounter;
+    private final Counter deadLetteredCounter;
+    private final Counter droppedCounter;
+
+    public KeyedRecordDispatcher(KeyedParallelConsumerProperties properties,
+            ConsumerRecordRecoverer recoverer,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.recoverer = recoverer;
+        this.meterRegistry = meterRegistry;
+
+        this.lanes = new ArrayList<>(properties.getWorkerLanes());
+        for (int i = 0; i < properties.getWorkerLanes(); i++) {
+            lanes.add(new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                    new CustomizableThreadFactory("kafka-lane-" + i + "-")));
+        }
+        this.retryScheduler = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("kafka-lane-retry-"));
+        this.retryScheduler.setRemoveOnCancelPolicy(true);
+
+        this.retriedCounter = Counter.builder("kafka.parallel.records.retried")
+                .description("Number of failed record processing attempts that were retried")
+                .register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("kafka.parallel.records.dead.lettered")
+                .description("Number of records sent to the dead letter topic after failed processing")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("kafka.parallel.records.dropped")
+                .description("Number of queued records dropped because their partition was revoked")
+                .register(meterRegistry);
+
+        Gauge.builder("kafka.parallel.records.in.flight", inFlight, AtomicInteger::get)
+                .description("Number of dispatched records not yet acknowledged")
+                .register(meterRegistry);
+        Gauge.builder("kafka.parallel.lane.queue.max", this, KeyedRecordDispatcher::getMaxQueueDepth)
+                .description("Queued records on the busiest lane; a hot transaction shows as one deep lane")
+                .register(meterRegistry);
+        Gauge.builder("kafka.parallel.keys.parked", parkedKeys, Map::size)
+                .description("Keys whose records wait for a scheduled retry")
+                .register(meterRegistry);
+
+        log.info("Initialized keyed parallel dispatcher with {} worker lanes", properties.getWorkerLanes());
+    }
+
+    /**
+     * Queues a record on the lane of its key. Must be called from the listener
+     * thread in offset order.
+     *
+     * @param record         the consumed record, used for dead lettering
+     * @param key            the ordering key, the event's transaction ID
+     * @param acknowledgment acknowledged once the record is done
+     * @param handler        processes the record
+     */
+    public void dispatch(ConsumerRecord<?, ?> record, String key, Acknowledgment acknowledgment, Runnable handler) {
+        // Dispatch and revocation both run on the listener thread, so the work cannot be revoked in between
+        PartitionWork work = partitions.computeIfAbsent(new TopicPartition(record.topic(), record.partition()),
+                partition -> new PartitionWork());
+        work.add();
+        inFlight.incrementAndGet();
+        RecordTask task = new RecordTask(record, key, acknowledgment, handler, work, Timer.start(meterRegistry),
+                properties.getInitialBackoff().toMillis());
+        lanes.get(laneOf(key)).execute(() -> {
+            Deque<RecordTask> waiting = parkedKeys.get(key);
+            if (waiting != null) {
+                waiting.addLast(task);
+            } else {
+                run(task);
+            }
+        });
+    }
+
+    /**
+     * Waits for the dispatched records of the revoked partitions before their
+     * offsets are committed, and drops those still queued at the timeout.
+     */
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> revoked) {
+        List<PartitionWork> revokedWork = new ArrayList<>();
+        for (TopicPartition partition : revoked) {
+            PartitionWork work = partitions.remove(partition);
+            if (work != null) {
+                revokedWork.add(work);
+            }
+        }
+        if (revokedWork.isEmpty()) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + properties.getRevocationTimeout().toNanos();
+        try {
+            for (PartitionWork work : revokedWork) {
+                work.awaitIdle(deadline);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int remaining = 0;
+        for (PartitionWork work : revokedWork) {
+            work.revoked = true;
+            remaining += work.pending();
+        }
+        if (remaining > 0) {
+            log.warn("Dropping {} records of revoked partitions {} still queued after {}; the new owner consumes "
+                    + "them again", remaining, revoked, properties.getRevocationTimeout());
+        }
+    }
+
+    int laneOf(String key) {
+        return Math.floorMod(key.hashCode(), lanes.size());
+    }
+
+    /**
+     * Processes a record on its key's lane and then hands the lane to the next
+     * record waiting behind it, unless the record was parked for a retry.
+     */
+    private void run(RecordTask task) {
+        if (!attempt(task)) {
+            return;
+        }
+        Deque<RecordTask> waiting = parkedKeys.get(task.key);
+        if (waiting == null) {
+            return;
+        }
+        RecordTask next = waiting.pollFirst();
+        if (next == null) {
+            parkedKeys.remove(task.key);
+        } else {
+            // Back of the lane, so records of other keys queued meanwhile are not starved
+            lanes.get(laneOf(task.key)).execute(() -> run(next));
+        }
+    }
+
+    /**
+     * Runs the handler once. A retryable failure parks the record's key and
+     * schedules the next attempt after the backoff; otherwise the record is
+     * acknowledged, dead lettered or, for a revoked partition, dropped.
+     *
+     * @return false when the record was parked for a retry
+     */
+    private boolean attempt(RecordTask task) {
+        ConsumerRecord<?, ?> record = task.record;
+        if (task.work.revoked) {
+            droppedCounter.increment();
+            finish(task);
+            return true;
+        }
+        try {
+            task.handler.run();
+            task.sample.stop(recordTimer(record.topic(), "success"));
+        } catch (Exception e) {
+            if (task.attempt >= properties.getMaxAttempts() || !isRetryable(e)) {
+                task.sample.stop(recordTimer(record.topic(), "dead_lettered"));
+                deadLetter(record, e);
+            } else {
+                log.warn("Failed to process {} record at partition: {}, offset: {} (attempt {} of {}): {}",
+                        record.topic(), record.partition(), record.offset(), task.attempt,
+                        properties.getMaxAttempts(), e.getMessage());
+                retriedCounter.increment();
+                scheduleRetry(task);
+                return false;
+            }
+        }
+        if (!task.work.revoked) {
+            acknowledge(record, task.acknowledgment);
+        }
+        finish(task);
+        return true;
+    }
+
+    private void scheduleRetry(RecordTask task) {
+        parkedKeys.computeIfAbsent(task.key, key -> new ArrayDeque<>());
+        long delayMs = task.backoffMs;
+        task.attempt++;
+        task.backoffMs = Math.min((long) (task.backoffMs * properties.getBackoffMultiplier()),
+                properties.getMaxBackoff().toMillis());
+        try {
+            retryScheduler.schedule(() -> {
+                try {
+                    lanes.get(laneOf(task.key)).execute(() -> run(task));
+                } catch (RejectedExecutionException e) {
+                    // Shutting down; the unacknowledged record is consumed again
+                    finish(task);
+                }
+            }, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            finish(task);
+        }
+    }
+
+    private void finish(RecordTask task) {
+        task.work.done();
+        inFlight.decrementAndGet();
+    }
+
+    private static boolean isRetryable(Exception e) {
+        return !(e instanceof IllegalArgumentException || e instanceof IllegalStateException);
+    }
+
+    private void deadLetter(ConsumerRecord<?, ?> record, Exception e) {
+        deadLetteredCounter.increment();
+        log.error("Sending {} record at partition: {}, offset: {} to the dead letter topic: {}",
+                record.topic(), record.partition(), record.offset(), e.getMessage(), e);
+        try {
+            recoverer.accept(record, e);
+        } catch (Exception recoveryFailure) {
+            // Acknowledging anyway: an unacknowledged record would stall its partition
+            log.error("Failed to dead letter {} record at partition: {}, offset: {}", record.topic(),
+                    record.partition(), record.offset(), recoveryFailure);
+        }
+    }
+
+    private void acknowledge(ConsumerRecord<?, ?> record, Acknowledgment acknowledgment) {
+        try {
+            acknowledgment.acknowledge();
+        } catch (Exception e) {
+            // The partition was revoked; the new owner consumes the record again
+            log.debug("Could not acknowledge {} record at partition: {}, offset: {}: {}", record.topic(),
+                    record.partition(), record.offset(), e.getMessage());
+        }
+    }
+
+    private Timer recordTimer(String topic, String outcome) {
+        return Timer.builder(RECORD_TIMER)
+                .description("Processing time of a record on its worker lane, including retries")
+                .tag("topic", topic)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private double getMaxQueueDepth() {
+        return lanes.stream().mapToInt(lane -> lane.getQueue().size()).max().orElse(0);
+    }
+
+    /**
+     * Stops accepting records and waits for the queued ones. Scheduled retries
+     * are dropped; their records are consumed again after the restart.
+     */
+    public void close() {
+        retryScheduler.shutdownNow();
+        lanes.forEach(ThreadPoolExecutor::shutdown);
+        long deadline = System.nanoTime() + properties.getShutdownTimeout().toNanos();
+        try {
+            for (ThreadPoolExecutor lane : lanes) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !lane.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+                    lane.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            lanes.forEach(ThreadPoolExecutor::shutdownNow);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A dispatched record and its retry state.
+     */
+    private static final class RecordTask {
+
+        private final ConsumerRecord<?, ?> record;
+        private final String key;
+        private final Acknowledgment acknowledgment;
+        private final Runnable handler;
+        private final PartitionWork work;
+        private final Timer.Sample sample;
+        private int attempt = 1;
+        private long backoffMs;
+
+        private RecordTask(ConsumerRecord<?, ?> record, String key, Acknowledgment acknowledgment, Runnable handler,
+                PartitionWork work, Timer.Sample sample, long backoffMs) {
+            this.record = record;
+            this.key = key;
+            this.acknowledgment = acknowledgment;
+            this.handler = handler;
+            this.work = work;
+            this.sample = sample;
+            this.backoffMs = backoffMs;
+        }
+    }
+
+    /**
+     * Records of one partition dispatched but not yet done.
+     */
+    private static final class PartitionWork {
+
+        private int pending;
+        private volatile boolean revoked;
+
+        private synchronized void add() {
+            pending++;
+        }
+
+        private synchronized void done() {
+            if (--pending == 0) {
+                notifyAll();
+            }
+        }
+
+        private synchronized int pending() {
+            return pending;
+        }
+
+        private synchronized void awaitIdle(long deadlineNanos) throws InterruptedException {
+            long remaining;
+            while (pending > 0 && (remaining = deadlineNanos - System.nanoTime()) > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
 import com.arcone.biopro.exception.collector.domain.event.inbound.OrderCancelledEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -17,6 +18,7 @@ import org.springframework.stereotype.Component;
  * Processes incoming order cancellation events and creates interface exceptions.
  */
 @Component
+@ConditionalOnExpression("!${app.kafka.batch.enabled:false} and !${app.kafka.parallel.enabled:false}")
 @RequiredArgsConstructor
 @Slf4j
 public class OrderCancelledEventConsumer {
@@ -8,6 +8,7 @@ import com.arcone.biopro.exception.collector.domain.event.inbound.OrderRejectedE
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
 import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
@@ -27,6 +28,7 @@ import org.springframework.stereotype.Component;
  * as per US-018.
  */
 @Component
+@ConditionalOnExpression("!${app.kafka.batch.enabled:false} and !${app.kafka.parallel.enabled:false}")
 @RequiredArgsConstructor
 @Slf4j
 public class OrderExceptionConsumer {
@@ -5,6 +5,7 @@ import com.arcone.biopro.exception.collector.domain.event.constants.KafkaTopics;
 import com.arcone.biopro.exception.collector.domain.event.outbound.CriticalExceptionAlertEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
@@ -17,6 +18,8 @@ import java.util.concurrent.CompletableFuture;
  * Publisher for critical exception alert events.
  * Handles urgent alerts that require immediate attention as per requirement
  * US-015.
+ * When the outbox is enabled, events are written to it with the caller's
+ * transaction and the returned futures complete without a send result.
  */
 @Component
 @RequiredArgsConstructor
@@ -28,6 +31,9 @@ public class AlertPublisher {
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
 
+    @Autowired(required = false)
+    private OutboxEventWriter outboxWriter;
+
     /**
      * Publishes a CriticalExceptionAlert event for exceptions requiring immediate
      * attention.
@@ -95,6 +101,11 @@ public class AlertPublisher {
                 "Publishing CriticalExceptionAlert event for exception ID: {}, transaction ID: {}, alert level: {}, reason: {}, correlation ID: {}",
                 exceptionId, transactionId, alertLevel, alertReason, correlationId);
 
+        if (outboxWriter != null) {
+            outboxWriter.append(KafkaTopics.CRITICAL_EXCEPTION_ALERT, transactionId, event);
+            return CompletableFuture.completedFuture(null);
+        }
+
         return kafkaTemplate.send(KafkaTopics.CRITICAL_EXCEPTION_ALERT, transactionId, event)
                 .whenComplete((result, throwable) -> {
                     if (throwable != null) {
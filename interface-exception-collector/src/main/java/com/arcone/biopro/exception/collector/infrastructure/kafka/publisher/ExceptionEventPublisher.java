@@ -7,6 +7,7 @@ import com.arcone.biopro.exception.collector.domain.event.outbound.ExceptionCapt
 import com.arcone.biopro.exception.collector.domain.event.outbound.ExceptionResolvedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
@@ -20,6 +21,8 @@ import java.util.concurrent.CompletableFuture;
  * ExceptionResolved.
  * Handles event correlation ID tracking and causation chains as per
  * requirements US-016 and US-017.
+ * When the outbox is enabled, events are written to it with the caller's
+ * transaction and the returned futures complete without a send result.
  */
 @Component
 @RequiredArgsConstructor
@@ -31,6 +34,9 @@ public class ExceptionEventPublisher {
 
         private final KafkaTemplate<String, Object> kafkaTemplate;
 
+        @Autowired(required = false)
+        private OutboxEventWriter outboxWriter;
+
         /**
          * Publishes an ExceptionCaptured event when an exception is successfully
          * stored.
@@ -86,6 +92,11 @@ public class ExceptionEventPublisher {
                 log.info("Publishing ExceptionCaptured event for exception ID: {}, transaction ID: {}, correlation ID: {}",
                                 exceptionId, transactionId, correlationId);
 
+                if (outboxWriter != null) {
+                        outboxWriter.append(KafkaTopics.EXCEPTION_CAPTURED, transactionId, event);
+                        return CompletableFuture.completedFuture(null);
+                }
+
                 return kafkaTemplate.send(KafkaTopics.EXCEPTION_CAPTURED, transactionId, event)
                                 .whenComplete((result, throwable) -> {
                                         if (throwable != null) {
@@ -156,6 +167,11 @@ public class ExceptionEventPublisher {
                                 "Publishing ExceptionResolved event for exception ID: {}, transaction ID: {}, resolution method: {}, correlation ID: {}",
                                 exceptionId, transactionId, resolutionMethod, correlationId);
 
+                if (outboxWriter != null) {
+                        outboxWriter.append(KafkaTopics.EXCEPTION_RESOLVED, transactionId, event);
+                        return CompletableFuture.completedFuture(null);
+                }
+
                 return kafkaTemplate.send(KafkaTopics.EXCEPTION_RESOLVED, transactionId, event)
                                 .whenComplete((result, throwable) -> {
                                         if (throwable != null) {
@@ -0,0 +1,103 @@
+package com.arcone.biopro.exception.collector.infrastructure.kafka.publisher;
+
+import com.arcone.biopro.exception.collector.infrastructure.repository.OutboxRecord;
+import com.arcone.biopro.exception.collector.infrastructure.repository.OutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes outbound events to the outbox table instead of sending them to Kafka.
+ * Events appended inside a transaction are collected and inserted as one JDBC
+ * batch just before it commits, so they are stored if and only if the
+ * transaction commits; outside a transaction each event is inserted immediately.
+ * {@link OutboxRelay} sends the stored events.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxEventWriter {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Stores an event for the relay.
+     *
+     * @param topic the destination topic
+     * @param key   the record key; events with the same key are sent in append order
+     * @param event the event, serialized as JSON
+     */
+    public void append(String topic, String key, Object event) {
+        OutboxRecord record = OutboxRecord.builder()
+                .topic(topic)
+                .messageKey(key)
+                .eventType(event.getClass().getName())
+                .payload(serialize(event))
+                .build();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxRepository.insertAll(List.of(record));
+            return;
+        }
+        pendingRecords().add(record);
+    }
+
+    private PendingRecords pendingRecords() {
+        PendingRecords pending = (PendingRecords) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingRecords();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private String serialize(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize " + event.getClass().getSimpleName()
+                    + " for the outbox: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Events appended in the current transaction. Events appended after the batch
+     * has been written, by synchronizations that run later, are inserted directly.
+     */
+    private class PendingRecords implements TransactionSynchronization {
+
+        private final List<OutboxRecord> records = new ArrayList<>();
+        private boolean written;
+
+        void add(OutboxRecord record) {
+            if (written) {
+                outboxRepository.insertAll(List.of(record));
+            } else {
+                records.add(record);
+            }
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            written = true;
+            outboxRepository.insertAll(records);
+            log.debug("Wrote {} events to the outbox", records.size());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OutboxEventWriter.this);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.arcone.biopro.exception.collector.infrastructure.kafka.publisher;
+
+import com.arcone.biopro.exception.collector.infrastructure.config.OutboxProperties;
+import com.arcone.biopro.exception.collector.infrastructure.repository.OutboxBacklog;
+import com.arcone.biopro.exception.collector.infrastructure.repository.OutboxRecord;
+import com.arcone.biopro.exception.collector.infrastructure.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sends the events stored in the outbox table to Kafka.
+ * Each batch is read in id order and sent in rounds holding at most one event per
+ * key, so different keys are pipelined while each key is sent in sequence. Rounds are
+ * flushed and the acknowledged events deleted, all in one transaction holding the
+ * relay advisory lock. When an event fails, it and every later event with the same
+ * key stay in the outbox for the next run, so per-key order is kept; delivery is
+ * at least once. An event that fails {@code app.outbox.max-attempts} times is parked
+ * so it no longer holds back its key.
+ */
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final KafkaOperations<String, String> kafkaOperations;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+
+    private final Timer batchTimer;
+    private final Timer deliveryDelayTimer;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter parkedCounter;
+
+    private final AtomicReference<OutboxBacklog> backlog = new AtomicReference<>(
+            OutboxBacklog.builder().build());
+    private final AtomicLong lastBacklogRefresh = new AtomicLong();
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+            KafkaOperations<String, String> kafkaOperations,
+            PlatformTransactionManager transactionManager,
+            OutboxProperties properties,
+            MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaOperations = kafkaOperations;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+
+        this.batchTimer = Timer.builder("outbox.relay.batch.duration")
+                .description("Duration of outbox relay batches, from read to delete")
+                .register(meterRegistry);
+        this.deliveryDelayTimer = Timer.builder("outbox.relay.delivery.delay")
+                .description("Time from writing an event to the outbox until the broker acknowledged it")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("outbox.relay.events.sent")
+                .description("Number of outbox events acknowledged by the broker")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.relay.events.failed")
+                .description("Number of outbox events left for a later run after a failed send")
+                .register(meterRegistry);
+        this.parkedCounter = Counter.builder("outbox.relay.events.parked")
+                .description("Number of outbox events parked after their last allowed attempt")
+                .register(meterRegistry);
+
+        Gauge.builder("outbox.pending.events", backlog, current -> current.get().getPendingEvents())
+                .description("Number of events waiting in the outbox")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag.seconds", backlog, current -> current.get().getLagSeconds())
+                .description("Age in seconds of the oldest event waiting in the outbox")
+                .register(meterRegistry);
+        Gauge.builder("outbox.parked.events", backlog, current -> current.get().getParkedEvents())
+                .description("Number of parked outbox events that are no longer relayed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled relay run.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:250}",
+            initialDelayString = "${app.outbox.initial-delay-ms:5000}")
+    public void scheduledRelay() {
+        try {
+            relay();
+        } catch (Exception e) {
+            log.warn("Outbox relay failed: {}", e.getMessage(), e);
+        }
+        refreshBacklog();
+    }
+
+    /**
+     * Relays full batches until the outbox is drained, a send fails, another
+     * instance holds the relay lock or the per-run batch limit is reached.
+     *
+     * @return the number of events sent
+     */
+    public int relay() {
+        int sent = 0;
+        for (int i = 0; i < properties.getMaxBatchesPerRun(); i++) {
+            BatchResult result = batchTimer.record(() -> transactionTemplate.execute(status -> relayBatch()));
+            if (result == null) {
+                break;
+            }
+            sent += result.sent();
+            if (result.read() < properties.getBatchSize() || result.sent() < result.read()) {
+                break;
+            }
+        }
+        return sent;
+    }
+
+    /**
+     * Reads, sends and deletes one batch. Must run in a transaction.
+     *
+     * @return the batch counts, or null when another instance holds the lock
+     */
+    private BatchResult relayBatch() {
+        if (!outboxRepository.tryAcquireRelayLock()) {
+            log.debug("Outbox relay skipped, another instance holds the lock");
+            return null;
+        }
+
+        List<OutboxRecord> batch = outboxRepository.findNextBatch(properties.getBatchSize());
+        if (batch.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+
+        // Events of one key are sent one round at a time, so a later event is never
+        // acknowledged before an earlier one that failed
+        Map<String, Deque<OutboxRecord>> byKey = new LinkedHashMap<>();
+        for (OutboxRecord record : batch) {
+            byKey.computeIfAbsent(orderingKey(record), key -> new ArrayDeque<>()).add(record);
+        }
+
+        long deadline = System.nanoTime() + properties.getSendTimeout().toNanos();
+        List<OutboxRecord> delivered = new ArrayList<>(batch.size());
+        List<OutboxRecord> failed = new ArrayList<>();
+        while (!byKey.isEmpty()) {
+            if (delivered.size() + failed.size() > 0 && System.nanoTime() >= deadline) {
+                // Out of time: the remaining events have not been sent and wait for the next run
+                break;
+            }
+            List<OutboxRecord> round = new ArrayList<>(byKey.size());
+            List<CompletableFuture<SendResult<String, String>>> sends = new ArrayList<>(byKey.size());
+            for (Deque<OutboxRecord> events : byKey.values()) {
+                OutboxRecord record = events.peekFirst();
+                round.add(record);
+                sends.add(send(record));
+            }
+            kafkaOperations.flush();
+            awaitAcknowledgements(sends, deadline);
+
+            for (int i = 0; i < round.size(); i++) {
+                OutboxRecord record = round.get(i);
+                String key = orderingKey(record);
+                String error = failureOf(sends.get(i));
+                if (error == null) {
+                    delivered.add(record);
+                    Deque<OutboxRecord> events = byKey.get(key);
+                    events.removeFirst();
+                    if (events.isEmpty()) {
+                        byKey.remove(key);
+                    }
+                } else {
+                    // Later events with this key wait for the next run
+                    record.setAttempts(record.getAttempts() + 1);
+                    record.setLastError(error);
+                    failed.add(record);
+                    byKey.remove(key);
+                }
+            }
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        for (OutboxRecord record : delivered) {
+            if (record.getCreatedAt() != null) {
+                deliveryDelayTimer.record(Duration.between(record.getCreatedAt(), now));
+            }
+        }
+        for (OutboxRecord record : failed) {
+            if (record.getAttempts() >= properties.getMaxAttempts()) {
+                log.error("Parking outbox event {} for topic {} with key {} after {} failed attempts: {}",
+                        record.getId(), record.getTopic(), record.getMessageKey(), record.getAttempts(),
+                        record.getLastError());
+                parkedCounter.increment();
+            } else {
+                log.warn("Failed to relay outbox event {} to topic {} with key {} (attempt {} of {}), "
+                        + "it will be sent again: {}", record.getId(), record.getTopic(), record.getMessageKey(),
+                        record.getAttempts(), properties.getMaxAttempts(), record.getLastError());
+            }
+        }
+
+        outboxRepository.deleteByIds(delivered.stream().map(OutboxRecord::getId).toList());
+        outboxRepository.recordFailedAttempts(failed, properties.getMaxAttempts());
+        sentCounter.increment(delivered.size());
+        failedCounter.increment(failed.size());
+
+        log.debug("Outbox relay sent {} of {} events", delivered.size(), batch.size());
+        return new BatchResult(batch.size(), delivered.size());
+    }
+
+    /**
+     * Events without a key have no order to keep and are sent independently.
+     */
+    private static String orderingKey(OutboxRecord record) {
+        return record.getMessageKey() != null ? record.getMessageKey() : "#" + record.getId();
+    }
+
+    private CompletableFuture<SendResult<String, String>> send(OutboxRecord record) {
+        ProducerRecord<String, String> producerRecord = new ProducerRecord<>(record.getTopic(),
+                record.getMessageKey(), record.getPayload());
+        producerRecord.headers().add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+                record.getEventType().getBytes(StandardCharsets.UTF_8));
+        try {
+            return kafkaOperations.send(producerRecord);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void awaitAcknowledgements(List<CompletableFuture<SendResult<String, String>>> sends, long deadline) {
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            // Failed sends are inspected one by one
+        } catch (TimeoutException e) {
+            log.warn("Timed out after {} waiting for outbox batch acknowledgements", properties.getSendTimeout());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the error of a send, or null when the broker acknowledged it.
+     */
+    private static String failureOf(CompletableFuture<SendResult<String, String>> send) {
+        if (!send.isDone()) {
+            return "Not acknowledged within the send timeout";
+        }
+        try {
+            send.join();
+            return null;
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        }
+    }
+
+    /**
+     * Refreshes the backlog gauges, at most once per configured interval.
+     */
+    private void refreshBacklog() {
+        long now = System.currentTimeMillis();
+        long last = lastBacklogRefresh.get();
+        if (now - last < properties.getBacklogRefreshInterval().toMillis()
+                || !lastBacklogRefresh.compareAndSet(last, now)) {
+            return;
+        }
+        try {
+            backlog.set(outboxRepository.findBacklog());
+        } catch (Exception e) {
+            log.debug("Failed to measure the outbox backlog: {}", e.getMessage());
+        }
+    }
+
+    private record BatchResult(int read, int sent) {
+    }
+}
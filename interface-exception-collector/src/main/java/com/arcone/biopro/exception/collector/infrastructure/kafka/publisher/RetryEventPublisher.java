@@ -7,6 +7,7 @@ import com.arcone.biopro.exception.collector.domain.event.constants.KafkaTopics;
 import com.arcone.biopro.exception.collector.domain.event.outbound.ExceptionRetryCompletedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
@@ -19,6 +20,8 @@ import java.util.concurrent.CompletableFuture;
  * Publisher for retry-related events including ExceptionRetryCompleted.
  * Handles event correlation ID tracking and causation chains for retry
  * operations.
+ * When the outbox is enabled, events are written to it with the caller's
+ * transaction and the returned futures complete without a send result.
  */
 @Component
 @RequiredArgsConstructor
@@ -30,6 +33,9 @@ public class RetryEventPublisher {
 
         private final KafkaTemplate<String, Object> kafkaTemplate;
 
+        @Autowired(required = false)
+        private OutboxEventWriter outboxWriter;
+
         /**
          * Publishes an ExceptionRetryCompleted event when a retry operation completes.
          * Maintains correlation ID from the original exception event for traceability.
@@ -83,6 +89,11 @@ public class RetryEventPublisher {
                 log.info("Publishing ExceptionRetryCompleted event for exception ID: {}, transaction ID: {}, attempt: {}, status: {}",
                                 exceptionId, transactionId, attemptNumber, retryStatus);
 
+                if (outboxWriter != null) {
+                        outboxWriter.append(KafkaTopics.EXCEPTION_RETRY_COMPLETED, transactionId, event);
+                        return CompletableFuture.completedFuture(null);
+                }
+
                 return kafkaTemplate.send(KafkaTopics.EXCEPTION_RETRY_COMPLETED, transactionId, event)
                                 .whenComplete((result, throwable) -> {
                                         if (throwable != null) {
@@ -138,6 +149,11 @@ public class RetryEventPublisher {
                 log.info("Publishing ExceptionRetryInitiated event for exception ID: {}, transaction ID: {}, attempt: {}",
                                 exception.getId(), exception.getTransactionId(), attemptNumber);
 
+                if (outboxWriter != null) {
+                        outboxWriter.append("exception-retry-initiated", exception.getTransactionId(), event);
+                        return CompletableFuture.completedFuture(null);
+                }
+
                 return kafkaTemplate.send("exception-retry-initiated", exception.getTransactionId(), event)
                                 .whenComplete((result, throwable) -> {
                                         if (throwable != null) {
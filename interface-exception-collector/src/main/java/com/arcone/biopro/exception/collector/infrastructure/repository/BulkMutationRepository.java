@@ -0,0 +1,232 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository;
+
+import com.arcone.biopro.exception.collector.domain.entity.MutationAuditLog;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Set-based statements for bulk mutations.
+ * Each state transition is a single UPDATE over the whole set of transaction IDs
+ * whose WHERE clause repeats the state rules, so rows changed concurrently since
+ * validation are skipped instead of overwritten. Status change history rows are
+ * written by the trigger on interface_exceptions. Mutation audit log rows are
+ * written and completed in JDBC batches as well.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class BulkMutationRepository {
+
+    private static final String ACKNOWLEDGE = """
+            UPDATE interface_exceptions
+            SET status = 'ACKNOWLEDGED',
+                acknowledged_at = :acknowledgedAt,
+                acknowledged_by = :acknowledgedBy,
+                acknowledgment_notes = :notes,
+                updated_by = :acknowledgedBy
+            WHERE transaction_id = ANY(:transactionIds)
+              AND status IN (:allowedStatuses)
+            RETURNING transaction_id
+            """;
+
+    private static final String START_RETRIES = """
+            UPDATE interface_exceptions ie
+            SET retry_count = ie.retry_count + 1,
+                last_retry_at = :initiatedAt,
+                updated_by = :initiatedBy
+            WHERE ie.transaction_id = ANY(:transactionIds)
+              AND ie.retryable
+              AND ie.status IN (:allowedStatuses)
+              AND ie.retry_count < ie.max_retries
+              AND NOT EXISTS (
+                  SELECT 1 FROM retry_attempts ra
+                  WHERE ra.exception_id = ie.id AND ra.status = 'PENDING'
+              )
+            RETURNING ie.id, ie.transaction_id
+            """;
+
+    private static final String INSERT_PENDING_RETRY_ATTEMPTS = """
+            INSERT INTO retry_attempts (exception_id, attempt_number, status, initiated_by, initiated_at,
+                                        created_at, updated_at)
+            SELECT ie.id,
+                   COALESCE((SELECT MAX(ra.attempt_number) FROM retry_attempts ra WHERE ra.exception_id = ie.id), 0) + 1,
+                   'PENDING', :initiatedBy, :initiatedAt, :initiatedAt, :initiatedAt
+            FROM interface_exceptions ie
+            WHERE ie.id = ANY(:exceptionIds)
+            """;
+
+    private static final String FAIL_PENDING_RETRY_ATTEMPTS = """
+            WITH failed AS (
+                UPDATE retry_attempts
+                SET status = 'FAILED',
+                    completed_at = :completedAt,
+                    result_success = FALSE,
+                    result_message = :message,
+                    updated_at = :completedAt
+                WHERE status = 'PENDING'
+                  AND initiated_at < :initiatedBefore
+                RETURNING exception_id
+            )
+            UPDATE interface_exceptions ie
+            SET status = 'RETRIED_FAILED',
+                updated_by = 'SYSTEM'
+            WHERE ie.id IN (SELECT exception_id FROM failed)
+            RETURNING ie.transaction_id
+            """;
+
+    private static final String INSERT_AUDIT_LOG = """
+            INSERT INTO mutation_audit_log (operation_type, transaction_id, performed_by, performed_at, input_data,
+                                            result_status, error_details, execution_time_ms, operation_id,
+                                            correlation_id, client_ip, user_agent)
+            VALUES (:operationType, :transactionId, :performedBy, :performedAt, :inputData,
+                    :resultStatus, :errorDetails, :executionTimeMs, :operationId,
+                    :correlationId, :clientIp, :userAgent)
+            """;
+
+    private static final String COMPLETE_AUDIT_LOG = """
+            UPDATE mutation_audit_log
+            SET result_status = :resultStatus,
+                error_details = :errorDetails,
+                execution_time_ms = :executionTimeMs
+            WHERE operation_id = :operationId
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Acknowledges every exception of the set that is still in one of the allowed statuses.
+     *
+     * @return the transaction IDs that were acknowledged
+     */
+    public Set<String> acknowledge(Collection<String> transactionIds, Collection<ExceptionStatus> allowedStatuses,
+            String acknowledgedBy, String notes, OffsetDateTime acknowledgedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("transactionIds", textArray(transactionIds))
+                .addValue("allowedStatuses", statusNames(allowedStatuses))
+                .addValue("acknowledgedBy", acknowledgedBy)
+                .addValue("notes", notes)
+                .addValue("acknowledgedAt", acknowledgedAt);
+        return new HashSet<>(jdbcTemplate.query(ACKNOWLEDGE, params,
+                (rs, rowNum) -> rs.getString("transaction_id")));
+    }
+
+    /**
+     * Counts a new retry for every exception of the set that can still be retried:
+     * retryable, in an allowed status, below its retry limit and without a pending attempt.
+     *
+     * @return exception IDs by transaction ID of the exceptions whose retry was started
+     */
+    public Map<String, Long> startRetries(Collection<String> transactionIds, Collection<ExceptionStatus> allowedStatuses,
+            String initiatedBy, OffsetDateTime initiatedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("transactionIds", textArray(transactionIds))
+                .addValue("allowedStatuses", statusNames(allowedStatuses))
+                .addValue("initiatedBy", initiatedBy)
+                .addValue("initiatedAt", initiatedAt);
+        Map<String, Long> started = new LinkedHashMap<>();
+        jdbcTemplate.query(START_RETRIES, params,
+                rs -> {
+                    started.put(rs.getString("transaction_id"), rs.getLong("id"));
+                });
+        return started;
+    }
+
+    /**
+     * Inserts the next pending retry attempt for each of the exceptions.
+     *
+     * @return the number of attempts inserted
+     */
+    public int insertPendingRetryAttempts(Collection<Long> exceptionIds, String initiatedBy,
+            OffsetDateTime initiatedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("exceptionIds", new SqlParameterValue(Types.ARRAY, exceptionIds.toArray(Long[]::new)))
+                .addValue("initiatedBy", initiatedBy)
+                .addValue("initiatedAt", initiatedAt);
+        return jdbcTemplate.update(INSERT_PENDING_RETRY_ATTEMPTS, params);
+    }
+
+    /**
+     * Fails every retry attempt still pending that was initiated before the cutoff,
+     * and marks its exception as failed the way a failed retry does.
+     *
+     * @return the transaction IDs of the exceptions whose pending attempt was failed
+     */
+    public Set<String> failPendingRetryAttempts(OffsetDateTime initiatedBefore, String message,
+            OffsetDateTime completedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("initiatedBefore", initiatedBefore)
+                .addValue("message", message)
+                .addValue("completedAt", completedAt);
+        return new HashSet<>(jdbcTemplate.query(FAIL_PENDING_RETRY_ATTEMPTS, params,
+                (rs, rowNum) -> rs.getString("transaction_id")));
+    }
+
+    /**
+     * Writes audit log rows as one JDBC batch.
+     */
+    public void insertAuditLogs(List<MutationAuditLog> auditLogs) {
+        if (auditLogs.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = auditLogs.stream()
+                .map(auditLog -> new MapSqlParameterSource()
+                        .addValue("operationType", auditLog.getOperationType().name())
+                        .addValue("transactionId", auditLog.getTransactionId())
+                        .addValue("performedBy", auditLog.getPerformedBy())
+                        .addValue("performedAt", Timestamp.from(auditLog.getPerformedAt()))
+                        .addValue("inputData", auditLog.getInputData())
+                        .addValue("resultStatus", auditLog.getResultStatus().name())
+                        .addValue("errorDetails", auditLog.getErrorDetails())
+                        .addValue("executionTimeMs", auditLog.getExecutionTimeMs())
+                        .addValue("operationId", auditLog.getOperationId())
+                        .addValue("correlationId", auditLog.getCorrelationId())
+                        .addValue("clientIp", auditLog.getClientIp())
+                        .addValue("userAgent", auditLog.getUserAgent()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_AUDIT_LOG, batch);
+        log.debug("Inserted {} mutation audit log rows", auditLogs.size());
+    }
+
+    /**
+     * Records the results of already written audit log rows, matched by operation ID, as one JDBC batch.
+     *
+     * @return the number of rows updated per audit log
+     */
+    public int[] completeAuditLogs(List<MutationAuditLog> auditLogs) {
+        if (auditLogs.isEmpty()) {
+            return new int[0];
+        }
+        SqlParameterSource[] batch = auditLogs.stream()
+                .map(auditLog -> new MapSqlParameterSource()
+                        .addValue("operationId", auditLog.getOperationId())
+                        .addValue("resultStatus", auditLog.getResultStatus().name())
+                        .addValue("errorDetails", auditLog.getErrorDetails())
+                        .addValue("executionTimeMs", auditLog.getExecutionTimeMs()))
+                .toArray(SqlParameterSource[]::new);
+        return jdbcTemplate.batchUpdate(COMPLETE_AUDIT_LOG, batch);
+    }
+
+    private static SqlParameterValue textArray(Collection<String> values) {
+        return new SqlParameterValue(Types.ARRAY, values.toArray(String[]::new));
+    }
+
+    private static List<String> statusNames(Collection<ExceptionStatus> statuses) {
+        return statuses.stream().map(Enum::name).toList();
+    }
+}
@@ -0,0 +1,124 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository;
+
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Set-based insert for new exceptions from the batch ingestion path.
+ * The whole set is written by one {@code INSERT ... ON CONFLICT (transaction_id) DO NOTHING},
+ * so a transaction ID inserted by a concurrent consumer since the duplicate lookup is
+ * skipped instead of failing the batch on the unique constraint. IDs come from the
+ * column default on interface_exceptions_seq (see V25).
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ExceptionIngestRepository {
+
+    private static final String INSERT_IF_ABSENT = """
+            INSERT INTO interface_exceptions (transaction_id, interface_type, exception_reason, operation,
+                                              external_id, status, severity, category, retryable, customer_id,
+                                              location_code, "timestamp", processed_at, retry_count, max_retries,
+                                              order_retrieval_attempted, order_retrieval_pending,
+                                              created_at, updated_at)
+            SELECT r.transaction_id, r.interface_type, r.exception_reason, r.operation,
+                   r.external_id, r.status, r.severity, r.category, r.retryable, r.customer_id,
+                   r.location_code, r.occurred_at, r.processed_at, r.retry_count, r.max_retries,
+                   r.order_retrieval_attempted, r.order_retrieval_pending,
+                   :now, :now
+            FROM unnest(CAST(:transactionIds AS text[]), CAST(:interfaceTypes AS text[]),
+                        CAST(:exceptionReasons AS text[]), CAST(:operations AS text[]),
+                        CAST(:externalIds AS text[]), CAST(:statuses AS text[]),
+                        CAST(:severities AS text[]), CAST(:categories AS text[]),
+                        CAST(:retryables AS boolean[]), CAST(:customerIds AS text[]),
+                        CAST(:locationCodes AS text[]), CAST(:timestamps AS timestamptz[]),
+                        CAST(:processedAts AS timestamptz[]), CAST(:retryCounts AS integer[]),
+                        CAST(:maxRetries AS integer[]), CAST(:orderRetrievalAttempted AS boolean[]),
+                        CAST(:orderRetrievalPending AS boolean[]))
+                 AS r(transaction_id, interface_type, exception_reason, operation,
+                      external_id, status, severity, category, retryable, customer_id,
+                      location_code, occurred_at, processed_at, retry_count, max_retries,
+                      order_retrieval_attempted, order_retrieval_pending)
+            ON CONFLICT (transaction_id) DO NOTHING
+            RETURNING id, transaction_id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the new exceptions whose transaction ID is not stored yet. Each inserted
+     * exception gets its generated ID and audit timestamps; the others are left untouched.
+     * The exceptions must have distinct transaction IDs.
+     *
+     * @return generated IDs by transaction ID of the exceptions that were inserted
+     */
+    public Map<String, Long> insertIfAbsent(List<InterfaceException> exceptions) {
+        if (exceptions.isEmpty()) {
+            return Map.of();
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("transactionIds", textArray(exceptions, InterfaceException::getTransactionId))
+                .addValue("interfaceTypes", textArray(exceptions, InterfaceException::getInterfaceType))
+                .addValue("exceptionReasons", textArray(exceptions, InterfaceException::getExceptionReason))
+                .addValue("operations", textArray(exceptions, InterfaceException::getOperation))
+                .addValue("externalIds", textArray(exceptions, InterfaceException::getExternalId))
+                .addValue("statuses", textArray(exceptions, InterfaceException::getStatus))
+                .addValue("severities", textArray(exceptions, InterfaceException::getSeverity))
+                .addValue("categories", textArray(exceptions, InterfaceException::getCategory))
+                .addValue("retryables", textArray(exceptions, InterfaceException::getRetryable))
+                .addValue("customerIds", textArray(exceptions, InterfaceException::getCustomerId))
+                .addValue("locationCodes", textArray(exceptions, InterfaceException::getLocationCode))
+                .addValue("timestamps", textArray(exceptions, InterfaceException::getTimestamp))
+                .addValue("processedAts", textArray(exceptions, InterfaceException::getProcessedAt))
+                .addValue("retryCounts", textArray(exceptions, InterfaceException::getRetryCount))
+                .addValue("maxRetries", textArray(exceptions, InterfaceException::getMaxRetries))
+                .addValue("orderRetrievalAttempted",
+                        textArray(exceptions, InterfaceException::getOrderRetrievalAttempted))
+                .addValue("orderRetrievalPending",
+                        textArray(exceptions, InterfaceException::getOrderRetrievalPending));
+
+        Map<String, Long> inserted = new HashMap<>();
+        jdbcTemplate.query(INSERT_IF_ABSENT, params,
+                rs -> {
+                    inserted.put(rs.getString("transaction_id"), rs.getLong("id"));
+                });
+
+        for (InterfaceException exception : exceptions) {
+            Long id = inserted.get(exception.getTransactionId());
+            if (id != null) {
+                exception.setId(id);
+                exception.setCreatedAt(now);
+                exception.setUpdatedAt(now);
+            }
+        }
+        log.debug("Inserted {} of {} new exceptions", inserted.size(), exceptions.size());
+        return inserted;
+    }
+
+    /**
+     * Binds one column of the set as a text array; the statement casts it to the column type.
+     */
+    private static SqlParameterValue textArray(Collection<InterfaceException> exceptions,
+            Function<InterfaceException, ?> column) {
+        return new SqlParameterValue(Types.ARRAY, exceptions.stream()
+                .map(column)
+                .map(value -> value instanceof Enum<?> constant ? constant.name() : Objects.toString(value, null))
+                .toArray(String[]::new));
+    }
+}
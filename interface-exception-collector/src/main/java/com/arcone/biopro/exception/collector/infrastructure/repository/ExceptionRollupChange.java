@@ -0,0 +1,24 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.OffsetDateTime;
+
+/**
+ * An hour bucket of the exception_rollup table with changes not folded in yet.
+ */
+@Data
+@Builder
+public class ExceptionRollupChange {
+
+    /**
+     * Start of the changed hour bucket.
+     */
+    private OffsetDateTime bucketStart;
+
+    /**
+     * Transaction time of the oldest change recorded for the bucket.
+     */
+    private OffsetDateTime oldestRecordedAt;
+}
@@ -0,0 +1,168 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Maintenance queries for the hourly exception_rollup table.
+ * Buckets are recomputed from interface_exceptions one hour at a time, so the
+ * cost of a refresh is proportional to the number of changed buckets rather
+ * than to the retained history. Writes to exceptions and retry attempts record
+ * their buckets in exception_rollup_changes (V33), deletes in
+ * exception_rollup_dirty (V26).
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ExceptionRollupRepository {
+
+    /**
+     * Advisory lock key that serializes rollup refreshes across instances.
+     */
+    static final long REFRESH_LOCK_KEY = 0x726f6c6c7570L;
+
+    private static final String FIND_ALL_BUCKETS = """
+            SELECT DISTINCT DATE_TRUNC('hour', timestamp) AS bucket_start
+            FROM interface_exceptions
+            """;
+
+    private static final String CLAIM_CHANGED_BUCKETS = """
+            WITH claimed AS (
+                DELETE FROM exception_rollup_changes
+                RETURNING bucket_start, recorded_at
+            )
+            SELECT bucket_start, MIN(recorded_at) AS oldest_recorded_at
+            FROM claimed
+            GROUP BY bucket_start
+            """;
+
+    private static final String DELETE_BUCKET = "DELETE FROM exception_rollup WHERE bucket_start = :bucketStart";
+
+    private static final String INSERT_BUCKET = """
+            INSERT INTO exception_rollup (bucket_start, interface_type, status, severity, category,
+                                          exception_count, resolved_count, resolution_hours_sum,
+                                          retry_attempts, successful_retries, refreshed_at)
+            SELECT :bucketStart, ie.interface_type, ie.status, ie.severity, ie.category,
+                   COUNT(*),
+                   COUNT(*) FILTER (WHERE ie.resolved_at IS NOT NULL),
+                   COALESCE(SUM(EXTRACT(EPOCH FROM (ie.resolved_at - ie.timestamp)) / 3600)
+                            FILTER (WHERE ie.resolved_at IS NOT NULL), 0),
+                   COALESCE(SUM(ra.attempts), 0),
+                   COALESCE(SUM(ra.successes), 0),
+                   NOW()
+            FROM interface_exceptions ie
+            LEFT JOIN LATERAL (
+                SELECT COUNT(*) AS attempts, COUNT(*) FILTER (WHERE result_success) AS successes
+                FROM retry_attempts
+                WHERE exception_id = ie.id
+            ) ra ON true
+            WHERE ie.timestamp >= :bucketStart AND ie.timestamp < :bucketStart + INTERVAL '1 hour'
+            GROUP BY ie.interface_type, ie.status, ie.severity, ie.category
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Tries to take the transaction-scoped refresh lock. Returns false when another
+     * instance is already refreshing.
+     */
+    public boolean tryAcquireRefreshLock() {
+        Boolean acquired = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(:key)",
+                new MapSqlParameterSource("key", REFRESH_LOCK_KEY), Boolean.class);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    /**
+     * Returns the database transaction timestamp, so that application and
+     * database clocks never need to agree.
+     */
+    public OffsetDateTime currentTimestamp() {
+        return jdbcTemplate.queryForObject("SELECT NOW()", new MapSqlParameterSource(), OffsetDateTime.class);
+    }
+
+    /**
+     * Reads the refresh state row written by the last successful refresh.
+     */
+    public Optional<ExceptionRollupState> findState() {
+        return jdbcTemplate.query(
+                "SELECT watermark, last_refreshed_at FROM exception_rollup_state WHERE id = 1",
+                (rs, rowNum) -> ExceptionRollupState.builder()
+                        .watermark(rs.getObject("watermark", OffsetDateTime.class))
+                        .lastRefreshedAt(rs.getObject("last_refreshed_at", OffsetDateTime.class))
+                        .build())
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Finds every hour bucket that contains exceptions, for a full rebuild.
+     */
+    public List<OffsetDateTime> findAllBuckets() {
+        return jdbcTemplate.query(FIND_ALL_BUCKETS, new MapSqlParameterSource(),
+                (rs, rowNum) -> rs.getObject("bucket_start", OffsetDateTime.class));
+    }
+
+    /**
+     * Removes and returns the buckets recorded by writes, with the time of the
+     * oldest change per bucket. Only committed changes are visible, so changes of
+     * transactions still open are claimed by a later refresh; claimed rows are
+     * restored if the surrounding transaction rolls back.
+     */
+    public List<ExceptionRollupChange> claimChangedBuckets() {
+        return jdbcTemplate.query(CLAIM_CHANGED_BUCKETS, new MapSqlParameterSource(),
+                (rs, rowNum) -> ExceptionRollupChange.builder()
+                        .bucketStart(rs.getObject("bucket_start", OffsetDateTime.class))
+                        .oldestRecordedAt(rs.getObject("oldest_recorded_at", OffsetDateTime.class))
+                        .build());
+    }
+
+    /**
+     * Removes and returns the buckets recorded by the delete trigger. Claimed rows
+     * are restored if the surrounding transaction rolls back.
+     */
+    public List<OffsetDateTime> claimDeletedBuckets() {
+        return jdbcTemplate.query("DELETE FROM exception_rollup_dirty RETURNING bucket_start",
+                new MapSqlParameterSource(),
+                (rs, rowNum) -> rs.getObject("bucket_start", OffsetDateTime.class));
+    }
+
+    /**
+     * Replaces the rollup rows of each bucket with a fresh aggregation of its hour.
+     *
+     * @param buckets hour-aligned bucket start times
+     */
+    public void recomputeBuckets(List<OffsetDateTime> buckets) {
+        if (buckets.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = buckets.stream()
+                .map(bucket -> new MapSqlParameterSource("bucketStart", bucket))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(DELETE_BUCKET, batch);
+        jdbcTemplate.batchUpdate(INSERT_BUCKET, batch);
+    }
+
+    /**
+     * Records the claim time and completion time of a successful refresh.
+     */
+    public void saveState(OffsetDateTime watermark, OffsetDateTime refreshedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO exception_rollup_state (id, watermark, last_refreshed_at)
+                VALUES (1, :watermark, :refreshedAt)
+                ON CONFLICT (id) DO UPDATE SET watermark = EXCLUDED.watermark,
+                                               last_refreshed_at = EXCLUDED.last_refreshed_at
+                """,
+                new MapSqlParameterSource()
+                        .addValue("watermark", watermark)
+                        .addValue("refreshedAt", refreshedAt));
+    }
+}
@@ -0,0 +1,25 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Refresh state of the exception_rollup table.
+ */
+@Data
+@Builder
+public class ExceptionRollupState {
+
+    /**
+     * Time at which the last refresh claimed recorded changes; changes committed
+     * before it are folded into the rollup.
+     */
+    private OffsetDateTime watermark;
+
+    /**
+     * Completion time of the last successful refresh.
+     */
+    private OffsetDateTime lastRefreshedAt;
+}
@@ -0,0 +1,34 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository;
+
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionSeverity;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
+import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+/**
+ * Result of a single-pass exception summary aggregation.
+ * Dimension maps only contain values that occur in the filtered data.
+ */
+@Data
+@Builder
+public class ExceptionSummaryAggregate {
+    private long totalCount;
+    private Map<InterfaceType, Long> byInterfaceType;
+    private Map<ExceptionSeverity, Long> bySeverity;
+    private Map<ExceptionStatus, Long> byStatus;
+
+    /**
+     * Counts per trend bucket start, in ascending time order.
+     */
+    private Map<OffsetDateTime, Long> trend;
+
+    private long customerImpactCount;
+    private long criticalCount;
+    private Double averageResolutionHours;
+    private long retryAttempts;
+    private long successfulRetries;
+}
@@ -0,0 +1,55 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository;
+
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionCategory;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionSeverity;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
+import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Filter criteria for exception summary aggregation.
+ * Null or empty values mean "no restriction" for that dimension.
+ */
+@Data
+@Builder
+public class ExceptionSummaryCriteria {
+    private OffsetDateTime fromDate;
+    private OffsetDateTime toDate;
+    private List<InterfaceType> interfaceTypes;
+    private List<ExceptionStatus> statuses;
+    private List<ExceptionSeverity> severities;
+    private List<ExceptionCategory> categories;
+    private List<String> customerIds;
+    private List<String> locationCodes;
+    private String searchTerm;
+    private Boolean excludeResolved;
+    private Boolean retryable;
+    private String acknowledgedBy;
+    private Boolean hasRetries;
+
+    /**
+     * Trend bucket size passed to date_trunc: hour, day or week.
+     */
+    @Builder.Default
+    private String trendInterval = "hour";
+
+    /**
+     * Whether the criteria only restrict dimensions kept in the hourly exception_rollup
+     * table, so the summary can be served from the rollup instead of the base table.
+     */
+    public boolean supportsRollup() {
+        return isEmpty(customerIds) && isEmpty(locationCodes)
+                && (searchTerm == null || searchTerm.trim().isEmpty())
+                && retryable == null
+                && (acknowledgedBy == null || acknowledgedBy.trim().isEmpty())
+                && hasRetries == null;
+    }
+
+    private static boolean isEmpty(List<?> values) {
+        return values == null || values.isEmpty();
+    }
+}
@@ -0,0 +1,228 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository;
+
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionSeverity;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
+import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import com.arcone.biopro.exception.collector.infrastructure.repository.search.ExceptionSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Single-pass aggregation queries for exception dashboard summaries.
+ * Computes the total, the per-interface-type, per-severity and per-status
+ * breakdowns, trend buckets and key metrics with one
+ * {@code GROUP BY GROUPING SETS} query instead of one COUNT per enum value,
+ * either over interface_exceptions or over the hourly exception_rollup table.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ExceptionSummaryRepository {
+
+    private static final Set<String> TREND_INTERVALS = Set.of("hour", "day", "week");
+
+    // GROUPING(interface_type, severity, status, bucket) bitmask for each grouping set
+    private static final int BY_INTERFACE_TYPE = 0b0111;
+    private static final int BY_SEVERITY = 0b1011;
+    private static final int BY_STATUS = 0b1101;
+    private static final int BY_TREND_BUCKET = 0b1110;
+    private static final int GRAND_TOTAL = 0b1111;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Aggregates exceptions matching the criteria in a single query.
+     *
+     * @param criteria the date range, filters and trend interval
+     * @return the aggregated summary
+     */
+    public ExceptionSummaryAggregate aggregate(ExceptionSummaryCriteria criteria) {
+        String bucket = bucketExpression(criteria, "ie.timestamp");
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromDate", criteria.getFromDate())
+                .addValue("toDate", criteria.getToDate());
+
+        String sql = "SELECT ie.interface_type, ie.severity, ie.status, " + bucket + " AS bucket, "
+                + "GROUPING(ie.interface_type, ie.severity, ie.status, " + bucket + ") AS grouping_id, "
+                + "COUNT(*) AS total_count, "
+                + "COUNT(DISTINCT ie.customer_id) AS customer_count, "
+                + "COUNT(*) FILTER (WHERE ie.severity = 'CRITICAL') AS critical_count, "
+                + "AVG(EXTRACT(EPOCH FROM (ie.resolved_at - ie.timestamp)) / 3600) "
+                + "FILTER (WHERE ie.resolved_at IS NOT NULL) AS avg_resolution_hours, "
+                + "COALESCE(SUM(ra.attempts), 0) AS retry_attempts, "
+                + "COALESCE(SUM(ra.successes), 0) AS successful_retries "
+                + "FROM interface_exceptions ie "
+                + "LEFT JOIN (SELECT exception_id, COUNT(*) AS attempts, "
+                + "COUNT(*) FILTER (WHERE result_success) AS successes "
+                + "FROM retry_attempts WHERE initiated_at BETWEEN :fromDate AND :toDate "
+                + "GROUP BY exception_id) ra ON ra.exception_id = ie.id "
+                + "WHERE " + buildWhereClause(criteria, params) + " "
+                + "GROUP BY GROUPING SETS ((), (ie.interface_type), (ie.severity), (ie.status), (" + bucket + "))";
+
+        return query(sql, params, criteria);
+    }
+
+    /**
+     * Aggregates exceptions matching the criteria from the hourly exception_rollup table.
+     * The range is widened to whole hour buckets and only the dimensions kept in the
+     * rollup can be filtered, see {@link ExceptionSummaryCriteria#supportsRollup()}.
+     * Distinct customers are not additive across buckets and are counted from the base table.
+     *
+     * @param criteria the date range, rollup dimension filters and trend interval
+     * @return the aggregated summary
+     */
+    public ExceptionSummaryAggregate aggregateFromRollup(ExceptionSummaryCriteria criteria) {
+        String bucket = bucketExpression(criteria, "r.bucket_start");
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromDate", criteria.getFromDate())
+                .addValue("toDate", criteria.getToDate());
+
+        List<String> rollupConditions = new ArrayList<>();
+        rollupConditions.add("r.bucket_start BETWEEN DATE_TRUNC('hour', :fromDate) AND :toDate");
+        addDimensionConditions(rollupConditions, params, criteria, "r");
+
+        List<String> customerConditions = new ArrayList<>();
+        customerConditions.add("ie.timestamp BETWEEN DATE_TRUNC('hour', :fromDate) AND :toDate");
+        addDimensionConditions(customerConditions, params, criteria, "ie");
+
+        String sql = "SELECT r.interface_type, r.severity, r.status, " + bucket + " AS bucket, "
+                + "GROUPING(r.interface_type, r.severity, r.status, " + bucket + ") AS grouping_id, "
+                + "SUM(r.exception_count) AS total_count, "
+                + "(SELECT COUNT(DISTINCT ie.customer_id) FROM interface_exceptions ie WHERE "
+                + String.join(" AND ", customerConditions) + ") AS customer_count, "
+                + "COALESCE(SUM(r.exception_count) FILTER (WHERE r.severity = 'CRITICAL'), 0) AS critical_count, "
+                + "SUM(r.resolution_hours_sum) / NULLIF(SUM(r.resolved_count), 0) AS avg_resolution_hours, "
+                + "COALESCE(SUM(r.retry_attempts), 0) AS retry_attempts, "
+                + "COALESCE(SUM(r.successful_retries), 0) AS successful_retries "
+                + "FROM exception_rollup r "
+                + "WHERE " + String.join(" AND ", rollupConditions) + " "
+                + "GROUP BY GROUPING SETS ((), (r.interface_type), (r.severity), (r.status), (" + bucket + "))";
+
+        return query(sql, params, criteria);
+    }
+
+    private String bucketExpression(ExceptionSummaryCriteria criteria, String column) {
+        String interval = TREND_INTERVALS.contains(criteria.getTrendInterval()) ? criteria.getTrendInterval() : "hour";
+        // The bucket expression is inlined (from a fixed allow-list) so the select list and
+        // the grouping set refer to the same expression
+        return "date_trunc('" + interval + "', " + column + ")";
+    }
+
+    private ExceptionSummaryAggregate query(String sql, MapSqlParameterSource params,
+            ExceptionSummaryCriteria criteria) {
+        long start = System.nanoTime();
+        ExceptionSummaryAggregate.ExceptionSummaryAggregateBuilder result = ExceptionSummaryAggregate.builder();
+        Map<InterfaceType, Long> byInterfaceType = new EnumMap<>(InterfaceType.class);
+        Map<ExceptionSeverity, Long> bySeverity = new EnumMap<>(ExceptionSeverity.class);
+        Map<ExceptionStatus, Long> byStatus = new EnumMap<>(ExceptionStatus.class);
+        Map<OffsetDateTime, Long> trend = new TreeMap<>();
+
+        jdbcTemplate.query(sql, params, (ResultSet rs) -> {
+            long count = rs.getLong("total_count");
+            switch (rs.getInt("grouping_id")) {
+                case BY_INTERFACE_TYPE -> putEnum(byInterfaceType, InterfaceType.class, rs.getString("interface_type"), count);
+                case BY_SEVERITY -> putEnum(bySeverity, ExceptionSeverity.class, rs.getString("severity"), count);
+                case BY_STATUS -> putEnum(byStatus, ExceptionStatus.class, rs.getString("status"), count);
+                case BY_TREND_BUCKET -> trend.put(rs.getObject("bucket", OffsetDateTime.class), count);
+                case GRAND_TOTAL -> readGrandTotal(rs, result);
+                default -> log.warn("Unexpected summary grouping id: {}", rs.getInt("grouping_id"));
+            }
+        });
+
+        log.debug("Summary aggregation for {} to {} completed in {} ms", criteria.getFromDate(),
+                criteria.getToDate(), (System.nanoTime() - start) / 1_000_000);
+
+        return result
+                .byInterfaceType(byInterfaceType)
+                .bySeverity(bySeverity)
+                .byStatus(byStatus)
+                .trend(trend)
+                .build();
+    }
+
+    private void readGrandTotal(ResultSet rs, ExceptionSummaryAggregate.ExceptionSummaryAggregateBuilder result)
+            throws SQLException {
+        double averageResolution = rs.getDouble("avg_resolution_hours");
+        result.totalCount(rs.getLong("total_count"))
+                .customerImpactCount(rs.getLong("customer_count"))
+                .criticalCount(rs.getLong("critical_count"))
+                .averageResolutionHours(rs.wasNull() ? null : averageResolution)
+                .retryAttempts(rs.getLong("retry_attempts"))
+                .successfulRetries(rs.getLong("successful_retries"));
+    }
+
+    private String buildWhereClause(ExceptionSummaryCriteria criteria, MapSqlParameterSource params) {
+        List<String> conditions = new ArrayList<>();
+        conditions.add("ie.timestamp BETWEEN :fromDate AND :toDate");
+
+        addDimensionConditions(conditions, params, criteria, "ie");
+        addInCondition(conditions, params, "ie.customer_id", "customerIds", criteria.getCustomerIds());
+        addInCondition(conditions, params, "ie.location_code", "locationCodes", criteria.getLocationCodes());
+
+        if (criteria.getSearchTerm() != null && !criteria.getSearchTerm().trim().isEmpty()) {
+            conditions.add("ie.exception_reason ILIKE :searchTerm ESCAPE '\\'");
+            params.addValue("searchTerm", "%" + ExceptionSearchRepository.escapeLike(criteria.getSearchTerm().trim()) + "%");
+        }
+        if (criteria.getRetryable() != null) {
+            conditions.add("ie.retryable = :retryable");
+            params.addValue("retryable", criteria.getRetryable());
+        }
+        if (criteria.getAcknowledgedBy() != null && !criteria.getAcknowledgedBy().trim().isEmpty()) {
+            conditions.add("ie.acknowledged_by = :acknowledgedBy");
+            params.addValue("acknowledgedBy", criteria.getAcknowledgedBy().trim());
+        }
+        if (criteria.getHasRetries() != null) {
+            conditions.add(criteria.getHasRetries() ? "ie.retry_count > 0" : "ie.retry_count = 0");
+        }
+
+        return String.join(" AND ", conditions);
+    }
+
+    /**
+     * Adds the filters on columns shared by interface_exceptions and exception_rollup.
+     */
+    private void addDimensionConditions(List<String> conditions, MapSqlParameterSource params,
+            ExceptionSummaryCriteria criteria, String alias) {
+        addInCondition(conditions, params, alias + ".interface_type", "interfaceTypes",
+                enumNames(criteria.getInterfaceTypes()));
+        addInCondition(conditions, params, alias + ".status", "statuses", enumNames(criteria.getStatuses()));
+        addInCondition(conditions, params, alias + ".severity", "severities", enumNames(criteria.getSeverities()));
+        addInCondition(conditions, params, alias + ".category", "categories", enumNames(criteria.getCategories()));
+        if (Boolean.TRUE.equals(criteria.getExcludeResolved())) {
+            conditions.add(alias + ".status NOT IN ('RESOLVED', 'CLOSED')");
+        }
+    }
+
+    private void addInCondition(List<String> conditions, MapSqlParameterSource params, String column,
+            String paramName, List<String> values) {
+        if (values != null && !values.isEmpty()) {
+            conditions.add(column + " IN (:" + paramName + ")");
+            params.addValue(paramName, values);
+        }
+    }
+
+    private List<String> enumNames(List<? extends Enum<?>> values) {
+        return values == null ? null : values.stream().map(Enum::name).toList();
+    }
+
+    private <E extends Enum<E>> void putEnum(Map<E, Long> target, Class<E> type, String value, long count) {
+        try {
+            target.put(Enum.valueOf(type, value), count);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            log.warn("Ignoring unknown {} value in summary: {}", type.getSimpleName(), value);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionSeverity;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
 import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.ExceptionStateSnapshot;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -35,6 +36,23 @@ public interface InterfaceExceptionRepository
          */
         Optional<InterfaceException> findByTransactionId(String transactionId);
 
+        /**
+         * Find the validation state of an exception and its latest retry attempt
+         * with a single query, without loading the entity or its payload columns.
+         *
+         * @param transactionId the unique transaction identifier
+         * @return Optional containing the state snapshot if the exception exists
+         */
+        @Query("SELECT new com.arcone.biopro.exception.collector.infrastructure.repository.projection.ExceptionStateSnapshot(" +
+                        "ie.id, ie.transactionId, ie.status, ie.retryable, ie.retryCount, ie.maxRetries, " +
+                        "ie.createdAt, ie.updatedAt, ra.attemptNumber, ra.status, ra.initiatedAt) " +
+                        "FROM InterfaceException ie " +
+                        "LEFT JOIN ie.retryAttempts ra " +
+                        "WHERE ie.transactionId = :transactionId " +
+                        "AND (ra.id IS NULL OR ra.attemptNumber = " +
+                        "(SELECT MAX(r.attemptNumber) FROM RetryAttempt r WHERE r.interfaceException = ie))")
+        Optional<ExceptionStateSnapshot> findStateSnapshotByTransactionId(@Param("transactionId") String transactionId);
+
         /**
          * Find an exception by its transaction ID with eager loading of retry attempts.
          * This prevents LazyInitializationException during GraphQL serialization.
@@ -67,6 +85,35 @@ public interface InterfaceExceptionRepository
          */
         List<InterfaceException> findByTransactionIdIn(Set<String> transactionIds);
 
+        /**
+         * Find exceptions still waiting for order data enrichment that were processed
+         * before the given time, oldest first.
+         * Used by the enrichment sweeper to recover work that was never queued.
+         *
+         * @param processedBefore only return exceptions processed before this time
+         * @param pageable        maximum number of exceptions to return
+         * @return pending exceptions ordered by processing time
+         */
+        List<InterfaceException> findByOrderRetrievalPendingTrueAndProcessedAtBeforeOrderByProcessedAtAsc(
+                        OffsetDateTime processedBefore, Pageable pageable);
+
+        /**
+         * Find exceptions after the given (processing time, ID) position,
+         * ordered by processing time and ID, so pages move on even when many
+         * exceptions share one processing time. Used to pick up exceptions
+         * ingested by other instances into the in-memory search index.
+         *
+         * @param processedAt processing time of the last exception already read
+         * @param id          ID of the last exception already read
+         * @param pageable    maximum number of exceptions to return
+         * @return exceptions ordered by processing time and ID
+         */
+        @Query("SELECT ie FROM InterfaceException ie " +
+                        "WHERE ie.processedAt > :processedAt OR (ie.processedAt = :processedAt AND ie.id > :id) " +
+                        "ORDER BY ie.processedAt ASC, ie.id ASC")
+        List<InterfaceException> findProcessedAfter(@Param("processedAt") OffsetDateTime processedAt,
+                        @Param("id") Long id, Pageable pageable);
+
         /**
          * Find all exceptions with pagination and sorting support.
          * 
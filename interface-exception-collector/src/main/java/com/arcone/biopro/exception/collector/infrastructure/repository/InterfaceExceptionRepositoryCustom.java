@@ -10,6 +10,7 @@ import org.springframework.data.domain.Sort;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Custom repository interface for complex InterfaceException queries.
@@ -89,4 +90,98 @@ public interface InterfaceExceptionRepositoryCustom {
                         String excludeTransactionId,
                         Sort sort,
                         int limit);
-}
\ No newline at end of file
+
+        /**
+         * Find one keyset page of exceptions with filters.
+         * Pushes the cursor position and the row limit into the query so only
+         * the requested page is read from the database.
+         *
+         * @param interfaceType optional interface type filter
+         * @param status        optional status filter
+         * @param severity      optional severity filter
+         * @param customerId    optional customer ID filter
+         * @param fromDate      optional start date filter
+         * @param toDate        optional end date filter
+         * @param pageRequest   sort, cursor position and row limit
+         * @return exceptions following the cursor position, at most
+         *         {@code pageRequest.limit} rows
+         */
+        List<InterfaceException> findWithFiltersKeyset(
+                        InterfaceType interfaceType,
+                        ExceptionStatus status,
+                        ExceptionSeverity severity,
+                        String customerId,
+                        OffsetDateTime fromDate,
+                        OffsetDateTime toDate,
+                        KeysetPageRequest pageRequest);
+
+        /**
+         * Stream exceptions with filters through a server-side cursor.
+         * Rows are fetched from the database {@code fetchSize} at a time and
+         * detached once read, so memory stays constant regardless of how many
+         * rows match. Must be called inside a transaction, and the stream must
+         * be closed to release the cursor.
+         *
+         * @param interfaceType optional interface type filter
+         * @param status        optional status filter
+         * @param severity      optional severity filter
+         * @param customerId    optional customer ID filter
+         * @param fromDate      optional start date filter
+         * @param toDate        optional end date filter
+         * @param sort          sorting parameters
+         * @param fetchSize     number of rows fetched per database round trip
+         * @return stream of exceptions matching the filters
+         */
+        Stream<InterfaceException> streamWithFilters(
+                        InterfaceType interfaceType,
+                        ExceptionStatus status,
+                        ExceptionSeverity severity,
+                        String customerId,
+                        OffsetDateTime fromDate,
+                        OffsetDateTime toDate,
+                        Sort sort,
+                        int fetchSize);
+
+        /**
+         * Count exceptions matching the filters.
+         *
+         * @param interfaceType optional interface type filter
+         * @param status        optional status filter
+         * @param severity      optional severity filter
+         * @param customerId    optional customer ID filter
+         * @param fromDate      optional start date filter
+         * @param toDate        optional end date filter
+         * @return number of matching exceptions
+         */
+        long countWithFilters(
+                        InterfaceType interfaceType,
+                        ExceptionStatus status,
+                        ExceptionSeverity severity,
+                        String customerId,
+                        OffsetDateTime fromDate,
+                        OffsetDateTime toDate);
+
+        /**
+         * Search one keyset page of exceptions in the specified fields.
+         *
+         * @param searchQuery  the search query string
+         * @param searchFields list of fields to search in
+         * @param pageRequest  sort, cursor position and row limit
+         * @return matching exceptions following the cursor position
+         */
+        List<InterfaceException> searchInFieldsKeyset(
+                        String searchQuery,
+                        List<String> searchFields,
+                        KeysetPageRequest pageRequest);
+
+        /**
+         * Count exceptions matching a search in the specified fields.
+         *
+         * @param searchQuery  the search query string
+         * @param searchFields list of fields to search in
+         * @return number of matching exceptions
+         */
+        long countSearchInFields(
+                        String searchQuery,
+                        List<String> searchFields);
+}
@@ -9,6 +9,8 @@ import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.*;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -18,6 +20,8 @@ import org.springframework.stereotype.Repository;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Implementation of custom repository methods for InterfaceException.
@@ -27,6 +31,13 @@ import java.util.List;
 @Slf4j
 public class InterfaceExceptionRepositoryImpl implements InterfaceExceptionRepositoryCustom {
 
+    /**
+     * Sort properties whose column allows NULL; keyset pages order these
+     * NULLS LAST, or NULLS FIRST when reading backwards, and the seek predicate
+     * treats NULL as the final or the leading block accordingly.
+     */
+    private static final Set<String> NULLABLE_SORT_PROPERTIES = Set.of("customerId", "acknowledgedAt", "resolvedAt");
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -249,6 +260,11 @@ public class InterfaceExceptionRepositoryImpl implements InterfaceExceptionRepos
                 case "operation":
                     searchPredicates.add(cb.like(cb.lower(root.get("operation")), searchPattern));
                     break;
+                case "customerId":
+                    searchPredicates.add(cb.and(
+                            cb.isNotNull(root.get("customerId")),
+                            cb.like(cb.lower(root.get("customerId")), searchPattern)));
+                    break;
                 default:
                     log.warn("Unknown search field: {}", field);
                     break;
@@ -329,4 +345,299 @@ public class InterfaceExceptionRepositoryImpl implements InterfaceExceptionRepos
         typedQuery.setMaxResults(limit);
         return typedQuery.getResultList();
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<InterfaceException> findWithFiltersKeyset(
+            InterfaceType interfaceType,
+            ExceptionStatus status,
+            ExceptionSeverity severity,
+            String customerId,
+            OffsetDateTime fromDate,
+            OffsetDateTime toDate,
+            KeysetPageRequest pageRequest) {
+
+        log.debug("Finding exceptions keyset page: interfaceType={}, status={}, severity={}, customerId={}, "
+                + "fromDate={}, toDate={}, pageRequest={}",
+                interfaceType, status, severity, customerId, fromDate, toDate, pageRequest);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<InterfaceException> query = cb.createQuery(InterfaceException.class);
+        Root<InterfaceException> root = query.from(InterfaceException.class);
+
+        List<Predicate> predicates = buildFilterPredicates(cb, root, interfaceType, status, severity,
+                customerId, fromDate, toDate);
+
+        return executeKeysetQuery(cb, query, root, predicates, pageRequest);
+    }
+
+    @Override
+    public Stream<InterfaceException> streamWithFilters(
+            InterfaceType interfaceType,
+            ExceptionStatus status,
+            ExceptionSeverity severity,
+            String customerId,
+            OffsetDateTime fromDate,
+            OffsetDateTime toDate,
+            Sort sort,
+            int fetchSize) {
+
+        log.debug("Streaming exceptions with filters: interfaceType={}, status={}, severity={}, customerId={}, "
+                + "fromDate={}, toDate={}, fetchSize={}",
+                interfaceType, status, severity, customerId, fromDate, toDate, fetchSize);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<InterfaceException> query = cb.createQuery(InterfaceException.class);
+        Root<InterfaceException> root = query.from(InterfaceException.class);
+
+        List<Predicate> predicates = buildFilterPredicates(cb, root, interfaceType, status, severity,
+                customerId, fromDate, toDate);
+        if (!predicates.isEmpty()) {
+            query.where(cb.and(predicates.toArray(new Predicate[0])));
+        }
+
+        if (sort != null && sort.isSorted()) {
+            List<Order> orders = new ArrayList<>();
+            for (Sort.Order sortOrder : sort) {
+                Path<?> path = root.get(sortOrder.getProperty());
+                orders.add(sortOrder.isAscending() ? cb.asc(path) : cb.desc(path));
+            }
+            query.orderBy(orders);
+        } else {
+            query.orderBy(cb.desc(root.get("timestamp")));
+        }
+
+        // A fetch size inside a read-only transaction makes the PostgreSQL driver
+        // read through a cursor instead of buffering the whole result set
+        TypedQuery<InterfaceException> typedQuery = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+
+        return typedQuery.getResultStream().peek(entityManager::detach);
+    }
+
+    @Override
+    public long countWithFilters(
+            InterfaceType interfaceType,
+            ExceptionStatus status,
+            ExceptionSeverity severity,
+            String customerId,
+            OffsetDateTime fromDate,
+            OffsetDateTime toDate) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<InterfaceException> root = countQuery.from(InterfaceException.class);
+        countQuery.select(cb.count(root));
+
+        List<Predicate> predicates = buildFilterPredicates(cb, root, interfaceType, status, severity,
+                customerId, fromDate, toDate);
+        if (!predicates.isEmpty()) {
+            countQuery.where(cb.and(predicates.toArray(new Predicate[0])));
+        }
+
+        return entityManager.createQuery(countQuery).getSingleResult();
+    }
+
+    @Override
+    public List<InterfaceException> searchInFieldsKeyset(
+            String searchQuery,
+            List<String> searchFields,
+            KeysetPageRequest pageRequest) {
+
+        log.debug("Searching exceptions keyset page: query='{}', fields={}, pageRequest={}",
+                searchQuery, searchFields, pageRequest);
+
+        if (searchQuery == null || searchQuery.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<InterfaceException> query = cb.createQuery(InterfaceException.class);
+        Root<InterfaceException> root = query.from(InterfaceException.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate searchPredicate = buildSearchPredicate(cb, root, searchQuery, searchFields);
+        if (searchPredicate != null) {
+            predicates.add(searchPredicate);
+        }
+
+        return executeKeysetQuery(cb, query, root, predicates, pageRequest);
+    }
+
+    @Override
+    public long countSearchInFields(String searchQuery, List<String> searchFields) {
+        if (searchQuery == null || searchQuery.trim().isEmpty()) {
+            return 0;
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<InterfaceException> root = countQuery.from(InterfaceException.class);
+        countQuery.select(cb.count(root));
+
+        Predicate searchPredicate = buildSearchPredicate(cb, root, searchQuery, searchFields);
+        if (searchPredicate != null) {
+            countQuery.where(searchPredicate);
+        }
+
+        return entityManager.createQuery(countQuery).getSingleResult();
+    }
+
+    /**
+     * Applies keyset ordering, the cursor seek predicate and the row limit,
+     * then executes the query.
+     */
+    private List<InterfaceException> executeKeysetQuery(
+            CriteriaBuilder cb,
+            CriteriaQuery<InterfaceException> query,
+            Root<InterfaceException> root,
+            List<Predicate> predicates,
+            KeysetPageRequest pageRequest) {
+
+        String sortProperty = pageRequest.getSortProperty();
+        boolean nullable = NULLABLE_SORT_PROPERTIES.contains(sortProperty);
+
+        if (pageRequest.hasCursor()) {
+            predicates.add(buildSeekPredicate(cb, root, pageRequest, nullable));
+        }
+        if (!predicates.isEmpty()) {
+            query.where(cb.and(predicates.toArray(new Predicate[0])));
+        }
+
+        query.orderBy(
+                keysetOrder(cb, root.get(sortProperty), pageRequest.getDirection(), nullable,
+                        pageRequest.isNullsLast()),
+                keysetOrder(cb, root.get("transactionId"), pageRequest.getTieBreakerDirection(), false, true));
+
+        TypedQuery<InterfaceException> typedQuery = entityManager.createQuery(query);
+        typedQuery.setMaxResults(pageRequest.getLimit());
+        return typedQuery.getResultList();
+    }
+
+    /**
+     * Builds the predicate selecting rows strictly after the cursor position.
+     * For a descending sort this is
+     * {@code key <= :value AND (key < :value OR (key = :value AND transactionId > :id))};
+     * the redundant range bound lets the database use it as an index condition.
+     * Nullable sort keys are ordered NULLS LAST, so NULL rows follow every value,
+     * or NULLS FIRST for reversed requests, so only non-NULL rows and later NULL
+     * rows follow a NULL cursor.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Predicate buildSeekPredicate(
+            CriteriaBuilder cb,
+            Root<InterfaceException> root,
+            KeysetPageRequest pageRequest,
+            boolean nullable) {
+
+        Path<Comparable> key = root.get(pageRequest.getSortProperty());
+        Path<String> transactionId = root.get("transactionId");
+        String afterTransactionId = pageRequest.getAfterTransactionId();
+        Predicate tieBreaker = pageRequest.getTieBreakerDirection().isAscending()
+                ? cb.greaterThan(transactionId, afterTransactionId)
+                : cb.lessThan(transactionId, afterTransactionId);
+
+        Comparable afterValue = (Comparable) pageRequest.getAfterValue();
+        if (afterValue == null) {
+            Predicate laterNull = cb.and(cb.isNull(key), tieBreaker);
+            // The NULL block is either the end of the order or followed by every value
+            return pageRequest.isNullsLast() ? laterNull : cb.or(laterNull, cb.isNotNull(key));
+        }
+
+        boolean ascending = pageRequest.getDirection().isAscending();
+        Predicate strictlyAfter = ascending ? cb.greaterThan(key, afterValue) : cb.lessThan(key, afterValue);
+        Predicate seek = cb.or(strictlyAfter, cb.and(cb.equal(key, afterValue), tieBreaker));
+
+        if (nullable && pageRequest.isNullsLast()) {
+            return cb.or(seek, cb.isNull(key));
+        }
+
+        Predicate rangeBound = ascending
+                ? cb.greaterThanOrEqualTo(key, afterValue)
+                : cb.lessThanOrEqualTo(key, afterValue);
+        return cb.and(rangeBound, seek);
+    }
+
+    private Order keysetOrder(CriteriaBuilder cb, Path<?> path, Sort.Direction direction, boolean nullable,
+            boolean nullsLast) {
+        if (nullable && cb instanceof HibernateCriteriaBuilder hcb) {
+            return direction.isAscending() ? hcb.asc(path, !nullsLast) : hcb.desc(path, !nullsLast);
+        }
+        return direction.isAscending() ? cb.asc(path) : cb.desc(path);
+    }
+
+    private List<Predicate> buildFilterPredicates(
+            CriteriaBuilder cb,
+            Root<InterfaceException> root,
+            InterfaceType interfaceType,
+            ExceptionStatus status,
+            ExceptionSeverity severity,
+            String customerId,
+            OffsetDateTime fromDate,
+            OffsetDateTime toDate) {
+
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (interfaceType != null) {
+            predicates.add(cb.equal(root.get("interfaceType"), interfaceType));
+        }
+
+        if (status != null) {
+            predicates.add(cb.equal(root.get("status"), status));
+        }
+
+        if (severity != null) {
+            predicates.add(cb.equal(root.get("severity"), severity));
+        }
+
+        if (customerId != null && !customerId.trim().isEmpty()) {
+            predicates.add(cb.equal(root.get("customerId"), customerId));
+        }
+
+        if (fromDate != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("timestamp"), fromDate));
+        }
+
+        if (toDate != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("timestamp"), toDate));
+        }
+
+        return predicates;
+    }
+
+    private Predicate buildSearchPredicate(
+            CriteriaBuilder cb,
+            Root<InterfaceException> root,
+            String searchQuery,
+            List<String> searchFields) {
+
+        List<Predicate> searchPredicates = new ArrayList<>();
+        String searchPattern = "%" + searchQuery.toLowerCase() + "%";
+
+        for (String field : searchFields) {
+            switch (field) {
+                case "exceptionReason":
+                    searchPredicates.add(cb.like(cb.lower(root.get("exceptionReason")), searchPattern));
+                    break;
+                case "externalId":
+                    searchPredicates.add(cb.and(
+                            cb.isNotNull(root.get("externalId")),
+                            cb.like(cb.lower(root.get("externalId")), searchPattern)));
+                    break;
+                case "operation":
+                    searchPredicates.add(cb.like(cb.lower(root.get("operation")), searchPattern));
+                    break;
+                case "customerId":
+                    searchPredicates.add(cb.and(
+                            cb.isNotNull(root.get("customerId")),
+                            cb.like(cb.lower(root.get("customerId")), searchPattern)));
+                    break;
+                default:
+                    log.warn("Unknown search field: {}", field);
+                    break;
+            }
+        }
+
+        return searchPredicates.isEmpty() ? null : cb.or(searchPredicates.toArray(new Predicate[0]));
+    }
+}
@@ -0,0 +1,70 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Keyset (seek) pagination request for InterfaceException queries.
+ * Rows are ordered by {@code sortProperty} and then by {@code transactionId}
+ * as a unique tie-breaker. When a cursor position is present, only rows that
+ * come strictly after {@code (afterValue, afterTransactionId)} in that order
+ * are returned, so the database can seek on an index instead of scanning and
+ * discarding an offset.
+ */
+@Data
+@Builder
+public class KeysetPageRequest {
+
+    @Builder.Default
+    private String sortProperty = "timestamp";
+
+    @Builder.Default
+    private Sort.Direction direction = Sort.Direction.DESC;
+
+    /**
+     * Sort key value of the last row already seen; may be null for nullable
+     * sort properties.
+     */
+    private Object afterValue;
+
+    /**
+     * Transaction ID of the last row already seen, or null for the first page.
+     */
+    private String afterTransactionId;
+
+    /**
+     * Maximum number of rows to fetch. Callers ask for one more row than the
+     * page size to detect whether a further page exists.
+     */
+    private int limit;
+
+    /**
+     * Whether this request reads the caller's order backwards, for last/before
+     * pages. Nullable sort keys then order NULLS FIRST, so the flipped page keeps
+     * the NULLS LAST order of forward pages.
+     */
+    private boolean reversed;
+
+    public boolean hasCursor() {
+        return afterTransactionId != null;
+    }
+
+    /**
+     * Whether NULL values of a nullable sort key come after all other values in
+     * the order this request reads.
+     */
+    public boolean isNullsLast() {
+        return !reversed;
+    }
+
+    /**
+     * Direction of the transaction ID tie-breaker. It runs opposite to the sort
+     * direction so that timestamp ordering in either direction is a straight
+     * forward or backward scan of idx_exceptions_cursor_pagination
+     * (timestamp DESC, transaction_id).
+     */
+    public Sort.Direction getTieBreakerDirection() {
+        return direction.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+    }
+}
@@ -188,9 +188,11 @@ public interface OptimizedExceptionRepository extends JpaRepository<InterfaceExc
      * exceptions in a single query to reduce database round trips.
      * 
      * @param transactionIds list of transaction IDs to validate
-     * @return List of validation data arrays [transactionId, status, retryable, retryCount, maxRetries]
+     * @return List of validation data arrays
+     *         [transactionId, status, retryable, retryCount, maxRetries, pendingRetries]
      */
-    @Query("SELECT ie.transactionId, ie.status, ie.retryable, ie.retryCount, ie.maxRetries " +
+    @Query("SELECT ie.transactionId, ie.status, ie.retryable, ie.retryCount, ie.maxRetries, " +
+           "(SELECT COUNT(ra) FROM RetryAttempt ra WHERE ra.interfaceException = ie AND ra.status = 'PENDING') " +
            "FROM InterfaceException ie " +
            "WHERE ie.transactionId IN :transactionIds")
     @QueryHints({
@@ -0,0 +1,24 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Size and age of the events waiting in the outbox table.
+ */
+@Data
+@Builder
+public class OutboxBacklog {
+
+    private long pendingEvents;
+
+    /**
+     * Events parked after their last allowed attempt, kept for inspection.
+     */
+    private long parkedEvents;
+
+    /**
+     * Seconds since the oldest waiting event was written, 0 when the outbox is empty.
+     */
+    private double lagSeconds;
+}
@@ -0,0 +1,45 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.OffsetDateTime;
+
+/**
+ * An outbound Kafka event stored in the outbox table.
+ */
+@Data
+@Builder
+public class OutboxRecord {
+
+    /**
+     * Assigned by the database; relay order.
+     */
+    private Long id;
+
+    private String topic;
+
+    private String messageKey;
+
+    /**
+     * Java type of the event, sent as the JSON type header.
+     */
+    private String eventType;
+
+    /**
+     * Event serialized as JSON.
+     */
+    private String payload;
+
+    private OffsetDateTime createdAt;
+
+    /**
+     * Number of failed sends so far.
+     */
+    private int attempts;
+
+    /**
+     * Error of the last failed send.
+     */
+    private String lastError;
+}
@@ -0,0 +1,148 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * JDBC access to the outbox table. Writers insert in the caller's transaction;
+ * the relay reads and deletes in id order under an advisory lock, so only one
+ * instance relays at a time and events with the same key keep their order.
+ * Failed sends are counted per event, and parked events are no longer read.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    /**
+     * Advisory lock key that serializes relaying across instances.
+     */
+    static final long RELAY_LOCK_KEY = 0x6f7574626f78L;
+
+    private static final String INSERT = """
+            INSERT INTO outbox (topic, message_key, event_type, payload)
+            VALUES (:topic, :messageKey, :eventType, :payload)
+            """;
+
+    private static final String FIND_NEXT_BATCH = """
+            SELECT id, topic, message_key, event_type, payload, created_at, attempts
+            FROM outbox
+            WHERE parked_at IS NULL
+            ORDER BY id
+            LIMIT :limit
+            """;
+
+    private static final String RECORD_FAILED_ATTEMPT = """
+            UPDATE outbox
+            SET attempts = :attempts,
+                last_error = :lastError,
+                parked_at = CASE WHEN :parked THEN NOW() END
+            WHERE id = :id
+            """;
+
+    private static final String FIND_BACKLOG = """
+            SELECT COUNT(*) FILTER (WHERE parked_at IS NULL) AS pending_events,
+                   COUNT(*) FILTER (WHERE parked_at IS NOT NULL) AS parked_events,
+                   COALESCE(EXTRACT(EPOCH FROM (NOW() - MIN(created_at) FILTER (WHERE parked_at IS NULL))), 0)
+                       AS lag_seconds
+            FROM outbox
+            """;
+
+    private static final RowMapper<OutboxRecord> ROW_MAPPER = (rs, rowNum) -> OutboxRecord.builder()
+            .id(rs.getLong("id"))
+            .topic(rs.getString("topic"))
+            .messageKey(rs.getString("message_key"))
+            .eventType(rs.getString("event_type"))
+            .payload(rs.getString("payload"))
+            .createdAt(rs.getObject("created_at", OffsetDateTime.class))
+            .attempts(rs.getInt("attempts"))
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the records as one JDBC batch.
+     */
+    public void insertAll(List<OutboxRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = records.stream()
+                .map(record -> new MapSqlParameterSource()
+                        .addValue("topic", record.getTopic())
+                        .addValue("messageKey", record.getMessageKey())
+                        .addValue("eventType", record.getEventType())
+                        .addValue("payload", record.getPayload()))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(INSERT, batch);
+    }
+
+    /**
+     * Tries to take the transaction-scoped relay lock. Returns false when another
+     * instance is already relaying.
+     */
+    public boolean tryAcquireRelayLock() {
+        Boolean acquired = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(:key)",
+                new MapSqlParameterSource("key", RELAY_LOCK_KEY), Boolean.class);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    /**
+     * Returns the oldest waiting events in id order, skipping parked events.
+     */
+    public List<OutboxRecord> findNextBatch(int limit) {
+        return jdbcTemplate.query(FIND_NEXT_BATCH, new MapSqlParameterSource("limit", limit), ROW_MAPPER);
+    }
+
+    /**
+     * Removes relayed events.
+     */
+    public void deleteByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM outbox WHERE id IN (:ids)", new MapSqlParameterSource("ids", ids));
+    }
+
+    /**
+     * Stores the attempt count and last error of events whose send failed, parking
+     * those that have used their last attempt.
+     *
+     * @param failed      the failed events, with their attempt count already incremented
+     * @param maxAttempts attempts after which an event is parked
+     */
+    public void recordFailedAttempts(List<OutboxRecord> failed, int maxAttempts) {
+        if (failed.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = failed.stream()
+                .map(record -> new MapSqlParameterSource()
+                        .addValue("id", record.getId())
+                        .addValue("attempts", record.getAttempts())
+                        .addValue("lastError", record.getLastError())
+                        .addValue("parked", record.getAttempts() >= maxAttempts))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(RECORD_FAILED_ATTEMPT, batch);
+    }
+
+    /**
+     * Counts the waiting and parked events and measures the age of the oldest one against the
+     * database clock.
+     */
+    public OutboxBacklog findBacklog() {
+        return jdbcTemplate.queryForObject(FIND_BACKLOG, new MapSqlParameterSource(),
+                (rs, rowNum) -> OutboxBacklog.builder()
+                        .pendingEvents(rs.getLong("pending_events"))
+                        .parkedEvents(rs.getLong("parked_events"))
+                        .lagSeconds(rs.getDouble("lag_seconds"))
+                        .build());
+    }
+}
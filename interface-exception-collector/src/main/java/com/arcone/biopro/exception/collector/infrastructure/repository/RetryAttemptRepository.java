@@ -3,6 +3,7 @@ package com.arcone.biopro.exception.collector.infrastructure.repository;
 import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
 import com.arcone.biopro.exception.collector.domain.entity.RetryAttempt;
 import com.arcone.biopro.exception.collector.domain.enums.RetryStatus;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.RetryAttemptView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -235,6 +237,32 @@ public interface RetryAttemptRepository extends JpaRepository<RetryAttempt, Long
          */
         List<RetryAttempt> findByInterfaceExceptionIn(List<InterfaceException> exceptions);
 
+        /**
+         * Find retry attempt projections for a set of exception IDs, ordered by
+         * exception and attempt number. Only reads retry_attempts; the exceptions
+         * themselves are not loaded.
+         *
+         * @param exceptionIds IDs of the exceptions to find retry attempts for
+         * @return retry attempt projections ordered by exception ID and attempt number
+         */
+        @Query("SELECT new com.arcone.biopro.exception.collector.infrastructure.repository.projection.RetryAttemptView(" +
+                        "ra.interfaceException.id, ra.id, ra.attemptNumber, ra.status, ra.initiatedBy, ra.initiatedAt, " +
+                        "ra.completedAt, ra.resultSuccess, ra.resultMessage, ra.resultResponseCode, ra.resultErrorDetails) " +
+                        "FROM RetryAttempt ra " +
+                        "WHERE ra.interfaceException.id IN :exceptionIds " +
+                        "ORDER BY ra.interfaceException.id, ra.attemptNumber")
+        List<RetryAttemptView> findViewsByExceptionIdIn(@Param("exceptionIds") Collection<Long> exceptionIds);
+
+        /**
+         * Find retry attempts with a given status for a collection of exceptions.
+         * Used to load the attempts created by a bulk retry.
+         *
+         * @param exceptions collection of exceptions to find retry attempts for
+         * @param status     the retry status to filter by
+         * @return List of matching retry attempts
+         */
+        List<RetryAttempt> findByInterfaceExceptionInAndStatus(List<InterfaceException> exceptions, RetryStatus status);
+
         /**
          * Count retry attempts within a date range.
          * 
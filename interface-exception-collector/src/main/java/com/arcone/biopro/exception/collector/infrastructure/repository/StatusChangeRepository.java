@@ -2,12 +2,14 @@ package com.arcone.biopro.exception.collector.infrastructure.repository;
 
 import com.arcone.biopro.exception.collector.domain.entity.StatusChange;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.StatusChangeView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -32,6 +34,22 @@ public interface StatusChangeRepository extends JpaRepository<StatusChange, Long
     List<StatusChange> findByInterfaceExceptionTransactionIdInOrderByChangedAtDesc(
             @Param("transactionIds") Set<String> transactionIds);
 
+    /**
+     * Finds status change projections for a set of exception IDs, grouped by
+     * exception and most recent first. Only reads exception_status_changes; the
+     * exceptions themselves are not loaded.
+     *
+     * @param exceptionIds IDs of the exceptions to find status changes for
+     * @return status change projections ordered by exception ID and changed_at DESC
+     */
+    @Query("SELECT new com.arcone.biopro.exception.collector.infrastructure.repository.projection.StatusChangeView(" +
+            "sc.interfaceException.id, sc.id, sc.fromStatus, sc.toStatus, sc.changedBy, sc.changedAt, " +
+            "sc.reason, sc.notes) " +
+            "FROM StatusChange sc " +
+            "WHERE sc.interfaceException.id IN :exceptionIds " +
+            "ORDER BY sc.interfaceException.id, sc.changedAt DESC")
+    List<StatusChangeView> findViewsByExceptionIdIn(@Param("exceptionIds") Collection<Long> exceptionIds);
+
     /**
      * Finds all status changes for a specific exception by transaction ID,
      * ordered by change timestamp in descending order.
@@ -0,0 +1,71 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository.projection;
+
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.domain.entity.RetryAttempt;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
+import com.arcone.biopro.exception.collector.domain.enums.RetryStatus;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Immutable view of the state of one exception that mutation validation
+ * depends on: status, retry limits and the latest retry attempt. Instantiated
+ * by a JPQL constructor expression, so the constructor argument order must
+ * match the query in
+ * {@link com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository#findStateSnapshotByTransactionId(String)}.
+ * The update timestamp serves as the row version.
+ */
+@Value
+@AllArgsConstructor
+public class ExceptionStateSnapshot {
+    Long id;
+    String transactionId;
+    ExceptionStatus status;
+    Boolean retryable;
+    Integer retryCount;
+    Integer maxRetries;
+    OffsetDateTime createdAt;
+    OffsetDateTime updatedAt;
+    Integer latestAttemptNumber;
+    RetryStatus latestRetryStatus;
+    OffsetDateTime latestRetryInitiatedAt;
+
+    /**
+     * Builds a snapshot from a loaded exception and its latest retry attempt.
+     *
+     * @param exception     the exception
+     * @param latestAttempt the retry attempt with the highest attempt number, or null
+     */
+    public static ExceptionStateSnapshot of(InterfaceException exception, RetryAttempt latestAttempt) {
+        return new ExceptionStateSnapshot(
+                exception.getId(),
+                exception.getTransactionId(),
+                exception.getStatus(),
+                exception.getRetryable(),
+                exception.getRetryCount(),
+                exception.getMaxRetries(),
+                exception.getCreatedAt(),
+                exception.getUpdatedAt(),
+                latestAttempt != null ? latestAttempt.getAttemptNumber() : null,
+                latestAttempt != null ? latestAttempt.getStatus() : null,
+                latestAttempt != null ? latestAttempt.getInitiatedAt() : null);
+    }
+
+    public boolean isMarkedRetryable() {
+        return Boolean.TRUE.equals(retryable);
+    }
+
+    public boolean hasRetryAttempts() {
+        return latestRetryStatus != null;
+    }
+
+    public boolean isPendingRetry() {
+        return latestRetryStatus == RetryStatus.PENDING;
+    }
+
+    public boolean isRetryLimitReached() {
+        return retryCount != null && maxRetries != null && retryCount >= maxRetries;
+    }
+}
@@ -0,0 +1,29 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository.projection;
+
+import com.arcone.biopro.exception.collector.domain.enums.RetryStatus;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Read-only projection of a retry attempt with the columns exposed by the
+ * GraphQL RetryAttempt type. Instantiated by JPQL constructor expressions, so
+ * the constructor argument order must match the queries in
+ * {@link com.arcone.biopro.exception.collector.infrastructure.repository.RetryAttemptRepository}.
+ */
+@Value
+@AllArgsConstructor
+public class RetryAttemptView {
+    Long exceptionId;
+    Long id;
+    Integer attemptNumber;
+    RetryStatus status;
+    String initiatedBy;
+    OffsetDateTime initiatedAt;
+    OffsetDateTime completedAt;
+    Boolean resultSuccess;
+    String resultMessage;
+    Integer resultResponseCode;
+    String resultErrorDetails;
+}
@@ -0,0 +1,26 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository.projection;
+
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Read-only projection of a status change with the columns exposed by the
+ * GraphQL StatusChange type. Instantiated by JPQL constructor expressions, so
+ * the constructor argument order must match the queries in
+ * {@link com.arcone.biopro.exception.collector.infrastructure.repository.StatusChangeRepository}.
+ */
+@Value
+@AllArgsConstructor
+public class StatusChangeView {
+    Long exceptionId;
+    Long id;
+    ExceptionStatus fromStatus;
+    ExceptionStatus toStatus;
+    String changedBy;
+    OffsetDateTime changedAt;
+    String reason;
+    String notes;
+}
@@ -0,0 +1,205 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository.search;
+
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.infrastructure.config.ExceptionSearchProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Ranked text search over exception reasons, external IDs, operations and
+ * customer IDs.
+ *
+ * On PostgreSQL, substring matches are served by pg_trgm GIN indexes and
+ * multi-word reason searches by the to_tsvector indexes (see V4, V29, V32).
+ * Results are ranked by an exact match on a field, then a prefix match, then
+ * trigram word similarity and full-text rank. On other databases, such as H2
+ * in tests, the same plan runs with plain LIKE predicates and the match-kind
+ * ranking only.
+ */
+@Repository
+@Slf4j
+public class ExceptionSearchRepository {
+
+    private static final Map<String, String> COLUMNS = Map.of(
+            "exceptionReason", "exception_reason",
+            "externalId", "external_id",
+            "operation", "operation",
+            "customerId", "customer_id");
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "timestamp", "timestamp",
+            "processedAt", "processed_at",
+            "status", "status",
+            "severity", "severity",
+            "interfaceType", "interface_type",
+            "retryCount", "retry_count",
+            "customerId", "customer_id",
+            "externalId", "external_id",
+            "transactionId", "transaction_id");
+
+    private final ExceptionSearchProperties properties;
+    private final SearchQueryPlanner planner;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    public ExceptionSearchRepository(ExceptionSearchProperties properties) {
+        this.properties = properties;
+        this.planner = new SearchQueryPlanner(properties.getMinSubstringLength(), properties.getMinFullTextWords());
+    }
+
+    /**
+     * Searches exceptions in the given fields, most relevant first unless the
+     * sort names another property.
+     *
+     * @param searchQuery  the search query string
+     * @param searchFields fields to search in (exceptionReason, externalId, operation, customerId)
+     * @param sort         sorting parameters; unsorted or {@code relevance} ranks by relevance
+     * @return at most {@code app.search.max-results} matching exceptions
+     */
+    public List<InterfaceException> search(String searchQuery, List<String> searchFields, Sort sort) {
+        return search(searchQuery, searchFields, sort, null);
+    }
+
+    /**
+     * Searches exceptions in the given fields with a timestamp from the given
+     * time on.
+     *
+     * @param searchQuery  the search query string
+     * @param searchFields fields to search in (exceptionReason, externalId, operation, customerId)
+     * @param sort         sorting parameters; unsorted or {@code relevance} ranks by relevance
+     * @param fromDate     optional earliest exception timestamp
+     * @return at most {@code app.search.max-results} matching exceptions
+     */
+    @SuppressWarnings("unchecked")
+    public List<InterfaceException> search(String searchQuery, List<String> searchFields, Sort sort,
+            OffsetDateTime fromDate) {
+        SearchPlan plan = planner.plan(searchQuery, searchFields);
+        if (plan.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String sql = buildSql(plan, sort, isPostgres(), fromDate != null);
+        log.debug("Ranked search for '{}' with plan {}", plan.term(), plan.fieldMatches());
+
+        String escaped = escapeLike(plan.term());
+        Query query = entityManager.createNativeQuery(sql, InterfaceException.class)
+                .setParameter("term", plan.term())
+                .setParameter("prefix", escaped + "%")
+                .setParameter("contains", "%" + escaped + "%")
+                .setMaxResults(properties.getMaxResults());
+        if (fromDate != null) {
+            query.setParameter("fromDate", fromDate);
+        }
+        return query.getResultList();
+    }
+
+    static String buildSql(SearchPlan plan, Sort sort, boolean postgres) {
+        return buildSql(plan, sort, postgres, false);
+    }
+
+    /**
+     * Builds the search statement for a plan. Named parameters are
+     * {@code :term}, {@code :prefix}, {@code :contains} and, for windowed
+     * searches, {@code :fromDate}.
+     */
+    static String buildSql(SearchPlan plan, Sort sort, boolean postgres, boolean windowed) {
+        List<String> predicates = new ArrayList<>();
+        List<String> ranks = new ArrayList<>();
+        plan.fieldMatches().forEach((field, match) -> {
+            String column = "ie." + COLUMNS.get(field);
+            predicates.add(predicate(column, match, postgres));
+            ranks.add(rank(column, match, postgres));
+        });
+
+        String rank = ranks.size() == 1 ? ranks.get(0) : "GREATEST(" + String.join(", ", ranks) + ")";
+        String where = String.join(" OR ", predicates);
+        if (windowed) {
+            where = "(" + where + ") AND ie.timestamp >= :fromDate";
+        }
+
+        return "SELECT ie.* FROM interface_exceptions ie WHERE "
+                + where
+                + " ORDER BY " + orderBy(sort, rank);
+    }
+
+    private static String predicate(String column, SearchMatch match, boolean postgres) {
+        String lower = "LOWER(" + column + ")";
+        return switch (match) {
+            case PREFIX -> lower + " LIKE :prefix ESCAPE '\\'";
+            case SUBSTRING -> lower + " LIKE :contains ESCAPE '\\'";
+            case FULL_TEXT -> postgres
+                    ? "(to_tsvector('english', " + column + ") @@ plainto_tsquery('english', :term) OR "
+                            + lower + " LIKE :contains ESCAPE '\\')"
+                    : lower + " LIKE :contains ESCAPE '\\'";
+        };
+    }
+
+    /**
+     * Exact field matches rank 3, prefix matches 2 and other matches 1; on
+     * PostgreSQL trigram word similarity and full-text rank (both below 1)
+     * order matches of the same kind.
+     */
+    private static String rank(String column, SearchMatch match, boolean postgres) {
+        String lower = "LOWER(" + column + ")";
+        String kind = "CASE WHEN " + lower + " = :term THEN 3"
+                + " WHEN " + lower + " LIKE :prefix ESCAPE '\\' THEN 2"
+                + " WHEN " + lower + " LIKE :contains ESCAPE '\\' THEN 1 ELSE 0 END";
+        if (!postgres) {
+            return kind;
+        }
+        String similarity = "COALESCE(word_similarity(:term, " + lower + "), 0)";
+        if (match == SearchMatch.FULL_TEXT) {
+            similarity += " + ts_rank(to_tsvector('english', COALESCE(" + column
+                    + ", '')), plainto_tsquery('english', :term))";
+        }
+        return "(" + kind + " + " + similarity + ")";
+    }
+
+    private static String orderBy(Sort sort, String rank) {
+        List<String> orders = new ArrayList<>();
+        if (sort != null) {
+            for (Sort.Order order : sort) {
+                String column = SORT_COLUMNS.get(order.getProperty());
+                if (column != null) {
+                    orders.add("ie." + column + (order.isAscending() ? " ASC" : " DESC"));
+                }
+            }
+        }
+        orders.add(rank + " DESC");
+        orders.add("ie.timestamp DESC");
+        orders.add("ie.id DESC");
+        return orders.stream().distinct().collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Escapes LIKE wildcards so user input matches literally; use with {@code ESCAPE '\'}.
+     */
+    public static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+            postgres = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,381 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository.search;
+
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over recent exceptions, for searches that only
+ * cover the last hours or days.
+ *
+ * Searches match like the database search of a {@link SearchPlan}: the whole
+ * lower-cased term must be a prefix or a substring of one of the searched
+ * fields, and hits rank by an exact field match, then a prefix match, then a
+ * substring match. Candidates are found through the lower-case trigrams of
+ * each field value and then checked against the stored value, so the index
+ * returns exactly the rows the database predicate returns. Full-text matches
+ * are not supported and have to go to the database.
+ *
+ * Documents are kept in time segments by exception timestamp. Each segment
+ * numbers its documents from zero, so posting lists hold small ints (see
+ * {@link PostingList}), and old exceptions are evicted by dropping whole
+ * segments. An exception whose indexed fields change is indexed again and
+ * its old document is marked deleted. The index knows from which timestamp
+ * on it is complete, so callers can tell whether a query window can be
+ * answered here or has to go to the database.
+ */
+public class HotExceptionIndex {
+
+    /**
+     * Indexed fields, in the order of their values in a document.
+     */
+    public static final List<String> FIELDS = List.of("exceptionReason", "externalId", "operation", "customerId");
+
+    /**
+     * Best matches first, then newest first.
+     */
+    public static final Comparator<Hit> BY_RELEVANCE = Comparator.comparingInt(Hit::score).reversed()
+            .thenComparing(Comparator.comparingLong(Hit::timestamp).reversed())
+            .thenComparing(Comparator.comparingLong(Hit::exceptionId).reversed());
+
+    public static final Comparator<Hit> NEWEST_FIRST = Comparator.comparingLong(Hit::timestamp).reversed()
+            .thenComparing(Comparator.comparingLong(Hit::exceptionId).reversed());
+
+    public static final Comparator<Hit> OLDEST_FIRST = Comparator.comparingLong(Hit::timestamp)
+            .thenComparingLong(Hit::exceptionId);
+
+    private static final int GRAM = 3;
+
+    /**
+     * A matching exception. The score is the best match over the searched
+     * fields: 3 for an exact match, 2 for a prefix and 1 for a substring, as
+     * in the database ranking.
+     */
+    public record Hit(long exceptionId, long timestamp, int score) {
+    }
+
+    private record DocRef(Segment segment, int doc) {
+    }
+
+    private final long segmentMillis;
+    private final int maxDocuments;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<Long, Segment> segments = new TreeMap<>();
+    private final Map<Long, DocRef> documents = new HashMap<>();
+
+    private volatile long completeFrom = Long.MAX_VALUE;
+    private volatile long evictedBefore = Long.MIN_VALUE;
+
+    public HotExceptionIndex(Duration segmentDuration, int maxDocuments) {
+        this.segmentMillis = Math.max(1, segmentDuration.toMillis());
+        this.maxDocuments = maxDocuments;
+    }
+
+    /**
+     * Indexes a new or updated exception. An exception that is already indexed
+     * with the same values, or is older than the evicted range, is ignored.
+     *
+     * @return whether the exception was indexed
+     */
+    public boolean add(InterfaceException exception) {
+        if (exception.getId() == null || exception.getTimestamp() == null) {
+            return false;
+        }
+        long timestamp = exception.getTimestamp().toInstant().toEpochMilli();
+        String[] values = {
+                lowerCase(exception.getExceptionReason()), lowerCase(exception.getExternalId()),
+                lowerCase(exception.getOperation()), lowerCase(exception.getCustomerId())
+        };
+
+        lock.writeLock().lock();
+        try {
+            if (timestamp < evictedBefore) {
+                return false;
+            }
+            DocRef indexed = documents.get(exception.getId());
+            if (indexed != null) {
+                if (indexed.segment.timestamps[indexed.doc] == timestamp
+                        && Arrays.equals(indexed.segment.values[indexed.doc], values)) {
+                    return false;
+                }
+                indexed.segment.delete(indexed.doc);
+            }
+            Segment segment = segments.computeIfAbsent(Math.floorDiv(timestamp, segmentMillis) * segmentMillis,
+                    Segment::new);
+            documents.put(exception.getId(), new DocRef(segment, segment.add(exception.getId(), timestamp, values)));
+
+            while (documents.size() > maxDocuments && segments.size() > 1) {
+                Segment oldest = segments.firstEntry().getValue();
+                dropSegment(oldest);
+                evictedBefore = Math.max(evictedBefore, oldest.start + segmentMillis);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    /**
+     * Drops all segments that end before the cutoff. Exceptions older than the
+     * cutoff are no longer indexed afterwards.
+     *
+     * @return number of dropped documents
+     */
+    public int evictBefore(long cutoffMillis) {
+        lock.writeLock().lock();
+        try {
+            evictedBefore = Math.max(evictedBefore, cutoffMillis);
+            int dropped = 0;
+            while (!segments.isEmpty() && segments.firstKey() + segmentMillis <= cutoffMillis) {
+                dropped += dropSegment(segments.firstEntry().getValue());
+            }
+            return dropped;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Records that all exceptions with a timestamp from the given time on have
+     * been indexed, e.g. once the index has been loaded from the database.
+     */
+    public void markCompleteFrom(long fromMillis) {
+        lock.writeLock().lock();
+        try {
+            completeFrom = Math.min(completeFrom, fromMillis);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Whether every exception with a timestamp from the given time on is in
+     * the index.
+     */
+    public boolean covers(long fromMillis) {
+        return fromMillis >= Math.max(completeFrom, evictedBefore);
+    }
+
+    /**
+     * Searches exceptions with a timestamp from the given time on.
+     *
+     * @param plan       the normalized term and the prefix or substring match per field
+     * @param fromMillis earliest exception timestamp
+     * @param order      result order, e.g. {@link #BY_RELEVANCE}
+     * @param limit      maximum number of hits
+     * @return matching exceptions in the given order
+     * @throws IllegalArgumentException if the plan asks for a full-text match
+     */
+    public List<Hit> search(SearchPlan plan, long fromMillis, Comparator<Hit> order, int limit) {
+        List<Hit> hits = new ArrayList<>();
+        if (plan.isEmpty()) {
+            return hits;
+        }
+        int[] fieldIndexes = new int[plan.fieldMatches().size()];
+        SearchMatch[] matches = new SearchMatch[fieldIndexes.length];
+        int fieldCount = 0;
+        for (Map.Entry<String, SearchMatch> entry : plan.fieldMatches().entrySet()) {
+            if (entry.getValue() == SearchMatch.FULL_TEXT) {
+                throw new IllegalArgumentException("Full-text matches are not supported by the in-memory index");
+            }
+            int field = FIELDS.indexOf(entry.getKey());
+            if (field >= 0) {
+                fieldIndexes[fieldCount] = field;
+                matches[fieldCount++] = entry.getValue();
+            }
+        }
+        if (fieldCount == 0) {
+            return hits;
+        }
+        fieldIndexes = Arrays.copyOf(fieldIndexes, fieldCount);
+        Set<String> grams = grams(plan.term());
+
+        lock.readLock().lock();
+        try {
+            Long firstSegment = segments.floorKey(fromMillis);
+            for (Segment segment : segments.tailMap(firstSegment != null ? firstSegment : fromMillis, true)
+                    .values()) {
+                segment.search(plan.term(), grams, fieldIndexes, matches, fromMillis, hits);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(order);
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int trigramCount() {
+        lock.readLock().lock();
+        try {
+            return segments.values().stream().mapToInt(segment -> segment.grams.size()).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int dropSegment(Segment segment) {
+        segments.remove(segment.start);
+        int dropped = 0;
+        for (int doc = 0; doc < segment.size; doc++) {
+            if (segment.isLive(doc)) {
+                documents.remove(segment.ids[doc]);
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    private static String lowerCase(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : null;
+    }
+
+    /**
+     * The distinct trigrams of a lower-cased value; values shorter than a
+     * trigram have none.
+     */
+    static Set<String> grams(String value) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (value == null) {
+            return grams;
+        }
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    /**
+     * How well a lower-cased field value matches the term: 3 for an exact
+     * match, 2 for a prefix, 1 for a substring (only if allowed) and 0 for no
+     * match.
+     */
+    static int score(String value, String term, SearchMatch match) {
+        if (value == null) {
+            return 0;
+        }
+        if (value.startsWith(term)) {
+            return value.length() == term.length() ? 3 : 2;
+        }
+        return match == SearchMatch.SUBSTRING && value.contains(term) ? 1 : 0;
+    }
+
+    /**
+     * Exceptions whose timestamp falls into one time slot. Trigrams are keyed by
+     * field index and trigram, e.g. "1:ord", and documents replaced by a later
+     * version of their exception are marked deleted.
+     */
+    private static final class Segment {
+
+        private final long start;
+        private final Map<String, PostingList> grams = new HashMap<>();
+        private final BitSet deleted = new BitSet();
+        private long[] ids = new long[64];
+        private long[] timestamps = new long[64];
+        private String[][] values = new String[64][];
+        private int size;
+
+        private Segment(long start) {
+            this.start = start;
+        }
+
+        private int add(long id, long timestamp, String[] fieldValues) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                timestamps = Arrays.copyOf(timestamps, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            int doc = size++;
+            ids[doc] = id;
+            timestamps[doc] = timestamp;
+            values[doc] = fieldValues;
+            for (int field = 0; field < fieldValues.length; field++) {
+                for (String gram : grams(fieldValues[field])) {
+                    grams.computeIfAbsent(field + ":" + gram, key -> new PostingList()).add(doc);
+                }
+            }
+            return doc;
+        }
+
+        private void delete(int doc) {
+            deleted.set(doc);
+        }
+
+        private boolean isLive(int doc) {
+            return !deleted.get(doc);
+        }
+
+        private void search(String term, Set<String> termGrams, int[] fieldIndexes, SearchMatch[] matches,
+                long fromMillis, List<Hit> hits) {
+            BitSet candidates = new BitSet(size);
+            if (termGrams.isEmpty()) {
+                // Terms shorter than a trigram are checked against every document
+                candidates.set(0, size);
+            } else {
+                for (int field : fieldIndexes) {
+                    candidates.or(containingAll(field, termGrams));
+                }
+            }
+            candidates.andNot(deleted);
+
+            for (int doc = candidates.nextSetBit(0); doc >= 0; doc = candidates.nextSetBit(doc + 1)) {
+                if (timestamps[doc] < fromMillis) {
+                    continue;
+                }
+                int score = 0;
+                for (int i = 0; i < fieldIndexes.length; i++) {
+                    score = Math.max(score, score(values[doc][fieldIndexes[i]], term, matches[i]));
+                }
+                if (score > 0) {
+                    hits.add(new Hit(ids[doc], timestamps[doc], score));
+                }
+            }
+        }
+
+        /**
+         * Documents whose value of the field contains every given trigram.
+         */
+        private BitSet containingAll(int field, Set<String> termGrams) {
+            BitSet result = null;
+            for (String gram : termGrams) {
+                PostingList postings = grams.get(field + ":" + gram);
+                if (postings == null) {
+                    return new BitSet();
+                }
+                BitSet docs = new BitSet(size);
+                postings.orInto(docs);
+                if (result == null) {
+                    result = docs;
+                } else {
+                    result.and(docs);
+                }
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            return result;
+        }
+    }
+}
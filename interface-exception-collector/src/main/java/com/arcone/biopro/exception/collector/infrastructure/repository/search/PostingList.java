@@ -0,0 +1,67 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Document numbers containing a term, in ascending order.
+ *
+ * Sparse lists are kept as a sorted int array; once a list holds more than one
+ * in {@link #DENSE_RATIO} of the documents seen so far it switches to a bitmap,
+ * which is then smaller than the array. This is the array/bitmap container
+ * split used by Roaring bitmaps, over a single segment.
+ */
+class PostingList {
+
+    static final int DENSE_RATIO = 32;
+    private static final int MIN_BITMAP_SIZE = 64;
+
+    private int[] docs = new int[4];
+    private int size;
+    private BitSet bitmap;
+
+    /**
+     * Adds a document number; numbers must be added in ascending order.
+     */
+    void add(int doc) {
+        if (bitmap != null) {
+            bitmap.set(doc);
+            return;
+        }
+        if (size > 0 && docs[size - 1] == doc) {
+            return;
+        }
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+        }
+        docs[size++] = doc;
+        if (size >= MIN_BITMAP_SIZE && (long) size * DENSE_RATIO > doc) {
+            bitmap = new BitSet(doc + 1);
+            for (int i = 0; i < size; i++) {
+                bitmap.set(docs[i]);
+            }
+            docs = null;
+        }
+    }
+
+    /**
+     * Sets the bits of all documents in this list on the target.
+     */
+    void orInto(BitSet target) {
+        if (bitmap != null) {
+            target.or(bitmap);
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            target.set(docs[i]);
+        }
+    }
+
+    int size() {
+        return bitmap != null ? bitmap.cardinality() : size;
+    }
+
+    boolean isBitmap() {
+        return bitmap != null;
+    }
+}
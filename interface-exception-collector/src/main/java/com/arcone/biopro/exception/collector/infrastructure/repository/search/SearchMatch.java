@@ -0,0 +1,23 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository.search;
+
+/**
+ * How a search term is matched against a single field.
+ */
+public enum SearchMatch {
+
+    /**
+     * {@code LOWER(field) LIKE 'term%'}, served by the text_pattern_ops indexes.
+     */
+    PREFIX,
+
+    /**
+     * {@code LOWER(field) LIKE '%term%'}, served by the pg_trgm GIN indexes.
+     */
+    SUBSTRING,
+
+    /**
+     * English full-text match served by the to_tsvector GIN indexes, combined
+     * with a substring match so no row found by a substring search is lost.
+     */
+    FULL_TEXT
+}
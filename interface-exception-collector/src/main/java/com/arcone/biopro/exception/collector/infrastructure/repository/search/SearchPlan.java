@@ -0,0 +1,16 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository.search;
+
+import java.util.Map;
+
+/**
+ * The normalized search term and how it is matched against each searched field.
+ *
+ * @param term         the lower-cased search term with collapsed whitespace
+ * @param fieldMatches match type per searched field, in search field order
+ */
+public record SearchPlan(String term, Map<String, SearchMatch> fieldMatches) {
+
+    public boolean isEmpty() {
+        return term.isEmpty() || fieldMatches.isEmpty();
+    }
+}
@@ -0,0 +1,66 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository.search;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Picks how a search term is matched against each field based on the shape of
+ * the query.
+ *
+ * Terms shorter than the trigram length only match field prefixes, since a
+ * trigram index cannot serve them and one or two characters match most rows as
+ * a substring. Multi-word terms on exception reasons use full-text search.
+ * Everything else, including identifiers such as external IDs, is matched as a
+ * substring through the trigram indexes.
+ */
+public class SearchQueryPlanner {
+
+    public static final Set<String> SEARCH_FIELDS = Set.of("exceptionReason", "externalId", "operation",
+            "customerId");
+
+    private final int minSubstringLength;
+    private final int minFullTextWords;
+
+    public SearchQueryPlanner(int minSubstringLength, int minFullTextWords) {
+        this.minSubstringLength = minSubstringLength;
+        this.minFullTextWords = minFullTextWords;
+    }
+
+    public SearchPlan plan(String query, List<String> fields) {
+        String term = normalize(query);
+        if (term.isEmpty()) {
+            return new SearchPlan(term, Collections.emptyMap());
+        }
+
+        boolean shortTerm = term.length() < minSubstringLength;
+        boolean multiWord = term.split(" ").length >= minFullTextWords;
+
+        Map<String, SearchMatch> fieldMatches = new LinkedHashMap<>();
+        for (String field : fields) {
+            if (!SEARCH_FIELDS.contains(field)) {
+                continue;
+            }
+            SearchMatch match;
+            if (shortTerm) {
+                match = SearchMatch.PREFIX;
+            } else if (multiWord && "exceptionReason".equals(field)) {
+                match = SearchMatch.FULL_TEXT;
+            } else {
+                match = SearchMatch.SUBSTRING;
+            }
+            fieldMatches.putIfAbsent(field, match);
+        }
+        return new SearchPlan(term, fieldMatches);
+    }
+
+    static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
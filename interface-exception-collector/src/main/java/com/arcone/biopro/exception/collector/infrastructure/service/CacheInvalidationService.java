@@ -1,5 +1,6 @@
 package com.arcone.biopro.exception.collector.infrastructure.service;
 
+import com.arcone.biopro.exception.collector.api.graphql.service.SubscriptionEventBridge;
 import com.arcone.biopro.exception.collector.domain.event.outbound.ExceptionStatusChangedEvent;
 import com.arcone.biopro.exception.collector.domain.event.outbound.RetryAttemptCompletedEvent;
 import com.arcone.biopro.exception.collector.domain.event.outbound.RetryAttemptStartedEvent;
@@ -8,10 +9,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Service responsible for invalidating validation caches when exception status changes.
  * Listens to domain events and ensures cache consistency by removing stale data.
+ *
+ * The mutation services publish {@link SubscriptionEventBridge} events from inside
+ * their transactions. Those are handled synchronously after commit, so the next
+ * validation for the transaction reads the committed state rather than a snapshot
+ * loaded before the change.
  */
 @Service
 @RequiredArgsConstructor
@@ -33,15 +42,9 @@ public class CacheInvalidationService {
             transactionId, event.getOldStatus(), event.getNewStatus());
         
         try {
-            // Invalidate all validation caches for this transaction
+            // All operations are validated from one state snapshot per transaction
             databaseCachingService.invalidateValidationCache(transactionId);
             
-            // Invalidate operation-specific caches
-            databaseCachingService.invalidateOperationValidationCache(transactionId, "retry");
-            databaseCachingService.invalidateOperationValidationCache(transactionId, "acknowledge");
-            databaseCachingService.invalidateOperationValidationCache(transactionId, "resolve");
-            databaseCachingService.invalidateOperationValidationCache(transactionId, "cancel");
-            
             log.debug("Successfully invalidated validation caches for transaction: {}", transactionId);
         } catch (Exception e) {
             log.error("Failed to invalidate validation caches for transaction: {}", transactionId, e);
@@ -60,9 +63,8 @@ public class CacheInvalidationService {
         log.debug("Handling retry attempt started for transaction: {}", transactionId);
         
         try {
-            // Invalidate retry-specific caches since a new retry is starting
-            databaseCachingService.invalidateOperationValidationCache(transactionId, "retry");
-            databaseCachingService.invalidateOperationValidationCache(transactionId, "cancel");
+            // A new retry is pending, which changes retry and cancel validation
+            databaseCachingService.invalidateValidationCache(transactionId);
             
             log.debug("Successfully invalidated retry-related caches for transaction: {}", transactionId);
         } catch (Exception e) {
@@ -83,14 +85,8 @@ public class CacheInvalidationService {
             transactionId, event.getSuccess());
         
         try {
-            // Invalidate retry-specific caches since retry status has changed
-            databaseCachingService.invalidateOperationValidationCache(transactionId, "retry");
-            databaseCachingService.invalidateOperationValidationCache(transactionId, "cancel");
-            
-            // If retry was successful, the exception status might have changed
-            if (event.getSuccess()) {
-                databaseCachingService.invalidateValidationCache(transactionId);
-            }
+            // The latest retry is no longer pending, and on success the status has changed too
+            databaseCachingService.invalidateValidationCache(transactionId);
             
             log.debug("Successfully invalidated retry completion caches for transaction: {}", transactionId);
         } catch (Exception e) {
@@ -98,6 +94,85 @@ public class CacheInvalidationService {
         }
     }
 
+    /**
+     * Evicts the validation state of an acknowledged exception.
+     *
+     * @param event the exception acknowledged event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleExceptionAcknowledged(SubscriptionEventBridge.ExceptionAcknowledgedEvent event) {
+        invalidateQuietly(event.getException().getTransactionId());
+    }
+
+    /**
+     * Evicts the validation state of a resolved exception.
+     *
+     * @param event the exception resolved event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleExceptionResolved(SubscriptionEventBridge.ExceptionResolvedEvent event) {
+        invalidateQuietly(event.getException().getTransactionId());
+    }
+
+    /**
+     * Evicts the validation state once a retry is pending and the retry count has grown.
+     *
+     * @param event the retry initiated event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRetryInitiated(SubscriptionEventBridge.RetryInitiatedEvent event) {
+        invalidateQuietly(event.getException().getTransactionId());
+    }
+
+    /**
+     * Evicts the validation state once a retry is no longer pending.
+     *
+     * @param event the retry completed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRetryCompleted(SubscriptionEventBridge.RetryCompletedEvent event) {
+        invalidateQuietly(event.getException().getTransactionId());
+    }
+
+    /**
+     * Evicts the validation state once a retry has been cancelled.
+     *
+     * @param event the retry cancelled event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRetryCancelled(SubscriptionEventBridge.RetryCancelledEvent event) {
+        invalidateQuietly(event.getException().getTransactionId());
+    }
+
+    /**
+     * Invalidates the caches for a transaction once the current transaction has
+     * committed, or immediately when no transaction is active. For changes that
+     * publish no event.
+     *
+     * @param transactionId the transaction ID to invalidate
+     */
+    public void invalidateAfterCommit(String transactionId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateQuietly(transactionId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateQuietly(transactionId);
+            }
+        });
+    }
+
+    private void invalidateQuietly(String transactionId) {
+        try {
+            databaseCachingService.invalidateValidationCache(transactionId);
+            log.debug("Invalidated validation caches for transaction: {}", transactionId);
+        } catch (Exception e) {
+            log.error("Failed to invalidate validation caches for transaction: {}", transactionId, e);
+        }
+    }
+
     /**
      * Manually invalidate caches for a specific transaction.
      * Useful for administrative operations or when cache inconsistency is detected.
@@ -109,10 +184,6 @@ public class CacheInvalidationService {
         
         try {
             databaseCachingService.invalidateValidationCache(transactionId);
-            databaseCachingService.invalidateOperationValidationCache(transactionId, "retry");
-            databaseCachingService.invalidateOperationValidationCache(transactionId, "acknowledge");
-            databaseCachingService.invalidateOperationValidationCache(transactionId, "resolve");
-            databaseCachingService.invalidateOperationValidationCache(transactionId, "cancel");
             
             log.info("Successfully manually invalidated all caches for transaction: {}", transactionId);
         } catch (Exception e) {
@@ -1,57 +1,45 @@
 package com.arcone.biopro.exception.collector.infrastructure.service;
 
 import com.arcone.biopro.exception.collector.api.graphql.validation.ValidationResult;
-import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
-import com.arcone.biopro.exception.collector.domain.entity.RetryAttempt;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
-import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
-import com.arcone.biopro.exception.collector.infrastructure.repository.RetryAttemptRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.ExceptionStateSnapshot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
 import java.util.Optional;
 import java.util.Set;
 
 /**
- * Service for caching validation results without Redis dependency.
- * Uses Spring's simple in-memory cache to improve performance of frequently accessed validation data.
+ * Service for cached validation checks without Redis dependency.
+ * Every check is answered from the exception's {@link ExceptionStateSnapshot},
+ * which is loaded with a single query and cached by {@link ExceptionStateCache},
+ * so a full operation validation costs at most one database round trip.
  * 
- * Cache TTL is configured through application properties and cache invalidation occurs
- * when exception status changes to prevent stale data.
+ * Cache invalidation occurs when exception status changes to prevent stale data.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DatabaseCachingService {
 
-    private final InterfaceExceptionRepository exceptionRepository;
-    private final RetryAttemptRepository retryAttemptRepository;
+    private static final Set<ExceptionStatus> NON_RETRYABLE_STATUSES = Set.of(
+        ExceptionStatus.RESOLVED,
+        ExceptionStatus.CLOSED
+    );
 
-    // Cache keys for different validation types
-    private static final String EXCEPTION_EXISTENCE_CACHE = "exception-existence";
-    private static final String EXCEPTION_RETRYABLE_CACHE = "exception-retryable";
-    private static final String RETRY_COUNT_CACHE = "retry-count";
-    private static final String PENDING_RETRY_CACHE = "pending-retry";
-    private static final String EXCEPTION_STATUS_CACHE = "exception-status";
-    private static final String VALIDATION_RESULT_CACHE = "validation-result";
+    private final ExceptionStateCache exceptionStateCache;
 
     /**
-     * Caches exception existence validation results.
+     * Validates that an exception exists.
      * 
      * @param transactionId the transaction ID to validate
      * @return ValidationResult indicating if exception exists
      */
-    @Cacheable(value = EXCEPTION_EXISTENCE_CACHE, key = "#transactionId")
     public ValidationResult validateExceptionExists(String transactionId) {
-        log.debug("Validating exception existence for transaction: {} (cache miss)", transactionId);
+        Optional<ExceptionStateSnapshot> state = exceptionStateCache.get(transactionId);
         
-        Optional<InterfaceException> exception = exceptionRepository.findByTransactionId(transactionId);
-        
-        if (exception.isPresent()) {
+        if (state.isPresent()) {
             log.debug("Exception exists for transaction: {}", transactionId);
             return ValidationResult.success("existence", transactionId);
         } else {
@@ -62,25 +50,20 @@ public class DatabaseCachingService {
     }
 
     /**
-     * Caches exception retryable status validation.
+     * Validates that an exception is retryable.
      * 
      * @param transactionId the transaction ID to validate
      * @return ValidationResult indicating if exception is retryable
      */
-    @Cacheable(value = EXCEPTION_RETRYABLE_CACHE, key = "#transactionId")
     public ValidationResult validateExceptionRetryable(String transactionId) {
-        log.debug("Validating exception retryable status for transaction: {} (cache miss)", transactionId);
-        
-        Optional<InterfaceException> exceptionOpt = exceptionRepository.findByTransactionId(transactionId);
+        Optional<ExceptionStateSnapshot> stateOpt = exceptionStateCache.get(transactionId);
         
-        if (exceptionOpt.isEmpty()) {
+        if (stateOpt.isEmpty()) {
             return ValidationResult.failure("retryable", transactionId, 
                 java.util.List.of(createNotFoundError(transactionId)));
         }
         
-        InterfaceException exception = exceptionOpt.get();
-        
-        if (!exception.getRetryable()) {
+        if (!stateOpt.get().isMarkedRetryable()) {
             log.debug("Exception is not retryable for transaction: {}", transactionId);
             return ValidationResult.failure("retryable", transactionId, 
                 java.util.List.of(createNotRetryableError(transactionId)));
@@ -91,60 +74,49 @@ public class DatabaseCachingService {
     }
 
     /**
-     * Caches retry count validation results.
+     * Validates that the retry count is within limits.
      * 
      * @param transactionId the transaction ID to validate
      * @return ValidationResult indicating if retry count is within limits
      */
-    @Cacheable(value = RETRY_COUNT_CACHE, key = "#transactionId")
     public ValidationResult validateRetryCount(String transactionId) {
-        log.debug("Validating retry count for transaction: {} (cache miss)", transactionId);
-        
-        Optional<InterfaceException> exceptionOpt = exceptionRepository.findByTransactionId(transactionId);
+        Optional<ExceptionStateSnapshot> stateOpt = exceptionStateCache.get(transactionId);
         
-        if (exceptionOpt.isEmpty()) {
+        if (stateOpt.isEmpty()) {
             return ValidationResult.failure("retry_count", transactionId, 
                 java.util.List.of(createNotFoundError(transactionId)));
         }
         
-        InterfaceException exception = exceptionOpt.get();
+        ExceptionStateSnapshot state = stateOpt.get();
         
-        if (exception.getRetryCount() >= exception.getMaxRetries()) {
+        if (state.isRetryLimitReached()) {
             log.debug("Retry count exceeded for transaction: {} ({}/{})", 
-                transactionId, exception.getRetryCount(), exception.getMaxRetries());
+                transactionId, state.getRetryCount(), state.getMaxRetries());
             return ValidationResult.failure("retry_count", transactionId, 
                 java.util.List.of(createRetryLimitExceededError(transactionId, 
-                    exception.getRetryCount(), exception.getMaxRetries())));
+                    state.getRetryCount(), state.getMaxRetries())));
         }
         
         log.debug("Retry count within limits for transaction: {} ({}/{})", 
-            transactionId, exception.getRetryCount(), exception.getMaxRetries());
+            transactionId, state.getRetryCount(), state.getMaxRetries());
         return ValidationResult.success("retry_count", transactionId);
     }
 
     /**
-     * Caches pending retry validation results.
+     * Validates that no retry is pending.
      * 
      * @param transactionId the transaction ID to validate
      * @return ValidationResult indicating if there are pending retries
      */
-    @Cacheable(value = PENDING_RETRY_CACHE, key = "#transactionId")
     public ValidationResult validateNoPendingRetry(String transactionId) {
-        log.debug("Validating no pending retry for transaction: {} (cache miss)", transactionId);
+        Optional<ExceptionStateSnapshot> stateOpt = exceptionStateCache.get(transactionId);
         
-        Optional<InterfaceException> exceptionOpt = exceptionRepository.findByTransactionId(transactionId);
-        
-        if (exceptionOpt.isEmpty()) {
+        if (stateOpt.isEmpty()) {
             return ValidationResult.failure("pending_retry", transactionId, 
                 java.util.List.of(createNotFoundError(transactionId)));
         }
         
-        InterfaceException exception = exceptionOpt.get();
-        Optional<RetryAttempt> latestAttempt = retryAttemptRepository
-            .findTopByInterfaceExceptionOrderByAttemptNumberDesc(exception);
-        
-        if (latestAttempt.isPresent() && 
-            latestAttempt.get().getStatus() == com.arcone.biopro.exception.collector.domain.enums.RetryStatus.PENDING) {
+        if (stateOpt.get().isPendingRetry()) {
             log.debug("Pending retry found for transaction: {}", transactionId);
             return ValidationResult.failure("pending_retry", transactionId, 
                 java.util.List.of(createPendingRetryError(transactionId)));
@@ -155,51 +127,42 @@ public class DatabaseCachingService {
     }
 
     /**
-     * Caches exception status validation results.
+     * Validates that the exception status allows operations.
      * 
      * @param transactionId the transaction ID to validate
      * @return ValidationResult indicating if exception status allows operations
      */
-    @Cacheable(value = EXCEPTION_STATUS_CACHE, key = "#transactionId")
     public ValidationResult validateExceptionStatus(String transactionId) {
-        log.debug("Validating exception status for transaction: {} (cache miss)", transactionId);
+        Optional<ExceptionStateSnapshot> stateOpt = exceptionStateCache.get(transactionId);
         
-        Optional<InterfaceException> exceptionOpt = exceptionRepository.findByTransactionId(transactionId);
-        
-        if (exceptionOpt.isEmpty()) {
+        if (stateOpt.isEmpty()) {
             return ValidationResult.failure("status", transactionId, 
                 java.util.List.of(createNotFoundError(transactionId)));
         }
         
-        InterfaceException exception = exceptionOpt.get();
-        Set<ExceptionStatus> nonRetryableStatuses = Set.of(
-            ExceptionStatus.RESOLVED,
-            ExceptionStatus.CLOSED
-        );
+        ExceptionStatus status = stateOpt.get().getStatus();
         
-        if (nonRetryableStatuses.contains(exception.getStatus())) {
+        if (NON_RETRYABLE_STATUSES.contains(status)) {
             log.debug("Exception status does not allow retry for transaction: {} (status: {})", 
-                transactionId, exception.getStatus());
+                transactionId, status);
             return ValidationResult.failure("status", transactionId, 
-                java.util.List.of(createInvalidStatusError(transactionId, exception.getStatus())));
+                java.util.List.of(createInvalidStatusError(transactionId, status)));
         }
         
         log.debug("Exception status allows operations for transaction: {} (status: {})", 
-            transactionId, exception.getStatus());
+            transactionId, status);
         return ValidationResult.success("status", transactionId);
     }
 
     /**
-     * Caches complete validation results for retry operations.
-     * This is a higher-level cache that combines multiple validation checks.
+     * Validates an operation by combining the checks it requires.
      * 
      * @param transactionId the transaction ID to validate
      * @param operationType the type of operation (retry, acknowledge, resolve, cancel)
      * @return ValidationResult with complete validation status
      */
-    @Cacheable(value = VALIDATION_RESULT_CACHE, key = "#transactionId + ':' + #operationType")
     public ValidationResult validateForOperation(String transactionId, String operationType) {
-        log.debug("Validating {} operation for transaction: {} (cache miss)", operationType, transactionId);
+        log.debug("Validating {} operation for transaction: {}", operationType, transactionId);
         
         // Perform comprehensive validation based on operation type
         switch (operationType.toLowerCase()) {
@@ -219,49 +182,36 @@ public class DatabaseCachingService {
     }
 
     /**
-     * Invalidates all caches for a specific transaction ID.
+     * Invalidates the cached state for a specific transaction ID.
      * This should be called when exception status changes to prevent stale data.
      * 
      * @param transactionId the transaction ID to invalidate
      */
-    @CacheEvict(value = {
-        EXCEPTION_EXISTENCE_CACHE,
-        EXCEPTION_RETRYABLE_CACHE,
-        RETRY_COUNT_CACHE,
-        PENDING_RETRY_CACHE,
-        EXCEPTION_STATUS_CACHE,
-        VALIDATION_RESULT_CACHE
-    }, key = "#transactionId")
     public void invalidateValidationCache(String transactionId) {
         log.debug("Invalidating validation cache for transaction: {}", transactionId);
+        exceptionStateCache.evict(transactionId);
     }
 
     /**
-     * Invalidates validation result cache for specific operation.
+     * Invalidates the cached state used to validate a specific operation.
+     * All operations share one state snapshot, so this evicts it entirely.
      * 
      * @param transactionId the transaction ID
      * @param operationType the operation type
      */
-    @CacheEvict(value = VALIDATION_RESULT_CACHE, key = "#transactionId + ':' + #operationType")
     public void invalidateOperationValidationCache(String transactionId, String operationType) {
         log.debug("Invalidating {} operation validation cache for transaction: {}", 
             operationType, transactionId);
+        exceptionStateCache.evict(transactionId);
     }
 
     /**
-     * Clears all validation caches.
+     * Clears all cached validation state.
      * Useful for maintenance or when cache becomes inconsistent.
      */
-    @CacheEvict(value = {
-        EXCEPTION_EXISTENCE_CACHE,
-        EXCEPTION_RETRYABLE_CACHE,
-        RETRY_COUNT_CACHE,
-        PENDING_RETRY_CACHE,
-        EXCEPTION_STATUS_CACHE,
-        VALIDATION_RESULT_CACHE
-    }, allEntries = true)
     public void clearAllValidationCaches() {
         log.info("Clearing all validation caches");
+        exceptionStateCache.evictAll();
     }
 
     // Private helper methods for specific operation validations
@@ -329,26 +279,15 @@ public class DatabaseCachingService {
     }
 
     private ValidationResult validateForCancelOperation(String transactionId) {
-        // Check existence
-        ValidationResult existenceResult = validateExceptionExists(transactionId);
-        if (!existenceResult.isValid()) {
-            return existenceResult;
-        }
-
         // For cancel, we need to check if there's a pending retry to cancel
         // This is the opposite of the retry validation
-        Optional<InterfaceException> exceptionOpt = exceptionRepository.findByTransactionId(transactionId);
-        if (exceptionOpt.isEmpty()) {
-            return ValidationResult.failure("cancel", transactionId, 
+        Optional<ExceptionStateSnapshot> stateOpt = exceptionStateCache.get(transactionId);
+        if (stateOpt.isEmpty()) {
+            return ValidationResult.failure("existence", transactionId, 
                 java.util.List.of(createNotFoundError(transactionId)));
         }
 
-        InterfaceException exception = exceptionOpt.get();
-        Optional<RetryAttempt> latestAttempt = retryAttemptRepository
-            .findTopByInterfaceExceptionOrderByAttemptNumberDesc(exception);
-
-        if (latestAttempt.isEmpty() || 
-            latestAttempt.get().getStatus() != com.arcone.biopro.exception.collector.domain.enums.RetryStatus.PENDING) {
+        if (!stateOpt.get().isPendingRetry()) {
             return ValidationResult.failure("cancel", transactionId, 
                 java.util.List.of(createNoPendingRetryToCancelError(transactionId)));
         }
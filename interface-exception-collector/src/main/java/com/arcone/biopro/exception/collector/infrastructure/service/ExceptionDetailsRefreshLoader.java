@@ -0,0 +1,33 @@
+package com.arcone.biopro.exception.collector.infrastructure.service;
+
+import com.arcone.biopro.exception.collector.infrastructure.config.CacheConfig;
+import com.arcone.biopro.exception.collector.infrastructure.config.CacheRefreshLoader;
+import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reloads cached exception details by transaction ID in the background, so
+ * frequently read exceptions pick up changes made on other instances without
+ * waiting for their entry to expire.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExceptionDetailsRefreshLoader implements CacheRefreshLoader {
+
+    private final InterfaceExceptionRepository exceptionRepository;
+
+    @Override
+    public String getCacheName() {
+        return CacheConfig.EXCEPTION_DETAILS_CACHE;
+    }
+
+    /**
+     * Loads the exception as {@code ExceptionQueryService.findExceptionByTransactionId}
+     * caches it; a deleted exception drops the entry.
+     */
+    @Override
+    public Object reload(Object key) {
+        return exceptionRepository.findByTransactionId((String) key).orElse(null);
+    }
+}
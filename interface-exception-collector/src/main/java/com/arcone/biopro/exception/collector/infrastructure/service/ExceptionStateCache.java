@@ -0,0 +1,62 @@
+package com.arcone.biopro.exception.collector.infrastructure.service;
+
+import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.ExceptionStateSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Cache of {@link ExceptionStateSnapshot}s by transaction ID, shared by all
+ * mutation validators. A snapshot is loaded with one projection query and
+ * answers every existence, status, retry limit and pending retry check for
+ * its exception.
+ *
+ * Entries are bounded and expire as configured in {@code app.validation.cache},
+ * and are evicted when the exception status or its retries change (see
+ * {@link CacheInvalidationService}). Missing exceptions are not cached, so an
+ * exception is found as soon as it has been created.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExceptionStateCache {
+
+    public static final String EXCEPTION_STATE_CACHE = "exception-state";
+
+    private final InterfaceExceptionRepository exceptionRepository;
+
+    /**
+     * Returns the state snapshot for a transaction.
+     *
+     * @param transactionId the transaction ID
+     * @return the snapshot, or empty if no exception exists for the transaction
+     */
+    @Cacheable(value = EXCEPTION_STATE_CACHE, key = "#transactionId", unless = "#result == null")
+    public Optional<ExceptionStateSnapshot> get(String transactionId) {
+        log.debug("Loading exception state for transaction: {} (cache miss)", transactionId);
+        return exceptionRepository.findStateSnapshotByTransactionId(transactionId);
+    }
+
+    /**
+     * Evicts the snapshot for a transaction.
+     *
+     * @param transactionId the transaction ID
+     */
+    @CacheEvict(value = EXCEPTION_STATE_CACHE, key = "#transactionId")
+    public void evict(String transactionId) {
+        log.debug("Evicting exception state for transaction: {}", transactionId);
+    }
+
+    /**
+     * Evicts all snapshots.
+     */
+    @CacheEvict(value = EXCEPTION_STATE_CACHE, allEntries = true)
+    public void evictAll() {
+        log.info("Evicting all exception state snapshots");
+    }
+}
@@ -341,6 +341,7 @@ public class OptimizedMutationValidationService {
                         Boolean retryable = (Boolean) info[2];
                         Integer retryCount = (Integer) info[3];
                         Integer maxRetries = (Integer) info[4];
+                        boolean pendingRetry = ((Number) info[5]).longValue() > 0;
                         
                         return BatchValidationResult.builder()
                             .transactionId(txnId)
@@ -348,7 +349,9 @@ public class OptimizedMutationValidationService {
                             .retryable(retryable)
                             .retryCount(retryCount)
                             .maxRetries(maxRetries)
-                            .canRetry(retryable && RETRYABLE_STATUSES.contains(exceptionStatus) && retryCount < maxRetries)
+                            .pendingRetry(pendingRetry)
+                            .canRetry(retryable && RETRYABLE_STATUSES.contains(exceptionStatus) && retryCount < maxRetries
+                                && !pendingRetry)
                             .canAcknowledge(ACKNOWLEDGEABLE_STATUSES.contains(exceptionStatus))
                             .canResolve(RESOLVABLE_STATUSES.contains(exceptionStatus))
                             .build();
@@ -362,6 +365,20 @@ public class OptimizedMutationValidationService {
         });
     }
 
+    /**
+     * @return the statuses from which an exception can be retried
+     */
+    public List<ExceptionStatus> getRetryableStatuses() {
+        return RETRYABLE_STATUSES;
+    }
+
+    /**
+     * @return the statuses from which an exception can be acknowledged
+     */
+    public List<ExceptionStatus> getAcknowledgeableStatuses() {
+        return ACKNOWLEDGEABLE_STATUSES;
+    }
+
     /**
      * Result class for mutation validation operations.
      */
@@ -400,6 +417,7 @@ public class OptimizedMutationValidationService {
         private Boolean retryable;
         private Integer retryCount;
         private Integer maxRetries;
+        private Boolean pendingRetry;
         private Boolean canRetry;
         private Boolean canAcknowledge;
         private Boolean canResolve;
@@ -0,0 +1,38 @@
+-- V25: Pooled ID sequences for batched inserts
+-- IDENTITY/BIGSERIAL keys force Hibernate to execute each INSERT immediately to read
+-- the generated key, which silently disables hibernate.jdbc.batch_size. These sequences
+-- increment by the entity allocationSize (50) so Hibernate's pooled-lo optimizer can
+-- assign a block of IDs in memory and flush inserts as JDBC batches.
+
+CREATE SEQUENCE IF NOT EXISTS interface_exceptions_seq;
+CREATE SEQUENCE IF NOT EXISTS retry_attempts_seq;
+CREATE SEQUENCE IF NOT EXISTS order_items_seq;
+CREATE SEQUENCE IF NOT EXISTS exception_status_changes_seq;
+
+ALTER SEQUENCE interface_exceptions_seq INCREMENT BY 50;
+ALTER SEQUENCE retry_attempts_seq INCREMENT BY 50;
+ALTER SEQUENCE order_items_seq INCREMENT BY 50;
+ALTER SEQUENCE exception_status_changes_seq INCREMENT BY 50;
+
+-- Start each sequence after the highest existing ID
+SELECT setval('interface_exceptions_seq', COALESCE((SELECT MAX(id) FROM interface_exceptions), 0) + 1, false);
+SELECT setval('retry_attempts_seq', COALESCE((SELECT MAX(id) FROM retry_attempts), 0) + 1, false);
+SELECT setval('order_items_seq', COALESCE((SELECT MAX(id) FROM order_items), 0) + 1, false);
+SELECT setval('exception_status_changes_seq', COALESCE((SELECT MAX(id) FROM exception_status_changes), 0) + 1, false);
+
+-- Keep plain SQL inserts (scripts, data utilities) on the same sequences. A raw insert
+-- consumes a whole block, so it can never collide with IDs Hibernate hands out.
+ALTER TABLE interface_exceptions ALTER COLUMN id SET DEFAULT nextval('interface_exceptions_seq');
+ALTER TABLE retry_attempts ALTER COLUMN id SET DEFAULT nextval('retry_attempts_seq');
+ALTER TABLE order_items ALTER COLUMN id SET DEFAULT nextval('order_items_seq');
+ALTER TABLE exception_status_changes ALTER COLUMN id SET DEFAULT nextval('exception_status_changes_seq');
+
+ALTER SEQUENCE interface_exceptions_seq OWNED BY interface_exceptions.id;
+ALTER SEQUENCE retry_attempts_seq OWNED BY retry_attempts.id;
+ALTER SEQUENCE order_items_seq OWNED BY order_items.id;
+ALTER SEQUENCE exception_status_changes_seq OWNED BY exception_status_changes.id;
+
+COMMENT ON SEQUENCE interface_exceptions_seq IS 'Pooled-lo ID sequence for interface_exceptions (allocationSize 50)';
+COMMENT ON SEQUENCE retry_attempts_seq IS 'Pooled-lo ID sequence for retry_attempts (allocationSize 50)';
+COMMENT ON SEQUENCE order_items_seq IS 'Pooled-lo ID sequence for order_items (allocationSize 50)';
+COMMENT ON SEQUENCE exception_status_changes_seq IS 'Pooled-lo ID sequence for exception_status_changes (allocationSize 50)';
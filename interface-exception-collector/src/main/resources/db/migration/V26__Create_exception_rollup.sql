@@ -0,0 +1,92 @@
+-- V26: Incremental hourly rollup for dashboard summaries
+-- exception_summary_mv (V12) can only be refreshed by recomputing a full year of data.
+-- exception_rollup holds one row per hour bucket and dimension combination and is
+-- maintained incrementally by the application: each refresh recomputes only the current
+-- hour and the buckets whose rows changed since the last watermark.
+
+CREATE TABLE IF NOT EXISTS exception_rollup (
+    bucket_start TIMESTAMP WITH TIME ZONE NOT NULL,
+    interface_type VARCHAR(50) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    severity VARCHAR(50) NOT NULL,
+    category VARCHAR(50),
+    exception_count BIGINT NOT NULL,
+    resolved_count BIGINT NOT NULL,
+    resolution_hours_sum DOUBLE PRECISION NOT NULL,
+    retry_attempts BIGINT NOT NULL,
+    successful_retries BIGINT NOT NULL,
+    refreshed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_exception_rollup_bucket ON exception_rollup (bucket_start);
+
+-- Single-row refresh state. The watermark is compared against interface_exceptions.updated_at
+-- and retry_attempts.updated_at to find buckets that need recomputing.
+CREATE TABLE IF NOT EXISTS exception_rollup_state (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    watermark TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_refreshed_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- Buckets touched by deletes (cleanup and archiving functions). Deleted rows leave no
+-- updated_at behind, so a statement-level trigger records their buckets here instead.
+CREATE TABLE IF NOT EXISTS exception_rollup_dirty (
+    bucket_start TIMESTAMP WITH TIME ZONE PRIMARY KEY
+);
+
+CREATE OR REPLACE FUNCTION mark_exception_rollup_dirty_on_delete()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO exception_rollup_dirty (bucket_start)
+    SELECT DISTINCT DATE_TRUNC('hour', timestamp) FROM deleted_rows
+    ON CONFLICT DO NOTHING;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_exception_rollup_dirty_on_delete
+    AFTER DELETE ON interface_exceptions
+    REFERENCING OLD TABLE AS deleted_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION mark_exception_rollup_dirty_on_delete();
+
+-- Backfill existing data and start the watermark at migration time
+INSERT INTO exception_rollup (bucket_start, interface_type, status, severity, category,
+                              exception_count, resolved_count, resolution_hours_sum,
+                              retry_attempts, successful_retries)
+SELECT DATE_TRUNC('hour', ie.timestamp),
+       ie.interface_type,
+       ie.status,
+       ie.severity,
+       ie.category,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE ie.resolved_at IS NOT NULL),
+       COALESCE(SUM(EXTRACT(EPOCH FROM (ie.resolved_at - ie.timestamp)) / 3600)
+                FILTER (WHERE ie.resolved_at IS NOT NULL), 0),
+       COALESCE(SUM(ra.attempts), 0),
+       COALESCE(SUM(ra.successes), 0)
+FROM interface_exceptions ie
+LEFT JOIN (SELECT exception_id, COUNT(*) AS attempts, COUNT(*) FILTER (WHERE result_success) AS successes
+           FROM retry_attempts GROUP BY exception_id) ra ON ra.exception_id = ie.id
+GROUP BY DATE_TRUNC('hour', ie.timestamp), ie.interface_type, ie.status, ie.severity, ie.category;
+
+INSERT INTO exception_rollup_state (id, watermark, last_refreshed_at)
+VALUES (1, NOW(), NOW())
+ON CONFLICT (id) DO NOTHING;
+
+-- The dashboard no longer reads exception_summary_mv; stop the full-year pg_cron refresh
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_cron') THEN
+        PERFORM cron.unschedule('refresh-exception-summary');
+    END IF;
+EXCEPTION
+    WHEN OTHERS THEN
+        RAISE NOTICE 'Could not unschedule exception_summary_mv refresh: %', SQLERRM;
+END $$;
+
+COMMENT ON TABLE exception_rollup IS 'Hourly exception counts by interface type, status, severity and category, maintained incrementally';
+COMMENT ON COLUMN exception_rollup.resolution_hours_sum IS 'Sum of resolution hours over resolved exceptions; divide by resolved_count for the average';
+COMMENT ON COLUMN exception_rollup.retry_attempts IS 'Retry attempts for exceptions in this bucket, attributed by exception timestamp';
+COMMENT ON TABLE exception_rollup_state IS 'Watermark and last refresh time of exception_rollup';
+COMMENT ON TABLE exception_rollup_dirty IS 'Hour buckets affected by deletes, pending rollup recomputation';
@@ -0,0 +1,13 @@
+-- V27: Asynchronous order data enrichment
+-- OrderRejected exceptions are now saved before their order data is retrieved. The
+-- pending flag marks rows still waiting for enrichment so a sweeper can pick them up
+-- after a restart or when the enrichment queue was full.
+
+ALTER TABLE interface_exceptions
+ADD COLUMN IF NOT EXISTS order_retrieval_pending BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE INDEX IF NOT EXISTS idx_interface_exceptions_order_retrieval_pending
+    ON interface_exceptions (processed_at)
+    WHERE order_retrieval_pending = TRUE;
+
+COMMENT ON COLUMN interface_exceptions.order_retrieval_pending IS 'Whether order data retrieval is queued and has not completed yet';
@@ -0,0 +1,5 @@
+-- V28: Trigram support for substring search
+-- pg_trgm lets GIN indexes serve LIKE '%term%' predicates and provides the
+-- word_similarity() function used to rank search results.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
@@ -0,0 +1,29 @@
+-- V29: Trigram and prefix indexes for exception search
+-- Search predicates compare LOWER(column), so the indexes are built on the same
+-- expressions. The to_tsvector indexes from V4 keep serving full-text queries.
+
+-- Substring search: LOWER(col) LIKE '%term%' for terms of three or more characters
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interface_exceptions_reason_trgm
+ON interface_exceptions
+USING gin (LOWER(exception_reason) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interface_exceptions_external_id_trgm
+ON interface_exceptions
+USING gin (LOWER(external_id) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interface_exceptions_operation_trgm
+ON interface_exceptions
+USING gin (LOWER(operation) gin_trgm_ops);
+
+-- Prefix search: LOWER(col) LIKE 'term%' for identifiers and short terms
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interface_exceptions_external_id_prefix
+ON interface_exceptions (LOWER(external_id) text_pattern_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interface_exceptions_operation_prefix
+ON interface_exceptions (LOWER(operation) text_pattern_ops);
+
+COMMENT ON INDEX idx_interface_exceptions_reason_trgm IS 'Trigram index for substring search on exception_reason';
+COMMENT ON INDEX idx_interface_exceptions_external_id_trgm IS 'Trigram index for substring search on external_id';
+COMMENT ON INDEX idx_interface_exceptions_operation_trgm IS 'Trigram index for substring search on operation';
+COMMENT ON INDEX idx_interface_exceptions_external_id_prefix IS 'Pattern index for prefix search on external_id';
+COMMENT ON INDEX idx_interface_exceptions_operation_prefix IS 'Pattern index for prefix search on operation';
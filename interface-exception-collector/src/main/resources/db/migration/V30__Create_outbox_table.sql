@@ -0,0 +1,19 @@
+-- V30: Transactional outbox for outbound Kafka events
+-- Lifecycle, retry and alert events are written here in the transaction that produced
+-- them instead of being sent to Kafka from the request thread. A relay reads the table
+-- in id order, sends each batch and deletes the rows the broker acknowledged, so an
+-- event is published if and only if its transaction committed (at least once).
+
+CREATE TABLE IF NOT EXISTS outbox (
+    id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(255) NOT NULL,
+    message_key VARCHAR(255),
+    event_type VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+COMMENT ON TABLE outbox IS 'Outbound Kafka events waiting to be relayed, in commit order by id';
+COMMENT ON COLUMN outbox.message_key IS 'Kafka record key; events with the same key are relayed in id order';
+COMMENT ON COLUMN outbox.event_type IS 'Java type of the event, sent as the JSON type header';
+COMMENT ON COLUMN outbox.payload IS 'Event serialized as JSON';
@@ -0,0 +1,17 @@
+-- V31: Delivery attempts for outbox events
+-- The relay counts failed sends per event. An event that still fails after the
+-- configured number of attempts is parked: it stays in the table for inspection but
+-- is no longer read, so it cannot hold back its key and the rest of the outbox forever.
+
+ALTER TABLE outbox ADD COLUMN IF NOT EXISTS attempts INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE outbox ADD COLUMN IF NOT EXISTS last_error TEXT;
+ALTER TABLE outbox ADD COLUMN IF NOT EXISTS parked_at TIMESTAMP WITH TIME ZONE;
+
+-- The relay reads unparked events in id order
+CREATE INDEX IF NOT EXISTS idx_outbox_unparked ON outbox (id) WHERE parked_at IS NULL;
+
+-- Ids are assigned at insert, so a transaction that commits late can add an event with a lower id
+COMMENT ON TABLE outbox IS 'Outbound Kafka events waiting to be relayed, in insert order by id';
+COMMENT ON COLUMN outbox.attempts IS 'Number of failed sends of this event';
+COMMENT ON COLUMN outbox.last_error IS 'Error of the last failed send';
+COMMENT ON COLUMN outbox.parked_at IS 'When the event was parked after its last allowed attempt; parked events are not relayed';
@@ -0,0 +1,15 @@
+-- V32: Trigram and prefix indexes for customer ID search
+-- V29 left customer_id out, so searches on it compared LOWER(customer_id)
+-- against every row. The indexes use the same expression as the predicates.
+
+-- Substring search: LOWER(customer_id) LIKE '%term%' for terms of three or more characters
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interface_exceptions_customer_id_trgm
+ON interface_exceptions
+USING gin (LOWER(customer_id) gin_trgm_ops);
+
+-- Prefix search: LOWER(customer_id) LIKE 'term%' for short terms
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interface_exceptions_customer_id_prefix
+ON interface_exceptions (LOWER(customer_id) text_pattern_ops);
+
+COMMENT ON INDEX idx_interface_exceptions_customer_id_trgm IS 'Trigram index for substring search on customer_id';
+COMMENT ON INDEX idx_interface_exceptions_customer_id_prefix IS 'Pattern index for prefix search on customer_id';
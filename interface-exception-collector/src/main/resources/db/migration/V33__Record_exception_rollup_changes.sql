@@ -0,0 +1,85 @@
+-- V33: Record changed rollup buckets at write time
+-- Finding changed buckets by comparing updated_at with a watermark needs the watermark
+-- held back to the oldest open transaction, so any long transaction on the database froze
+-- the rollup. Writes now append the hour buckets they touch to exception_rollup_changes.
+-- A refresh claims the rows it can see; rows of transactions still open become visible,
+-- and are claimed, once they commit.
+
+-- Append-only with no unique key, so concurrent writers never wait on each other
+CREATE TABLE IF NOT EXISTS exception_rollup_changes (
+    id BIGSERIAL PRIMARY KEY,
+    bucket_start TIMESTAMP WITH TIME ZONE NOT NULL,
+    recorded_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE OR REPLACE FUNCTION record_exception_rollup_inserts()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO exception_rollup_changes (bucket_start)
+    SELECT DISTINCT DATE_TRUNC('hour', timestamp) FROM new_rows;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- An update can move an exception to another bucket, so both buckets are recorded
+CREATE OR REPLACE FUNCTION record_exception_rollup_updates()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO exception_rollup_changes (bucket_start)
+    SELECT DATE_TRUNC('hour', timestamp) FROM new_rows
+    UNION
+    SELECT DATE_TRUNC('hour', timestamp) FROM old_rows;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Retry attempts count towards the bucket of their exception
+CREATE OR REPLACE FUNCTION record_exception_rollup_retry_changes()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO exception_rollup_changes (bucket_start)
+    SELECT DISTINCT DATE_TRUNC('hour', ie.timestamp)
+    FROM new_rows ra
+    JOIN interface_exceptions ie ON ie.id = ra.exception_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_exception_rollup_changes_on_insert
+    AFTER INSERT ON interface_exceptions
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION record_exception_rollup_inserts();
+
+CREATE TRIGGER trigger_exception_rollup_changes_on_update
+    AFTER UPDATE ON interface_exceptions
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION record_exception_rollup_updates();
+
+CREATE TRIGGER trigger_exception_rollup_retry_changes_on_insert
+    AFTER INSERT ON retry_attempts
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION record_exception_rollup_retry_changes();
+
+CREATE TRIGGER trigger_exception_rollup_retry_changes_on_update
+    AFTER UPDATE ON retry_attempts
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION record_exception_rollup_retry_changes();
+
+-- Changes since the last watermark-based refresh are not recorded yet
+INSERT INTO exception_rollup_changes (bucket_start)
+SELECT DATE_TRUNC('hour', ie.timestamp)
+FROM interface_exceptions ie, exception_rollup_state s
+WHERE ie.updated_at > s.watermark - INTERVAL '1 hour'
+UNION
+SELECT DATE_TRUNC('hour', ie.timestamp)
+FROM retry_attempts ra
+JOIN interface_exceptions ie ON ie.id = ra.exception_id, exception_rollup_state s
+WHERE ra.updated_at > s.watermark - INTERVAL '1 hour';
+
+COMMENT ON TABLE exception_rollup_changes IS 'Hour buckets written since the last rollup refresh, claimed and removed by the refresh';
+COMMENT ON COLUMN exception_rollup_changes.recorded_at IS 'Transaction time of the writer; the refresh reports how long changes waited';
+COMMENT ON TABLE exception_rollup_state IS 'Claim time and last refresh time of exception_rollup';
@@ -190,7 +190,7 @@ class ExceptionControllerTest {
                 InterfaceException exception = createTestException();
                 List<InterfaceException> exceptions = List.of(exception);
 
-                when(exceptionQueryService.searchExceptions(anyString(), any(List.class), any(Sort.class)))
+                when(exceptionQueryService.searchExceptions(anyString(), any(List.class), any(Sort.class), any()))
                                 .thenReturn(exceptions);
 
                 when(exceptionMapper.toListResponse(any(List.class)))
@@ -0,0 +1,124 @@
+package com.arcone.biopro.exception.collector.api.graphql.config;
+
+import com.arcone.biopro.exception.collector.api.graphql.monitoring.GraphQLMetrics;
+import com.arcone.biopro.exception.collector.api.graphql.security.QueryAllowlistConfig;
+import com.arcone.biopro.exception.collector.api.graphql.security.QueryNotAllowedException;
+import com.arcone.biopro.exception.collector.infrastructure.config.PersistedQueryProperties;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import graphql.parser.Parser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for PersistedQueryDocumentProvider.
+ */
+class PersistedQueryDocumentProviderTest {
+
+    private static final String QUERY = "query { exceptions { totalCount } }";
+
+    private final AtomicInteger parses = new AtomicInteger();
+    private final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate = input -> {
+        parses.incrementAndGet();
+        return new PreparsedDocumentEntry(Parser.parse(input.getQuery()));
+    };
+
+    private MeterRegistry meterRegistry;
+    private QueryAllowlistConfig allowlistConfig;
+    private PersistedQueryDocumentProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        allowlistConfig = new QueryAllowlistConfig();
+        allowlistConfig.setAllowedQueryHashes(new HashSet<>());
+        provider = new PersistedQueryDocumentProvider(new PersistedQueryProperties(), allowlistConfig,
+                new GraphQLMetrics(meterRegistry));
+    }
+
+    @Test
+    @DisplayName("Repeated queries should be parsed once and reported as cache hits")
+    void getDocument_ShouldCacheParsedDocuments() {
+        PreparsedDocumentEntry first = provider.getDocument(input(QUERY, Map.of()), parseAndValidate);
+        PreparsedDocumentEntry second = provider.getDocument(input(QUERY, Map.of()), parseAndValidate);
+
+        assertThat(second).isSameAs(first);
+        assertThat(parses).hasValue(1);
+        assertThat(meterRegistry.get("graphql_document_cache_requests_total")
+                .tags("cache", "documents", "result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("graphql_document_cache_size")
+                .tag("cache", "documents").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A hash-only request should resolve a query previously sent with its hash")
+    void getDocument_WithKnownHash_ShouldResolvePersistedQuery() {
+        String hash = QueryAllowlistConfig.sha256Hex(QUERY);
+
+        PreparsedDocumentEntry unknown = provider.getDocument(
+                input(PersistedQuerySupport.PERSISTED_QUERY_MARKER, apq(hash)), parseAndValidate);
+        assertThat(unknown.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).isEqualTo("PersistedQueryNotFound"));
+
+        provider.getDocument(input(QUERY, apq(hash)), parseAndValidate);
+        PreparsedDocumentEntry hashOnly = provider.getDocument(
+                input(PersistedQuerySupport.PERSISTED_QUERY_MARKER, apq(hash)), parseAndValidate);
+
+        assertThat(hashOnly.hasErrors()).isFalse();
+        assertThat(hashOnly.getDocument()).isNotNull();
+        assertThat(parses).hasValue(1);
+        assertThat(provider.resolveQuery(null, apq(hash))).isEqualTo(QUERY);
+    }
+
+    @Test
+    @DisplayName("A query sent with a hash that does not match should be rejected")
+    void getDocument_WithMismatchedHash_ShouldReturnError() {
+        PreparsedDocumentEntry entry = provider.getDocument(
+                input(QUERY, apq(QueryAllowlistConfig.sha256Hex("query { other }"))), parseAndValidate);
+
+        assertThat(entry.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).isEqualTo("PersistedQueryIdInvalid"));
+        assertThatThrownBy(() -> provider.resolveQuery(null, apq("unknown")))
+                .isInstanceOf(PersistedQueryNotFound.class);
+    }
+
+    @Test
+    @DisplayName("With the allowlist enabled only registered operations should be accepted")
+    void getDocument_WithAllowlist_ShouldOnlyAcceptRegisteredOperations() {
+        allowlistConfig.setEnabled(true);
+        String hash = provider.registerOperation(QUERY);
+
+        PreparsedDocumentEntry registered = provider.getDocument(
+                input(PersistedQuerySupport.PERSISTED_QUERY_MARKER, apq(hash)), parseAndValidate);
+        PreparsedDocumentEntry adHoc = provider.getDocument(
+                input("query { exceptions { totalCount } summary { total } }", Map.of()), parseAndValidate);
+
+        assertThat(registered.hasErrors()).isFalse();
+        assertThat(adHoc.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getExtensions()).containsEntry("code", "QUERY_NOT_ALLOWED"));
+        assertThat(parses).hasValue(1);
+        assertThatThrownBy(() -> provider.resolveQuery("query { anythingElse }", null))
+                .isInstanceOf(QueryNotAllowedException.class);
+    }
+
+    private static ExecutionInput input(String query, Map<String, Object> extensions) {
+        return ExecutionInput.newExecutionInput().query(query).extensions(extensions).build();
+    }
+
+    private static Map<String, Object> apq(String hash) {
+        return Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash));
+    }
+}
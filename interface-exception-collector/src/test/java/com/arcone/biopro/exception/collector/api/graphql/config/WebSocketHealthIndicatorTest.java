@@ -3,6 +3,8 @@ package com.arcone.biopro.exception.collector.api.graphql.config;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -80,7 +82,8 @@ class WebSocketHealthIndicatorTest {
     private static class TestJwtService
             extends com.arcone.biopro.exception.collector.infrastructure.config.security.JwtService {
         public TestJwtService() {
-            super("test-secret-key-that-is-long-enough-for-hmac-sha256-algorithm-testing");
+            super("test-secret-key-that-is-long-enough-for-hmac-sha256-algorithm-testing", 10_000,
+                    Duration.ofMinutes(10));
         }
     }
 }
\ No newline at end of file
@@ -4,8 +4,11 @@ import com.arcone.biopro.exception.collector.api.dto.PayloadResponse;
 import com.arcone.biopro.exception.collector.api.graphql.config.DataLoaderConfig;
 import com.arcone.biopro.exception.collector.api.graphql.util.DataLoaderUtil;
 import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
-import com.arcone.biopro.exception.collector.domain.entity.RetryAttempt;
-import com.arcone.biopro.exception.collector.domain.entity.StatusChange;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
+import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import com.arcone.biopro.exception.collector.domain.enums.RetryStatus;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.RetryAttemptView;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.StatusChangeView;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.dataloader.DataLoaderRegistry;
@@ -15,13 +18,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -42,10 +46,10 @@ class DataLoaderResolverIntegrationTest {
     private DataLoader<String, PayloadResponse> payloadLoader;
 
     @Mock
-    private DataLoader<String, List<RetryAttempt>> retryHistoryLoader;
+    private DataLoader<Long, List<RetryAttemptView>> retryHistoryLoader;
 
     @Mock
-    private DataLoader<String, List<StatusChange>> statusChangeLoader;
+    private DataLoader<Long, List<StatusChangeView>> statusChangeLoader;
 
     private DataLoaderRegistry registry;
 
@@ -58,10 +62,14 @@ class DataLoaderResolverIntegrationTest {
         registry.register(DataLoaderConfig.STATUS_CHANGE_LOADER, statusChangeLoader);
 
         // Mock the environment to return our DataLoaders
-        when(environment.getDataLoader(DataLoaderConfig.EXCEPTION_LOADER)).thenReturn(exceptionLoader);
-        when(environment.getDataLoader(DataLoaderConfig.PAYLOAD_LOADER)).thenReturn(payloadLoader);
-        when(environment.getDataLoader(DataLoaderConfig.RETRY_HISTORY_LOADER)).thenReturn(retryHistoryLoader);
-        when(environment.getDataLoader(DataLoaderConfig.STATUS_CHANGE_LOADER)).thenReturn(statusChangeLoader);
+        lenient().when(environment.<String, InterfaceException>getDataLoader(DataLoaderConfig.EXCEPTION_LOADER))
+                .thenReturn(exceptionLoader);
+        lenient().when(environment.<String, PayloadResponse>getDataLoader(DataLoaderConfig.PAYLOAD_LOADER))
+                .thenReturn(payloadLoader);
+        lenient().when(environment.<Long, List<RetryAttemptView>>getDataLoader(DataLoaderConfig.RETRY_HISTORY_LOADER))
+                .thenReturn(retryHistoryLoader);
+        lenient().when(environment.<Long, List<StatusChangeView>>getDataLoader(DataLoaderConfig.STATUS_CHANGE_LOADER))
+                .thenReturn(statusChangeLoader);
     }
 
     @Test
@@ -89,7 +97,7 @@ class DataLoaderResolverIntegrationTest {
         PayloadResponse mockPayload = PayloadResponse.builder()
                 .transactionId(transactionId)
                 .retrieved(true)
-                .originalPayload("{\"test\": \"data\"}")
+                .payload("{\"test\": \"data\"}")
                 .build();
         
         when(payloadLoader.load(transactionId))
@@ -103,26 +111,45 @@ class DataLoaderResolverIntegrationTest {
         assertThat(payload).isNotNull();
         assertThat(payload.getTransactionId()).isEqualTo(transactionId);
         assertThat(payload.isRetrieved()).isTrue();
-        assertThat(payload.getOriginalPayload()).isEqualTo("{\"test\": \"data\"}");
+        assertThat(payload.getPayload()).isEqualTo("{\"test\": \"data\"}");
+    }
+
+    @Test
+    void shouldLoadPayloadWithExceptionAsKeyContext() throws ExecutionException, InterruptedException {
+        // Given
+        InterfaceException exception = createMockException("test-tx-457");
+        PayloadResponse mockPayload = PayloadResponse.builder()
+                .transactionId("test-tx-457")
+                .retrieved(true)
+                .build();
+
+        when(payloadLoader.load("test-tx-457", exception))
+                .thenReturn(CompletableFuture.completedFuture(mockPayload));
+
+        // When
+        CompletableFuture<PayloadResponse> result = DataLoaderUtil.loadPayload(environment, exception);
+
+        // Then
+        assertThat(result.get()).isSameAs(mockPayload);
     }
 
     @Test
     void shouldLoadRetryHistoryUsingDataLoader() throws ExecutionException, InterruptedException {
         // Given
-        String transactionId = "test-tx-789";
-        List<RetryAttempt> mockRetryHistory = List.of(
-                createMockRetryAttempt(transactionId, 1),
-                createMockRetryAttempt(transactionId, 2)
+        Long exceptionId = 789L;
+        List<RetryAttemptView> mockRetryHistory = List.of(
+                createMockRetryAttempt(exceptionId, 1),
+                createMockRetryAttempt(exceptionId, 2)
         );
         
-        when(retryHistoryLoader.load(transactionId))
+        when(retryHistoryLoader.load(exceptionId))
                 .thenReturn(CompletableFuture.completedFuture(mockRetryHistory));
 
         // When
-        CompletableFuture<List<RetryAttempt>> result = DataLoaderUtil.loadRetryHistory(environment, transactionId);
+        CompletableFuture<List<RetryAttemptView>> result = DataLoaderUtil.loadRetryHistory(environment, exceptionId);
 
         // Then
-        List<RetryAttempt> retryHistory = result.get();
+        List<RetryAttemptView> retryHistory = result.get();
         assertThat(retryHistory).hasSize(2);
         assertThat(retryHistory.get(0).getAttemptNumber()).isEqualTo(1);
         assertThat(retryHistory.get(1).getAttemptNumber()).isEqualTo(2);
@@ -131,34 +158,34 @@ class DataLoaderResolverIntegrationTest {
     @Test
     void shouldLoadStatusHistoryUsingDataLoader() throws ExecutionException, InterruptedException {
         // Given
-        String transactionId = "test-tx-101";
-        List<StatusChange> mockStatusHistory = List.of(
-                createMockStatusChange(transactionId, "PENDING", "PROCESSING"),
-                createMockStatusChange(transactionId, "PROCESSING", "COMPLETED")
+        Long exceptionId = 101L;
+        List<StatusChangeView> mockStatusHistory = List.of(
+                createMockStatusChange(exceptionId, ExceptionStatus.NEW, ExceptionStatus.ACKNOWLEDGED),
+                createMockStatusChange(exceptionId, ExceptionStatus.ACKNOWLEDGED, ExceptionStatus.RESOLVED)
         );
         
-        when(statusChangeLoader.load(transactionId))
+        when(statusChangeLoader.load(exceptionId))
                 .thenReturn(CompletableFuture.completedFuture(mockStatusHistory));
 
         // When
-        CompletableFuture<List<StatusChange>> result = DataLoaderUtil.loadStatusHistory(environment, transactionId);
+        CompletableFuture<List<StatusChangeView>> result = DataLoaderUtil.loadStatusHistory(environment, exceptionId);
 
         // Then
-        List<StatusChange> statusHistory = result.get();
+        List<StatusChangeView> statusHistory = result.get();
         assertThat(statusHistory).hasSize(2);
-        assertThat(statusHistory.get(0).getOldStatus()).isEqualTo("PENDING");
-        assertThat(statusHistory.get(0).getNewStatus()).isEqualTo("PROCESSING");
-        assertThat(statusHistory.get(1).getOldStatus()).isEqualTo("PROCESSING");
-        assertThat(statusHistory.get(1).getNewStatus()).isEqualTo("COMPLETED");
+        assertThat(statusHistory.get(0).getFromStatus()).isEqualTo(ExceptionStatus.NEW);
+        assertThat(statusHistory.get(0).getToStatus()).isEqualTo(ExceptionStatus.ACKNOWLEDGED);
+        assertThat(statusHistory.get(1).getFromStatus()).isEqualTo(ExceptionStatus.ACKNOWLEDGED);
+        assertThat(statusHistory.get(1).getToStatus()).isEqualTo(ExceptionStatus.RESOLVED);
     }
 
     @Test
-    void shouldHandleNullTransactionIdGracefully() throws ExecutionException, InterruptedException {
+    void shouldHandleNullKeysGracefully() throws ExecutionException, InterruptedException {
         // When/Then - These should not throw exceptions
         CompletableFuture<InterfaceException> exceptionResult = DataLoaderUtil.loadException(environment, null);
-        CompletableFuture<PayloadResponse> payloadResult = DataLoaderUtil.loadPayload(environment, null);
-        CompletableFuture<List<RetryAttempt>> retryResult = DataLoaderUtil.loadRetryHistory(environment, null);
-        CompletableFuture<List<StatusChange>> statusResult = DataLoaderUtil.loadStatusHistory(environment, null);
+        CompletableFuture<PayloadResponse> payloadResult = DataLoaderUtil.loadPayload(environment, (String) null);
+        CompletableFuture<List<RetryAttemptView>> retryResult = DataLoaderUtil.loadRetryHistory(environment, null);
+        CompletableFuture<List<StatusChangeView>> statusResult = DataLoaderUtil.loadStatusHistory(environment, null);
 
         // Verify that appropriate default values are returned
         assertThat(exceptionResult.get()).isNull();
@@ -176,8 +203,6 @@ class DataLoaderResolverIntegrationTest {
         // When/Then - These should not throw exceptions
         CompletableFuture<InterfaceException> exceptionResult = DataLoaderUtil.loadException(environment, "");
         CompletableFuture<PayloadResponse> payloadResult = DataLoaderUtil.loadPayload(environment, "");
-        CompletableFuture<List<RetryAttempt>> retryResult = DataLoaderUtil.loadRetryHistory(environment, "");
-        CompletableFuture<List<StatusChange>> statusResult = DataLoaderUtil.loadStatusHistory(environment, "");
 
         // Verify that appropriate default values are returned
         assertThat(exceptionResult.get()).isNull();
@@ -185,9 +210,6 @@ class DataLoaderResolverIntegrationTest {
         PayloadResponse payload = payloadResult.get();
         assertThat(payload.isRetrieved()).isFalse();
         assertThat(payload.getErrorMessage()).contains("Invalid transaction ID");
-        
-        assertThat(retryResult.get()).isEmpty();
-        assertThat(statusResult.get()).isEmpty();
     }
 
     @Test
@@ -203,7 +225,7 @@ class DataLoaderResolverIntegrationTest {
     void shouldDetectMissingDataLoaders() {
         // Given - Mock environment with missing DataLoaders
         DataFetchingEnvironment emptyEnvironment = mock(DataFetchingEnvironment.class);
-        when(emptyEnvironment.getDataLoader(anyString())).thenReturn(null);
+        when(emptyEnvironment.<Object, Object>getDataLoader(anyString())).thenReturn(null);
 
         // When
         boolean available = DataLoaderUtil.areDataLoadersAvailable(emptyEnvironment);
@@ -241,29 +263,23 @@ class DataLoaderResolverIntegrationTest {
     private InterfaceException createMockException(String transactionId) {
         InterfaceException exception = new InterfaceException();
         exception.setTransactionId(transactionId);
-        exception.setInterfaceType("TEST");
-        exception.setErrorMessage("Test error message");
-        exception.setCreatedAt(LocalDateTime.now());
+        exception.setInterfaceType(InterfaceType.ORDER);
+        exception.setExceptionReason("Test error message");
+        exception.setTimestamp(OffsetDateTime.now());
         return exception;
     }
 
-    private RetryAttempt createMockRetryAttempt(String transactionId, int attemptNumber) {
-        RetryAttempt retry = new RetryAttempt();
-        InterfaceException exception = createMockException(transactionId);
-        retry.setInterfaceException(exception);
-        retry.setAttemptNumber(attemptNumber);
-        retry.setAttemptedAt(LocalDateTime.now());
-        retry.setResultSuccess(attemptNumber > 1); // First attempt fails, subsequent succeed
-        return retry;
+    private RetryAttemptView createMockRetryAttempt(Long exceptionId, int attemptNumber) {
+        // First attempt fails, subsequent succeed
+        boolean success = attemptNumber > 1;
+        return new RetryAttemptView(exceptionId, (long) attemptNumber, attemptNumber,
+                success ? RetryStatus.SUCCESS : RetryStatus.FAILED, "test-user", OffsetDateTime.now(),
+                OffsetDateTime.now(), success, null, success ? 200 : 500, null);
     }
 
-    private StatusChange createMockStatusChange(String transactionId, String oldStatus, String newStatus) {
-        StatusChange statusChange = new StatusChange();
-        InterfaceException exception = createMockException(transactionId);
-        statusChange.setInterfaceException(exception);
-        statusChange.setOldStatus(oldStatus);
-        statusChange.setNewStatus(newStatus);
-        statusChange.setChangedAt(LocalDateTime.now());
-        return statusChange;
+    private StatusChangeView createMockStatusChange(Long exceptionId, ExceptionStatus fromStatus,
+            ExceptionStatus toStatus) {
+        return new StatusChangeView(exceptionId, null, fromStatus, toStatus, "test-user", OffsetDateTime.now(),
+                null, null);
     }
 }
\ No newline at end of file
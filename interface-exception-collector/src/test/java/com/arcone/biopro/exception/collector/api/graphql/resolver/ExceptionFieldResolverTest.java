@@ -3,9 +3,9 @@ package com.arcone.biopro.exception.collector.api.graphql.resolver;
 import com.arcone.biopro.exception.collector.api.dto.PayloadResponse;
 import com.arcone.biopro.exception.collector.api.graphql.service.GraphQLSecurityService;
 import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
-import com.arcone.biopro.exception.collector.domain.entity.RetryAttempt;
-import com.arcone.biopro.exception.collector.domain.entity.StatusChange;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.RetryAttemptView;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.StatusChangeView;
 import graphql.GraphQLException;
 import graphql.schema.DataFetchingEnvironment;
 import org.junit.jupiter.api.BeforeEach;
@@ -121,7 +121,7 @@ class ExceptionFieldResolverTest {
 
         // When & Then
         assertDoesNotThrow(() -> {
-            CompletableFuture<List<RetryAttempt>> result = resolver.retryHistory(exception, environment);
+            CompletableFuture<List<RetryAttemptView>> result = resolver.retryHistory(exception, environment);
             assertNotNull(result);
         });
 
@@ -131,7 +131,7 @@ class ExceptionFieldResolverTest {
     @Test
     void testRetryHistory_WithNullException_ShouldThrowException() {
         // When & Then
-        CompletableFuture<List<RetryAttempt>> result = resolver.retryHistory(null, environment);
+        CompletableFuture<List<RetryAttemptView>> result = resolver.retryHistory(null, environment);
 
         assertThrows(ExecutionException.class, () -> {
             result.get();
@@ -145,7 +145,7 @@ class ExceptionFieldResolverTest {
         when(securityService.canViewRetryHistory(eq(exception), eq(authentication))).thenReturn(false);
 
         // When & Then
-        CompletableFuture<List<RetryAttempt>> result = resolver.retryHistory(exception, environment);
+        CompletableFuture<List<RetryAttemptView>> result = resolver.retryHistory(exception, environment);
 
         assertThrows(ExecutionException.class, () -> {
             result.get();
@@ -162,7 +162,7 @@ class ExceptionFieldResolverTest {
 
         // When & Then
         assertDoesNotThrow(() -> {
-            CompletableFuture<List<StatusChange>> result = resolver.statusHistory(exception, environment);
+            CompletableFuture<List<StatusChangeView>> result = resolver.statusHistory(exception, environment);
             assertNotNull(result);
         });
 
@@ -172,7 +172,7 @@ class ExceptionFieldResolverTest {
     @Test
     void testStatusHistory_WithNullException_ShouldThrowException() {
         // When & Then
-        CompletableFuture<List<StatusChange>> result = resolver.statusHistory(null, environment);
+        CompletableFuture<List<StatusChangeView>> result = resolver.statusHistory(null, environment);
 
         assertThrows(ExecutionException.class, () -> {
             result.get();
@@ -187,10 +187,10 @@ class ExceptionFieldResolverTest {
         exception.setTransactionId("");
 
         // When
-        CompletableFuture<List<StatusChange>> result = resolver.statusHistory(exception, environment);
+        CompletableFuture<List<StatusChangeView>> result = resolver.statusHistory(exception, environment);
 
         // Then
-        List<StatusChange> statusChanges = result.get();
+        List<StatusChangeView> statusChanges = result.get();
         assertNotNull(statusChanges);
         assertTrue(statusChanges.isEmpty());
     }
@@ -202,7 +202,7 @@ class ExceptionFieldResolverTest {
         when(securityService.canViewStatusHistory(eq(exception), eq(authentication))).thenReturn(false);
 
         // When & Then
-        CompletableFuture<List<StatusChange>> result = resolver.statusHistory(exception, environment);
+        CompletableFuture<List<StatusChangeView>> result = resolver.statusHistory(exception, environment);
 
         assertThrows(ExecutionException.class, () -> {
             result.get();
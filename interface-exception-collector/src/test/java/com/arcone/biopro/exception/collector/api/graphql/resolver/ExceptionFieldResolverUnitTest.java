@@ -1,37 +1,37 @@
 package com.arcone.biopro.exception.collector.api.graphql.resolver;
 
-import com.arcone.biopro.exception.collector.api.graphql.dataloader.PayloadDataLoader;
-import com.arcone.biopro.exception.collector.api.graphql.dataloader.RetryHistoryDataLoader;
-import com.arcone.biopro.exception.collector.api.graphql.dataloader.StatusChangeDataLoader;
+import com.arcone.biopro.exception.collector.api.dto.PayloadResponse;
+import com.arcone.biopro.exception.collector.api.graphql.config.DataLoaderConfig;
 import com.arcone.biopro.exception.collector.api.graphql.service.GraphQLSecurityService;
 import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
-import com.arcone.biopro.exception.collector.domain.entity.RetryAttempt;
-import com.arcone.biopro.exception.collector.domain.entity.StatusChange;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionSeverity;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
 import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
 import com.arcone.biopro.exception.collector.domain.enums.RetryStatus;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.RetryAttemptView;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.StatusChangeView;
+import graphql.GraphQLException;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -41,15 +41,6 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class ExceptionFieldResolverUnitTest {
 
-    @Mock
-    private PayloadDataLoader payloadDataLoader;
-
-    @Mock
-    private RetryHistoryDataLoader retryHistoryDataLoader;
-
-    @Mock
-    private StatusChangeDataLoader statusChangeDataLoader;
-
     @Mock
     private GraphQLSecurityService securityService;
 
@@ -59,15 +50,17 @@ class ExceptionFieldResolverUnitTest {
     @Mock
     private Authentication authentication;
 
-    @InjectMocks
     private ExceptionFieldResolver exceptionFieldResolver;
 
     private InterfaceException testException;
-    private RetryAttempt testRetryAttempt;
-    private StatusChange testStatusChange;
+    private RetryAttemptView testRetryAttempt;
+    private StatusChangeView testStatusChange;
 
     @BeforeEach
     void setUp() {
+        exceptionFieldResolver = new ExceptionFieldResolver(securityService);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
         testException = InterfaceException.builder()
                 .id(1L)
                 .transactionId("TXN-001")
@@ -82,197 +75,201 @@ class ExceptionFieldResolverUnitTest {
                 .retryCount(0)
                 .build();
 
-        testRetryAttempt = RetryAttempt.builder()
-                .interfaceException(testException)
-                .attemptNumber(1)
-                .status(RetryStatus.SUCCESS)
-                .initiatedBy("test-user")
-                .initiatedAt(OffsetDateTime.now())
-                .resultSuccess(true)
-                .build();
+        testRetryAttempt = new RetryAttemptView(1L, 10L, 1, RetryStatus.SUCCESS, "test-user",
+                OffsetDateTime.now(), OffsetDateTime.now(), true, "Retry succeeded", 200, null);
 
-        testStatusChange = StatusChange.builder()
-                .interfaceException(testException)
-                .fromStatus(ExceptionStatus.NEW)
-                .toStatus(ExceptionStatus.ACKNOWLEDGED)
-                .changedBy("test-user")
-                .changedAt(OffsetDateTime.now())
-                .reason("Manual acknowledgment")
-                .build();
+        testStatusChange = new StatusChangeView(1L, 20L, ExceptionStatus.NEW, ExceptionStatus.ACKNOWLEDGED,
+                "test-user", OffsetDateTime.now(), "Manual acknowledgment", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
     }
 
     @Test
-    void originalPayload_WithAdminRole_ShouldAllowAccess() {
+    void originalPayload_WithPermission_ShouldLoadPayloadWithExceptionAsContext() {
         // Given
-        when(authentication.getAuthorities()).thenReturn(
-                List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))
-        );
         when(securityService.canViewPayload(testException, authentication)).thenReturn(true);
-        
-        DataLoader<String, String> mockDataLoader = mock(DataLoader.class);
-        when(environment.getDataLoader("payloadDataLoader")).thenReturn(mockDataLoader);
-        when(mockDataLoader.load("TXN-001")).thenReturn(CompletableFuture.completedFuture("payload-content"));
+        DataLoader<String, PayloadResponse> payloadLoader = payloadLoader();
+        when(payloadLoader.load("TXN-001", testException)).thenReturn(CompletableFuture.completedFuture(
+                PayloadResponse.builder().transactionId("TXN-001").payload("payload-content").retrieved(true).build()));
 
         // When
-        CompletableFuture<String> result = exceptionFieldResolver.originalPayload(testException, environment, authentication);
+        CompletableFuture<PayloadResponse> result = exceptionFieldResolver.originalPayload(testException, environment);
 
         // Then
-        assertThat(result).succeedsWithin(java.time.Duration.ofSeconds(1));
-        assertThat(result.join()).isEqualTo("payload-content");
+        assertThat(result).succeedsWithin(Duration.ofSeconds(1));
+        assertThat(result.join().getPayload()).isEqualTo("payload-content");
+        assertThat(result.join().isRetrieved()).isTrue();
         verify(securityService).canViewPayload(testException, authentication);
     }
 
     @Test
-    void originalPayload_WithViewerRole_ShouldDenyAccess() {
+    void originalPayload_WithoutPermission_ShouldDenyAccess() {
         // Given
-        when(authentication.getAuthorities()).thenReturn(
-                List.of(new SimpleGrantedAuthority("ROLE_VIEWER"))
-        );
         when(securityService.canViewPayload(testException, authentication)).thenReturn(false);
 
-        // When & Then
-        assertThatThrownBy(() -> exceptionFieldResolver.originalPayload(testException, environment, authentication))
-                .isInstanceOf(org.springframework.security.access.AccessDeniedException.class)
-                .hasMessageContaining("Access denied to original payload");
+        // When
+        CompletableFuture<PayloadResponse> result = exceptionFieldResolver.originalPayload(testException, environment);
+
+        // Then
+        assertThat(result).failsWithin(Duration.ofSeconds(1))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(GraphQLException.class)
+                .withMessageContaining("Access denied");
+        verifyNoInteractions(environment);
     }
 
     @Test
-    void retryHistory_ShouldLoadRetryAttempts() {
+    void originalPayload_WithoutAuthentication_ShouldDenyAccess() {
         // Given
-        DataLoader<String, List<RetryAttempt>> mockDataLoader = mock(DataLoader.class);
-        when(environment.getDataLoader("retryHistoryDataLoader")).thenReturn(mockDataLoader);
-        when(mockDataLoader.load("TXN-001")).thenReturn(
-                CompletableFuture.completedFuture(List.of(testRetryAttempt))
-        );
+        SecurityContextHolder.clearContext();
 
         // When
-        CompletableFuture<List<RetryAttempt>> result = exceptionFieldResolver.retryHistory(testException, environment);
+        CompletableFuture<PayloadResponse> result = exceptionFieldResolver.originalPayload(testException, environment);
 
         // Then
-        assertThat(result).succeedsWithin(java.time.Duration.ofSeconds(1));
-        assertThat(result.join()).hasSize(1);
-        assertThat(result.join().get(0).getAttemptNumber()).isEqualTo(1);
+        assertThat(result).failsWithin(Duration.ofSeconds(1))
+                .withThrowableOfType(ExecutionException.class)
+                .withMessageContaining("Access denied");
+        verify(securityService).canViewPayload(testException, null);
     }
 
     @Test
-    void statusHistory_ShouldLoadStatusChanges() {
+    void originalPayload_WithDataLoaderError_ShouldReturnUnretrievedPayload() {
         // Given
-        DataLoader<String, List<StatusChange>> mockDataLoader = mock(DataLoader.class);
-        when(environment.getDataLoader("statusChangeDataLoader")).thenReturn(mockDataLoader);
-        when(mockDataLoader.load("TXN-001")).thenReturn(
-                CompletableFuture.completedFuture(List.of(testStatusChange))
-        );
+        when(securityService.canViewPayload(testException, authentication)).thenReturn(true);
+        DataLoader<String, PayloadResponse> payloadLoader = payloadLoader();
+        when(payloadLoader.load("TXN-001", testException))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("DataLoader error")));
 
         // When
-        CompletableFuture<List<StatusChange>> result = exceptionFieldResolver.statusHistory(testException, environment);
+        CompletableFuture<PayloadResponse> result = exceptionFieldResolver.originalPayload(testException, environment);
 
         // Then
-        assertThat(result).succeedsWithin(java.time.Duration.ofSeconds(1));
-        assertThat(result.join()).hasSize(1);
-        assertThat(result.join().get(0).getFromStatus()).isEqualTo(ExceptionStatus.NEW);
-        assertThat(result.join().get(0).getToStatus()).isEqualTo(ExceptionStatus.ACKNOWLEDGED);
+        assertThat(result).succeedsWithin(Duration.ofSeconds(1));
+        assertThat(result.join().isRetrieved()).isFalse();
+        assertThat(result.join().getErrorMessage()).contains("DataLoader error");
     }
 
     @Test
-    void retryHistory_WithEmptyResult_ShouldReturnEmptyList() {
+    void retryHistory_ShouldLoadRetryAttemptsByExceptionId() {
         // Given
-        DataLoader<String, List<RetryAttempt>> mockDataLoader = mock(DataLoader.class);
-        when(environment.getDataLoader("retryHistoryDataLoader")).thenReturn(mockDataLoader);
-        when(mockDataLoader.load("TXN-001")).thenReturn(
-                CompletableFuture.completedFuture(List.of())
-        );
+        when(securityService.canViewRetryHistory(testException, authentication)).thenReturn(true);
+        DataLoader<Long, List<RetryAttemptView>> retryLoader = retryHistoryLoader();
+        when(retryLoader.load(1L)).thenReturn(CompletableFuture.completedFuture(List.of(testRetryAttempt)));
 
         // When
-        CompletableFuture<List<RetryAttempt>> result = exceptionFieldResolver.retryHistory(testException, environment);
+        CompletableFuture<List<RetryAttemptView>> result = exceptionFieldResolver.retryHistory(testException,
+                environment);
 
         // Then
-        assertThat(result).succeedsWithin(java.time.Duration.ofSeconds(1));
-        assertThat(result.join()).isEmpty();
+        assertThat(result).succeedsWithin(Duration.ofSeconds(1));
+        assertThat(result.join()).hasSize(1);
+        assertThat(result.join().get(0).getAttemptNumber()).isEqualTo(1);
     }
 
     @Test
-    void statusHistory_WithEmptyResult_ShouldReturnEmptyList() {
+    void retryHistory_WithEmptyResult_ShouldReturnEmptyList() {
         // Given
-        DataLoader<String, List<StatusChange>> mockDataLoader = mock(DataLoader.class);
-        when(environment.getDataLoader("statusChangeDataLoader")).thenReturn(mockDataLoader);
-        when(mockDataLoader.load("TXN-001")).thenReturn(
-                CompletableFuture.completedFuture(List.of())
-        );
+        when(securityService.canViewRetryHistory(testException, authentication)).thenReturn(true);
+        DataLoader<Long, List<RetryAttemptView>> retryLoader = retryHistoryLoader();
+        when(retryLoader.load(1L)).thenReturn(CompletableFuture.completedFuture(List.of()));
 
         // When
-        CompletableFuture<List<StatusChange>> result = exceptionFieldResolver.statusHistory(testException, environment);
+        CompletableFuture<List<RetryAttemptView>> result = exceptionFieldResolver.retryHistory(testException,
+                environment);
 
         // Then
-        assertThat(result).succeedsWithin(java.time.Duration.ofSeconds(1));
+        assertThat(result).succeedsWithin(Duration.ofSeconds(1));
         assertThat(result.join()).isEmpty();
     }
 
     @Test
-    void originalPayload_WithDataLoaderError_ShouldPropagateException() {
+    void retryHistory_WithDataLoaderError_ShouldReturnEmptyList() {
         // Given
-        when(authentication.getAuthorities()).thenReturn(
-                List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))
-        );
-        when(securityService.canViewPayload(testException, authentication)).thenReturn(true);
-        
-        DataLoader<String, String> mockDataLoader = mock(DataLoader.class);
-        when(environment.getDataLoader("payloadDataLoader")).thenReturn(mockDataLoader);
-        when(mockDataLoader.load("TXN-001")).thenReturn(
-                CompletableFuture.failedFuture(new RuntimeException("DataLoader error"))
-        );
+        when(securityService.canViewRetryHistory(testException, authentication)).thenReturn(true);
+        DataLoader<Long, List<RetryAttemptView>> retryLoader = retryHistoryLoader();
+        when(retryLoader.load(1L)).thenReturn(CompletableFuture.failedFuture(new RuntimeException("DataLoader error")));
 
         // When
-        CompletableFuture<String> result = exceptionFieldResolver.originalPayload(testException, environment, authentication);
+        CompletableFuture<List<RetryAttemptView>> result = exceptionFieldResolver.retryHistory(testException,
+                environment);
 
         // Then
-        assertThat(result).failsWithin(java.time.Duration.ofSeconds(1))
-                .withThrowableOfType(java.util.concurrent.ExecutionException.class)
-                .withMessageContaining("DataLoader error");
+        assertThat(result).succeedsWithin(Duration.ofSeconds(1));
+        assertThat(result.join()).isEmpty();
     }
 
     @Test
-    void retryHistory_WithDataLoaderError_ShouldPropagateException() {
+    void hasSuccessfulRetries_ShouldUseRetryHistoryProjection() {
         // Given
-        DataLoader<String, List<RetryAttempt>> mockDataLoader = mock(DataLoader.class);
-        when(environment.getDataLoader("retryHistoryDataLoader")).thenReturn(mockDataLoader);
-        when(mockDataLoader.load("TXN-001")).thenReturn(
-                CompletableFuture.failedFuture(new RuntimeException("DataLoader error"))
-        );
+        DataLoader<Long, List<RetryAttemptView>> retryLoader = retryHistoryLoader();
+        when(retryLoader.load(1L)).thenReturn(CompletableFuture.completedFuture(List.of(testRetryAttempt)));
 
         // When
-        CompletableFuture<List<RetryAttempt>> result = exceptionFieldResolver.retryHistory(testException, environment);
+        CompletableFuture<Boolean> result = exceptionFieldResolver.hasSuccessfulRetries(testException, environment);
 
         // Then
-        assertThat(result).failsWithin(java.time.Duration.ofSeconds(1))
-                .withThrowableOfType(java.util.concurrent.ExecutionException.class)
-                .withMessageContaining("DataLoader error");
+        assertThat(result).succeedsWithin(Duration.ofSeconds(1));
+        assertThat(result.join()).isTrue();
     }
 
     @Test
-    void originalPayload_WithNullAuthentication_ShouldDenyAccess() {
-        // When & Then
-        assertThatThrownBy(() -> exceptionFieldResolver.originalPayload(testException, environment, null))
-                .isInstanceOf(org.springframework.security.access.AccessDeniedException.class)
-                .hasMessageContaining("Authentication required");
+    void statusHistory_ShouldLoadStatusChangesByExceptionId() {
+        // Given
+        when(securityService.canViewStatusHistory(testException, authentication)).thenReturn(true);
+        DataLoader<Long, List<StatusChangeView>> statusLoader = statusChangeLoader();
+        when(statusLoader.load(1L)).thenReturn(CompletableFuture.completedFuture(List.of(testStatusChange)));
+
+        // When
+        CompletableFuture<List<StatusChangeView>> result = exceptionFieldResolver.statusHistory(testException,
+                environment);
+
+        // Then
+        assertThat(result).succeedsWithin(Duration.ofSeconds(1));
+        assertThat(result.join()).hasSize(1);
+        assertThat(result.join().get(0).getFromStatus()).isEqualTo(ExceptionStatus.NEW);
+        assertThat(result.join().get(0).getToStatus()).isEqualTo(ExceptionStatus.ACKNOWLEDGED);
     }
 
     @Test
-    void originalPayload_WithOperationsRole_ShouldCheckPermissions() {
+    void statusHistory_WithEmptyResult_ShouldReturnEmptyList() {
         // Given
-        when(authentication.getAuthorities()).thenReturn(
-                List.of(new SimpleGrantedAuthority("ROLE_OPERATIONS"))
-        );
-        when(securityService.canViewPayload(testException, authentication)).thenReturn(true);
-        
-        DataLoader<String, String> mockDataLoader = mock(DataLoader.class);
-        when(environment.getDataLoader("payloadDataLoader")).thenReturn(mockDataLoader);
-        when(mockDataLoader.load("TXN-001")).thenReturn(CompletableFuture.completedFuture("payload-content"));
+        when(securityService.canViewStatusHistory(testException, authentication)).thenReturn(true);
+        DataLoader<Long, List<StatusChangeView>> statusLoader = statusChangeLoader();
+        when(statusLoader.load(1L)).thenReturn(CompletableFuture.completedFuture(List.of()));
 
         // When
-        CompletableFuture<String> result = exceptionFieldResolver.originalPayload(testException, environment, authentication);
+        CompletableFuture<List<StatusChangeView>> result = exceptionFieldResolver.statusHistory(testException,
+                environment);
 
         // Then
-        assertThat(result).succeedsWithin(java.time.Duration.ofSeconds(1));
-        verify(securityService).canViewPayload(testException, authentication);
+        assertThat(result).succeedsWithin(Duration.ofSeconds(1));
+        assertThat(result.join()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private DataLoader<String, PayloadResponse> payloadLoader() {
+        DataLoader<String, PayloadResponse> loader = mock(DataLoader.class);
+        when(environment.<String, PayloadResponse>getDataLoader(DataLoaderConfig.PAYLOAD_LOADER)).thenReturn(loader);
+        return loader;
+    }
+
+    @SuppressWarnings("unchecked")
+    private DataLoader<Long, List<RetryAttemptView>> retryHistoryLoader() {
+        DataLoader<Long, List<RetryAttemptView>> loader = mock(DataLoader.class);
+        when(environment.<Long, List<RetryAttemptView>>getDataLoader(DataLoaderConfig.RETRY_HISTORY_LOADER))
+                .thenReturn(loader);
+        return loader;
+    }
+
+    @SuppressWarnings("unchecked")
+    private DataLoader<Long, List<StatusChangeView>> statusChangeLoader() {
+        DataLoader<Long, List<StatusChangeView>> loader = mock(DataLoader.class);
+        when(environment.<Long, List<StatusChangeView>>getDataLoader(DataLoaderConfig.STATUS_CHANGE_LOADER))
+                .thenReturn(loader);
+        return loader;
     }
-}
\ No newline at end of file
+}
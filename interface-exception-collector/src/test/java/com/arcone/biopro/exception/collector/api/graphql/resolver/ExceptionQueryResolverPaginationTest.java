@@ -0,0 +1,186 @@
+package com.arcone.biopro.exception.collector.api.graphql.resolver;
+
+import com.arcone.biopro.exception.collector.api.graphql.dto.ExceptionConnection;
+import com.arcone.biopro.exception.collector.api.graphql.dto.PaginationInput;
+import com.arcone.biopro.exception.collector.api.graphql.dto.SearchInput;
+import com.arcone.biopro.exception.collector.api.graphql.dto.SortingInput;
+import com.arcone.biopro.exception.collector.application.service.ExceptionQueryService;
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionSeverity;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
+import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import com.arcone.biopro.exception.collector.infrastructure.repository.KeysetPageRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for keyset pagination in ExceptionQueryResolver.
+ * Tests cursor round trips, page boundary detection and deferred totalCount.
+ */
+@ExtendWith(MockitoExtension.class)
+class ExceptionQueryResolverPaginationTest {
+
+    private static final OffsetDateTime BASE_TIME = OffsetDateTime.parse("2026-01-15T10:00:00Z");
+
+    @Mock
+    private ExceptionQueryService exceptionQueryService;
+
+    @InjectMocks
+    private ExceptionQueryResolver resolver;
+
+    @Test
+    @DisplayName("Should request one extra row and report a next page")
+    void exceptions_FirstPage_ShouldDetectNextPage() {
+        when(exceptionQueryService.findExceptionsPageEager(isNull(), isNull(), isNull(), isNull(), isNull(),
+                isNull(), any(KeysetPageRequest.class)))
+                .thenReturn(exceptions(0, 3));
+
+        ExceptionConnection connection = resolver.exceptions(null,
+                PaginationInput.builder().first(2).build(), null).join();
+
+        ArgumentCaptor<KeysetPageRequest> request = ArgumentCaptor.forClass(KeysetPageRequest.class);
+        verify(exceptionQueryService).findExceptionsPageEager(isNull(), isNull(), isNull(), isNull(), isNull(),
+                isNull(), request.capture());
+        assertThat(request.getValue().getLimit()).isEqualTo(3);
+        assertThat(request.getValue().getSortProperty()).isEqualTo("timestamp");
+        assertThat(request.getValue().getDirection()).isEqualTo(Sort.Direction.DESC);
+        assertThat(request.getValue().hasCursor()).isFalse();
+
+        assertThat(connection.getEdges()).extracting(edge -> edge.getNode().getTransactionId())
+                .containsExactly("TXN-0", "TXN-1");
+        assertThat(connection.getPageInfo().getHasNextPage()).isTrue();
+        assertThat(connection.getPageInfo().getHasPreviousPage()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should seek past the end cursor of the previous page")
+    void exceptions_WithAfterCursor_ShouldSeekFromCursorPosition() {
+        when(exceptionQueryService.findExceptionsPageEager(any(), any(), any(), any(), any(), any(),
+                any(KeysetPageRequest.class)))
+                .thenReturn(exceptions(0, 3), exceptions(2, 1));
+
+        ExceptionConnection firstPage = resolver.exceptions(null,
+                PaginationInput.builder().first(2).build(), null).join();
+        ExceptionConnection secondPage = resolver.exceptions(null,
+                PaginationInput.builder().first(2).after(firstPage.getPageInfo().getEndCursor()).build(), null)
+                .join();
+
+        ArgumentCaptor<KeysetPageRequest> request = ArgumentCaptor.forClass(KeysetPageRequest.class);
+        verify(exceptionQueryService, times(2)).findExceptionsPageEager(any(), any(), any(),
+                any(), any(), any(), request.capture());
+        KeysetPageRequest seek = request.getAllValues().get(1);
+        assertThat(seek.getAfterTransactionId()).isEqualTo("TXN-1");
+        assertThat(seek.getAfterValue()).isEqualTo(BASE_TIME.minusMinutes(1));
+
+        assertThat(secondPage.getEdges()).hasSize(1);
+        assertThat(secondPage.getPageInfo().getHasNextPage()).isFalse();
+        assertThat(secondPage.getPageInfo().getHasPreviousPage()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reverse the read order for backward pagination")
+    void exceptions_WithBeforeCursor_ShouldReadBackwards() {
+        when(exceptionQueryService.findExceptionsPageEager(any(), any(), any(), any(), any(), any(),
+                any(KeysetPageRequest.class)))
+                .thenReturn(exceptions(5, 1), List.of(exception(4), exception(3), exception(2)));
+
+        ExceptionConnection anchor = resolver.exceptions(null, PaginationInput.builder().first(1).build(), null)
+                .join();
+        ExceptionConnection previous = resolver.exceptions(null,
+                PaginationInput.builder().last(2).before(anchor.getPageInfo().getStartCursor()).build(), null)
+                .join();
+
+        ArgumentCaptor<KeysetPageRequest> request = ArgumentCaptor.forClass(KeysetPageRequest.class);
+        verify(exceptionQueryService, times(2)).findExceptionsPageEager(any(), any(), any(),
+                any(), any(), any(), request.capture());
+        assertThat(request.getAllValues().get(1).getDirection()).isEqualTo(Sort.Direction.ASC);
+        assertThat(request.getAllValues().get(0).isReversed()).isFalse();
+        assertThat(request.getAllValues().get(1).isReversed()).isTrue();
+
+        assertThat(previous.getEdges()).extracting(edge -> edge.getNode().getTransactionId())
+                .containsExactly("TXN-3", "TXN-4");
+        assertThat(previous.getPageInfo().getHasPreviousPage()).isTrue();
+        assertThat(previous.getPageInfo().getHasNextPage()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should only run the count query when totalCount is resolved")
+    void exceptions_TotalCount_ShouldBeDeferred() {
+        when(exceptionQueryService.findExceptionsPageEager(any(), any(), any(), any(), any(), any(),
+                any(KeysetPageRequest.class)))
+                .thenReturn(exceptions(0, 1));
+
+        ExceptionConnection connection = resolver.exceptions(null, null, null).join();
+        verify(exceptionQueryService, never()).countExceptionsWithFilters(any(), any(), any(), any(), any(), any());
+
+        when(exceptionQueryService.countExceptionsWithFilters(any(), any(), any(), any(), any(), any()))
+                .thenReturn(42L);
+        assertThat(resolver.totalCount(connection)).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Should key search cursors on the requested sort field")
+    void searchExceptions_WithSorting_ShouldUseSortFieldInCursor() {
+        when(exceptionQueryService.searchExceptionsPage(eq("timeout"), anyList(), any(KeysetPageRequest.class)))
+                .thenReturn(exceptions(0, 2), List.of());
+
+        SearchInput search = SearchInput.builder().query("timeout").build();
+        SortingInput sorting = SortingInput.builder().field("retryCount").direction(SortingInput.SortDirection.ASC)
+                .build();
+
+        ExceptionConnection firstPage = resolver.searchExceptions(search,
+                PaginationInput.builder().first(1).build(), sorting).join();
+        resolver.searchExceptions(search,
+                PaginationInput.builder().first(1).after(firstPage.getPageInfo().getEndCursor()).build(), sorting)
+                .join();
+
+        ArgumentCaptor<KeysetPageRequest> request = ArgumentCaptor.forClass(KeysetPageRequest.class);
+        verify(exceptionQueryService, times(2)).searchExceptionsPage(eq("timeout"), anyList(),
+                request.capture());
+        KeysetPageRequest seek = request.getAllValues().get(1);
+        assertThat(seek.getSortProperty()).isEqualTo("retryCount");
+        assertThat(seek.getDirection()).isEqualTo(Sort.Direction.ASC);
+        assertThat(seek.getAfterValue()).isEqualTo(0);
+        assertThat(seek.getAfterTransactionId()).isEqualTo("TXN-0");
+    }
+
+    private List<InterfaceException> exceptions(int fromIndex, int count) {
+        return IntStream.range(fromIndex, fromIndex + count).mapToObj(this::exception).toList();
+    }
+
+    private InterfaceException exception(int index) {
+        return InterfaceException.builder()
+                .id((long) index + 1)
+                .transactionId("TXN-" + index)
+                .interfaceType(InterfaceType.ORDER)
+                .exceptionReason("Test exception " + index)
+                .operation("CREATE_ORDER")
+                .status(ExceptionStatus.NEW)
+                .severity(ExceptionSeverity.HIGH)
+                .timestamp(BASE_TIME.minusMinutes(index))
+                .processedAt(BASE_TIME)
+                .retryable(true)
+                .retryCount(0)
+                .build();
+    }
+}
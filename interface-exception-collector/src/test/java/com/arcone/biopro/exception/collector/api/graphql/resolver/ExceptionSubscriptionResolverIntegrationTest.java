@@ -1,8 +1,9 @@
 package com.arcone.biopro.exception.collector.api.graphql.resolver;
 
 import com.arcone.biopro.exception.collector.api.graphql.dto.SubscriptionFilters;
+import com.arcone.biopro.exception.collector.api.graphql.service.DashboardSubscriptionService;
 import com.arcone.biopro.exception.collector.api.graphql.service.GraphQLSecurityService;
-import com.arcone.biopro.exception.collector.api.graphql.service.SubscriptionFilterService;
+import com.arcone.biopro.exception.collector.api.graphql.service.SubscriptionFanoutService;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionSeverity;
 import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,7 +31,10 @@ import static org.mockito.Mockito.when;
 class ExceptionSubscriptionResolverIntegrationTest {
 
     @Mock
-    private SubscriptionFilterService subscriptionFilterService;
+    private DashboardSubscriptionService dashboardSubscriptionService;
+
+    @Mock
+    private SubscriptionFanoutService subscriptionFanoutService;
 
     @Mock
     private GraphQLSecurityService securityService;
@@ -42,7 +46,8 @@ class ExceptionSubscriptionResolverIntegrationTest {
 
     @BeforeEach
     void setUp() {
-        subscriptionResolver = new ExceptionSubscriptionResolver(subscriptionFilterService, securityService);
+        subscriptionResolver = new ExceptionSubscriptionResolver(securityService, dashboardSubscriptionService,
+                subscriptionFanoutService);
 
         // Setup authentication mock
         when(authentication.getName()).thenReturn("testuser");
@@ -54,7 +59,7 @@ class ExceptionSubscriptionResolverIntegrationTest {
     void testExceptionSubscriptionResolver_Creation() {
         // Given/When
         ExceptionSubscriptionResolver resolver = new ExceptionSubscriptionResolver(
-                subscriptionFilterService, securityService);
+                securityService, dashboardSubscriptionService, subscriptionFanoutService);
 
         // Then
         assertNotNull(resolver);
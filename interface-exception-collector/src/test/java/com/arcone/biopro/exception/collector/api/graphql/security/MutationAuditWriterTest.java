@@ -0,0 +1,235 @@
+package com.arcone.biopro.exception.collector.api.graphql.security;
+
+import com.arcone.biopro.exception.collector.domain.entity.MutationAuditLog;
+import com.arcone.biopro.exception.collector.infrastructure.config.MutationAuditProperties;
+import com.arcone.biopro.exception.collector.infrastructure.repository.BulkMutationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for MutationAuditWriter.
+ */
+@ExtendWith(MockitoExtension.class)
+class MutationAuditWriterTest {
+
+    @Mock
+    private BulkMutationRepository repository;
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final List<MutationAuditLog> inserted = new ArrayList<>();
+    private MutationAuditProperties properties;
+    private MutationAuditWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MutationAuditProperties();
+        properties.setBatchSize(10);
+        properties.setFlushInterval(Duration.ofHours(1));
+        properties.setSpillFile(tempDir.resolve("audit-spill.ndjson").toString());
+
+        lenient().doAnswer(invocation -> {
+            inserted.addAll(invocation.getArgument(0));
+            return null;
+        }).when(repository).insertAuditLogs(anyList());
+        lenient().when(repository.completeAuditLogs(anyList()))
+                .thenAnswer(invocation -> new int[((List<?>) invocation.getArgument(0)).size()]);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Attempt and result should be written as a single row in one batch")
+    void flush_ShouldCoalesceAttemptAndResult() {
+        writer = writer();
+
+        writer.begin(attempt("OP-1"));
+        writer.begin(attempt("OP-2"));
+        writer.complete("OP-1", MutationAuditLog.ResultStatus.SUCCESS, null, 120);
+        writer.complete("OP-2", MutationAuditLog.ResultStatus.FAILURE, "[\"boom\"]", 80);
+        writer.flush();
+
+        verify(repository, times(1)).insertAuditLogs(anyList());
+        assertThat(inserted).extracting(MutationAuditLog::getOperationId).containsExactly("OP-1", "OP-2");
+        assertThat(inserted.get(1).getResultStatus()).isEqualTo(MutationAuditLog.ResultStatus.FAILURE);
+        assertThat(inserted.get(1).getErrorDetails()).isEqualTo("[\"boom\"]");
+        assertThat(inserted.get(1).getExecutionTimeMs()).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("Attempts without a result should be written after the pending timeout and completed later")
+    void flush_ShouldWriteExpiredAttemptsAndCompleteThemLater() {
+        properties.setPendingTimeout(Duration.ofMinutes(1));
+        writer = writer();
+
+        MutationAuditLog stale = attempt("OP-STALE");
+        stale.setPerformedAt(Instant.now().minus(Duration.ofMinutes(2)));
+        writer.begin(stale);
+        writer.begin(attempt("OP-FRESH"));
+        writer.flush();
+
+        assertThat(inserted).extracting(MutationAuditLog::getOperationId).containsExactly("OP-STALE");
+
+        writer.complete("OP-STALE", MutationAuditLog.ResultStatus.SUCCESS, null, 90_000);
+        writer.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<MutationAuditLog>> completions = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(2)).completeAuditLogs(completions.capture());
+        assertThat(completions.getAllValues().get(1))
+                .extracting(MutationAuditLog::getOperationId).containsExactly("OP-STALE");
+    }
+
+    @Test
+    @DisplayName("Records should be spilled to disk while the database is unavailable and replayed in order")
+    void flush_WhenDatabaseUnavailable_ShouldSpillAndReplay() throws Exception {
+        writer = writer();
+        doThrow(new DataAccessResourceFailureException("database down"))
+                .when(repository).insertAuditLogs(anyList());
+
+        writer.begin(attempt("OP-1"));
+        writer.complete("OP-1", MutationAuditLog.ResultStatus.SUCCESS, null, 10);
+        writer.flush();
+
+        Path spillFile = Path.of(properties.getSpillFile());
+        assertThat(Files.exists(spillFile) || Files.exists(Path.of(spillFile + ".replay"))).isTrue();
+
+        // While spilled records are waiting, newer records must not overtake them
+        writer.begin(attempt("OP-2"));
+        writer.complete("OP-2", MutationAuditLog.ResultStatus.SUCCESS, null, 10);
+        assertThat(writer.getQueueDepth()).isZero();
+
+        doAnswer(invocation -> {
+            inserted.addAll(invocation.getArgument(0));
+            return null;
+        }).when(repository).insertAuditLogs(anyList());
+        writer.flush();
+
+        assertThat(inserted).extracting(MutationAuditLog::getOperationId).containsExactly("OP-1", "OP-2");
+        assertThat(Files.exists(spillFile)).isFalse();
+        assertThat(Files.exists(Path.of(spillFile + ".replay"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Records beyond the queue capacity should go to the spill file instead of blocking")
+    void complete_WhenQueueFull_ShouldSpill() {
+        properties.setQueueCapacity(1);
+        properties.setBatchSize(100);
+        writer = writer();
+
+        writer.begin(attempt("OP-1"));
+        writer.begin(attempt("OP-2"));
+        writer.complete("OP-1", MutationAuditLog.ResultStatus.SUCCESS, null, 10);
+        writer.complete("OP-2", MutationAuditLog.ResultStatus.SUCCESS, null, 10);
+
+        assertThat(writer.getQueueDepth()).isEqualTo(1);
+        assertThat(Files.exists(Path.of(properties.getSpillFile()))).isTrue();
+        verify(repository, never()).insertAuditLogs(anyList());
+
+        writer.flush();
+
+        assertThat(inserted).extracting(MutationAuditLog::getOperationId).containsExactly("OP-1", "OP-2");
+    }
+
+    @Test
+    @DisplayName("An attempt with a duplicate operation ID should still be written")
+    void begin_DuplicateOperationId_ShouldNotOverwritePendingAttempt() {
+        writer = writer();
+
+        writer.begin(attempt("OP-1"));
+        writer.begin(attempt("OP-1"));
+        writer.complete("OP-1", MutationAuditLog.ResultStatus.SUCCESS, null, 10);
+        writer.flush();
+
+        assertThat(inserted).extracting(MutationAuditLog::getOperationId).containsExactly("OP-1", "OP-1");
+    }
+
+    @Test
+    @DisplayName("A spilled record the database rejects should be moved aside so the replay can finish")
+    void flush_WhenSpilledRecordIsRejected_ShouldMoveItToRejectedFile() throws Exception {
+        writer = writer();
+        doThrow(new DataAccessResourceFailureException("database down"))
+                .when(repository).insertAuditLogs(anyList());
+        writer.begin(attempt("OP-BAD"));
+        writer.complete("OP-BAD", MutationAuditLog.ResultStatus.SUCCESS, null, 10);
+        writer.begin(attempt("OP-2"));
+        writer.complete("OP-2", MutationAuditLog.ResultStatus.SUCCESS, null, 10);
+        writer.flush();
+
+        doAnswer(invocation -> {
+            List<MutationAuditLog> logs = invocation.getArgument(0);
+            if (logs.stream().anyMatch(log -> "OP-BAD".equals(log.getOperationId()))) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            inserted.addAll(logs);
+            return null;
+        }).when(repository).insertAuditLogs(anyList());
+        writer.flush();
+
+        Path spillFile = Path.of(properties.getSpillFile());
+        assertThat(inserted).extracting(MutationAuditLog::getOperationId).containsExactly("OP-2");
+        assertThat(Files.exists(spillFile)).isFalse();
+        assertThat(Files.exists(Path.of(spillFile + ".replay"))).isFalse();
+        assertThat(Files.readAllLines(Path.of(spillFile + ".rejected"))).singleElement()
+                .asString().contains("OP-BAD");
+
+        // The writer is no longer spilling, so new records are queued again
+        writer.begin(attempt("OP-3"));
+        writer.complete("OP-3", MutationAuditLog.ResultStatus.SUCCESS, null, 10);
+        assertThat(writer.getQueueDepth()).isEqualTo(1);
+    }
+
+    private MutationAuditWriter writer() {
+        return new MutationAuditWriter(repository, objectMapper, properties, new SimpleMeterRegistry());
+    }
+
+    private static MutationAuditLog attempt(String operationId) {
+        return MutationAuditLog.builder()
+                .operationType(MutationAuditLog.OperationType.RETRY)
+                .transactionId("TXN-" + operationId)
+                .performedBy("test-user")
+                .performedAt(Instant.now())
+                .resultStatus(MutationAuditLog.ResultStatus.SUCCESS)
+                .operationId(operationId)
+                .correlationId("corr-" + operationId)
+                .build();
+    }
+}
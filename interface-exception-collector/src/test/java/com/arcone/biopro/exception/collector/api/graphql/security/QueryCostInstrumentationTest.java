@@ -0,0 +1,155 @@
+package com.arcone.biopro.exception.collector.api.graphql.security;
+
+import com.arcone.biopro.exception.collector.api.graphql.monitoring.GraphQLLoadMonitor;
+import com.arcone.biopro.exception.collector.infrastructure.config.QueryCostProperties;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for QueryCostInstrumentation.
+ */
+@ExtendWith(MockitoExtension.class)
+class QueryCostInstrumentationTest {
+
+    private static final String SCHEMA = """
+            type Query {
+                searchExceptions(pagination: PaginationInput): ExceptionConnection!
+            }
+            input PaginationInput {
+                first: Int
+                last: Int
+            }
+            type ExceptionConnection {
+                edges: [ExceptionEdge!]!
+                totalCount: Int!
+            }
+            type ExceptionEdge {
+                node: Exception!
+            }
+            type Exception {
+                id: ID!
+                originalPayload: OriginalPayload
+                retryHistory: [RetryAttempt!]!
+            }
+            type OriginalPayload {
+                content: String
+            }
+            type RetryAttempt {
+                id: ID!
+            }
+            """;
+
+    private static final String CHEAP_QUERY =
+            "{ searchExceptions(pagination: {first: 10}) { totalCount edges { node { id } } } }";
+    private static final String PAYLOAD_QUERY =
+            "{ searchExceptions(pagination: {first: 10}) { edges { node { id originalPayload { content } } } } }";
+    private static final String LARGE_PAYLOAD_QUERY =
+            "{ searchExceptions(pagination: {first: 100}) { edges { node { id originalPayload { content } } } } }";
+
+    @Mock
+    private GraphQLLoadMonitor loadMonitor;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryCostProperties properties = new QueryCostProperties();
+    private CompletableFuture<Object> searchResult = CompletableFuture.completedFuture(
+            Map.of("edges", List.of(), "totalCount", 0));
+    private QueryCostInstrumentation instrumentation;
+    private GraphQL graphQL;
+
+    @BeforeEach
+    void setUp() {
+        properties.setExpensiveCost(200);
+        properties.setMaxInFlightExpensiveCost(1_000);
+        properties.setQueueTimeout(Duration.ofMillis(50));
+        lenient().when(loadMonitor.currentBudget()).thenReturn(1_000);
+
+        instrumentation = new QueryCostInstrumentation(properties, loadMonitor, meterRegistry);
+        GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(
+                new SchemaParser().parse(SCHEMA),
+                RuntimeWiring.newRuntimeWiring()
+                        .type("Query", wiring -> wiring.dataFetcher("searchExceptions", env -> searchResult))
+                        .build());
+        graphQL = GraphQL.newGraphQL(schema).instrumentation(instrumentation).build();
+    }
+
+    @Test
+    @DisplayName("Cheap queries should execute and expose their cost")
+    void cheapQuery_ShouldExecute() {
+        ExecutionInput input = ExecutionInput.newExecutionInput(CHEAP_QUERY).build();
+
+        ExecutionResult result = graphQL.execute(input);
+
+        assertThat(result.getErrors()).isEmpty();
+        // searchExceptions (1) + 10 x (edges (1) + node (1)); scalars cost nothing
+        assertThat(input.getGraphQLContext().<Integer>get(QueryCostInstrumentation.QUERY_COMPLEXITY_KEY))
+                .isEqualTo(21);
+    }
+
+    @Test
+    @DisplayName("Large pages of external payloads should be rejected before any field is fetched")
+    void largePayloadQuery_ShouldBeRejected() {
+        ExecutionResult result = graphQL.execute(LARGE_PAYLOAD_QUERY);
+
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getExtensions()).containsEntry("code", "QUERY_COST_EXCEEDED");
+            assertThat(error.getExtensions()).containsEntry("cost", 5_201);
+        });
+        assertThat(meterRegistry.get("graphql_query_cost_rejected_total")
+                .tag("reason", "budget_exceeded").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Queries within the normal budget should be rejected once the budget shrinks under load")
+    void payloadQuery_UnderLoad_ShouldBeRejected() {
+        assertThat(graphQL.execute(PAYLOAD_QUERY).getErrors()).isEmpty();
+
+        when(loadMonitor.currentBudget()).thenReturn(400);
+
+        assertThat(graphQL.execute(PAYLOAD_QUERY).getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getExtensions()).containsEntry("budget", 400));
+    }
+
+    @Test
+    @DisplayName("Expensive queries should wait for in-flight cost and be rejected when it does not drain")
+    void expensiveQueries_ShouldShareInFlightBudget() {
+        properties.setMaxInFlightExpensiveCost(600);
+        setUp();
+
+        CompletableFuture<Object> pending = new CompletableFuture<>();
+        searchResult = pending;
+        CompletableFuture<ExecutionResult> first = graphQL.executeAsync(
+                ExecutionInput.newExecutionInput(PAYLOAD_QUERY).build());
+
+        ExecutionResult second = graphQL.execute(PAYLOAD_QUERY);
+        assertThat(second.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getExtensions()).containsEntry("code", "SERVICE_OVERLOADED"));
+
+        pending.complete(Map.of("edges", List.of(), "totalCount", 0));
+        assertThat(first.join().getErrors()).isEmpty();
+
+        searchResult = CompletableFuture.completedFuture(Map.of("edges", List.of(), "totalCount", 0));
+        assertThat(graphQL.execute(PAYLOAD_QUERY).getErrors()).isEmpty();
+    }
+}
@@ -1,7 +1,6 @@
 package com.arcone.biopro.exception.collector.api.graphql.security;
 
 import com.arcone.biopro.exception.collector.domain.entity.MutationAuditLog;
-import com.arcone.biopro.exception.collector.infrastructure.repository.MutationAuditLogRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +14,8 @@ import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -27,7 +28,7 @@ import static org.mockito.Mockito.*;
 class SecurityAuditLoggerTest {
 
     @Mock
-    private MutationAuditLogRepository auditLogRepository;
+    private MutationAuditWriter auditWriter;
 
     @Mock
     private ObjectMapper objectMapper;
@@ -36,7 +37,7 @@ class SecurityAuditLoggerTest {
 
     @BeforeEach
     void setUp() {
-        auditLogger = new SecurityAuditLogger(objectMapper, auditLogRepository);
+        auditLogger = new SecurityAuditLogger(objectMapper, auditWriter);
     }
 
     @Test
@@ -48,8 +49,6 @@ class SecurityAuditLoggerTest {
         String operationId = "RETRY_TXN123_123456789";
         String correlationId = "corr-123";
 
-        when(auditLogRepository.save(any(MutationAuditLog.class))).thenReturn(new MutationAuditLog());
-
         // When
         auditLogger.logMutationAttempt(
                 MutationAuditLog.OperationType.RETRY,
@@ -62,7 +61,7 @@ class SecurityAuditLoggerTest {
 
         // Then
         ArgumentCaptor<MutationAuditLog> captor = ArgumentCaptor.forClass(MutationAuditLog.class);
-        verify(auditLogRepository).save(captor.capture());
+        verify(auditWriter).begin(captor.capture());
 
         MutationAuditLog savedLog = captor.getValue();
         assertThat(savedLog.getOperationType()).isEqualTo(MutationAuditLog.OperationType.RETRY);
@@ -74,35 +73,19 @@ class SecurityAuditLoggerTest {
     }
 
     @Test
-    void logMutationResult_ShouldUpdateExistingAuditLog() {
+    void logMutationResult_ShouldCompleteAuditLog() {
         // Given
         String operationId = "RETRY_TXN123_123456789";
         boolean success = true;
         List<Object> errors = List.of();
         long executionTimeMs = 150L;
 
-        MutationAuditLog existingLog = MutationAuditLog.builder()
-                .operationId(operationId)
-                .operationType(MutationAuditLog.OperationType.RETRY)
-                .transactionId("TXN-123")
-                .performedBy("test-user")
-                .resultStatus(MutationAuditLog.ResultStatus.SUCCESS)
-                .build();
-
-        when(auditLogRepository.findByOperationIdOrderByPerformedAtAsc(operationId))
-                .thenReturn(List.of(existingLog));
-        when(auditLogRepository.save(any(MutationAuditLog.class))).thenReturn(existingLog);
-
         // When
         auditLogger.logMutationResult(operationId, success, errors, executionTimeMs);
 
         // Then
-        ArgumentCaptor<MutationAuditLog> captor = ArgumentCaptor.forClass(MutationAuditLog.class);
-        verify(auditLogRepository).save(captor.capture());
-
-        MutationAuditLog updatedLog = captor.getValue();
-        assertThat(updatedLog.getResultStatus()).isEqualTo(MutationAuditLog.ResultStatus.SUCCESS);
-        assertThat(updatedLog.getExecutionTimeMs()).isEqualTo(150);
+        verify(auditWriter).complete(eq(operationId), eq(MutationAuditLog.ResultStatus.SUCCESS), isNull(), eq(150));
+        verifyNoMoreInteractions(auditWriter);
     }
 
     @Test
@@ -114,28 +97,12 @@ class SecurityAuditLoggerTest {
         List<Object> errors = List.of("Error 1", "Error 2");
         long executionTimeMs = 500L;
 
-        MutationAuditLog existingLog = MutationAuditLog.builder()
-                .operationId(operationId)
-                .operationType(MutationAuditLog.OperationType.BULK_RETRY)
-                .transactionId("BULK_5_TRANSACTIONS")
-                .performedBy("test-user")
-                .resultStatus(MutationAuditLog.ResultStatus.SUCCESS)
-                .build();
-
-        when(auditLogRepository.findByOperationIdOrderByPerformedAtAsc(operationId))
-                .thenReturn(List.of(existingLog));
-        when(auditLogRepository.save(any(MutationAuditLog.class))).thenReturn(existingLog);
-
         // When
         auditLogger.logBulkMutationResult(operationId, successCount, failureCount, errors, executionTimeMs);
 
         // Then
-        ArgumentCaptor<MutationAuditLog> captor = ArgumentCaptor.forClass(MutationAuditLog.class);
-        verify(auditLogRepository).save(captor.capture());
-
-        MutationAuditLog updatedLog = captor.getValue();
-        assertThat(updatedLog.getResultStatus()).isEqualTo(MutationAuditLog.ResultStatus.PARTIAL_SUCCESS);
-        assertThat(updatedLog.getExecutionTimeMs()).isEqualTo(500);
+        verify(auditWriter).complete(eq(operationId), eq(MutationAuditLog.ResultStatus.PARTIAL_SUCCESS), any(), eq(500));
+        verifyNoMoreInteractions(auditWriter);
     }
 
     @Test
@@ -171,8 +138,6 @@ class SecurityAuditLoggerTest {
         String operationId = "RETRY_TXN123_123456789";
         String correlationId = "corr-123";
 
-        when(auditLogRepository.save(any(MutationAuditLog.class))).thenReturn(new MutationAuditLog());
-
         // When
         auditLogger.logMutationAttempt(
                 MutationAuditLog.OperationType.RETRY,
@@ -185,7 +150,7 @@ class SecurityAuditLoggerTest {
 
         // Then
         ArgumentCaptor<MutationAuditLog> captor = ArgumentCaptor.forClass(MutationAuditLog.class);
-        verify(auditLogRepository).save(captor.capture());
+        verify(auditWriter).begin(captor.capture());
 
         MutationAuditLog savedLog = captor.getValue();
         assertThat(savedLog.getInputData()).isNull();
@@ -199,27 +164,11 @@ class SecurityAuditLoggerTest {
         List<Object> errors = List.of("Validation failed", "Transaction not found");
         long executionTimeMs = 50L;
 
-        MutationAuditLog existingLog = MutationAuditLog.builder()
-                .operationId(operationId)
-                .operationType(MutationAuditLog.OperationType.RETRY)
-                .transactionId("TXN-123")
-                .performedBy("test-user")
-                .resultStatus(MutationAuditLog.ResultStatus.SUCCESS)
-                .build();
-
-        when(auditLogRepository.findByOperationIdOrderByPerformedAtAsc(operationId))
-                .thenReturn(List.of(existingLog));
-        when(auditLogRepository.save(any(MutationAuditLog.class))).thenReturn(existingLog);
-
         // When
         auditLogger.logMutationResult(operationId, success, errors, executionTimeMs);
 
         // Then
-        ArgumentCaptor<MutationAuditLog> captor = ArgumentCaptor.forClass(MutationAuditLog.class);
-        verify(auditLogRepository).save(captor.capture());
-
-        MutationAuditLog updatedLog = captor.getValue();
-        assertThat(updatedLog.getResultStatus()).isEqualTo(MutationAuditLog.ResultStatus.FAILURE);
-        assertThat(updatedLog.getExecutionTimeMs()).isEqualTo(50);
+        verify(auditWriter).complete(eq(operationId), eq(MutationAuditLog.ResultStatus.FAILURE), any(), eq(50));
+        verifyNoMoreInteractions(auditWriter);
     }
 }
\ No newline at end of file
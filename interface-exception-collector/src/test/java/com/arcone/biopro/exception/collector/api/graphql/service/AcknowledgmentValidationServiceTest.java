@@ -4,6 +4,8 @@ import com.arcone.biopro.exception.collector.api.graphql.dto.AcknowledgeExceptio
 import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
 import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.ExceptionStateSnapshot;
+import com.arcone.biopro.exception.collector.infrastructure.service.ExceptionStateCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,6 +34,9 @@ class AcknowledgmentValidationServiceTest {
     @Mock
     private InterfaceExceptionRepository exceptionRepository;
 
+    @Mock
+    private ExceptionStateCache exceptionStateCache;
+
     @Mock
     private Authentication authentication;
 
@@ -43,6 +48,11 @@ class AcknowledgmentValidationServiceTest {
 
     @BeforeEach
     void setUp() {
+        // Exception state is looked up through the state cache; build it from the repository stubs
+        lenient().when(exceptionStateCache.get(anyString())).thenAnswer(invocation -> exceptionRepository
+                .findByTransactionId(invocation.getArgument(0))
+                .map(exception -> ExceptionStateSnapshot.of(exception, null)));
+
         validInput = AcknowledgeExceptionInput.builder()
                 .transactionId("TXN-123")
                 .reason("Valid acknowledgment reason")
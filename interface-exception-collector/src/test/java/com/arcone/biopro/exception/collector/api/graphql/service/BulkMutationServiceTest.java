@@ -0,0 +1,228 @@
+package com.arcone.biopro.exception.collector.api.graphql.service;
+
+import com.arcone.biopro.exception.collector.api.graphql.dto.BulkAcknowledgeInput;
+import com.arcone.biopro.exception.collector.api.graphql.dto.BulkAcknowledgeResult;
+import com.arcone.biopro.exception.collector.api.graphql.dto.BulkRetryInput;
+import com.arcone.biopro.exception.collector.api.graphql.dto.BulkRetryResult;
+import com.arcone.biopro.exception.collector.api.graphql.security.SecurityAuditLogger;
+import com.arcone.biopro.exception.collector.api.graphql.validation.MutationErrorCode;
+import com.arcone.biopro.exception.collector.api.graphql.validation.ValidationResult;
+import com.arcone.biopro.exception.collector.application.service.CacheEvictionService;
+import com.arcone.biopro.exception.collector.application.service.RetryService;
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.domain.entity.MutationAuditLog;
+import com.arcone.biopro.exception.collector.domain.entity.RetryAttempt;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
+import com.arcone.biopro.exception.collector.domain.enums.RetryStatus;
+import com.arcone.biopro.exception.collector.infrastructure.monitoring.MutationMetrics;
+import com.arcone.biopro.exception.collector.infrastructure.repository.BulkMutationRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.RetryAttemptRepository;
+import com.arcone.biopro.exception.collector.infrastructure.service.OptimizedMutationValidationService;
+import com.arcone.biopro.exception.collector.infrastructure.service.OptimizedMutationValidationService.BatchValidationResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BulkMutationService.
+ * Verifies that bulk mutations issue one set-based statement per step while
+ * still reporting a result per transaction ID.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BulkMutationServiceTest {
+
+    @Mock
+    private OptimizedMutationValidationService batchValidationService;
+    @Mock
+    private RetryValidationService retryValidationService;
+    @Mock
+    private AcknowledgmentValidationService acknowledgmentValidationService;
+    @Mock
+    private BulkMutationRepository bulkMutationRepository;
+    @Mock
+    private InterfaceExceptionRepository exceptionRepository;
+    @Mock
+    private RetryAttemptRepository retryAttemptRepository;
+    @Mock
+    private RetryService retryService;
+    @Mock
+    private CacheEvictionService cacheEvictionService;
+    @Mock
+    private MutationEventPublisher mutationEventPublisher;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Mock
+    private SecurityAuditLogger auditLogger;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private Authentication authentication;
+
+    private BulkMutationService bulkMutationService;
+
+    @BeforeEach
+    void setUp() {
+        bulkMutationService = new BulkMutationService(batchValidationService, retryValidationService,
+                acknowledgmentValidationService, bulkMutationRepository, exceptionRepository,
+                retryAttemptRepository, retryService, cacheEvictionService, mutationEventPublisher,
+                applicationEventPublisher, auditLogger, new MutationMetrics(new SimpleMeterRegistry()),
+                new ObjectMapper(), transactionTemplate);
+
+        when(authentication.getName()).thenReturn("ops.user");
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        when(auditLogger.generateOperationId(anyString(), anyString())).thenReturn("op-id");
+        when(acknowledgmentValidationService.validateBulkAcknowledgmentOperation(anyList(), any()))
+                .thenReturn(ValidationResult.success());
+        when(acknowledgmentValidationService.validateAcknowledgmentInput(any(), any()))
+                .thenReturn(ValidationResult.success());
+        when(retryValidationService.validateBulkRetryRequest(anyList(), any()))
+                .thenReturn(ValidationResult.success());
+        when(retryValidationService.validateRetryInput(any(), any()))
+                .thenReturn(ValidationResult.success());
+    }
+
+    @Test
+    void bulkAcknowledge_ShouldReportPerItemResultsFromOneSetBasedUpdate() {
+        // Given: TXN-1 acknowledgeable, TXN-2 already resolved, TXN-3 missing,
+        // TXN-4 acknowledgeable but changed concurrently
+        List<String> transactionIds = List.of("TXN-1", "TXN-2", "TXN-3", "TXN-4");
+        when(batchValidationService.validateBatchOperations(transactionIds)).thenReturn(List.of(
+                state("TXN-1", ExceptionStatus.FAILED, true, false),
+                state("TXN-2", ExceptionStatus.RESOLVED, false, false),
+                state("TXN-4", ExceptionStatus.NEW, true, false)));
+        when(bulkMutationRepository.acknowledge(eq(List.of("TXN-1", "TXN-4")), any(), eq("ops.user"),
+                anyString(), any())).thenReturn(Set.of("TXN-1"));
+        when(exceptionRepository.findByTransactionIdIn(Set.of("TXN-1")))
+                .thenReturn(List.of(exception(1L, "TXN-1")));
+
+        // When
+        BulkAcknowledgeResult result = bulkMutationService.bulkAcknowledge(
+                BulkAcknowledgeInput.builder().transactionIds(transactionIds).reason("Known issue").build(),
+                authentication, "corr-id");
+
+        // Then
+        assertEquals(1, result.getSuccessCount());
+        assertEquals(3, result.getFailureCount());
+        assertTrue(result.getResults().get(0).isSuccess());
+        assertEquals(MutationErrorCode.INVALID_STATUS_TRANSITION.getCode(),
+                result.getResults().get(1).getErrors().get(0).getCode());
+        assertEquals(MutationErrorCode.EXCEPTION_NOT_FOUND.getCode(),
+                result.getResults().get(2).getErrors().get(0).getCode());
+        assertEquals(MutationErrorCode.CONCURRENT_MODIFICATION.getCode(),
+                result.getResults().get(3).getErrors().get(0).getCode());
+
+        verify(bulkMutationRepository, times(1)).acknowledge(anyList(), any(), anyString(), anyString(), any());
+        ArgumentCaptor<List<MutationAuditLog>> auditLogs = ArgumentCaptor.forClass(List.class);
+        verify(bulkMutationRepository, times(1)).insertAuditLogs(auditLogs.capture());
+        assertEquals(4, auditLogs.getValue().size());
+        assertEquals("corr-id", auditLogs.getValue().get(0).getCorrelationId());
+        verify(cacheEvictionService, times(1)).evictCachesOnBulkUpdate(anyCollection());
+        verify(applicationEventPublisher, times(1))
+                .publishEvent(any(SubscriptionEventBridge.ExceptionAcknowledgedEvent.class));
+        verify(mutationEventPublisher, times(1)).publishBulkMutationCompleted(
+                MutationEventPublisher.MutationType.BULK_ACKNOWLEDGE, 4, 1, 3, "ops.user");
+    }
+
+    @Test
+    void bulkRetry_ShouldStartRetriesWithOneUpdateAndOneInsert() {
+        // Given: TXN-1 retryable, TXN-2 with a pending retry, TXN-3 at its retry limit
+        List<String> transactionIds = List.of("TXN-1", "TXN-2", "TXN-3");
+        BatchValidationResult limitReached = state("TXN-3", ExceptionStatus.FAILED, true, false);
+        limitReached.setRetryCount(5);
+        limitReached.setMaxRetries(5);
+        BatchValidationResult pending = state("TXN-2", ExceptionStatus.FAILED, true, false);
+        pending.setPendingRetry(true);
+        when(batchValidationService.validateBatchOperations(transactionIds)).thenReturn(List.of(
+                state("TXN-1", ExceptionStatus.FAILED, true, true), pending, limitReached));
+        when(bulkMutationRepository.startRetries(eq(List.of("TXN-1")), any(), eq("ops.user"), any()))
+                .thenReturn(Map.of("TXN-1", 1L));
+        InterfaceException exception = exception(1L, "TXN-1");
+        when(exceptionRepository.findByTransactionIdIn(Set.of("TXN-1"))).thenReturn(List.of(exception));
+        RetryAttempt attempt = RetryAttempt.builder().id(10L).interfaceException(exception)
+                .attemptNumber(1).status(RetryStatus.PENDING).build();
+        when(retryAttemptRepository.findByInterfaceExceptionInAndStatus(List.of(exception), RetryStatus.PENDING))
+                .thenReturn(List.of(attempt));
+
+        // When
+        BulkRetryResult result = bulkMutationService.bulkRetry(
+                BulkRetryInput.builder().transactionIds(transactionIds).reason("Downstream recovered").build(),
+                authentication, "corr-id");
+
+        // Then
+        assertEquals(1, result.getSuccessCount());
+        assertEquals(2, result.getFailureCount());
+        assertSame(attempt, result.getResults().get(0).getRetryAttempt());
+        assertEquals(MutationErrorCode.PENDING_RETRY_EXISTS.getCode(),
+                result.getResults().get(1).getErrors().get(0).getCode());
+        assertEquals(MutationErrorCode.RETRY_LIMIT_EXCEEDED.getCode(),
+                result.getResults().get(2).getErrors().get(0).getCode());
+
+        verify(bulkMutationRepository, times(1)).insertPendingRetryAttempts(
+                argThat(ids -> List.copyOf(ids).equals(List.of(1L))), eq("ops.user"), any());
+        verify(bulkMutationRepository, times(1)).insertAuditLogs(anyList());
+        verify(retryService, times(1)).performRetryAsync(eq(exception), eq(attempt), any());
+        verify(mutationEventPublisher, times(1)).publishBulkMutationCompleted(
+                MutationEventPublisher.MutationType.BULK_RETRY, 3, 1, 2, "ops.user");
+    }
+
+    @Test
+    void bulkAcknowledge_WithInvalidRequest_ShouldNotTouchDatabase() {
+        // Given
+        when(acknowledgmentValidationService.validateBulkAcknowledgmentOperation(anyList(), any()))
+                .thenReturn(ValidationResult.failure(List.of()));
+
+        // When
+        BulkAcknowledgeResult result = bulkMutationService.bulkAcknowledge(
+                BulkAcknowledgeInput.builder().transactionIds(List.of("TXN-1")).reason("Known issue").build(),
+                authentication, "corr-id");
+
+        // Then
+        assertEquals(0, result.getSuccessCount());
+        assertEquals(1, result.getFailureCount());
+        verifyNoInteractions(batchValidationService, bulkMutationRepository, mutationEventPublisher);
+    }
+
+    private static BatchValidationResult state(String transactionId, ExceptionStatus status,
+            boolean canAcknowledge, boolean canRetry) {
+        return BatchValidationResult.builder()
+                .transactionId(transactionId)
+                .status(status)
+                .retryable(true)
+                .retryCount(0)
+                .maxRetries(5)
+                .pendingRetry(false)
+                .canAcknowledge(canAcknowledge)
+                .canRetry(canRetry)
+                .build();
+    }
+
+    private static InterfaceException exception(Long id, String transactionId) {
+        InterfaceException exception = new InterfaceException();
+        exception.setId(id);
+        exception.setTransactionId(transactionId);
+        exception.setStatus(ExceptionStatus.ACKNOWLEDGED);
+        return exception;
+    }
+}
@@ -9,6 +9,8 @@ import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
 import com.arcone.biopro.exception.collector.domain.enums.RetryStatus;
 import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
 import com.arcone.biopro.exception.collector.infrastructure.repository.RetryAttemptRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.ExceptionStateSnapshot;
+import com.arcone.biopro.exception.collector.infrastructure.service.ExceptionStateCache;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +26,8 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 /**
@@ -40,6 +44,9 @@ class CancelRetryValidationServiceTest {
     @Mock
     private RetryAttemptRepository retryAttemptRepository;
 
+    @Mock
+    private ExceptionStateCache exceptionStateCache;
+
     @Mock
     private Authentication authentication;
 
@@ -52,6 +59,12 @@ class CancelRetryValidationServiceTest {
 
     @BeforeEach
     void setUp() {
+        // Exception state is looked up through the state cache; build it from the repository stubs
+        lenient().when(exceptionStateCache.get(anyString())).thenAnswer(invocation -> exceptionRepository
+                .findByTransactionId(invocation.getArgument(0))
+                .map(exception -> ExceptionStateSnapshot.of(exception, retryAttemptRepository
+                        .findTopByInterfaceExceptionOrderByAttemptNumberDesc(exception).orElse(null))));
+
         // Set up test data
         testException = new InterfaceException();
         testException.setId(1L);
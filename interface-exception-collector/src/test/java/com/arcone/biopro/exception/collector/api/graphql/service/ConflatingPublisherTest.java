@@ -0,0 +1,177 @@
+package com.arcone.biopro.exception.collector.api.graphql.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ConflatingPublisher and the dashboard delta encoding.
+ */
+class ConflatingPublisherTest {
+
+    private static final Duration WINDOW = Duration.ofMillis(100);
+
+    private ScheduledExecutorService scheduler;
+    private AtomicInteger computations;
+    private ConflatingPublisher<Integer> publisher;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        computations = new AtomicInteger();
+        publisher = new ConflatingPublisher<>("test",
+                () -> CompletableFuture.completedFuture(computations.incrementAndGet()), WINDOW, scheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("A burst of changes within one window should cause a single recomputation")
+    void markDirty_Burst_ShouldRecomputeOnce() throws Exception {
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = publisher.stream().subscribe(received::add);
+        awaitComputations(1);
+
+        for (int i = 0; i < 500; i++) {
+            publisher.markDirty();
+        }
+        awaitComputations(2);
+        Thread.sleep(WINDOW.toMillis() * 3);
+
+        assertThat(publisher.getTriggerCount()).isEqualTo(500);
+        assertThat(publisher.getRecomputationCount()).isEqualTo(2);
+        assertThat(received).containsExactly(1, 2);
+        subscription.dispose();
+    }
+
+    @Test
+    @DisplayName("Subscribers should share the latest snapshot")
+    void stream_ShouldShareSnapshotBetweenSubscribers() throws Exception {
+        List<Integer> first = new CopyOnWriteArrayList<>();
+        Disposable firstSubscription = publisher.stream().subscribe(first::add);
+        awaitComputations(1);
+
+        List<Integer> second = new CopyOnWriteArrayList<>();
+        Disposable secondSubscription = publisher.stream().subscribe(second::add);
+        publisher.markDirty();
+        awaitComputations(2);
+        Thread.sleep(WINDOW.toMillis());
+
+        assertThat(first).containsExactly(1, 2);
+        assertThat(second).containsExactly(1, 2);
+        assertThat(publisher.getRecomputationCount()).isEqualTo(2);
+        firstSubscription.dispose();
+        secondSubscription.dispose();
+    }
+
+    @Test
+    @DisplayName("A slow subscriber should skip straight to the newest snapshot")
+    void stream_SlowSubscriber_ShouldOnlyReceiveNewestSnapshot() throws Exception {
+        List<Integer> fast = new CopyOnWriteArrayList<>();
+        Disposable fastSubscription = publisher.stream().subscribe(fast::add);
+        List<Integer> slow = new CopyOnWriteArrayList<>();
+        BaseSubscriber<Integer> slowSubscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(1);
+            }
+
+            @Override
+            protected void hookOnNext(Integer value) {
+                slow.add(value);
+            }
+        };
+        publisher.stream().subscribe(slowSubscriber);
+        awaitComputations(1);
+
+        for (int expected = 2; expected <= 4; expected++) {
+            publisher.markDirty();
+            awaitComputations(expected);
+        }
+        Thread.sleep(WINDOW.toMillis());
+        slowSubscriber.request(1);
+
+        assertThat(fast).containsExactly(1, 2, 3, 4);
+        assertThat(slow).containsExactly(1, 4);
+        fastSubscription.dispose();
+        slowSubscriber.dispose();
+    }
+
+    @Test
+    @DisplayName("Nothing should be recomputed without subscribers")
+    void markDirty_WithoutSubscribers_ShouldNotRecompute() throws Exception {
+        publisher.markDirty();
+        publisher.markDirty();
+        Thread.sleep(WINDOW.toMillis() * 3);
+        assertThat(computations.get()).isZero();
+
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = publisher.stream().subscribe(received::add);
+        awaitComputations(1);
+        Thread.sleep(WINDOW.toMillis());
+
+        assertThat(received).containsExactly(1);
+        subscription.dispose();
+    }
+
+    @Test
+    @DisplayName("Dashboard deltas should carry every field first and only changed fields afterwards")
+    void dashboardDelta_ShouldOnlyCarryChangedFields() {
+        OffsetDateTime now = OffsetDateTime.now();
+        DashboardSubscriptionService.DashboardSummary previous = summary(5, 0.5, now);
+        DashboardSubscriptionService.DashboardSummary current = summary(6, 0.5, now.plusSeconds(2));
+
+        DashboardSubscriptionService.DashboardSummaryDelta first =
+                DashboardSubscriptionService.DashboardSummaryDelta.between(null, previous);
+        DashboardSubscriptionService.DashboardSummaryDelta delta =
+                DashboardSubscriptionService.DashboardSummaryDelta.between(previous, current);
+
+        assertThat(first.getChangedFields()).hasSize(8);
+        assertThat(delta.getChangedFields()).containsExactly("activeExceptions");
+        assertThat(delta.getActiveExceptions()).isEqualTo(6L);
+        assertThat(delta.getApiSuccessRate()).isNull();
+        assertThat(delta.getLastUpdated()).isEqualTo(current.getLastUpdated());
+    }
+
+    private void awaitComputations(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (computations.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(computations.get()).isGreaterThanOrEqualTo(expected);
+    }
+
+    private static DashboardSubscriptionService.DashboardSummary summary(long active, double apiSuccessRate,
+            OffsetDateTime lastUpdated) {
+        return DashboardSubscriptionService.DashboardSummary.builder()
+                .activeExceptions(active)
+                .todayExceptions(10)
+                .failedRetries(1)
+                .successfulRetries(2)
+                .totalRetries(3)
+                .retrySuccessRate(66.67)
+                .apiSuccessRate(apiSuccessRate)
+                .totalApiCallsToday(100)
+                .lastUpdated(lastUpdated)
+                .build();
+    }
+}
@@ -7,6 +7,8 @@ import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
 import com.arcone.biopro.exception.collector.domain.enums.ResolutionMethod;
 import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.ExceptionStateSnapshot;
+import com.arcone.biopro.exception.collector.infrastructure.service.ExceptionStateCache;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,6 +28,7 @@ import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 /**
@@ -39,6 +42,9 @@ class ResolutionValidationServiceComprehensiveTest {
     @Mock
     private InterfaceExceptionRepository exceptionRepository;
 
+    @Mock
+    private ExceptionStateCache exceptionStateCache;
+
     @Mock
     private Authentication authentication;
 
@@ -50,6 +56,11 @@ class ResolutionValidationServiceComprehensiveTest {
 
     @BeforeEach
     void setUp() {
+        // Exception state is looked up through the state cache; build it from the repository stubs
+        lenient().when(exceptionStateCache.get(anyString())).thenAnswer(invocation -> exceptionRepository
+                .findByTransactionId(invocation.getArgument(0))
+                .map(exception -> ExceptionStateSnapshot.of(exception, null)));
+
         // Setup valid exception
         validException = new InterfaceException();
         validException.setId(1L);
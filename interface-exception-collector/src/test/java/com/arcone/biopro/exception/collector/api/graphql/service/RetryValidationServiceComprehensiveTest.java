@@ -13,7 +13,9 @@ import com.arcone.biopro.exception.collector.domain.enums.ResolutionMethod;
 import com.arcone.biopro.exception.collector.domain.enums.RetryStatus;
 import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
 import com.arcone.biopro.exception.collector.infrastructure.repository.RetryAttemptRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.ExceptionStateSnapshot;
 import com.arcone.biopro.exception.collector.infrastructure.service.DatabaseCachingService;
+import com.arcone.biopro.exception.collector.infrastructure.service.ExceptionStateCache;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -42,6 +44,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 /**
@@ -58,6 +61,9 @@ class RetryValidationServiceComprehensiveTest {
     @Mock
     private RetryAttemptRepository retryAttemptRepository;
 
+    @Mock
+    private ExceptionStateCache exceptionStateCache;
+
     @Mock
     private DatabaseCachingService databaseCachingService;
 
@@ -74,6 +80,12 @@ class RetryValidationServiceComprehensiveTest {
 
     @BeforeEach
     void setUp() {
+        // Exception state is looked up through the state cache; build it from the repository stubs
+        lenient().when(exceptionStateCache.get(anyString())).thenAnswer(invocation -> exceptionRepository
+                .findByTransactionId(invocation.getArgument(0))
+                .map(exception -> ExceptionStateSnapshot.of(exception, retryAttemptRepository
+                        .findTopByInterfaceExceptionOrderByAttemptNumberDesc(exception).orElse(null))));
+
         // Setup valid exception
         validException = new InterfaceException();
         validException.setId(1L);
@@ -0,0 +1,161 @@
+package com.arcone.biopro.exception.collector.api.graphql.service;
+
+import com.arcone.biopro.exception.collector.api.graphql.dto.SubscriptionFilters;
+import com.arcone.biopro.exception.collector.api.graphql.resolver.ExceptionSubscriptionResolver;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionSeverity;
+import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SubscriptionFanout and the subscription routing rules of SubscriptionFanoutService.
+ */
+class SubscriptionFanoutTest {
+
+    private record Event(String customerId, String key, int sequence) {
+    }
+
+    private SubscriptionFanout<Event> fanout(int bufferSize, SubscriptionFanout.OverflowPolicy policy) {
+        return new SubscriptionFanout<>("test", event -> List.of("customerId:" + event.customerId()),
+                Event::key, bufferSize, policy, null);
+    }
+
+    @Test
+    @DisplayName("Should deliver events only to subscribers indexed under their keys and to wildcard subscribers")
+    void publish_ShouldRouteByKey() {
+        SubscriptionFanout<Event> fanout = fanout(10, SubscriptionFanout.OverflowPolicy.DROP_OLDEST);
+        List<Event> customerOne = new ArrayList<>();
+        List<Event> everyone = new ArrayList<>();
+        Disposable first = fanout.subscribe(List.of("customerId:C1"), event -> true).subscribe(customerOne::add);
+        Disposable all = fanout.subscribe(List.of(), event -> true).subscribe(everyone::add);
+
+        assertThat(fanout.publish(new Event("C1", "a", 1))).isEqualTo(2);
+        assertThat(fanout.publish(new Event("C2", "b", 2))).isEqualTo(1);
+
+        assertThat(customerOne).extracting(Event::sequence).containsExactly(1);
+        assertThat(everyone).extracting(Event::sequence).containsExactly(1, 2);
+
+        first.dispose();
+        all.dispose();
+        assertThat(fanout.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("A slow subscriber should not hold back a fast one")
+    void publish_SlowSubscriber_ShouldNotBlockOthers() {
+        SubscriptionFanout<Event> fanout = fanout(5, SubscriptionFanout.OverflowPolicy.DROP_OLDEST);
+        List<Event> fast = new ArrayList<>();
+        fanout.subscribe(List.of(), event -> true).subscribe(fast::add);
+        StepVerifier.FirstStep<Event> slow = StepVerifier.create(fanout.subscribe(List.of(), event -> true), 0);
+
+        slow.then(() -> {
+                    for (int i = 1; i <= 100; i++) {
+                        fanout.publish(new Event("C1", "key-" + i, i));
+                    }
+                    assertThat(fast).hasSize(100);
+                    assertThat(fanout.getMaxLag()).isEqualTo(5);
+                })
+                .thenRequest(5)
+                .expectNextMatches(event -> event.sequence() == 96)
+                .expectNextCount(4)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Conflation should replace a buffered event with the same key in place once the buffer is full")
+    void publish_Conflate_ShouldKeepLatestPerKey() {
+        SubscriptionFanout<Event> fanout = fanout(2, SubscriptionFanout.OverflowPolicy.CONFLATE);
+
+        StepVerifier.create(fanout.subscribe(List.of(), event -> true), 0)
+                .then(() -> {
+                    fanout.publish(new Event("C1", "tx-1", 1));
+                    fanout.publish(new Event("C1", "tx-2", 2));
+                    fanout.publish(new Event("C1", "tx-1", 3));
+                })
+                .thenRequest(10)
+                .expectNextMatches(event -> event.sequence() == 3)
+                .expectNextMatches(event -> event.sequence() == 2)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Conflation should not replace buffered events while the buffer has room")
+    void publish_Conflate_BelowCapacity_ShouldDeliverEveryEvent() {
+        SubscriptionFanout<Event> fanout = fanout(10, SubscriptionFanout.OverflowPolicy.CONFLATE);
+
+        StepVerifier.create(fanout.subscribe(List.of(), event -> true), 0)
+                .then(() -> {
+                    fanout.publish(new Event("C1", "tx-1", 1));
+                    fanout.publish(new Event("C1", "tx-2", 2));
+                    fanout.publish(new Event("C1", "tx-1", 3));
+                })
+                .thenRequest(10)
+                .expectNextMatches(event -> event.sequence() == 1)
+                .expectNextMatches(event -> event.sequence() == 2)
+                .expectNextMatches(event -> event.sequence() == 3)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Disconnect policy should terminate a subscriber whose buffer overflows")
+    void publish_Disconnect_ShouldFailOverflowingSubscriber() {
+        SubscriptionFanout<Event> fanout = fanout(2, SubscriptionFanout.OverflowPolicy.DISCONNECT);
+
+        StepVerifier.create(fanout.subscribe(List.of(), event -> true), 0)
+                .then(() -> {
+                    for (int i = 1; i <= 3; i++) {
+                        fanout.publish(new Event("C1", "key-" + i, i));
+                    }
+                })
+                .expectErrorMatches(Exceptions::isOverflow)
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(fanout.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Subscribers should be indexed on their most selective filter")
+    void subscriberKeys_ShouldUseMostSelectiveDimension() {
+        SubscriptionFilters filters = SubscriptionFilters.builder()
+                .interfaceTypes(List.of(InterfaceType.ORDER))
+                .customerIds(List.of("C1", "C2"))
+                .build();
+
+        assertThat(SubscriptionFanoutService.subscriberKeys(filters))
+                .containsExactly("customerId:C1", "customerId:C2");
+        assertThat(SubscriptionFanoutService.subscriberKeys(
+                SubscriptionFilters.builder().severities(List.of(ExceptionSeverity.HIGH)).build()))
+                .containsExactly("severity:HIGH");
+        assertThat(SubscriptionFanoutService.subscriberKeys(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Exception filters should check every dimension including resolved status")
+    void matches_ShouldApplyAllFilters() {
+        ExceptionSubscriptionResolver.Exception exception = new ExceptionSubscriptionResolver.Exception();
+        exception.setInterfaceType("ORDER");
+        exception.setSeverity("HIGH");
+        exception.setCustomerId("C1");
+        exception.setLocationCode("LOC1");
+        exception.setStatus("RESOLVED");
+
+        assertThat(SubscriptionFanoutService.matches(SubscriptionFilters.builder()
+                .interfaceTypes(List.of(InterfaceType.ORDER)).customerIds(List.of("C1")).build(), exception)).isTrue();
+        assertThat(SubscriptionFanoutService.matches(SubscriptionFilters.builder()
+                .locationCodes(List.of("LOC2")).build(), exception)).isFalse();
+        assertThat(SubscriptionFanoutService.matches(SubscriptionFilters.builder()
+                .includeResolved(false).build(), exception)).isFalse();
+    }
+}
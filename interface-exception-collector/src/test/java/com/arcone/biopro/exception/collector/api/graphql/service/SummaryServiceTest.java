@@ -0,0 +1,239 @@
+package com.arcone.biopro.exception.collector.api.graphql.service;
+
+import com.arcone.biopro.exception.collector.api.graphql.dto.ExceptionFilters;
+import com.arcone.biopro.exception.collector.api.graphql.dto.ExceptionSummary;
+import com.arcone.biopro.exception.collector.api.graphql.dto.TimeRange;
+import com.arcone.biopro.exception.collector.application.service.ExceptionRollupService;
+import com.arcone.biopro.exception.collector.application.service.ScopedCacheService;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionSeverity;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
+import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import com.arcone.biopro.exception.collector.infrastructure.config.CacheProperties;
+import com.arcone.biopro.exception.collector.infrastructure.repository.ExceptionSummaryAggregate;
+import com.arcone.biopro.exception.collector.infrastructure.repository.ExceptionSummaryCriteria;
+import com.arcone.biopro.exception.collector.infrastructure.repository.ExceptionSummaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for SummaryService.
+ * Tests criteria construction, rollup selection, single-query aggregation and DTO mapping.
+ */
+@ExtendWith(MockitoExtension.class)
+class SummaryServiceTest {
+
+    private static final OffsetDateTime FROM = OffsetDateTime.parse("2026-01-15T00:00:00Z");
+    private static final OffsetDateTime TO = OffsetDateTime.parse("2026-01-15T12:00:00Z");
+
+    @Mock
+    private ExceptionSummaryRepository summaryRepository;
+
+    @Mock
+    private ExceptionRollupService rollupService;
+
+    private SummaryService summaryService;
+
+    @BeforeEach
+    void setUp() {
+        summaryService = new SummaryService(summaryRepository, rollupService, Runnable::run, scopedCache());
+    }
+
+    @Test
+    @DisplayName("Should map all dimensions from a single aggregation")
+    void generateSummary_ShouldMapAggregate() {
+        Map<OffsetDateTime, Long> trend = new TreeMap<>();
+        trend.put(FROM, 6L);
+        trend.put(FROM.plusHours(1), 4L);
+        when(summaryRepository.aggregate(any(ExceptionSummaryCriteria.class))).thenReturn(
+                ExceptionSummaryAggregate.builder()
+                        .totalCount(10)
+                        .byInterfaceType(Map.of(InterfaceType.ORDER, 7L, InterfaceType.COLLECTION, 3L))
+                        .bySeverity(Map.of(ExceptionSeverity.CRITICAL, 2L, ExceptionSeverity.HIGH, 8L))
+                        .byStatus(Map.of(ExceptionStatus.NEW, 10L))
+                        .trend(trend)
+                        .customerImpactCount(4)
+                        .criticalCount(2)
+                        .averageResolutionHours(1.5)
+                        .retryAttempts(8)
+                        .successfulRetries(6)
+                        .build());
+
+        ExceptionSummary summary = summaryService.generateSummary(customRange(), null).join();
+
+        assertThat(summary.getTotalExceptions()).isEqualTo(10);
+        assertThat(summary.getByInterfaceType()).hasSize(InterfaceType.values().length);
+        assertThat(summary.getByInterfaceType())
+                .filteredOn(s -> s.getInterfaceType() == InterfaceType.ORDER)
+                .singleElement()
+                .satisfies(s -> {
+                    assertThat(s.getCount()).isEqualTo(7);
+                    assertThat(s.getPercentage()).isEqualTo(70.0f);
+                });
+        assertThat(summary.getByInterfaceType())
+                .filteredOn(s -> s.getInterfaceType() == InterfaceType.DISTRIBUTION)
+                .singleElement()
+                .satisfies(s -> assertThat(s.getCount()).isZero());
+        assertThat(summary.getBySeverity()).hasSize(ExceptionSeverity.values().length);
+        assertThat(summary.getByStatus()).hasSize(ExceptionStatus.values().length);
+        assertThat(summary.getTrends()).extracting(ExceptionSummary.TrendDataPoint::getCount)
+                .containsExactly(6, 4);
+
+        ExceptionSummary.KeyMetrics metrics = summary.getKeyMetrics();
+        assertThat(metrics.getRetrySuccessRate()).isEqualTo(75.0f);
+        assertThat(metrics.getAverageResolutionTime()).isEqualTo(1.5f);
+        assertThat(metrics.getCustomerImpactCount()).isEqualTo(4);
+        assertThat(metrics.getCriticalExceptionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should pass every filter to the aggregation query")
+    void generateSummary_WithFilters_ShouldBuildCriteria() {
+        when(summaryRepository.aggregate(any(ExceptionSummaryCriteria.class))).thenReturn(emptyAggregate());
+        ExceptionFilters filters = ExceptionFilters.builder()
+                .interfaceTypes(List.of(InterfaceType.ORDER))
+                .statuses(List.of(ExceptionStatus.NEW))
+                .severities(List.of(ExceptionSeverity.HIGH))
+                .customerIds(List.of("CUST-001"))
+                .locationCodes(List.of("LOC-001"))
+                .searchTerm("timeout")
+                .excludeResolved(true)
+                .retryable(true)
+                .acknowledgedBy("ops@example.com")
+                .hasRetries(false)
+                .dateRange(ExceptionFilters.DateRangeInput.builder()
+                        .from(FROM.plusHours(2))
+                        .to(TO.plusDays(5))
+                        .build())
+                .build();
+
+        summaryService.generateSummary(customRange(), filters).join();
+
+        ArgumentCaptor<ExceptionSummaryCriteria> captor = ArgumentCaptor.forClass(ExceptionSummaryCriteria.class);
+        verify(summaryRepository).aggregate(captor.capture());
+        ExceptionSummaryCriteria criteria = captor.getValue();
+        assertThat(criteria.getFromDate()).isEqualTo(FROM.plusHours(2));
+        assertThat(criteria.getToDate()).isEqualTo(TO);
+        assertThat(criteria.getTrendInterval()).isEqualTo("hour");
+        assertThat(criteria.getInterfaceTypes()).containsExactly(InterfaceType.ORDER);
+        assertThat(criteria.getStatuses()).containsExactly(ExceptionStatus.NEW);
+        assertThat(criteria.getSeverities()).containsExactly(ExceptionSeverity.HIGH);
+        assertThat(criteria.getCustomerIds()).containsExactly("CUST-001");
+        assertThat(criteria.getLocationCodes()).containsExactly("LOC-001");
+        assertThat(criteria.getSearchTerm()).isEqualTo("timeout");
+        assertThat(criteria.getExcludeResolved()).isTrue();
+        assertThat(criteria.getRetryable()).isTrue();
+        assertThat(criteria.getAcknowledgedBy()).isEqualTo("ops@example.com");
+        assertThat(criteria.getHasRetries()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should read the rollup when it is fresh and filters allow it")
+    void generateSummary_FreshRollup_ShouldUseRollup() {
+        when(rollupService.isFresh()).thenReturn(true);
+        when(summaryRepository.aggregateFromRollup(any(ExceptionSummaryCriteria.class))).thenReturn(emptyAggregate());
+        ExceptionFilters filters = ExceptionFilters.builder()
+                .interfaceTypes(List.of(InterfaceType.ORDER))
+                .excludeResolved(true)
+                .build();
+
+        summaryService.generateSummary(customRange(), filters).join();
+
+        verify(summaryRepository).aggregateFromRollup(any(ExceptionSummaryCriteria.class));
+        verify(summaryRepository, never()).aggregate(any());
+    }
+
+    @Test
+    @DisplayName("Should read the base table for filters the rollup does not keep")
+    void generateSummary_NonRollupFilter_ShouldUseBaseTable() {
+        when(summaryRepository.aggregate(any(ExceptionSummaryCriteria.class))).thenReturn(emptyAggregate());
+        ExceptionFilters filters = ExceptionFilters.builder()
+                .customerIds(List.of("CUST-001"))
+                .build();
+
+        summaryService.generateSummary(customRange(), filters).join();
+
+        verify(summaryRepository).aggregate(any(ExceptionSummaryCriteria.class));
+        verify(summaryRepository, never()).aggregateFromRollup(any());
+    }
+
+    @Test
+    @DisplayName("Should read the base table when the rollup is stale")
+    void generateSummary_StaleRollup_ShouldUseBaseTable() {
+        when(rollupService.isFresh()).thenReturn(false);
+        when(summaryRepository.aggregate(any(ExceptionSummaryCriteria.class))).thenReturn(emptyAggregate());
+
+        summaryService.generateSummary(customRange(), null).join();
+
+        verify(summaryRepository).aggregate(any(ExceptionSummaryCriteria.class));
+        verify(summaryRepository, never()).aggregateFromRollup(any());
+    }
+
+    @Test
+    @DisplayName("Should report zero rates when there is no data")
+    void generateSummary_NoData_ShouldReturnZeroMetrics() {
+        when(summaryRepository.aggregate(any(ExceptionSummaryCriteria.class))).thenReturn(emptyAggregate());
+
+        ExceptionSummary summary = summaryService.generateSummary(customRange(), null).join();
+
+        assertThat(summary.getTotalExceptions()).isZero();
+        assertThat(summary.getByStatus()).allSatisfy(s -> assertThat(s.getPercentage()).isZero());
+        assertThat(summary.getKeyMetrics().getRetrySuccessRate()).isZero();
+        assertThat(summary.getKeyMetrics().getAverageResolutionTime()).isZero();
+        assertThat(summary.getTrends()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should fail fast when the summary pool rejects the task")
+    void generateSummary_PoolSaturated_ShouldFailFast() {
+        summaryService = new SummaryService(summaryRepository, rollupService, task -> {
+            throw new TaskRejectedException("Summary aggregation rejected - system overloaded");
+        }, scopedCache());
+
+        CompletableFuture<ExceptionSummary> result = summaryService.generateSummary(customRange(), null);
+
+        assertThat(result).isCompletedExceptionally();
+        assertThatThrownBy(result::join).hasCauseInstanceOf(TaskRejectedException.class);
+        verify(summaryRepository, never()).aggregate(any());
+    }
+
+    private ScopedCacheService scopedCache() {
+        return new ScopedCacheService(new ConcurrentMapCacheManager(), new CacheProperties(), new SimpleMeterRegistry());
+    }
+
+    private TimeRange customRange() {
+        return TimeRange.builder()
+                .period(TimeRange.TimePeriod.CUSTOM)
+                .customRange(ExceptionFilters.DateRangeInput.builder().from(FROM).to(TO).build())
+                .build();
+    }
+
+    private ExceptionSummaryAggregate emptyAggregate() {
+        return ExceptionSummaryAggregate.builder()
+                .byInterfaceType(Map.of())
+                .bySeverity(Map.of())
+                .byStatus(Map.of())
+                .trend(new TreeMap<>())
+                .build();
+    }
+}
@@ -4,6 +4,7 @@ import com.arcone.biopro.exception.collector.infrastructure.config.CacheConfig;
 import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
 import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import com.arcone.biopro.exception.collector.infrastructure.service.CacheInvalidationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,10 +13,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import java.util.List;
+
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for CacheEvictionService.
@@ -41,17 +43,23 @@ class CacheEvictionServiceTest {
     @Mock
     private Cache relatedCache;
 
+    @Mock
+    private ScopedCacheService scopedCacheService;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
     private CacheEvictionService cacheEvictionService;
 
     @BeforeEach
     void setUp() {
-        cacheEvictionService = new CacheEvictionService(cacheManager);
+        cacheEvictionService = new CacheEvictionService(cacheManager, scopedCacheService, cacheInvalidationService);
 
-        when(cacheManager.getCache(CacheConfig.EXCEPTION_DETAILS_CACHE)).thenReturn(exceptionDetailsCache);
-        when(cacheManager.getCache(CacheConfig.PAYLOAD_CACHE)).thenReturn(payloadCache);
-        when(cacheManager.getCache(CacheConfig.EXCEPTION_SUMMARY_CACHE)).thenReturn(summaryCache);
-        when(cacheManager.getCache(CacheConfig.SEARCH_RESULTS_CACHE)).thenReturn(searchCache);
-        when(cacheManager.getCache(CacheConfig.RELATED_EXCEPTIONS_CACHE)).thenReturn(relatedCache);
+        lenient().when(cacheManager.getCache(CacheConfig.EXCEPTION_DETAILS_CACHE)).thenReturn(exceptionDetailsCache);
+        lenient().when(cacheManager.getCache(CacheConfig.PAYLOAD_CACHE)).thenReturn(payloadCache);
+        lenient().when(cacheManager.getCache(CacheConfig.EXCEPTION_SUMMARY_CACHE)).thenReturn(summaryCache);
+        lenient().when(cacheManager.getCache(CacheConfig.SEARCH_RESULTS_CACHE)).thenReturn(searchCache);
+        lenient().when(cacheManager.getCache(CacheConfig.RELATED_EXCEPTIONS_CACHE)).thenReturn(relatedCache);
     }
 
     @Test
@@ -93,7 +101,8 @@ class CacheEvictionServiceTest {
 
         cacheEvictionService.evictRelatedExceptionsCache(customerId);
 
-        verify(relatedCache).clear();
+        verify(scopedCacheService).invalidateCustomer(CacheConfig.RELATED_EXCEPTIONS_CACHE, customerId);
+        verify(relatedCache, never()).clear();
     }
 
     @Test
@@ -106,9 +115,53 @@ class CacheEvictionServiceTest {
 
         cacheEvictionService.evictCachesOnExceptionCreation(exception);
 
-        verify(summaryCache).clear();
-        verify(searchCache).clear();
-        verify(relatedCache).clear();
+        verify(scopedCacheService).invalidate(exception);
+        verify(summaryCache, never()).clear();
+        verify(searchCache, never()).clear();
+        verify(relatedCache, never()).clear();
+    }
+
+    @Test
+    void shouldInvalidateScopedCachesOnceForBatch() {
+        List<InterfaceException> exceptions = List.of(
+                InterfaceException.builder().transactionId("tx-1").customerId("CUST001").build(),
+                InterfaceException.builder().transactionId("tx-2").customerId("CUST002").build());
+
+        cacheEvictionService.evictCachesOnExceptionBatch(exceptions);
+
+        verify(scopedCacheService).invalidate(exceptions);
+        verify(summaryCache, never()).clear();
+    }
+
+    @Test
+    void shouldEvictDetailsByKeyOnExceptionUpdate() {
+        InterfaceException exception = InterfaceException.builder()
+                .transactionId("test-transaction-123")
+                .interfaceType(InterfaceType.ORDER)
+                .customerId("CUST001")
+                .build();
+
+        cacheEvictionService.evictCachesOnExceptionUpdate(exception);
+
+        verify(exceptionDetailsCache).evict("test-transaction-123");
+        verify(exceptionDetailsCache, never()).clear();
+        verify(cacheInvalidationService).invalidateAfterCommit("test-transaction-123");
+        verify(scopedCacheService).invalidate(exception);
+    }
+
+    @Test
+    void shouldInvalidateExceptionStateOnBulkUpdate() {
+        List<InterfaceException> exceptions = List.of(
+                InterfaceException.builder().transactionId("tx-1").customerId("CUST001").build(),
+                InterfaceException.builder().transactionId("tx-2").customerId("CUST002").build());
+
+        cacheEvictionService.evictCachesOnBulkUpdate(exceptions);
+
+        verify(exceptionDetailsCache).evict("tx-1");
+        verify(exceptionDetailsCache).evict("tx-2");
+        verify(cacheInvalidationService).invalidateAfterCommit("tx-1");
+        verify(cacheInvalidationService).invalidateAfterCommit("tx-2");
+        verify(scopedCacheService).invalidate(exceptions);
     }
 
     @Test
@@ -123,9 +176,8 @@ class CacheEvictionServiceTest {
         cacheEvictionService.evictCachesOnStatusChange(exception);
 
         verify(exceptionDetailsCache).evict("test-transaction-123");
-        verify(summaryCache).clear();
-        verify(searchCache).clear();
-        verify(relatedCache).clear();
+        verify(scopedCacheService).invalidate(exception);
+        verify(summaryCache, never()).clear();
     }
 
     @Test
@@ -140,7 +192,7 @@ class CacheEvictionServiceTest {
 
         verify(exceptionDetailsCache).evict("test-transaction-123");
         verify(payloadCache).evict("test-transaction-123:ORDER");
-        verify(summaryCache).clear();
-        verify(relatedCache).clear();
+        verify(scopedCacheService).invalidate(exception);
+        verify(relatedCache, never()).clear();
     }
 }
\ No newline at end of file
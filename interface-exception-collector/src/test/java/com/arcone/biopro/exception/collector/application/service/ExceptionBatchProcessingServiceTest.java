@@ -0,0 +1,271 @@
+package com.arcone.biopro.exception.collector.application.service;
+
+import com.arcone.biopro.exception.collector.api.graphql.service.ExceptionEventPublisher;
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
+import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import com.arcone.biopro.exception.collector.domain.event.inbound.OrderCancelledEvent;
+import com.arcone.biopro.exception.collector.domain.event.inbound.OrderRejectedEvent;
+import com.arcone.biopro.exception.collector.infrastructure.repository.ExceptionIngestRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ExceptionBatchProcessingService.
+ * Tests batch duplicate detection, poison record handling and per-batch side
+ * effects.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExceptionBatchProcessingService Tests")
+class ExceptionBatchProcessingServiceTest {
+
+    @Mock
+    private InterfaceExceptionRepository exceptionRepository;
+
+    @Mock
+    private ExceptionIngestRepository exceptionIngestRepository;
+
+    @Mock
+    private CacheEvictionService cacheEvictionService;
+
+    @Mock
+    private MetricsService metricsService;
+
+    @Mock
+    private OrderDataEnrichmentService orderDataEnrichmentService;
+
+    @Mock
+    private ExceptionEventPublisher graphqlEventPublisher;
+
+    @Mock
+    private HotExceptionSearchService hotExceptionSearchService;
+
+    private ExceptionBatchProcessingService batchProcessingService;
+
+    @BeforeEach
+    void setUp() {
+        ExceptionProcessingService processingService = new ExceptionProcessingService(
+                exceptionRepository, cacheEvictionService, metricsService, orderDataEnrichmentService,
+                hotExceptionSearchService, graphqlEventPublisher);
+        batchProcessingService = new ExceptionBatchProcessingService(processingService, exceptionRepository,
+                exceptionIngestRepository, cacheEvictionService, metricsService, graphqlEventPublisher, orderDataEnrichmentService,
+                hotExceptionSearchService);
+
+        // Every new exception is inserted unless a test says otherwise
+        lenient().when(exceptionIngestRepository.insertIfAbsent(anyList())).thenAnswer(invocation -> {
+            List<InterfaceException> exceptions = invocation.getArgument(0);
+            return exceptions.stream().collect(Collectors.toMap(InterfaceException::getTransactionId, e -> 1L));
+        });
+    }
+
+    @Test
+    @DisplayName("Should create new exceptions with a single lookup and a single insert")
+    void shouldCreateNewExceptionsWithSingleLookupAndSave() {
+        when(exceptionRepository.findByTransactionIdIn(anySet())).thenReturn(List.of());
+
+        ExceptionBatchResult result = batchProcessingService.processBatch(List.of(
+                cancelledEvent("tx-1", "Customer request"),
+                cancelledEvent("tx-2", "Out of stock")));
+
+        assertThat(result.hasFailure()).isFalse();
+        assertThat(result.getCreated()).extracting(InterfaceException::getTransactionId)
+                .containsExactly("tx-1", "tx-2");
+        assertThat(result.getCreated()).allSatisfy(e -> {
+            assertThat(e.getInterfaceType()).isEqualTo(InterfaceType.ORDER);
+            assertThat(e.getStatus()).isEqualTo(ExceptionStatus.NEW);
+        });
+
+        verify(exceptionRepository, times(1)).findByTransactionIdIn(Set.of("tx-1", "tx-2"));
+        verify(exceptionIngestRepository, times(1)).insertIfAbsent(result.getCreated());
+        verify(exceptionRepository, never()).findByTransactionId(any());
+        verify(cacheEvictionService, times(1)).evictCachesOnExceptionBatch(result.getCreated());
+        verify(graphqlEventPublisher, times(2)).publishExceptionCreated(any(), eq("system"));
+    }
+
+    @Test
+    @DisplayName("Should merge duplicates within the batch and update stored exceptions")
+    @SuppressWarnings("unchecked")
+    void shouldMergeDuplicatesAndUpdateExisting() {
+        InterfaceException stored = InterfaceException.builder()
+                .id(10L)
+                .transactionId("tx-stored")
+                .interfaceType(InterfaceType.ORDER)
+                .exceptionReason("Old reason")
+                .operation("CANCEL_ORDER")
+                .status(ExceptionStatus.ACKNOWLEDGED)
+                .build();
+        when(exceptionRepository.findByTransactionIdIn(anySet())).thenReturn(List.of(stored));
+
+        ExceptionBatchResult result = batchProcessingService.processBatch(List.of(
+                cancelledEvent("tx-new", "First reason"),
+                cancelledEvent("tx-stored", "New reason"),
+                cancelledEvent("tx-new", "Second reason")));
+
+        assertThat(result.getCreated()).hasSize(1);
+        assertThat(result.getCreated().get(0).getExceptionReason()).isEqualTo("Second reason");
+        assertThat(result.getUpdated()).containsExactly(stored);
+        assertThat(stored.getExceptionReason()).isEqualTo("New reason");
+        assertThat(stored.getStatus()).isEqualTo(ExceptionStatus.ACKNOWLEDGED);
+
+        ArgumentCaptor<List<InterfaceException>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(exceptionIngestRepository).insertIfAbsent(inserted.capture());
+        assertThat(inserted.getValue()).extracting(InterfaceException::getTransactionId).containsExactly("tx-new");
+        ArgumentCaptor<Collection<InterfaceException>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(exceptionRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).containsExactly(stored);
+        verify(graphqlEventPublisher, times(1)).publishExceptionCreated(any(), eq("system"));
+    }
+
+    @Test
+    @DisplayName("Should skip events with missing transaction IDs")
+    void shouldSkipInvalidEvents() {
+        when(exceptionRepository.findByTransactionIdIn(anySet())).thenReturn(List.of());
+        OrderCancelledEvent invalid = cancelledEvent(null, "No transaction");
+
+        ExceptionBatchResult result = batchProcessingService.processBatch(List.of(
+                invalid, cancelledEvent("tx-1", "Valid")));
+
+        assertThat(result.hasFailure()).isFalse();
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getCreated()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should persist events before a poison record and report its index")
+    @SuppressWarnings("unchecked")
+    void shouldStopAtPoisonRecord() {
+        when(exceptionRepository.findByTransactionIdIn(anySet())).thenReturn(List.of());
+
+        List<Object> events = new ArrayList<>(Arrays.asList(
+                cancelledEvent("tx-1", "Valid"),
+                null,
+                cancelledEvent("tx-3", "Never reached")));
+
+        ExceptionBatchResult result = batchProcessingService.processBatch(events);
+
+        assertThat(result.hasFailure()).isTrue();
+        assertThat(result.getFailedIndex()).isEqualTo(1);
+        assertThat(result.getFailure()).isInstanceOf(IllegalArgumentException.class);
+
+        ArgumentCaptor<List<InterfaceException>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(exceptionIngestRepository).insertIfAbsent(inserted.capture());
+        assertThat(inserted.getValue()).extracting(InterfaceException::getTransactionId).containsExactly("tx-1");
+    }
+
+    @Test
+    @DisplayName("Should not touch the database when the first record is poison")
+    void shouldNotSaveWhenFirstRecordIsPoison() {
+        ExceptionBatchResult result = batchProcessingService.processBatch(List.of("not-an-event"));
+
+        assertThat(result.getFailedIndex()).isZero();
+        verify(exceptionRepository, never()).findByTransactionIdIn(any());
+        verify(exceptionRepository, never()).saveAll(any());
+        verify(exceptionIngestRepository, never()).insertIfAbsent(any());
+    }
+
+    @Test
+    @DisplayName("Should hand order rejections to the enrichment stage without waiting for order data")
+    void shouldScheduleOrderEnrichmentForRejectedOrders() {
+        when(exceptionRepository.findByTransactionIdIn(anySet())).thenReturn(List.of());
+
+        ExceptionBatchResult result = batchProcessingService.processBatch(List.of(
+                rejectedEvent("tx-rejected"),
+                cancelledEvent("tx-cancelled", "Customer request")));
+
+        InterfaceException rejected = result.getCreated().get(0);
+        verify(orderDataEnrichmentService).markPending(rejected);
+        verify(orderDataEnrichmentService).scheduleAfterCommit("tx-rejected");
+        verify(orderDataEnrichmentService, never()).scheduleAfterCommit("tx-cancelled");
+        verify(exceptionIngestRepository, times(1)).insertIfAbsent(anyList());
+    }
+
+    @Test
+    @DisplayName("Should apply events as duplicates when a concurrent consumer stored the exception first")
+    @SuppressWarnings("unchecked")
+    void shouldUpdateExceptionsStoredConcurrently() {
+        InterfaceException storedConcurrently = InterfaceException.builder()
+                .id(20L)
+                .transactionId("tx-raced")
+                .interfaceType(InterfaceType.ORDER)
+                .exceptionReason("Reason from the other consumer")
+                .operation("CREATE_ORDER")
+                .status(ExceptionStatus.NEW)
+                .build();
+        when(exceptionRepository.findByTransactionIdIn(anySet()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(storedConcurrently));
+        when(exceptionIngestRepository.insertIfAbsent(anyList())).thenReturn(Map.of("tx-new", 1L));
+
+        ExceptionBatchResult result = batchProcessingService.processBatch(List.of(
+                cancelledEvent("tx-new", "Customer request"),
+                rejectedEvent("tx-raced")));
+
+        assertThat(result.hasFailure()).isFalse();
+        assertThat(result.getCreated()).extracting(InterfaceException::getTransactionId).containsExactly("tx-new");
+        assertThat(result.getUpdated()).containsExactly(storedConcurrently);
+        assertThat(storedConcurrently.getExceptionReason()).isEqualTo("Invalid customer");
+
+        verify(exceptionRepository).findByTransactionIdIn(Set.of("tx-raced"));
+        ArgumentCaptor<Collection<InterfaceException>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(exceptionRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).containsExactly(storedConcurrently);
+        verify(orderDataEnrichmentService).markPending(storedConcurrently);
+        verify(orderDataEnrichmentService, times(1)).scheduleAfterCommit("tx-raced");
+        verify(graphqlEventPublisher, times(1)).publishExceptionCreated(any(), eq("system"));
+    }
+
+    private OrderRejectedEvent rejectedEvent(String transactionId) {
+        return OrderRejectedEvent.builder()
+                .eventId("evt-" + transactionId)
+                .eventType("OrderRejected")
+                .occurredOn(OffsetDateTime.now())
+                .payload(OrderRejectedEvent.OrderRejectedPayload.builder()
+                        .transactionId(transactionId)
+                        .externalId("ORDER-" + transactionId)
+                        .operation(OrderRejectedEvent.OrderOperation.CREATE_ORDER)
+                        .rejectedReason("Invalid customer")
+                        .customerId("CUST001")
+                        .build())
+                .build();
+    }
+
+    private OrderCancelledEvent cancelledEvent(String transactionId, String reason) {
+        return OrderCancelledEvent.builder()
+                .eventId("evt-" + transactionId)
+                .eventType("OrderCancelled")
+                .occurredOn(OffsetDateTime.now())
+                .payload(OrderCancelledEvent.OrderCancelledPayload.builder()
+                        .transactionId(transactionId)
+                        .externalId("ORDER-" + transactionId)
+                        .cancelReason(reason)
+                        .customerId("CUST001")
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.arcone.biopro.exception.collector.application.service;
+
+import com.arcone.biopro.exception.collector.api.dto.ExceptionListResponse;
+import com.arcone.biopro.exception.collector.api.mapper.ExceptionMapper;
+import com.arcone.biopro.exception.collector.application.service.ExceptionExportService.ExportFormat;
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionSeverity;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
+import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ExceptionExportService.
+ */
+@ExtendWith(MockitoExtension.class)
+class ExceptionExportServiceTest {
+
+    @Mock
+    private InterfaceExceptionRepository exceptionRepository;
+
+    @Mock
+    private ExceptionMapper exceptionMapper;
+
+    private final AtomicBoolean streamClosed = new AtomicBoolean();
+    private ExceptionExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExceptionExportService(exceptionRepository, exceptionMapper,
+                new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(exportService, "fetchSize", 250);
+
+        InterfaceException first = InterfaceException.builder().id(1L).build();
+        InterfaceException second = InterfaceException.builder().id(2L).build();
+        lenient().when(exceptionRepository.streamWithFilters(eq(InterfaceType.ORDER), eq(ExceptionStatus.NEW),
+                any(), any(), any(), any(), any(), eq(250)))
+                .thenReturn(Stream.of(first, second).onClose(() -> streamClosed.set(true)));
+        lenient().when(exceptionMapper.toListResponse(first)).thenReturn(row(1L, "TXN-1", "Order not found"));
+        lenient().when(exceptionMapper.toListResponse(second))
+                .thenReturn(row(2L, "TXN-2", "Invalid \"qty\", line 2\nretry"));
+    }
+
+    @Test
+    @DisplayName("NDJSON export should write one JSON object per line and close the cursor")
+    void exportNdjson_ShouldWriteOneObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = export(ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode secondRow = new ObjectMapper().readTree(lines[1]);
+        assertThat(secondRow.get("transactionId").asText()).isEqualTo("TXN-2");
+        assertThat(secondRow.get("exceptionReason").asText()).isEqualTo("Invalid \"qty\", line 2\nretry");
+        assertThat(streamClosed).isTrue();
+    }
+
+    @Test
+    @DisplayName("CSV export should write a header and quote values containing separators")
+    void exportCsv_ShouldWriteHeaderAndEscapeValues() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = export(ExportFormat.CSV, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(rows).isEqualTo(2);
+        assertThat(csv).startsWith("id,transactionId,interfaceType,exceptionReason,");
+        assertThat(csv).contains("\r\n1,TXN-1,ORDER,Order not found,");
+        assertThat(csv).contains("\r\n2,TXN-2,ORDER,\"Invalid \"\"qty\"\", line 2\nretry\",");
+        assertThat(streamClosed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Export formats should resolve case-insensitively and reject unknown formats")
+    void exportFormat_ShouldResolveByName() {
+        assertThat(ExportFormat.from("csv")).isEqualTo(ExportFormat.CSV);
+        assertThat(ExportFormat.from(" NDJSON ")).isEqualTo(ExportFormat.NDJSON);
+        assertThatThrownBy(() -> ExportFormat.from("xlsx")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("CSV export should neutralize text cells that a spreadsheet would evaluate as a formula")
+    void exportCsv_ShouldNeutralizeFormulaCells() throws Exception {
+        InterfaceException exception = InterfaceException.builder().id(3L).build();
+        ExceptionListResponse row = row(3L, "TXN-3", "=HYPERLINK(\"http://example.com\",\"x\")");
+        row.setOperation("+CREATE");
+        row.setExternalId("-ORD-1");
+        row.setCustomerId("@CUST");
+        row.setRetryCount(-1);
+        when(exceptionRepository.streamWithFilters(any(), any(), any(), any(), any(), any(), any(), eq(250)))
+                .thenReturn(Stream.of(exception));
+        when(exceptionMapper.toListResponse(exception)).thenReturn(row);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.exportExceptions(ExportFormat.CSV, null, null, null, null, null, null, Sort.unsorted(), out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).contains("\r\n3,TXN-3,ORDER,\"'=HYPERLINK(\"\"http://example.com\"\",\"\"x\"\")\",'+CREATE,'-ORD-1,");
+        assertThat(csv).contains(",'@CUST,");
+        assertThat(csv).contains(",-1,");
+    }
+
+    @Test
+    @DisplayName("Unknown sort properties should be rejected before the export starts")
+    void validateSort_ShouldRejectUnknownProperties() {
+        exportService.validateSort(Sort.by(Sort.Direction.ASC, "processedAt").and(Sort.by("transactionId")));
+
+        assertThatThrownBy(() -> exportService.validateSort(Sort.by("retryAttempts")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("retryAttempts");
+    }
+
+    private long export(ExportFormat format, ByteArrayOutputStream out) throws Exception {
+        return exportService.exportExceptions(format, InterfaceType.ORDER, ExceptionStatus.NEW, null, null,
+                null, null, Sort.by(Sort.Direction.DESC, "timestamp"), out);
+    }
+
+    private static ExceptionListResponse row(Long id, String transactionId, String reason) {
+        return ExceptionListResponse.builder()
+                .id(id)
+                .transactionId(transactionId)
+                .interfaceType(InterfaceType.ORDER)
+                .exceptionReason(reason)
+                .status(ExceptionStatus.NEW)
+                .severity(ExceptionSeverity.HIGH)
+                .build();
+    }
+}
@@ -0,0 +1,136 @@
+package com.arcone.biopro.exception.collector.application.service;
+
+import com.arcone.biopro.exception.collector.infrastructure.repository.ExceptionRollupChange;
+import com.arcone.biopro.exception.collector.infrastructure.repository.ExceptionRollupRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.ExceptionRollupState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ExceptionRollupService.
+ * Tests changed bucket selection, full rebuilds and staleness tracking.
+ */
+@ExtendWith(MockitoExtension.class)
+class ExceptionRollupServiceTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.now().withNano(0);
+
+    @Mock
+    private ExceptionRollupRepository rollupRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExceptionRollupService rollupService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        rollupService = new ExceptionRollupService(rollupRepository, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(rollupService, "enabled", true);
+        ReflectionTestUtils.setField(rollupService, "maxStalenessSeconds", 120L);
+    }
+
+    @Test
+    @DisplayName("Should recompute only the recorded and deleted buckets")
+    void refresh_ShouldRecomputeDirtyBucketsOnly() {
+        OffsetDateTime currentHour = NOW.withMinute(0).withSecond(0);
+        when(rollupRepository.tryAcquireRefreshLock()).thenReturn(true);
+        when(rollupRepository.currentTimestamp()).thenReturn(NOW);
+        when(rollupRepository.findState()).thenReturn(Optional.of(ExceptionRollupState.builder()
+                .watermark(NOW.minusMinutes(1)).lastRefreshedAt(NOW.minusMinutes(1)).build()));
+        when(rollupRepository.claimChangedBuckets()).thenReturn(List.of(
+                change(currentHour, NOW.minusSeconds(20)), change(currentHour.minusHours(3), NOW.minusSeconds(5))));
+        when(rollupRepository.claimDeletedBuckets()).thenReturn(List.of(currentHour.minusDays(40), currentHour));
+
+        int recomputed = rollupService.refresh();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OffsetDateTime>> buckets = ArgumentCaptor.forClass(List.class);
+        verify(rollupRepository).recomputeBuckets(buckets.capture());
+        assertThat(buckets.getValue())
+                .containsExactly(currentHour.minusDays(40), currentHour.minusHours(3), currentHour);
+        assertThat(recomputed).isEqualTo(3);
+        verify(rollupRepository, never()).findAllBuckets();
+        verify(rollupRepository).saveState(NOW, NOW);
+        assertThat(rollupService.isFresh()).isTrue();
+        assertThat(meterRegistry.get("exception.rollup.buckets.recomputed").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("exception.rollup.change.lag").timer().max(TimeUnit.SECONDS))
+                .isEqualTo(20.0);
+    }
+
+    @Test
+    @DisplayName("Should rebuild every bucket when no refresh state exists")
+    void refresh_NoState_ShouldRebuildAllBuckets() {
+        OffsetDateTime currentHour = NOW.withMinute(0).withSecond(0);
+        when(rollupRepository.tryAcquireRefreshLock()).thenReturn(true);
+        when(rollupRepository.currentTimestamp()).thenReturn(NOW);
+        when(rollupRepository.findState()).thenReturn(Optional.empty());
+        when(rollupRepository.findAllBuckets()).thenReturn(List.of(currentHour.minusDays(2), currentHour));
+        when(rollupRepository.claimChangedBuckets()).thenReturn(List.of(change(currentHour, NOW)));
+        when(rollupRepository.claimDeletedBuckets()).thenReturn(List.of());
+
+        assertThat(rollupService.refresh()).isEqualTo(2);
+
+        verify(rollupRepository).recomputeBuckets(List.of(currentHour.minusDays(2), currentHour));
+        verify(rollupRepository).saveState(NOW, NOW);
+        assertThat(rollupService.isFresh()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should only read the state when another instance is refreshing")
+    void refresh_LockHeldElsewhere_ShouldSkip() {
+        when(rollupRepository.tryAcquireRefreshLock()).thenReturn(false);
+        when(rollupRepository.findState()).thenReturn(Optional.of(ExceptionRollupState.builder()
+                .watermark(NOW).lastRefreshedAt(NOW).build()));
+
+        assertThat(rollupService.refresh()).isZero();
+
+        verify(rollupRepository, never()).recomputeBuckets(anyList());
+        verify(rollupRepository, never()).saveState(any(), any());
+        assertThat(rollupService.isFresh()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should report stale when the last refresh is older than the bound")
+    void isFresh_OldRefresh_ShouldBeStale() {
+        when(rollupRepository.tryAcquireRefreshLock()).thenReturn(false);
+        when(rollupRepository.findState()).thenReturn(Optional.of(ExceptionRollupState.builder()
+                .watermark(NOW.minusMinutes(10)).lastRefreshedAt(NOW.minusMinutes(10)).build()));
+
+        assertThat(rollupService.isFresh()).isFalse();
+        rollupService.refresh();
+
+        assertThat(rollupService.isFresh()).isFalse();
+        assertThat(rollupService.getStaleness().toMinutes()).isGreaterThanOrEqualTo(10);
+        assertThat(meterRegistry.get("exception.rollup.staleness.seconds").gauge().value())
+                .isGreaterThanOrEqualTo(600.0);
+    }
+
+    private static ExceptionRollupChange change(OffsetDateTime bucketStart, OffsetDateTime recordedAt) {
+        return ExceptionRollupChange.builder().bucketStart(bucketStart).oldestRecordedAt(recordedAt).build();
+    }
+}
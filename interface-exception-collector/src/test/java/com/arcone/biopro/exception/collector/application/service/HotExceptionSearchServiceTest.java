@@ -0,0 +1,141 @@
+package com.arcone.biopro.exception.collector.application.service;
+
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.infrastructure.config.ExceptionSearchProperties;
+import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for answering searches from the in-memory index.
+ */
+class HotExceptionSearchServiceTest {
+
+    private static final List<String> FIELDS = List.of("exceptionReason", "externalId", "operation", "customerId");
+
+    private final ExceptionSearchProperties properties = new ExceptionSearchProperties();
+    private final InterfaceExceptionRepository repository = mock(InterfaceExceptionRepository.class);
+    private HotExceptionSearchService service;
+    private OffsetDateTime from;
+
+    @BeforeEach
+    void setUp() {
+        properties.getHotIndex().setWarmUpEnabled(false);
+        service = new HotExceptionSearchService(repository,
+                mock(PlatformTransactionManager.class), properties, new SimpleMeterRegistry());
+        service.onApplicationReady();
+        from = OffsetDateTime.now();
+        service.indexAfterCommit(exception(1L, "Order rejected: insufficient inventory", "ORD-1"));
+    }
+
+    @Test
+    @DisplayName("Single-word queries should be answered from the index as substring matches")
+    void search_SubstringQuery_ShouldUseIndex() {
+        assertThat(service.search("ventor", FIELDS, Sort.unsorted(), from)).contains(List.of(1L));
+        assertThat(service.search("rd-1", FIELDS, Sort.unsorted(), from)).contains(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("Multi-word reason queries should go to the database, which matches them by full text")
+    void search_FullTextQuery_ShouldUseDatabase() {
+        assertThat(service.search("insufficient inventory", FIELDS, Sort.unsorted(), from)).isEmpty();
+        assertThat(service.search("insufficient inventory", List.of("externalId"), Sort.unsorted(), from))
+                .contains(List.of());
+    }
+
+    @Test
+    @DisplayName("Without ranked search, short terms should match as substrings like the plain database search")
+    void search_PlainSearch_ShouldMatchShortTermsAsSubstrings() {
+        assertThat(service.search("rd", FIELDS, Sort.unsorted(), from)).contains(List.of());
+
+        properties.setRankedEnabled(false);
+
+        assertThat(service.search("rd", FIELDS, Sort.unsorted(), from)).contains(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("An updated reason should be searchable after the update is indexed")
+    void indexAfterCommit_UpdatedException_ShouldReindex() {
+        service.indexAfterCommit(exception(1L, "Order rejected: customer on hold", "ORD-1"));
+
+        assertThat(service.search("inventory", FIELDS, Sort.unsorted(), from)).contains(List.of());
+        assertThat(service.search("hold", FIELDS, Sort.unsorted(), from)).contains(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("Polling should page through exceptions sharing one processing time")
+    void catchUp_ManyExceptionsWithSameProcessingTime_ShouldIndexAll() {
+        properties.getHotIndex().setWarmUpFetchSize(2);
+        OffsetDateTime processedAt = OffsetDateTime.now().plusSeconds(1);
+        List<InterfaceException> rows = new ArrayList<>();
+        for (long id = 10; id < 15; id++) {
+            rows.add(processed(exception(id, "Shipment delayed at depot", "SHP-" + id), processedAt));
+        }
+        stubDatabase(rows);
+
+        service.catchUp();
+
+        assertThat(service.search("depot", FIELDS, Sort.by("timestamp"), from))
+                .hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(10L, 11L, 12L, 13L, 14L));
+    }
+
+    @Test
+    @DisplayName("Polling should pick up exceptions committed late with an earlier processing time")
+    void catchUp_LateCommit_ShouldBeIndexedOnNextPoll() {
+        List<InterfaceException> rows = new ArrayList<>();
+        stubDatabase(rows);
+        rows.add(processed(exception(20L, "Label printer offline", "LBL-20"), OffsetDateTime.now().plusSeconds(5)));
+        service.catchUp();
+
+        rows.add(0, processed(exception(21L, "Label stock empty", "LBL-21"), OffsetDateTime.now().minusSeconds(10)));
+        service.catchUp();
+
+        assertThat(service.search("label", FIELDS, Sort.by("timestamp"), from))
+                .hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(20L, 21L));
+    }
+
+    /**
+     * Answers the keyset query from the given rows, which must be in (processing time, ID) order.
+     */
+    private void stubDatabase(List<InterfaceException> rows) {
+        when(repository.findProcessedAfter(any(), any(), any())).thenAnswer(invocation -> {
+            OffsetDateTime processedAt = invocation.getArgument(0);
+            Long id = invocation.getArgument(1);
+            Pageable pageable = invocation.getArgument(2);
+            return rows.stream()
+                    .filter(row -> row.getProcessedAt().isAfter(processedAt)
+                            || row.getProcessedAt().isEqual(processedAt) && row.getId() > id)
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+    }
+
+    private static InterfaceException processed(InterfaceException exception, OffsetDateTime processedAt) {
+        exception.setProcessedAt(processedAt);
+        return exception;
+    }
+
+    private InterfaceException exception(Long id, String reason, String externalId) {
+        return InterfaceException.builder()
+                .id(id)
+                .timestamp(from.plusSeconds(1))
+                .exceptionReason(reason)
+                .externalId(externalId)
+                .operation("CREATE_ORDER")
+                .build();
+    }
+}
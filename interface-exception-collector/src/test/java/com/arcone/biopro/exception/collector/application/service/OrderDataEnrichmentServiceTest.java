@@ -0,0 +1,278 @@
+package com.arcone.biopro.exception.collector.application.service;
+
+import com.arcone.biopro.exception.collector.api.dto.PayloadResponse;
+import com.arcone.biopro.exception.collector.api.graphql.service.ExceptionEventPublisher;
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import com.arcone.biopro.exception.collector.infrastructure.client.SourceServiceClient;
+import com.arcone.biopro.exception.collector.infrastructure.client.SourceServiceClientRegistry;
+import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for OrderDataEnrichmentService.
+ * Tests outcome storage, retry with backoff, pool rejection, batching and the pending sweep.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class OrderDataEnrichmentServiceTest {
+
+    private static final String TRANSACTION_ID = "txn-enrich-1";
+
+    @Mock
+    private SourceServiceClientRegistry clientRegistry;
+
+    @Mock
+    private SourceServiceClient sourceServiceClient;
+
+    @Mock
+    private InterfaceExceptionRepository exceptionRepository;
+
+    @Mock
+    private ExceptionEventPublisher graphqlEventPublisher;
+
+    @Mock
+    private CacheEvictionService cacheEvictionService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InterfaceException exception;
+    private OrderDataEnrichmentService enrichmentService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        exception = InterfaceException.builder()
+                .id(1L)
+                .transactionId(TRANSACTION_ID)
+                .externalId("ORDER-1")
+                .interfaceType(InterfaceType.ORDER)
+                .processedAt(OffsetDateTime.now().minusMinutes(10))
+                .build();
+
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(exceptionRepository.findByTransactionId(TRANSACTION_ID)).thenReturn(Optional.of(exception));
+        when(exceptionRepository.findByTransactionIdIn(any())).thenReturn(List.of(exception));
+        when(exceptionRepository.save(any(InterfaceException.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(clientRegistry.hasClient(InterfaceType.ORDER)).thenReturn(true);
+        when(clientRegistry.getClient(InterfaceType.ORDER)).thenReturn(sourceServiceClient);
+
+        enrichmentService = createService(Runnable::run);
+        enrichmentService.markPending(exception);
+    }
+
+    @AfterEach
+    void tearDown() {
+        enrichmentService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should store retrieved order data and publish an update")
+    void scheduleAfterCommit_Retrieved_ShouldStoreAndPublish() {
+        Object orderData = Map.of("externalId", "ORDER-1");
+        when(sourceServiceClient.getOriginalPayloads(List.of(exception))).thenReturn(respond(
+                PayloadResponse.builder().transactionId(TRANSACTION_ID).payload(orderData).retrieved(true).build()));
+
+        enrichmentService.scheduleAfterCommit(TRANSACTION_ID);
+
+        assertThat(exception.getOrderRetrievalPending()).isFalse();
+        assertThat(exception.getOrderRetrievalAttempted()).isTrue();
+        assertThat(exception.getOrderReceived()).isEqualTo(orderData);
+        assertThat(exception.getOrderRetrievedAt()).isNotNull();
+        assertThat(exception.getRetryable()).isTrue();
+        verify(exceptionRepository).save(exception);
+        verify(cacheEvictionService).evictCachesOnExceptionUpdate(exception);
+        verify(graphqlEventPublisher).publishExceptionUpdated(exception, "system");
+        assertThat(meterRegistry.get("order.enrichment.completed").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("order.enrichment.in_flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should record a not-found response without retrying")
+    void scheduleAfterCommit_NotFound_ShouldStoreError() {
+        when(sourceServiceClient.getOriginalPayloads(List.of(exception))).thenReturn(respond(
+                PayloadResponse.builder().transactionId(TRANSACTION_ID).retrieved(false)
+                        .errorMessage("Order not found").build()));
+
+        enrichmentService.scheduleAfterCommit(TRANSACTION_ID);
+
+        assertThat(exception.getOrderRetrievalPending()).isFalse();
+        assertThat(exception.getOrderRetrievalAttempted()).isTrue();
+        assertThat(exception.getOrderReceived()).isNull();
+        assertThat(exception.getOrderRetrievalError()).isEqualTo("Order not found");
+        assertThat(exception.getRetryable()).isFalse();
+        verify(sourceServiceClient, times(1)).getOriginalPayloads(List.of(exception));
+        assertThat(meterRegistry.get("order.enrichment.failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should record a missing source service client")
+    void scheduleAfterCommit_NoClient_ShouldStoreError() {
+        when(clientRegistry.hasClient(InterfaceType.ORDER)).thenReturn(false);
+
+        enrichmentService.scheduleAfterCommit(TRANSACTION_ID);
+
+        assertThat(exception.getOrderRetrievalPending()).isFalse();
+        assertThat(exception.getOrderRetrievalError()).isEqualTo("No source service client available");
+        assertThat(exception.getRetryable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should retry a timed out retrieval before recording the error")
+    void scheduleAfterCommit_Timeout_ShouldRetryThenStoreError() {
+        when(sourceServiceClient.getOriginalPayloads(List.of(exception)))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("Request timeout")));
+
+        enrichmentService.scheduleAfterCommit(TRANSACTION_ID);
+
+        verify(sourceServiceClient, timeout(5000).times(2)).getOriginalPayloads(List.of(exception));
+        verify(graphqlEventPublisher, timeout(5000)).publishExceptionUpdated(exception, "system");
+        assertThat(exception.getOrderRetrievalPending()).isFalse();
+        assertThat(exception.getOrderRetrievalError()).contains("timeout");
+        assertThat(exception.getRetryable()).isFalse();
+        assertThat(meterRegistry.get("order.enrichment.retried").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should retry a response flagged as a transient failure instead of storing it as not found")
+    void scheduleAfterCommit_TransientFailureResponse_ShouldRetry() {
+        Object orderData = Map.of("externalId", "ORDER-1");
+        when(sourceServiceClient.getOriginalPayloads(List.of(exception)))
+                .thenReturn(respond(PayloadResponse.builder().transactionId(TRANSACTION_ID).retrieved(false)
+                        .transientFailure(true).errorMessage("Connection refused").build()))
+                .thenReturn(respond(PayloadResponse.builder().transactionId(TRANSACTION_ID).payload(orderData)
+                        .retrieved(true).build()));
+
+        enrichmentService.scheduleAfterCommit(TRANSACTION_ID);
+
+        verify(graphqlEventPublisher, timeout(5000)).publishExceptionUpdated(exception, "system");
+        verify(sourceServiceClient, times(2)).getOriginalPayloads(List.of(exception));
+        assertThat(exception.getOrderReceived()).isEqualTo(orderData);
+        assertThat(exception.getOrderRetrievalError()).isNull();
+        assertThat(meterRegistry.get("order.enrichment.retried").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should leave the exception pending when the worker pool is full")
+    void scheduleAfterCommit_PoolSaturated_ShouldStayPending() {
+        enrichmentService.shutdown();
+        meterRegistry = new SimpleMeterRegistry();
+        enrichmentService = createService(task -> {
+            throw new TaskRejectedException("Order enrichment rejected - system overloaded");
+        });
+
+        enrichmentService.scheduleAfterCommit(TRANSACTION_ID);
+
+        assertThat(exception.getOrderRetrievalPending()).isTrue();
+        verify(exceptionRepository, never()).save(any());
+        verify(sourceServiceClient, never()).getOriginalPayloads(any());
+        assertThat(meterRegistry.get("order.enrichment.rejected").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("order.enrichment.in_flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should re-queue exceptions left pending past the grace period")
+    void sweepPending_ShouldResubmitPendingExceptions() {
+        when(exceptionRepository.findByOrderRetrievalPendingTrueAndProcessedAtBeforeOrderByProcessedAtAsc(
+                any(OffsetDateTime.class), any())).thenReturn(List.of(exception));
+        when(sourceServiceClient.getOriginalPayloads(List.of(exception))).thenReturn(respond(
+                PayloadResponse.builder().transactionId(TRANSACTION_ID).payload(Map.of()).retrieved(true).build()));
+
+        enrichmentService.sweepPending();
+
+        assertThat(exception.getOrderRetrievalPending()).isFalse();
+        verify(graphqlEventPublisher).publishExceptionUpdated(eq(exception), eq("system"));
+    }
+
+    @Test
+    @DisplayName("Should request exceptions queued behind an outstanding batch together")
+    void submit_WhileBatchOutstanding_ShouldBatchQueuedExceptions() {
+        InterfaceException second = InterfaceException.builder()
+                .id(2L).transactionId("txn-enrich-2").externalId("ORDER-2").interfaceType(InterfaceType.ORDER)
+                .build();
+        InterfaceException third = InterfaceException.builder()
+                .id(3L).transactionId("txn-enrich-3").externalId("ORDER-3").interfaceType(InterfaceType.ORDER)
+                .build();
+        enrichmentService.markPending(second);
+        enrichmentService.markPending(third);
+        when(exceptionRepository.findByTransactionId("txn-enrich-2")).thenReturn(Optional.of(second));
+        when(exceptionRepository.findByTransactionId("txn-enrich-3")).thenReturn(Optional.of(third));
+        ReflectionTestUtils.setField(enrichmentService, "maxConcurrentBatches", 1);
+
+        CompletableFuture<Map<String, PayloadResponse>> firstBatch = new CompletableFuture<>();
+        when(sourceServiceClient.getOriginalPayloads(List.of(exception))).thenReturn(firstBatch);
+        when(sourceServiceClient.getOriginalPayloads(List.of(second, third))).thenReturn(respond(
+                PayloadResponse.builder().transactionId("txn-enrich-2").payload(Map.of()).retrieved(true).build(),
+                PayloadResponse.builder().transactionId("txn-enrich-3").payload(Map.of()).retrieved(true).build()));
+
+        enrichmentService.submit(TRANSACTION_ID);
+        when(exceptionRepository.findByTransactionIdIn(any())).thenReturn(List.of(second, third));
+        enrichmentService.submit("txn-enrich-2");
+        enrichmentService.submit("txn-enrich-3");
+        verify(sourceServiceClient, never()).getOriginalPayloads(List.of(second, third));
+
+        firstBatch.complete(Map.of(TRANSACTION_ID,
+                PayloadResponse.builder().transactionId(TRANSACTION_ID).payload(Map.of()).retrieved(true).build()));
+
+        verify(sourceServiceClient).getOriginalPayloads(List.of(second, third));
+        assertThat(exception.getOrderRetrievalPending()).isFalse();
+        assertThat(second.getOrderRetrievalPending()).isFalse();
+        assertThat(third.getOrderRetrievalPending()).isFalse();
+        assertThat(meterRegistry.get("order.enrichment.completed").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("order.enrichment.in_flight").gauge().value()).isZero();
+    }
+
+    private static CompletableFuture<Map<String, PayloadResponse>> respond(PayloadResponse... responses) {
+        Map<String, PayloadResponse> byTransactionId = new LinkedHashMap<>();
+        for (PayloadResponse response : responses) {
+            byTransactionId.put(response.getTransactionId(), response);
+        }
+        return CompletableFuture.completedFuture(byTransactionId);
+    }
+
+    private OrderDataEnrichmentService createService(Executor executor) {
+        OrderDataEnrichmentService service = new OrderDataEnrichmentService(clientRegistry, exceptionRepository,
+                graphqlEventPublisher, cacheEvictionService, executor, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(service, "timeoutMs", 1000L);
+        ReflectionTestUtils.setField(service, "maxAttempts", 2);
+        ReflectionTestUtils.setField(service, "initialBackoffMs", 10L);
+        ReflectionTestUtils.setField(service, "sweepGraceSeconds", 120L);
+        ReflectionTestUtils.setField(service, "sweepBatchSize", 100);
+        ReflectionTestUtils.setField(service, "batchSize", 50);
+        ReflectionTestUtils.setField(service, "maxConcurrentBatches", 4);
+        return service;
+    }
+}
@@ -0,0 +1,88 @@
+package com.arcone.biopro.exception.collector.application.service;
+
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.infrastructure.config.RetryDispatchProperties;
+import com.arcone.biopro.exception.collector.infrastructure.repository.BulkMutationRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for PendingRetrySweeper.
+ */
+@ExtendWith(MockitoExtension.class)
+class PendingRetrySweeperTest {
+
+    @Mock
+    private BulkMutationRepository bulkMutationRepository;
+
+    @Mock
+    private InterfaceExceptionRepository exceptionRepository;
+
+    @Mock
+    private CacheEvictionService cacheEvictionService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PendingRetrySweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        RetryDispatchProperties properties = new RetryDispatchProperties();
+        properties.setPendingTimeout(Duration.ofMinutes(30));
+        sweeper = new PendingRetrySweeper(bulkMutationRepository, exceptionRepository, cacheEvictionService,
+                properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Pending attempts older than the timeout should be failed and their exceptions evicted")
+    void sweep_StalePendingAttempts_ShouldFailThemAndEvictCaches() {
+        InterfaceException exception = InterfaceException.builder().id(1L).transactionId("tx-lost").build();
+        when(bulkMutationRepository.failPendingRetryAttempts(any(), eq(PendingRetrySweeper.LOST_RETRY_MESSAGE),
+                any())).thenReturn(Set.of("tx-lost"));
+        when(exceptionRepository.findByTransactionIdIn(Set.of("tx-lost"))).thenReturn(List.of(exception));
+
+        Set<String> swept = sweeper.sweep();
+
+        assertThat(swept).containsExactly("tx-lost");
+        ArgumentCaptor<OffsetDateTime> initiatedBefore = ArgumentCaptor.forClass(OffsetDateTime.class);
+        ArgumentCaptor<OffsetDateTime> completedAt = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(bulkMutationRepository).failPendingRetryAttempts(initiatedBefore.capture(),
+                eq(PendingRetrySweeper.LOST_RETRY_MESSAGE), completedAt.capture());
+        assertThat(Duration.between(initiatedBefore.getValue(), completedAt.getValue()))
+                .isEqualTo(Duration.ofMinutes(30));
+        assertThat(completedAt.getValue()).isCloseTo(OffsetDateTime.now(), within(5, ChronoUnit.SECONDS));
+        verify(cacheEvictionService).evictCachesOnBulkUpdate(List.of(exception));
+        assertThat(meterRegistry.counter("retry.dispatch.pending.expired").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A sweep without stale attempts should not load or evict anything")
+    void sweep_NoStalePendingAttempts_ShouldDoNothingElse() {
+        when(bulkMutationRepository.failPendingRetryAttempts(any(), any(), any())).thenReturn(Set.of());
+
+        assertThat(sweeper.sweep()).isEmpty();
+
+        verifyNoInteractions(exceptionRepository, cacheEvictionService);
+        assertThat(meterRegistry.counter("retry.dispatch.pending.expired").count()).isZero();
+    }
+}
@@ -0,0 +1,169 @@
+package com.arcone.biopro.exception.collector.application.service;
+
+import com.arcone.biopro.exception.collector.api.graphql.dto.RetryExceptionInput.RetryPriority;
+import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import com.arcone.biopro.exception.collector.infrastructure.config.RetryDispatchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for RetryDispatcher.
+ */
+class RetryDispatcherTest {
+
+    private final ExecutorService workers = Executors.newFixedThreadPool(8);
+    private RetryDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+        workers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Retries for one interface type should never exceed its concurrency budget")
+    void dispatch_ShouldRespectConcurrencyBudget() throws Exception {
+        dispatcher = dispatcher(budget(2, 0, 1, 100));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(dispatcher.dispatch(InterfaceType.ORDER, RetryPriority.NORMAL, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(10);
+                running.decrementAndGet();
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(dispatcher.getInFlight(InterfaceType.ORDER)).isZero();
+        assertThat(dispatcher.getQueueDepth(InterfaceType.ORDER)).isZero();
+    }
+
+    @Test
+    @DisplayName("Queued retries should start in priority order")
+    void dispatch_ShouldHonourPriority() throws Exception {
+        dispatcher = dispatcher(budget(1, 0, 1, 100));
+        CountDownLatch blocker = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<Void> first = dispatcher.dispatch(InterfaceType.ORDER, RetryPriority.NORMAL,
+                () -> await(blocker));
+        CompletableFuture<Void> low = dispatcher.dispatch(InterfaceType.ORDER, RetryPriority.LOW,
+                () -> order.add("LOW"));
+        CompletableFuture<Void> normal = dispatcher.dispatch(InterfaceType.ORDER, null,
+                () -> order.add("NORMAL"));
+        CompletableFuture<Void> urgent = dispatcher.dispatch(InterfaceType.ORDER, RetryPriority.URGENT,
+                () -> order.add("URGENT"));
+        assertThat(dispatcher.getQueueDepth(InterfaceType.ORDER)).isEqualTo(3);
+
+        blocker.countDown();
+        CompletableFuture.allOf(first, low, normal, urgent).get(10, TimeUnit.SECONDS);
+
+        assertThat(order).containsExactly("URGENT", "NORMAL", "LOW");
+    }
+
+    @Test
+    @DisplayName("Retries beyond the queue capacity should be rejected without affecting other interface types")
+    void dispatch_WhenQueueFull_ShouldReject() throws Exception {
+        dispatcher = dispatcher(budget(1, 0, 1, 1));
+        CountDownLatch blocker = new CountDownLatch(1);
+
+        CompletableFuture<Void> running = dispatcher.dispatch(InterfaceType.ORDER, RetryPriority.NORMAL,
+                () -> await(blocker));
+        CompletableFuture<Void> queued = dispatcher.dispatch(InterfaceType.ORDER, RetryPriority.NORMAL, () -> { });
+        CompletableFuture<Void> rejected = dispatcher.dispatch(InterfaceType.ORDER, RetryPriority.NORMAL, () -> { });
+        CompletableFuture<Void> otherLane = dispatcher.dispatch(InterfaceType.COLLECTION, RetryPriority.NORMAL,
+                () -> { });
+
+        otherLane.get(5, TimeUnit.SECONDS);
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(RejectedExecutionException.class);
+
+        blocker.countDown();
+        CompletableFuture.allOf(running, queued).get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("The token bucket should allow a burst and then refill at the configured rate")
+    void tokenBucket_ShouldLimitRate() {
+        RetryDispatcher.TokenBucket bucket = new RetryDispatcher.TokenBucket(10, 2);
+        long now = System.nanoTime();
+
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        long wait = bucket.tryAcquire(now);
+        assertThat(wait).isBetween(TimeUnit.MILLISECONDS.toNanos(99), TimeUnit.MILLISECONDS.toNanos(101));
+
+        assertThat(bucket.tryAcquire(now + wait)).isZero();
+    }
+
+    @Test
+    @DisplayName("Rate-limited lanes should wake up when tokens are refilled")
+    void dispatch_WithRateLimit_ShouldCompleteAfterRefill() throws Exception {
+        dispatcher = dispatcher(budget(4, 50, 1, 100));
+        AtomicInteger executed = new AtomicInteger();
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(dispatcher.dispatch(InterfaceType.ORDER, RetryPriority.NORMAL, executed::incrementAndGet));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        assertThat(executed.get()).isEqualTo(5);
+        // One token up front, four more at 50 per second
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(70));
+    }
+
+    private RetryDispatcher dispatcher(RetryDispatchProperties.Budget budget) {
+        RetryDispatchProperties properties = new RetryDispatchProperties();
+        properties.setDefaultBudget(budget);
+        return new RetryDispatcher(properties, workers, new SimpleMeterRegistry());
+    }
+
+    private static RetryDispatchProperties.Budget budget(int maxConcurrent, double permitsPerSecond, int burst,
+            int queueCapacity) {
+        RetryDispatchProperties.Budget budget = new RetryDispatchProperties.Budget();
+        budget.setMaxConcurrent(maxConcurrent);
+        budget.setPermitsPerSecond(permitsPerSecond);
+        budget.setBurst(burst);
+        budget.setQueueCapacity(queueCapacity);
+        return budget;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
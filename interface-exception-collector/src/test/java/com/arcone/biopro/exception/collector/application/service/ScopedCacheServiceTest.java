@@ -0,0 +1,208 @@
+package com.arcone.biopro.exception.collector.application.service;
+
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import com.arcone.biopro.exception.collector.infrastructure.config.CacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ScopedCacheService.
+ */
+class ScopedCacheServiceTest {
+
+    private static final String CACHE = "test-cache";
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2026-01-15T12:00:00Z");
+
+    private CaffeineCacheManager cacheManager;
+    private SimpleMeterRegistry meterRegistry;
+    private ScopedCacheService scopedCacheService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager();
+        meterRegistry = new SimpleMeterRegistry();
+        CacheProperties cacheProperties = new CacheProperties();
+        // Refreshes are flushed explicitly by the tests
+        cacheProperties.setRefreshDebounce(Duration.ofHours(1));
+        scopedCacheService = new ScopedCacheService(cacheManager, cacheProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scopedCacheService.shutdown();
+    }
+
+    @Test
+    void get_ShouldComputeOnceAndServeFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        String first = scopedCacheService.get(CACHE, "key", CacheScope.ALL, () -> "value-" + loads.incrementAndGet());
+        String second = scopedCacheService.get(CACHE, "key", CacheScope.ALL, () -> "value-" + loads.incrementAndGet());
+
+        assertThat(first).isEqualTo("value-1");
+        assertThat(second).isEqualTo("value-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void invalidate_ShouldOnlyEvictEntriesOfTheChangedCustomer() {
+        scopedCacheService.get(CACHE, "cust-1", CacheScope.customer("CUST001"), () -> "related-1");
+        scopedCacheService.get(CACHE, "cust-2", CacheScope.customer("CUST002"), () -> "related-2");
+
+        scopedCacheService.invalidate(exception("CUST001", InterfaceType.ORDER, NOW));
+
+        assertThat(cacheManager.getCache(CACHE).get("cust-1")).isNull();
+        assertThat(cacheManager.getCache(CACHE).get("cust-2")).isNotNull();
+        assertThat(meterRegistry.counter("cache.scoped.evictions", "cache", CACHE).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void invalidate_ShouldRespectTimeWindowAndInterfaceType() {
+        CacheScope lastHourOrders = CacheScope.window(NOW.minusHours(1), NOW)
+                .withInterfaceTypes(List.of(InterfaceType.ORDER));
+        scopedCacheService.get(CACHE, "summary", lastHourOrders, () -> "summary");
+
+        scopedCacheService.invalidate(List.of(
+                exception("CUST001", InterfaceType.ORDER, NOW.minusDays(2)),
+                exception("CUST001", InterfaceType.COLLECTION, NOW.minusMinutes(5))));
+        assertThat(cacheManager.getCache(CACHE).get("summary")).isNotNull();
+
+        scopedCacheService.invalidate(exception("CUST001", InterfaceType.ORDER, NOW.minusMinutes(5)));
+        assertThat(cacheManager.getCache(CACHE).get("summary")).isNull();
+    }
+
+    @Test
+    void invalidate_ShouldMatchSearchTermsOnTokenPrefix() {
+        scopedCacheService.get(CACHE, "search", CacheScope.search("timeouts"), () -> "results");
+
+        InterfaceException unrelated = exception("CUST001", InterfaceType.ORDER, NOW);
+        unrelated.setExceptionReason("Invalid product code");
+        scopedCacheService.invalidate(unrelated);
+        assertThat(cacheManager.getCache(CACHE).get("search")).isNotNull();
+
+        InterfaceException matching = exception("CUST001", InterfaceType.ORDER, NOW);
+        matching.setExceptionReason("Inventory service timeout");
+        scopedCacheService.invalidate(matching);
+        assertThat(cacheManager.getCache(CACHE).get("search")).isNull();
+    }
+
+    @Test
+    void invalidate_RefreshableEntry_ShouldCoalesceIntoOneRecompute() {
+        AtomicInteger loads = new AtomicInteger();
+        scopedCacheService.getRefreshable(CACHE, "summary", CacheScope.ALL, () -> "summary-" + loads.incrementAndGet());
+
+        for (int i = 0; i < 50; i++) {
+            scopedCacheService.invalidate(exception("CUST00" + (i % 5), InterfaceType.ORDER, NOW));
+        }
+
+        // The previous value is served until the debounced refresh has run
+        assertThat(cacheManager.getCache(CACHE).get("summary").get()).isEqualTo("summary-1");
+
+        scopedCacheService.flushRefreshes();
+
+        assertThat(loads).hasValue(2);
+        assertThat(cacheManager.getCache(CACHE).get("summary").get()).isEqualTo("summary-2");
+        assertThat(meterRegistry.counter("cache.scoped.refreshes", "cache", CACHE).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void invalidate_RefreshableFuture_ShouldReplaceValueWhenComplete() {
+        CompletableFuture<String> refreshed = new CompletableFuture<>();
+        AtomicInteger loads = new AtomicInteger();
+        scopedCacheService.getRefreshable(CACHE, "summary", CacheScope.ALL,
+                () -> loads.incrementAndGet() == 1 ? CompletableFuture.completedFuture("old") : refreshed);
+
+        scopedCacheService.invalidate(exception("CUST001", InterfaceType.ORDER, NOW));
+        scopedCacheService.flushRefreshes();
+        assertThat(cachedFuture("summary").join()).isEqualTo("old");
+
+        refreshed.complete("new");
+        assertThat(cachedFuture("summary").join()).isEqualTo("new");
+    }
+
+    @Test
+    void get_ShouldNotCacheValueInvalidatedWhileLoading() {
+        String value = scopedCacheService.get(CACHE, "cust-1", CacheScope.customer("CUST001"), () -> {
+            scopedCacheService.invalidate(exception("CUST001", InterfaceType.ORDER, NOW));
+            return "stale";
+        });
+
+        assertThat(value).isEqualTo("stale");
+        assertThat(cacheManager.getCache(CACHE).get("cust-1")).isNull();
+    }
+
+    @Test
+    void get_ShouldEvictFailedFuture() {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        scopedCacheService.get(CACHE, "summary", CacheScope.ALL, () -> future);
+
+        future.completeExceptionally(new IllegalStateException("aggregation failed"));
+
+        assertThat(cacheManager.getCache(CACHE).get("summary")).isNull();
+    }
+
+    @Test
+    void invalidateCustomer_ShouldOnlyEvictThatCustomerInTheGivenCache() {
+        scopedCacheService.get(CACHE, "cust-1", CacheScope.customer("CUST001"), () -> "related");
+        scopedCacheService.get("other-cache", "cust-1", CacheScope.customer("CUST001"), () -> "other");
+
+        scopedCacheService.invalidateCustomer(CACHE, "CUST001");
+
+        assertThat(cacheManager.getCache(CACHE).get("cust-1")).isNull();
+        assertThat(cacheManager.getCache("other-cache").get("cust-1")).isNotNull();
+    }
+
+    @Test
+    void pruneIndex_ShouldDropEntriesNoLongerCached() {
+        scopedCacheService.get(CACHE, "a", CacheScope.customer("CUST001"), () -> "a");
+        scopedCacheService.get(CACHE, "b", new CacheScope(Set.of(), Set.of("CUST002"), null, null, null), () -> "b");
+        cacheManager.getCache(CACHE).evict("a");
+
+        scopedCacheService.pruneIndex();
+
+        assertThat(scopedCacheService.getTrackedEntryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void pruneIndex_WhileLoading_ShouldKeepEntrySoItCanStillBeInvalidated() {
+        String value = scopedCacheService.get(CACHE, "cust-1", CacheScope.customer("CUST001"), () -> {
+            scopedCacheService.pruneIndex();
+            return "loaded";
+        });
+
+        assertThat(value).isEqualTo("loaded");
+        assertThat(scopedCacheService.getTrackedEntryCount()).isEqualTo(1);
+
+        scopedCacheService.invalidate(exception("CUST001", InterfaceType.ORDER, NOW));
+
+        assertThat(cacheManager.getCache(CACHE).get("cust-1")).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<String> cachedFuture(String key) {
+        return (CompletableFuture<String>) cacheManager.getCache(CACHE).get(key).get();
+    }
+
+    private InterfaceException exception(String customerId, InterfaceType interfaceType, OffsetDateTime timestamp) {
+        return InterfaceException.builder()
+                .transactionId("tx-" + customerId + "-" + timestamp)
+                .customerId(customerId)
+                .interfaceType(interfaceType)
+                .timestamp(timestamp)
+                .exceptionReason("Order rejected")
+                .build();
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.security.core.GrantedAuthority;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
@@ -37,7 +38,7 @@ class JwtServiceTest {
 
     @BeforeEach
     void setUp() {
-        jwtService = new JwtService(secret);
+        jwtService = new JwtService(secret, 1000, Duration.ofMinutes(10));
         secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
     }
 
@@ -444,6 +445,61 @@ class JwtServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Verified Token Cache Tests")
+    class VerifiedTokenCacheTests {
+
+        @Test
+        @DisplayName("Should return cached claims and authorities for a repeated token")
+        void shouldReturnCachedClaimsForRepeatedToken() {
+            String token = createValidToken("testuser", List.of("OPERATOR"));
+
+            Claims first = jwtService.validateToken(token);
+            Collection<GrantedAuthority> firstAuthorities = jwtService.extractAuthorities(first);
+            Claims second = jwtService.validateToken("  " + token + " ");
+            Collection<GrantedAuthority> secondAuthorities = jwtService.extractAuthorities(second);
+
+            assertThat(second).isSameAs(first);
+            assertThat(secondAuthorities).isSameAs(firstAuthorities);
+            assertThat(secondAuthorities).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_OPERATOR");
+            assertThat(jwtService.getCacheStats().hitCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not cache tokens that fail validation")
+        void shouldNotCacheInvalidTokens() {
+            String token = createTokenWithWrongSignature("testuser", List.of("OPERATOR"));
+
+            for (int i = 0; i < 2; i++) {
+                assertThatThrownBy(() -> jwtService.validateToken(token))
+                        .isInstanceOf(InvalidJwtTokenException.class)
+                        .extracting("errorType")
+                        .isEqualTo(JwtValidationError.INVALID_SIGNATURE);
+            }
+            assertThat(jwtService.getCacheStats().hitCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should stop serving cached claims once the token expires")
+        void shouldExpireCachedClaimsWithToken() throws InterruptedException {
+            String token = Jwts.builder()
+                    .subject("testuser")
+                    .claim("roles", List.of("OPERATOR"))
+                    .issuedAt(new Date())
+                    .expiration(Date.from(Instant.now().plusSeconds(1)))
+                    .signWith(secretKey)
+                    .compact();
+
+            assertThat(jwtService.validateToken(token).getSubject()).isEqualTo("testuser");
+            Thread.sleep(1_100);
+
+            assertThatThrownBy(() -> jwtService.validateToken(token))
+                    .isInstanceOf(InvalidJwtTokenException.class)
+                    .extracting("errorType")
+                    .isEqualTo(JwtValidationError.TOKEN_EXPIRED);
+        }
+    }
+
     // Helper methods for creating test tokens
     private String createValidToken(String username, List<String> roles) {
         return Jwts.builder()
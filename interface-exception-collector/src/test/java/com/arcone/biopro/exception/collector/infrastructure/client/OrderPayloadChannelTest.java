@@ -0,0 +1,114 @@
+package com.arcone.biopro.exception.collector.infrastructure.client;
+
+import com.arcone.biopro.exception.collector.api.dto.PayloadResponse;
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.rsocket.exceptions.ApplicationErrorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for batch order retrieval over the RSocket request-channel.
+ */
+class OrderPayloadChannelTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RSocketRequester requester = mock(RSocketRequester.class, RETURNS_DEEP_STUBS);
+
+    @Test
+    @DisplayName("Streamed orders should be mapped to every exception with their external ID")
+    void retrieve_ShouldMapStreamedOrdersToExceptions() throws Exception {
+        InterfaceException first = exception("tx-1", "ORDER-1");
+        InterfaceException second = exception("tx-2", "ORDER-1");
+        InterfaceException missing = exception("tx-3", "ORDER-3");
+        InterfaceException failed = exception("tx-4", "ORDER-4");
+        when(requester.route("orders.batch").data(any(), eq(String.class))
+                .retrieveFlux(OrderPayloadChannel.Item.class))
+                .thenReturn(Flux.just(item("ORDER-1", "{\"externalId\":\"ORDER-1\"}", null),
+                        item("ORDER-4", null, "Order service error")));
+
+        Map<String, PayloadResponse> responses = OrderPayloadChannel.retrieve(requester, "orders.batch", TIMEOUT,
+                List.of(first, second, missing, failed), "partner-order-service-rsocket").block();
+
+        assertThat(responses).containsOnlyKeys("tx-1", "tx-2", "tx-3", "tx-4");
+        assertThat(responses.get("tx-1").isRetrieved()).isTrue();
+        assertThat(responses.get("tx-1").getPayload()).isEqualTo("{\"externalId\":\"ORDER-1\"}");
+        assertThat(responses.get("tx-2").getPayload()).isEqualTo("{\"externalId\":\"ORDER-1\"}");
+        assertThat(responses.get("tx-3").isRetrieved()).isFalse();
+        assertThat(responses.get("tx-3").getErrorMessage()).isEqualTo("Order data not found");
+        assertThat(responses.get("tx-3").isTransientFailure()).isFalse();
+        assertThat(responses.get("tx-4").isRetrieved()).isFalse();
+        assertThat(responses.get("tx-4").getErrorMessage()).isEqualTo("Order service error");
+    }
+
+    @Test
+    @DisplayName("A failed batch route should fall back to one request per order not yet received")
+    void retrieve_BatchRouteFails_ShouldRequestRemainingOrdersOneByOne() throws Exception {
+        InterfaceException received = exception("tx-1", "ORDER-1");
+        InterfaceException remaining = exception("tx-2", "ORDER-2");
+        when(requester.route("orders.batch").data(any(), eq(String.class))
+                .retrieveFlux(OrderPayloadChannel.Item.class))
+                .thenReturn(Flux.concat(Flux.just(item("ORDER-1", "{\"id\":1}", null)),
+                        Flux.error(new ApplicationErrorException("No handler for destination 'orders.batch'"))));
+        when(requester.route("orders.ORDER-2").retrieveMono(String.class)).thenReturn(Mono.just("{\"id\":2}"));
+
+        Map<String, PayloadResponse> responses = OrderPayloadChannel.retrieve(requester, "orders.batch", TIMEOUT,
+                List.of(received, remaining), "partner-order-service-rsocket").block();
+
+        assertThat(responses.get("tx-1").getPayload()).isEqualTo("{\"id\":1}");
+        assertThat(responses.get("tx-2").isRetrieved()).isTrue();
+        assertThat(responses.get("tx-2").getPayload()).isEqualTo("{\"id\":2}");
+    }
+
+    @Test
+    @DisplayName("A failed single request should be flagged as a transient failure, not as a missing order")
+    void retrieve_SingleRequestFails_ShouldFlagTransientFailure() {
+        InterfaceException failed = exception("tx-1", "ORDER-1");
+        when(requester.route("orders.batch").data(any(), eq(String.class))
+                .retrieveFlux(OrderPayloadChannel.Item.class))
+                .thenReturn(Flux.error(new ApplicationErrorException("No handler for destination 'orders.batch'")));
+        when(requester.route("orders.ORDER-1").retrieveMono(String.class))
+                .thenReturn(Mono.error(new ConnectException("Connection refused")));
+
+        Map<String, PayloadResponse> responses = OrderPayloadChannel.retrieve(requester, "orders.batch", TIMEOUT,
+                List.of(failed), "partner-order-service-rsocket").block();
+
+        assertThat(responses.get("tx-1").isRetrieved()).isFalse();
+        assertThat(responses.get("tx-1").isTransientFailure()).isTrue();
+        assertThat(responses.get("tx-1").getErrorMessage()).isEqualTo("Connection refused");
+    }
+
+    private OrderPayloadChannel.Item item(String externalId, String payload, String error) throws Exception {
+        OrderPayloadChannel.Item item = new OrderPayloadChannel.Item();
+        item.setExternalId(externalId);
+        item.setPayload(payload != null ? objectMapper.readTree(payload) : null);
+        item.setError(error);
+        return item;
+    }
+
+    private static InterfaceException exception(String transactionId, String externalId) {
+        return InterfaceException.builder()
+                .transactionId(transactionId)
+                .externalId(externalId)
+                .interfaceType(InterfaceType.ORDER)
+                .build();
+    }
+}
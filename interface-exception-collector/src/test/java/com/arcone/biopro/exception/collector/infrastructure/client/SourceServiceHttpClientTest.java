@@ -0,0 +1,160 @@
+package com.arcone.biopro.exception.collector.infrastructure.client;
+
+import com.arcone.biopro.exception.collector.infrastructure.config.SourceServiceHttpProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests the pooled asynchronous source service client against a local HTTP server.
+ */
+class SourceServiceHttpClientTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicReference<String> receivedBody = new AtomicReference<>();
+    private final CountDownLatch slowRequestReceived = new CountDownLatch(1);
+    private final CountDownLatch releaseSlowResponse = new CountDownLatch(1);
+
+    private HttpServer server;
+    private SourceServiceHttpClient client;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/orders/ORDER-1", exchange -> {
+            // Large enough to arrive in several chunks
+            StringBuilder items = new StringBuilder();
+            for (int i = 0; i < 5000; i++) {
+                items.append(i == 0 ? "" : ",").append("{\"sku\":\"SKU-").append(i).append("\",\"quantity\":1}");
+            }
+            respond(exchange, 200, "application/json",
+                    "{\"externalId\":\"ORDER-1\",\"items\":[" + items + "]}");
+        });
+        server.createContext("/orders/retry", exchange -> {
+            receivedBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            respond(exchange, 202, "text/plain", "accepted");
+        });
+        server.createContext("/orders/missing", exchange ->
+                respond(exchange, 404, "application/json", "{\"error\":\"not found\"}"));
+        server.createContext("/orders/slow", exchange -> {
+            slowRequestReceived.countDown();
+            awaitRelease(releaseSlowResponse);
+            respond(exchange, 200, "application/json", "{}");
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+        SourceServiceHttpProperties properties = new SourceServiceHttpProperties();
+        properties.setMaxConnectionsPerRoute(2);
+        client = new SourceServiceHttpClient(properties, objectMapper, Executors.newFixedThreadPool(2),
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSlowResponse.countDown();
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should parse a streamed JSON body and tag metrics with the service name")
+    void exchange_Json_ShouldParseBodyAndRecordMetrics() throws Exception {
+        ResponseEntity<Object> response = client.exchange("order-service", HttpMethod.GET,
+                baseUrl + "/orders/ORDER-1", new HttpHeaders(), null).get(10, TimeUnit.SECONDS);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Map<?, ?> body = (Map<?, ?>) response.getBody();
+        assertThat(body.get("externalId")).isEqualTo("ORDER-1");
+        assertThat((List<?>) body.get("items")).hasSize(5000);
+
+        assertThat(meterRegistry.get(SourceServiceHttpClient.REQUEST_TIMER)
+                .tag("serviceName", "order-service").tag("outcome", "200").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(SourceServiceHttpClient.POOL_LEASE_TIMER)
+                .tag("serviceName", "order-service").tag("outcome", "leased").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should send the body as JSON and return a text response")
+    void exchange_Post_ShouldSendJsonBody() throws Exception {
+        ResponseEntity<Object> response = client.exchange("order-service", HttpMethod.POST,
+                baseUrl + "/orders/retry", new HttpHeaders(), Map.of("externalId", "ORDER-1"))
+                .get(10, TimeUnit.SECONDS);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(202);
+        assertThat(response.getBody()).isEqualTo("accepted");
+        assertThat(receivedBody.get()).isEqualTo("{\"externalId\":\"ORDER-1\"}");
+    }
+
+    @Test
+    @DisplayName("Should complete exceptionally on a client error status")
+    void exchange_NotFound_ShouldFailWithClientError() {
+        assertThatThrownBy(() -> client.exchange("order-service", HttpMethod.GET,
+                baseUrl + "/orders/missing", new HttpHeaders(), null).get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(HttpClientErrorException.NotFound.class);
+    }
+
+    @Test
+    @DisplayName("Cancelling the returned future should cancel the request in flight")
+    void exchange_Cancelled_ShouldCancelRequest() throws Exception {
+        CompletableFuture<ResponseEntity<Object>> response = client.exchange("order-service", HttpMethod.GET,
+                baseUrl + "/orders/slow", new HttpHeaders(), null);
+        assertThat(slowRequestReceived.await(10, TimeUnit.SECONDS)).isTrue();
+
+        response.cancel(true);
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(meterRegistry.get(SourceServiceHttpClient.REQUEST_TIMER)
+                    .tag("serviceName", "order-service").tag("outcome", "CANCELLED").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("source_service.http.pool.connections").tag("state", "leased")
+                    .gauge().value()).isZero();
+        });
+    }
+
+    private static void awaitRelease(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(com.sun.net.httpserver.HttpExchange exchange, int status, String contentType,
+            String body) throws java.io.IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.arcone.biopro.exception.collector.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CacheConfigTest {
+
+    @Mock
+    private ObjectProvider<CacheRefreshLoader> refreshLoaders;
+
+    private CacheProperties cacheProperties;
+
+    @BeforeEach
+    void setUp() {
+        cacheProperties = new CacheProperties();
+        when(refreshLoaders.orderedStream()).thenAnswer(invocation -> Stream.empty());
+    }
+
+    @Test
+    void cacheManager_ShouldCreateApplicationAndValidationCaches() {
+        // When
+        CacheManager cacheManager = createCacheManager();
+
+        // Then
+        assertThat(cacheManager.getCacheNames()).contains(
+                CacheConfig.EXCEPTION_DETAILS_CACHE, CacheConfig.PAYLOAD_CACHE, CacheConfig.EXCEPTION_SUMMARY_CACHE,
+                CacheConfig.SEARCH_RESULTS_CACHE, CacheConfig.RELATED_EXCEPTIONS_CACHE,
+                "exception-state");
+        assertThat(cacheManager.getCache(CacheConfig.PAYLOAD_CACHE)).isInstanceOf(CaffeineCache.class);
+    }
+
+    @Test
+    void cacheManager_ShouldBoundCacheSize() {
+        // Given
+        cacheProperties.getSpecs().put(CacheConfig.SEARCH_RESULTS_CACHE, CacheProperties.Spec.of(10, Duration.ofMinutes(1)));
+        Cache cache = createCacheManager().getCache(CacheConfig.SEARCH_RESULTS_CACHE);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            cache.put("key-" + i, "value-" + i);
+        }
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = nativeCache(cache);
+        nativeCache.cleanUp();
+
+        // Then
+        assertThat(nativeCache.estimatedSize()).isLessThanOrEqualTo(10);
+        assertThat(nativeCache.stats().evictionCount()).isGreaterThanOrEqualTo(990);
+    }
+
+    @Test
+    void cacheManager_ShouldExpireEntriesAfterTtl() throws InterruptedException {
+        // Given
+        cacheProperties.getSpecs().put(CacheConfig.PAYLOAD_CACHE, CacheProperties.Spec.of(100, Duration.ofMillis(100)));
+        Cache cache = createCacheManager().getCache(CacheConfig.PAYLOAD_CACHE);
+
+        // When
+        cache.put("key1", "value1");
+        assertThat(cache.get("key1")).isNotNull();
+        Thread.sleep(150);
+
+        // Then
+        assertThat(cache.get("key1")).isNull();
+    }
+
+    @Test
+    void cacheManager_ShouldRecordStatistics() {
+        // Given
+        Cache cache = createCacheManager().getCache("exception-status");
+
+        // When
+        cache.put("key1", "value1");
+        cache.get("key1");
+        cache.get("key2");
+
+        // Then
+        CacheStats stats = nativeCache(cache).stats();
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void cacheManager_ShouldCreateUnknownCachesWithDefaultSpec() {
+        // Given
+        cacheProperties.setDefaultSpec(CacheProperties.Spec.of(5, Duration.ofMinutes(1)));
+        Cache cache = createCacheManager().getCache("interface-summary");
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, i);
+        }
+        nativeCache(cache).cleanUp();
+
+        // Then
+        assertThat(nativeCache(cache).estimatedSize()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    void cacheManager_ShouldRefreshStaleEntriesInBackground() throws InterruptedException {
+        // Given
+        AtomicInteger reloads = new AtomicInteger();
+        Cache cache = refreshingCache(key -> "reloaded-" + reloads.incrementAndGet());
+        cache.put("TXN-1", "original");
+        Thread.sleep(150);
+
+        // When / Then: the stale value is returned while it is reloaded
+        assertThat(cache.get("TXN-1", String.class)).isEqualTo("original");
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(cache.get("TXN-1", String.class)).isEqualTo("reloaded-1"));
+        assertThat(nativeCache(cache)).isInstanceOf(LoadingCache.class);
+    }
+
+    @Test
+    void cacheManager_ShouldLeaveMissesToCacheableMethod() {
+        // Given
+        AtomicInteger reloads = new AtomicInteger();
+        Cache cache = refreshingCache(key -> "reloaded-" + reloads.incrementAndGet());
+
+        // When / Then
+        assertThat(cache.get("TXN-1")).isNull();
+        assertThat(cache.get("TXN-1", () -> "computed")).isEqualTo("computed");
+        assertThat(reloads).hasValue(0);
+    }
+
+    @Test
+    void cacheManager_ShouldKeepOldValueWhenRefreshFails() throws InterruptedException {
+        // Given
+        AtomicInteger reloads = new AtomicInteger();
+        Cache cache = refreshingCache(key -> {
+            reloads.incrementAndGet();
+            throw new IllegalStateException("database unavailable");
+        });
+        cache.put("TXN-1", "original");
+        Thread.sleep(150);
+
+        // When
+        assertThat(cache.get("TXN-1", String.class)).isEqualTo("original");
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(reloads).hasValue(1));
+
+        // Then
+        assertThat(cache.get("TXN-1", String.class)).isEqualTo("original");
+    }
+
+    @Test
+    void cacheManager_ShouldIgnoreRefreshWithoutLoader() {
+        // Given
+        CacheProperties.Spec spec = CacheProperties.Spec.of(100, Duration.ofMinutes(10));
+        spec.setRefreshAfterWrite(Duration.ofMinutes(1));
+        cacheProperties.getSpecs().put(CacheConfig.SEARCH_RESULTS_CACHE, spec);
+
+        // When
+        Cache cache = createCacheManager().getCache(CacheConfig.SEARCH_RESULTS_CACHE);
+
+        // Then
+        assertThat(nativeCache(cache)).isNotInstanceOf(LoadingCache.class);
+    }
+
+    private Cache refreshingCache(Function<Object, Object> reload) {
+        CacheProperties.Spec spec = CacheProperties.Spec.of(100, Duration.ofMinutes(10));
+        spec.setRefreshAfterWrite(Duration.ofMillis(100));
+        cacheProperties.getSpecs().put(CacheConfig.EXCEPTION_DETAILS_CACHE, spec);
+        CacheRefreshLoader loader = new CacheRefreshLoader() {
+            @Override
+            public String getCacheName() {
+                return CacheConfig.EXCEPTION_DETAILS_CACHE;
+            }
+
+            @Override
+            public Object reload(Object key) {
+                return reload.apply(key);
+            }
+        };
+        when(refreshLoaders.orderedStream()).thenAnswer(invocation -> Stream.of(loader));
+        return createCacheManager().getCache(CacheConfig.EXCEPTION_DETAILS_CACHE);
+    }
+
+    private CacheManager createCacheManager() {
+        return new CacheConfig().cacheManager(cacheProperties, new ValidationCacheConfig(), refreshLoaders);
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(Cache cache) {
+        return ((CaffeineCache) cache).getNativeCache();
+    }
+}
@@ -0,0 +1,115 @@
+package com.arcone.biopro.exception.collector.infrastructure.kafka.consumer;
+
+import com.arcone.biopro.exception.collector.application.service.ExceptionBatchProcessingService;
+import com.arcone.biopro.exception.collector.application.service.ExceptionBatchResult;
+import com.arcone.biopro.exception.collector.domain.event.constants.KafkaTopics;
+import com.arcone.biopro.exception.collector.domain.event.inbound.OrderCancelledEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ExceptionBatchConsumer.
+ * Tests how batch and per-record failures are reported to the error handler.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExceptionBatchConsumer Tests")
+class ExceptionBatchConsumerTest {
+
+    @Mock
+    private ExceptionBatchProcessingService batchProcessingService;
+
+    @InjectMocks
+    private ExceptionBatchConsumer consumer;
+
+    private final OrderCancelledEvent first = cancelledEvent("tx-1");
+    private final OrderCancelledEvent bad = cancelledEvent("tx-2");
+    private final OrderCancelledEvent last = cancelledEvent("tx-3");
+
+    @Test
+    @DisplayName("Should process a successful batch with a single call")
+    void shouldProcessBatchOnce() {
+        when(batchProcessingService.processBatch(anyList())).thenReturn(success());
+
+        assertThatNoException().isThrownBy(() -> consumer.handleOrderCancelledBatch(records()));
+
+        verify(batchProcessingService).processBatch(List.of(first, bad, last));
+        verify(batchProcessingService, never()).processBatch(List.of(first));
+    }
+
+    @Test
+    @DisplayName("Should fall back to one record at a time and report only the record that fails")
+    void shouldReportFailingRecordAfterBatchWriteFails() {
+        DataIntegrityViolationException writeFailure = new DataIntegrityViolationException("value too long");
+        when(batchProcessingService.processBatch(List.of(first, bad, last))).thenThrow(writeFailure);
+        when(batchProcessingService.processBatch(List.of(first))).thenReturn(success());
+        when(batchProcessingService.processBatch(List.of(bad))).thenThrow(writeFailure);
+
+        assertThatThrownBy(() -> consumer.handleOrderCancelledBatch(records()))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> {
+                    assertThat(e.getIndex()).isEqualTo(1);
+                    assertThat(e.getCause()).isSameAs(writeFailure);
+                });
+
+        verify(batchProcessingService).processBatch(List.of(first));
+        verify(batchProcessingService, never()).processBatch(List.of(last));
+    }
+
+    @Test
+    @DisplayName("Should report the poison record index from the batch result")
+    void shouldReportPoisonRecordIndex() {
+        IllegalArgumentException poison = new IllegalArgumentException("not an event");
+        when(batchProcessingService.processBatch(anyList())).thenReturn(ExceptionBatchResult.builder()
+                .created(List.of())
+                .updated(List.of())
+                .failedIndex(2)
+                .failure(poison)
+                .build());
+
+        assertThatThrownBy(() -> consumer.handleOrderCancelledBatch(records()))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isEqualTo(2));
+    }
+
+    private List<ConsumerRecord<String, OrderCancelledEvent>> records() {
+        return List.of(
+                new ConsumerRecord<>(KafkaTopics.ORDER_CANCELLED, 0, 10L, "tx-1", first),
+                new ConsumerRecord<>(KafkaTopics.ORDER_CANCELLED, 0, 11L, "tx-2", bad),
+                new ConsumerRecord<>(KafkaTopics.ORDER_CANCELLED, 0, 12L, "tx-3", last));
+    }
+
+    private static ExceptionBatchResult success() {
+        return ExceptionBatchResult.builder()
+                .created(List.of())
+                .updated(List.of())
+                .failedIndex(-1)
+                .build();
+    }
+
+    private static OrderCancelledEvent cancelledEvent(String transactionId) {
+        return OrderCancelledEvent.builder()
+                .eventId("evt-" + transactionId)
+                .eventType("OrderCancelled")
+                .payload(OrderCancelledEvent.OrderCancelledPayload.builder()
+                        .transactionId(transactionId)
+                        .cancelReason("Customer request")
+                        .build())
+                .build();
+    }
+}
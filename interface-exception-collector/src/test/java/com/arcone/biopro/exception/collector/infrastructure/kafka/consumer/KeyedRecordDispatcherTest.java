@@ -0,0 +1,233 @@
+package com.arcone.biopro.exception.collector.infrastructure.kafka.consumer;
+
+import com.arcone.biopro.exception.collector.infrastructure.config.KeyedParallelConsumerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for keyed dispatch of consumed records to worker lanes.
+ */
+class KeyedRecordDispatcherTest {
+
+    private final ConsumerRecordRecoverer recoverer = mock(ConsumerRecordRecoverer.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final KeyedParallelConsumerProperties properties = new KeyedParallelConsumerProperties();
+    private KeyedRecordDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        properties.setWorkerLanes(4);
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(Duration.ofMillis(1));
+        properties.setMaxBackoff(Duration.ofMillis(5));
+        properties.setRevocationTimeout(Duration.ofMillis(200));
+        dispatcher = new KeyedRecordDispatcher(properties, recoverer, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.close();
+    }
+
+    @Test
+    @DisplayName("Records of another key should complete while a key is busy, records of the busy key should wait")
+    void dispatch_ShouldKeepOrderPerKeyAndRunOtherKeysInParallel() throws Exception {
+        String busyKey = "TXN-1";
+        String otherKey = keyOnOtherLane(busyKey);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> completed = new CopyOnWriteArrayList<>();
+        Acknowledgment firstAck = mock(Acknowledgment.class);
+        Acknowledgment otherAck = mock(Acknowledgment.class);
+        Acknowledgment secondAck = mock(Acknowledgment.class);
+
+        dispatcher.dispatch(record(0), busyKey, firstAck, () -> {
+            await(release);
+            completed.add("busy-0");
+        });
+        dispatcher.dispatch(record(1), otherKey, otherAck, () -> completed.add("other-1"));
+        dispatcher.dispatch(record(2), busyKey, secondAck, () -> completed.add("busy-2"));
+
+        verify(otherAck, timeout(5000)).acknowledge();
+        assertThat(completed).containsExactly("other-1");
+        verify(firstAck, never()).acknowledge();
+
+        release.countDown();
+        verify(secondAck, timeout(5000)).acknowledge();
+        assertThat(completed).containsExactly("other-1", "busy-0", "busy-2");
+    }
+
+    @Test
+    @DisplayName("A record failing every attempt should be dead lettered and then acknowledged")
+    void dispatch_RetriesExhausted_ShouldDeadLetterAndAcknowledge() {
+        AtomicInteger attempts = new AtomicInteger();
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        ConsumerRecord<String, String> record = record(7);
+
+        dispatcher.dispatch(record, "TXN-7", acknowledgment, () -> {
+            attempts.incrementAndGet();
+            throw new RuntimeException("database unavailable");
+        });
+
+        verify(acknowledgment, timeout(5000)).acknowledge();
+        verify(recoverer).accept(same(record), any(RuntimeException.class));
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.get("kafka.parallel.records.retried").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A record waiting for a retry should not hold its lane, only later records of its key")
+    void dispatch_Retry_ShouldNotBlockOtherKeysOnLane() {
+        dispatcher.close();
+        properties.setInitialBackoff(Duration.ofMillis(300));
+        dispatcher = new KeyedRecordDispatcher(properties, recoverer, meterRegistry);
+        String failingKey = "TXN-1";
+        String otherKey = keyOnSameLane(failingKey);
+        AtomicInteger attempts = new AtomicInteger();
+        List<String> completed = new CopyOnWriteArrayList<>();
+        Acknowledgment failingAck = mock(Acknowledgment.class);
+        Acknowledgment laterAck = mock(Acknowledgment.class);
+        Acknowledgment otherAck = mock(Acknowledgment.class);
+
+        dispatcher.dispatch(record(0), failingKey, failingAck, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new RuntimeException("database unavailable");
+            }
+            completed.add("failing-0");
+        });
+        dispatcher.dispatch(record(1), failingKey, laterAck, () -> completed.add("later-1"));
+        dispatcher.dispatch(record(2), otherKey, otherAck, () -> completed.add("other-2"));
+
+        verify(otherAck, timeout(200)).acknowledge();
+        assertThat(completed).containsExactly("other-2");
+        verify(laterAck, timeout(5000)).acknowledge();
+        verify(failingAck).acknowledge();
+        assertThat(completed).containsExactly("other-2", "failing-0", "later-1");
+        assertThat(meterRegistry.get("kafka.parallel.keys.parked").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("A non-retryable failure should be dead lettered without retrying")
+    void dispatch_NonRetryableFailure_ShouldDeadLetterImmediately() {
+        AtomicInteger attempts = new AtomicInteger();
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        dispatcher.dispatch(record(8), "TXN-8", acknowledgment, () -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("invalid event");
+        });
+
+        verify(acknowledgment, timeout(5000)).acknowledge();
+        verify(recoverer).accept(any(), any(IllegalArgumentException.class));
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Revocation should wait for the revoked partition's records so their acknowledgments are committed")
+    void revocation_ShouldWaitForDispatchedRecords() {
+        CountDownLatch started = new CountDownLatch(1);
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        dispatcher.dispatch(record(0, 3), "TXN-1", acknowledgment, () -> {
+            started.countDown();
+            sleep(50);
+        });
+        await(started);
+
+        dispatcher.onPartitionsRevokedBeforeCommit(null, List.of(new TopicPartition("OrderRejected", 0)));
+
+        verify(acknowledgment).acknowledge();
+        assertThat(meterRegistry.get("kafka.parallel.records.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Records of a revoked partition still queued after the timeout should be dropped without acknowledgment")
+    void revocation_Timeout_ShouldDropQueuedRecords() {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        List<String> completed = new CopyOnWriteArrayList<>();
+        Acknowledgment runningAck = mock(Acknowledgment.class);
+        Acknowledgment queuedAck = mock(Acknowledgment.class);
+        Acknowledgment otherPartitionAck = mock(Acknowledgment.class);
+        dispatcher.dispatch(record(0, 3), "TXN-1", runningAck, () -> {
+            started.countDown();
+            await(release);
+            completed.add("running");
+        });
+        dispatcher.dispatch(record(0, 4), "TXN-1", queuedAck, () -> completed.add("queued"));
+        dispatcher.dispatch(record(1, 5), "TXN-1", otherPartitionAck, () -> completed.add("other-partition"));
+        await(started);
+
+        dispatcher.onPartitionsRevokedBeforeCommit(null, List.of(new TopicPartition("OrderRejected", 0)));
+        release.countDown();
+
+        verify(otherPartitionAck, timeout(5000)).acknowledge();
+        assertThat(completed).containsExactly("running", "other-partition");
+        verify(runningAck, never()).acknowledge();
+        verify(queuedAck, never()).acknowledge();
+        assertThat(meterRegistry.get("kafka.parallel.records.dropped").counter().count()).isEqualTo(1);
+    }
+
+    private String keyOnOtherLane(String key) {
+        for (int i = 2;; i++) {
+            String candidate = "TXN-" + i;
+            if (dispatcher.laneOf(candidate) != dispatcher.laneOf(key)) {
+                return candidate;
+            }
+        }
+    }
+
+    private String keyOnSameLane(String key) {
+        for (int i = 2;; i++) {
+            String candidate = "TXN-" + i;
+            if (dispatcher.laneOf(candidate) == dispatcher.laneOf(key)) {
+                return candidate;
+            }
+        }
+    }
+
+    private static ConsumerRecord<String, String> record(long offset) {
+        return record(0, offset);
+    }
+
+    private static ConsumerRecord<String, String> record(int partition, long offset) {
+        return new ConsumerRecord<>("OrderRejected", partition, offset, null, "{}");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.OffsetDateTime;
 import java.util.concurrent.CompletableFuture;
@@ -22,6 +23,8 @@ import java.util.concurrent.CompletableFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -191,4 +194,21 @@ class ExceptionEventPublisherTest {
         ExceptionCapturedEvent.ExceptionCapturedPayload payload = capturedEvent.getPayload();
         assertThat(payload.getCustomerId()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void publishExceptionResolved_WithOutbox_ShouldAppendToOutboxInsteadOfSending() {
+        // Given
+        OutboxEventWriter outboxWriter = mock(OutboxEventWriter.class);
+        ReflectionTestUtils.setField(exceptionEventPublisher, "outboxWriter", outboxWriter);
+
+        // When
+        CompletableFuture<SendResult<String, Object>> result = exceptionEventPublisher.publishExceptionResolved(
+                12345L, "txn-123", "RETRY_SUCCESS", "system", OffsetDateTime.now(), 2, null, "corr-123", null);
+
+        // Then
+        assertThat(result).isCompleted();
+        verify(outboxWriter).append(eq(KafkaTopics.EXCEPTION_RESOLVED), eq("txn-123"),
+                any(ExceptionResolvedEvent.class));
+        verifyNoInteractions(kafkaTemplate);
+    }
+}
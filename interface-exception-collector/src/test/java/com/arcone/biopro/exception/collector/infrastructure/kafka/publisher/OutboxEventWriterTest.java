@@ -0,0 +1,99 @@
+package com.arcone.biopro.exception.collector.infrastructure.kafka.publisher;
+
+import com.arcone.biopro.exception.collector.infrastructure.repository.OutboxRecord;
+import com.arcone.biopro.exception.collector.infrastructure.repository.OutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for writing outbound events to the outbox.
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxEventWriterTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    private OutboxEventWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new OutboxEventWriter(outboxRepository, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Outside a transaction the event should be inserted immediately")
+    void append_NoTransaction_ShouldInsertImmediately() {
+        writer.append("ExceptionResolved", "txn-1", Map.of("exceptionId", 1));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxRecord>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).insertAll(captor.capture());
+        OutboxRecord record = captor.getValue().get(0);
+        assertThat(record.getTopic()).isEqualTo("ExceptionResolved");
+        assertThat(record.getMessageKey()).isEqualTo("txn-1");
+        assertThat(record.getPayload()).isEqualTo("{\"exceptionId\":1}");
+        assertThat(record.getEventType()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("Events appended in a transaction should be inserted as one batch before commit")
+    void append_InTransaction_ShouldInsertBatchBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        writer.append("ExceptionResolved", "txn-1", Map.of("exceptionId", 1));
+        writer.append("ExceptionRetryCompleted", "txn-1", Map.of("exceptionId", 1));
+        verify(outboxRepository, never()).insertAll(anyList());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations,
+                TransactionSynchronization.STATUS_COMMITTED);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxRecord>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).insertAll(captor.capture());
+        assertThat(captor.getValue()).extracting(OutboxRecord::getTopic)
+                .containsExactly("ExceptionResolved", "ExceptionRetryCompleted");
+        assertThat(TransactionSynchronizationManager.hasResource(writer)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Events appended in a rolled back transaction should never be written")
+    void append_Rollback_ShouldNotInsert() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        writer.append("ExceptionResolved", "txn-1", Map.of("exceptionId", 1));
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(outboxRepository, never()).insertAll(any());
+        assertThat(TransactionSynchronizationManager.hasResource(writer)).isFalse();
+    }
+}
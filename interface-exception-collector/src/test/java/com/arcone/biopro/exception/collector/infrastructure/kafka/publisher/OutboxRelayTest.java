@@ -0,0 +1,186 @@
+package com.arcone.biopro.exception.collector.infrastructure.kafka.publisher;
+
+import com.arcone.biopro.exception.collector.infrastructure.config.OutboxProperties;
+import com.arcone.biopro.exception.collector.infrastructure.repository.OutboxRecord;
+import com.arcone.biopro.exception.collector.infrastructure.repository.OutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for relaying outbox events to Kafka.
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private KafkaOperations<String, String> kafkaOperations;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OutboxProperties properties;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OutboxProperties();
+        properties.setBatchSize(3);
+        relay = new OutboxRelay(outboxRepository, kafkaOperations, transactionManager, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should send a batch in id order with type headers and delete it")
+    void relay_ShouldSendBatchInOrderAndDeleteIt() {
+        when(outboxRepository.tryAcquireRelayLock()).thenReturn(true);
+        when(outboxRepository.findNextBatch(3)).thenReturn(List.of(record(1, "txn-1"), record(2, "txn-2")));
+        when(kafkaOperations.send(any(ProducerRecord.class))).thenReturn(acknowledged());
+
+        int sent = relay.relay();
+
+        assertThat(sent).isEqualTo(2);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, String>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaOperations, times(2)).send(captor.capture());
+        assertThat(captor.getAllValues()).extracting(ProducerRecord::key).containsExactly("txn-1", "txn-2");
+        ProducerRecord<String, String> first = captor.getAllValues().get(0);
+        assertThat(first.topic()).isEqualTo("ExceptionResolved");
+        assertThat(first.value()).isEqualTo("{\"id\":1}");
+        assertThat(new String(first.headers().lastHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME).value(),
+                StandardCharsets.UTF_8)).isEqualTo("com.example.ExceptionResolvedEvent");
+        verify(kafkaOperations).flush();
+        verify(outboxRepository).deleteByIds(List.of(1L, 2L));
+        // A partial batch means the outbox is drained
+        verify(outboxRepository, times(1)).findNextBatch(anyInt());
+        assertThat(meterRegistry.get("outbox.relay.events.sent").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A failed event should hold back later events with the same key without sending them")
+    void relay_SendFails_ShouldKeepFailedAndLaterEventsOfSameKey() {
+        when(outboxRepository.tryAcquireRelayLock()).thenReturn(true);
+        when(outboxRepository.findNextBatch(3))
+                .thenReturn(List.of(record(1, "txn-1"), record(2, "txn-2"), record(3, "txn-1")));
+        when(kafkaOperations.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")))
+                .thenReturn(acknowledged());
+
+        int sent = relay.relay();
+
+        assertThat(sent).isEqualTo(1);
+        // Event 3 is never sent, so it cannot overtake event 1
+        verify(kafkaOperations, times(2)).send(any(ProducerRecord.class));
+        verify(outboxRepository).deleteByIds(List.of(2L));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxRecord>> failed = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).recordFailedAttempts(failed.capture(), anyInt());
+        assertThat(failed.getValue()).singleElement().satisfies(record -> {
+            assertThat(record.getId()).isEqualTo(1L);
+            assertThat(record.getAttempts()).isEqualTo(1);
+            assertThat(record.getLastError()).contains("broker unavailable");
+        });
+        // A full batch with failures ends the run instead of reading the next batch
+        verify(outboxRepository, times(1)).findNextBatch(anyInt());
+        assertThat(meterRegistry.get("outbox.relay.events.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Events with the same key should be sent one after another, other keys alongside")
+    void relay_SameKey_ShouldSendInSequentialRounds() {
+        when(outboxRepository.tryAcquireRelayLock()).thenReturn(true);
+        when(outboxRepository.findNextBatch(3))
+                .thenReturn(List.of(record(1, "txn-1"), record(2, "txn-1"), record(3, "txn-2")))
+                .thenReturn(List.of());
+        when(kafkaOperations.send(any(ProducerRecord.class))).thenReturn(acknowledged());
+
+        int sent = relay.relay();
+
+        assertThat(sent).isEqualTo(3);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, String>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        InOrder inOrder = inOrder(kafkaOperations);
+        inOrder.verify(kafkaOperations, times(2)).send(captor.capture());
+        inOrder.verify(kafkaOperations).flush();
+        inOrder.verify(kafkaOperations).send(captor.capture());
+        inOrder.verify(kafkaOperations).flush();
+        assertThat(captor.getAllValues()).extracting(ProducerRecord::value)
+                .containsExactly("{\"id\":1}", "{\"id\":3}", "{\"id\":2}");
+        verify(outboxRepository).deleteByIds(List.of(1L, 3L, 2L));
+    }
+
+    @Test
+    @DisplayName("An event failing its last allowed attempt should be parked")
+    void relay_LastAttemptFails_ShouldParkEvent() {
+        properties.setMaxAttempts(2);
+        OutboxRecord failing = record(1, "txn-1");
+        failing.setAttempts(1);
+        when(outboxRepository.tryAcquireRelayLock()).thenReturn(true);
+        when(outboxRepository.findNextBatch(3)).thenReturn(List.of(failing));
+        when(kafkaOperations.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RecordTooLargeException("too large")));
+
+        int sent = relay.relay();
+
+        assertThat(sent).isZero();
+        verify(outboxRepository).recordFailedAttempts(List.of(failing), 2);
+        assertThat(failing.getAttempts()).isEqualTo(2);
+        assertThat(meterRegistry.get("outbox.relay.events.parked").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not read the outbox while another instance holds the relay lock")
+    void relay_LockHeldElsewhere_ShouldSkip() {
+        when(outboxRepository.tryAcquireRelayLock()).thenReturn(false);
+
+        int sent = relay.relay();
+
+        assertThat(sent).isZero();
+        verify(outboxRepository, never()).findNextBatch(anyInt());
+        verify(kafkaOperations, never()).send(any(ProducerRecord.class));
+    }
+
+    private static OutboxRecord record(long id, String key) {
+        return OutboxRecord.builder()
+                .id(id)
+                .topic("ExceptionResolved")
+                .messageKey(key)
+                .eventType("com.example.ExceptionResolvedEvent")
+                .payload("{\"id\":" + id + "}")
+                .createdAt(OffsetDateTime.now().minusSeconds(1))
+                .build();
+    }
+
+    private static CompletableFuture<SendResult<String, String>> acknowledged() {
+        return CompletableFuture.completedFuture(new SendResult<>(null, null));
+    }
+}
@@ -0,0 +1,42 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for the SQL built by ExceptionSummaryRepository.
+ */
+class ExceptionSummaryRepositoryTest {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+    private final ExceptionSummaryRepository repository = new ExceptionSummaryRepository(jdbcTemplate);
+
+    @Test
+    @DisplayName("Wildcards in the search term should match literally")
+    void aggregate_SearchTermWithWildcards_ShouldEscapeThem() {
+        OffsetDateTime now = OffsetDateTime.now();
+
+        repository.aggregate(ExceptionSummaryCriteria.builder()
+                .fromDate(now.minusDays(1))
+                .toDate(now)
+                .searchTerm(" 100%_done ")
+                .build());
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowCallbackHandler.class));
+        assertThat(sql.getValue()).contains("ie.exception_reason ILIKE :searchTerm ESCAPE '\\'");
+        assertThat(params.getValue().getValue("searchTerm")).isEqualTo("%100\\%\\_done%");
+    }
+}
@@ -0,0 +1,122 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository;
+
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Keyset pagination over a nullable sort key against PostgreSQL, paging
+ * forward and then backward across the NULL block the way the GraphQL
+ * resolver does.
+ */
+@DataJpaTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.kafka.enabled=false"
+})
+class KeysetPaginationRepositoryTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("keyset_db")
+            .withUsername("keyset_user")
+            .withPassword("keyset_pass");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private InterfaceExceptionRepository exceptionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seedExceptions() {
+        // Three customers followed by three exceptions without a customer
+        jdbcTemplate.update("""
+                INSERT INTO interface_exceptions (id, transaction_id, interface_type, exception_reason, operation,
+                    external_id, status, severity, category, retryable, customer_id, timestamp, processed_at,
+                    retry_count, max_retries, order_retrieval_attempted, order_retrieval_pending,
+                    created_at, updated_at)
+                SELECT g, 'TXN-' || g, 'ORDER', 'Order rejected', 'CREATE_ORDER', 'ORD-' || g, 'NEW', 'MEDIUM',
+                    'BUSINESS_RULE', true, CASE WHEN g <= 3 THEN 'CUST-' || g END, now(), now(), 0, 3,
+                    false, false, now(), now()
+                FROM generate_series(1, 6) AS g
+                """);
+    }
+
+    @Test
+    @DisplayName("Backward pages across NULL sort keys should mirror the forward pages")
+    void backwardPages_AcrossNullSortKeys_ShouldMatchForwardPages() {
+        List<List<String>> forward = new ArrayList<>();
+        InterfaceException last = null;
+        do {
+            List<InterfaceException> rows = page(last, false);
+            List<InterfaceException> page = rows.subList(0, Math.min(PAGE_SIZE, rows.size()));
+            forward.add(transactionIds(page));
+            last = rows.size() > PAGE_SIZE ? page.get(page.size() - 1) : null;
+        } while (last != null);
+
+        // NULLS LAST, and the transaction ID tie-breaker runs descending for an ascending sort
+        assertThat(forward).containsExactly(
+                List.of("TXN-1", "TXN-2"),
+                List.of("TXN-3", "TXN-6"),
+                List.of("TXN-5", "TXN-4"));
+
+        List<List<String>> backward = new ArrayList<>();
+        InterfaceException first = exceptionRepository.findByTransactionId("TXN-5").orElseThrow();
+        while (first != null) {
+            List<InterfaceException> rows = page(first, true);
+            List<InterfaceException> page = new ArrayList<>(rows.subList(0, Math.min(PAGE_SIZE, rows.size())));
+            Collections.reverse(page);
+            backward.add(0, transactionIds(page));
+            first = rows.size() > PAGE_SIZE ? page.get(0) : null;
+        }
+
+        assertThat(backward).containsExactly(forward.get(0), forward.get(1));
+    }
+
+    private List<InterfaceException> page(InterfaceException cursor, boolean backward) {
+        KeysetPageRequest.KeysetPageRequestBuilder request = KeysetPageRequest.builder()
+                .sortProperty("customerId")
+                .direction(backward ? Sort.Direction.DESC : Sort.Direction.ASC)
+                .reversed(backward)
+                .limit(PAGE_SIZE + 1);
+        if (cursor != null) {
+            request.afterValue(cursor.getCustomerId()).afterTransactionId(cursor.getTransactionId());
+        }
+        return exceptionRepository.findWithFiltersKeyset(null, null, null, null, null, null, request.build());
+    }
+
+    private static List<String> transactionIds(List<InterfaceException> exceptions) {
+        return exceptions.stream().map(InterfaceException::getTransactionId).toList();
+    }
+}
@@ -0,0 +1,92 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the search query planner and the statements built by
+ * ExceptionSearchRepository.
+ */
+class ExceptionSearchRepositoryTest {
+
+    private static final List<String> ALL_FIELDS = List.of("exceptionReason", "externalId", "operation");
+
+    private final SearchQueryPlanner planner = new SearchQueryPlanner(3, 2);
+
+    @Test
+    @DisplayName("The planner should pick prefix, full-text or trigram matching from the query shape")
+    void plan_ShouldPickMatchByQueryShape() {
+        assertThat(planner.plan("  AB ", ALL_FIELDS).fieldMatches()).containsOnlyKeys(ALL_FIELDS)
+                .allSatisfy((field, match) -> assertThat(match).isEqualTo(SearchMatch.PREFIX));
+
+        SearchPlan sentence = planner.plan("Order  NOT found", ALL_FIELDS);
+        assertThat(sentence.term()).isEqualTo("order not found");
+        assertThat(sentence.fieldMatches())
+                .containsEntry("exceptionReason", SearchMatch.FULL_TEXT)
+                .containsEntry("externalId", SearchMatch.SUBSTRING)
+                .containsEntry("operation", SearchMatch.SUBSTRING);
+
+        assertThat(planner.plan("ORD-12345", List.of("externalId", "unknown")).fieldMatches())
+                .containsExactlyEntriesOf(Map.of("externalId", SearchMatch.SUBSTRING));
+        assertThat(planner.plan("   ", ALL_FIELDS).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("PostgreSQL statements should rank by trigram similarity and full-text rank")
+    void buildSql_ForPostgres_ShouldUseTrigramAndFullTextRanking() {
+        String sql = ExceptionSearchRepository.buildSql(planner.plan("order not found", ALL_FIELDS),
+                Sort.unsorted(), true);
+
+        assertThat(sql).contains("to_tsvector('english', ie.exception_reason) @@ plainto_tsquery('english', :term)");
+        assertThat(sql).contains("LOWER(ie.external_id) LIKE :contains");
+        assertThat(sql).contains("word_similarity(:term, LOWER(ie.operation))");
+        assertThat(sql).contains("ts_rank(");
+        assertThat(sql).containsPattern("ORDER BY GREATEST\\(.*\\) DESC, ie.timestamp DESC, ie.id DESC$");
+    }
+
+    @Test
+    @DisplayName("Fallback statements should run on H2 and rank exact and prefix matches first")
+    void buildSql_ForH2_ShouldRankExactAndPrefixMatchesFirst() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:search_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        NamedParameterJdbcTemplate jdbc = new NamedParameterJdbcTemplate(dataSource);
+        jdbc.getJdbcOperations().execute("""
+                CREATE TABLE interface_exceptions (
+                    id BIGINT PRIMARY KEY,
+                    exception_reason VARCHAR(255),
+                    external_id VARCHAR(255),
+                    operation VARCHAR(100),
+                    timestamp TIMESTAMP WITH TIME ZONE
+                )""");
+        jdbc.getJdbcOperations().batchUpdate(
+                "INSERT INTO interface_exceptions VALUES (1, 'Lookup failed for ORD-123', 'X-ORD-123', 'CREATE', NOW())",
+                "INSERT INTO interface_exceptions VALUES (2, 'Timeout', 'ORD-1234', 'CREATE', NOW())",
+                "INSERT INTO interface_exceptions VALUES (3, 'Timeout', 'ord-123', 'CREATE', NOW())",
+                "INSERT INTO interface_exceptions VALUES (4, 'Rate 100% exceeded', 'OTHER', 'CREATE', NOW())");
+
+        String sql = ExceptionSearchRepository.buildSql(planner.plan("ORD-123", ALL_FIELDS), Sort.unsorted(), false);
+        assertThat(sql).doesNotContain("word_similarity").doesNotContain("to_tsvector");
+        assertThat(jdbc.queryForList(sql.replace("ie.*", "ie.id"), parameters("ord-123"), Long.class))
+                .containsExactly(3L, 2L, 1L);
+
+        String percentSql = ExceptionSearchRepository.buildSql(planner.plan("0%", ALL_FIELDS), Sort.unsorted(), false);
+        assertThat(jdbc.queryForList(percentSql.replace("ie.*", "ie.id"), parameters("0%"), Long.class)).isEmpty();
+    }
+
+    private static MapSqlParameterSource parameters(String term) {
+        String escaped = ExceptionSearchRepository.escapeLike(term);
+        return new MapSqlParameterSource()
+                .addValue("term", term)
+                .addValue("prefix", escaped + "%")
+                .addValue("contains", "%" + escaped + "%");
+    }
+}
@@ -0,0 +1,171 @@
+package com.arcone.biopro.exception.collector.infrastructure.repository.search;
+
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the in-memory search index and its posting lists.
+ */
+class HotExceptionIndexTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+    private static final List<String> ALL_FIELDS = HotExceptionIndex.FIELDS;
+
+    private final HotExceptionIndex index = new HotExceptionIndex(Duration.ofHours(1), 1000);
+
+    @Test
+    @DisplayName("The term should match as a substring of any searched field, as the database matches it")
+    void search_ShouldMatchTermAsSubstring() {
+        index.add(exception(1L, 0, "Order rejected: insufficient inventory", "ORD-0000123", "CREATE_ORDER", "CUST-1"));
+        index.add(exception(2L, 1, "Inventory lookup timeout", "ORD-0000124", "CREATE_ORDER", "CUST-2"));
+        index.add(exception(3L, 2, "Order rejected: insufficient inventory", "ORD-0000125", "CANCEL_ORDER", "CUST-1"));
+
+        assertThat(ids(index.search(substring("inventory", ALL_FIELDS), 0, HotExceptionIndex.NEWEST_FIRST, 10)))
+                .containsExactly(3L, 2L, 1L);
+        assertThat(ids(index.search(substring("rejected: insuff", ALL_FIELDS), 0, HotExceptionIndex.NEWEST_FIRST,
+                10))).containsExactly(3L, 1L);
+        // Inside a word and across word boundaries, as LIKE '%term%' matches
+        assertThat(ids(index.search(substring("d-0000124", ALL_FIELDS), 0, HotExceptionIndex.NEWEST_FIRST, 10)))
+                .containsExactly(2L);
+        assertThat(ids(index.search(substring("ntory look", ALL_FIELDS), 0, HotExceptionIndex.NEWEST_FIRST, 10)))
+                .containsExactly(2L);
+        assertThat(ids(index.search(substring("ord-000012", List.of("externalId")), 0, HotExceptionIndex.OLDEST_FIRST,
+                10))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(index.search(substring("cust-1", List.of("customerId")), 0, HotExceptionIndex.NEWEST_FIRST,
+                10))).containsExactly(3L, 1L);
+        assertThat(index.search(substring("inventory", List.of("operation")), 0, HotExceptionIndex.NEWEST_FIRST, 10))
+                .isEmpty();
+        // Words in another order are not a substring
+        assertThat(index.search(substring("inventory insufficient", ALL_FIELDS), 0, HotExceptionIndex.NEWEST_FIRST,
+                10)).isEmpty();
+
+        // Exact matches rank above prefix matches, prefix above substring matches
+        index.add(exception(4L, 3, "Orders delayed", "X-1", "UPDATE", null));
+        index.add(exception(5L, 4, "Late order", "X-2", "UPDATE", null));
+        assertThat(ids(index.search(substring("order", List.of("exceptionReason")), 0, HotExceptionIndex.BY_RELEVANCE,
+                10))).containsExactly(4L, 3L, 1L, 5L);
+        assertThat(ids(index.search(substring("create_order", ALL_FIELDS), 0, HotExceptionIndex.BY_RELEVANCE, 1)))
+                .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Prefix matches and terms shorter than a trigram should match like the database predicates")
+    void search_PrefixAndShortTerms_ShouldMatchLikeTheDatabase() {
+        index.add(exception(1L, 0, "Order rejected", "ORD-1", "CREATE_ORDER", "CUST-1"));
+        index.add(exception(2L, 1, "Rejected order", "XORD-2", "CREATE_ORDER", "CUST-2"));
+
+        assertThat(ids(index.search(new SearchPlan("or", Map.of("exceptionReason", SearchMatch.PREFIX)), 0,
+                HotExceptionIndex.NEWEST_FIRST, 10))).containsExactly(1L);
+        assertThat(ids(index.search(substring("or", List.of("externalId")), 0, HotExceptionIndex.NEWEST_FIRST, 10)))
+                .containsExactly(2L, 1L);
+        assertThat(ids(index.search(new SearchPlan("ord", Map.of("externalId", SearchMatch.PREFIX)), 0,
+                HotExceptionIndex.NEWEST_FIRST, 10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("An updated exception should be found by its new reason only")
+    void add_UpdatedException_ShouldReplaceIndexedValues() {
+        index.add(exception(1L, 0, "Order rejected: insufficient inventory", "ORD-1", "CREATE_ORDER", null));
+        assertThat(index.add(exception(1L, 0, "Order rejected: insufficient inventory", "ORD-1", "CREATE_ORDER",
+                null))).isFalse();
+
+        assertThat(index.add(exception(1L, 0, "Order rejected: customer on hold", "ORD-1", "CREATE_ORDER", null)))
+                .isTrue();
+
+        assertThat(index.search(substring("inventory", ALL_FIELDS), 0, HotExceptionIndex.NEWEST_FIRST, 10)).isEmpty();
+        assertThat(ids(index.search(substring("on hold", ALL_FIELDS), 0, HotExceptionIndex.NEWEST_FIRST, 10)))
+                .containsExactly(1L);
+        assertThat(index.documentCount()).isEqualTo(1);
+        assertThat(index.evictBefore(HOUR)).isEqualTo(1);
+        assertThat(index.documentCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Full-text plans should be rejected, the database has to answer them")
+    void search_FullTextPlan_ShouldBeRejected() {
+        assertThatThrownBy(() -> index.search(new SearchPlan("insufficient inventory",
+                Map.of("exceptionReason", SearchMatch.FULL_TEXT)), 0, HotExceptionIndex.BY_RELEVANCE, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("The index should cover only the window it has seen completely and drop old segments")
+    void coverageAndEviction_ShouldFollowTheWindow() {
+        index.add(exception(1L, 0, "Timeout", "A", "OP", null));
+        index.add(exception(2L, 5 * HOUR, "Timeout", "B", "OP", null));
+        assertThat(index.covers(0)).isFalse();
+
+        index.markCompleteFrom(0);
+        assertThat(index.covers(0)).isTrue();
+        assertThat(ids(index.search(substring("timeout", ALL_FIELDS), HOUR, HotExceptionIndex.NEWEST_FIRST, 10)))
+                .containsExactly(2L);
+
+        assertThat(index.evictBefore(2 * HOUR)).isEqualTo(1);
+        assertThat(index.covers(0)).isFalse();
+        assertThat(index.covers(2 * HOUR)).isTrue();
+        assertThat(index.documentCount()).isEqualTo(1);
+        assertThat(index.add(exception(3L, HOUR, "Timeout", "C", "OP", null))).isFalse();
+        assertThat(index.add(exception(2L, 5 * HOUR, "Timeout", "B", "OP", null))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Posting lists should switch to a bitmap once dense")
+    void postingList_ShouldSwitchToBitmapWhenDense() {
+        PostingList sparse = new PostingList();
+        PostingList dense = new PostingList();
+        for (int doc = 0; doc < 10_000; doc++) {
+            if (doc % 1000 == 0) {
+                sparse.add(doc);
+            }
+            if (doc % 2 == 0) {
+                dense.add(doc);
+                dense.add(doc);
+            }
+        }
+
+        assertThat(sparse.isBitmap()).isFalse();
+        assertThat(dense.isBitmap()).isTrue();
+        assertThat(dense.size()).isEqualTo(5000);
+
+        BitSet union = new BitSet();
+        sparse.orInto(union);
+        assertThat(union.cardinality()).isEqualTo(10);
+        dense.orInto(union);
+        assertThat(union.cardinality()).isEqualTo(5000);
+    }
+
+    private static SearchPlan substring(String term, List<String> fields) {
+        Map<String, SearchMatch> fieldMatches = new LinkedHashMap<>();
+        fields.forEach(field -> fieldMatches.put(field, SearchMatch.SUBSTRING));
+        return new SearchPlan(term, fieldMatches);
+    }
+
+    private static List<Long> ids(List<HotExceptionIndex.Hit> hits) {
+        return hits.stream().map(HotExceptionIndex.Hit::exceptionId).toList();
+    }
+
+    private static InterfaceException exception(Long id, long timestampMillis, String reason, String externalId,
+            String operation, String customerId) {
+        return InterfaceException.builder()
+                .id(id)
+                .timestamp(OffsetDateTime.ofInstant(Instant.ofEpochMilli(timestampMillis), ZoneOffset.UTC))
+                .exceptionReason(reason)
+                .externalId(externalId)
+                .operation(operation)
+                .customerId(customerId)
+                .build();
+    }
+}
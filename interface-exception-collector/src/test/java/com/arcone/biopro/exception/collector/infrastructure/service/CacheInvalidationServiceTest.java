@@ -65,10 +65,6 @@ class CacheInvalidationServiceTest {
 
         // Then
         verify(databaseCachingService).invalidateValidationCache("TXN-123");
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "retry");
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "acknowledge");
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "resolve");
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "cancel");
     }
 
     @Test
@@ -82,11 +78,6 @@ class CacheInvalidationServiceTest {
 
         // Then
         verify(databaseCachingService).invalidateValidationCache("TXN-123");
-        // Other invalidations should still be attempted despite the exception
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "retry");
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "acknowledge");
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "resolve");
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "cancel");
     }
 
     @Test
@@ -95,25 +86,20 @@ class CacheInvalidationServiceTest {
         cacheInvalidationService.handleRetryAttemptStarted(retryStartedEvent);
 
         // Then
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "retry");
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "cancel");
-        verify(databaseCachingService, never()).invalidateValidationCache(anyString());
-        verify(databaseCachingService, never()).invalidateOperationValidationCache(anyString(), eq("acknowledge"));
-        verify(databaseCachingService, never()).invalidateOperationValidationCache(anyString(), eq("resolve"));
+        verify(databaseCachingService).invalidateValidationCache("TXN-123");
     }
 
     @Test
     void handleRetryAttemptStarted_WhenCacheServiceThrowsException_ShouldContinueExecution() {
         // Given
         doThrow(new RuntimeException("Cache error"))
-            .when(databaseCachingService).invalidateOperationValidationCache("TXN-123", "retry");
+            .when(databaseCachingService).invalidateValidationCache("TXN-123");
 
         // When - Should not throw exception
         cacheInvalidationService.handleRetryAttemptStarted(retryStartedEvent);
 
         // Then
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "retry");
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "cancel");
+        verify(databaseCachingService).invalidateValidationCache("TXN-123");
     }
 
     @Test
@@ -122,13 +108,11 @@ class CacheInvalidationServiceTest {
         cacheInvalidationService.handleRetryAttemptCompleted(retryCompletedEvent);
 
         // Then
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "retry");
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "cancel");
         verify(databaseCachingService).invalidateValidationCache("TXN-123");
     }
 
     @Test
-    void handleRetryAttemptCompleted_WhenFailed_ShouldInvalidateRetryRelatedCaches() {
+    void handleRetryAttemptCompleted_WhenFailed_ShouldInvalidateCachedState() {
         // Given
         RetryAttemptCompletedEvent failedRetryEvent = RetryAttemptCompletedEvent.create(
             "TXN-123",
@@ -143,23 +127,19 @@ class CacheInvalidationServiceTest {
         cacheInvalidationService.handleRetryAttemptCompleted(failedRetryEvent);
 
         // Then
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "retry");
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "cancel");
-        verify(databaseCachingService, never()).invalidateValidationCache("TXN-123");
+        verify(databaseCachingService).invalidateValidationCache("TXN-123");
     }
 
     @Test
     void handleRetryAttemptCompleted_WhenCacheServiceThrowsException_ShouldContinueExecution() {
         // Given
         doThrow(new RuntimeException("Cache error"))
-            .when(databaseCachingService).invalidateOperationValidationCache("TXN-123", "retry");
+            .when(databaseCachingService).invalidateValidationCache("TXN-123");
 
         // When - Should not throw exception
         cacheInvalidationService.handleRetryAttemptCompleted(retryCompletedEvent);
 
         // Then
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "retry");
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "cancel");
         verify(databaseCachingService).invalidateValidationCache("TXN-123");
     }
 
@@ -170,10 +150,6 @@ class CacheInvalidationServiceTest {
 
         // Then
         verify(databaseCachingService).invalidateValidationCache("TXN-123");
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "retry");
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "acknowledge");
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "resolve");
-        verify(databaseCachingService).invalidateOperationValidationCache("TXN-123", "cancel");
     }
 
     @Test
@@ -7,7 +7,7 @@ import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
 import com.arcone.biopro.exception.collector.domain.enums.RetryStatus;
 import com.arcone.biopro.exception.collector.infrastructure.config.ValidationCacheConfig;
 import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
-import com.arcone.biopro.exception.collector.infrastructure.repository.RetryAttemptRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.ExceptionStateSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,15 +23,11 @@ import static org.mockito.Mockito.*;
 
 @SpringBootTest(classes = {
     DatabaseCachingService.class,
+    ExceptionStateCache.class,
     ValidationCacheConfig.class
 })
 @TestPropertySource(properties = {
-    "app.validation.cache.existence-ttl=PT1S",
-    "app.validation.cache.retryable-ttl=PT1S",
-    "app.validation.cache.retry-count-ttl=PT1S",
-    "app.validation.cache.pending-retry-ttl=PT1S",
-    "app.validation.cache.status-ttl=PT1S",
-    "app.validation.cache.validation-result-ttl=PT1S",
+    "app.validation.cache.state-ttl=PT1S",
     "app.validation.cache.max-cache-size=100"
 })
 class DatabaseCachingServiceIntegrationTest {
@@ -45,9 +41,6 @@ class DatabaseCachingServiceIntegrationTest {
     @MockBean
     private InterfaceExceptionRepository exceptionRepository;
 
-    @MockBean
-    private RetryAttemptRepository retryAttemptRepository;
-
     private InterfaceException testException;
     private RetryAttempt testRetryAttempt;
 
@@ -71,15 +64,15 @@ class DatabaseCachingServiceIntegrationTest {
         testRetryAttempt.setInterfaceException(testException);
 
         // Reset mocks
-        reset(exceptionRepository, retryAttemptRepository);
+        reset(exceptionRepository);
     }
 
     @Test
     void validateExceptionExists_ShouldCacheResults() {
         // Given
         String transactionId = "TXN-123";
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
+        when(exceptionRepository.findStateSnapshotByTransactionId(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, null)));
 
         // When - First call
         ValidationResult result1 = databaseCachingService.validateExceptionExists(transactionId);
@@ -92,17 +85,15 @@ class DatabaseCachingServiceIntegrationTest {
         assertThat(result2.isValid()).isTrue();
         
         // Repository should only be called once due to caching
-        verify(exceptionRepository, times(1)).findByTransactionId(transactionId);
+        verify(exceptionRepository, times(1)).findStateSnapshotByTransactionId(transactionId);
     }
 
     @Test
     void validateForOperation_ShouldCacheCompleteValidationResults() {
         // Given
         String transactionId = "TXN-123";
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
-        when(retryAttemptRepository.findTopByInterfaceExceptionOrderByAttemptNumberDesc(testException))
-            .thenReturn(Optional.of(testRetryAttempt));
+        when(exceptionRepository.findStateSnapshotByTransactionId(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, testRetryAttempt)));
 
         // When - First call
         ValidationResult result1 = databaseCachingService.validateForOperation(transactionId, "retry");
@@ -114,17 +105,16 @@ class DatabaseCachingServiceIntegrationTest {
         assertThat(result1.isValid()).isTrue();
         assertThat(result2.isValid()).isTrue();
         
-        // Repository calls should be minimized due to caching
-        // Note: Some calls may still occur for individual validation methods
-        verify(exceptionRepository, atLeast(1)).findByTransactionId(transactionId);
+        // All checks of both validations are answered from one cached snapshot
+        verify(exceptionRepository, times(1)).findStateSnapshotByTransactionId(transactionId);
     }
 
     @Test
     void cacheInvalidation_ShouldClearSpecificCaches() {
         // Given
         String transactionId = "TXN-123";
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
+        when(exceptionRepository.findStateSnapshotByTransactionId(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, null)));
 
         // When - Cache a result
         ValidationResult result1 = databaseCachingService.validateExceptionExists(transactionId);
@@ -138,15 +128,15 @@ class DatabaseCachingServiceIntegrationTest {
 
         // Then
         assertThat(result2.isValid()).isTrue();
-        verify(exceptionRepository, times(2)).findByTransactionId(transactionId);
+        verify(exceptionRepository, times(2)).findStateSnapshotByTransactionId(transactionId);
     }
 
     @Test
     void cacheExpiration_ShouldExpireAfterTtl() throws InterruptedException {
         // Given
         String transactionId = "TXN-123";
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
+        when(exceptionRepository.findStateSnapshotByTransactionId(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, null)));
 
         // When - Cache a result
         ValidationResult result1 = databaseCachingService.validateExceptionExists(transactionId);
@@ -160,17 +150,15 @@ class DatabaseCachingServiceIntegrationTest {
 
         // Then
         assertThat(result2.isValid()).isTrue();
-        verify(exceptionRepository, times(2)).findByTransactionId(transactionId);
+        verify(exceptionRepository, times(2)).findStateSnapshotByTransactionId(transactionId);
     }
 
     @Test
-    void multipleOperationTypes_ShouldCacheSeparately() {
+    void multipleOperationTypes_ShouldShareCachedState() {
         // Given
         String transactionId = "TXN-123";
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
-        when(retryAttemptRepository.findTopByInterfaceExceptionOrderByAttemptNumberDesc(testException))
-            .thenReturn(Optional.of(testRetryAttempt));
+        when(exceptionRepository.findStateSnapshotByTransactionId(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, testRetryAttempt)));
 
         // When - Cache different operation types
         ValidationResult retryResult1 = databaseCachingService.validateForOperation(transactionId, "retry");
@@ -186,17 +174,18 @@ class DatabaseCachingServiceIntegrationTest {
         assertThat(retryResult2.isValid()).isTrue();
         assertThat(acknowledgeResult2.isValid()).isTrue();
         
-        // Each operation type should have its own cache
+        // Each operation type is validated with its own rules
         assertThat(retryResult1.getOperationType()).isEqualTo("retry");
         assertThat(acknowledgeResult1.getOperationType()).isEqualTo("acknowledge");
+        verify(exceptionRepository, times(1)).findStateSnapshotByTransactionId(transactionId);
     }
 
     @Test
     void clearAllCaches_ShouldClearAllValidationCaches() {
         // Given
         String transactionId = "TXN-123";
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
+        when(exceptionRepository.findStateSnapshotByTransactionId(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, null)));
 
         // When - Cache multiple results
         databaseCachingService.validateExceptionExists(transactionId);
@@ -210,15 +199,15 @@ class DatabaseCachingServiceIntegrationTest {
         databaseCachingService.validateExceptionExists(transactionId);
 
         // Then - Repository should be called again after cache clear
-        verify(exceptionRepository, times(4)).findByTransactionId(transactionId);
+        verify(exceptionRepository, times(2)).findStateSnapshotByTransactionId(transactionId);
     }
 
     @Test
     void cacheStatistics_ShouldTrackHitsAndMisses() {
         // Given
         String transactionId = "TXN-123";
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
+        when(exceptionRepository.findStateSnapshotByTransactionId(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, null)));
 
         // When - Generate cache hits and misses
         databaseCachingService.validateExceptionExists(transactionId); // Miss
@@ -226,7 +215,7 @@ class DatabaseCachingServiceIntegrationTest {
         databaseCachingService.validateExceptionExists("TXN-404"); // Miss
 
         // Then - Verify cache behavior
-        verify(exceptionRepository, times(2)).findByTransactionId(anyString());
+        verify(exceptionRepository, times(2)).findStateSnapshotByTransactionId(anyString());
     }
 
     @Test
@@ -240,10 +229,10 @@ class DatabaseCachingServiceIntegrationTest {
         exception2.setRetryable(false);
         exception2.setStatus(ExceptionStatus.RESOLVED);
         
-        when(exceptionRepository.findByTransactionId(transactionId1))
-            .thenReturn(Optional.of(testException));
-        when(exceptionRepository.findByTransactionId(transactionId2))
-            .thenReturn(Optional.of(exception2));
+        when(exceptionRepository.findStateSnapshotByTransactionId(transactionId1))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, null)));
+        when(exceptionRepository.findStateSnapshotByTransactionId(transactionId2))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(exception2, null)));
 
         // When - Cache results for different transactions
         ValidationResult result1 = databaseCachingService.validateExceptionExists(transactionId1);
@@ -260,7 +249,7 @@ class DatabaseCachingServiceIntegrationTest {
         assertThat(result2Cached.isValid()).isTrue();
         
         // Each transaction should be cached separately
-        verify(exceptionRepository, times(1)).findByTransactionId(transactionId1);
-        verify(exceptionRepository, times(1)).findByTransactionId(transactionId2);
+        verify(exceptionRepository, times(1)).findStateSnapshotByTransactionId(transactionId1);
+        verify(exceptionRepository, times(1)).findStateSnapshotByTransactionId(transactionId2);
     }
 }
\ No newline at end of file
@@ -5,35 +5,24 @@ import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
 import com.arcone.biopro.exception.collector.domain.entity.RetryAttempt;
 import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
 import com.arcone.biopro.exception.collector.domain.enums.RetryStatus;
-import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
-import com.arcone.biopro.exception.collector.infrastructure.repository.RetryAttemptRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.ExceptionStateSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class DatabaseCachingServiceTest {
 
     @Mock
-    private InterfaceExceptionRepository exceptionRepository;
-
-    @Mock
-    private RetryAttemptRepository retryAttemptRepository;
-
-    @Mock
-    private CacheManager cacheManager;
+    private ExceptionStateCache exceptionStateCache;
 
     @InjectMocks
     private DatabaseCachingService databaseCachingService;
@@ -54,17 +43,14 @@ class DatabaseCachingServiceTest {
         testRetryAttempt.setStatus(RetryStatus.PENDING);
         testRetryAttempt.setAttemptNumber(1);
         testRetryAttempt.setInterfaceException(testException);
-
-        // Mock cache manager to return simple caches
-        when(cacheManager.getCache(anyString())).thenReturn(new ConcurrentMapCache("test-cache"));
     }
 
     @Test
     void validateExceptionExists_WhenExceptionExists_ShouldReturnSuccess() {
         // Given
         String transactionId = "TXN-123";
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
+        when(exceptionStateCache.get(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, null)));
 
         // When
         ValidationResult result = databaseCachingService.validateExceptionExists(transactionId);
@@ -73,14 +59,14 @@ class DatabaseCachingServiceTest {
         assertThat(result.isValid()).isTrue();
         assertThat(result.getOperationType()).isEqualTo("existence");
         assertThat(result.getTransactionId()).isEqualTo(transactionId);
-        verify(exceptionRepository).findByTransactionId(transactionId);
+        verify(exceptionStateCache).get(transactionId);
     }
 
     @Test
     void validateExceptionExists_WhenExceptionNotFound_ShouldReturnFailure() {
         // Given
         String transactionId = "TXN-404";
-        when(exceptionRepository.findByTransactionId(transactionId))
+        when(exceptionStateCache.get(transactionId))
             .thenReturn(Optional.empty());
 
         // When
@@ -92,15 +78,15 @@ class DatabaseCachingServiceTest {
         assertThat(result.getTransactionId()).isEqualTo(transactionId);
         assertThat(result.getErrors()).hasSize(1);
         assertThat(result.getErrors().get(0).getCode()).isEqualTo("EXCEPTION_NOT_FOUND");
-        verify(exceptionRepository).findByTransactionId(transactionId);
+        verify(exceptionStateCache).get(transactionId);
     }
 
     @Test
     void validateExceptionRetryable_WhenRetryable_ShouldReturnSuccess() {
         // Given
         String transactionId = "TXN-123";
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
+        when(exceptionStateCache.get(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, null)));
 
         // When
         ValidationResult result = databaseCachingService.validateExceptionRetryable(transactionId);
@@ -108,7 +94,7 @@ class DatabaseCachingServiceTest {
         // Then
         assertThat(result.isValid()).isTrue();
         assertThat(result.getOperationType()).isEqualTo("retryable");
-        verify(exceptionRepository).findByTransactionId(transactionId);
+        verify(exceptionStateCache).get(transactionId);
     }
 
     @Test
@@ -116,8 +102,8 @@ class DatabaseCachingServiceTest {
         // Given
         String transactionId = "TXN-123";
         testException.setRetryable(false);
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
+        when(exceptionStateCache.get(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, null)));
 
         // When
         ValidationResult result = databaseCachingService.validateExceptionRetryable(transactionId);
@@ -127,15 +113,15 @@ class DatabaseCachingServiceTest {
         assertThat(result.getOperationType()).isEqualTo("retryable");
         assertThat(result.getErrors()).hasSize(1);
         assertThat(result.getErrors().get(0).getCode()).isEqualTo("NOT_RETRYABLE");
-        verify(exceptionRepository).findByTransactionId(transactionId);
+        verify(exceptionStateCache).get(transactionId);
     }
 
     @Test
     void validateRetryCount_WhenWithinLimits_ShouldReturnSuccess() {
         // Given
         String transactionId = "TXN-123";
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
+        when(exceptionStateCache.get(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, null)));
 
         // When
         ValidationResult result = databaseCachingService.validateRetryCount(transactionId);
@@ -143,7 +129,7 @@ class DatabaseCachingServiceTest {
         // Then
         assertThat(result.isValid()).isTrue();
         assertThat(result.getOperationType()).isEqualTo("retry_count");
-        verify(exceptionRepository).findByTransactionId(transactionId);
+        verify(exceptionStateCache).get(transactionId);
     }
 
     @Test
@@ -152,8 +138,8 @@ class DatabaseCachingServiceTest {
         String transactionId = "TXN-123";
         testException.setRetryCount(3);
         testException.setMaxRetries(3);
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
+        when(exceptionStateCache.get(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, null)));
 
         // When
         ValidationResult result = databaseCachingService.validateRetryCount(transactionId);
@@ -163,7 +149,7 @@ class DatabaseCachingServiceTest {
         assertThat(result.getOperationType()).isEqualTo("retry_count");
         assertThat(result.getErrors()).hasSize(1);
         assertThat(result.getErrors().get(0).getCode()).isEqualTo("RETRY_LIMIT_EXCEEDED");
-        verify(exceptionRepository).findByTransactionId(transactionId);
+        verify(exceptionStateCache).get(transactionId);
     }
 
     @Test
@@ -171,10 +157,8 @@ class DatabaseCachingServiceTest {
         // Given
         String transactionId = "TXN-123";
         testRetryAttempt.setStatus(RetryStatus.COMPLETED);
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
-        when(retryAttemptRepository.findTopByInterfaceExceptionOrderByAttemptNumberDesc(testException))
-            .thenReturn(Optional.of(testRetryAttempt));
+        when(exceptionStateCache.get(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, testRetryAttempt)));
 
         // When
         ValidationResult result = databaseCachingService.validateNoPendingRetry(transactionId);
@@ -182,18 +166,15 @@ class DatabaseCachingServiceTest {
         // Then
         assertThat(result.isValid()).isTrue();
         assertThat(result.getOperationType()).isEqualTo("pending_retry");
-        verify(exceptionRepository).findByTransactionId(transactionId);
-        verify(retryAttemptRepository).findTopByInterfaceExceptionOrderByAttemptNumberDesc(testException);
+        verify(exceptionStateCache).get(transactionId);
     }
 
     @Test
     void validateNoPendingRetry_WhenPendingRetryExists_ShouldReturnFailure() {
         // Given
         String transactionId = "TXN-123";
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
-        when(retryAttemptRepository.findTopByInterfaceExceptionOrderByAttemptNumberDesc(testException))
-            .thenReturn(Optional.of(testRetryAttempt));
+        when(exceptionStateCache.get(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, testRetryAttempt)));
 
         // When
         ValidationResult result = databaseCachingService.validateNoPendingRetry(transactionId);
@@ -203,16 +184,15 @@ class DatabaseCachingServiceTest {
         assertThat(result.getOperationType()).isEqualTo("pending_retry");
         assertThat(result.getErrors()).hasSize(1);
         assertThat(result.getErrors().get(0).getCode()).isEqualTo("PENDING_RETRY_EXISTS");
-        verify(exceptionRepository).findByTransactionId(transactionId);
-        verify(retryAttemptRepository).findTopByInterfaceExceptionOrderByAttemptNumberDesc(testException);
+        verify(exceptionStateCache).get(transactionId);
     }
 
     @Test
     void validateExceptionStatus_WhenStatusAllowsRetry_ShouldReturnSuccess() {
         // Given
         String transactionId = "TXN-123";
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
+        when(exceptionStateCache.get(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, null)));
 
         // When
         ValidationResult result = databaseCachingService.validateExceptionStatus(transactionId);
@@ -220,7 +200,7 @@ class DatabaseCachingServiceTest {
         // Then
         assertThat(result.isValid()).isTrue();
         assertThat(result.getOperationType()).isEqualTo("status");
-        verify(exceptionRepository).findByTransactionId(transactionId);
+        verify(exceptionStateCache).get(transactionId);
     }
 
     @Test
@@ -228,8 +208,8 @@ class DatabaseCachingServiceTest {
         // Given
         String transactionId = "TXN-123";
         testException.setStatus(ExceptionStatus.RESOLVED);
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
+        when(exceptionStateCache.get(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, null)));
 
         // When
         ValidationResult result = databaseCachingService.validateExceptionStatus(transactionId);
@@ -239,7 +219,7 @@ class DatabaseCachingServiceTest {
         assertThat(result.getOperationType()).isEqualTo("status");
         assertThat(result.getErrors()).hasSize(1);
         assertThat(result.getErrors().get(0).getCode()).isEqualTo("INVALID_STATUS_TRANSITION");
-        verify(exceptionRepository).findByTransactionId(transactionId);
+        verify(exceptionStateCache).get(transactionId);
     }
 
     @Test
@@ -247,10 +227,8 @@ class DatabaseCachingServiceTest {
         // Given
         String transactionId = "TXN-123";
         testRetryAttempt.setStatus(RetryStatus.COMPLETED);
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
-        when(retryAttemptRepository.findTopByInterfaceExceptionOrderByAttemptNumberDesc(testException))
-            .thenReturn(Optional.of(testRetryAttempt));
+        when(exceptionStateCache.get(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, testRetryAttempt)));
 
         // When
         ValidationResult result = databaseCachingService.validateForOperation(transactionId, "retry");
@@ -258,15 +236,15 @@ class DatabaseCachingServiceTest {
         // Then
         assertThat(result.isValid()).isTrue();
         assertThat(result.getOperationType()).isEqualTo("retry");
-        verify(exceptionRepository, atLeastOnce()).findByTransactionId(transactionId);
+        verify(exceptionStateCache, atLeastOnce()).get(transactionId);
     }
 
     @Test
     void validateForOperation_AcknowledgeOperation_WhenValidationsPassed_ShouldReturnSuccess() {
         // Given
         String transactionId = "TXN-123";
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
+        when(exceptionStateCache.get(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, null)));
 
         // When
         ValidationResult result = databaseCachingService.validateForOperation(transactionId, "acknowledge");
@@ -274,15 +252,15 @@ class DatabaseCachingServiceTest {
         // Then
         assertThat(result.isValid()).isTrue();
         assertThat(result.getOperationType()).isEqualTo("acknowledge");
-        verify(exceptionRepository, atLeastOnce()).findByTransactionId(transactionId);
+        verify(exceptionStateCache, atLeastOnce()).get(transactionId);
     }
 
     @Test
     void validateForOperation_ResolveOperation_WhenValidationsPassed_ShouldReturnSuccess() {
         // Given
         String transactionId = "TXN-123";
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
+        when(exceptionStateCache.get(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, null)));
 
         // When
         ValidationResult result = databaseCachingService.validateForOperation(transactionId, "resolve");
@@ -290,17 +268,15 @@ class DatabaseCachingServiceTest {
         // Then
         assertThat(result.isValid()).isTrue();
         assertThat(result.getOperationType()).isEqualTo("resolve");
-        verify(exceptionRepository, atLeastOnce()).findByTransactionId(transactionId);
+        verify(exceptionStateCache, atLeastOnce()).get(transactionId);
     }
 
     @Test
     void validateForOperation_CancelOperation_WhenPendingRetryExists_ShouldReturnSuccess() {
         // Given
         String transactionId = "TXN-123";
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
-        when(retryAttemptRepository.findTopByInterfaceExceptionOrderByAttemptNumberDesc(testException))
-            .thenReturn(Optional.of(testRetryAttempt));
+        when(exceptionStateCache.get(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, testRetryAttempt)));
 
         // When
         ValidationResult result = databaseCachingService.validateForOperation(transactionId, "cancel");
@@ -308,8 +284,7 @@ class DatabaseCachingServiceTest {
         // Then
         assertThat(result.isValid()).isTrue();
         assertThat(result.getOperationType()).isEqualTo("cancel");
-        verify(exceptionRepository, atLeastOnce()).findByTransactionId(transactionId);
-        verify(retryAttemptRepository).findTopByInterfaceExceptionOrderByAttemptNumberDesc(testException);
+        verify(exceptionStateCache, atLeastOnce()).get(transactionId);
     }
 
     @Test
@@ -317,10 +292,8 @@ class DatabaseCachingServiceTest {
         // Given
         String transactionId = "TXN-123";
         testRetryAttempt.setStatus(RetryStatus.COMPLETED);
-        when(exceptionRepository.findByTransactionId(transactionId))
-            .thenReturn(Optional.of(testException));
-        when(retryAttemptRepository.findTopByInterfaceExceptionOrderByAttemptNumberDesc(testException))
-            .thenReturn(Optional.of(testRetryAttempt));
+        when(exceptionStateCache.get(transactionId))
+            .thenReturn(Optional.of(ExceptionStateSnapshot.of(testException, testRetryAttempt)));
 
         // When
         ValidationResult result = databaseCachingService.validateForOperation(transactionId, "cancel");
@@ -330,8 +303,7 @@ class DatabaseCachingServiceTest {
         assertThat(result.getOperationType()).isEqualTo("cancel");
         assertThat(result.getErrors()).hasSize(1);
         assertThat(result.getErrors().get(0).getCode()).isEqualTo("NO_PENDING_RETRY_TO_CANCEL");
-        verify(exceptionRepository, atLeastOnce()).findByTransactionId(transactionId);
-        verify(retryAttemptRepository).findTopByInterfaceExceptionOrderByAttemptNumberDesc(testException);
+        verify(exceptionStateCache, atLeastOnce()).get(transactionId);
     }
 
     @Test
@@ -351,19 +323,19 @@ class DatabaseCachingServiceTest {
     }
 
     @Test
-    void invalidateValidationCache_ShouldLogDebugMessage() {
+    void invalidateValidationCache_ShouldEvictCachedState() {
         // Given
         String transactionId = "TXN-123";
 
         // When
         databaseCachingService.invalidateValidationCache(transactionId);
 
-        // Then - No exception should be thrown and method should complete
-        // This test mainly verifies the method signature and basic functionality
+        // Then
+        verify(exceptionStateCache).evict(transactionId);
     }
 
     @Test
-    void invalidateOperationValidationCache_ShouldLogDebugMessage() {
+    void invalidateOperationValidationCache_ShouldEvictCachedState() {
         // Given
         String transactionId = "TXN-123";
         String operationType = "retry";
@@ -371,16 +343,16 @@ class DatabaseCachingServiceTest {
         // When
         databaseCachingService.invalidateOperationValidationCache(transactionId, operationType);
 
-        // Then - No exception should be thrown and method should complete
-        // This test mainly verifies the method signature and basic functionality
+        // Then
+        verify(exceptionStateCache).evict(transactionId);
     }
 
     @Test
-    void clearAllValidationCaches_ShouldLogInfoMessage() {
+    void clearAllValidationCaches_ShouldEvictAllCachedState() {
         // When
         databaseCachingService.clearAllValidationCaches();
 
-        // Then - No exception should be thrown and method should complete
-        // This test mainly verifies the method signature and basic functionality
+        // Then
+        verify(exceptionStateCache).evictAll();
     }
 }
\ No newline at end of file
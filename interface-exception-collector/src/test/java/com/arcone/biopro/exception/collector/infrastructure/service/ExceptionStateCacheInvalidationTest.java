@@ -0,0 +1,209 @@
+package com.arcone.biopro.exception.collector.infrastructure.service;
+
+import com.arcone.biopro.exception.collector.api.graphql.service.SubscriptionEventBridge;
+import com.arcone.biopro.exception.collector.application.service.CacheEvictionService;
+import com.arcone.biopro.exception.collector.application.service.ScopedCacheService;
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.domain.entity.RetryAttempt;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
+import com.arcone.biopro.exception.collector.domain.enums.RetryStatus;
+import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.projection.ExceptionStateSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that mutations evict the cached exception state, so validation
+ * after a mutation sees the mutated state.
+ */
+@SpringJUnitConfig(ExceptionStateCacheInvalidationTest.Config.class)
+class ExceptionStateCacheInvalidationTest {
+
+    private static final String TRANSACTION_ID = "TXN-123";
+
+    @Configuration
+    @EnableCaching
+    @EnableTransactionManagement
+    @Import({ ExceptionStateCache.class, DatabaseCachingService.class, CacheInvalidationService.class,
+            CacheEvictionService.class })
+    static class Config {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(ExceptionStateCache.EXCEPTION_STATE_CACHE);
+        }
+
+        @Bean
+        InterfaceExceptionRepository interfaceExceptionRepository() {
+            return mock(InterfaceExceptionRepository.class);
+        }
+
+        @Bean
+        ScopedCacheService scopedCacheService() {
+            return mock(ScopedCacheService.class);
+        }
+    }
+
+    @Autowired
+    private InterfaceExceptionRepository exceptionRepository;
+
+    @Autowired
+    private DatabaseCachingService databaseCachingService;
+
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ExceptionStateCache exceptionStateCache;
+
+    @Autowired
+    private CacheEvictionService cacheEvictionService;
+
+    private InterfaceException exception;
+
+    @BeforeEach
+    void setUp() {
+        reset(exceptionRepository);
+        exceptionStateCache.evictAll();
+        exception = InterfaceException.builder()
+                .id(1L)
+                .transactionId(TRANSACTION_ID)
+                .status(ExceptionStatus.NEW)
+                .retryable(true)
+                .retryCount(0)
+                .maxRetries(3)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("A second retry should be rejected once the first retry has been initiated")
+    void retryInitiated_ShouldEvictStateForNextValidation() {
+        RetryAttempt pending = retryAttempt(RetryStatus.PENDING);
+        when(exceptionRepository.findStateSnapshotByTransactionId(TRANSACTION_ID))
+                .thenReturn(Optional.of(ExceptionStateSnapshot.of(exception, null)))
+                .thenReturn(Optional.of(ExceptionStateSnapshot.of(exception, pending)));
+
+        assertThat(databaseCachingService.validateNoPendingRetry(TRANSACTION_ID).isValid()).isTrue();
+
+        eventPublisher.publishEvent(new SubscriptionEventBridge.RetryInitiatedEvent(exception, pending, "user"));
+
+        assertThat(databaseCachingService.validateNoPendingRetry(TRANSACTION_ID).isValid()).isFalse();
+    }
+
+    @Test
+    @DisplayName("A resolve should be validated against the acknowledged status after the acknowledgment commits")
+    void exceptionAcknowledged_ShouldEvictStateOnlyAfterCommit() {
+        InterfaceException acknowledged = InterfaceException.builder()
+                .id(1L)
+                .transactionId(TRANSACTION_ID)
+                .status(ExceptionStatus.ACKNOWLEDGED)
+                .build();
+        when(exceptionRepository.findStateSnapshotByTransactionId(TRANSACTION_ID))
+                .thenReturn(Optional.of(ExceptionStateSnapshot.of(exception, null)))
+                .thenReturn(Optional.of(ExceptionStateSnapshot.of(acknowledged, null)));
+        assertThat(exceptionStateCache.get(TRANSACTION_ID)).get()
+                .extracting(ExceptionStateSnapshot::getStatus).isEqualTo(ExceptionStatus.NEW);
+
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        eventPublisher.publishEvent(new SubscriptionEventBridge.ExceptionAcknowledgedEvent(acknowledged, "user"));
+
+        // Still in the mutating transaction: nothing has been committed yet
+        assertThat(exceptionStateCache.get(TRANSACTION_ID)).get()
+                .extracting(ExceptionStateSnapshot::getStatus).isEqualTo(ExceptionStatus.NEW);
+
+        commit();
+
+        assertThat(exceptionStateCache.get(TRANSACTION_ID)).get()
+                .extracting(ExceptionStateSnapshot::getStatus).isEqualTo(ExceptionStatus.ACKNOWLEDGED);
+    }
+
+    @Test
+    @DisplayName("An update without a subscription event should refresh the cached state once it commits")
+    void exceptionUpdated_ShouldEvictStateAfterCommit() {
+        InterfaceException notRetryable = InterfaceException.builder()
+                .id(1L)
+                .transactionId(TRANSACTION_ID)
+                .status(ExceptionStatus.NEW)
+                .retryable(false)
+                .build();
+        when(exceptionRepository.findStateSnapshotByTransactionId(TRANSACTION_ID))
+                .thenReturn(Optional.of(ExceptionStateSnapshot.of(exception, null)))
+                .thenReturn(Optional.of(ExceptionStateSnapshot.of(notRetryable, null)));
+        assertThat(databaseCachingService.validateExceptionRetryable(TRANSACTION_ID).isValid()).isTrue();
+
+        TransactionSynchronizationManager.initSynchronization();
+        cacheEvictionService.evictCachesOnExceptionUpdate(notRetryable);
+
+        assertThat(databaseCachingService.validateExceptionRetryable(TRANSACTION_ID).isValid()).isTrue();
+
+        commit();
+
+        assertThat(databaseCachingService.validateExceptionRetryable(TRANSACTION_ID).isValid()).isFalse();
+    }
+
+    @Test
+    @DisplayName("A cancelled retry should no longer block the next retry")
+    void invalidateAfterCommit_ShouldEvictStateOnCommit() {
+        RetryAttempt pending = retryAttempt(RetryStatus.PENDING);
+        RetryAttempt cancelled = retryAttempt(RetryStatus.FAILED);
+        when(exceptionRepository.findStateSnapshotByTransactionId(TRANSACTION_ID))
+                .thenReturn(Optional.of(ExceptionStateSnapshot.of(exception, pending)))
+                .thenReturn(Optional.of(ExceptionStateSnapshot.of(exception, cancelled)));
+        assertThat(databaseCachingService.validateNoPendingRetry(TRANSACTION_ID).isValid()).isFalse();
+
+        TransactionSynchronizationManager.initSynchronization();
+        cacheInvalidationService.invalidateAfterCommit(TRANSACTION_ID);
+        commit();
+
+        assertThat(databaseCachingService.validateNoPendingRetry(TRANSACTION_ID).isValid()).isTrue();
+    }
+
+    private static void commit() {
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private RetryAttempt retryAttempt(RetryStatus status) {
+        return RetryAttempt.builder()
+                .attemptNumber(1)
+                .status(status)
+                .initiatedAt(OffsetDateTime.now())
+                .build();
+    }
+}
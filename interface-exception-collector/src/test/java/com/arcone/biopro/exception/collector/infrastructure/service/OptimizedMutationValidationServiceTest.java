@@ -299,10 +299,11 @@ class OptimizedMutationValidationServiceTest {
     @Test
     void validateBatchOperations_ShouldReturnValidationResults_ForMultipleTransactions() {
         // Given
-        List<String> transactionIds = Arrays.asList("TXN-001", "TXN-002");
+        List<String> transactionIds = Arrays.asList("TXN-001", "TXN-002", "TXN-003");
         List<Object[]> batchInfo = Arrays.asList(
-            new Object[]{"TXN-001", ExceptionStatus.NEW, true, 1, 3},
-            new Object[]{"TXN-002", ExceptionStatus.RESOLVED, false, 0, 3}
+            new Object[]{"TXN-001", ExceptionStatus.NEW, true, 1, 3, 0L},
+            new Object[]{"TXN-002", ExceptionStatus.RESOLVED, false, 0, 3, 0L},
+            new Object[]{"TXN-003", ExceptionStatus.NEW, true, 1, 3, 1L}
         );
         
         when(mutationValidationTransactionTemplate.execute(any())).thenAnswer(invocation -> {
@@ -315,7 +316,7 @@ class OptimizedMutationValidationServiceTest {
             validationService.validateBatchOperations(transactionIds);
 
         // Then
-        assertThat(results).hasSize(2);
+        assertThat(results).hasSize(3);
         
         OptimizedMutationValidationService.BatchValidationResult firstResult = results.get(0);
         assertThat(firstResult.getTransactionId()).isEqualTo("TXN-001");
@@ -328,5 +329,11 @@ class OptimizedMutationValidationServiceTest {
         assertThat(secondResult.getCanRetry()).isFalse();
         assertThat(secondResult.getCanAcknowledge()).isFalse();
         assertThat(secondResult.getCanResolve()).isFalse();
+
+        // A pending retry blocks another retry but not acknowledgment
+        OptimizedMutationValidationService.BatchValidationResult thirdResult = results.get(2);
+        assertThat(thirdResult.getPendingRetry()).isTrue();
+        assertThat(thirdResult.getCanRetry()).isFalse();
+        assertThat(thirdResult.getCanAcknowledge()).isTrue();
     }
 }
\ No newline at end of file
@@ -0,0 +1,199 @@
+package com.arcone.biopro.exception.collector.performance;
+
+import com.arcone.biopro.exception.collector.domain.entity.InterfaceException;
+import com.arcone.biopro.exception.collector.domain.entity.OrderItem;
+import com.arcone.biopro.exception.collector.domain.entity.StatusChange;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionCategory;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionSeverity;
+import com.arcone.biopro.exception.collector.domain.enums.ExceptionStatus;
+import com.arcone.biopro.exception.collector.domain.enums.InterfaceType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert throughput benchmark for an exception together with its order items
+ * and status changes.
+ * Compares flushing with JDBC batching disabled (one round trip per row, which
+ * is what IDENTITY keys forced) against the pooled-sequence mapping with
+ * batching enabled, and reports rows/second for each.
+ *
+ * Run with: -Dperformance.tests.enabled=true
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.kafka.enabled=false",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled-lo"
+})
+@EnabledIfSystemProperty(named = "performance.tests.enabled", matches = "true")
+class BatchInsertPerformanceTest {
+
+    private static final int EXCEPTIONS_PER_RUN = 500;
+    private static final int ORDER_ITEMS_PER_EXCEPTION = 3;
+    private static final int STATUS_CHANGES_PER_EXCEPTION = 2;
+    private static final int ROWS_PER_EXCEPTION = 1 + ORDER_ITEMS_PER_EXCEPTION + STATUS_CHANGES_PER_EXCEPTION;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("batch_insert_perf_db")
+            .withUsername("perf_user")
+            .withPassword("perf_pass");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        // Warm up connections, sequences and the statement cache
+        runInsert("warmup", 50, true);
+    }
+
+    @Test
+    @DisplayName("Pooled sequences allow JDBC insert batching for exceptions and children")
+    void shouldBatchInsertsWithPooledSequences() {
+        RunResult unbatched = runInsert("unbatched", EXCEPTIONS_PER_RUN, false);
+        RunResult batched = runInsert("batched", EXCEPTIONS_PER_RUN, true);
+
+        System.out.println("Rows per run: " + EXCEPTIONS_PER_RUN * ROWS_PER_EXCEPTION);
+        System.out.println("Unbatched (one round trip per row): " + unbatched);
+        System.out.println("Batched (pooled sequences, batch_size=100): " + batched);
+        System.out.println("Speedup: " + String.format("%.2f", batched.rowsPerSecond() / unbatched.rowsPerSecond()) + "x");
+
+        // Each entity type should be flushed in batches rather than one statement per row
+        assertThat(batched.jdbcStatements()).isLessThan(unbatched.jdbcStatements() / 10);
+        assertThat(batched.rowsPerSecond()).isGreaterThan(unbatched.rowsPerSecond());
+    }
+
+    private RunResult runInsert(String runId, int exceptionCount, boolean batched) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics.clear();
+        long start = System.nanoTime();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            session.setJdbcBatchSize(batched ? 100 : 1);
+            for (int i = 0; i < exceptionCount; i++) {
+                entityManager.persist(createExceptionWithChildren(runId + "-" + i));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+
+        long elapsedNanos = System.nanoTime() - start;
+        int rows = exceptionCount * ROWS_PER_EXCEPTION;
+        return new RunResult(rows, elapsedNanos, statistics.getPrepareStatementCount());
+    }
+
+    private InterfaceException createExceptionWithChildren(String transactionId) {
+        OffsetDateTime now = OffsetDateTime.now();
+        InterfaceException exception = InterfaceException.builder()
+                .transactionId(transactionId)
+                .interfaceType(InterfaceType.ORDER)
+                .exceptionReason("Order rejected: insufficient inventory")
+                .operation("CREATE_ORDER")
+                .externalId("ORDER-" + transactionId)
+                .status(ExceptionStatus.ACKNOWLEDGED)
+                .severity(ExceptionSeverity.MEDIUM)
+                .category(ExceptionCategory.BUSINESS_RULE)
+                .retryable(true)
+                .customerId("CUST-001")
+                .locationCode("LOC-001")
+                .timestamp(now)
+                .processedAt(now)
+                .retryCount(0)
+                .maxRetries(3)
+                .orderRetrievalAttempted(false)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        for (int i = 0; i < ORDER_ITEMS_PER_EXCEPTION; i++) {
+            exception.addOrderItem(OrderItem.builder()
+                    .bloodType("O+")
+                    .productFamily("RED_BLOOD_CELLS")
+                    .quantity(i + 1)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+
+        exception.addStatusChange(StatusChange.builder()
+                .fromStatus(null)
+                .toStatus(ExceptionStatus.NEW)
+                .changedBy("system")
+                .changedAt(now)
+                .createdAt(now)
+                .build());
+        exception.addStatusChange(StatusChange.builder()
+                .fromStatus(ExceptionStatus.NEW)
+                .toStatus(ExceptionStatus.ACKNOWLEDGED)
+                .changedBy("perf-user")
+                .changedAt(now)
+                .createdAt(now)
+                .build());
+
+        return exception;
+    }
+
+    private record RunResult(int rows, long elapsedNanos, long jdbcStatements) {
+
+        double rowsPerSecond() {
+            return rows / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d rows in %d ms (%.0f rows/sec, %d JDBC statements prepared)",
+                    rows, elapsedNanos / 1_000_000, rowsPerSecond(), jdbcStatements);
+        }
+    }
+}
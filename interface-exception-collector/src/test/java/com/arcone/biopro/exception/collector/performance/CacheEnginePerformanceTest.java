@@ -0,0 +1,197 @@
+package com.arcone.biopro.exception.collector.performance;
+
+import com.arcone.biopro.exception.collector.infrastructure.config.CacheConfig;
+import com.arcone.biopro.exception.collector.infrastructure.config.CacheProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput and hit-rate benchmark for the cache engine.
+ * Runs the same read-through workload, with Zipf-distributed keys over a key
+ * space ten times the cache size, against the Caffeine cache built by
+ * {@link CacheConfig} and against the previous TTL map cache, which evicted an
+ * arbitrary entry when full. Reports operations/second and hit rate for each.
+ *
+ * Run with: -Dperformance.tests.enabled=true
+ */
+@EnabledIfSystemProperty(named = "performance.tests.enabled", matches = "true")
+class CacheEnginePerformanceTest {
+
+    private static final int CACHE_SIZE = 10_000;
+    private static final int KEY_SPACE = 100_000;
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 500_000;
+    private static final int WARMUP_OPERATIONS_PER_THREAD = 100_000;
+    private static final double ZIPF_EXPONENT = 0.9;
+
+    @Test
+    @DisplayName("Caffeine engine should match or beat the TTL map cache on hit rate")
+    void compareCacheEngines() throws InterruptedException {
+        int[] keys = zipfKeys(THREADS * OPERATIONS_PER_THREAD, new Random(42));
+
+        Result legacy = run(new LegacyTtlMapCache("legacy", Duration.ofMinutes(10), CACHE_SIZE), keys);
+        Result caffeine = run(new CaffeineCache("caffeine", CacheConfig.createCache("caffeine",
+                CacheProperties.Spec.of(CACHE_SIZE, Duration.ofMinutes(10)), new CacheProperties(), null)), keys);
+
+        System.out.printf("Legacy TTL map cache: %,.0f ops/s, hit rate %.3f%n", legacy.opsPerSecond, legacy.hitRate);
+        System.out.printf("Caffeine cache:       %,.0f ops/s, hit rate %.3f%n", caffeine.opsPerSecond, caffeine.hitRate);
+
+        assertThat(caffeine.hitRate).isGreaterThanOrEqualTo(legacy.hitRate);
+    }
+
+    private Result run(Cache cache, int[] keys) throws InterruptedException {
+        execute(cache, keys, WARMUP_OPERATIONS_PER_THREAD, new LongAdder());
+
+        LongAdder hits = new LongAdder();
+        long start = System.nanoTime();
+        execute(cache, keys, OPERATIONS_PER_THREAD, hits);
+        long elapsed = System.nanoTime() - start;
+
+        long operations = (long) THREADS * OPERATIONS_PER_THREAD;
+        return new Result(operations * 1_000_000_000.0 / elapsed, hits.doubleValue() / operations);
+    }
+
+    /**
+     * Read-through access: every miss is followed by a put, as with {@code @Cacheable}.
+     */
+    private void execute(Cache cache, int[] keys, int operationsPerThread, LongAdder hits)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t * OPERATIONS_PER_THREAD;
+            executor.execute(() -> {
+                try {
+                    for (int i = 0; i < operationsPerThread; i++) {
+                        Integer key = keys[offset + i];
+                        if (cache.get(key) != null) {
+                            hits.increment();
+                        } else {
+                            cache.put(key, key);
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await(5, TimeUnit.MINUTES);
+        executor.shutdown();
+    }
+
+    private static int[] zipfKeys(int count, Random random) {
+        double[] cumulative = new double[KEY_SPACE];
+        double sum = 0;
+        for (int i = 0; i < KEY_SPACE; i++) {
+            sum += 1.0 / Math.pow(i + 1, ZIPF_EXPONENT);
+            cumulative[i] = sum;
+        }
+        int[] keys = new int[count];
+        for (int i = 0; i < count; i++) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            keys[i] = index >= 0 ? index : -index - 1;
+        }
+        return keys;
+    }
+
+    private record Result(double opsPerSecond, double hitRate) {
+    }
+
+    /**
+     * The cache used for validation caches before the Caffeine engine: lazy expiry
+     * on read, non-atomic counters, and an arbitrary entry evicted when full.
+     */
+    private static class LegacyTtlMapCache implements Cache {
+
+        private final String name;
+        private final long ttlMillis;
+        private final int maxSize;
+        private final ConcurrentHashMap<Object, Entry> store = new ConcurrentHashMap<>();
+
+        private volatile long hitCount = 0;
+        private volatile long missCount = 0;
+
+        LegacyTtlMapCache(String name, Duration ttl, int maxSize) {
+            this.name = name;
+            this.ttlMillis = ttl.toMillis();
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return store;
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            Entry entry = store.get(key);
+            if (entry != null && System.currentTimeMillis() <= entry.expiresAt) {
+                hitCount++;
+                return new SimpleValueWrapper(entry.value);
+            }
+            missCount++;
+            if (entry != null) {
+                store.remove(key);
+            }
+            return null;
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            ValueWrapper wrapper = get(key);
+            return wrapper != null ? type.cast(wrapper.get()) : null;
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            if (store.size() >= maxSize) {
+                long now = System.currentTimeMillis();
+                store.entrySet().removeIf(e -> now > e.getValue().expiresAt);
+                if (store.size() >= maxSize) {
+                    store.remove(store.keySet().iterator().next());
+                }
+            }
+            store.put(key, new Entry(value, System.currentTimeMillis() + ttlMillis));
+        }
+
+        @Override
+        public void evict(Object key) {
+            store.remove(key);
+        }
+
+        @Override
+        public void clear() {
+            store.clear();
+        }
+
+        private record Entry(Object value, long expiresAt) {
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.arcone.biopro.exception.collector.performance;
+
+import com.arcone.biopro.exception.collector.infrastructure.config.ExceptionSearchConfig;
+import com.arcone.biopro.exception.collector.infrastructure.repository.InterfaceExceptionRepository;
+import com.arcone.biopro.exception.collector.infrastructure.repository.KeysetPageRequest;
+import com.arcone.biopro.exception.collector.infrastructure.repository.search.ExceptionSearchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Search latency benchmark comparing the LIKE-based search paths with the
+ * ranked trigram/full-text search.
+ * The LIKE search is measured before and after the trigram indexes from V29
+ * are created, since its LOWER(col) LIKE '%term%' predicates can use them too;
+ * the ranked search is measured with the indexes in place. All paths return
+ * at most {@link #LIMIT} rows.
+ *
+ * Run with: -Dperformance.tests.enabled=true
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ ExceptionSearchConfig.class, ExceptionSearchRepository.class })
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.kafka.enabled=false",
+        "app.search.max-results=" + ExceptionSearchPerformanceTest.LIMIT
+})
+@EnabledIfSystemProperty(named = "performance.tests.enabled", matches = "true")
+class ExceptionSearchPerformanceTest {
+
+    static final int LIMIT = 100;
+
+    private static final int ROWS = 200_000;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 10;
+    private static final List<String> FIELDS = List.of("exceptionReason", "externalId", "operation");
+
+    /**
+     * Query shapes the planner treats differently: an external ID, a single
+     * word, a multi-word reason and a short prefix.
+     */
+    private static final List<String> QUERIES = List.of("ORD-0123456", "0123456", "inventory",
+            "insufficient inventory", "CA");
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("search_perf_db")
+            .withUsername("perf_user")
+            .withPassword("perf_pass");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private InterfaceExceptionRepository exceptionRepository;
+
+    @Autowired
+    private ExceptionSearchRepository searchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Ranked trigram search should be faster than LIKE scans for selective queries")
+    void shouldCompareSearchPaths() {
+        seedExceptions();
+
+        Map<String, Double> likeWithoutIndexes = measureAll(this::likeSearch);
+        createSearchIndexes();
+        Map<String, Double> likeWithIndexes = measureAll(this::likeSearch);
+        Map<String, Double> ranked = measureAll(query -> () -> searchRepository.search(
+                query, FIELDS, Sort.unsorted()).size());
+
+        System.out.println("Rows: " + ROWS + ", limit: " + LIMIT + ", median of " + MEASURED_RUNS + " runs");
+        System.out.printf("%-26s %14s %14s %14s%n", "query", "LIKE (ms)", "LIKE+trgm (ms)", "ranked (ms)");
+        for (String query : QUERIES) {
+            System.out.printf("%-26s %14.2f %14.2f %14.2f%n", "'" + query + "'",
+                    likeWithoutIndexes.get(query), likeWithIndexes.get(query), ranked.get(query));
+        }
+
+        // Selective identifier lookups no longer scan the table
+        assertThat(ranked.get("ORD-0123456")).isLessThan(likeWithoutIndexes.get("ORD-0123456"));
+        assertThat(ranked.get("0123456")).isLessThan(likeWithoutIndexes.get("0123456"));
+    }
+
+    private Supplier<Integer> likeSearch(String query) {
+        KeysetPageRequest pageRequest = KeysetPageRequest.builder()
+                .sortProperty("timestamp")
+                .direction(Sort.Direction.DESC)
+                .limit(LIMIT)
+                .build();
+        return () -> exceptionRepository.searchInFieldsKeyset(query, FIELDS, pageRequest).size();
+    }
+
+    private Map<String, Double> measureAll(Function<String, Supplier<Integer>> search) {
+        Map<String, Double> medians = new LinkedHashMap<>();
+        for (String query : QUERIES) {
+            medians.put(query, medianMillis(search.apply(query)));
+        }
+        return medians;
+    }
+
+    private double medianMillis(Supplier<Integer> search) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            search.get();
+        }
+        double[] millis = new double[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            search.get();
+            millis[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(millis);
+        return millis[MEASURED_RUNS / 2];
+    }
+
+    private void seedExceptions() {
+        jdbcTemplate.update("""
+                INSERT INTO interface_exceptions (id, transaction_id, interface_type, exception_reason, operation,
+                    external_id, status, severity, category, retryable, customer_id, timestamp, processed_at,
+                    retry_count, max_retries, order_retrieval_attempted, order_retrieval_pending,
+                    created_at, updated_at)
+                SELECT g, 'TXN-' || g, 'ORDER',
+                    (ARRAY['Order rejected: insufficient inventory for product',
+                           'Order rejected: customer credit limit exceeded',
+                           'Collection failed: donor record not found',
+                           'Distribution timeout waiting for carrier response'])[g % 4 + 1]
+                        || ' (ORD-' || lpad(g::text, 7, '0') || ')',
+                    (ARRAY['CREATE_ORDER', 'CANCEL_ORDER', 'CREATE_COLLECTION'])[g % 3 + 1],
+                    'ORD-' || lpad(g::text, 7, '0'), 'NEW', 'MEDIUM', 'BUSINESS_RULE', true,
+                    'CUST-' || (g % 500), now() - (g || ' seconds')::interval, now(), 0, 3, false, false,
+                    now(), now()
+                FROM generate_series(1, ?) AS g
+                """, ROWS);
+        jdbcTemplate.execute("ANALYZE interface_exceptions");
+    }
+
+    /**
+     * Creates the indexes from V4, V28 and V29; the schema is generated by
+     * Hibernate here, so the Flyway migrations do not run.
+     */
+    private void createSearchIndexes() {
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        jdbcTemplate.execute("CREATE INDEX ON interface_exceptions USING gin (to_tsvector('english', exception_reason))");
+        jdbcTemplate.execute("CREATE INDEX ON interface_exceptions USING gin (LOWER(exception_reason) gin_trgm_ops)");
+        jdbcTemplate.execute("CREATE INDEX ON interface_exceptions USING gin (LOWER(external_id) gin_trgm_ops)");
+        jdbcTemplate.execute("CREATE INDEX ON interface_exceptions USING gin (LOWER(operation) gin_trgm_ops)");
+        jdbcTemplate.execute("CREATE INDEX ON interface_exceptions (LOWER(external_id) text_pattern_ops)");
+        jdbcTemplate.execute("CREATE INDEX ON interface_exceptions (LOWER(operation) text_pattern_ops)");
+        jdbcTemplate.execute("ANALYZE interface_exceptions");
+    }
+}
@@ -0,0 +1,103 @@
+package com.arcone.biopro.exception.collector.performance;
+
+import com.arcone.biopro.exception.collector.infrastructure.config.security.JwtAuthenticationFilter;
+import com.arcone.biopro.exception.collector.infrastructure.config.security.JwtService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput benchmark for JWT authentication through {@link JwtAuthenticationFilter}.
+ * Runs the filter with a small set of tokens that are reused on every request,
+ * as with polling dashboards, where all but the first request per token hit the
+ * verified token cache, and with a fresh token on every request, where every
+ * request misses and the signature is verified. Reports requests/second for each.
+ *
+ * Run with: -Dperformance.tests.enabled=true
+ */
+@EnabledIfSystemProperty(named = "performance.tests.enabled", matches = "true")
+class JwtAuthenticationPerformanceTest {
+
+    private static final String SECRET = "performance-test-secret-1234567890123456789012345678901234567890";
+    private static final int HOT_TOKENS = 50;
+    private static final int REQUESTS = 200_000;
+    private static final int WARMUP_REQUESTS = 50_000;
+
+    private final SecretKey secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Cached token verification should be faster than verifying every request")
+    void compareCacheHitsAndMisses() throws Exception {
+        String[] hotTokens = tokens(HOT_TOKENS, 0);
+        String[] coldTokens = tokens(REQUESTS + WARMUP_REQUESTS, HOT_TOKENS);
+
+        JwtService hitService = new JwtService(SECRET, 10_000, Duration.ofMinutes(10));
+        double hits = run(new JwtAuthenticationFilter(hitService), hotTokens);
+
+        JwtService missService = new JwtService(SECRET, 10_000, Duration.ofMinutes(10));
+        double misses = run(new JwtAuthenticationFilter(missService), coldTokens);
+
+        System.out.printf("Cache hits:   %,.0f requests/s (hit rate %.3f)%n", hits,
+                hitService.getCacheStats().hitRate());
+        System.out.printf("Cache misses: %,.0f requests/s (hit rate %.3f)%n", misses,
+                missService.getCacheStats().hitRate());
+
+        assertThat(hits).isGreaterThan(misses);
+    }
+
+    private double run(JwtAuthenticationFilter filter, String[] tokens) throws Exception {
+        execute(filter, tokens, 0, WARMUP_REQUESTS);
+
+        long start = System.nanoTime();
+        execute(filter, tokens, WARMUP_REQUESTS, REQUESTS);
+        long elapsed = System.nanoTime() - start;
+
+        return REQUESTS * 1_000_000_000.0 / elapsed;
+    }
+
+    private void execute(JwtAuthenticationFilter filter, String[] tokens, int offset, int requests)
+            throws Exception {
+        for (int i = 0; i < requests; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/graphql");
+            request.addHeader("Authorization", "Bearer " + tokens[(offset + i) % tokens.length]);
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private String[] tokens(int count, int firstUser) {
+        String[] tokens = new String[count];
+        Date expiration = Date.from(Instant.now().plus(Duration.ofHours(1)));
+        for (int i = 0; i < count; i++) {
+            tokens[i] = Jwts.builder()
+                    .subject("user-" + (firstUser + i))
+                    .claim("roles", List.of("OPERATOR", "VIEWER"))
+                    .issuedAt(new Date())
+                    .expiration(expiration)
+                    .signWith(secretKey)
+                    .compact();
+        }
+        return tokens;
+    }
+}